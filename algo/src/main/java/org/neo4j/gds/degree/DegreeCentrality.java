@@ -24,14 +24,12 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
-import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
-import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.LongToIntFunction;
 
@@ -154,33 +152,27 @@ public class DegreeCentrality extends Algorithm<DegreeCentrality.DegreeFunction>
 
     private DegreeFunction computeDegree(TaskFunction taskFunction) {
         var degrees = HugeDoubleArray.newArray(graph.nodeCount());
-        var tasks = PartitionUtils.degreePartition(
-            graph,
+        ParallelUtil.parallelForEachPartition(
+            graph.nodeCount(),
+            graph::degree,
             config.concurrency(),
-            partition -> taskFunction.apply(partition, degrees),
-            Optional.of(config.minBatchSize())
+            config.minBatchSize(),
+            executor,
+            partition -> taskFunction.apply(partition, degrees)
         );
-        RunWithConcurrency.builder()
-            .concurrency(config.concurrency())
-            .tasks(tasks)
-            .executor(executor)
-            .run();
         return degrees::get;
     }
 
     private DegreeFunction computeDegreeAtomic(TaskFunctionAtomic taskFunction) {
         var degrees = HugeAtomicDoubleArray.newArray(graph.nodeCount());
-        var tasks = PartitionUtils.degreePartition(
-            graph,
+        ParallelUtil.parallelForEachPartition(
+            graph.nodeCount(),
+            graph::degree,
             config.concurrency(),
-            partition -> taskFunction.apply(partition, degrees),
-            Optional.of(config.minBatchSize())
+            config.minBatchSize(),
+            executor,
+            partition -> taskFunction.apply(partition, degrees)
         );
-        RunWithConcurrency.builder()
-            .concurrency(config.concurrency())
-            .tasks(tasks)
-            .executor(executor)
-            .run();
         return degrees::get;
     }
 
@@ -26,7 +26,7 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -43,8 +43,6 @@ import java.util.Random;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addWeightedInPlace;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Norm;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.l2Normalize;
 import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
@@ -64,9 +62,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     private final double relationshipWeightFallback;
     private final int inputDimension;
     private final float[][] propertyVectors;
-    private final HugeObjectArray<float[]> embeddings;
-    private final HugeObjectArray<float[]> embeddingA;
-    private final HugeObjectArray<float[]> embeddingB;
+    private final HugeFloatMatrix embeddings;
+    private final HugeFloatMatrix embeddingA;
+    private final HugeFloatMatrix embeddingB;
     private final EmbeddingCombiner embeddingCombiner;
     private final long randomSeed;
 
@@ -84,9 +82,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                 "propertyVectors",
                 MemoryUsage.sizeOfFloatArray((long) config.featureProperties().size() * config.propertyDimension())
             )
-            .add("embeddings", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
-            .add("embeddingA", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
-            .add("embeddingB", HugeObjectArray.memoryEstimation(MemoryUsage.sizeOfFloatArray(config.embeddingDimension())))
+            .perNode("embeddings", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension()))
+            .perNode("embeddingA", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension()))
+            .perNode("embeddingB", nodeCount -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension()))
             .build();
     }
 
@@ -116,9 +114,9 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         this.minBatchSize = config.minBatchSize();
 
         this.propertyVectors = new float[inputDimension][config.propertyDimension()];
-        this.embeddings = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingA = HugeObjectArray.newArray(float[].class, graph.nodeCount());
-        this.embeddingB = HugeObjectArray.newArray(float[].class, graph.nodeCount());
+        this.embeddings = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
+        this.embeddingA = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
+        this.embeddingB = HugeFloatMatrix.newMatrix(graph.nodeCount(), config.embeddingDimension());
 
         this.embeddingDimension = config.embeddingDimension();
         this.baseEmbeddingDimension = config.embeddingDimension() - config.propertyDimension();
@@ -127,9 +125,8 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         this.normalizationStrength = config.normalizationStrength();
         this.concurrency = config.concurrency();
         this.embeddingCombiner = graph.hasRelationshipProperty()
-            ? this::addArrayValuesWeighted
-            : (lhs, rhs, ignoreWeight) -> addInPlace(lhs, rhs);
-        this.embeddings.setAll((i) -> new float[embeddingDimension]);
+            ? (into, source, row, weight) -> source.addWeightedRowTo(row, weight, into)
+            : (into, source, row, ignoreWeight) -> source.addRowTo(row, into);
     }
 
     @Override
@@ -206,8 +203,8 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         for (int i = 0; i < iterationWeights.size(); i++) {
             progressTracker.beginSubTask();
 
-            HugeObjectArray<float[]> currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
-            HugeObjectArray<float[]> previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
+            HugeFloatMatrix currentEmbeddings = i % 2 == 0 ? embeddingA : embeddingB;
+            HugeFloatMatrix previousEmbeddings = i % 2 == 0 ? embeddingB : embeddingA;
             var iterationWeight = iterationWeights.get(i).floatValue();
             boolean firstIteration = i == 0;
 
@@ -231,7 +228,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> currentEmbedding(int iteration) {
+    HugeFloatMatrix currentEmbedding(int iteration) {
         return iteration % 2 == 0
             ? this.embeddingA
             : this.embeddingB;
@@ -243,16 +240,10 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     @TestOnly
-    HugeObjectArray<float[]> embeddings() {
+    HugeFloatMatrix embeddings() {
         return embeddings;
     }
 
-    private void addArrayValuesWeighted(float[] lhs, float[] rhs, double weight) {
-        for (int i = 0; i < lhs.length; i++) {
-            lhs[i] = (float) Math.fma(rhs[i], weight, lhs[i]);
-        }
-    }
-
     private static float computeRandomEntry(Random random, float entryValue) {
         double randomValue = random.nextDouble();
 
@@ -309,7 +300,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     private interface EmbeddingCombiner {
-        void combine(float[] into, float[] add, double weight);
+        void combine(float[] into, HugeFloatMatrix source, long row, double weight);
     }
 
     private final class InitRandomVectorTask implements Runnable {
@@ -319,6 +310,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
         private final Partition partition;
         private final float sqrtEmbeddingDimension;
         private final PropertyVectorAdder propertyVectorAdder;
+        private final float[] randomVector;
 
         private InitRandomVectorTask(
             Partition partition,
@@ -327,6 +319,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
             this.partition = partition;
             this.sqrtEmbeddingDimension = sqrtEmbeddingDimension;
             this.propertyVectorAdder = new PropertyVectorAdder();
+            this.randomVector = new float[embeddingDimension];
         }
 
         @Override
@@ -341,23 +334,20 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
 
                 float entryValue = scaling * sqrtSparsity / sqrtEmbeddingDimension;
                 random.reseed(randomSeed ^ graph.toOriginalNodeId(nodeId));
-                var randomVector = computeRandomVector(nodeId, random, entryValue);
-                embeddingB.set(nodeId, randomVector);
-                embeddingA.set(nodeId, new float[embeddingDimension]);
+                computeRandomVector(nodeId, random, entryValue);
+                embeddingB.setRow(nodeId, randomVector);
             });
             progressTracker.logProgress(partition.nodeCount());
         }
 
-        private float[] computeRandomVector(long nodeId, Random random, float entryValue) {
-            var randomVector = new float[embeddingDimension];
+        private void computeRandomVector(long nodeId, Random random, float entryValue) {
+            Arrays.fill(randomVector, 0.0f);
             for (int i = 0; i < baseEmbeddingDimension; i++) {
                 randomVector[i] = computeRandomEntry(random, entryValue);
             }
 
             propertyVectorAdder.setRandomVector(randomVector);
             FeatureExtraction.extract(nodeId, -1, featureExtractors, propertyVectorAdder);
-
-            return randomVector;
         }
 
         private class PropertyVectorAdder implements FeatureConsumer {
@@ -390,16 +380,20 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
 
     private final class AddInitialStateToEmbeddingTask implements Runnable {
         private final Partition partition;
+        private final float[] initialVector;
 
-        private AddInitialStateToEmbeddingTask(Partition partition) {this.partition = partition;}
+        private AddInitialStateToEmbeddingTask(Partition partition) {
+            this.partition = partition;
+            this.initialVector = new float[embeddingDimension];
+        }
 
         @Override
         public void run() {
             partition.consume( nodeId -> {
-                var initialVector = embeddingB.get(nodeId);
+                embeddingB.copyRow(nodeId, initialVector);
                 var l2Norm= l2Norm( initialVector);
                 float adjustedL2Norm = l2Norm < EPSILON ? 1f : l2Norm;
-                addWeightedInPlace(embeddings.get(nodeId), initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
+                embeddings.addToRow(nodeId, initialVector, nodeSelfInfluence.floatValue() / adjustedL2Norm);
             });
             progressTracker.logProgress(partition.nodeCount());
         }
@@ -407,16 +401,17 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     private final class PropagateEmbeddingsTask implements Runnable {
 
         private final Partition partition;
-        private final HugeObjectArray<float[]> currentEmbeddings;
-        private final HugeObjectArray<float[]> previousEmbeddings;
+        private final HugeFloatMatrix currentEmbeddings;
+        private final HugeFloatMatrix previousEmbeddings;
         private final float iterationWeight;
         private final Graph concurrentGraph;
         private final boolean firstIteration;
+        private final float[] currentEmbedding;
 
         private PropagateEmbeddingsTask(
             Partition partition,
-            HugeObjectArray<float[]> currentEmbeddings,
-            HugeObjectArray<float[]> previousEmbeddings,
+            HugeFloatMatrix currentEmbeddings,
+            HugeFloatMatrix previousEmbeddings,
             float iterationWeight,
             boolean firstIteration
         ) {
@@ -426,14 +421,13 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
             this.iterationWeight = iterationWeight;
             this.concurrentGraph = graph.concurrentCopy();
             this.firstIteration = firstIteration;
+            this.currentEmbedding = new float[embeddingDimension];
         }
 
         @Override
         public void run() {
             MutableLong degrees = new MutableLong(0);
             partition.consume(nodeId -> {
-                var embedding = embeddings.get(nodeId);
-                var currentEmbedding = currentEmbeddings.get(nodeId);
                 Arrays.fill(currentEmbedding, 0.0f);
 
                 // Collect and combine the neighbour embeddings
@@ -445,7 +439,7 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                             graph.toOriginalNodeId(source), graph.toOriginalNodeId(target)
                         ));
                     }
-                    embeddingCombiner.combine(currentEmbedding, previousEmbeddings.get(target), weight);
+                    embeddingCombiner.combine(currentEmbedding, previousEmbeddings, target, weight);
                     return true;
                 });
 
@@ -455,9 +449,10 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
                 float degreeScale = 1.0f / adjustedDegree;
                 scale(currentEmbedding, degreeScale);
                 l2Normalize(currentEmbedding);
+                currentEmbeddings.setRow(nodeId, currentEmbedding);
 
                 // Update the result embedding
-                addWeightedInPlace(embedding, currentEmbedding, iterationWeight);
+                embeddings.addToRow(nodeId, currentEmbedding, iterationWeight);
                 degrees.add(degree);
             });
             progressTracker.logProgress(degrees.longValue());
@@ -465,13 +460,13 @@ public class FastRP extends Algorithm<FastRP.FastRPResult> {
     }
 
     public static class FastRPResult {
-        private final HugeObjectArray<float[]> embeddings;
+        private final HugeFloatMatrix embeddings;
 
-        public FastRPResult(HugeObjectArray<float[]> embeddings) {
+        public FastRPResult(HugeFloatMatrix embeddings) {
             this.embeddings = embeddings;
         }
 
-        public HugeObjectArray<float[]> embeddings() {
+        public HugeFloatMatrix embeddings() {
             return embeddings;
         }
     }
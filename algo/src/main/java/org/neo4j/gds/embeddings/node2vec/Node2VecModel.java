@@ -24,13 +24,11 @@ import org.neo4j.gds.collections.primitive.PrimitiveLongCollections;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.BitUtil;
-import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.ml.core.functions.Sigmoid;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,16 +36,14 @@ import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.function.LongUnaryOperator;
 
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.addInPlace;
-import static org.neo4j.gds.ml.core.tensor.operations.FloatVectorOperations.scale;
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class Node2VecModel {
 
     private final NegativeSampleProducer negativeSamples;
 
-    private final HugeObjectArray<FloatVector> centerEmbeddings;
-    private final HugeObjectArray<FloatVector> contextEmbeddings;
+    private final HugeFloatMatrix centerEmbeddings;
+    private final HugeFloatMatrix contextEmbeddings;
     private final Node2VecBaseConfig config;
     private final CompressedRandomWalks walks;
     private final RandomWalkProbabilities randomWalkProbabilities;
@@ -55,16 +51,14 @@ public class Node2VecModel {
     private final long randomSeed;
 
     public static MemoryEstimation memoryEstimation(Node2VecBaseConfig config) {
-        var vectorMemoryEstimation = MemoryUsage.sizeOfFloatArray(config.embeddingDimension());
-
         return MemoryEstimations.builder(Node2Vec.class.getSimpleName())
             .perNode(
                 "center embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension())
             )
             .perNode(
                 "context embeddings",
-                (nodeCount) -> HugeObjectArray.memoryEstimation(nodeCount, vectorMemoryEstimation)
+                (nodeCount) -> HugeFloatMatrix.memoryEstimation(nodeCount, config.embeddingDimension())
             )
             .build();
     }
@@ -144,11 +138,8 @@ public class Node2VecModel {
         return ImmutableResult.of(centerEmbeddings, lossPerIteration);
     }
 
-    private HugeObjectArray<FloatVector> initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
-        HugeObjectArray<FloatVector> embeddings = HugeObjectArray.newArray(
-            FloatVector.class,
-            nodeCount
-        );
+    private HugeFloatMatrix initializeEmbeddings(LongUnaryOperator toOriginalNodeId, long nodeCount, int embeddingDimensions, Random random) {
+        HugeFloatMatrix embeddings = HugeFloatMatrix.newMatrix(nodeCount, embeddingDimensions);
         double bound;
         switch (config.embeddingInitializer()) {
             case UNIFORM:
@@ -169,27 +160,27 @@ public class Node2VecModel {
                     FloatConsumer::add,
                     FloatConsumer::addAll
                 ).values;
-            embeddings.set(i, new FloatVector(data));
+            embeddings.setRow(i, data);
         }
         return embeddings;
     }
 
     private static final class TrainingTask implements Runnable {
-        private final HugeObjectArray<FloatVector> centerEmbeddings;
-        private final HugeObjectArray<FloatVector> contextEmbeddings;
+        private final HugeFloatMatrix centerEmbeddings;
+        private final HugeFloatMatrix contextEmbeddings;
 
         private final PositiveSampleProducer positiveSampleProducer;
         private final NegativeSampleProducer negativeSampleProducer;
-        private final FloatVector centerGradientBuffer;
-        private final FloatVector contextGradientBuffer;
+        private final float[] centerBuffer;
+        private final float[] contextBuffer;
         private final int negativeSamplingRate;
         private final float learningRate;
 
         private double lossSum;
 
         private TrainingTask(
-            HugeObjectArray<FloatVector> centerEmbeddings,
-            HugeObjectArray<FloatVector> contextEmbeddings,
+            HugeFloatMatrix centerEmbeddings,
+            HugeFloatMatrix contextEmbeddings,
             PositiveSampleProducer positiveSampleProducer,
             NegativeSampleProducer negativeSampleProducer,
             float learningRate,
@@ -203,8 +194,8 @@ public class Node2VecModel {
             this.learningRate = learningRate;
             this.negativeSamplingRate = negativeSamplingRate;
 
-            this.centerGradientBuffer = new FloatVector(embeddingDimensions);
-            this.contextGradientBuffer = new FloatVector(embeddingDimensions);
+            this.centerBuffer = new float[embeddingDimensions];
+            this.contextBuffer = new float[embeddingDimensions];
         }
 
         @Override
@@ -222,12 +213,9 @@ public class Node2VecModel {
         }
 
         private void trainSample(long center, long context, boolean positive) {
-            var centerEmbedding = centerEmbeddings.get(center);
-            var contextEmbedding = contextEmbeddings.get(context);
-
             // L_pos = -log sigmoid(center * context)  ; gradient: -sigmoid (-center * context)
             // L_neg = -log sigmoid(-center * context) ; gradient: sigmoid (center * context)
-            float affinity = centerEmbedding.innerProduct(contextEmbedding);
+            float affinity = centerEmbeddings.innerProduct(center, contextEmbeddings, context);
 
             float positiveSigmoid = (float) Sigmoid.sigmoid(affinity);
             float negativeSigmoid = 1 - positiveSigmoid;
@@ -239,11 +227,12 @@ public class Node2VecModel {
             // we are doing gradient descent, so we go in the negative direction of the gradient here
             float scaledGradient = -gradient * learningRate;
 
-            scale(contextEmbedding.data(), scaledGradient, centerGradientBuffer.data());
-            scale(centerEmbedding.data(), scaledGradient, contextGradientBuffer.data());
+            // both updates use the embeddings from before this step
+            centerEmbeddings.copyRow(center, centerBuffer);
+            contextEmbeddings.copyRow(context, contextBuffer);
 
-            addInPlace(centerEmbedding.data(), centerGradientBuffer.data());
-            addInPlace(contextEmbedding.data(), contextGradientBuffer.data());
+            centerEmbeddings.addToRow(center, contextBuffer, scaledGradient);
+            contextEmbeddings.addToRow(context, centerBuffer, scaledGradient);
         }
 
         double lossSum() {
@@ -271,7 +260,7 @@ public class Node2VecModel {
 
     @ValueClass
     public interface Result {
-        HugeObjectArray<FloatVector> embeddings();
+        HugeFloatMatrix embeddings();
 
         List<Double> lossPerIteration();
     }
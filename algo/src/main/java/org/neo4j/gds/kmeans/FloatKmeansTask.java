@@ -29,6 +29,7 @@ import java.util.Arrays;
 final class FloatKmeansTask extends KmeansTask {
 
     private final float[][] communityCoordinateSums;
+    private final float[] propertyBuffer;
 
     FloatKmeansTask(
         KmeansSampler.SamplerType samplerType,
@@ -51,6 +52,7 @@ final class FloatKmeansTask extends KmeansTask {
             partition
         );
         this.communityCoordinateSums = new float[k][dimensions];
+        this.propertyBuffer = new float[dimensions];
     }
 
     float[] getCentroidContribution(int ith) {
@@ -67,7 +69,7 @@ final class FloatKmeansTask extends KmeansTask {
 
     @Override
     void updateAfterAssignmentToCentroid(long nodeId, int community) {
-        var property = nodePropertyValues.floatArrayValue(nodeId);
+        var property = nodePropertyValues.floatArrayValue(nodeId, propertyBuffer);
         communities.set(nodeId, community);
         for (int j = 0; j < dimensions; ++j) {
             communityCoordinateSums[community][j] += property[j];
@@ -27,6 +27,7 @@ import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.beta.pregel.Pregel;
 import org.neo4j.gds.beta.pregel.PregelComputation;
 import org.neo4j.gds.beta.pregel.PregelSchema;
+import org.neo4j.gds.beta.pregel.Reducer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
@@ -36,6 +37,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.degree.DegreeCentrality;
 import org.neo4j.gds.degree.DegreeCentralityConfigImpl;
 
+import java.util.Optional;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.LongToDoubleFunction;
 
@@ -154,8 +156,9 @@ public class PageRankAlgorithmFactory<CONFIG extends PageRankConfig> extends Gra
 
     @Override
     public MemoryEstimation memoryEstimation(PageRankConfig configuration) {
+        // all page rank variants sum up their messages
         return Pregel.memoryEstimation(new PregelSchema.Builder()
             .add(PageRankComputation.PAGE_RANK, ValueType.DOUBLE)
-            .build(), false, false);
+            .build(), Optional.of(new Reducer.Sum()), false);
     }
 }
@@ -27,6 +27,7 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.similarity.filtering.NodeFilterSpec;
 import org.neo4j.gds.similarity.knn.KnnBaseConfig;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
 
 import java.util.Collection;
 
@@ -54,6 +55,14 @@ public interface FilteredKnnBaseConfig extends KnnBaseConfig {
         return false;
     }
 
+    @Value.Check
+    default void validateQuantization() {
+        // the target node filter keeps the similarities it saw during the search, which we could not re-rank
+        if (quantization() != Quantization.NONE) {
+            throw new IllegalArgumentException("Filtered KNN does not support `quantization`.");
+        }
+    }
+
     @Configuration.GraphStoreValidationCheck
     default void validateSourceNodeFilter(
         GraphStore graphStore,
@@ -113,6 +113,10 @@ public class FilteredKnnFactory<CONFIG extends FilteredKnnBaseConfig> extends Gr
                             sizeOfIntArray(sizeOfOpenHashContainer(sampledK)) * concurrency
                         )
                     )
+                    .rangePerNode(
+                        "cosine-norm-caches",
+                        nodeCount -> KnnFactory.cosineNormCacheMemoryEstimation(configuration.nodeProperties(), nodeCount)
+                    )
                     .build();
             }
         );
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.Algorithm;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds a {@link HnswIndex} by inserting the nodes of a (possibly label filtered) id map in parallel.
+ * The index is created over the root id map, so that nodes outside of the filter can be inserted later on.
+ */
+public class Hnsw extends Algorithm<HnswIndex> {
+
+    private final IdMap nodesToIndex;
+    private final HnswIndex index;
+    private final int concurrency;
+
+    public Hnsw(IdMap nodesToIndex, HnswIndex index, int concurrency, ProgressTracker progressTracker) {
+        super(progressTracker);
+        this.nodesToIndex = nodesToIndex;
+        this.index = index;
+        this.concurrency = concurrency;
+    }
+
+    public static Task progressTask(IdMap nodesToIndex) {
+        return Tasks.leaf("HNSW :: Build", nodesToIndex.nodeCount());
+    }
+
+    @Override
+    public HnswIndex compute() {
+        progressTracker.beginSubTask();
+
+        List<Runnable> tasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodesToIndex.nodeCount(),
+            partition -> () -> {
+                partition.consume(nodeId -> index.insert(nodesToIndex.toRootNodeId(nodeId)));
+                progressTracker.logProgress(partition.nodeCount());
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        progressTracker.endSubTask();
+        return index;
+    }
+}
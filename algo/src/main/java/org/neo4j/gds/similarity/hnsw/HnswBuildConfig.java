@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.ElementProjection;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.BaseConfig;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.config.ElementTypeValidator;
+import org.neo4j.gds.config.RandomSeedConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@ValueClass
+@Configuration
+@SuppressWarnings("immutables:subtype")
+public interface HnswBuildConfig extends BaseConfig, ConcurrencyConfig, RandomSeedConfig {
+
+    @Configuration.Parameter
+    String indexName();
+
+    String nodeProperty();
+
+    @Value.Default
+    default List<String> nodeLabels() {
+        return Collections.singletonList(ElementProjection.PROJECT_ALL);
+    }
+
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.hnsw.HnswBuildConfig#parseSimilarityMetric")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.hnsw.HnswBuildConfig#renderSimilarityMetric")
+    default SimilarityMetric similarityMetric() {
+        return SimilarityMetric.DEFAULT;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 2)
+    default int maxConnections() {
+        return 16;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int efConstruction() {
+        return 200;
+    }
+
+    @Configuration.Ignore
+    default Collection<NodeLabel> nodeLabelIdentifiers(GraphStore graphStore) {
+        return ElementTypeValidator.resolve(graphStore, nodeLabels());
+    }
+
+    @Configuration.Ignore
+    default void validate(GraphStore graphStore) {
+        var nodeLabels = nodeLabelIdentifiers(graphStore);
+        ElementTypeValidator.validate(graphStore, nodeLabels, "`nodeLabels`");
+        if (!graphStore.hasNodeProperty(nodeLabels, nodeProperty())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node property `%s` not found for labels %s. Available properties: %s.",
+                nodeProperty(),
+                StringJoining.join(nodeLabels.stream().map(NodeLabel::name)),
+                StringJoining.join(graphStore.nodePropertyKeys(nodeLabels))
+            ));
+        }
+    }
+
+    static SimilarityMetric parseSimilarityMetric(Object userInput) {
+        if (userInput instanceof SimilarityMetric) {
+            return (SimilarityMetric) userInput;
+        }
+        if (userInput instanceof String) {
+            return SimilarityMetric.parse((String) userInput);
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Unsupported input type: Expected String but received %s.",
+            userInput.getClass().getSimpleName()
+        ));
+    }
+
+    static String renderSimilarityMetric(SimilarityMetric similarityMetric) {
+        return similarityMetric.name();
+    }
+
+    static HnswBuildConfig of(String indexName, CypherMapWrapper config) {
+        return new HnswBuildConfigImpl(indexName, config);
+    }
+}
@@ -0,0 +1,564 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.LongHashSet;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntToLongFunction;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfByteArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfDoubleArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A hierarchical navigable small world graph (Malkov and Yashunin, 2016) over
+ * a float or double array node property. The index answers approximate top-k
+ * similarity queries by greedily descending through a hierarchy of proximity
+ * graphs, the lowest of which contains every indexed node.
+ *
+ * Nodes are identified by their internal id in the id map the index was created
+ * for and can be inserted concurrently, also after the initial build. The level
+ * of a node is derived from the random seed and the node id, so single threaded
+ * builds are deterministic. Similarities are computed with the same
+ * {@link SimilarityComputer} implementations that Knn uses, the index keeps a
+ * reference to the property values it was created with. Once the node property
+ * is dropped or replaced, e.g. by compaction, the index no longer reflects the
+ * graph, see {@link #isBuiltOn(NodePropertyValues)}.
+ */
+public final class HnswIndex {
+
+    private static final int NOT_INSERTED = -1;
+    private static final long NO_ENTRY_POINT = -1L;
+    private static final int MAX_LEVEL = 16;
+    private static final int LOCK_STRIPES = 1 << 10;
+    private static final long[] NO_NEIGHBOURS = new long[0];
+
+    private final String nodeProperty;
+    private final NodePropertyValues propertyValues;
+    private final SimilarityMetric similarityMetric;
+    private final SimilarityComputer similarityComputer;
+    private final int maxConnections;
+    private final int maxConnectionsLayer0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final long randomSeed;
+
+    private final HugeIntArray levels;
+    // layer 0 contains every indexed node, the adjacency is stored in fixed size slots
+    private final HugeLongArray baseLayer;
+    private final HugeIntArray baseDegrees;
+    // the upper layers are sparse, only about 1 / maxConnections of the nodes have a level > 0
+    private final HugeObjectArray<long[][]> upperLayers;
+    private final Object[] locks;
+    private final AtomicLong size;
+
+    private final Object entryPointLock = new Object();
+    private long entryPoint = NO_ENTRY_POINT;
+    private int topLevel = NOT_INSERTED;
+
+    public static HnswIndex create(
+        IdMap idMap,
+        String nodeProperty,
+        NodePropertyValues propertyValues,
+        SimilarityMetric similarityMetric,
+        int maxConnections,
+        int efConstruction,
+        long randomSeed
+    ) {
+        var metric = resolveMetric(nodeProperty, propertyValues.valueType(), similarityMetric);
+
+        return new HnswIndex(
+            idMap.nodeCount(),
+            nodeProperty,
+            propertyValues,
+            metric,
+            SimilarityComputer.ofProperty(idMap, nodeProperty, propertyValues, metric),
+            maxConnections,
+            efConstruction,
+            randomSeed
+        );
+    }
+
+    /**
+     * Returns the metric an index over a property of the given type uses, resolving {@link SimilarityMetric#DEFAULT}.
+     */
+    public static SimilarityMetric resolveMetric(String nodeProperty, ValueType valueType, SimilarityMetric similarityMetric) {
+        if (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The property `%s` has an unsupported type [%s], expected a float or double array.",
+                nodeProperty,
+                valueType
+            ));
+        }
+        return similarityMetric == SimilarityMetric.DEFAULT
+            ? SimilarityMetric.defaultMetricForType(valueType)
+            : similarityMetric;
+    }
+
+    /**
+     * Estimates an index over all nodes of the graph, in which every node has been inserted.
+     * The upper layers are estimated for the expected number of nodes per level.
+     */
+    public static MemoryEstimation memoryEstimation(int maxConnections, int efConstruction, SimilarityMetric similarityMetric) {
+        int maxConnectionsLayer0 = 2 * maxConnections;
+        int searchListCapacity = Math.max(efConstruction, maxConnections);
+
+        var builder = MemoryEstimations.builder(HnswIndex.class)
+            .perNode("levels", HugeIntArray::memoryEstimation)
+            .perNode("base layer", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * maxConnectionsLayer0))
+            .perNode("base degrees", HugeIntArray::memoryEstimation)
+            .perNode("upper layers", nodeCount -> {
+                // a node reaches level l with probability 1 / maxConnections^l
+                long nodesWithUpperLayers = nodeCount / maxConnections;
+                long upperLayerLists = nodeCount / (maxConnections - 1);
+                return HugeObjectArray.memoryEstimation(nodeCount, 0)
+                    + nodesWithUpperLayers * sizeOfObjectArray(1)
+                    + upperLayerLists * sizeOfLongArray(maxConnections);
+            })
+            .fixed("locks", sizeOfObjectArray(LOCK_STRIPES) + LOCK_STRIPES * sizeOfInstance(Object.class))
+            .perThread(
+                "search list",
+                sizeOfLongArray(searchListCapacity)
+                + sizeOfDoubleArray(searchListCapacity)
+                + sizeOfByteArray(searchListCapacity)
+                + sizeOfLongArray(maxConnectionsLayer0)
+            );
+
+        if (similarityMetric == SimilarityMetric.COSINE) {
+            // the cosine similarity computers cache the norm of every vector
+            builder.perNode("norm cache", HugeDoubleArray::memoryEstimation);
+        }
+
+        return builder.build();
+    }
+
+    HnswIndex(
+        long nodeCount,
+        String nodeProperty,
+        NodePropertyValues propertyValues,
+        SimilarityMetric similarityMetric,
+        SimilarityComputer similarityComputer,
+        int maxConnections,
+        int efConstruction,
+        long randomSeed
+    ) {
+        if (maxConnections < 2) {
+            throw new IllegalArgumentException("The number of connections per node must be at least 2");
+        }
+        this.nodeProperty = nodeProperty;
+        this.propertyValues = propertyValues;
+        this.similarityMetric = similarityMetric;
+        this.similarityComputer = similarityComputer;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsLayer0 = 2 * maxConnections;
+        this.efConstruction = Math.max(efConstruction, maxConnections);
+        this.levelMultiplier = 1.0 / Math.log(maxConnections);
+        this.randomSeed = randomSeed;
+
+        this.levels = HugeIntArray.newArray(nodeCount);
+        this.levels.fill(NOT_INSERTED);
+        this.baseLayer = HugeLongArray.newArray(nodeCount * maxConnectionsLayer0);
+        this.baseDegrees = HugeIntArray.newArray(nodeCount);
+        this.upperLayers = HugeObjectArray.newArray(long[][].class, nodeCount);
+        this.locks = new Object[LOCK_STRIPES];
+        Arrays.setAll(this.locks, ignore -> new Object());
+        this.size = new AtomicLong();
+    }
+
+    public String nodeProperty() {
+        return nodeProperty;
+    }
+
+    public SimilarityMetric similarityMetric() {
+        return similarityMetric;
+    }
+
+    /**
+     * Whether the index has been built on the given property values,
+     * i.e. they are still the current values of the indexed node property.
+     */
+    public boolean isBuiltOn(NodePropertyValues propertyValues) {
+        return this.propertyValues == propertyValues;
+    }
+
+    public int maxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * The number of nodes that have been inserted into the index.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    public int maxLevel() {
+        synchronized (entryPointLock) {
+            return topLevel;
+        }
+    }
+
+    public boolean contains(long nodeId) {
+        return levels.get(nodeId) != NOT_INSERTED;
+    }
+
+    /**
+     * Inserts the given node and links it to its most similar neighbours on each of its levels.
+     *
+     * @return false if the node had already been inserted
+     */
+    public boolean insert(long nodeId) {
+        int level = randomLevel(nodeId);
+
+        synchronized (lock(nodeId)) {
+            if (levels.get(nodeId) != NOT_INSERTED) {
+                return false;
+            }
+            if (level > 0) {
+                var neighbours = new long[level][];
+                Arrays.fill(neighbours, NO_NEIGHBOURS);
+                upperLayers.set(nodeId, neighbours);
+            }
+            levels.set(nodeId, level);
+        }
+
+        long entry;
+        int entryLevel;
+        synchronized (entryPointLock) {
+            if (entryPoint == NO_ENTRY_POINT) {
+                entryPoint = nodeId;
+                topLevel = level;
+                size.incrementAndGet();
+                return true;
+            }
+            entry = entryPoint;
+            entryLevel = topLevel;
+        }
+
+        var buffer = new long[maxConnectionsLayer0];
+        var searchList = new SearchList(efConstruction);
+        searchList.offer(entry, similarity(nodeId, entry));
+
+        for (int layer = entryLevel; layer > level; layer--) {
+            greedySearch(nodeId, searchList, layer, buffer);
+        }
+        for (int layer = Math.min(level, entryLevel); layer >= 0; layer--) {
+            searchLayer(nodeId, searchList, layer, buffer);
+            connect(nodeId, searchList, layer);
+        }
+
+        if (level > entryLevel) {
+            synchronized (entryPointLock) {
+                if (level > topLevel) {
+                    topLevel = level;
+                    entryPoint = nodeId;
+                }
+            }
+        }
+        size.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Returns up to {@code k} indexed nodes that are most similar to the given node, excluding the node itself.
+     * The query node does not need to be part of the index, but must have a property value.
+     * Larger values of {@code ef} increase the recall at the cost of a slower search.
+     */
+    public List<SimilarityResult> search(long queryNodeId, int k, int ef) {
+        long entry;
+        int entryLevel;
+        synchronized (entryPointLock) {
+            entry = entryPoint;
+            entryLevel = topLevel;
+        }
+        if (entry == NO_ENTRY_POINT || k <= 0) {
+            return List.of();
+        }
+
+        var buffer = new long[maxConnectionsLayer0];
+        // one more slot in case the query node itself is part of the results
+        var searchList = new SearchList(Math.max(ef, k) + 1);
+        searchList.offer(entry, similarity(queryNodeId, entry));
+
+        for (int layer = entryLevel; layer > 0; layer--) {
+            greedySearch(queryNodeId, searchList, layer, buffer);
+        }
+        searchLayer(queryNodeId, searchList, 0, buffer);
+
+        var result = new ArrayList<SimilarityResult>(k);
+        for (int i = 0; i < searchList.size() && result.size() < k; i++) {
+            long candidate = searchList.node(i);
+            if (candidate != queryNodeId) {
+                result.add(new SimilarityResult(queryNodeId, candidate, searchList.similarity(i)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Copies the neighbours of the given node on the given layer into the buffer and returns their number.
+     */
+    int neighbours(long nodeId, int layer, long[] buffer) {
+        synchronized (lock(nodeId)) {
+            if (layer == 0) {
+                int degree = baseDegrees.get(nodeId);
+                long offset = nodeId * maxConnectionsLayer0;
+                for (int i = 0; i < degree; i++) {
+                    buffer[i] = baseLayer.get(offset + i);
+                }
+                return degree;
+            }
+            var neighbours = upperLayers.get(nodeId)[layer - 1];
+            System.arraycopy(neighbours, 0, buffer, 0, neighbours.length);
+            return neighbours.length;
+        }
+    }
+
+    private void greedySearch(long queryNodeId, SearchList searchList, int layer, long[] buffer) {
+        long current = searchList.node(0);
+        double currentSimilarity = searchList.similarity(0);
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            int degree = neighbours(current, layer, buffer);
+            for (int i = 0; i < degree; i++) {
+                double similarity = similarity(queryNodeId, buffer[i]);
+                if (similarity > currentSimilarity) {
+                    current = buffer[i];
+                    currentSimilarity = similarity;
+                    changed = true;
+                }
+            }
+        }
+
+        searchList.clear();
+        searchList.offer(current, currentSimilarity);
+    }
+
+    /**
+     * Expands the best unexpanded candidate until the {@code ef} most similar nodes found so far have all been expanded.
+     * The search list holds the entry points on entry and the result on exit.
+     */
+    private void searchLayer(long queryNodeId, SearchList searchList, int layer, long[] buffer) {
+        var visited = new LongHashSet();
+        for (int i = 0; i < searchList.size(); i++) {
+            visited.add(searchList.node(i));
+        }
+        searchList.resetExpanded();
+
+        int next;
+        while ((next = searchList.nextUnexpanded()) != -1) {
+            int degree = neighbours(searchList.node(next), layer, buffer);
+            for (int i = 0; i < degree; i++) {
+                long neighbour = buffer[i];
+                if (visited.add(neighbour)) {
+                    searchList.offer(neighbour, similarity(queryNodeId, neighbour));
+                }
+            }
+        }
+    }
+
+    private void connect(long nodeId, SearchList searchList, int layer) {
+        var selected = new long[Math.min(maxConnections, searchList.size())];
+        int count = 0;
+        for (int i = 0; i < searchList.size() && count < selected.length; i++) {
+            long candidate = searchList.node(i);
+            if (candidate != nodeId) {
+                selected[count++] = candidate;
+            }
+        }
+
+        synchronized (lock(nodeId)) {
+            if (layer == 0) {
+                long offset = nodeId * maxConnectionsLayer0;
+                for (int i = 0; i < count; i++) {
+                    baseLayer.set(offset + i, selected[i]);
+                }
+                baseDegrees.set(nodeId, count);
+            } else {
+                upperLayers.get(nodeId)[layer - 1] = Arrays.copyOf(selected, count);
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            addNeighbour(selected[i], nodeId, layer);
+        }
+    }
+
+    private void addNeighbour(long nodeId, long newNeighbour, int layer) {
+        synchronized (lock(nodeId)) {
+            if (layer == 0) {
+                long offset = nodeId * maxConnectionsLayer0;
+                int degree = baseDegrees.get(nodeId);
+                if (degree < maxConnectionsLayer0) {
+                    baseLayer.set(offset + degree, newNeighbour);
+                    baseDegrees.set(nodeId, degree + 1);
+                    return;
+                }
+                int weakest = weakestNeighbour(nodeId, newNeighbour, i -> baseLayer.get(offset + i), degree);
+                if (weakest != -1) {
+                    baseLayer.set(offset + weakest, newNeighbour);
+                }
+            } else {
+                var layers = upperLayers.get(nodeId);
+                var neighbours = layers[layer - 1];
+                if (neighbours.length < maxConnections) {
+                    var grown = Arrays.copyOf(neighbours, neighbours.length + 1);
+                    grown[neighbours.length] = newNeighbour;
+                    layers[layer - 1] = grown;
+                    return;
+                }
+                int weakest = weakestNeighbour(nodeId, newNeighbour, i -> neighbours[i], neighbours.length);
+                if (weakest != -1) {
+                    var replaced = neighbours.clone();
+                    replaced[weakest] = newNeighbour;
+                    layers[layer - 1] = replaced;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of the least similar neighbour if the new neighbour is more similar to the node, otherwise -1.
+     */
+    private int weakestNeighbour(long nodeId, long newNeighbour, IntToLongFunction neighbours, int degree) {
+        int weakest = -1;
+        double weakestSimilarity = similarity(nodeId, newNeighbour);
+        for (int i = 0; i < degree; i++) {
+            double similarity = similarity(nodeId, neighbours.applyAsLong(i));
+            if (similarity < weakestSimilarity) {
+                weakest = i;
+                weakestSimilarity = similarity;
+            }
+        }
+        return weakest;
+    }
+
+    private double similarity(long first, long second) {
+        return similarityComputer.safeSimilarity(first, second);
+    }
+
+    private int randomLevel(long nodeId) {
+        long bits = BitMixer.mix64(randomSeed ^ BitMixer.mix64(nodeId));
+        // uniform in (0, 1]
+        double uniform = ((bits >>> 11) + 1) * 0x1.0p-53;
+        return Math.min((int) (-Math.log(uniform) * levelMultiplier), MAX_LEVEL);
+    }
+
+    private Object lock(long nodeId) {
+        return locks[(int) (BitMixer.mix64(nodeId) & (LOCK_STRIPES - 1))];
+    }
+
+    /**
+     * The candidates of a layer search, sorted by descending similarity and bounded by {@code ef}.
+     */
+    private static final class SearchList {
+        private final long[] nodes;
+        private final double[] similarities;
+        private final boolean[] expanded;
+        private int size;
+        private int cursor;
+
+        SearchList(int capacity) {
+            this.nodes = new long[capacity];
+            this.similarities = new double[capacity];
+            this.expanded = new boolean[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        long node(int index) {
+            return nodes[index];
+        }
+
+        double similarity(int index) {
+            return similarities[index];
+        }
+
+        void clear() {
+            size = 0;
+            cursor = 0;
+        }
+
+        void resetExpanded() {
+            Arrays.fill(expanded, 0, size, false);
+            cursor = 0;
+        }
+
+        void offer(long node, double similarity) {
+            int capacity = nodes.length;
+            if (size == capacity && similarity <= similarities[size - 1]) {
+                return;
+            }
+            int position = size == capacity ? size - 1 : size;
+            while (position > 0 && similarities[position - 1] < similarity) {
+                position--;
+            }
+            int length = Math.min(size, capacity - 1) - position;
+            if (length > 0) {
+                System.arraycopy(nodes, position, nodes, position + 1, length);
+                System.arraycopy(similarities, position, similarities, position + 1, length);
+                System.arraycopy(expanded, position, expanded, position + 1, length);
+            }
+            nodes[position] = node;
+            similarities[position] = similarity;
+            expanded[position] = false;
+            size = Math.min(size + 1, capacity);
+            cursor = Math.min(cursor, position);
+        }
+
+        /**
+         * Marks the most similar unexpanded candidate as expanded and returns its position, or -1 if there is none.
+         */
+        int nextUnexpanded() {
+            while (cursor < size && expanded[cursor]) {
+                cursor++;
+            }
+            if (cursor == size) {
+                return -1;
+            }
+            expanded[cursor] = true;
+            return cursor;
+        }
+    }
+}
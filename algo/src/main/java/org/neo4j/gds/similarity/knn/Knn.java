@@ -34,6 +34,7 @@ import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
 import java.util.List;
@@ -56,11 +57,34 @@ public class Knn extends Algorithm<Knn.Result> {
     private final SplittableRandom splittableRandom;
     private final SimilarityFunction similarityFunction;
     private final NeighbourConsumers neighborConsumers;
+    // present if the neighbours are searched on quantized properties and need to be re-ranked at full precision
+    private final Optional<SimilarityFunction> rerankingSimilarityFunction;
 
     private long nodePairsConsidered;
 
     public static Knn createWithDefaults(Graph graph, KnnBaseConfig config, KnnContext context) {
-        return createWithDefaultsAndInstrumentation(graph, config, context, NeighbourConsumers.no_op, defaultSimilarityFunction(graph, config.nodeProperties()));
+        var similarityFunction = defaultSimilarityFunction(graph, config.nodeProperties());
+        if (config.quantization() == Quantization.NONE) {
+            return createWithDefaultsAndInstrumentation(graph, config, context, NeighbourConsumers.no_op, similarityFunction);
+        }
+
+        var quantizedSimilarityFunction = defaultSimilarityFunction(SimilarityComputer.ofQuantizedProperties(
+            graph,
+            config.nodeProperties(),
+            config.quantization(),
+            config.concurrency()
+        ));
+        return new Knn(
+            context.progressTracker(),
+            graph,
+            config,
+            quantizedSimilarityFunction,
+            new KnnNeighborFilterFactory(graph.nodeCount()),
+            context.executor(),
+            getSplittableRandom(config.randomSeed()),
+            NeighbourConsumers.no_op,
+            Optional.of(similarityFunction)
+        );
     }
 
     public static SimilarityFunction defaultSimilarityFunction(Graph graph, List<KnnNodePropertySpec> nodeProperties) {
@@ -87,7 +111,8 @@ public class Knn extends Algorithm<Knn.Result> {
             new KnnNeighborFilterFactory(graph.nodeCount()),
             context.executor(),
             getSplittableRandom(config.randomSeed()),
-            neighborConsumers
+            neighborConsumers,
+            Optional.empty()
         );
     }
 
@@ -108,7 +133,8 @@ public class Knn extends Algorithm<Knn.Result> {
             neighborFilterFactory,
             context.executor(),
             splittableRandom,
-            NeighbourConsumers.no_op
+            NeighbourConsumers.no_op,
+            Optional.empty()
         );
     }
 
@@ -125,7 +151,8 @@ public class Knn extends Algorithm<Knn.Result> {
         NeighborFilterFactory neighborFilterFactory,
         ExecutorService executorService,
         SplittableRandom splittableRandom,
-        NeighbourConsumers neighborConsumers
+        NeighbourConsumers neighborConsumers,
+        Optional<SimilarityFunction> rerankingSimilarityFunction
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -135,6 +162,7 @@ public class Knn extends Algorithm<Knn.Result> {
         this.executorService = executorService;
         this.splittableRandom = splittableRandom;
         this.neighborConsumers = neighborConsumers;
+        this.rerankingSimilarityFunction = rerankingSimilarityFunction;
     }
 
     public long nodeCount() {
@@ -179,6 +207,11 @@ public class Knn extends Algorithm<Knn.Result> {
                     break;
                 }
             }
+            if (rerankingSimilarityFunction.isPresent()) {
+                try (var ignored4 = ProgressTimer.start(this::logRerankingTime)) {
+                    rerankNeighbors(neighbors, rerankingSimilarityFunction.get());
+                }
+            }
             if (config.similarityCutoff() > 0) {
                 var similarityCutoff = config.similarityCutoff();
                 var neighborFilterTasks = PartitionUtils.rangePartition(
@@ -203,12 +236,37 @@ public class Knn extends Algorithm<Knn.Result> {
         }
     }
 
+    /**
+     * The neighbour lists hold up to {@link KnnBaseConfig#boundedRerankK(long)} candidates found on the
+     * quantized properties, of which the {@code topK} most similar at full precision are kept.
+     */
+    private void rerankNeighbors(HugeObjectArray<NeighborList> neighbors, SimilarityFunction similarityFunction) {
+        var boundedK = config.boundedK(graph.nodeCount());
+        var rerankingTasks = PartitionUtils.rangePartition(
+            config.concurrency(),
+            neighbors.size(),
+            partition -> (Runnable) () -> partition.consume(
+                nodeId -> {
+                    var neighborList = neighbors.get(nodeId);
+                    neighborList.rescore(neighbor -> similarityFunction.computeSimilarity(nodeId, neighbor));
+                    neighborList.trim(boundedK);
+                }
+            ),
+            Optional.of(config.minBatchSize())
+        );
+        RunWithConcurrency.builder()
+            .concurrency(config.concurrency())
+            .tasks(rerankingTasks)
+            .terminationFlag(terminationFlag)
+            .executor(this.executorService)
+            .run();
+    }
+
     private @Nullable HugeObjectArray<NeighborList> initializeRandomNeighbors() {
         var k = this.config.topK();
-        // (int) is safe since it is at most k, which is an int
-        var boundedK = (int) Math.min(graph.nodeCount() - 1, k);
+        var boundedK = candidateK();
 
-        assert boundedK <= k && boundedK <= graph.nodeCount() - 1;
+        assert boundedK <= graph.nodeCount() - 1;
 
         if (graph.nodeCount() < 2 || k == 0) {
             return null;
@@ -248,6 +306,15 @@ public class Knn extends Algorithm<Knn.Result> {
         return neighbors;
     }
 
+    /**
+     * Quantized searches keep more candidates per node, which are trimmed to k after re-ranking.
+     */
+    private int candidateK() {
+        return rerankingSimilarityFunction.isPresent()
+            ? this.config.boundedRerankK(graph.nodeCount())
+            : this.config.boundedK(graph.nodeCount());
+    }
+
     private KnnSampler initializeSampler(SplittableRandom random) {
         switch(config.initialSampler()) {
             case UNIFORM: {
@@ -258,7 +325,7 @@ public class Knn extends Algorithm<Knn.Result> {
                     graph.concurrentCopy(),
                     random,
                     config.randomSeed(),
-                    config.boundedK(graph.nodeCount())
+                    candidateK()
                 );
             }
             default:
@@ -595,6 +662,10 @@ public class Knn extends Algorithm<Knn.Result> {
         progressTracker.logInfo(formatWithLocale("Graph iteration %d took %d ms", iteration, ms));
     }
 
+    private void logRerankingTime(long ms) {
+        progressTracker.logInfo(formatWithLocale("Graph re-ranking took %d ms", ms));
+    }
+
     private void logOverallTime(long ms) {
         progressTracker.logInfo(formatWithLocale("Graph execution took %d ms", ms));
     }
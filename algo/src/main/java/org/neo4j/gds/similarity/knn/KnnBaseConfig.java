@@ -25,14 +25,20 @@ import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.IterationsConfig;
 import org.neo4j.gds.config.SingleThreadedRandomSeedConfig;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
 
 import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
 public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleThreadedRandomSeedConfig {
 
+    int DEFAULT_RERANK_FACTOR = 2;
+
     @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.knn.KnnNodePropertySpecParser#parse")
     @Configuration.ToMapValue("org.neo4j.gds.similarity.knn.KnnNodePropertySpecParser#render")
     List<KnnNodePropertySpec> nodeProperties();
@@ -106,4 +112,46 @@ public interface KnnBaseConfig extends AlgoBaseConfig, IterationsConfig, SingleT
     default KnnSampler.SamplerType initialSampler() {
         return KnnSampler.SamplerType.UNIFORM;
     }
+
+    /**
+     * Float and double array properties are compared on quantized copies while searching for neighbours.
+     * The similarities of the final neighbours are recomputed at full precision.
+     */
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.similarity.knn.metrics.Quantization#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.similarity.knn.metrics.Quantization#toString")
+    default Quantization quantization() {
+        return Quantization.NONE;
+    }
+
+    /**
+     * The number of candidates kept per node while searching on quantized properties.
+     * All candidates are re-ranked at full precision before the best {@link #topK()} are kept.
+     * Defaults to {@link #DEFAULT_RERANK_FACTOR} times {@link #topK()}.
+     */
+    @Configuration.IntegerRange(min = 1)
+    Optional<Integer> rerankK();
+
+    @Configuration.Ignore
+    default int boundedRerankK(long nodeCount) {
+        if (this.quantization() == Quantization.NONE) {
+            return this.boundedK(nodeCount);
+        }
+        long rerankK = this.rerankK().map(Integer::longValue).orElse((long) DEFAULT_RERANK_FACTOR * this.topK());
+        // (int) is safe because value is at most `rerankK` or a multiple of `topK`, which are bounded by nodeCount - 1
+        return Math.max(0, (int) Math.min(rerankK, nodeCount - 1));
+    }
+
+    @Value.Check
+    default void validateRerankK() {
+        this.rerankK().ifPresent(rerankK -> {
+            if (rerankK < this.topK()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "The value of `rerankK` must be at least the value of `topK` (%d), but was %d.",
+                    this.topK(),
+                    rerankK
+                ));
+            }
+        });
+    }
 }
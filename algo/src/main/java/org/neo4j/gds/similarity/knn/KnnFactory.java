@@ -26,12 +26,18 @@ import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.core.utils.vectors.BinaryQuantizedVectors;
+import org.neo4j.gds.core.utils.vectors.Int8QuantizedVectors;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
 import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
@@ -69,7 +75,8 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
         return MemoryEstimations.setup(
             taskName(),
             (dim, concurrency) -> {
-                var boundedK = configuration.boundedK(dim.nodeCount());
+                // quantized searches keep up to rerankK candidates per node
+                var boundedK = configuration.boundedRerankK(dim.nodeCount());
                 var sampledK = configuration.sampledK(dim.nodeCount());
                 var tempListEstimation = HugeObjectArray.memoryEstimation(
                     MemoryEstimations.of("elements", MemoryRange.of(
@@ -98,11 +105,68 @@ public class KnnFactory<CONFIG extends KnnBaseConfig> extends GraphAlgorithmFact
                         )
                     )
                     .add(MemoryEstimations.of("neighbour-consumers", MemoryRange.of(sizeOfInstance(NeighbourConsumers.class))))
+                    .rangePerNode(
+                        "cosine-norm-caches",
+                        nodeCount -> cosineNormCacheMemoryEstimation(configuration.nodeProperties(), nodeCount)
+                    )
+                    .fixed(
+                        "quantized-properties",
+                        quantizedPropertiesMemoryEstimation(
+                            configuration.nodeProperties(),
+                            configuration.quantization(),
+                            dim.nodePropertyDimensions(),
+                            dim.nodeCount()
+                        )
+                    )
                     .build();
             }
         );
     }
 
+    /**
+     * The cosine similarity computers of float and double array properties cache a squared norm per node.
+     * Properties with the default metric only use cosine if they are arrays, which is not known before loading.
+     */
+    public static MemoryRange cosineNormCacheMemoryEstimation(List<KnnNodePropertySpec> nodeProperties, long nodeCount) {
+        long cosineProperties = nodeProperties
+            .stream()
+            .filter(property -> property.metric() == SimilarityMetric.COSINE)
+            .count();
+        long defaultProperties = nodeProperties
+            .stream()
+            .filter(property -> property.metric() == SimilarityMetric.DEFAULT)
+            .count();
+        long normCache = HugeDoubleArray.memoryEstimation(nodeCount);
+        return MemoryRange.of(cosineProperties * normCache, (cosineProperties + defaultProperties) * normCache);
+    }
+
+    /**
+     * The quantized copies of float and double array properties exist next to the original properties.
+     * Their size depends on the length of the arrays, which is only known for graphs in the catalog,
+     * so properties with an unknown length are not accounted for.
+     */
+    public static MemoryRange quantizedPropertiesMemoryEstimation(
+        List<KnnNodePropertySpec> nodeProperties,
+        Quantization quantization,
+        Map<String, Integer> propertyDimensions,
+        long nodeCount
+    ) {
+        if (quantization == Quantization.NONE) {
+            return MemoryRange.empty();
+        }
+        long bytes = 0;
+        for (var nodeProperty : nodeProperties) {
+            var dimension = propertyDimensions.get(nodeProperty.name());
+            if (dimension == null) {
+                continue;
+            }
+            bytes += quantization == Quantization.INT8
+                ? Int8QuantizedVectors.memoryEstimation(nodeCount, dimension)
+                : BinaryQuantizedVectors.memoryEstimation(nodeCount, dimension);
+        }
+        return MemoryRange.of(bytes);
+    }
+
     public static MemoryRange initialSamplerMemoryEstimation(KnnSampler.SamplerType samplerType, long boundedK) {
         switch(samplerType) {
             case UNIFORM: {
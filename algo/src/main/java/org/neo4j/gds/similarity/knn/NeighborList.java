@@ -24,6 +24,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.similarity.SimilarityResult;
 
 import java.util.SplittableRandom;
+import java.util.function.LongToDoubleFunction;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -219,6 +220,37 @@ public class NeighborList {
             });
     }
 
+    /**
+     * Replaces the priorities of all elements with the given similarities and restores the descending order.
+     * Knn uses this to re-rank neighbours that were found with approximate similarities.
+     */
+    void rescore(LongToDoubleFunction similarity) {
+        for (int i = 0; i < elementCount; i++) {
+            var element = clearCheckedFlag(priorityElementPairs[2 * i + 1]);
+            priorityElementPairs[2 * i] = Double.doubleToRawLongBits(similarity.applyAsDouble(element));
+        }
+        // insertion sort, the lists hold at most the rerank K candidates
+        for (int i = 1; i < elementCount; i++) {
+            var priority = priorityElementPairs[2 * i];
+            var element = priorityElementPairs[2 * i + 1];
+            int j = i - 1;
+            while (j >= 0 && Double.longBitsToDouble(priorityElementPairs[2 * j]) < Double.longBitsToDouble(priority)) {
+                priorityElementPairs[2 * j + 2] = priorityElementPairs[2 * j];
+                priorityElementPairs[2 * j + 3] = priorityElementPairs[2 * j + 1];
+                j--;
+            }
+            priorityElementPairs[2 * j + 2] = priority;
+            priorityElementPairs[2 * j + 3] = element;
+        }
+    }
+
+    /**
+     * Keeps only the first, i.e. most similar, {@code k} elements.
+     */
+    void trim(int k) {
+        elementCount = Math.min(elementCount, k);
+    }
+
     /**
      * filterHighSimilarityResults will override the original array in
      * priorityElementPairs keeping only the results with similarity greater than or equal to threshold.
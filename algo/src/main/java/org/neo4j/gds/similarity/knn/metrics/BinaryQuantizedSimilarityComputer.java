@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.neo4j.gds.core.utils.vectors.BinaryQuantizedVectors;
+
+/**
+ * Approximates any vector similarity metric by the fraction of dimensions in which the signs of the vectors agree.
+ * This only preserves the order of the neighbours roughly, the values are not comparable to the full precision metrics.
+ */
+final class BinaryQuantizedSimilarityComputer implements SimilarityComputer {
+    private final BinaryQuantizedVectors vectors;
+
+    BinaryQuantizedSimilarityComputer(BinaryQuantizedVectors vectors) {
+        this.vectors = vectors;
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        return 1.0 - (double) vectors.hammingDistance(firstNodeId, secondNodeId) / vectors.dimension();
+    }
+
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+}
@@ -31,13 +31,15 @@ final class CombinedSimilarityComputer implements SimilarityComputer {
     private final boolean isSymmetric;
 
     CombinedSimilarityComputer(Graph graph, List<KnnNodePropertySpec> propertyNames) {
-        this.numOfProperties = propertyNames.size();
-        this.similarityComputers = new SimilarityComputer[numOfProperties];
-
-        for (int i = 0; i < numOfProperties; ++i) {
-            this.similarityComputers[i] = SimilarityComputer.ofProperty(graph, propertyNames.get(i));
-        }
+        this(propertyNames
+            .stream()
+            .map(propertyName -> SimilarityComputer.ofProperty(graph, propertyName))
+            .toArray(SimilarityComputer[]::new));
+    }
 
+    CombinedSimilarityComputer(SimilarityComputer[] similarityComputers) {
+        this.numOfProperties = similarityComputers.length;
+        this.similarityComputers = similarityComputers;
         this.isSymmetric = Arrays.stream(similarityComputers).allMatch(SimilarityComputer::isSymmetric);
     }
 
@@ -19,7 +19,8 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
-import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.vectors.SimilarityKernel;
+import org.neo4j.gds.core.utils.vectors.SimilarityKernels;
 
 /**
  * We compute cosine similarity (normalised dot product) and turn it into a similarity metric by moving and
@@ -29,14 +30,22 @@ public final class Cosine {
     private Cosine() {}
 
     public static double floatMetric(float[] left, float[] right) {
+        return floatMetric(SimilarityKernels.create(), left, right);
+    }
+
+    public static double doubleMetric(double[] left, double[] right) {
+        return doubleMetric(SimilarityKernels.create(), left, right);
+    }
+
+    static double floatMetric(SimilarityKernel kernel, float[] left, float[] right) {
         var len = Math.min(left.length, right.length);
-        var cosine = Intersections.cosine(left, right, len);
+        var cosine = kernel.cosine(left, right, len);
         return (cosine+1)/ 2;
     }
 
-    public static double doubleMetric(double[] left, double[] right) {
+    static double doubleMetric(SimilarityKernel kernel, double[] left, double[] right) {
         var len = Math.min(left.length, right.length);
-        var cosine = Intersections.cosine(left, right, len);
+        var cosine = kernel.cosine(left, right, len);
         return (cosine+1)/ 2;
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.vectors.SimilarityKernel;
+
+/**
+ * Cosine similarity computed from a single dot product of the vectors and their cached squared norms.
+ * The norm of a vector is computed the first time it is compared and reused for all further comparisons.
+ * Vectors of different lengths fall back to {@link Cosine}, which only considers the common prefix.
+ */
+final class DoubleArrayCosineSimilarityComputer implements SimilarityComputer {
+    private final NodePropertyValues nodePropertyValues;
+    private final SimilarityKernel kernel;
+    // 0 marks a norm that has not been computed yet, zero vectors are recomputed on every comparison
+    private final HugeDoubleArray squaredNorms;
+
+    DoubleArrayCosineSimilarityComputer(NodePropertyValues nodePropertyValues, SimilarityKernel kernel) {
+        if (nodePropertyValues.valueType() != ValueType.DOUBLE_ARRAY) {
+            throw new IllegalArgumentException("The property is not of type DOUBLE_ARRAY");
+        }
+        this.nodePropertyValues = nodePropertyValues;
+        this.kernel = kernel;
+        // some property values do not know their node count and report -1
+        this.squaredNorms = HugeDoubleArray.newArray(Math.max(0, nodePropertyValues.nodeCount()));
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        var left = nodePropertyValues.doubleArrayValue(firstNodeId);
+        var right = nodePropertyValues.doubleArrayValue(secondNodeId);
+        if (left.length != right.length) {
+            return Cosine.doubleMetric(kernel, left, right);
+        }
+        double normProduct = squaredNorm(firstNodeId, left) * squaredNorm(secondNodeId, right);
+        var cosine = kernel.dotProduct(left, right, left.length) / Math.sqrt(normProduct);
+        return (cosine + 1) / 2;
+    }
+
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+
+    private double squaredNorm(long nodeId, double[] vector) {
+        if (nodeId >= squaredNorms.size()) {
+            return kernel.dotProduct(vector, vector, vector.length);
+        }
+        // racing threads compute and store the same value
+        double squaredNorm = squaredNorms.get(nodeId);
+        if (squaredNorm == 0) {
+            squaredNorm = kernel.dotProduct(vector, vector, vector.length);
+            squaredNorms.set(nodeId, squaredNorm);
+        }
+        return squaredNorm;
+    }
+}
@@ -19,6 +19,9 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
+import org.neo4j.gds.core.utils.vectors.SimilarityKernel;
+import org.neo4j.gds.core.utils.vectors.SimilarityKernels;
+
 /**
  * Here we calculate Euclidean similarity metrics using Euclidean dictance as described in e.g.
  * https://en.wikipedia.org/wiki/Euclidean_distance
@@ -33,22 +36,22 @@ public final class Euclidean {
     private Euclidean() {}
 
     public static double floatMetric(float[] left, float[] right) {
+        return floatMetric(SimilarityKernels.create(), left, right);
+    }
+
+    public static double doubleMetric(double[] left, double[] right) {
+        return doubleMetric(SimilarityKernels.create(), left, right);
+    }
+
+    static double floatMetric(SimilarityKernel kernel, float[] left, float[] right) {
         var len = Math.min(left.length, right.length);
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left[i] - right[i];
-            result += delta * delta;
-        }
+        var result = kernel.sumSquareDelta(left, right, len);
         return 1.0 / (1.0 + result);
     }
 
-    public static double doubleMetric(double[] left, double[] right) {
+    static double doubleMetric(SimilarityKernel kernel, double[] left, double[] right) {
         var len = Math.min(left.length, right.length);
-        var result = 0D;
-        for (int i = 0; i < len; i++) {
-            double delta = left[i] - right[i];
-            result += delta * delta;
-        }
+        var result = kernel.sumSquareDelta(left, right, len);
         return 1.0 / (1.0 + result);
     }
 }
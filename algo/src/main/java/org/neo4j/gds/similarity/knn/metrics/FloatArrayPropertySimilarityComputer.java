@@ -25,6 +25,8 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 final class FloatArrayPropertySimilarityComputer implements SimilarityComputer {
     private final NodePropertyValues nodePropertyValues;
     private final FloatArraySimilarityMetric metric;
+    // properties that are not stored as one array per node, e.g. mutated embeddings, copy rows into these buffers
+    private final ThreadLocal<float[][]> buffers;
 
     FloatArrayPropertySimilarityComputer(NodePropertyValues nodePropertyValues, FloatArraySimilarityMetric metric) {
         this.metric = metric;
@@ -32,12 +34,15 @@ final class FloatArrayPropertySimilarityComputer implements SimilarityComputer {
             throw new IllegalArgumentException("The property is not of type FLOAT_ARRAY");
         }
         this.nodePropertyValues = nodePropertyValues;
+        int dimension = nodePropertyValues.dimension().orElse(0);
+        this.buffers = ThreadLocal.withInitial(() -> new float[2][dimension]);
     }
 
     @Override
     public double similarity(long firstNodeId, long secondNodeId) {
-        var left = nodePropertyValues.floatArrayValue(firstNodeId);
-        var right = nodePropertyValues.floatArrayValue(secondNodeId);
+        var buffers = this.buffers.get();
+        var left = nodePropertyValues.floatArrayValue(firstNodeId, buffers[0]);
+        var right = nodePropertyValues.floatArrayValue(secondNodeId, buffers[1]);
         return metric.compute(left, right);
     }
 
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.knn.metrics;
+
+import org.neo4j.gds.core.utils.vectors.Int8QuantizedVectors;
+
+/**
+ * Approximates a similarity metric on vectors quantized to one byte per dimension.
+ * The results are mapped to 0..1 the same way as the full precision metrics.
+ */
+final class Int8QuantizedSimilarityComputer implements SimilarityComputer {
+    private final Int8QuantizedVectors vectors;
+    private final SimilarityMetric metric;
+
+    Int8QuantizedSimilarityComputer(Int8QuantizedVectors vectors, SimilarityMetric metric) {
+        this.vectors = vectors;
+        this.metric = metric;
+    }
+
+    @Override
+    public double similarity(long firstNodeId, long secondNodeId) {
+        switch (metric) {
+            case COSINE:
+                return (vectors.cosine(firstNodeId, secondNodeId) + 1) / 2;
+            case EUCLIDEAN:
+                return 1.0 / (1.0 + vectors.sumSquareDelta(firstNodeId, secondNodeId));
+            case PEARSON:
+                return (vectors.pearson(firstNodeId, secondNodeId) + 1) / 2;
+            default:
+                throw new IllegalStateException("Unsupported metric for quantized vectors: " + metric);
+        }
+    }
+
+    @Override
+    public boolean isSymmetric() {
+        return true;
+    }
+}
@@ -61,6 +61,13 @@ public final class NullCheckingNodePropertyValues implements NodePropertyValues
         return value;
     }
 
+    @Override
+    public float[] floatArrayValue(long nodeId, float[] reuse) {
+        var value = properties.floatArrayValue(nodeId, reuse);
+        check(nodeId, value);
+        return value;
+    }
+
     @Override
     public long[] longArrayValue(long nodeId) {
         var value = properties.longArrayValue(nodeId);
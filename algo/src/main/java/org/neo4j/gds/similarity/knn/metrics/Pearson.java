@@ -19,6 +19,9 @@
  */
 package org.neo4j.gds.similarity.knn.metrics;
 
+import org.neo4j.gds.core.utils.vectors.SimilarityKernel;
+import org.neo4j.gds.core.utils.vectors.SimilarityKernels;
+
 /**
  * Here we compute Pearson correlation coefficient and turn that into a metric.
  *
@@ -33,66 +36,24 @@ public final class Pearson {
     private Pearson() {}
 
     public static double floatMetric(float[] a, float[] b) {
-        int n = Math.min(a.length, b.length);
-
-        // compute sample means
-        double sumA = 0d;
-        double sumB = 0d;
-        for (int i = 0; i < n; i++) {
-            sumA += a[i];
-            sumB += b[i];
-        }
-        double meanA = sumA / n;
-        double meanB = sumB / n;
-
-        // compute sums
-        double sumOfProductOfADeltaBDelta = 0d;
-        double sumOfADeltaSquared = 0d;
-        double sumOfBDeltaSquared = 0d;
-        for (int i = 0; i < n; i++) {
-            double aDelta = a[i] - meanA;
-            double bDelta = b[i] - meanB;
+        return floatMetric(SimilarityKernels.create(), a, b);
+    }
 
-            sumOfProductOfADeltaBDelta += aDelta * bDelta;
-            sumOfADeltaSquared += aDelta * aDelta;
-            sumOfBDeltaSquared += bDelta * bDelta;
-        }
+    public static double doubleMetric(double[] a, double[] b) {
+        return doubleMetric(SimilarityKernels.create(), a, b);
+    }
 
-        // final formula
-        double r = sumOfProductOfADeltaBDelta/ (Math.sqrt(sumOfADeltaSquared * sumOfBDeltaSquared));
+    static double floatMetric(SimilarityKernel kernel, float[] a, float[] b) {
+        int n = Math.min(a.length, b.length);
+        double r = kernel.pearson(a, b, n);
 
         // now turn it into a metric; Pearson's r is in the range -1..1 and we want to land it in 0..1
         return (r+1)/ 2;
     }
 
-    public static double doubleMetric(double[] a, double[] b) {
+    static double doubleMetric(SimilarityKernel kernel, double[] a, double[] b) {
         int n = Math.min(a.length, b.length);
-
-        // compute sample means
-        double sumA = 0d;
-        double sumB = 0d;
-        for (int i = 0; i < n; i++) {
-            sumA += a[i];
-            sumB += b[i];
-        }
-        double meanA = sumA / n;
-        double meanB = sumB / n;
-
-        // compute sums
-        double sumOfProductOfADeltaBDelta = 0d;
-        double sumOfADeltaSquared = 0d;
-        double sumOfBDeltaSquared = 0d;
-        for (int i = 0; i < n; i++) {
-            double aDelta = a[i] - meanA;
-            double bDelta = b[i] - meanB;
-
-            sumOfProductOfADeltaBDelta += aDelta * bDelta;
-            sumOfADeltaSquared += aDelta * aDelta;
-            sumOfBDeltaSquared += bDelta * bDelta;
-        }
-
-        // final formula
-        double r = sumOfProductOfADeltaBDelta/ (Math.sqrt(sumOfADeltaSquared * sumOfBDeltaSquared));
+        double r = kernel.pearson(a, b, n);
 
         // now turn it into a metric; Pearson's r is in the range -1..1 and we want to land it in 0..1
         return (r+1)/ 2;
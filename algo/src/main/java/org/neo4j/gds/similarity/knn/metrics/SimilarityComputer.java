@@ -23,6 +23,9 @@ import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.utils.vectors.BinaryQuantizedVectors;
+import org.neo4j.gds.core.utils.vectors.Int8QuantizedVectors;
+import org.neo4j.gds.core.utils.vectors.SimilarityKernels;
 import org.neo4j.gds.similarity.knn.KnnNodePropertySpec;
 import org.neo4j.gds.similarity.knn.metrics.LongArrayPropertySimilarityComputer.SortedLongArrayPropertyValues;
 
@@ -50,6 +53,65 @@ public interface SimilarityComputer {
     }
 
     static SimilarityComputer ofProperty(Graph graph, KnnNodePropertySpec knnNodePropertySpec) {
+        var nodeProperties = resolveNodeProperties(graph, knnNodePropertySpec);
+        return ofProperty(graph, knnNodePropertySpec.name(), nodeProperties, knnNodePropertySpec.metric());
+    }
+
+    /**
+     * Like {@link #ofProperties(Graph, List)}, but float and double array properties are compared on quantized copies.
+     * The quantized vectors are built eagerly, using the given concurrency.
+     */
+    static SimilarityComputer ofQuantizedProperties(
+        Graph graph,
+        List<KnnNodePropertySpec> knnNodeProperties,
+        Quantization quantization,
+        int concurrency
+    ) {
+        var similarityComputers = knnNodeProperties
+            .stream()
+            .map(knnNodePropertySpec -> ofQuantizedProperty(graph, knnNodePropertySpec, quantization, concurrency))
+            .toArray(SimilarityComputer[]::new);
+        if (similarityComputers.length == 1) {
+            return similarityComputers[0];
+        }
+        return new CombinedSimilarityComputer(similarityComputers);
+    }
+
+    static SimilarityComputer ofQuantizedProperty(
+        Graph graph,
+        KnnNodePropertySpec knnNodePropertySpec,
+        Quantization quantization,
+        int concurrency
+    ) {
+        var propertyName = knnNodePropertySpec.name();
+        var nodeProperties = resolveNodeProperties(graph, knnNodePropertySpec);
+        var valueType = nodeProperties.valueType();
+        var metric = knnNodePropertySpec.metric();
+
+        if (quantization == Quantization.NONE || (valueType != ValueType.FLOAT_ARRAY && valueType != ValueType.DOUBLE_ARRAY)) {
+            return ofProperty(graph, propertyName, nodeProperties, metric);
+        }
+        if (metric != SimilarityMetric.COSINE && metric != SimilarityMetric.EUCLIDEAN && metric != SimilarityMetric.PEARSON) {
+            throw unsupportedSimilarityMetric(propertyName, valueType, metric);
+        }
+
+        var checkedNodeProperties = NullCheckingNodePropertyValues.create(nodeProperties, propertyName, graph);
+        switch (quantization) {
+            case INT8:
+                return new Int8QuantizedSimilarityComputer(
+                    Int8QuantizedVectors.quantize(checkedNodeProperties, graph.nodeCount(), concurrency),
+                    metric
+                );
+            case BINARY:
+                return new BinaryQuantizedSimilarityComputer(
+                    BinaryQuantizedVectors.quantize(checkedNodeProperties, graph.nodeCount(), concurrency)
+                );
+            default:
+                throw new IllegalArgumentException("Unknown quantization " + quantization);
+        }
+    }
+
+    private static NodePropertyValues resolveNodeProperties(Graph graph, KnnNodePropertySpec knnNodePropertySpec) {
         var propertyName = knnNodePropertySpec.name();
         var nodeProperties = Objects.requireNonNull(
             graph.nodeProperties(propertyName),
@@ -59,7 +121,7 @@ public interface SimilarityComputer {
         if (knnNodePropertySpec.metric() == SimilarityMetric.DEFAULT) {
             knnNodePropertySpec.setMetric(SimilarityMetric.defaultMetricForType(nodeProperties.valueType()));
         }
-        return ofProperty(graph, propertyName, nodeProperties, knnNodePropertySpec.metric());
+        return nodeProperties;
     }
 
     static SimilarityComputer ofProperty(IdMap idMap, String propertyName, NodePropertyValues nodePropertyValues) {
@@ -114,13 +176,20 @@ public interface SimilarityComputer {
     }
 
     static SimilarityComputer ofFloatArrayProperty(String name, NodePropertyValues properties, SimilarityMetric metric) {
+        var kernel = SimilarityKernels.create();
         switch (metric) {
             case COSINE:
-                return new FloatArrayPropertySimilarityComputer(properties, Cosine::floatMetric);
+                return new FloatArrayCosineSimilarityComputer(properties, kernel);
             case EUCLIDEAN:
-                return new FloatArrayPropertySimilarityComputer(properties, Euclidean::floatMetric);
+                return new FloatArrayPropertySimilarityComputer(
+                    properties,
+                    (left, right) -> Euclidean.floatMetric(kernel, left, right)
+                );
             case PEARSON:
-                return new FloatArrayPropertySimilarityComputer(properties, Pearson::floatMetric);
+                return new FloatArrayPropertySimilarityComputer(
+                    properties,
+                    (left, right) -> Pearson.floatMetric(kernel, left, right)
+                );
             default:
                 throw unsupportedSimilarityMetric(name, properties.valueType(), metric);
         }
@@ -131,13 +200,20 @@ public interface SimilarityComputer {
         NodePropertyValues nodePropertyValues,
         SimilarityMetric similarityMetric
     ) {
+        var kernel = SimilarityKernels.create();
         switch (similarityMetric) {
             case COSINE:
-                return new DoubleArrayPropertySimilarityComputer(nodePropertyValues, Cosine::doubleMetric);
+                return new DoubleArrayCosineSimilarityComputer(nodePropertyValues, kernel);
             case EUCLIDEAN:
-                return new DoubleArrayPropertySimilarityComputer(nodePropertyValues, Euclidean::doubleMetric);
+                return new DoubleArrayPropertySimilarityComputer(
+                    nodePropertyValues,
+                    (left, right) -> Euclidean.doubleMetric(kernel, left, right)
+                );
             case PEARSON:
-                return new DoubleArrayPropertySimilarityComputer(nodePropertyValues, Pearson::doubleMetric);
+                return new DoubleArrayPropertySimilarityComputer(
+                    nodePropertyValues,
+                    (left, right) -> Pearson.doubleMetric(kernel, left, right)
+                );
             default:
                 throw unsupportedSimilarityMetric(propertyName, nodePropertyValues.valueType(), similarityMetric);
         }
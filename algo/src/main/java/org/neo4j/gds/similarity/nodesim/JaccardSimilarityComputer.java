@@ -80,6 +80,22 @@ public class JaccardSimilarityComputer implements MetricSimilarityComputer {
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
 
+    @Override
+    public int minimumOverlap(int degree) {
+        if (similarityCutoff <= 0) {
+            return 0;
+        }
+        // |A ∩ B| / |A ∪ B| >= t implies |A ∩ B| >= t * |A|, the epsilon guards against rounding up exact products
+        return Math.max(1, (int) Math.ceil(similarityCutoff * degree - 1E-9));
+    }
+
+    @Override
+    public boolean canReachCutoff(int degree1, int degree2) {
+        // the similarity is at most min(|A|, |B|) / max(|A|, |B|)
+        int max = Math.max(degree1, degree2);
+        return max == 0 || Math.min(degree1, degree2) / (double) max >= similarityCutoff;
+    }
+
     static class Builder implements MetricSimilarityComputerBuilder {
         public MetricSimilarityComputer build(double similarityCutoff) {
             return new JaccardSimilarityComputer(similarityCutoff);
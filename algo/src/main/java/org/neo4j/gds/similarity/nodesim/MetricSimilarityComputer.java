@@ -28,6 +28,24 @@ public interface MetricSimilarityComputer {
 
     double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2);
 
+    /**
+     * The number of neighbours a node with the given degree needs to share with another node
+     * for their unweighted similarity to reach the similarity cutoff.
+     * A return value of {@code 0} means that nodes without common neighbours can reach the cutoff,
+     * in which case node pairs cannot be pruned.
+     */
+    default int minimumOverlap(int degree) {
+        return 0;
+    }
+
+    /**
+     * Whether nodes with the given degrees can reach the similarity cutoff at all.
+     * Used to prune node pairs before computing their unweighted similarity.
+     */
+    default boolean canReachCutoff(int degree1, int degree2) {
+        return true;
+    }
+
     static MetricSimilarityComputerBuilder parse(Object userInput) {
         if (userInput instanceof MetricSimilarityComputerBuilder) {
             return (MetricSimilarityComputerBuilder) userInput;
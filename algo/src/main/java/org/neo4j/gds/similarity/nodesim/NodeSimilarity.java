@@ -20,6 +20,7 @@
 package org.neo4j.gds.similarity.nodesim;
 
 import com.carrotsearch.hppc.BitSet;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
@@ -43,6 +44,9 @@ import java.util.stream.Stream;
 
 public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
+    // below this number of node pairs, building the prefix filtering index does not pay off
+    static final long PREFIX_FILTERING_MIN_NODE_PAIRS = 10_000;
+
     private final Graph graph;
     private final boolean sortVectors;
     private final NodeSimilarityBaseConfig config;
@@ -57,6 +61,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     private final MetricSimilarityComputer similarityComputer;
     private HugeObjectArray<long[]> vectors;
     private HugeObjectArray<double[]> weights;
+    private @Nullable PrefixFilteringIndex prefixFilteringIndex;
 
     private final boolean weighted;
 
@@ -222,6 +227,11 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             }
             return null;
         });
+
+        // without a cutoff that shortens prefixes, e.g. the default one, the index would hold every relationship
+        if (usePrefixFiltering() && PrefixFilteringIndex.shortensPrefixes(vectors, targetNodes, similarityComputer)) {
+            prefixFilteringIndex = PrefixFilteringIndex.create(vectors, targetNodes, similarityComputer);
+        }
         progressTracker.endSubTask();
     }
 
@@ -268,7 +278,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             .forEach(node1 -> {
                 long[] vector1 = vectors.get(node1);
                 if (sourceNodeFilter.equals(NodeFilter.noOp)) {
-                    targetNodesStream(node1 + 1)
+                    candidateTargetNodes(node1, true)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -282,8 +292,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                             }
                         });
                 } else {
-                    targetNodesStream()
-                        .filter(node2 -> node1 != node2)
+                    candidateTargetNodes(node1, false)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -318,8 +327,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                     // into these queues is not considered to be thread-safe.
                     // Hence, we need to ensure that down the stream, exactly one queue
                     // within the TopKMap processes all pairs for a single node.
-                    targetNodesStream()
-                        .filter(node2 -> node1 != node2)
+                    candidateTargetNodes(node1, false)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -347,7 +355,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                 long[] vector1 = vectors.get(node1);
 
                 if (sourceNodeFilter.equals(NodeFilter.noOp)) {
-                    targetNodesStream(node1 + 1)
+                    candidateTargetNodes(node1, true)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -360,8 +368,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
                             }
                         });
                 } else {
-                    targetNodesStream()
-                        .filter(node2 -> node1 != node2)
+                    candidateTargetNodes(node1, false)
                         .forEach(node2 -> {
                             double similarity = weighted
                                 ?
@@ -407,6 +414,28 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return targetNodesStream(0);
     }
 
+    /**
+     * The target nodes to compare {@code node1} with.
+     * With prefix filtering, only candidates that can reach the similarity cutoff are returned
+     * and progress is logged once per source node instead of once per compared pair.
+     */
+    private LongStream candidateTargetNodes(long node1, boolean onlyHigherNodes) {
+        if (prefixFilteringIndex != null) {
+            progressTracker.logProgress();
+            return LongStream.of(prefixFilteringIndex.candidates(node1, onlyHigherNodes));
+        }
+        return onlyHigherNodes
+            ? targetNodesStream(node1 + 1)
+            : targetNodesStream().filter(node2 -> node1 != node2);
+    }
+
+    private boolean usePrefixFiltering() {
+        // weighted similarities do not depend on the overlap alone, so we cannot prune them
+        return !weighted
+            && similarityComputer.minimumOverlap(0) > 0
+            && sourceNodes.cardinality() * targetNodes.cardinality() >= PREFIX_FILTERING_MIN_NODE_PAIRS;
+    }
+
     private double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2) {
         double similarity = similarityComputer.computeWeightedSimilarity(vector1, vector2, weights1, weights2);
         progressTracker.logProgress();
@@ -415,7 +444,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private double computeSimilarity(long[] vector1, long[] vector2) {
         double similarity = similarityComputer.computeSimilarity(vector1, vector2);
-        progressTracker.logProgress();
+        if (prefixFilteringIndex == null) {
+            progressTracker.logProgress();
+        }
         return similarity;
     }
 
@@ -428,6 +459,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private long calculateWorkload() {
+        if (prefixFilteringIndex != null) {
+            return sourceNodes.cardinality();
+        }
+
         //for each source node, examine all their target nodes
         //if no filter then sourceNodes == targetNodes
         long workload = sourceNodes.cardinality() * targetNodes.cardinality();
@@ -443,7 +478,7 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
     private Stream<SimilarityResult> computeSimilaritiesForNode(long node1) {
         long[] vector1 = vectors.get(node1);
-        return targetNodesStream(node1 + 1)
+        return candidateTargetNodes(node1, true)
             .mapToObj(node2 -> {
                 double similarity = weighted
                     ? computeWeightedSimilarity(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
@@ -87,6 +87,12 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> exte
                     .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
                     .build();
             }));
+        if (!config.hasRelationshipWeightProperty()) {
+            builder.add(
+                "prefix filtering index",
+                PrefixFilteringIndex.memoryEstimation(config.similarityMetric().build(config.similarityCutoff()))
+            );
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
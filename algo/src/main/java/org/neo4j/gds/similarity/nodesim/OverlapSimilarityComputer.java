@@ -77,6 +77,12 @@ class OverlapSimilarityComputer implements MetricSimilarityComputer {
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
 
+    @Override
+    public int minimumOverlap(int degree) {
+        // a single common neighbour can suffice if the other node has a small enough degree
+        return similarityCutoff > 0 ? 1 : 0;
+    }
+
     static class Builder implements MetricSimilarityComputerBuilder {
         @Override
         public MetricSimilarityComputer build(double similarityCutoff) {
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * An inverted index from neighbours to the target nodes that have them, used to prune node pairs
+ * that cannot reach the similarity cutoff without intersecting their neighbourhoods.
+ * <p>
+ * If two nodes need at least {@link MetricSimilarityComputer#minimumOverlap(int)} common neighbours,
+ * they share at least one neighbour within the first {@code degree - minimumOverlap(degree) + 1}
+ * entries of their sorted neighbourhoods (prefix filtering).
+ * Only these prefixes are indexed, and candidates are additionally filtered by
+ * {@link MetricSimilarityComputer#canReachCutoff(int, int)}.
+ * <p>
+ * The index only pays off if the cutoff makes at least one prefix shorter than its neighbourhood,
+ * see {@link #shortensPrefixes(HugeObjectArray, BitSet, MetricSimilarityComputer)}.
+ */
+public final class PrefixFilteringIndex {
+
+    private final HugeObjectArray<long[]> vectors;
+    private final MetricSimilarityComputer similarityComputer;
+    // for each neighbour, the target nodes with that neighbour in their prefix, in ascending order
+    private final HugeObjectArray<long[]> postings;
+
+    /**
+     * Estimates the index for the given similarity computer.
+     * The index is empty if the cutoff cannot shorten a prefix on a graph of the estimated size,
+     * otherwise it holds at most one entry per relationship.
+     * Whether it is built depends on the actual degrees, so the lower bound is always zero.
+     */
+    public static MemoryEstimation memoryEstimation(MetricSimilarityComputer similarityComputer) {
+        return MemoryEstimations.builder(PrefixFilteringIndex.class.getSimpleName())
+            .rangePerGraphDimension("postings", (dimensions, concurrency) -> {
+                long nodeCount = dimensions.nodeCount();
+                long entries = dimensions.relCountUpperBound();
+                int maxDegree = (int) Math.min(Integer.MAX_VALUE, Math.min(nodeCount, entries));
+                if ((double) nodeCount * nodeCount < NodeSimilarity.PREFIX_FILTERING_MIN_NODE_PAIRS
+                    || !shortensPrefix(maxDegree, similarityComputer)) {
+                    return MemoryRange.empty();
+                }
+                long postingSizes = HugeIntArray.memoryEstimation(nodeCount);
+                long postings = HugeObjectArray.memoryEstimation(nodeCount, 0)
+                                + Math.min(nodeCount, entries) * sizeOfLongArray(0)
+                                + entries * Long.BYTES;
+                return MemoryRange.of(0, postingSizes + postings);
+            })
+            .build();
+    }
+
+    /**
+     * Whether the cutoff makes the prefix of at least one target node shorter than its neighbourhood.
+     * Otherwise the index would contain every relationship without pruning any node pair.
+     */
+    static boolean shortensPrefixes(
+        HugeObjectArray<long[]> vectors,
+        BitSet targetNodes,
+        MetricSimilarityComputer similarityComputer
+    ) {
+        for (long node = targetNodes.nextSetBit(0); node >= 0; node = targetNodes.nextSetBit(node + 1)) {
+            if (shortensPrefix(vectors.get(node).length, similarityComputer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static PrefixFilteringIndex create(
+        HugeObjectArray<long[]> vectors,
+        BitSet targetNodes,
+        MetricSimilarityComputer similarityComputer
+    ) {
+        long nodeCount = vectors.size();
+        var postingSizes = HugeIntArray.newArray(nodeCount);
+        for (long node = targetNodes.nextSetBit(0); node >= 0; node = targetNodes.nextSetBit(node + 1)) {
+            long[] vector = vectors.get(node);
+            int prefixLength = prefixLength(vector, similarityComputer);
+            for (int i = 0; i < prefixLength; i++) {
+                postingSizes.addTo(vector[i], 1);
+            }
+        }
+
+        var postings = HugeObjectArray.newArray(long[].class, nodeCount);
+        for (long neighbour = 0; neighbour < nodeCount; neighbour++) {
+            int size = postingSizes.get(neighbour);
+            if (size > 0) {
+                postings.set(neighbour, new long[size]);
+                postingSizes.set(neighbour, 0);
+            }
+        }
+
+        // target nodes are visited in ascending order, so each posting list ends up sorted
+        for (long node = targetNodes.nextSetBit(0); node >= 0; node = targetNodes.nextSetBit(node + 1)) {
+            long[] vector = vectors.get(node);
+            int prefixLength = prefixLength(vector, similarityComputer);
+            for (int i = 0; i < prefixLength; i++) {
+                long neighbour = vector[i];
+                int offset = postingSizes.get(neighbour);
+                postings.get(neighbour)[offset] = node;
+                postingSizes.set(neighbour, offset + 1);
+            }
+        }
+
+        return new PrefixFilteringIndex(vectors, similarityComputer, postings);
+    }
+
+    private PrefixFilteringIndex(
+        HugeObjectArray<long[]> vectors,
+        MetricSimilarityComputer similarityComputer,
+        HugeObjectArray<long[]> postings
+    ) {
+        this.vectors = vectors;
+        this.similarityComputer = similarityComputer;
+        this.postings = postings;
+    }
+
+    /**
+     * Returns the target nodes that can reach the similarity cutoff with the given node, in ascending order.
+     *
+     * @param node            the node to find candidates for
+     * @param onlyHigherNodes whether to only return candidates with a higher node id than {@code node}
+     */
+    long[] candidates(long node, boolean onlyHigherNodes) {
+        long[] vector = vectors.get(node);
+        int prefixLength = prefixLength(vector, similarityComputer);
+
+        var candidates = new LongArrayList();
+        for (int i = 0; i < prefixLength; i++) {
+            long[] posting = postings.get(vector[i]);
+            if (posting == null) {
+                continue;
+            }
+            int start = onlyHigherNodes ? firstIndexAbove(posting, node) : 0;
+            for (int j = start; j < posting.length; j++) {
+                if (posting[j] != node) {
+                    candidates.add(posting[j]);
+                }
+            }
+        }
+
+        long[] buffer = candidates.buffer;
+        int size = candidates.size();
+        Arrays.sort(buffer, 0, size);
+
+        int count = 0;
+        long previous = -1;
+        for (int i = 0; i < size; i++) {
+            long candidate = buffer[i];
+            if (candidate == previous) {
+                continue;
+            }
+            previous = candidate;
+            if (similarityComputer.canReachCutoff(vector.length, vectors.get(candidate).length)) {
+                buffer[count++] = candidate;
+            }
+        }
+        return Arrays.copyOf(buffer, count);
+    }
+
+    private static int prefixLength(long[] vector, MetricSimilarityComputer similarityComputer) {
+        return prefixLength(vector.length, similarityComputer);
+    }
+
+    private static int prefixLength(int degree, MetricSimilarityComputer similarityComputer) {
+        return Math.max(0, degree - similarityComputer.minimumOverlap(degree) + 1);
+    }
+
+    private static boolean shortensPrefix(int degree, MetricSimilarityComputer similarityComputer) {
+        return prefixLength(degree, similarityComputer) < degree;
+    }
+
+    private static int firstIndexAbove(long[] posting, long node) {
+        int index = Arrays.binarySearch(posting, node);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
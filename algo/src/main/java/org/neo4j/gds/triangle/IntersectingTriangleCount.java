@@ -28,15 +28,15 @@ import org.neo4j.gds.api.RelationshipIntersect;
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.triangle.intersect.ImmutableRelationshipIntersectConfig;
 import org.neo4j.gds.triangle.intersect.RelationshipIntersectConfig;
 import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactory;
 import org.neo4j.gds.triangle.intersect.RelationshipIntersectFactoryLocator;
 
-import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
@@ -61,7 +61,6 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
     private final RelationshipIntersectConfig intersectConfig;
     private final TriangleCountBaseConfig config;
     private ExecutorService executorService;
-    private final AtomicLong queue;
 
     // results
     private final HugeAtomicLongArray triangleCounts;
@@ -107,21 +106,28 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
         this.executorService = executorService;
         this.triangleCounts = HugeAtomicLongArray.newArray(graph.nodeCount());
         this.globalTriangleCounter = new LongAdder();
-        this.queue = new AtomicLong();
     }
 
     @Override
     public TriangleCountResult compute() {
         progressTracker.beginSubTask();
-        queue.set(0);
         globalTriangleCounter.reset();
-        // create tasks
-        final Collection<? extends Runnable> tasks = ParallelUtil.tasks(
+        // intersects are expensive to create, so they are reused across partitions
+        var idleTasks = new ConcurrentLinkedQueue<IntersectTask>();
+        ParallelUtil.parallelForEachPartition(
+            graph.nodeCount(),
+            graph::degree,
             config.concurrency(),
-            () -> new IntersectTask(intersectFactory.load(graph, intersectConfig))
+            executorService,
+            partition -> () -> {
+                var task = idleTasks.poll();
+                if (task == null) {
+                    task = new IntersectTask(intersectFactory.load(graph, intersectConfig));
+                }
+                task.run(partition);
+                idleTasks.offer(task);
+            }
         );
-        // run
-        ParallelUtil.run(tasks, executorService);
 
         globalTriangleCount = globalTriangleCounter.longValue();
 
@@ -132,7 +138,7 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
         );
     }
 
-    private class IntersectTask implements Runnable, IntersectionConsumer {
+    private class IntersectTask implements IntersectionConsumer {
 
         private final RelationshipIntersect intersect;
 
@@ -140,10 +146,9 @@ public final class IntersectingTriangleCount extends Algorithm<IntersectingTrian
             intersect = relationshipIntersect;
         }
 
-        @Override
-        public void run() {
-            long node;
-            while ((node = queue.getAndIncrement()) < graph.nodeCount() && terminationFlag.running()) {
+        void run(Partition partition) {
+            long endNode = partition.startNode() + partition.nodeCount();
+            for (long node = partition.startNode(); node < endNode && terminationFlag.running(); node++) {
                 if (graph.degree(node) <= config.maxDegree()) {
                     intersect.intersectAll(node, this);
                 } else {
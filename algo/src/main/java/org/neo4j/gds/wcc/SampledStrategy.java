@@ -29,16 +29,12 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.gds.core.utils.partition.Partition;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Function;
 import java.util.function.LongConsumer;
-import java.util.stream.Collectors;
 
 import static org.neo4j.gds.core.utils.TerminationFlag.RUN_CHECK_NODE_COUNT;
 
@@ -56,6 +52,7 @@ final class SampledStrategy {
     private final Graph graph;
     private final DisjointSetStruct disjointSetStruct;
     private final int concurrency;
+    private final int minBatchSize;
 
     private final Optional<Double> threshold;
 
@@ -68,6 +65,7 @@ final class SampledStrategy {
         Graph graph,
         DisjointSetStruct disjointSetStruct,
         int concurrency,
+        int minBatchSize,
         Optional<Double> threshold,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker,
@@ -76,6 +74,7 @@ final class SampledStrategy {
         this.graph = graph;
         this.disjointSetStruct = disjointSetStruct;
         this.concurrency = concurrency;
+        this.minBatchSize = minBatchSize;
         this.threshold = threshold;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
@@ -83,31 +82,29 @@ final class SampledStrategy {
     }
 
     void compute() {
-        var partitions = PartitionUtils.rangePartition(
-            this.concurrency,
-            graph.nodeCount(),
-            Function.identity(),
-            Optional.empty()
-        );
-
-        sampleSubgraph(disjointSetStruct, partitions);
+        sampleSubgraph(disjointSetStruct);
         long largestComponent = findLargestComponent(disjointSetStruct);
-        linkRemaining(disjointSetStruct, partitions, largestComponent);
+        linkRemaining(disjointSetStruct, largestComponent);
     }
 
     /**
      * Processes a sparse samples subgraph first for approximating components.
      * Samples by processing a fixed number of neighbors for each node.
      */
-    private void sampleSubgraph(DisjointSetStruct components, List<Partition> partitions) {
-        var tasks = partitions
-            .stream()
-            .map(partition -> this.threshold.isPresent()
+    private void sampleSubgraph(DisjointSetStruct components) {
+        // sampling visits at most NEIGHBOR_ROUNDS relationships per node
+        ParallelUtil.parallelForEachPartition(
+            graph.nodeCount(),
+            node -> Math.min(NEIGHBOR_ROUNDS, graph.degree(node)),
+            concurrency,
+            minBatchSize,
+            executorService,
+            partition -> this.threshold.isPresent()
                 ? new SamplingWithThresholdTask(
                 graph,
                 threshold.get(),
                 partition,
-                disjointSetStruct,
+                components,
                 progressTracker,
                 terminationFlag
             ) : new SamplingTask(
@@ -116,10 +113,8 @@ final class SampledStrategy {
                 components,
                 progressTracker,
                 terminationFlag
-            ))
-            .collect(Collectors.toList());
-
-        ParallelUtil.run(tasks, executorService);
+            )
+        );
     }
 
     /**
@@ -154,10 +149,14 @@ final class SampledStrategy {
      *
      * Skips nodes that are already contained in the largest component.
      */
-    private void linkRemaining(DisjointSetStruct components, List<Partition> partitions, long largestComponent) {
-        var tasks = partitions
-            .stream()
-            .map(partition -> this.threshold.isPresent()
+    private void linkRemaining(DisjointSetStruct components, long largestComponent) {
+        ParallelUtil.parallelForEachPartition(
+            graph.nodeCount(),
+            graph::degree,
+            concurrency,
+            minBatchSize,
+            executorService,
+            partition -> this.threshold.isPresent()
                 ? new LinkWithThresholdTask(
                 graph,
                 threshold.get(),
@@ -173,9 +172,8 @@ final class SampledStrategy {
                 components,
                 progressTracker,
                 terminationFlag
-            ))
-            .collect(Collectors.toList());
-        ParallelUtil.run(tasks, executorService);
+            )
+        );
     }
 
     static class SamplingTask implements Runnable, RelationshipConsumer {
@@ -28,7 +28,6 @@ import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.dss.DisjointSetStruct;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
-import java.util.ArrayList;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
@@ -38,8 +37,8 @@ final class UnsampledStrategy {
 
     private final Graph graph;
     private final DisjointSetStruct disjointSetStruct;
-    private final long batchSize;
-    private final int threadSize;
+    private final int concurrency;
+    private final int minBatchSize;
 
     private final Optional<Double> threshold;
 
@@ -51,7 +50,8 @@ final class UnsampledStrategy {
     UnsampledStrategy(
         Graph graph,
         DisjointSetStruct disjointSetStruct,
-        long batchSize,
+        int concurrency,
+        int minBatchSize,
         Optional<Double> threshold,
         TerminationFlag terminationFlag,
         ProgressTracker progressTracker,
@@ -59,8 +59,8 @@ final class UnsampledStrategy {
     ) {
         this.graph = graph;
         this.disjointSetStruct = disjointSetStruct;
-        this.batchSize = batchSize;
-        this.threadSize = (int) ParallelUtil.threadCount(batchSize, graph.nodeCount());
+        this.concurrency = concurrency;
+        this.minBatchSize = minBatchSize;
         this.threshold = threshold;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
@@ -68,23 +68,30 @@ final class UnsampledStrategy {
     }
 
     void compute() {
-        var tasks = new ArrayList<Runnable>(threadSize);
-        for (long offset = 0L; offset < this.graph.nodeCount(); offset += this.batchSize) {
-            var unionTask = threshold.isEmpty()
-                ? new UnionTask(graph, disjointSetStruct, offset, batchSize, terminationFlag, progressTracker)
-                : new UnionWithThresholdTask(
-                    graph,
-                    disjointSetStruct,
-                    threshold.get(),
-                    offset,
-                    batchSize,
-                    terminationFlag,
-                    progressTracker
-                );
-
-            tasks.add(unionTask);
-        }
-        ParallelUtil.run(tasks, executorService);
+        ParallelUtil.parallelForEachPartition(
+            graph.nodeCount(),
+            graph::degree,
+            concurrency,
+            minBatchSize,
+            executorService,
+            partition -> threshold.isEmpty()
+                ? new UnionTask(
+                graph,
+                disjointSetStruct,
+                partition.startNode(),
+                partition.nodeCount(),
+                terminationFlag,
+                progressTracker
+            ) : new UnionWithThresholdTask(
+                graph,
+                disjointSetStruct,
+                threshold.get(),
+                partition.startNode(),
+                partition.nodeCount(),
+                terminationFlag,
+                progressTracker
+            )
+        );
     }
 
     static class UnionTask implements Runnable, RelationshipConsumer {
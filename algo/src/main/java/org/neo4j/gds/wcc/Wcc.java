@@ -57,7 +57,7 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
     private final WccBaseConfig config;
     private final NodePropertyValues initialComponents;
     private final ExecutorService executorService;
-    private final long batchSize;
+    private final int minBatchSize;
 
     private Graph graph;
 
@@ -83,7 +83,9 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
             : null;
         this.executorService = executor;
 
-        this.batchSize = ParallelUtil.adjustedBatchSize(
+        this.minBatchSize = minBatchSize;
+
+        long batchSize = ParallelUtil.adjustedBatchSize(
             graph.nodeCount(),
             config.concurrency(),
             minBatchSize,
@@ -116,6 +118,7 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
                 .disjointSetStruct(disjointSetStruct)
                 .threshold(threshold())
                 .concurrency(config.concurrency())
+                .minBatchSize(minBatchSize)
                 .terminationFlag(terminationFlag)
                 .progressTracker(progressTracker)
                 .executorService(executorService)
@@ -126,7 +129,8 @@ public class Wcc extends Algorithm<DisjointSetStruct> {
                 .graph(graph)
                 .disjointSetStruct(disjointSetStruct)
                 .threshold(threshold())
-                .batchSize(batchSize)
+                .concurrency(config.concurrency())
+                .minBatchSize(minBatchSize)
                 .terminationFlag(terminationFlag)
                 .progressTracker(progressTracker)
                 .executorService(executorService)
@@ -37,8 +37,8 @@ import org.neo4j.gds.core.loading.LabelInformationBuilders;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
@@ -121,7 +121,7 @@ public class FastRPTest {
         var scalarProperties = List.of("f1", "f2", "f3");
         var scalarEmbeddings = embeddings(scalarGraph, scalarProperties);
         for (int i = 0; i < arrayGraph.nodeCount(); i++) {
-            assertThat(arrayEmbeddings.get(i)).contains(scalarEmbeddings.get(i));
+            assertThat(arrayEmbeddings.row(i)).contains(scalarEmbeddings.row(i));
         }
     }
 
@@ -143,15 +143,14 @@ public class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 2);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 2);
+        HugeFloatMatrix randomVectors = fastRP.currentEmbedding(-1);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
-        float[] expected = randomVectors.get(1);
+        float[] expected = randomVectors.row(1);
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).isEqualTo(expected);
+        assertThat(embeddings.row(0)).isEqualTo(expected);
     }
 
     @Test
@@ -172,18 +171,17 @@ public class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        HugeFloatMatrix randomVectors = fastRP.currentEmbedding(-1);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
-            expected[i] = (randomVectors.get(1)[i] + randomVectors.get(2)[i]) / 2.0f;
+            expected[i] = (randomVectors.row(1)[i] + randomVectors.row(2)[i]) / 2.0f;
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.row(0)).containsExactly(expected);
     }
 
     @Test
@@ -225,13 +223,13 @@ public class FastRPTest {
         initial1[2] = -0.5f;
         initial2[5] = -3.0f;
         initial2[4] = -0.5f;
-        initialRandomVectors.set(0, initial0);
-        initialRandomVectors.set(1, initial1);
-        initialRandomVectors.set(2, initial2);
+        initialRandomVectors.setRow(0, initial0);
+        initialRandomVectors.setRow(1, initial1);
+        initialRandomVectors.setRow(2, initial2);
 
         fastRP.addInitialVectorsToEmbedding();
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
 
         var expected0 = new float[embeddingDimension];
@@ -247,9 +245,9 @@ public class FastRPTest {
         expected2[5] = -3.0f * scale2;
         expected2[4] = -0.5f * scale2;
 
-        assertThat(embeddings.get(0)).containsExactly(expected0, Offset.offset(1e-6f));
-        assertThat(embeddings.get(1)).containsExactly(expected1, Offset.offset(1e-6f));
-        assertThat(embeddings.get(2)).containsExactly(expected2, Offset.offset(1e-6f));
+        assertThat(embeddings.row(0)).containsExactly(expected0, Offset.offset(1e-6f));
+        assertThat(embeddings.row(1)).containsExactly(expected1, Offset.offset(1e-6f));
+        assertThat(embeddings.row(2)).containsExactly(expected2, Offset.offset(1e-6f));
     }
 
     @Test
@@ -289,17 +287,17 @@ public class FastRPTest {
 
         assertThat(initialPropComponentOfNodeVector1)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(0), DEFAULT_CONFIG.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(0), DEFAULT_CONFIG.propertyDimension()),
                 Offset.offset(1e-6f)
             );
         assertThat(initialPropComponentOfNodeVector2)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(1), DEFAULT_CONFIG.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(1), DEFAULT_CONFIG.propertyDimension()),
                 Offset.offset(1e-6f)
             );
         assertThat(initialPropComponentOfNodeVector3)
             .contains(
-                takeLastElements(fastRP.currentEmbedding(-1).get(2), DEFAULT_CONFIG.propertyDimension()),
+                takeLastElements(fastRP.currentEmbedding(-1).row(2), DEFAULT_CONFIG.propertyDimension()),
                 Offset.offset(1e-6f)
             );
     }
@@ -328,7 +326,7 @@ public class FastRPTest {
         );
 
         concurrentFastRP.compute();
-        HugeObjectArray<float[]> concurrentEmbeddings = concurrentFastRP.embeddings();
+        HugeFloatMatrix concurrentEmbeddings = concurrentFastRP.embeddings();
 
         FastRP sequentialFastRP = new FastRP(
             graph,
@@ -338,10 +336,10 @@ public class FastRPTest {
         );
 
         sequentialFastRP.compute();
-        HugeObjectArray<float[]> sequentialEmbeddings = sequentialFastRP.embeddings();
+        HugeFloatMatrix sequentialEmbeddings = sequentialFastRP.embeddings();
 
         graph.forEachNode(nodeId -> {
-            assertThat(concurrentEmbeddings.get(nodeId)).containsExactly(sequentialEmbeddings.get(nodeId));
+            assertThat(concurrentEmbeddings.row(nodeId)).containsExactly(sequentialEmbeddings.row(nodeId));
             return true;
         });
     }
@@ -371,18 +369,17 @@ public class FastRPTest {
         fastRP.initDegreePartition();
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = HugeObjectArray.newArray(float[].class, 3);
-        fastRP.currentEmbedding(-1).copyTo(randomVectors, 3);
+        HugeFloatMatrix randomVectors = fastRP.currentEmbedding(-1);
         fastRP.propagateEmbeddings();
-        HugeObjectArray<float[]> embeddings = fastRP.embeddings();
+        HugeFloatMatrix embeddings = fastRP.embeddings();
 
         float[] expected = new float[DEFAULT_EMBEDDING_DIMENSION];
         for (int i = 0; i < DEFAULT_EMBEDDING_DIMENSION; i++) {
-            expected[i] = (2.0f * randomVectors.get(1)[i] + randomVectors.get(2)[i]) / 2.0f;
+            expected[i] = (2.0f * randomVectors.row(1)[i] + randomVectors.row(2)[i]) / 2.0f;
         }
         l2Normalize(expected);
 
-        assertThat(embeddings.get(0)).containsExactly(expected);
+        assertThat(embeddings.row(0)).containsExactly(expected);
     }
 
     @Test
@@ -405,10 +402,10 @@ public class FastRPTest {
 
         fastRP.initPropertyVectors();
         fastRP.initRandomVectors();
-        HugeObjectArray<float[]> randomVectors = fastRP.currentEmbedding(-1);
+        HugeFloatMatrix randomVectors = fastRP.currentEmbedding(-1);
 
         for (int i = 0; i < graph.nodeCount(); i++) {
-            float[] embedding = randomVectors.get(i);
+            float[] embedding = randomVectors.row(i);
             int numZeros = 0;
             int numPositive = 0;
             for (int j = 0; j < 512; j++) {
@@ -447,8 +444,8 @@ public class FastRPTest {
 
         var embeddings = fastRP.embeddings();
 
-        for (int i = 0; i < embeddings.size(); i++) {
-            assertThat(embeddings.get(i)).containsOnly(0f);
+        for (int i = 0; i < embeddings.rows(); i++) {
+            assertThat(embeddings.row(i)).containsOnly(0f);
         }
     }
 
@@ -463,7 +460,7 @@ public class FastRPTest {
         var dimensions = ImmutableGraphDimensions.builder().nodeCount(100).build();
 
         var estimate = FastRP.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
-        assertMemoryRange(estimate, 159_736);
+        assertMemoryRange(estimate, 153_856);
     }
 
     @Test
@@ -477,7 +474,7 @@ public class FastRPTest {
         var dimensions = ImmutableGraphDimensions.builder().nodeCount(100).build();
 
         var estimate = FastRP.memoryEstimation(config).estimate(dimensions, 1).memoryUsage();
-        assertMemoryRange(estimate, 159_736);
+        assertMemoryRange(estimate, 153_856);
     }
 
     @Test
@@ -691,15 +688,15 @@ public class FastRPTest {
 
         double cosineSum = 0;
         for (long originalNodeId = 0; originalNodeId < nodeCount; originalNodeId++) {
-            var firstVector = firstEmbeddings.get(firstGraph.toMappedNodeId(originalNodeId));
-            var secondVector = secondEmbeddings.get(secondGraph.toMappedNodeId(originalNodeId));
+            var firstVector = firstEmbeddings.row(firstGraph.toMappedNodeId(originalNodeId));
+            var secondVector = secondEmbeddings.row(secondGraph.toMappedNodeId(originalNodeId));
             double cosine = Intersections.cosine(firstVector, secondVector, secondVector.length);
             cosineSum += cosine;
         }
         assertThat(cosineSum / nodeCount).isCloseTo(1, Offset.offset(0.000001));
     }
 
-    private HugeObjectArray<float[]> embeddings(Graph graph, List<String> properties) {
+    private HugeFloatMatrix embeddings(Graph graph, List<String> properties) {
         var fastRPArray = new FastRP(
             graph,
             DEFAULT_CONFIG,
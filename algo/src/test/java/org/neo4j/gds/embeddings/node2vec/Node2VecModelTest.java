@@ -26,6 +26,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.core.utils.Intersections;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.helper.FloatVectorTestUtils;
+import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.Random;
 import java.util.stream.LongStream;
@@ -87,8 +88,8 @@ class Node2VecModelTest {
 
         var embeddings = trainResult.embeddings();
 
-        for (long idx = 0; idx < embeddings.size(); idx++) {
-            assertThat(FloatVectorTestUtils.notContainsNaN(embeddings.get(idx))).isTrue();
+        for (long idx = 0; idx < embeddings.rows(); idx++) {
+            assertThat(FloatVectorTestUtils.notContainsNaN(new FloatVector(embeddings.row(idx)))).isTrue();
         }
 
         double innerClusterSum = LongStream.range(0, numberOfClusters)
@@ -99,10 +100,8 @@ class Node2VecModelTest {
                     .flatMap(nodeId ->
                         LongStream.range(0, clusterSize)
                             .mapToObj(ignore -> {
-                                var e1 = embeddings.get(nodeId).data();
-                                var e2 = embeddings
-                                    .get(random.nextInt(clusterSize) + (clusterId * clusterSize))
-                                    .data();
+                                var e1 = embeddings.row(nodeId);
+                                var e2 = embeddings.row(random.nextInt(clusterSize) + (clusterId * clusterSize));
                                 return Intersections.cosine(e1, e2, e1.length);
                             })
                     )
@@ -125,10 +124,8 @@ class Node2VecModelTest {
                         LongStream.range(0, clusterSize)
                             .mapToObj(ignore -> {
                                 long otherClusterId = (clusterId + random.nextInt(numberOfClusters - 1) + 1) % numberOfClusters;
-                                var e1 = embeddings.get(nodeId).data();
-                                var e2 = embeddings
-                                    .get(random.nextInt(clusterSize) + (otherClusterId * clusterSize))
-                                    .data();
+                                var e1 = embeddings.row(nodeId);
+                                var e2 = embeddings.row(random.nextInt(clusterSize) + (otherClusterId * clusterSize));
                                 return Intersections.cosine(e1, e2, e1.length);
                             })
                     )
@@ -195,7 +192,7 @@ class Node2VecModelTest {
         var otherEmbeddings = otherNode2VecModel.train().embeddings();
 
         for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
-            assertThat(embeddings.get(nodeId)).isEqualTo(otherEmbeddings.get(nodeId));
+            assertThat(embeddings.row(nodeId)).isEqualTo(otherEmbeddings.row(nodeId));
         }
     }
 
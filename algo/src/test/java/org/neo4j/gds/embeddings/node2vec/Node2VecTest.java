@@ -50,14 +50,13 @@ import org.neo4j.gds.core.loading.LabelInformationBuilders;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
 import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.paged.HugeFloatMatrix;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.shuffle.ShuffleUtil;
 import org.neo4j.gds.embeddings.node2vec.Node2VecBaseConfig.EmbeddingInitializer;
 import org.neo4j.gds.gdl.GdlFactory;
-import org.neo4j.gds.ml.core.tensor.FloatVector;
 
 import java.util.List;
 import java.util.Optional;
@@ -101,14 +100,14 @@ class Node2VecTest extends BaseTest {
             .graph();
 
         int embeddingDimension = 128;
-        HugeObjectArray<FloatVector> node2Vec = new Node2Vec(
+        HugeFloatMatrix node2Vec = new Node2Vec(
             graph,
             ImmutableNode2VecStreamConfig.builder().embeddingDimension(embeddingDimension).build(),
             ProgressTracker.NULL_TRACKER
         ).compute().embeddings();
 
         graph.forEachNode(node -> {
-                assertEquals(embeddingDimension, node2Vec.get(node).data().length);
+                assertEquals(embeddingDimension, node2Vec.row(node).length);
                 return true;
             }
         );
@@ -241,7 +240,7 @@ class Node2VecTest extends BaseTest {
         ).compute().embeddings();
 
         for (long node = 0; node < graph.nodeCount(); node++) {
-            softly.assertThat(otherEmbeddings.get(node)).isEqualTo(embeddings.get(node));
+            softly.assertThat(otherEmbeddings.row(node)).isEqualTo(embeddings.row(node));
         }
     }
 
@@ -341,9 +340,9 @@ class Node2VecTest extends BaseTest {
 
         double cosineSum = 0;
         for (long originalNodeId = 0; originalNodeId < nodeCount; originalNodeId++) {
-            var firstVector = firstEmbeddings.get(firstGraph.toMappedNodeId(originalNodeId));
-            var secondVector = secondEmbeddings.get(secondGraph.toMappedNodeId(originalNodeId));
-            double cosine = Intersections.cosine(firstVector.data(), secondVector.data(), secondVector.data().length);
+            var firstVector = firstEmbeddings.row(firstGraph.toMappedNodeId(originalNodeId));
+            var secondVector = secondEmbeddings.row(secondGraph.toMappedNodeId(originalNodeId));
+            double cosine = Intersections.cosine(firstVector, secondVector, secondVector.length);
             cosineSum += cosine;
         }
         //There's no hard cutoff on the average cosineSim.
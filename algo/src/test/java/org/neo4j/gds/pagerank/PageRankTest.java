@@ -614,9 +614,9 @@ class PageRankTest {
 
     static Stream<Arguments> expectedMemoryEstimation() {
         return Stream.of(
-            Arguments.of(1, 2412832L, 2412832L),
-            Arguments.of(4, 2413000L, 2413000L),
-            Arguments.of(42, 2415128L, 2415128L)
+            Arguments.of(1, 2498600L, 2498600L),
+            Arguments.of(4, 2560496L, 2560496L),
+            Arguments.of(42, 3344512L, 3344512L)
         );
     }
 
@@ -672,7 +672,7 @@ class PageRankTest {
             nodeCount,
             relationshipCount,
             4,
-            MemoryRange.of(241_286_621_640L, 241_286_621_640L)
+            MemoryRange.of(247_787_314_496L, 247_787_314_496L)
         );
     }
 
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@GdlExtension
+class HnswIndexTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A { vector: [1.0, 0.0] })" +
+        ", (b:A { vector: [0.9, 0.1] })" +
+        ", (c:A { vector: [0.0, 1.0] })" +
+        ", (d:A { vector: [0.1, 0.9] })" +
+        ", (e:B { vector: [1.0, 0.05] })";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @Test
+    void shouldFindApproximateNearestNeighbours() {
+        int nodeCount = 2_000;
+        int k = 10;
+        var vectors = randomVectors(nodeCount, 16, 42L);
+        var index = index(vectors, 8, 100, 1337L);
+
+        LongStream.range(0, nodeCount).forEach(index::insert);
+        assertThat(index.size()).isEqualTo(nodeCount);
+
+        var similarityComputer = similarityComputer(vectors);
+        double hits = 0;
+        int queries = 50;
+        for (long queryNode = 0; queryNode < queries; queryNode++) {
+            long node = queryNode;
+            var exact = LongStream
+                .range(0, nodeCount)
+                .filter(other -> other != node)
+                .boxed()
+                .sorted(Comparator.comparingDouble(other -> -similarityComputer.similarity(node, other)))
+                .limit(k)
+                .collect(Collectors.toSet());
+
+            var approximate = index.search(queryNode, k, 64);
+            assertThat(approximate).hasSize(k);
+            hits += approximate.stream().filter(result -> exact.contains(result.node2)).count();
+        }
+
+        assertThat(hits / (queries * k)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    void shouldReturnResultsInDescendingOrderWithoutTheQueryNode() {
+        var vectors = randomVectors(500, 8, 7L);
+        var index = index(vectors, 4, 50, 42L);
+        LongStream.range(0, 500).forEach(index::insert);
+
+        var results = index.search(3, 20, 32);
+
+        assertThat(results)
+            .hasSize(20)
+            .allSatisfy(result -> {
+                assertThat(result.node1).isEqualTo(3);
+                assertThat(result.node2).isNotEqualTo(3);
+            })
+            .isSortedAccordingTo(SimilarityResult.DESCENDING);
+    }
+
+    @Test
+    void shouldInsertIncrementally() {
+        var vectors = randomVectors(100, 4, 1L);
+        var index = index(vectors, 4, 16, 42L);
+
+        assertThat(index.search(0, 5, 10)).isEmpty();
+        assertThat(index.maxLevel()).isEqualTo(-1);
+
+        LongStream.range(0, 50).forEach(index::insert);
+        assertThat(index.size()).isEqualTo(50);
+        assertThat(index.insert(10)).isFalse();
+        assertThat(index.size()).isEqualTo(50);
+
+        // nodes outside the index can be used as query nodes
+        assertThat(index.search(75, 5, 10))
+            .hasSize(5)
+            .allSatisfy(result -> assertThat(result.node2).isLessThan(50));
+
+        assertThat(index.contains(75)).isFalse();
+        assertThat(index.insert(75)).isTrue();
+        assertThat(index.contains(75)).isTrue();
+        // node 75 is a copy of node 0
+        assertThat(index.search(0, 1, 10))
+            .extracting(result -> result.node2)
+            .containsExactly(75L);
+    }
+
+    @Test
+    void shouldBeDeterministicWhenBuiltSingleThreaded() {
+        var vectors = randomVectors(300, 8, 3L);
+        var first = index(vectors, 6, 32, 99L);
+        var second = index(vectors, 6, 32, 99L);
+        LongStream.range(0, 300).forEach(nodeId -> {
+            first.insert(nodeId);
+            second.insert(nodeId);
+        });
+
+        assertThat(first.maxLevel()).isEqualTo(second.maxLevel());
+        for (long nodeId = 0; nodeId < 300; nodeId += 37) {
+            assertThat(first.search(nodeId, 10, 20))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(second.search(nodeId, 10, 20));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldBuildOverLabelFilteredNodes(int concurrency) {
+        var index = HnswIndex.create(
+            graphStore.nodes(),
+            "vector",
+            graphStore.nodeProperty("vector").values(),
+            SimilarityMetric.DEFAULT,
+            4,
+            16,
+            42L
+        );
+        var nodesToIndex = graphStore.getGraph(NodeLabel.of("A"));
+
+        new Hnsw(nodesToIndex, index, concurrency, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.similarityMetric()).isEqualTo(SimilarityMetric.COSINE);
+
+        long e = graphStore.nodes().toMappedNodeId(idFunction.of("e"));
+        assertThat(index.search(e, 1, 4))
+            .extracting(result -> graphStore.nodes().toOriginalNodeId(result.node2))
+            .containsExactly(idFunction.of("a"));
+
+        index.insert(e);
+        long a = graphStore.nodes().toMappedNodeId(idFunction.of("a"));
+        assertThat(index.search(a, 1, 4))
+            .extracting(result -> graphStore.nodes().toOriginalNodeId(result.node2))
+            .containsExactly(idFunction.of("e"));
+    }
+
+    @Test
+    void shouldOnlyBeBuiltOnItsOwnPropertyValues() {
+        var propertyValues = graphStore.nodeProperty("vector").values();
+        var index = HnswIndex.create(
+            graphStore.nodes(),
+            "vector",
+            propertyValues,
+            SimilarityMetric.DEFAULT,
+            4,
+            16,
+            42L
+        );
+
+        assertThat(index.isBuiltOn(propertyValues)).isTrue();
+        assertThat(index.isBuiltOn(new TestVectors(new double[0][]))).isFalse();
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        var dimensions = GraphDimensions.of(10_000);
+        var cosine = HnswIndex.memoryEstimation(16, 200, SimilarityMetric.COSINE).estimate(dimensions, 4).memoryUsage();
+        var euclidean = HnswIndex.memoryEstimation(16, 200, SimilarityMetric.EUCLIDEAN).estimate(dimensions, 4).memoryUsage();
+
+        // the base layer alone holds 2 * maxConnections longs per node
+        assertThat(euclidean.min).isGreaterThan(10_000L * 2 * 16 * Long.BYTES);
+        assertThat(cosine.min - euclidean.min).isEqualTo(HugeDoubleArray.memoryEstimation(10_000));
+    }
+
+    @Test
+    void shouldFailOnUnsupportedPropertyType() {
+        var idMap = graphStore.nodes();
+        assertThatThrownBy(() -> HnswIndex.create(
+            idMap,
+            "vector",
+            new TestLongValues(),
+            SimilarityMetric.DEFAULT,
+            4,
+            16,
+            42L
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("unsupported type [LONG]");
+    }
+
+    private static HnswIndex index(double[][] vectors, int maxConnections, int efConstruction, long randomSeed) {
+        var propertyValues = new TestVectors(vectors);
+        return new HnswIndex(
+            vectors.length,
+            "vector",
+            propertyValues,
+            SimilarityMetric.COSINE,
+            similarityComputer(propertyValues),
+            maxConnections,
+            efConstruction,
+            randomSeed
+        );
+    }
+
+    private static SimilarityComputer similarityComputer(double[][] vectors) {
+        return similarityComputer(new TestVectors(vectors));
+    }
+
+    private static SimilarityComputer similarityComputer(TestVectors vectors) {
+        return SimilarityComputer.ofDoubleArrayProperty("vector", vectors, SimilarityMetric.COSINE);
+    }
+
+    private static double[][] randomVectors(int count, int dimension, long seed) {
+        var random = new SplittableRandom(seed);
+        var vectors = new double[count][];
+        Arrays.setAll(vectors, ignore -> random.doubles(dimension, -1, 1).toArray());
+        if (count > 75) {
+            vectors[75] = vectors[0].clone();
+        }
+        return vectors;
+    }
+
+    private static final class TestVectors implements DoubleArrayNodePropertyValues {
+        private final double[][] vectors;
+
+        TestVectors(double[][] vectors) {
+            this.vectors = vectors;
+        }
+
+        @Override
+        public double[] doubleArrayValue(long nodeId) {
+            return vectors[(int) nodeId];
+        }
+
+        @Override
+        public long nodeCount() {
+            return vectors.length;
+        }
+    }
+
+    private static final class TestLongValues implements LongNodePropertyValues {
+        @Override
+        public long longValue(long nodeId) {
+            return nodeId;
+        }
+
+        @Override
+        public long nodeCount() {
+            return 0;
+        }
+    }
+}
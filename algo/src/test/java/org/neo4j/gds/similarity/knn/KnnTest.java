@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -47,6 +48,8 @@ import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
 import org.neo4j.gds.nodeproperties.DoubleTestPropertyValues;
 import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
+import org.neo4j.gds.similarity.knn.metrics.Cosine;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
 
@@ -58,6 +61,7 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -683,4 +687,101 @@ class KnnTest {
             softly.assertThat(result.neighborsOf(nodeGId)).contains(nodeFId);
         }
     }
+
+    @Nested
+    class QuantizationTest {
+
+        @GdlGraph
+        private static final String DB_CYPHER =
+            "CREATE" +
+            "  (a { knn: [1.0, 0.9, 0.1, 0.2] } )" +
+            ", (b { knn: [0.9, 1.0, 0.2, 0.1] } )" +
+            ", (c { knn: [0.8, 1.1, 0.3, 0.3] } )" +
+            ", (d { knn: [-1.0, -0.9, 0.8, 0.7] } )" +
+            ", (e { knn: [-0.9, -1.0, 0.7, 0.8] } )" +
+            ", (f { knn: [-0.8, -1.1, 0.9, 0.9] } )";
+
+        @ParameterizedTest
+        @EnumSource(value = Quantization.class, names = {"INT8", "BINARY"})
+        void shouldFindNeighborsOnQuantizedVectorsAndReportFullPrecisionSimilarities(Quantization quantization) {
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("knn")))
+                .topK(2)
+                .randomSeed(42L)
+                .concurrency(1)
+                .quantization(quantization)
+                .build();
+            var knn = Knn.createWithDefaults(graph, config, KnnContext.empty());
+            var result = knn.compute();
+
+            var firstCluster = new long[]{idFunction.of("a"), idFunction.of("b"), idFunction.of("c")};
+            var secondCluster = new long[]{idFunction.of("d"), idFunction.of("e"), idFunction.of("f")};
+            for (var cluster : List.of(firstCluster, secondCluster)) {
+                for (long nodeId : cluster) {
+                    var expectedNeighbors = LongStream.of(cluster).filter(other -> other != nodeId).toArray();
+                    assertThat(result.neighborsOf(nodeId).toArray()).containsExactlyInAnyOrder(expectedNeighbors);
+                }
+            }
+
+            var properties = graph.nodeProperties("knn");
+            assertThat(result.streamSimilarityResult()).allSatisfy(similarityResult -> assertThat(similarityResult.similarity)
+                .isEqualTo(Cosine.floatMetric(
+                    properties.floatArrayValue(similarityResult.sourceNodeId()),
+                    properties.floatArrayValue(similarityResult.targetNodeId())
+                )));
+            assertThat(result.totalSimilarityPairs()).isEqualTo(6 * 2);
+        }
+
+        @Test
+        void shouldRerankMoreCandidatesThanTopK() {
+            // all vectors of a cluster have the same signs, so the binary search cannot tell them apart
+            var config = ImmutableKnnBaseConfig.builder()
+                .nodeProperties(List.of(new KnnNodePropertySpec("knn")))
+                .topK(1)
+                .rerankK(5)
+                .randomSeed(42L)
+                .concurrency(1)
+                .quantization(Quantization.BINARY)
+                .build();
+            var result = Knn.createWithDefaults(graph, config, KnnContext.empty()).compute();
+
+            var properties = graph.nodeProperties("knn");
+            graph.forEachNode(nodeId -> {
+                var mostSimilar = LongStream
+                    .range(0, graph.nodeCount())
+                    .filter(other -> other != nodeId)
+                    .boxed()
+                    .max(Comparator.comparingDouble(other -> Cosine.floatMetric(
+                        properties.floatArrayValue(nodeId),
+                        properties.floatArrayValue(other)
+                    )))
+                    .orElseThrow();
+                assertThat(result.neighborsOf(nodeId).toArray()).containsExactly(mostSimilar);
+                return true;
+            });
+            assertThat(result.totalSimilarityPairs()).isEqualTo(6);
+        }
+
+        @Test
+        void shouldRejectRerankKBelowTopK() {
+            assertThatThrownBy(() -> new KnnBaseConfigImpl(CypherMapWrapper.create(Map.of(
+                "nodeProperties", List.of("knn"),
+                "topK", 4,
+                "rerankK", 3
+            ))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The value of `rerankK` must be at least the value of `topK` (4), but was 3.");
+        }
+
+        @Test
+        void shouldParseQuantization() {
+            var config = new KnnBaseConfigImpl(CypherMapWrapper.create(Map.of(
+                "nodeProperties", List.of("knn"),
+                "quantization", "int8"
+            )));
+
+            assertThat(config.quantization()).isEqualTo(Quantization.INT8);
+            assertThat(config.toMap()).containsEntry("quantization", "INT8");
+        }
+    }
 }
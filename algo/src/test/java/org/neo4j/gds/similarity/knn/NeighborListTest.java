@@ -90,4 +90,22 @@ class NeighborListTest {
         assertThat(queue.elements()).containsExactlyInAnyOrderElementsOf(elements);
     }
 
+    @Test
+    void rescoreRestoresOrder() {
+        var queue = new NeighborList(4, NeighbourConsumer.devNull);
+        var rng = new SplittableRandom(1337L);
+        queue.add(1, 4.0, rng, 0.0);
+        queue.add(2, 3.0, rng, 0.0);
+        queue.add(3, 2.0, rng, 0.0);
+        queue.add(4, 1.0, rng, 0.0);
+        queue.getAndFlagAsChecked(0);
+
+        queue.rescore(element -> element == 4 ? 5.0 : 1.0 / element);
+
+        assertThat(queue.elements().map(NeighborList::clearCheckedFlag)).containsExactly(4L, 1L, 2L, 3L);
+        assertThat(queue.similarityStream(0)).extracting(result -> result.similarity).containsExactly(5.0, 1.0, 0.5, 1.0 / 3);
+        // the checked flag moves with the element
+        assertThat(NeighborList.isChecked(queue.elementAt(1))).isTrue();
+    }
+
 }
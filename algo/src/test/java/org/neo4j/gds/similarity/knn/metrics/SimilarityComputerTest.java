@@ -33,6 +33,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.huge.DirectIdMap;
@@ -280,6 +282,111 @@ class SimilarityComputerTest {
             .hasMessageContaining("Missing `List of Integer` node property `longArrayProperty` for node with id");
     }
 
+    @Test
+    void floatArrayCosineWithCachedNormsMatchesCosineMetric() {
+        var random = new Random(42);
+        var vectors = new float[10][];
+        for (int i = 0; i < vectors.length; i++) {
+            // the last vector is shorter, which falls back to comparing the common prefix
+            vectors[i] = new float[i == vectors.length - 1 ? 21 : 42];
+            for (int j = 0; j < vectors[i].length; j++) {
+                vectors[i][j] = (float) random.nextDouble() * 2 - 1;
+            }
+        }
+        NodePropertyValues props = new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return vectors[(int) nodeId];
+            }
+
+            @Override
+            public long nodeCount() {
+                return vectors.length;
+            }
+        };
+        var sim = SimilarityComputer.ofFloatArrayProperty("", props, SimilarityMetric.COSINE);
+
+        // compare twice, the second round uses the cached norms
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < vectors.length; i++) {
+                for (int j = 0; j < vectors.length; j++) {
+                    assertThat(sim.similarity(i, j)).isEqualTo(Cosine.floatMetric(vectors[i], vectors[j]));
+                }
+            }
+        }
+    }
+
+    @Test
+    void doubleArrayCosineWithCachedNormsMatchesCosineMetric() {
+        var random = new Random(42);
+        var vectors = new double[10][];
+        for (int i = 0; i < vectors.length; i++) {
+            // the last vector is shorter, which falls back to comparing the common prefix
+            vectors[i] = random.doubles(i == vectors.length - 1 ? 21 : 42, -1.0, 1.0).toArray();
+        }
+        NodePropertyValues props = new DoubleArrayNodePropertyValues() {
+            @Override
+            public double[] doubleArrayValue(long nodeId) {
+                return vectors[(int) nodeId];
+            }
+
+            @Override
+            public long nodeCount() {
+                return vectors.length;
+            }
+        };
+        var sim = SimilarityComputer.ofDoubleArrayProperty("", props, SimilarityMetric.COSINE);
+
+        // compare twice, the second round uses the cached norms
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < vectors.length; i++) {
+                for (int j = 0; j < vectors.length; j++) {
+                    assertThat(sim.similarity(i, j)).isEqualTo(Cosine.doubleMetric(vectors[i], vectors[j]));
+                }
+            }
+        }
+    }
+
+    @Test
+    void cosineWithCachedNormsSwallowsZeroVectors() {
+        NodePropertyValues props = new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return nodeId == 0 ? new float[]{0F, 0F} : new float[]{1F, 2F};
+            }
+
+            @Override
+            public long nodeCount() {
+                return 2;
+            }
+        };
+        var sim = SimilarityComputer.ofFloatArrayProperty("", props, SimilarityMetric.COSINE);
+
+        assertThat(sim.similarity(0, 1)).isNaN();
+        assertThat(sim.safeSimilarity(0, 1)).isZero();
+        assertThat(sim.similarity(1, 1)).isEqualTo(1.0);
+    }
+
+    @Test
+    void cosineWithCachedNormsHandlesNormProductsBeyondFloatRange() {
+        NodePropertyValues props = new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                // the squared norms fit into a float, but their product does not
+                return nodeId == 0 ? new float[]{1e10F, 0F} : new float[]{1e10F, 1e10F};
+            }
+
+            @Override
+            public long nodeCount() {
+                return 2;
+            }
+        };
+        var sim = SimilarityComputer.ofFloatArrayProperty("", props, SimilarityMetric.COSINE);
+
+        assertThat(sim.similarity(0, 0)).isEqualTo(1.0);
+        assertThat(sim.similarity(0, 1)).isCloseTo((1 + Math.sqrt(0.5)) / 2, within(1e-6));
+    }
+
     static Stream<SimilarityComputer> nonFiniteSimilarities() {
         return Stream.of(
             SimilarityComputer.ofDoubleProperty(new DoubleTestPropertyValues(nodeId -> Double.NaN)),
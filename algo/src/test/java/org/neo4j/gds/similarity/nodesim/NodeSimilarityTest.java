@@ -28,8 +28,12 @@ import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.concurrency.Pools;
@@ -765,6 +769,38 @@ final class NodeSimilarityTest {
 
     }
 
+    @Test
+    void shouldComputeMemrecWithPrefixFilteringIndex() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(1_000_000)
+            .relCountUpperBound(5_000_000)
+            .build();
+
+        var configBuilder = ImmutableNodeSimilarityWriteConfig
+            .builder()
+            .writeProperty("writeProperty")
+            .writeRelationshipType("writeRelationshipType");
+
+        MemoryTree withoutPruning = new NodeSimilarityFactory<>()
+            .memoryEstimation(configBuilder.similarityCutoff(0.0).build())
+            .estimate(dimensions, 1);
+        MemoryTree withDefaultCutoff = new NodeSimilarityFactory<>()
+            .memoryEstimation(configBuilder.similarityCutoff(1E-42).build())
+            .estimate(dimensions, 1);
+        MemoryTree withPruning = new NodeSimilarityFactory<>()
+            .memoryEstimation(configBuilder.similarityCutoff(0.5).build())
+            .estimate(dimensions, 1);
+
+        MemoryRange index = PrefixFilteringIndex
+            .memoryEstimation(new JaccardSimilarityComputer(0.5))
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        assertThat(index.max).isPositive();
+        assertThat(withDefaultCutoff.memoryUsage()).isEqualTo(withoutPruning.memoryUsage());
+        assertThat(withPruning.memoryUsage()).isEqualTo(withoutPruning.memoryUsage().add(index));
+    }
+
     @ParameterizedTest(name = "topK = {0}, concurrency = {1}")
     @MethodSource("topKAndConcurrencies")
     void shouldLogMessages(int topK, int concurrency) {
@@ -904,4 +940,80 @@ final class NodeSimilarityTest {
 
     }
 
+
+    static Stream<Arguments> prefixFilteringParameters() {
+        return TestSupport.crossArguments(
+            () -> Stream.of(arguments("JACCARD"), arguments("OVERLAP")),
+            () -> Stream.of(arguments(1E-42), arguments(0.1), arguments(0.5)),
+            () -> Stream.of(arguments(1, 0), arguments(10, 0), arguments(10, 20), arguments(0, 20)),
+            toArguments(NodeSimilarityTest::concurrencies)
+        );
+    }
+
+    @ParameterizedTest(name = "metric = {0}, cutoff = {1}, topK = {2}, topN = {3}, concurrency = {4}")
+    @MethodSource("prefixFilteringParameters")
+    void shouldComputeSameResultsWithPrefixFiltering(
+        String metric,
+        double similarityCutoff,
+        int topK,
+        int topN,
+        int concurrency
+    ) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(300)
+            .averageDegree(4)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .aggregation(Aggregation.SINGLE)
+            .allowSelfLoops(AllowSelfLoops.NO)
+            .build()
+            .generate();
+
+        var config = configBuilder()
+            .similarityMetric(MetricSimilarityComputer.parse(metric))
+            .similarityCutoff(similarityCutoff)
+            .topK(topK)
+            .topN(topN)
+            .concurrency(concurrency)
+            .build();
+
+        var prunedComputer = config.similarityMetric().build(similarityCutoff);
+        // only delegates the similarity computation, which disables pruning
+        var exhaustiveComputer = new MetricSimilarityComputer() {
+            @Override
+            public double computeSimilarity(long[] vector1, long[] vector2) {
+                return prunedComputer.computeSimilarity(vector1, vector2);
+            }
+
+            @Override
+            public double computeWeightedSimilarity(
+                long[] vector1,
+                long[] vector2,
+                double[] weights1,
+                double[] weights2
+            ) {
+                return prunedComputer.computeWeightedSimilarity(vector1, vector2, weights1, weights2);
+            }
+        };
+
+        var pruned = new NodeSimilarity(
+            graph,
+            config,
+            prunedComputer,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toSet());
+        var exhaustive = new NodeSimilarity(
+            graph,
+            config,
+            exhaustiveComputer,
+            concurrency,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toSet());
+
+        assertThat(exhaustive).isNotEmpty();
+        assertThat(pruned).isEqualTo(exhaustive);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixFilteringIndexTest {
+
+    private static HugeObjectArray<long[]> vectors() {
+        return HugeObjectArray.of(
+            new long[]{4, 5, 6},
+            new long[]{4, 5},
+            new long[]{6},
+            new long[]{7},
+            new long[0],
+            new long[0],
+            new long[0],
+            new long[0]
+        );
+    }
+
+    private static BitSet nodes(long... nodes) {
+        var bitSet = new BitSet(8);
+        for (long node : nodes) {
+            bitSet.set(node);
+        }
+        return bitSet;
+    }
+
+    @Test
+    void shouldOnlyReturnNodesWithCommonNeighbours() {
+        var index = PrefixFilteringIndex.create(vectors(), nodes(0, 1, 2, 3), new JaccardSimilarityComputer(1E-42));
+
+        assertThat(index.candidates(0, false)).containsExactly(1, 2);
+        assertThat(index.candidates(0, true)).containsExactly(1, 2);
+        assertThat(index.candidates(1, false)).containsExactly(0);
+        assertThat(index.candidates(1, true)).isEmpty();
+        assertThat(index.candidates(2, false)).containsExactly(0);
+        assertThat(index.candidates(3, false)).isEmpty();
+    }
+
+    @Test
+    void shouldOnlyReturnTargetNodes() {
+        var index = PrefixFilteringIndex.create(vectors(), nodes(2, 3), new JaccardSimilarityComputer(1E-42));
+
+        assertThat(index.candidates(0, false)).containsExactly(2);
+        assertThat(index.candidates(1, false)).isEmpty();
+    }
+
+    @Test
+    void shouldPruneByPrefixAndDegree() {
+        // Jaccard(0, 1) = 2 / 3 and Jaccard(0, 2) = 1 / 3
+        var index = PrefixFilteringIndex.create(vectors(), nodes(0, 1, 2, 3), new JaccardSimilarityComputer(0.5));
+
+        assertThat(index.candidates(0, false)).containsExactly(1);
+        assertThat(index.candidates(1, false)).containsExactly(0);
+        assertThat(index.candidates(2, false)).isEmpty();
+    }
+
+    @Test
+    void shouldUseAllNeighboursForOverlap() {
+        // Overlap(0, 2) = 1, even though 6 is the last neighbour of 0
+        var index = PrefixFilteringIndex.create(vectors(), nodes(0, 1, 2, 3), new OverlapSimilarityComputer(0.9));
+
+        assertThat(index.candidates(0, false)).containsExactly(1, 2);
+        assertThat(index.candidates(2, false)).containsExactly(0);
+    }
+
+    @Test
+    void shouldOnlyShortenPrefixesWithHighEnoughCutoff() {
+        var allNodes = nodes(0, 1, 2, 3);
+
+        assertThat(PrefixFilteringIndex.shortensPrefixes(vectors(), allNodes, new JaccardSimilarityComputer(1E-42))).isFalse();
+        assertThat(PrefixFilteringIndex.shortensPrefixes(vectors(), allNodes, new OverlapSimilarityComputer(0.9))).isFalse();
+        // nodes with a single neighbour always need to index it
+        assertThat(PrefixFilteringIndex.shortensPrefixes(vectors(), nodes(2, 3), new JaccardSimilarityComputer(0.5))).isFalse();
+        assertThat(PrefixFilteringIndex.shortensPrefixes(vectors(), allNodes, new JaccardSimilarityComputer(0.5))).isTrue();
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(1_000)
+            .relCountUpperBound(5_000)
+            .build();
+
+        var withPruning = PrefixFilteringIndex.memoryEstimation(new JaccardSimilarityComputer(0.5))
+            .estimate(dimensions, 4)
+            .memoryUsage();
+        // posting sizes and postings, an empty array per node and one entry per relationship
+        assertThat(withPruning.min).isZero();
+        assertThat(withPruning.max).isEqualTo(8_104L + 1_000 * 16 + 5_000 * Long.BYTES);
+
+        assertThat(PrefixFilteringIndex.memoryEstimation(new JaccardSimilarityComputer(1E-42)).estimate(dimensions, 4).memoryUsage())
+            .isEqualTo(MemoryRange.empty());
+        assertThat(PrefixFilteringIndex.memoryEstimation(new OverlapSimilarityComputer(0.5)).estimate(dimensions, 4).memoryUsage())
+            .isEqualTo(MemoryRange.empty());
+    }
+}
@@ -43,7 +43,7 @@ class LocalClusteringCoefficientFactoryTest {
         MemoryTree estimate = estimation.estimate(dimensions, 1);
         MemoryRange actual = estimate.memoryUsage();
 
-        long triangleCountEstimate = 56 + 24 + nodeCount * 8 + 16;
+        long triangleCountEstimate = 48 + 24 + nodeCount * 8 + 16;
         long hugeDoubleArray = 16 + nodeCount * 8 + 16;
         long expected = 64 + hugeDoubleArray + triangleCountEstimate;
 
@@ -79,7 +79,7 @@ class LocalClusteringCoefficientFactoryTest {
         MemoryTree estimate = estimation.estimate(dimensions, 1);
         MemoryRange actual = estimate.memoryUsage();
 
-        long triangleCountEstimate = 56 + 32 + sizeOfHugeArray;
+        long triangleCountEstimate = 48 + 32 + sizeOfHugeArray;
         long hugeDoubleArray = 24 + sizeOfHugeArray;
         long expected = 64 + hugeDoubleArray + triangleCountEstimate;
         assertEquals(expected, actual.min);
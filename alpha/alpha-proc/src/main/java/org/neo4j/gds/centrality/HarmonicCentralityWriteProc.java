@@ -91,7 +91,7 @@ public class HarmonicCentralityWriteProc extends HarmonicCentralityProc<Centrali
                     .withIdMap(graph)
                     .withTerminationFlag(algorithm.getTerminationFlag())
                     .withProgressTracker(progressTracker)
-                    .parallel(Pools.DEFAULT, writeConcurrency)
+                    .parallel(Pools.io(), writeConcurrency)
                     .build();
 
                 var properties = new DoubleNodePropertyValues() {
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.api.compress.LongArrayBuffer;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
+import org.neo4j.gds.core.loading.ChunkedAdjacencyLists;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the {@link AdjacencyCompressor} implementations,
+ * i.e. the final step of the import that turns the buffered, zig-zag encoded
+ * targets of a node into its adjacency list.
+ * The {@code edges} metric reports the time it takes to compress a single target id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyCompressorBenchmark {
+
+    @Param({"COMPRESSED", "PACKED", "UNCOMPRESSED", "HYBRID", "ELIAS_FANO"})
+    public AdjacencyListType adjacencyListType;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"64"})
+    public long averageDegree;
+
+    // the buffered adjacency lists, as they are handed to the compressor during import
+    private byte[][] targets;
+    private int[] compressedByteSizes;
+    private int[] numberOfCompressedTargets;
+
+    // compressors consume their input, so every invocation gets a fresh copy
+    private byte[][] targetsCopy;
+    private AdjacencyCompressor compressor;
+    private LongArrayBuffer buffer;
+
+    @Setup
+    public void setup() {
+        var graph = AdjacencyListType.UNCOMPRESSED.generate(
+            nodeCount,
+            averageDegree,
+            distribution,
+            Direction.DIRECTED,
+            42L
+        );
+        var adjacencyList = graph.relationshipTopology().adjacencyList();
+
+        var adjacencyLists = ChunkedAdjacencyLists.of(0, nodeCount);
+        var random = new Random(42L);
+        AdjacencyCursor cursor = null;
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            int degree = cursor.size();
+            if (degree == 0) {
+                continue;
+            }
+            var nodeTargets = new long[degree];
+            for (int i = 0; i < degree; i++) {
+                nodeTargets[i] = cursor.nextVLong();
+            }
+            // relationships are not sorted during import
+            shuffle(nodeTargets, random);
+            adjacencyLists.add(node, nodeTargets, 0, degree, degree);
+        }
+
+        this.targets = new byte[(int) nodeCount][];
+        this.compressedByteSizes = new int[(int) nodeCount];
+        this.numberOfCompressedTargets = new int[(int) nodeCount];
+        this.targetsCopy = new byte[(int) nodeCount][];
+
+        adjacencyLists.consume((sourceId, targets, properties, compressedByteSize, numberOfCompressedTargets) -> {
+            this.targets[(int) sourceId] = targets;
+            this.compressedByteSizes[(int) sourceId] = compressedByteSize;
+            this.numberOfCompressedTargets[(int) sourceId] = numberOfCompressedTargets;
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        for (int node = 0; node < targets.length; node++) {
+            var nodeTargets = targets[node];
+            this.targetsCopy[node] = nodeTargets == null ? null : nodeTargets.clone();
+        }
+
+        var compressorFactory = adjacencyListType.compressorFactory(() -> nodeCount, Aggregation.NONE);
+        compressorFactory.init();
+        this.compressor = compressorFactory.createCompressor();
+        this.buffer = new LongArrayBuffer();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        this.compressor.close();
+    }
+
+    @Benchmark
+    public long compress(EdgeCounter counter) {
+        long edges = 0L;
+        for (int node = 0; node < targetsCopy.length; node++) {
+            var nodeTargets = targetsCopy[node];
+            if (nodeTargets == null) {
+                continue;
+            }
+            edges += compressor.compress(
+                node,
+                nodeTargets,
+                null,
+                numberOfCompressedTargets[node],
+                compressedByteSizes[node],
+                buffer,
+                ZigZagLongDecoding.Identity.INSTANCE
+            );
+        }
+        counter.edges += edges;
+        return edges;
+    }
+
+    private static void shuffle(long[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
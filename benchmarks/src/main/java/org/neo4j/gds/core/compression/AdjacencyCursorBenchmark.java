@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the decoding throughput of the {@link AdjacencyCursor} implementations.
+ * The {@code edges} metric reports the time it takes to decode a single target id.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyCursorBenchmark {
+
+    @Param({"COMPRESSED", "PACKED", "UNCOMPRESSED", "OFF_HEAP", "HYBRID", "ELIAS_FANO"})
+    public AdjacencyListType adjacencyListType;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    @Param({"64"})
+    public long averageDegree;
+
+    private AdjacencyList adjacencyList;
+
+    @Setup
+    public void setup() {
+        var graph = adjacencyListType.generate(nodeCount, averageDegree, distribution, Direction.DIRECTED, 42L);
+        this.adjacencyList = graph.relationshipTopology().adjacencyList();
+    }
+
+    @Benchmark
+    public long decode(EdgeCounter counter) {
+        AdjacencyCursor cursor = null;
+        long checksum = 0L;
+        long edges = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            edges += cursor.size();
+            while (cursor.hasNextVLong()) {
+                checksum += cursor.nextVLong();
+            }
+        }
+        counter.edges += edges;
+        return checksum;
+    }
+
+    @Benchmark
+    public long skipUntil(EdgeCounter counter) {
+        AdjacencyCursor cursor = null;
+        long checksum = 0L;
+        long edges = 0L;
+        for (long node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node);
+            // skip all targets that are smaller than the source, as intersections do
+            long target = cursor.skipUntil(node);
+            if (target != AdjacencyCursor.NOT_FOUND) {
+                checksum += target;
+            }
+            edges += cursor.size() - cursor.remaining();
+        }
+        counter.edges += edges;
+        return checksum;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression;
+
+import org.neo4j.gds.api.RelationshipIntersect;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.triangle.intersect.HugeGraphIntersect;
+import org.neo4j.gds.triangle.intersect.ImmutableRelationshipIntersectConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the adjacency list intersection as used by triangle counting,
+ * which relies on {@code advance} and {@code skipUntil} of the cursors.
+ * The {@code edges} metric reports the time spent per relationship of the graph,
+ * since every relationship is intersected once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AdjacencyIntersectBenchmark {
+
+    // the packed cursor does not support shallow copies, which the intersection relies on
+    @Param({"COMPRESSED", "UNCOMPRESSED", "HYBRID", "ELIAS_FANO"})
+    public AdjacencyListType adjacencyListType;
+
+    @Param({"UNIFORM", "POWER_LAW"})
+    public RelationshipDistribution distribution;
+
+    @Param({"100000"})
+    public long nodeCount;
+
+    // high degrees let the cursors skip over larger parts of the adjacency lists
+    @Param({"16", "128"})
+    public long averageDegree;
+
+    private HugeGraph graph;
+    private RelationshipIntersect intersect;
+
+    @Setup
+    public void setup() {
+        this.graph = adjacencyListType.generate(nodeCount, averageDegree, distribution, Direction.UNDIRECTED, 42L);
+        this.intersect = new HugeGraphIntersect.HugeGraphIntersectFactory().load(
+            graph,
+            ImmutableRelationshipIntersectConfig.builder().build()
+        );
+    }
+
+    @Benchmark
+    public long intersect(EdgeCounter counter) {
+        var triangles = new long[1];
+        for (long node = 0; node < nodeCount; node++) {
+            intersect.intersectAll(node, (a, b, c) -> triangles[0]++);
+        }
+        counter.edges += graph.relationshipCount();
+        return triangles[0];
+    }
+}
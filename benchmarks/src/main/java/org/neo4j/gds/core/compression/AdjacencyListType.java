@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.loading.AdjacencyListBehavior;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.function.LongSupplier;
+
+/**
+ * The adjacency list implementations that are covered by the benchmarks.
+ * Each type knows how to generate a graph that is backed by it
+ * and how to create a compressor factory that produces it.
+ */
+public enum AdjacencyListType {
+    COMPRESSED {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCountSupplier, Aggregation aggregation) {
+            return AdjacencyListBehavior.compressed(
+                nodeCountSupplier,
+                PropertyMappings.of(),
+                new Aggregation[]{aggregation},
+                Aggregation.equivalentToNone(aggregation)
+            );
+        }
+    },
+    PACKED {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCountSupplier, Aggregation aggregation) {
+            return AdjacencyListBehavior.packed(
+                nodeCountSupplier,
+                PropertyMappings.of(),
+                new Aggregation[]{aggregation},
+                Aggregation.equivalentToNone(aggregation)
+            );
+        }
+    },
+    OFF_HEAP {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCountSupplier, Aggregation aggregation) {
+            return AdjacencyListBehavior.offHeap(
+                nodeCountSupplier,
+                PropertyMappings.of(),
+                new Aggregation[]{aggregation},
+                Aggregation.equivalentToNone(aggregation)
+            );
+        }
+    },
+    HYBRID {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCountSupplier, Aggregation aggregation) {
+            return AdjacencyListBehavior.hybrid(
+                nodeCountSupplier,
+                PropertyMappings.of(),
+                new Aggregation[]{aggregation},
+                Aggregation.equivalentToNone(aggregation)
+            );
+        }
+    },
+    ELIAS_FANO {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCountSupplier, Aggregation aggregation) {
+            return AdjacencyListBehavior.eliasFano(
+                nodeCountSupplier,
+                PropertyMappings.of(),
+                new Aggregation[]{aggregation},
+                Aggregation.equivalentToNone(aggregation)
+            );
+        }
+    },
+    UNCOMPRESSED {
+        @Override
+        AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCountSupplier, Aggregation aggregation) {
+            return AdjacencyListBehavior.uncompressed(
+                nodeCountSupplier,
+                PropertyMappings.of(),
+                new Aggregation[]{aggregation},
+                Aggregation.equivalentToNone(aggregation)
+            );
+        }
+    };
+
+    abstract AdjacencyCompressorFactory compressorFactory(LongSupplier nodeCountSupplier, Aggregation aggregation);
+
+    /**
+     * Generates a random graph whose single relationship type is stored in this adjacency list type.
+     * Undirected graphs are de-duplicated so that the adjacency lists can be used for intersections.
+     */
+    HugeGraph generate(
+        long nodeCount,
+        long averageDegree,
+        RelationshipDistribution distribution,
+        Direction direction,
+        long seed
+    ) {
+        var packedBefore = GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(this == PACKED);
+        var uncompressedBefore = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(this == UNCOMPRESSED);
+        var offHeapBefore = GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.toggle(this == OFF_HEAP);
+        var hybridBefore = GdsFeatureToggles.USE_HYBRID_ADJACENCY_LIST.toggle(this == HYBRID);
+        var eliasFanoBefore = GdsFeatureToggles.USE_ELIAS_FANO_ADJACENCY_LIST.toggle(this == ELIAS_FANO);
+        try {
+            return RandomGraphGenerator.builder()
+                .nodeCount(nodeCount)
+                .averageDegree(averageDegree)
+                .relationshipDistribution(distribution)
+                .direction(direction)
+                .aggregation(direction == Direction.UNDIRECTED ? Aggregation.SINGLE : Aggregation.NONE)
+                .seed(seed)
+                .build()
+                .generate();
+        } finally {
+            GdsFeatureToggles.USE_PACKED_ADJACENCY_LIST.toggle(packedBefore);
+            GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.toggle(uncompressedBefore);
+            GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.toggle(offHeapBefore);
+            GdsFeatureToggles.USE_HYBRID_ADJACENCY_LIST.toggle(hybridBefore);
+            GdsFeatureToggles.USE_ELIAS_FANO_ADJACENCY_LIST.toggle(eliasFanoBefore);
+        }
+    }
+}
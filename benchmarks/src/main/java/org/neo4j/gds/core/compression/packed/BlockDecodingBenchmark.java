@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many edges per second can be decoded from packed blocks,
+ * with ({@code decodeDelta}) and without ({@code decode}) prefix-summing the unpacked values.
+ * <p>
+ * {@code UNPACKING} is the reference: the generated {@link AdjacencyUnpacking} code followed
+ * by a sequential prefix sum, as it was done in the cursor before the {@link BlockDecoder}s.
+ * The {@code VECTORIZED} decoder requires a Java 17+ runtime with
+ * {@code --add-modules=jdk.incubator.vector}, e.g. {@code ./gradlew :benchmarks:jmh -PjavaLanguageVersion=17}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BlockDecodingBenchmark {
+
+    private static final int BLOCKS = 1024;
+    private static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+
+    public enum Decoder {
+        UNPACKING,
+        SCALAR,
+        VECTORIZED
+    }
+
+    @Param({"UNPACKING", "SCALAR", "VECTORIZED"})
+    public Decoder decoder;
+
+    @Param({"4", "12", "20", "32"})
+    public int bits;
+
+    private BlockDecoder blockDecoder;
+    private long[] block;
+    private long ptr;
+    private long bytes;
+
+    @Setup
+    public void setup() {
+        switch (decoder) {
+            case SCALAR:
+                this.blockDecoder = ScalarBlockDecoder.INSTANCE;
+                break;
+            case VECTORIZED:
+                this.blockDecoder = BlockDecoders.vectorized();
+                if (this.blockDecoder == null) {
+                    throw new IllegalStateException(
+                        "The vectorized decoder requires Java 17+ and --add-modules=jdk.incubator.vector"
+                    );
+                }
+                break;
+            default:
+                this.blockDecoder = null;
+        }
+
+        var random = new SplittableRandom(42L);
+        var values = new long[BLOCK_SIZE];
+        this.block = new long[BLOCK_SIZE];
+        this.bytes = (long) BLOCKS * bits * Long.BYTES;
+        this.ptr = UnsafeUtil.allocateMemory(bytes, EmptyMemoryTracker.INSTANCE);
+
+        long packedPtr = this.ptr;
+        for (int i = 0; i < BLOCKS; i++) {
+            for (int j = 0; j < BLOCK_SIZE; j++) {
+                values[j] = random.nextLong(1L << bits);
+            }
+            packedPtr = AdjacencyPacking.pack(bits, values, 0, packedPtr);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        UnsafeUtil.free(this.ptr, this.bytes, EmptyMemoryTracker.INSTANCE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS * BLOCK_SIZE)
+    public long decode() {
+        long[] block = this.block;
+        long packedPtr = this.ptr;
+        long checksum = 0L;
+
+        for (int i = 0; i < BLOCKS; i++) {
+            packedPtr = this.blockDecoder == null
+                ? AdjacencyUnpacking.unpack(bits, block, 0, packedPtr)
+                : this.blockDecoder.decode(bits, block, packedPtr);
+            checksum += block[BLOCK_SIZE - 1];
+        }
+
+        return checksum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BLOCKS * BLOCK_SIZE)
+    public long decodeDelta() {
+        long[] block = this.block;
+        long packedPtr = this.ptr;
+        long lastValue = 0L;
+
+        if (this.blockDecoder == null) {
+            for (int i = 0; i < BLOCKS; i++) {
+                packedPtr = AdjacencyUnpacking.unpack(bits, block, 0, packedPtr);
+                long value = lastValue;
+                for (int j = 0; j < BLOCK_SIZE; j++) {
+                    value = block[j] += value;
+                }
+                lastValue = value;
+            }
+        } else {
+            for (int i = 0; i < BLOCKS; i++) {
+                packedPtr = this.blockDecoder.decodeDelta(bits, block, lastValue, packedPtr);
+                lastValue = block[BLOCK_SIZE - 1];
+            }
+        }
+
+        return lastValue;
+    }
+}
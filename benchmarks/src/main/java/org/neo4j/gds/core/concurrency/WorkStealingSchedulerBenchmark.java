@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig.AllowSelfLoops;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.EdgeCounter;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.degree.DegreeCentrality;
+import org.neo4j.gds.degree.ImmutableDegreeCentralityConfig;
+import org.neo4j.gds.triangle.ImmutableTriangleCountBaseConfig;
+import org.neo4j.gds.triangle.IntersectingTriangleCount;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.gds.wcc.ImmutableWccStreamConfig;
+import org.neo4j.gds.wcc.Wcc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.gds.core.concurrency.ParallelUtil.DEFAULT_BATCH_SIZE;
+
+/**
+ * Compares the degree-balanced work-stealing scheduler of
+ * {@link ParallelUtil#parallelForEachPartition} against static degree partitions
+ * on a power-law graph, where a few partitions hold most of the relationships.
+ * The {@code edges} metric reports the time spent per relationship.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WorkStealingSchedulerBenchmark {
+
+    @Param({"false", "true"})
+    public boolean workStealing;
+
+    @Param({"4", "8"})
+    public int concurrency;
+
+    @Param({"1000000"})
+    public int nodeCount;
+
+    @Param({"16"})
+    public int averageDegree;
+
+    private Graph graph;
+    private boolean workStealingBefore;
+
+    @Setup
+    public void setup() {
+        this.graph = RandomGraphGenerator.builder()
+            .nodeCount(nodeCount)
+            .averageDegree(averageDegree)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .direction(Direction.UNDIRECTED)
+            .aggregation(Aggregation.SINGLE)
+            .allowSelfLoops(AllowSelfLoops.NO)
+            .seed(42L)
+            .build()
+            .generate();
+
+        this.workStealingBefore = GdsFeatureToggles.USE_WORK_STEALING_SCHEDULER.toggle(workStealing);
+    }
+
+    @TearDown
+    public void tearDown() {
+        GdsFeatureToggles.USE_WORK_STEALING_SCHEDULER.toggle(workStealingBefore);
+    }
+
+    @Benchmark
+    public double degreeCentrality(EdgeCounter counter) {
+        var config = ImmutableDegreeCentralityConfig.builder().concurrency(concurrency).build();
+        var degrees = new DegreeCentrality(graph, Pools.DEFAULT, config, ProgressTracker.NULL_TRACKER).compute();
+
+        counter.edges += graph.relationshipCount();
+        return degrees.get(0);
+    }
+
+    @Benchmark
+    public long wcc(EdgeCounter counter) {
+        var config = ImmutableWccStreamConfig.builder().concurrency(concurrency).build();
+        var components = new Wcc(graph, Pools.DEFAULT, DEFAULT_BATCH_SIZE, config, ProgressTracker.NULL_TRACKER)
+            .compute();
+
+        counter.edges += graph.relationshipCount();
+        return components.setIdOf(0);
+    }
+
+    @Benchmark
+    public long triangleCount(EdgeCounter counter) {
+        var config = ImmutableTriangleCountBaseConfig.builder().concurrency(concurrency).build();
+        var result = IntersectingTriangleCount.create(graph, config, Pools.DEFAULT).compute();
+
+        counter.edges += graph.relationshipCount();
+        return result.globalTriangles();
+    }
+}
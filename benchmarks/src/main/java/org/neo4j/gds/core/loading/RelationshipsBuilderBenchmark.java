@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.core.compression.EdgeCounter;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the relationship import of the {@link org.neo4j.gds.core.loading.construction.RelationshipsBuilder}
+ * as it is used by cypher aggregations: relationships arrive from several threads in arbitrary order,
+ * using intermediate node ids that are mapped to the final ids when the adjacency lists are built.
+ * The {@code edges} metric reports the time spent per imported relationship.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class RelationshipsBuilderBenchmark {
+
+    @Param({"false", "true"})
+    public boolean radixSort;
+
+    @Param({"1", "4", "8"})
+    public int concurrency;
+
+    @Param({"1000000"})
+    public int nodeCount;
+
+    @Param({"16"})
+    public int averageDegree;
+
+    private IdMap idMap;
+    private long[] sources;
+    private long[] targets;
+    private AdjacencyCompressor.ValueMapper mapper;
+    private boolean radixSortBefore;
+
+    @Setup
+    public void setup() {
+        var nodesBuilder = GraphFactory.initNodesBuilder().maxOriginalId(nodeCount - 1).build();
+        for (int node = 0; node < nodeCount; node++) {
+            nodesBuilder.addNode(node);
+        }
+        this.idMap = nodesBuilder.build().idMap();
+
+        var random = new SplittableRandom(42L);
+        int relationshipCount = nodeCount * averageDegree;
+        this.sources = new long[relationshipCount];
+        this.targets = new long[relationshipCount];
+        for (int i = 0; i < relationshipCount; i++) {
+            sources[i] = random.nextInt(nodeCount);
+            targets[i] = random.nextInt(nodeCount);
+        }
+
+        // intermediate ids are assigned in order of appearance, which is unrelated to the final ids
+        var mapping = new long[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            mapping[i] = i;
+        }
+        for (int i = nodeCount - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = mapping[i];
+            mapping[i] = mapping[j];
+            mapping[j] = swap;
+        }
+        this.mapper = nodeId -> mapping[(int) nodeId];
+
+        this.radixSortBefore = GdsFeatureToggles.USE_RADIX_SORT_RELATIONSHIP_IMPORT.toggle(radixSort);
+    }
+
+    @TearDown
+    public void tearDown() {
+        GdsFeatureToggles.USE_RADIX_SORT_RELATIONSHIP_IMPORT.toggle(radixSortBefore);
+    }
+
+    @Benchmark
+    public long importRelationships(EdgeCounter counter) {
+        var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("REL"))
+            .concurrency(concurrency)
+            .executorService(Pools.DEFAULT)
+            .build();
+
+        var tasks = new ArrayList<Runnable>(concurrency);
+        for (int thread = 0; thread < concurrency; thread++) {
+            int offset = thread;
+            tasks.add(() -> {
+                for (int i = offset; i < sources.length; i += concurrency) {
+                    relationshipsBuilder.addFromInternal(sources[i], targets[i]);
+                }
+            });
+        }
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(tasks).executor(Pools.DEFAULT).run();
+
+        var relationships = relationshipsBuilder.build(Optional.of(mapper), Optional.empty());
+
+        counter.edges += sources.length;
+        return relationships.topology().elementCount();
+    }
+}
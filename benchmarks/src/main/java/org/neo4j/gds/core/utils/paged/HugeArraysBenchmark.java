@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures element access of {@link HugeLongArray} and {@link HugeAtomicLongArray}
+ * for both the single page and the paged implementation.
+ * Every invocation performs {@link #OPERATIONS} accesses, results are reported per access.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HugeArraysBenchmark {
+
+    static final int OPERATIONS = 1 << 20;
+
+    public enum Layout {
+        SINGLE,
+        PAGED
+    }
+
+    @Param({"SINGLE", "PAGED"})
+    public Layout layout;
+
+    @Param({"10000000"})
+    public int size;
+
+    private HugeLongArray array;
+    private HugeAtomicLongArray atomicArray;
+    private long[] randomIndices;
+
+    @Setup
+    public void setup() {
+        if (layout == Layout.SINGLE) {
+            this.array = HugeLongArray.newSingleArray(size);
+            this.atomicArray = HugeAtomicLongArray.newSingleArray(size, LongPageCreator.passThrough(1));
+        } else {
+            this.array = HugeLongArray.newPagedArray(size);
+            this.atomicArray = HugeAtomicLongArray.newPagedArray(size, LongPageCreator.passThrough(1));
+        }
+        this.array.setAll(index -> index);
+        this.atomicArray.setAll(42L);
+
+        var random = new SplittableRandom(42L);
+        this.randomIndices = new long[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            this.randomIndices[i] = random.nextLong(size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long sequentialGet() {
+        long sum = 0L;
+        for (long index = 0; index < OPERATIONS; index++) {
+            sum += array.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long randomGet() {
+        long sum = 0L;
+        for (long index : randomIndices) {
+            sum += array.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public HugeLongArray sequentialSet() {
+        for (long index = 0; index < OPERATIONS; index++) {
+            array.set(index, index);
+        }
+        return array;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public HugeLongArray randomAddTo() {
+        for (long index : randomIndices) {
+            array.addTo(index, 1L);
+        }
+        return array;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long atomicSequentialGet() {
+        long sum = 0L;
+        for (long index = 0; index < OPERATIONS; index++) {
+            sum += atomicArray.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long atomicRandomGetAndAdd() {
+        long sum = 0L;
+        for (long index : randomIndices) {
+            sum += atomicArray.getAndAdd(index, 1L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public long atomicRandomCompareAndSet() {
+        long successes = 0L;
+        for (long index : randomIndices) {
+            long current = atomicArray.get(index);
+            if (atomicArray.compareAndSet(index, current, current + 1)) {
+                successes++;
+            }
+        }
+        return successes;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many vector pairs per second the {@link SimilarityKernel}s compare.
+ * <p>
+ * The {@code VECTORIZED} kernel requires a Java 17+ runtime with
+ * {@code --add-modules=jdk.incubator.vector}, e.g. {@code ./gradlew :benchmarks:jmh -PjavaLanguageVersion=17}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SimilarityKernelBenchmark {
+
+    private static final int VECTORS = 1024;
+
+    public enum Kernel {
+        SCALAR,
+        VECTORIZED
+    }
+
+    @Param({"SCALAR", "VECTORIZED"})
+    public Kernel kernel;
+
+    @Param({"64", "128", "256"})
+    public int dimension;
+
+    private SimilarityKernel similarityKernel;
+    private float[][] floatVectors;
+    private double[][] doubleVectors;
+
+    @Setup
+    public void setup() {
+        switch (kernel) {
+            case SCALAR:
+                this.similarityKernel = SimilarityKernels.scalar();
+                break;
+            case VECTORIZED:
+                this.similarityKernel = SimilarityKernels.vectorized();
+                if (this.similarityKernel == null) {
+                    throw new IllegalStateException(
+                        "The vectorized kernel requires Java 17+ and --add-modules=jdk.incubator.vector"
+                    );
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown kernel " + kernel);
+        }
+
+        var random = new SplittableRandom(42L);
+        this.floatVectors = new float[VECTORS][dimension];
+        this.doubleVectors = new double[VECTORS][dimension];
+        for (int i = 0; i < VECTORS; i++) {
+            for (int j = 0; j < dimension; j++) {
+                double value = random.nextDouble(-1, 1);
+                floatVectors[i][j] = (float) value;
+                doubleVectors[i][j] = value;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public float floatDotProduct() {
+        float[] query = floatVectors[0];
+        float result = 0F;
+        for (float[] vector : floatVectors) {
+            result += similarityKernel.dotProduct(query, vector, dimension);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public float floatCosine() {
+        float[] query = floatVectors[0];
+        float result = 0F;
+        for (float[] vector : floatVectors) {
+            result += similarityKernel.cosine(query, vector, dimension);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public double floatSumSquareDelta() {
+        float[] query = floatVectors[0];
+        double result = 0D;
+        for (float[] vector : floatVectors) {
+            result += similarityKernel.sumSquareDelta(query, vector, dimension);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public double floatPearson() {
+        float[] query = floatVectors[0];
+        double result = 0D;
+        for (float[] vector : floatVectors) {
+            result += similarityKernel.pearson(query, vector, dimension);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public double doubleDotProduct() {
+        double[] query = doubleVectors[0];
+        double result = 0D;
+        for (double[] vector : doubleVectors) {
+            result += similarityKernel.dotProduct(query, vector, dimension);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public double doubleCosine() {
+        double[] query = doubleVectors[0];
+        double result = 0D;
+        for (double[] vector : doubleVectors) {
+            result += similarityKernel.cosine(query, vector, dimension);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public double doubleSumSquareDelta() {
+        double[] query = doubleVectors[0];
+        double result = 0D;
+        for (double[] vector : doubleVectors) {
+            result += similarityKernel.sumSquareDelta(query, vector, dimension);
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VECTORS)
+    public double doublePearson() {
+        double[] query = doubleVectors[0];
+        double result = 0D;
+        for (double[] vector : doubleVectors) {
+            result += similarityKernel.pearson(query, vector, dimension);
+        }
+        return result;
+    }
+}
@@ -91,7 +91,8 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         this.propertyTranslator = propertyTranslator;
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
-        this.executorService = Pools.DEFAULT_SINGLE_THREAD_POOL;
+        // batches are written one after another, a virtual thread avoids tying up a platform thread while waiting on commits
+        this.executorService = Pools.virtualThreadExecutor().orElse(Pools.DEFAULT_SINGLE_THREAD_POOL);
     }
 
     @Override
@@ -67,5 +67,12 @@ public abstract class CSRGraphStoreFactory<CONFIG extends GraphProjectConfig> ex
             var memoryUsage = MemoryUsage.humanReadable(sizeInBytes);
             progressTracker.logInfo(formatWithLocale("Actual memory usage of the loaded graph: %s", memoryUsage));
         }
+        long offHeapSizeInBytes = graphStore.offHeapSizeInBytes();
+        if (offHeapSizeInBytes > 0) {
+            progressTracker.logInfo(formatWithLocale(
+                "Memory used outside of the heap by the loaded graph: %s",
+                MemoryUsage.humanReadable(offHeapSizeInBytes)
+            ));
+        }
     }
 }
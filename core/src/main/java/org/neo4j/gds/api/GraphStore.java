@@ -30,6 +30,7 @@ import org.neo4j.gds.api.schema.GraphSchema;
 import org.neo4j.gds.core.loading.Capabilities;
 import org.neo4j.gds.core.loading.DeletionResult;
 import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.logging.Log;
 
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -40,6 +41,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 import static java.util.Collections.singletonList;
 
@@ -124,6 +127,19 @@ public interface GraphStore {
 
     void removeNodeProperty(String propertyKey);
 
+    /**
+     * Replaces the values of an existing node property with values of the same type,
+     * if the property is still backed by {@code expectedValues}.
+     * The schema and state of the property remain unchanged.
+     *
+     * @return {@code true} if the values were replaced, {@code false} if the property has been removed or replaced in the meantime
+     */
+    boolean replaceNodePropertyValues(
+        String propertyKey,
+        NodePropertyValues expectedValues,
+        NodePropertyValues propertyValues
+    );
+
 
     // Relationships
 
@@ -171,6 +187,31 @@ public interface GraphStore {
         Optional<RelationshipPropertyStore> properties
     );
 
+    /**
+     * Appends the given relationships to the relationships of the same type without rebuilding them.
+     * The relationships are stored as a delta layer which is merged lazily when reading the graph,
+     * until it is folded into the existing relationships by {@link #compactRelationships}.
+     * Implementations compact in the background once the delta layers grow too many or too large
+     * compared to the existing relationships, and report failures of that compaction to the given log.
+     * If the relationship type does not exist yet, the relationships are added as a new type.
+     * <p>
+     * Only relationships between existing nodes can be appended, appending nodes is not supported.
+     */
+    void appendRelationships(SingleTypeRelationships relationships, Log log);
+
+    /**
+     * Folds all delta layers of the given relationship type into newly compressed adjacency lists.
+     * Compaction runs on the given {@code executorService} and the graph store stays readable in the meantime.
+     * Relationships that are appended while compacting are kept as delta layers on top of the compacted ones.
+     *
+     * @return a future that completes with {@code true} if the compacted relationships have replaced the layered ones.
+     */
+    CompletableFuture<Boolean> compactRelationships(
+        RelationshipType relationshipType,
+        int concurrency,
+        ExecutorService executorService
+    );
+
     DeletionResult deleteRelationships(RelationshipType relationshipType);
 
     default Graph getGraph(RelationshipType... relationshipType) {
@@ -237,4 +278,18 @@ public interface GraphStore {
         RelationshipType relationshipType,
         Collection<String> propertyKeys
     );
+
+    /**
+     * The number of bytes this graph store keeps outside of the heap, e.g. for off-heap adjacency lists.
+     * These are not part of the heap size measured for the graph store.
+     */
+    long offHeapSizeInBytes();
+
+    /**
+     * Releases what this graph store keeps outside of the heap, as well as its share of
+     * shared memory budgets, right away, instead of when it is garbage collected.
+     * Called by the {@link org.neo4j.gds.core.loading.GraphStoreCatalog} once the graph has been dropped.
+     * Algorithms that still run on the graph fail when they read released relationships.
+     */
+    void release();
 }
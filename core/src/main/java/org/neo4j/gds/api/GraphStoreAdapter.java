@@ -30,11 +30,14 @@ import org.neo4j.gds.api.schema.GraphSchema;
 import org.neo4j.gds.core.loading.Capabilities;
 import org.neo4j.gds.core.loading.DeletionResult;
 import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.logging.Log;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 public abstract class GraphStoreAdapter implements GraphStoreWrapper {
 
@@ -172,6 +175,15 @@ public abstract class GraphStoreAdapter implements GraphStoreWrapper {
         graphStore.removeNodeProperty(propertyKey);
     }
 
+    @Override
+    public boolean replaceNodePropertyValues(
+        String propertyKey,
+        NodePropertyValues expectedValues,
+        NodePropertyValues propertyValues
+    ) {
+        return graphStore.replaceNodePropertyValues(propertyKey, expectedValues, propertyValues);
+    }
+
     @Override
     public long relationshipCount() {
         return graphStore.relationshipCount();
@@ -243,6 +255,20 @@ public abstract class GraphStoreAdapter implements GraphStoreWrapper {
         graphStore.addInverseIndex(relationshipType, topology, properties);
     }
 
+    @Override
+    public void appendRelationships(SingleTypeRelationships relationships, Log log) {
+        graphStore.appendRelationships(relationships, log);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compactRelationships(
+        RelationshipType relationshipType,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        return graphStore.compactRelationships(relationshipType, concurrency, executorService);
+    }
+
     @Override
     public DeletionResult deleteRelationships(RelationshipType relationshipType) {
         return graphStore.deleteRelationships(relationshipType);
@@ -316,4 +342,14 @@ public abstract class GraphStoreAdapter implements GraphStoreWrapper {
     ) {
         return graphStore.getCompositeRelationshipIterator(relationshipType, propertyKeys);
     }
+
+    @Override
+    public long offHeapSizeInBytes() {
+        return graphStore.offHeapSizeInBytes();
+    }
+
+    @Override
+    public void release() {
+        graphStore.release();
+    }
 }
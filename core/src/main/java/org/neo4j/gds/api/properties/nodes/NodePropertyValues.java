@@ -50,6 +50,16 @@ public interface NodePropertyValues extends PropertyValues {
         throw unsupportedTypeException(ValueType.FLOAT_ARRAY);
     }
 
+    /**
+     * Like {@link #floatArrayValue(long)}, but values that are not stored as one array per node
+     * may be copied into {@code reuse} instead of into a new array, if it has the right length.
+     * The caller must own {@code reuse} and must not retain the result beyond the next call with the same buffer.
+     */
+    @Nullable
+    default float[] floatArrayValue(long nodeId, float[] reuse) {
+        return floatArrayValue(nodeId);
+    }
+
     @Nullable
     default long[] longArrayValue(long nodeId) {
         throw unsupportedTypeException(ValueType.LONG_ARRAY);
@@ -25,6 +25,7 @@ import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.concurrency.JobPriority;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -34,6 +35,20 @@ public interface AlgoBaseConfig extends BaseConfig, ConcurrencyConfig, JobIdConf
 
     String NODE_LABELS_KEY = "nodeLabels";
     String RELATIONSHIP_TYPES_KEY = "relationshipTypes";
+    String JOB_PRIORITY_KEY = "jobPriority";
+
+    /**
+     * Priority class of the tasks this algorithm submits to the shared thread pool.
+     * Together with {@link #concurrency()}, which serves as the weight of the job,
+     * it determines the share of the pool the algorithm receives when jobs run concurrently.
+     */
+    @Value.Default
+    @Configuration.Key(JOB_PRIORITY_KEY)
+    @Configuration.ConvertWith(method = "org.neo4j.gds.core.concurrency.JobPriority#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.concurrency.JobPriority#toString")
+    default JobPriority jobPriority() {
+        return JobPriority.NORMAL;
+    }
 
     @Value.Default
     @Configuration.Key(RELATIONSHIP_TYPES_KEY)
@@ -33,7 +33,9 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.GraphStoreFactory;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.loading.AdjacencyListEncoding;
 import org.neo4j.gds.core.loading.NativeFactory;
+import org.neo4j.gds.core.loading.NodeOrdering;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -50,6 +52,8 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
     String RELATIONSHIP_PROJECTION_KEY = "relationshipProjection";
     String NODE_PROPERTIES_KEY = "nodeProperties";
     String RELATIONSHIP_PROPERTIES_KEY = "relationshipProperties";
+    String NODE_ORDERING_KEY = "nodeOrdering";
+    String ADJACENCY_LIST_ENCODING_KEY = "adjacencyListEncoding";
 
     @Key(NODE_PROJECTION_KEY)
     @ConvertWith(method = "org.neo4j.gds.NodeProjections#fromObject")
@@ -77,6 +81,24 @@ public interface GraphProjectFromStoreConfig extends GraphProjectConfig {
         return PropertyMappings.of();
     }
 
+    @Value.Default
+    @Value.Parameter(false)
+    @Key(NODE_ORDERING_KEY)
+    @ConvertWith(method = "org.neo4j.gds.core.loading.NodeOrdering#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.loading.NodeOrdering#toString")
+    default NodeOrdering nodeOrdering() {
+        return NodeOrdering.NATURAL;
+    }
+
+    @Value.Default
+    @Value.Parameter(false)
+    @Key(ADJACENCY_LIST_ENCODING_KEY)
+    @ConvertWith(method = "org.neo4j.gds.core.loading.AdjacencyListEncoding#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.core.loading.AdjacencyListEncoding#toString")
+    default AdjacencyListEncoding adjacencyListEncoding() {
+        return AdjacencyListEncoding.DEFAULT;
+    }
+
     @Configuration.Ignore
     @Override
     default GraphStoreFactory.Supplier graphStoreFactory() {
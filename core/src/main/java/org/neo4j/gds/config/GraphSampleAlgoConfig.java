@@ -30,6 +30,6 @@ public interface GraphSampleAlgoConfig extends AlgoBaseConfig, RelationshipWeigh
     @Value.Derived
     @Configuration.Ignore
     default Set<String> outputFieldDenylist() {
-        return Set.of("jobId", "concurrency", "sudo");
+        return Set.of("jobId", "jobPriority", "concurrency", "sudo");
     }
 }
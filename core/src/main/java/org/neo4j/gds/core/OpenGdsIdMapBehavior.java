@@ -23,7 +23,11 @@ import org.neo4j.gds.core.loading.ArrayIdMap;
 import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
 import org.neo4j.gds.core.loading.GrowingArrayIdMapBuilder;
 import org.neo4j.gds.core.loading.IdMapBuilder;
+import org.neo4j.gds.core.loading.RankSelectIdMap;
+import org.neo4j.gds.core.loading.RankSelectIdMapBuilder;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Optional;
 
@@ -35,6 +39,12 @@ public class OpenGdsIdMapBehavior implements IdMapBehavior {
         Optional<Long> maxOriginalId,
         Optional<Long> nodeCount
     ) {
+        if (GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.isEnabled() && maxOriginalId.isPresent() && nodeCount.isPresent()) {
+            long highestOriginalId = maxOriginalId.get();
+            if (RankSelectIdMap.isPreferred(nodeCount.get(), highestOriginalId)) {
+                return RankSelectIdMapBuilder.of(highestOriginalId + 1);
+            }
+        }
         return nodeCount.or(() -> maxOriginalId.map(maxId -> maxId + 1))
             .map(capacity -> (IdMapBuilder) ArrayIdMapBuilder.of(capacity))
             .orElseGet(GrowingArrayIdMapBuilder::of);
@@ -42,6 +52,12 @@ public class OpenGdsIdMapBehavior implements IdMapBehavior {
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.isEnabled()) {
+            return MemoryEstimations.setup("", dimensions -> RankSelectIdMap.isPreferred(
+                dimensions.nodeCount(),
+                dimensions.highestPossibleNodeCount() - 1
+            ) ? RankSelectIdMap.memoryEstimation() : ArrayIdMap.memoryEstimation());
+        }
         return ArrayIdMap.memoryEstimation();
     }
 }
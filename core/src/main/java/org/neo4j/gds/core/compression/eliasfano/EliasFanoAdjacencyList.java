@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.eliasfano;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.core.compression.eliasfano.EliasFanoEncoding.SAMPLE_RATE;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * An adjacency list that stores each list with {@link EliasFanoEncoding}.
+ * Its cursor implements {@link AdjacencyCursor#advance(long)} and {@link AdjacencyCursor#skipUntil(long)}
+ * by jumping to the bucket of the target, which only scans the targets that share their upper bits with it,
+ * instead of decoding all targets in between.
+ */
+public final class EliasFanoAdjacencyList implements AdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return EliasFanoAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // Best case scenario:
+        // The targets of each list are consecutive, so no lower bits are needed
+        // and the upper bits contain one bit per target plus the closing zero.
+        long bestCaseWords = avgDegree > 0 ? 1 + ceilDiv(avgDegree + 1, Long.SIZE) : 0L;
+
+        // Worst case scenario:
+        // The targets of each list are spread over all nodes, so log2(nodeCount / avgDegree) lower bits are needed
+        // and the upper bits contain one bit per target plus at most 2 * avgDegree zeros.
+        long worstCaseWords = 0L;
+        if (avgDegree > 0) {
+            long quotient = Math.max(1, nodeCount / avgDegree);
+            long lowerBits = Long.SIZE - 1 - Long.numberOfLeadingZeros(quotient);
+            long upperBits = 3 * avgDegree + 1;
+            worstCaseWords = 1
+                             + ceilDiv(avgDegree * lowerBits, Long.SIZE)
+                             + ceilDiv(upperBits, Long.SIZE)
+                             + (2 * avgDegree) / SAMPLE_RATE;
+        }
+
+        long bestCaseAdjacencySize = bestCaseWords * nodeCount;
+        long worstCaseAdjacencySize = worstCaseWords * nodeCount;
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        long bytesPerPage = MemoryUsage.sizeOfLongArray(BumpAllocator.PAGE_SIZE);
+        long minMemoryReqs = minPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(minPages);
+        long maxMemoryReqs = maxPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(maxPages);
+
+        return MemoryEstimations
+            .builder(EliasFanoAdjacencyList.class)
+            .fixed("pages", MemoryRange.of(minMemoryReqs, maxMemoryReqs))
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private final long[][] pages;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+
+    EliasFanoAdjacencyList(long[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new EliasFanoCursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof EliasFanoCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new EliasFanoCursor(pages);
+    }
+
+    static final class EliasFanoCursor implements AdjacencyCursor {
+
+        private final long[][] pages;
+
+        private long[] page;
+        private int degree;
+        private int lowerBits;
+        private long lowerMask;
+        private int samplesStart;
+        private int sampleCount;
+        private int lowerStart;
+        private int upperStart;
+        private long zeros;
+
+        // the number of targets that have been returned
+        private int index;
+        // the position in the upper bits from which the next target is searched
+        private long upperPosition;
+
+        private EliasFanoCursor(long[][] pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            this.page = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)];
+            int offset = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+
+            long header = page[offset];
+            long upperBitLength = EliasFanoEncoding.upperBitLength(header);
+            this.degree = degree;
+            this.lowerBits = EliasFanoEncoding.lowerBits(header);
+            this.lowerMask = (1L << lowerBits) - 1;
+            this.zeros = upperBitLength - degree;
+            this.sampleCount = EliasFanoEncoding.sampleCount(upperBitLength, degree);
+            this.samplesStart = offset + 1;
+            this.lowerStart = samplesStart + sampleCount;
+            this.upperStart = lowerStart + EliasFanoEncoding.lowerWords(degree, lowerBits);
+            this.index = 0;
+            this.upperPosition = 0;
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - index;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return index < degree;
+        }
+
+        @Override
+        public long nextVLong() {
+            long upperBit = nextOne(upperPosition);
+            long value = value(upperBit, index);
+            index++;
+            upperPosition = upperBit + 1;
+            return value;
+        }
+
+        @Override
+        public long peekVLong() {
+            if (!hasNextVLong()) {
+                return NOT_FOUND;
+            }
+            return value(nextOne(upperPosition), index);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            return advance(target + 1);
+        }
+
+        @Override
+        public long advance(long target) {
+            if (!hasNextVLong()) {
+                return NOT_FOUND;
+            }
+
+            long bucket = target >>> lowerBits;
+            if (bucket >= zeros) {
+                // all targets are smaller
+                index = degree;
+                return NOT_FOUND;
+            }
+
+            long nextBucket = nextOne(upperPosition) - index;
+            if (bucket > nextBucket) {
+                // jump to the first target in the bucket of the target
+                long bucketStart = selectZero(bucket) + 1;
+                index = (int) (bucketStart - bucket);
+                upperPosition = bucketStart;
+            }
+
+            while (index < degree) {
+                long value = nextVLong();
+                if (value >= target) {
+                    return value;
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            if (remaining() <= n) {
+                index = degree;
+                return NOT_FOUND;
+            }
+
+            // skip the next n ones in the upper bits
+            long position = upperPosition;
+            int wordIndex = (int) (position >>> 6);
+            long word = page[upperStart + wordIndex] & (-1L << (position & 63));
+            int toSkip = n;
+            int ones = Long.bitCount(word);
+            while (ones <= toSkip) {
+                toSkip -= ones;
+                word = page[upperStart + ++wordIndex];
+                ones = Long.bitCount(word);
+            }
+            for (int i = 0; i < toSkip; i++) {
+                word &= word - 1;
+            }
+
+            index += n;
+            upperPosition = ((long) wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            return nextVLong();
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof EliasFanoCursor
+                ? (EliasFanoCursor) destination
+                : new EliasFanoCursor(pages);
+            dest.page = page;
+            dest.degree = degree;
+            dest.lowerBits = lowerBits;
+            dest.lowerMask = lowerMask;
+            dest.samplesStart = samplesStart;
+            dest.sampleCount = sampleCount;
+            dest.lowerStart = lowerStart;
+            dest.upperStart = upperStart;
+            dest.zeros = zeros;
+            dest.index = index;
+            dest.upperPosition = upperPosition;
+            return dest;
+        }
+
+        private long value(long upperBit, int index) {
+            long high = upperBit - index;
+            return (high << lowerBits) | lower(index);
+        }
+
+        private long lower(int index) {
+            if (lowerBits == 0) {
+                return 0L;
+            }
+            long bitOffset = (long) index * lowerBits;
+            int word = lowerStart + (int) (bitOffset >>> 6);
+            int shift = (int) (bitOffset & 63);
+            long value = page[word] >>> shift;
+            if (shift + lowerBits > Long.SIZE) {
+                value |= page[word + 1] << (Long.SIZE - shift);
+            }
+            return value & lowerMask;
+        }
+
+        /**
+         * The position of the first one in the upper bits at or after {@code position}.
+         */
+        private long nextOne(long position) {
+            int wordIndex = (int) (position >>> 6);
+            long word = page[upperStart + wordIndex] & (-1L << (position & 63));
+            while (word == 0) {
+                word = page[upperStart + ++wordIndex];
+            }
+            return ((long) wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        /**
+         * The position of the {@code rank}-th zero in the upper bits, counting from one.
+         */
+        private long selectZero(long rank) {
+            int sample = (int) Math.min(rank / SAMPLE_RATE, sampleCount);
+            long position = 0;
+            long remaining = rank;
+            if (sample > 0) {
+                long samplePosition = page[samplesStart + sample - 1];
+                remaining -= (long) sample * SAMPLE_RATE;
+                if (remaining == 0) {
+                    return samplePosition;
+                }
+                position = samplePosition + 1;
+            }
+
+            int wordIndex = (int) (position >>> 6);
+            long word = ~page[upperStart + wordIndex] & (-1L << (position & 63));
+            int zerosInWord = Long.bitCount(word);
+            while (zerosInWord < remaining) {
+                remaining -= zerosInWord;
+                word = ~page[upperStart + ++wordIndex];
+                zerosInWord = Long.bitCount(word);
+            }
+            for (long i = 1; i < remaining; i++) {
+                word &= word - 1;
+            }
+            return ((long) wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+    }
+}
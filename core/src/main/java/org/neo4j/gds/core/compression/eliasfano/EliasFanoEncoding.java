@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.eliasfano;
+
+import org.neo4j.gds.mem.BitUtil;
+
+/**
+ * Elias-Fano encoding of a sorted adjacency list.
+ * <p>
+ * Each target is split into its {@code L} lower bits, which are stored verbatim,
+ * and its remaining upper bits, which are stored in unary as a bit vector:
+ * the {@code i}-th target sets the bit at {@code (target >>> L) + i}.
+ * Every zero in the upper bit vector closes a bucket of targets that share the same upper bits,
+ * so the first target that is at least {@code x} can be found by selecting the {@code (x >>> L)}-th zero.
+ * To make that select fast, the position of every {@link #SAMPLE_RATE}-th zero is sampled.
+ * <p>
+ * The layout of an encoded list, in longs, is:
+ * <pre>
+ * | header | zero samples | lower bits | upper bits |
+ * </pre>
+ * where the header holds {@code L} in its lowest byte and the length of the upper bit vector in the remaining bits.
+ */
+final class EliasFanoEncoding {
+
+    static final int SAMPLE_RATE = 256;
+
+    private static final int LOWER_BITS_MASK = 0xFF;
+    private static final int UPPER_LENGTH_SHIFT = Byte.SIZE;
+
+    private EliasFanoEncoding() {}
+
+    static int lowerBits(long[] values, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        long universe = values[length - 1] + 1;
+        long quotient = universe / length;
+        return quotient <= 1 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(quotient);
+    }
+
+    static long upperBitLength(long[] values, int length, int lowerBits) {
+        return length == 0 ? 0 : length + (values[length - 1] >>> lowerBits) + 1;
+    }
+
+    static int sampleCount(long upperBitLength, int length) {
+        return (int) ((upperBitLength - length) / SAMPLE_RATE);
+    }
+
+    static int lowerWords(int length, int lowerBits) {
+        return (int) BitUtil.ceilDiv((long) length * lowerBits, Long.SIZE);
+    }
+
+    static int upperWords(long upperBitLength) {
+        return (int) BitUtil.ceilDiv(upperBitLength, Long.SIZE);
+    }
+
+    /**
+     * The number of longs that are needed to encode the given sorted values.
+     */
+    static int encodedWords(long[] values, int length) {
+        int lowerBits = lowerBits(values, length);
+        long upperBitLength = upperBitLength(values, length, lowerBits);
+        return 1 + sampleCount(upperBitLength, length) + lowerWords(length, lowerBits) + upperWords(upperBitLength);
+    }
+
+    /**
+     * Encodes the given sorted values into {@code out}, which must be at least {@link #encodedWords(long[], int)} large,
+     * and returns the number of written longs.
+     */
+    static int encode(long[] values, int length, long[] out) {
+        int lowerBits = lowerBits(values, length);
+        long upperBitLength = upperBitLength(values, length, lowerBits);
+        int sampleCount = sampleCount(upperBitLength, length);
+        int lowerWords = lowerWords(length, lowerBits);
+        int upperWords = upperWords(upperBitLength);
+
+        int samplesStart = 1;
+        int lowerStart = samplesStart + sampleCount;
+        int upperStart = lowerStart + lowerWords;
+        int end = upperStart + upperWords;
+
+        for (int i = 0; i < end; i++) {
+            out[i] = 0L;
+        }
+        out[0] = header(lowerBits, upperBitLength);
+
+        long lowerMask = (1L << lowerBits) - 1;
+        for (int i = 0; i < length; i++) {
+            long value = values[i];
+
+            if (lowerBits > 0) {
+                long low = value & lowerMask;
+                long bitOffset = (long) i * lowerBits;
+                int word = lowerStart + (int) (bitOffset >>> 6);
+                int shift = (int) (bitOffset & 63);
+                out[word] |= low << shift;
+                if (shift + lowerBits > Long.SIZE) {
+                    out[word + 1] |= low >>> (Long.SIZE - shift);
+                }
+            }
+
+            long upperBit = (value >>> lowerBits) + i;
+            out[upperStart + (int) (upperBit >>> 6)] |= 1L << (upperBit & 63);
+        }
+
+        // sample the position of every SAMPLE_RATE-th zero in the upper bits
+        long zeros = 0;
+        int sample = 0;
+        for (int word = 0; word < upperWords && sample < sampleCount; word++) {
+            long inverted = ~out[upperStart + word];
+            while (inverted != 0 && sample < sampleCount) {
+                long position = ((long) word << 6) + Long.numberOfTrailingZeros(inverted);
+                if (++zeros % SAMPLE_RATE == 0) {
+                    out[samplesStart + sample++] = position;
+                }
+                inverted &= inverted - 1;
+            }
+        }
+
+        return end;
+    }
+
+    static long header(int lowerBits, long upperBitLength) {
+        return (upperBitLength << UPPER_LENGTH_SHIFT) | lowerBits;
+    }
+
+    static int lowerBits(long header) {
+        return (int) (header & LOWER_BITS_MASK);
+    }
+
+    static long upperBitLength(long header) {
+        return header >>> UPPER_LENGTH_SHIFT;
+    }
+}
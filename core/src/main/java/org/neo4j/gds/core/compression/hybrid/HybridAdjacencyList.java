@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.hybrid;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.common.VarLongDecoding;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodedVLongSize;
+import static org.neo4j.gds.core.compression.hybrid.HybridEncoding.BITMAP;
+import static org.neo4j.gds.core.compression.hybrid.HybridEncoding.BLOCK_SIZE;
+import static org.neo4j.gds.core.compression.hybrid.HybridEncoding.PACKED;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * An adjacency list that stores each list in the representation chosen by {@link HybridEncoding}.
+ * The cursor reads the tag of a list on initialization and decodes blocks of up to {@link HybridEncoding#BLOCK_SIZE}
+ * targets at a time. For bitmap encoded lists, {@link AdjacencyCursor#advance(long)} jumps to the target position.
+ */
+public final class HybridAdjacencyList implements AdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return HybridAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // Best case scenario:
+        // All lists are dense, i.e. the difference between the targets is 1,
+        // and are stored as a bitmap with a single bit per target.
+        long firstAdjacencyIdAvgByteSize = (avgDegree > 0) ? ceilDiv(encodedVLongSize(nodeCount), 2) : 0L;
+        long bestCaseAdjacencySize = (1 + firstAdjacencyIdAvgByteSize + ceilDiv(Math.max(0, avgDegree - 1), Byte.SIZE)) * nodeCount;
+
+        // Worst case scenario:
+        // No list is smaller in any other representation than in the var long encoding,
+        // which is estimated in the same way as for the compressed adjacency list, plus the tag of each list.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long worstCaseAdjacencySize = nodeCount + CompressedAdjacencyList.computeAdjacencyByteSize(
+            avgDegree,
+            nodeCount,
+            deltaWorstCase
+        );
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        long bytesPerPage = MemoryUsage.sizeOfByteArray(BumpAllocator.PAGE_SIZE);
+        long minMemoryReqs = minPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(minPages);
+        long maxMemoryReqs = maxPages * bytesPerPage + MemoryUsage.sizeOfObjectArray(maxPages);
+
+        return MemoryEstimations
+            .builder(HybridAdjacencyList.class)
+            .fixed("pages", MemoryRange.of(minMemoryReqs, maxMemoryReqs))
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation)
+            .build();
+    }
+
+    private final byte[][] pages;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+
+    HybridAdjacencyList(byte[][] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    /**
+     * The representation that has been chosen for the adjacency list of the given node.
+     */
+    byte encoding(long node) {
+        long offset = offsets.get(node);
+        return pages[pageIndex(offset, BumpAllocator.PAGE_SHIFT)][indexInPage(offset, BumpAllocator.PAGE_MASK)];
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new HybridCursor(pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof HybridCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new HybridCursor(pages);
+    }
+
+    static final class HybridCursor implements AdjacencyCursor {
+
+        private final byte[][] pages;
+        private final long[] buffer;
+
+        private byte[] page;
+        private int offset;
+        private byte encoding;
+
+        private int degree;
+        // number of targets returned to the caller
+        private int currentPosition;
+        // number of targets taken from the encoded list, either into the buffer or skipped
+        private int decoded;
+
+        private int bufferPosition;
+        private int bufferLength;
+        private long lastValue;
+
+        // bitmap state: the unread bits of the current byte and the target of its lowest bit
+        private int currentBits;
+        private long bitmapBase;
+
+        private HybridCursor(byte[][] pages) {
+            this.pages = pages;
+            this.buffer = new long[BLOCK_SIZE];
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            this.page = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)];
+            this.offset = indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+            this.encoding = page[offset++];
+            this.degree = degree;
+            this.currentPosition = 0;
+            this.bufferPosition = 0;
+            this.lastValue = 0L;
+
+            if (encoding == PACKED || encoding == BITMAP) {
+                // the first target is always stored as var long
+                this.offset = VarLongDecoding.decodeDeltaVLongs(0L, page, offset, 1, buffer);
+                this.lastValue = buffer[0];
+                this.bufferLength = 1;
+                this.decoded = 1;
+                this.currentBits = 0;
+                this.bitmapBase = lastValue + 1 - Byte.SIZE;
+            } else {
+                this.bufferLength = 0;
+                this.decoded = 0;
+            }
+        }
+
+        @Override
+        public int size() {
+            return degree;
+        }
+
+        @Override
+        public int remaining() {
+            return degree - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < degree;
+        }
+
+        @Override
+        public long nextVLong() {
+            if (bufferPosition == bufferLength) {
+                fill();
+            }
+            currentPosition++;
+            return buffer[bufferPosition++];
+        }
+
+        @Override
+        public long peekVLong() {
+            if (!hasNextVLong()) {
+                return NOT_FOUND;
+            }
+            if (bufferPosition == bufferLength) {
+                fill();
+            }
+            return buffer[bufferPosition];
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            return advance(target + 1);
+        }
+
+        @Override
+        public long advance(long target) {
+            while (hasNextVLong()) {
+                if (bufferPosition == bufferLength) {
+                    if (encoding == BITMAP) {
+                        seekBitmap(target);
+                        if (!hasNextVLong()) {
+                            break;
+                        }
+                    }
+                    fill();
+                }
+                if (buffer[bufferLength - 1] < target) {
+                    // none of the buffered targets qualifies
+                    currentPosition += bufferLength - bufferPosition;
+                    bufferPosition = bufferLength;
+                    continue;
+                }
+                while (buffer[bufferPosition] < target) {
+                    bufferPosition++;
+                    currentPosition++;
+                }
+                currentPosition++;
+                return buffer[bufferPosition++];
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            if (remaining() <= n) {
+                currentPosition = degree;
+                bufferPosition = bufferLength;
+                return NOT_FOUND;
+            }
+
+            while (n >= bufferLength - bufferPosition) {
+                int skipped = bufferLength - bufferPosition;
+                n -= skipped;
+                currentPosition += skipped;
+                fill();
+            }
+            bufferPosition += n;
+            currentPosition += n + 1;
+            return buffer[bufferPosition++];
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof HybridCursor
+                ? (HybridCursor) destination
+                : new HybridCursor(pages);
+            dest.page = page;
+            dest.offset = offset;
+            dest.encoding = encoding;
+            dest.degree = degree;
+            dest.currentPosition = currentPosition;
+            dest.decoded = decoded;
+            dest.bufferPosition = bufferPosition;
+            dest.bufferLength = bufferLength;
+            dest.lastValue = lastValue;
+            dest.currentBits = currentBits;
+            dest.bitmapBase = bitmapBase;
+            System.arraycopy(buffer, 0, dest.buffer, 0, bufferLength);
+            return dest;
+        }
+
+        private void fill() {
+            int length = Math.min(BLOCK_SIZE, degree - decoded);
+            switch (encoding) {
+                case PACKED:
+                    fillPacked(length);
+                    break;
+                case BITMAP:
+                    fillBitmap(length);
+                    break;
+                default:
+                    offset = VarLongDecoding.decodeDeltaVLongs(lastValue, page, offset, length, buffer);
+                    break;
+            }
+            lastValue = buffer[length - 1];
+            decoded += length;
+            bufferPosition = 0;
+            bufferLength = length;
+        }
+
+        private void fillPacked(int length) {
+            int bits = page[offset++];
+            int pos = offset;
+            long value = lastValue;
+            int current = 0;
+            int bitsInCurrent = 0;
+            for (int i = 0; i < length; i++) {
+                long delta = 0;
+                int read = 0;
+                while (read < bits) {
+                    if (bitsInCurrent == 0) {
+                        current = page[pos++] & 0xFF;
+                        bitsInCurrent = Byte.SIZE;
+                    }
+                    int take = Math.min(bits - read, bitsInCurrent);
+                    delta |= ((long) (current & ((1 << take) - 1))) << read;
+                    current >>>= take;
+                    bitsInCurrent -= take;
+                    read += take;
+                }
+                value += delta;
+                buffer[i] = value;
+            }
+            offset += HybridEncoding.packedBlockSize(bits, length);
+        }
+
+        private void fillBitmap(int length) {
+            int bits = currentBits;
+            long base = bitmapBase;
+            for (int i = 0; i < length; i++) {
+                while (bits == 0) {
+                    bits = page[offset++] & 0xFF;
+                    base += Byte.SIZE;
+                }
+                buffer[i] = base + Integer.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+            currentBits = bits;
+            bitmapBase = base;
+        }
+
+        /**
+         * Skips all targets of a bitmap encoded list that are smaller than {@code target}, without decoding them.
+         * Must only be called when the buffer is exhausted.
+         */
+        private void seekBitmap(long target) {
+            int skipped = 0;
+            int left = degree - decoded;
+            int bits = currentBits;
+            long base = bitmapBase;
+
+            // skip complete bytes, but stop before reading past the end of the bitmap
+            while (target - base >= Byte.SIZE && skipped + Integer.bitCount(bits) < left) {
+                skipped += Integer.bitCount(bits);
+                bits = page[offset++] & 0xFF;
+                base += Byte.SIZE;
+            }
+
+            if (target - base >= Byte.SIZE) {
+                // all remaining targets are smaller
+                skipped = left;
+                bits = 0;
+            } else if (target > base) {
+                int below = bits & ((1 << (int) (target - base)) - 1);
+                skipped += Integer.bitCount(below);
+                bits &= ~below;
+            }
+
+            currentBits = bits;
+            bitmapBase = base;
+            decoded += skipped;
+            currentPosition += skipped;
+        }
+    }
+}
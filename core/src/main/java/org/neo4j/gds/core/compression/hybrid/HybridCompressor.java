@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.hybrid;
+
+import org.neo4j.gds.PropertyMappings;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.compress.AdjacencyListBuilder;
+import org.neo4j.gds.api.compress.AdjacencyListBuilderFactory;
+import org.neo4j.gds.api.compress.LongArrayBuffer;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.AbstractAdjacencyCompressorFactory;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Sorts and delta encodes the targets of each node like the {@link org.neo4j.gds.core.compression.varlong.DeltaVarLongCompressor},
+ * but then stores them in the smallest representation that {@link HybridEncoding} offers for that node.
+ */
+public final class HybridCompressor implements AdjacencyCompressor {
+
+    private final AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator;
+    private final AdjacencyListBuilder.Allocator<long[]>[] propertiesAllocators;
+    private final HugeIntArray adjacencyDegrees;
+    private final HugeLongArray adjacencyOffsets;
+    private final HugeLongArray propertyOffsets;
+    private final boolean noAggregation;
+    private final Aggregation[] aggregations;
+
+    private byte[] encodingBuffer;
+
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return factory(
+            nodeCountSupplier,
+            HybridAdjacencyListBuilderFactory.of(),
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
+    public static AdjacencyCompressorFactory factory(
+        LongSupplier nodeCountSupplier,
+        AdjacencyListBuilderFactory<byte[], ? extends AdjacencyList, long[], ? extends AdjacencyProperties> adjacencyListBuilderFactory,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        @SuppressWarnings("unchecked")
+        AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders = new AdjacencyListBuilder[propertyMappings.numberOfMappings()];
+        Arrays.setAll(propertyBuilders, i -> adjacencyListBuilderFactory.newAdjacencyPropertiesBuilder());
+
+        return new Factory(
+            nodeCountSupplier,
+            adjacencyListBuilderFactory.newAdjacencyListBuilder(),
+            propertyBuilders,
+            noAggregation,
+            aggregations
+        );
+    }
+
+    private HybridCompressor(
+        AdjacencyListBuilder.Allocator<byte[]> adjacencyAllocator,
+        AdjacencyListBuilder.Allocator<long[]>[] propertiesAllocators,
+        HugeIntArray adjacencyDegrees,
+        HugeLongArray adjacencyOffsets,
+        HugeLongArray propertyOffsets,
+        boolean noAggregation,
+        Aggregation[] aggregations
+    ) {
+        this.adjacencyAllocator = adjacencyAllocator;
+        this.propertiesAllocators = propertiesAllocators;
+        this.adjacencyDegrees = adjacencyDegrees;
+        this.adjacencyOffsets = adjacencyOffsets;
+        this.propertyOffsets = propertyOffsets;
+        this.noAggregation = noAggregation;
+        this.aggregations = aggregations;
+        this.encodingBuffer = new byte[0];
+    }
+
+    @Override
+    public int compress(
+        long nodeId,
+        byte[] targets,
+        long[][] properties,
+        int numberOfCompressedTargets,
+        int compressedBytesSize,
+        LongArrayBuffer buffer,
+        ValueMapper mapper
+    ) {
+        // decompress into full uncompressed long[] (in buffer), ordered by whatever order they've been read
+        AdjacencyCompression.zigZagUncompressFrom(buffer, targets, numberOfCompressedTargets, compressedBytesSize, mapper);
+
+        // sort and delta encode, the first value is kept as is
+        int degree = properties != null
+            ? AdjacencyCompression.applyDeltaEncoding(buffer, properties, aggregations, noAggregation)
+            : AdjacencyCompression.applyDeltaEncoding(buffer, aggregations[0]);
+
+        long address = copyIds(buffer.buffer, degree);
+
+        if (properties != null) {
+            copyProperties(properties, degree, nodeId, propertyOffsets);
+        }
+
+        this.adjacencyDegrees.set(nodeId, degree);
+        this.adjacencyOffsets.set(nodeId, address);
+
+        return degree;
+    }
+
+    @Override
+    public void close() {
+        adjacencyAllocator.close();
+        for (var propertiesAllocator : propertiesAllocators) {
+            if (propertiesAllocator != null) {
+                propertiesAllocator.close();
+            }
+        }
+    }
+
+    private long copyIds(long[] deltas, int degree) {
+        byte encoding = HybridEncoding.encodingFor(deltas, degree);
+        int requiredBytes = (int) HybridEncoding.encodedSize(encoding, deltas, degree);
+        if (requiredBytes > encodingBuffer.length) {
+            encodingBuffer = new byte[requiredBytes];
+        }
+        int writtenBytes = HybridEncoding.encode(encoding, deltas, degree, encodingBuffer);
+        return adjacencyAllocator.write(encodingBuffer, writtenBytes, -1L);
+    }
+
+    private void copyProperties(long[][] properties, int degree, long nodeId, HugeLongArray offsets) {
+        long offset = propertiesAllocators[0].write(properties[0], degree, -1L);
+
+        for (int i = 1; i < properties.length; i++) {
+            propertiesAllocators[i].write(properties[i], degree, offset);
+        }
+
+        offsets.set(nodeId, offset);
+    }
+
+    private static final class Factory extends AbstractAdjacencyCompressorFactory<byte[], long[]> {
+
+        Factory(
+            LongSupplier nodeCountSupplier,
+            AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
+            AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            boolean noAggregation,
+            Aggregation[] aggregations
+        ) {
+            super(
+                nodeCountSupplier,
+                adjacencyBuilder,
+                propertyBuilders,
+                noAggregation,
+                aggregations
+            );
+        }
+
+        @Override
+        protected AdjacencyCompressor createCompressorFromInternalState(
+            AdjacencyListBuilder<byte[], ? extends AdjacencyList> adjacencyBuilder,
+            AdjacencyListBuilder<long[], ? extends AdjacencyProperties>[] propertyBuilders,
+            boolean noAggregation,
+            Aggregation[] aggregations,
+            HugeIntArray adjacencyDegrees,
+            HugeLongArray adjacencyOffsets,
+            HugeLongArray propertyOffsets
+        ) {
+            var propertyAllocators = new AdjacencyListBuilder.Allocator[propertyBuilders.length];
+            Arrays.setAll(
+                propertyAllocators,
+                i -> i == 0 ? propertyBuilders[i].newAllocator() : propertyBuilders[i].newPositionalAllocator()
+            );
+
+            //noinspection unchecked
+            return new HybridCompressor(
+                adjacencyBuilder.newAllocator(),
+                propertyAllocators,
+                adjacencyDegrees,
+                adjacencyOffsets,
+                propertyOffsets,
+                noAggregation,
+                aggregations
+            );
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.hybrid;
+
+import org.neo4j.gds.core.compression.common.VarLongEncoding;
+import org.neo4j.gds.mem.BitUtil;
+
+import static org.neo4j.gds.core.compression.common.VarLongEncoding.encodedVLongSize;
+
+/**
+ * Encodes a single, delta-encoded adjacency list into the smallest of three representations.
+ * The first byte of every encoded list is a tag that identifies the representation:
+ *
+ * <ul>
+ *     <li>{@link #VAR_LONG}: all deltas as variable length longs, identical to the compressed adjacency list.
+ *     Best for short lists and for lists with very irregular gaps.</li>
+ *     <li>{@link #PACKED}: the first target as a variable length long, followed by blocks of
+ *     {@link #BLOCK_SIZE} deltas, each prefixed with a byte holding the bit width of the largest delta in the block.
+ *     Best for lists with similar gaps that do not align with the 7 bit groups of the var long encoding.</li>
+ *     <li>{@link #BITMAP}: the first target as a variable length long, followed by a bitmap with one bit for each
+ *     node id up to the last target. Best for dense lists, e.g. hubs, but not applicable to lists with parallel
+ *     relationships.</li>
+ * </ul>
+ */
+final class HybridEncoding {
+
+    static final byte VAR_LONG = 0;
+    static final byte PACKED = 1;
+    static final byte BITMAP = 2;
+
+    static final int BLOCK_SIZE = 64;
+
+    private HybridEncoding() {}
+
+    /**
+     * Chooses the representation for the given deltas, the first value is the absolute first target.
+     */
+    static byte encodingFor(long[] deltas, int degree) {
+        if (degree < 2) {
+            return VAR_LONG;
+        }
+
+        long varLongSize = VarLongEncoding.encodedVLongsSize(deltas, degree);
+        long packedSize = packedSize(deltas, degree);
+        long bitmapSize = bitmapSize(deltas, degree);
+
+        if (bitmapSize < varLongSize && bitmapSize <= packedSize) {
+            return BITMAP;
+        }
+        if (packedSize < varLongSize) {
+            return PACKED;
+        }
+        return VAR_LONG;
+    }
+
+    /**
+     * The number of bytes, including the tag, needed to encode the deltas with the given representation.
+     */
+    static long encodedSize(byte encoding, long[] deltas, int degree) {
+        switch (encoding) {
+            case PACKED:
+                return 1 + packedSize(deltas, degree);
+            case BITMAP:
+                return 1 + bitmapSize(deltas, degree);
+            default:
+                return 1 + VarLongEncoding.encodedVLongsSize(deltas, degree);
+        }
+    }
+
+    /**
+     * Writes the tag and the encoded deltas into {@code out}, which must be at least
+     * {@link #encodedSize(byte, long[], int)} bytes large, and returns the number of written bytes.
+     */
+    static int encode(byte encoding, long[] deltas, int degree, byte[] out) {
+        out[0] = encoding;
+        switch (encoding) {
+            case PACKED:
+                return encodePacked(deltas, degree, out);
+            case BITMAP:
+                return encodeBitmap(deltas, degree, out);
+            default:
+                return VarLongEncoding.encodeVLongs(deltas, degree, out, 1);
+        }
+    }
+
+    private static long packedSize(long[] deltas, int degree) {
+        long size = encodedVLongSize(deltas[0]);
+        for (int start = 1; start < degree; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, degree - start);
+            size += 1 + packedBlockSize(bitsNeeded(deltas, start, length), length);
+        }
+        return size;
+    }
+
+    private static long bitmapSize(long[] deltas, int degree) {
+        long span = 0;
+        for (int i = 1; i < degree; i++) {
+            if (deltas[i] == 0) {
+                // parallel relationships cannot be represented by a bitmap
+                return Long.MAX_VALUE;
+            }
+            span += deltas[i];
+        }
+        return encodedVLongSize(deltas[0]) + BitUtil.ceilDiv(span, Byte.SIZE);
+    }
+
+    private static int encodePacked(long[] deltas, int degree, byte[] out) {
+        int pos = VarLongEncoding.encodeVLongs(deltas, 0, 1, out, 1);
+        for (int start = 1; start < degree; start += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, degree - start);
+            int bits = bitsNeeded(deltas, start, length);
+            out[pos++] = (byte) bits;
+
+            int blockSize = packedBlockSize(bits, length);
+            for (int i = pos; i < pos + blockSize; i++) {
+                out[i] = 0;
+            }
+
+            long bitPos = 0;
+            for (int i = start; i < start + length; i++) {
+                long value = deltas[i];
+                int written = 0;
+                while (written < bits) {
+                    int byteIndex = pos + (int) (bitPos >>> 3);
+                    int bitInByte = (int) (bitPos & 7);
+                    int take = Math.min(bits - written, Byte.SIZE - bitInByte);
+                    out[byteIndex] |= (byte) ((value & ((1L << take) - 1)) << bitInByte);
+                    value >>>= take;
+                    written += take;
+                    bitPos += take;
+                }
+            }
+            pos += blockSize;
+        }
+        return pos;
+    }
+
+    private static int encodeBitmap(long[] deltas, int degree, byte[] out) {
+        int pos = VarLongEncoding.encodeVLongs(deltas, 0, 1, out, 1);
+        int bitmapSize = (int) (bitmapSize(deltas, degree) - encodedVLongSize(deltas[0]));
+        for (int i = pos; i < pos + bitmapSize; i++) {
+            out[i] = 0;
+        }
+
+        // bit i represents the target first + 1 + i
+        long bit = -1;
+        for (int i = 1; i < degree; i++) {
+            bit += deltas[i];
+            out[pos + (int) (bit >>> 3)] |= (byte) (1 << (bit & 7));
+        }
+        return pos + bitmapSize;
+    }
+
+    private static int bitsNeeded(long[] values, int offset, int length) {
+        long bits = 0L;
+        for (int i = offset; i < offset + length; i++) {
+            bits |= values[i];
+        }
+        return Long.SIZE - Long.numberOfLeadingZeros(bits);
+    }
+
+    static int packedBlockSize(int bits, int length) {
+        return (int) BitUtil.ceilDiv((long) bits * length, Byte.SIZE);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.loading.MutableIntValue;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import static org.neo4j.gds.collections.PageUtil.indexInPage;
+import static org.neo4j.gds.collections.PageUtil.pageIndex;
+import static org.neo4j.gds.mem.BitUtil.ceilDiv;
+
+/**
+ * A delta-encoded var-long adjacency list, like the {@link CompressedAdjacencyList},
+ * whose pages are stored in {@link OffHeapMemory}.
+ * Only the degrees, offsets, and page addresses are kept on the heap.
+ */
+public final class OffHeapAdjacencyList implements AdjacencyList {
+
+    public static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
+        return MemoryEstimations.setup("", dimensions -> {
+            long nodeCount = dimensions.nodeCount();
+            long relCountForType = dimensions
+                .relationshipCounts()
+                .getOrDefault(relationshipType, dimensions.relCountUpperBound());
+            long relCount = undirected ? relCountForType * 2 : relCountForType;
+            long avgDegree = (nodeCount > 0) ? ceilDiv(relCount, nodeCount) : 0L;
+            return OffHeapAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+        });
+    }
+
+    public static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
+        // Same best and worst case as for the on-heap compressed adjacency list,
+        // but only the page addresses are allocated on the heap.
+        // Pages in native memory are estimated as well, as they compete with the heap for the memory of the process.
+        // Pages in a spill file are backed by the file and are left out.
+        long deltaWorstCase = (avgDegree > 0) ? ceilDiv(nodeCount, avgDegree) : 0L;
+        long bestCaseAdjacencySize = CompressedAdjacencyList.computeAdjacencyByteSize(avgDegree, nodeCount, 1);
+        long worstCaseAdjacencySize = CompressedAdjacencyList.computeAdjacencyByteSize(avgDegree, nodeCount, deltaWorstCase);
+
+        int minPages = PageUtil.numPagesFor(bestCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+        int maxPages = PageUtil.numPagesFor(worstCaseAdjacencySize, BumpAllocator.PAGE_SHIFT, BumpAllocator.PAGE_MASK);
+
+        var builder = MemoryEstimations
+            .builder(OffHeapAdjacencyList.class)
+            .fixed("page addresses", MemoryRange.of(
+                MemoryUsage.sizeOfLongArray(minPages),
+                MemoryUsage.sizeOfLongArray(maxPages)
+            ))
+            .perNode("degrees", HugeIntArray::memoryEstimation)
+            .perNode("offsets", HugeLongArray::memoryEstimation);
+        if (GdsFeatureToggles.OFF_HEAP_ADJACENCY_LIST_DIRECTORY.get() == null) {
+            builder.fixed("pages (native memory)", MemoryRange.of(bestCaseAdjacencySize, worstCaseAdjacencySize));
+        }
+        return builder.build();
+    }
+
+    private final OffHeapMemory memory;
+    private final long[] pages;
+    private final HugeIntArray degrees;
+    private final HugeLongArray offsets;
+
+    /**
+     * Creates an adjacency list from pages that have already been written to the given memory,
+     * for example a {@link OffHeapMemory#mappedFile(java.nio.file.Path) mapped file}, one page after the other.
+     *
+     * @param pageSizes the size in bytes of each page, in the order in which they are stored
+     * @param offsets   the offset of each adjacency list as {@code pageIndex << PAGE_SHIFT | indexInPage}
+     */
+    public static OffHeapAdjacencyList fromPages(
+        OffHeapMemory memory,
+        long[] pageSizes,
+        HugeIntArray degrees,
+        HugeLongArray offsets
+    ) {
+        var pages = new long[pageSizes.length];
+        for (int i = 0; i < pageSizes.length; i++) {
+            pages[i] = memory.allocate(pageSizes[i]);
+        }
+        return new OffHeapAdjacencyList(memory, pages, degrees, offsets);
+    }
+
+    OffHeapAdjacencyList(OffHeapMemory memory, long[] pages, HugeIntArray degrees, HugeLongArray offsets) {
+        this.memory = memory;
+        this.pages = pages;
+        this.degrees = degrees;
+        this.offsets = offsets;
+    }
+
+    /**
+     * @return number of bytes used outside the heap to store the adjacency list.
+     */
+    public long bytesOffHeap() {
+        return this.memory.bytesAllocated();
+    }
+
+    /**
+     * Releases the pages right away. Cursors that are initialized afterwards fail,
+     * so an algorithm that is still running on a dropped graph ends with an error.
+     */
+    public void release() {
+        this.memory.release();
+    }
+
+    @Override
+    public int degree(long node) {
+        return degrees.get(node);
+    }
+
+    // Cursors
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        var cursor = new DecompressingCursor(memory, pages);
+        cursor.init(offsets.get(node), degree);
+        return cursor;
+    }
+
+    @Override
+    public AdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        var degree = degrees.get(node);
+        if (degree == 0) {
+            return AdjacencyCursor.empty();
+        }
+        if (reuse instanceof DecompressingCursor) {
+            reuse.init(offsets.get(node), degree);
+            return reuse;
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public AdjacencyCursor rawAdjacencyCursor() {
+        return new DecompressingCursor(memory, pages);
+    }
+
+    public static final class DecompressingCursor extends MutableIntValue implements AdjacencyCursor {
+
+        // keeps the off-heap memory alive while this cursor is in use
+        private final OffHeapMemory memory;
+        private final long[] pages;
+        private final OffHeapDecompressingReader decompress;
+
+        private int maxTargets;
+        private int currentPosition;
+
+        private DecompressingCursor(OffHeapMemory memory, long[] pages) {
+            this.memory = memory;
+            this.pages = pages;
+            this.decompress = new OffHeapDecompressingReader();
+        }
+
+        @Override
+        public void init(long fromIndex, int degree) {
+            if (memory.isReleased()) {
+                throw new IllegalStateException("The adjacency list has been released, its graph was probably dropped");
+            }
+            long ptr = pages[pageIndex(fromIndex, BumpAllocator.PAGE_SHIFT)] + indexInPage(fromIndex, BumpAllocator.PAGE_MASK);
+            maxTargets = decompress.reset(ptr, degree);
+            currentPosition = 0;
+        }
+
+        @Override
+        public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+            var dest = destination instanceof DecompressingCursor
+                ? (DecompressingCursor) destination
+                : new DecompressingCursor(memory, pages);
+            dest.decompress.copyFrom(this.decompress);
+            dest.currentPosition = this.currentPosition;
+            dest.maxTargets = this.maxTargets;
+            return dest;
+        }
+
+        @Override
+        public int size() {
+            return maxTargets;
+        }
+
+        @Override
+        public int remaining() {
+            return maxTargets - currentPosition;
+        }
+
+        @Override
+        public boolean hasNextVLong() {
+            return currentPosition < maxTargets;
+        }
+
+        @Override
+        public long nextVLong() {
+            int current = currentPosition++;
+            int remaining = maxTargets - current;
+            return decompress.next(remaining);
+        }
+
+        @Override
+        public long peekVLong() {
+            int remaining = maxTargets - currentPosition;
+            return decompress.peek(remaining);
+        }
+
+        @Override
+        public long skipUntil(long target) {
+            long value = decompress.skipUntil(target, remaining(), this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advance(long target) {
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= 0) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+            long value = decompress.advance(target, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+
+        @Override
+        public long advanceBy(int n) {
+            assert n >= 0;
+
+            int targetsLeftToBeDecoded = remaining();
+            if (targetsLeftToBeDecoded <= n) {
+                return AdjacencyCursor.NOT_FOUND;
+            }
+
+            var value = decompress.advanceBy(n, targetsLeftToBeDecoded, this);
+            this.currentPosition += this.value;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.neo4j.gds.api.compress.AdjacencyListBuilder;
+import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.core.compression.common.BumpAllocator.PAGE_SHIFT;
+import static org.neo4j.gds.core.compression.common.BumpAllocator.PAGE_SIZE;
+
+/**
+ * Writes compressed adjacency lists into pages of {@link OffHeapMemory}.
+ * <p>
+ * Pages are addressed the same way as in the {@link BumpAllocator},
+ * so that the offsets are interchangeable with the on-heap adjacency lists.
+ */
+public final class OffHeapAdjacencyListBuilder implements AdjacencyListBuilder<byte[], OffHeapAdjacencyList> {
+
+    private static final long BYTE_ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(byte[].class);
+
+    private final OffHeapMemory memory;
+
+    // addresses of the allocated pages, guarded by `this`
+    private long[] pages;
+    private int allocatedPages;
+
+    OffHeapAdjacencyListBuilder(OffHeapMemory memory) {
+        this.memory = memory;
+        this.pages = new long[0];
+        this.allocatedPages = 0;
+    }
+
+    @Override
+    public Allocator newAllocator() {
+        return new Allocator(this);
+    }
+
+    @Override
+    public Allocator newPositionalAllocator() {
+        return newAllocator();
+    }
+
+    @Override
+    public synchronized OffHeapAdjacencyList build(HugeIntArray degrees, HugeLongArray offsets) {
+        // Page reordering swaps on-heap pages and is not supported for off-heap pages.
+        var pages = Arrays.copyOf(this.pages, this.allocatedPages);
+        return new OffHeapAdjacencyList(this.memory, pages, degrees, offsets);
+    }
+
+    /**
+     * Allocates a new page with at least {@code bytes} bytes.
+     *
+     * @return the global offset of the first byte in that page.
+     */
+    private synchronized long allocatePage(int bytes) {
+        long address = this.memory.allocate(bytes);
+        int pageIndex = this.allocatedPages++;
+        if (pageIndex == this.pages.length) {
+            this.pages = Arrays.copyOf(this.pages, Math.max(16, pageIndex + (pageIndex >> 1)));
+        }
+        this.pages[pageIndex] = address;
+        return PageUtil.capacityFor(pageIndex, PAGE_SHIFT);
+    }
+
+    private synchronized long pageAddress(long offset) {
+        return this.pages[PageUtil.pageIndex(offset, PAGE_SHIFT)];
+    }
+
+    static final class Allocator implements AdjacencyListBuilder.Allocator<byte[]> {
+
+        private final OffHeapAdjacencyListBuilder builder;
+
+        // global offset of the next write
+        private long top;
+        // address of the next write
+        private long address;
+        private int remainingInPage;
+
+        private Allocator(OffHeapAdjacencyListBuilder builder) {
+            this.builder = builder;
+            this.remainingInPage = 0;
+        }
+
+        @Override
+        public long write(byte[] targets, int length, long ignored) {
+            if (length > PAGE_SIZE) {
+                // Oversized adjacency lists get a page of their own,
+                // the current page can still be used for the next write.
+                long offset = this.builder.allocatePage(length);
+                copy(targets, length, this.builder.pageAddress(offset));
+                return offset;
+            }
+
+            if (length > this.remainingInPage) {
+                this.top = this.builder.allocatePage(PAGE_SIZE);
+                this.address = this.builder.pageAddress(this.top);
+                this.remainingInPage = PAGE_SIZE;
+            }
+
+            long offset = this.top;
+            copy(targets, length, this.address);
+            this.top += length;
+            this.address += length;
+            this.remainingInPage -= length;
+            return offset;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static void copy(byte[] targets, int length, long address) {
+            UnsafeUtil.copyMemory(targets, BYTE_ARRAY_BASE_OFFSET, null, address, length);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.neo4j.gds.api.compress.AdjacencyListBuilderFactory;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyListBuilder;
+
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * Builds delta-encoded var-long adjacency lists whose pages live outside the heap.
+ * Relationship properties are still stored on-heap.
+ */
+public final class OffHeapAdjacencyListBuilderFactory implements AdjacencyListBuilderFactory<byte[], OffHeapAdjacencyList, long[], UncompressedAdjacencyList> {
+
+    private final Supplier<OffHeapMemory> memorySupplier;
+
+    /**
+     * Allocates the adjacency list pages in native memory.
+     */
+    public static OffHeapAdjacencyListBuilderFactory nativeMemory() {
+        return new OffHeapAdjacencyListBuilderFactory(OffHeapMemory::nativeMemory);
+    }
+
+    /**
+     * Allocates the adjacency list pages in a memory-mapped spill file in the given directory.
+     * The file is deleted once the adjacency list is no longer in use.
+     */
+    public static OffHeapAdjacencyListBuilderFactory memoryMapped(Path directory) {
+        return new OffHeapAdjacencyListBuilderFactory(() -> OffHeapMemory.memoryMapped(directory));
+    }
+
+    private OffHeapAdjacencyListBuilderFactory(Supplier<OffHeapMemory> memorySupplier) {
+        this.memorySupplier = memorySupplier;
+    }
+
+    @Override
+    public OffHeapAdjacencyListBuilder newAdjacencyListBuilder() {
+        return new OffHeapAdjacencyListBuilder(memorySupplier.get());
+    }
+
+    @Override
+    public UncompressedAdjacencyListBuilder newAdjacencyPropertiesBuilder() {
+        return new UncompressedAdjacencyListBuilder();
+    }
+}
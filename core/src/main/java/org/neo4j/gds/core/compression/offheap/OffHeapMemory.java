@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Memory that lives outside of the Java heap, either in native memory
+ * or in a memory-mapped spill file.
+ * <p>
+ * All allocated memory is released together, either explicitly via {@link #release()},
+ * e.g. when the graph that uses it is dropped, or once this instance becomes unreachable.
+ * Everything that reads from the allocated memory must therefore hold on to this instance
+ * and must check {@link #isReleased()} before it starts reading.
+ */
+public final class OffHeapMemory {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Allocations allocations;
+    private final Cleaner.Cleanable cleanable;
+
+    public static OffHeapMemory nativeMemory() {
+        return new OffHeapMemory(new NativeAllocations());
+    }
+
+    public static OffHeapMemory memoryMapped(Path directory) {
+        return new OffHeapMemory(MappedAllocations.create(directory));
+    }
+
+    /**
+     * Maps an existing file read-only.
+     * Each allocation returns the address of the next block of the file, in file order.
+     * The file is not modified and not deleted once the memory is released.
+     */
+    public static OffHeapMemory mappedFile(Path file) {
+        return mappedFile(file, MappedAllocations.REGION_SIZE);
+    }
+
+    @TestOnly
+    static OffHeapMemory mappedFile(Path file, long regionSize) {
+        return new OffHeapMemory(ReadOnlyMappedAllocations.open(file, regionSize));
+    }
+
+    private OffHeapMemory(Allocations allocations) {
+        this.allocations = allocations;
+        this.cleanable = CLEANER.register(this, allocations);
+    }
+
+    /**
+     * Allocates a new block of memory.
+     *
+     * @return the address of the allocated memory
+     */
+    long allocate(long bytes) {
+        return this.allocations.allocate(bytes);
+    }
+
+    /**
+     * @return number of bytes allocated outside the heap, or 0 once the memory has been released
+     */
+    public long bytesAllocated() {
+        return this.allocations.bytesAllocated();
+    }
+
+    /**
+     * Frees the native memory, or unmaps the regions and deletes the spill file, right away
+     * instead of waiting for this instance to be garbage collected. Releasing twice has no effect.
+     * <p>
+     * Reading from the allocated memory afterwards is undefined, so this must only be called
+     * once no reader is left, or when the owner is dropped and new readers are rejected via {@link #isReleased()}.
+     */
+    public void release() {
+        this.cleanable.clean();
+    }
+
+    public boolean isReleased() {
+        return this.allocations.released;
+    }
+
+    /**
+     * Separated allocation state to register with the {@link java.lang.ref.Cleaner}.
+     */
+    private abstract static class Allocations implements Runnable {
+
+        private long bytesAllocated;
+        private volatile boolean released;
+
+        final synchronized long allocate(long bytes) {
+            if (this.released) {
+                throw new IllegalStateException("Cannot allocate memory that has already been released");
+            }
+            long address = doAllocate(bytes);
+            this.bytesAllocated += bytes;
+            return address;
+        }
+
+        final synchronized long bytesAllocated() {
+            return this.bytesAllocated;
+        }
+
+        /**
+         * Called at most once, by the {@link java.lang.ref.Cleaner} or by {@link OffHeapMemory#release()}.
+         */
+        @Override
+        public final synchronized void run() {
+            this.released = true;
+            this.bytesAllocated = 0;
+            free();
+        }
+
+        abstract long doAllocate(long bytes);
+
+        abstract void free();
+    }
+
+    private static final class NativeAllocations extends Allocations {
+
+        private final LongArrayList addresses = new LongArrayList();
+        private final LongArrayList sizes = new LongArrayList();
+
+        @Override
+        long doAllocate(long bytes) {
+            long address = UnsafeUtil.allocateMemory(bytes, EmptyMemoryTracker.INSTANCE);
+            this.addresses.add(address);
+            this.sizes.add(bytes);
+            return address;
+        }
+
+        @Override
+        void free() {
+            for (int i = 0; i < this.addresses.size(); i++) {
+                UnsafeUtil.free(this.addresses.get(i), this.sizes.get(i), EmptyMemoryTracker.INSTANCE);
+            }
+            this.addresses.clear();
+            this.sizes.clear();
+        }
+    }
+
+    private static final class MappedAllocations extends Allocations {
+
+        // Mapping many small regions would quickly exhaust the number of
+        // mappings a process is allowed to have, so we map larger regions
+        // and hand out smaller blocks from them.
+        private static final int REGION_SIZE = 1 << 30;
+
+        private final Path file;
+        private final FileChannel channel;
+        private final List<MappedByteBuffer> regions;
+
+        private long fileSize;
+        private long regionAddress;
+        private long regionRemaining;
+
+        static MappedAllocations create(Path directory) {
+            try {
+                var file = Files.createTempFile(directory, "gds-adjacency-", ".bin");
+                var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                return new MappedAllocations(file, channel);
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                    formatWithLocale("Could not create a spill file in `%s`", directory),
+                    e
+                );
+            }
+        }
+
+        private MappedAllocations(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+            this.regions = new ArrayList<>();
+        }
+
+        @Override
+        long doAllocate(long bytes) {
+            if (bytes > this.regionRemaining) {
+                mapRegion(Math.max(REGION_SIZE, bytes));
+            }
+            long address = this.regionAddress;
+            this.regionAddress += bytes;
+            this.regionRemaining -= bytes;
+            return address;
+        }
+
+        private void mapRegion(long bytes) {
+            try {
+                // mapping beyond the end of the file grows the file
+                var region = this.channel.map(FileChannel.MapMode.READ_WRITE, this.fileSize, bytes);
+                this.regions.add(region);
+                this.fileSize += bytes;
+                this.regionAddress = UnsafeUtil.getDirectByteBufferAddress(region);
+                this.regionRemaining = bytes;
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                    formatWithLocale("Could not map %d bytes of the spill file `%s`", bytes, this.file),
+                    e
+                );
+            }
+        }
+
+        @Override
+        void free() {
+            this.regions.forEach(UnsafeUtil::invokeCleaner);
+            this.regions.clear();
+            try {
+                this.channel.close();
+                Files.deleteIfExists(this.file);
+            } catch (IOException ignored) {
+                // The spill file is a temporary file, there is nothing else we can do here.
+            }
+        }
+    }
+
+    private static final class ReadOnlyMappedAllocations extends Allocations {
+
+        private final Path file;
+        private final FileChannel channel;
+        private final long fileSize;
+        private final long regionSize;
+        private final List<MappedByteBuffer> regions;
+
+        // file position of the next block
+        private long fileOffset;
+        private long regionAddress;
+        private long regionRemaining;
+
+        static ReadOnlyMappedAllocations open(Path file, long regionSize) {
+            try {
+                var channel = FileChannel.open(file, StandardOpenOption.READ);
+                return new ReadOnlyMappedAllocations(file, channel, channel.size(), regionSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(formatWithLocale("Could not open `%s`", file), e);
+            }
+        }
+
+        private ReadOnlyMappedAllocations(Path file, FileChannel channel, long fileSize, long regionSize) {
+            this.file = file;
+            this.channel = channel;
+            this.fileSize = fileSize;
+            this.regionSize = regionSize;
+            this.regions = new ArrayList<>();
+        }
+
+        @Override
+        long doAllocate(long bytes) {
+            if (bytes > this.regionRemaining) {
+                // Blocks are stored back to back, so a block that does not fit into the
+                // current region starts before its end. The new region starts at that block.
+                long remainingInFile = this.fileSize - this.fileOffset;
+                if (bytes > remainingInFile) {
+                    throw new IllegalStateException(formatWithLocale(
+                        "Cannot map %d bytes of `%s`, only %d bytes are left in the file",
+                        bytes,
+                        this.file,
+                        remainingInFile
+                    ));
+                }
+                mapRegion(Math.min(Math.max(this.regionSize, bytes), remainingInFile));
+            }
+            long address = this.regionAddress;
+            this.regionAddress += bytes;
+            this.regionRemaining -= bytes;
+            this.fileOffset += bytes;
+            return address;
+        }
+
+        private void mapRegion(long bytes) {
+            try {
+                var region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.fileOffset, bytes);
+                this.regions.add(region);
+                this.regionAddress = UnsafeUtil.getDirectByteBufferAddress(region);
+                this.regionRemaining = bytes;
+            } catch (IOException e) {
+                throw new UncheckedIOException(
+                    formatWithLocale("Could not map %d bytes of `%s`", bytes, this.file),
+                    e
+                );
+            }
+        }
+
+        @Override
+        void free() {
+            this.regions.forEach(UnsafeUtil::invokeCleaner);
+            this.regions.clear();
+            try {
+                this.channel.close();
+            } catch (IOException ignored) {
+                // The file is only read, there is nothing to recover from here.
+            }
+        }
+    }
+}
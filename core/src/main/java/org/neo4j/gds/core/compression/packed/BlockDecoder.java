@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+/**
+ * Decodes a single block of {@link AdjacencyPacking#BLOCK_SIZE} bit-packed values.
+ * Implementations may keep scratch space and must not be shared between threads.
+ *
+ * @see BlockDecoders
+ */
+interface BlockDecoder {
+
+    /**
+     * Unpacks a block of {@code bits}-bit values into {@code block}.
+     *
+     * @return the address directly after the unpacked block
+     */
+    long decode(int bits, long[] block, long packedPtr);
+
+    /**
+     * Unpacks a block of {@code bits}-bit deltas into {@code block} and
+     * replaces them with their prefix sum, starting from {@code base}.
+     *
+     * @return the address directly after the unpacked block
+     */
+    long decodeDelta(int bits, long[] block, long base, long packedPtr);
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Selects the {@link BlockDecoder} for packed adjacency cursors.
+ * <p>
+ * The vectorized decoder is compiled for Java 17 and uses the incubating
+ * Vector API. It is only used if {@link GdsFeatureToggles#USE_VECTORIZED_PACKED_DECODING}
+ * is enabled and the JVM has been started with {@code --add-modules=jdk.incubator.vector}.
+ * In all other cases, we fall back to the scalar decoder.
+ */
+final class BlockDecoders {
+
+    private static final String VECTORIZED_DECODER = "org.neo4j.gds.core.compression.packed.VectorizedBlockDecoder";
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final @Nullable MethodHandle VECTORIZED_CONSTRUCTOR = loadVectorizedDecoder();
+
+    private BlockDecoders() {}
+
+    static BlockDecoder create() {
+        if (GdsFeatureToggles.USE_VECTORIZED_PACKED_DECODING.isEnabled() && VECTORIZED_CONSTRUCTOR != null) {
+            return newVectorizedDecoder(VECTORIZED_CONSTRUCTOR);
+        }
+        return ScalarBlockDecoder.INSTANCE;
+    }
+
+    static boolean isVectorizedDecodingAvailable() {
+        return VECTORIZED_CONSTRUCTOR != null;
+    }
+
+    static @Nullable BlockDecoder vectorized() {
+        return VECTORIZED_CONSTRUCTOR == null ? null : newVectorizedDecoder(VECTORIZED_CONSTRUCTOR);
+    }
+
+    private static BlockDecoder newVectorizedDecoder(MethodHandle constructor) {
+        try {
+            return (BlockDecoder) constructor.invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create the vectorized block decoder", e);
+        }
+    }
+
+    private static @Nullable MethodHandle loadVectorizedDecoder() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            // Only present in Java 17 builds of core.
+            // Creating an instance also verifies that the Vector API is usable on this JVM.
+            var decoderClass = Class.forName(VECTORIZED_DECODER, true, BlockDecoders.class.getClassLoader());
+            var constructor = MethodHandles
+                .lookup()
+                .findConstructor(decoderClass, MethodType.methodType(void.class));
+            constructor.invoke();
+            return constructor;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
@@ -270,6 +270,7 @@ final class BlockDecompressor {
     private static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
 
     private final boolean isDeltaCompressed;
+    private final BlockDecoder blockDecoder;
 
     // Compressed
     private long ptr;
@@ -287,6 +288,7 @@ final class BlockDecompressor {
 
     BlockDecompressor(int flags) {
         this.isDeltaCompressed = (flags & AdjacencyPacker.DELTA) == AdjacencyPacker.DELTA;
+        this.blockDecoder = BlockDecoders.create();
         this.block = new long[BLOCK_SIZE];
     }
 
@@ -320,13 +322,11 @@ final class BlockDecompressor {
         if (this.blockId < this.header.length) {
             // block unpacking
             byte blockHeader = this.header[blockId];
-            this.ptr = AdjacencyUnpacking.unpack(blockHeader, this.block, 0, this.ptr);
             if (this.isDeltaCompressed) {
-                long value = this.lastValue;
-                for (int i = 0; i < AdjacencyPacking.BLOCK_SIZE; i++) {
-                    value = this.block[i] += value;
-                }
-                this.lastValue = value;
+                this.ptr = this.blockDecoder.decodeDelta(blockHeader, this.block, this.lastValue, this.ptr);
+                this.lastValue = this.block[BLOCK_SIZE - 1];
+            } else {
+                this.ptr = this.blockDecoder.decode(blockHeader, this.block, this.ptr);
             }
             this.blockOffset += BLOCK_SIZE;
             this.blockId++;
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+/**
+ * Decodes blocks with the generated {@link AdjacencyUnpacking} code
+ * and a sequential prefix sum.
+ */
+final class ScalarBlockDecoder implements BlockDecoder {
+
+    static final BlockDecoder INSTANCE = new ScalarBlockDecoder();
+
+    private ScalarBlockDecoder() {
+    }
+
+    @Override
+    public long decode(int bits, long[] block, long packedPtr) {
+        return AdjacencyUnpacking.unpack(bits, block, 0, packedPtr);
+    }
+
+    @Override
+    public long decodeDelta(int bits, long[] block, long base, long packedPtr) {
+        packedPtr = AdjacencyUnpacking.unpack(bits, block, 0, packedPtr);
+        long value = base;
+        for (int i = 0; i < AdjacencyPacking.BLOCK_SIZE; i++) {
+            value = block[i] += value;
+        }
+        return packedPtr;
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.utils.ExceptionUtil;
+import org.neo4j.internal.helpers.NamedThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Runs the work for a fixed list of node partitions on dedicated threads,
+ * one per partition, for the whole lifetime of the executor.
+ * <p>
+ * Iterative algorithms that process the same partitions in every iteration keep
+ * each partition on the same thread, which the operating system tends to keep on the same socket.
+ * Arrays that are allocated through {@link #forEachPage(int, int, IntConsumer)} are first touched
+ * by the thread that owns the corresponding partition, so that, on NUMA machines, their memory
+ * is placed on the node that later processes it. This requires the JVM to run with
+ * {@code -XX:+UseNUMA} and without {@code -XX:+AlwaysPreTouch}.
+ * <p>
+ * The executor must be closed to stop its threads.
+ */
+public final class AffinityExecutor implements AutoCloseable {
+
+    private static final ThreadFactory THREAD_FACTORY = NamedThreadFactory.daemon("gds-affinity");
+    private static final Runnable STOP = () -> {};
+
+    private final List<Partition> partitions;
+    private final List<BlockingQueue<Runnable>> workQueues;
+    private final List<Thread> workers;
+
+    public static AffinityExecutor create(List<? extends Partition> partitions) {
+        if (partitions.isEmpty()) {
+            throw new IllegalArgumentException("At least one partition is required.");
+        }
+        return new AffinityExecutor(List.copyOf(partitions));
+    }
+
+    /**
+     * One worker thread and work queue per partition, assuming one partition per thread of the given concurrency.
+     * The stacks of the worker threads are not allocated on the heap and are not included.
+     */
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(AffinityExecutor.class)
+            .perThread(
+                "workers",
+                MemoryUsage.sizeOfInstance(Thread.class) + MemoryUsage.sizeOfInstance(LinkedBlockingQueue.class)
+            )
+            .build();
+    }
+
+    private AffinityExecutor(List<Partition> partitions) {
+        this.partitions = partitions;
+        this.workQueues = new ArrayList<>(partitions.size());
+        this.workers = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var workQueue = new LinkedBlockingQueue<Runnable>();
+            var worker = THREAD_FACTORY.newThread(() -> work(workQueue));
+            workQueues.add(workQueue);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public List<Partition> partitions() {
+        return partitions;
+    }
+
+    public int workerCount() {
+        return workers.size();
+    }
+
+    /**
+     * Runs the task at index {@code i} on the worker that owns partition {@code i} and waits for all tasks to finish.
+     */
+    public void run(List<? extends Runnable> tasks) {
+        if (tasks.size() != workerCount()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected one task per partition, got %d tasks for %d partitions.",
+                tasks.size(),
+                workerCount()
+            ));
+        }
+        runOnWorkers(worker -> tasks.get(worker).run());
+    }
+
+    /**
+     * Runs the action for every partition on the worker that owns it and waits for all of them to finish.
+     */
+    public void forEachPartition(Consumer<Partition> action) {
+        runOnWorkers(worker -> action.accept(partitions.get(worker)));
+    }
+
+    /**
+     * Runs the action for every page of a paged array on the worker that owns the partition
+     * containing the first index of that page, and waits for all of them to finish.
+     * Pages beyond the last partition are owned by the last worker.
+     */
+    public void forEachPage(int pageCount, int pageShift, IntConsumer action) {
+        runOnWorkers(worker -> {
+            for (int page = 0; page < pageCount; page++) {
+                if (ownerOf((long) page << pageShift) == worker) {
+                    action.accept(page);
+                }
+            }
+        });
+    }
+
+    /**
+     * The index of the partition that contains the given node,
+     * or the closest partition, if the node is not covered by any partition.
+     */
+    int ownerOf(long nodeId) {
+        int low = 0;
+        int high = partitions.size() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (partitions.get(mid).startNode() <= nodeId) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public void close() {
+        for (var workQueue : workQueues) {
+            workQueue.add(STOP);
+        }
+    }
+
+    private void runOnWorkers(IntConsumer workerTask) {
+        var done = new CountDownLatch(workerCount());
+        var error = new AtomicReference<Throwable>();
+        for (int i = 0; i < workerCount(); i++) {
+            int worker = i;
+            workQueues.get(worker).add(() -> {
+                try {
+                    workerTask.accept(worker);
+                } catch (Throwable e) {
+                    error.accumulateAndGet(e, ExceptionUtil::chain);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        var failure = error.get();
+        if (failure != null) {
+            ExceptionUtil.throwIfUnchecked(failure);
+            throw new RuntimeException(failure);
+        }
+    }
+
+    private static void work(BlockingQueue<Runnable> workQueue) {
+        while (true) {
+            Runnable task;
+            try {
+                task = workQueue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (task == STOP) {
+                return;
+            }
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountedCompleter;
+import java.util.function.Function;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Runs tasks for a node range, which is split lazily while other workers of the pool are idle.
+ * <p>
+ * The range is processed in {@link DegreePartition}s of roughly {@code grain} cumulative degree.
+ * Before each partition, the upper half of the remaining range is forked if only few tasks
+ * are queued for the current worker, i.e. when other workers stole them. Ranges containing
+ * high-degree nodes take longer to process and are therefore split more often, without having
+ * to compute the degree distribution upfront.
+ */
+final class DegreeBalancedPartitionTask extends CountedCompleter<Void> {
+
+    // how many forked tasks a worker keeps queued for other workers to steal
+    private static final int SURPLUS_THRESHOLD = 2;
+    // ranges below this size are not worth splitting
+    static final int MIN_SPLIT_SIZE = 64;
+
+    private final LongToIntFunction degrees;
+    private final long grain;
+    private final Function<? super DegreePartition, ? extends Runnable> taskCreator;
+    private final long startNode;
+    private final long endNode;
+
+    DegreeBalancedPartitionTask(
+        @Nullable CountedCompleter<?> parent,
+        long startNode,
+        long endNode,
+        LongToIntFunction degrees,
+        long grain,
+        Function<? super DegreePartition, ? extends Runnable> taskCreator
+    ) {
+        super(parent);
+        this.startNode = startNode;
+        this.endNode = endNode;
+        this.degrees = degrees;
+        this.grain = grain;
+        this.taskCreator = taskCreator;
+    }
+
+    @Override
+    public void compute() {
+        long start = startNode;
+        long end = endNode;
+        while (start < end) {
+            if (end - start >= MIN_SPLIT_SIZE && getSurplusQueuedTaskCount() <= SURPLUS_THRESHOLD) {
+                long pivot = start + ((end - start) >>> 1);
+                addToPendingCount(1);
+                new DegreeBalancedPartitionTask(this, pivot, end, degrees, grain, taskCreator).fork();
+                end = pivot;
+            } else {
+                start = runNextPartition(start, end, degrees, grain, taskCreator);
+            }
+        }
+        tryComplete();
+    }
+
+    /**
+     * Runs the task for the partition starting at {@code start} that ends
+     * once its cumulative degree (plus one per node) reaches {@code grain}.
+     *
+     * @return the start node of the next partition
+     */
+    static long runNextPartition(
+        long start,
+        long end,
+        LongToIntFunction degrees,
+        long grain,
+        Function<? super DegreePartition, ? extends Runnable> taskCreator
+    ) {
+        var partition = nextPartition(start, end, degrees, grain);
+        taskCreator.apply(partition).run();
+        return partition.startNode() + partition.nodeCount();
+    }
+
+    /**
+     * Cuts the partitions of all nodes lazily, one per call to {@link Iterator#next()}.
+     * The returned tasks create the actual task for their partition when they are run.
+     */
+    static Iterator<Runnable> lazyPartitionTasks(
+        long nodeCount,
+        LongToIntFunction degrees,
+        long grain,
+        Function<? super DegreePartition, ? extends Runnable> taskCreator
+    ) {
+        return new Iterator<>() {
+            private long start = 0L;
+
+            @Override
+            public boolean hasNext() {
+                return start < nodeCount;
+            }
+
+            @Override
+            public Runnable next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                var partition = nextPartition(start, nodeCount, degrees, grain);
+                start = partition.startNode() + partition.nodeCount();
+                return () -> taskCreator.apply(partition).run();
+            }
+        };
+    }
+
+    private static DegreePartition nextPartition(long start, long end, LongToIntFunction degrees, long grain) {
+        long node = start;
+        long totalDegree = 0L;
+        long work = 0L;
+        while (node < end && work < grain) {
+            int degree = degrees.applyAsInt(node);
+            totalDegree += degree;
+            // nodes without relationships still need to be visited
+            work += degree + 1L;
+            node++;
+        }
+        return DegreePartition.of(start, node - start, totalDegree);
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded work queue that orders tasks by the job that submitted them, see {@link JobScheduler}.
+ * <p>
+ * Tasks are assigned to the job of the submitting thread when they are offered.
+ * Tasks that are polled or taken are wrapped, so that they run in the context of their job
+ * and record the time they spent in the queue. All other views of the queue, such as
+ * {@link #iterator()} or {@link #drainTo(Collection)}, return the tasks as they were offered.
+ */
+final class FairJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    private static final JobPriority[] PRIORITIES = JobPriority.values();
+
+    private final int capacity;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    // per priority, the jobs that have queued tasks
+    private final List<Map<JobLane, Backlog>> backlogs;
+    // per priority, the pass of the most recently served job
+    private final long[] virtualTime;
+    // per priority, the pass of the priority itself, which advances by STRIDE / weight for every task taken from it
+    private final long[] priorityPass;
+    // the pass of the most recently served priority
+    private long priorityVirtualTime;
+    private int count;
+
+    FairJobQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.backlogs = new ArrayList<>(PRIORITIES.length);
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            backlogs.add(new IdentityHashMap<>());
+        }
+        this.virtualTime = new long[PRIORITIES.length];
+        this.priorityPass = new long[PRIORITIES.length];
+    }
+
+    @Override
+    public boolean offer(@NotNull Runnable task) {
+        Objects.requireNonNull(task);
+        var lane = JobScheduler.current();
+        lock.lock();
+        try {
+            if (count == capacity) {
+                return false;
+            }
+            enqueue(task, lane);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable task, long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(task);
+        var lane = JobScheduler.current();
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                if (nanos <= 0L) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(task, lane);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(@NotNull Runnable task) throws InterruptedException {
+        Objects.requireNonNull(task);
+        var lane = JobScheduler.current();
+        lock.lockInterruptibly();
+        try {
+            while (count == capacity) {
+                notFull.await();
+            }
+            enqueue(task, lane);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable Runnable poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable Runnable poll(long timeout, @NotNull TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NotNull Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable Runnable peek() {
+        lock.lock();
+        try {
+            var next = nextBacklog();
+            return next == null ? null : next.tasks.peekFirst().task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (var priorityBacklogs : backlogs) {
+                var iterator = priorityBacklogs.values().iterator();
+                while (iterator.hasNext()) {
+                    var backlog = iterator.next();
+                    if (backlog.tasks.removeIf(queued -> queued == o || queued.task == o)) {
+                        if (backlog.tasks.isEmpty()) {
+                            iterator.remove();
+                        }
+                        count--;
+                        notFull.signal();
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(@NotNull Collection<? super Runnable> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(@NotNull Collection<? super Runnable> target, int maxElements) {
+        Objects.requireNonNull(target);
+        if (target == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (drained < maxElements && count > 0) {
+                target.add(((QueuedTask) dequeue()).task);
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a weakly consistent iterator over a snapshot of the queued tasks.
+     */
+    @Override
+    public @NotNull Iterator<Runnable> iterator() {
+        var snapshot = new ArrayList<Runnable>();
+        lock.lock();
+        try {
+            for (var priorityBacklogs : backlogs) {
+                for (var backlog : priorityBacklogs.values()) {
+                    for (var queued : backlog.tasks) {
+                        snapshot.add(queued.task);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        var delegate = snapshot.iterator();
+        return new Iterator<>() {
+            private Runnable last;
+
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public Runnable next() {
+                last = delegate.next();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                FairJobQueue.this.remove(last);
+                last = null;
+            }
+        };
+    }
+
+    private void enqueue(Runnable task, JobLane lane) {
+        int priority = lane.priority().ordinal();
+        if (backlogs.get(priority).isEmpty()) {
+            // same as for jobs, an idle priority must not save up a share
+            priorityPass[priority] = Math.max(priorityPass[priority], priorityVirtualTime);
+        }
+        var backlog = backlogs.get(priority).computeIfAbsent(
+            lane,
+            // a job that had nothing queued starts at the current virtual time,
+            // so that it can neither save up nor carry over a share while it is idle
+            ignore -> new Backlog(lane, virtualTime[priority])
+        );
+        backlog.tasks.addLast(new QueuedTask(task, lane, System.nanoTime()));
+        count++;
+        notEmpty.signal();
+    }
+
+    private Runnable dequeue() {
+        var backlog = nextBacklog();
+        assert backlog != null;
+        var queued = backlog.tasks.pollFirst();
+        int priority = backlog.lane.priority().ordinal();
+        virtualTime[priority] = backlog.pass;
+        backlog.pass += backlog.lane.stride();
+        priorityVirtualTime = priorityPass[priority];
+        priorityPass[priority] += JobLane.STRIDE / PRIORITIES[priority].weight();
+        if (backlog.tasks.isEmpty()) {
+            backlogs.get(priority).remove(backlog.lane);
+        }
+        count--;
+        notFull.signal();
+        return queued;
+    }
+
+    /**
+     * Picks the priority with queued tasks that has the lowest pass, preferring higher priorities on ties,
+     * and within that priority the job with the lowest pass.
+     */
+    private @Nullable Backlog nextBacklog() {
+        int nextPriority = -1;
+        for (int priority = 0; priority < PRIORITIES.length; priority++) {
+            if (backlogs.get(priority).isEmpty()) {
+                continue;
+            }
+            if (nextPriority == -1 || priorityPass[priority] < priorityPass[nextPriority]) {
+                nextPriority = priority;
+            }
+        }
+        if (nextPriority == -1) {
+            return null;
+        }
+        Backlog next = null;
+        for (var backlog : backlogs.get(nextPriority).values()) {
+            if (next == null || backlog.pass < next.pass) {
+                next = backlog;
+            }
+        }
+        return next;
+    }
+
+    private static final class Backlog {
+        private final JobLane lane;
+        private final ArrayDeque<QueuedTask> tasks;
+        private long pass;
+
+        Backlog(JobLane lane, long pass) {
+            this.lane = lane;
+            this.tasks = new ArrayDeque<>();
+            this.pass = pass;
+        }
+    }
+
+    private static final class QueuedTask implements Runnable {
+        private final Runnable task;
+        private final JobLane lane;
+        private final long enqueuedAt;
+
+        QueuedTask(Runnable task, JobLane lane, long enqueuedAt) {
+            this.task = task;
+            this.lane = lane;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public void run() {
+            lane.recordQueueWait(System.nanoTime() - enqueuedAt);
+            var previous = JobScheduler.bind(lane);
+            try {
+                task.run();
+            } finally {
+                JobScheduler.bind(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Scheduling state of a job that is shared by all queues the job submits to.
+ */
+final class JobLane {
+
+    // the pass of a lane advances by STRIDE / weight for every task taken from it
+    static final long STRIDE = 1L << 20;
+
+    private final JobId jobId;
+    private final JobPriority priority;
+    private final long stride;
+    private final LongAdder queueWaitNanos;
+    // guarded by the map of running jobs
+    private int references;
+
+    JobLane(JobId jobId, JobPriority priority, int weight) {
+        this.jobId = jobId;
+        this.priority = priority;
+        this.stride = STRIDE / Math.max(1, weight);
+        this.queueWaitNanos = new LongAdder();
+        this.references = 1;
+    }
+
+    JobId jobId() {
+        return jobId;
+    }
+
+    JobPriority priority() {
+        return priority;
+    }
+
+    long stride() {
+        return stride;
+    }
+
+    void recordQueueWait(long nanos) {
+        queueWaitNanos.add(nanos);
+    }
+
+    long queueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    JobLane retain() {
+        references++;
+        return this;
+    }
+
+    /**
+     * @return true if the last reference has been released
+     */
+    boolean release() {
+        return --references == 0;
+    }
+}
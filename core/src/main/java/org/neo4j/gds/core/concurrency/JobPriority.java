@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.neo4j.gds.utils.StringFormatting;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Priority class of a job running on {@link Pools#DEFAULT}.
+ * While tasks of several classes are queued, each class gets a share of the pool proportional
+ * to its {@link #weight()}, so that queued tasks of a lower class are delayed but never starve.
+ * Jobs within the same class share the pool according to their weight, see {@link JobScheduler}.
+ */
+public enum JobPriority {
+    /**
+     * For short, latency-sensitive jobs, such as path queries.
+     */
+    HIGH(16),
+    NORMAL(4),
+    /**
+     * For long-running jobs that should mostly use otherwise idle threads.
+     */
+    LOW(1);
+
+    private final int weight;
+
+    JobPriority(int weight) {
+        this.weight = weight;
+    }
+
+    /**
+     * The share of the pool this class gets relative to the other classes with queued tasks.
+     */
+    int weight() {
+        return weight;
+    }
+
+    public static JobPriority parse(Object input) {
+        if (input instanceof JobPriority) {
+            return (JobPriority) input;
+        }
+        if (input instanceof String) {
+            var inputString = StringFormatting.toUpperCaseWithLocale((String) input);
+            try {
+                return JobPriority.valueOf(inputString);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Job priority `%s` is not supported. Must be one of: %s.",
+                    input,
+                    StringJoining.join(Arrays.stream(values()).map(JobPriority::name))
+                ));
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected JobPriority or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(JobPriority jobPriority) {
+        return jobPriority.name();
+    }
+}
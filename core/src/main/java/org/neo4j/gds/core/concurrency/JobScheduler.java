@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns the tasks that are submitted to {@link Pools#DEFAULT} to the job that submits them.
+ * <p>
+ * A job is entered on the thread that drives it, usually the procedure thread.
+ * Every task submitted while the job is entered, including tasks submitted from within
+ * those tasks, is queued for that job. Whenever a pool thread becomes idle, the
+ * {@link FairJobQueue} picks its next task by weighted stride scheduling on two levels.
+ * First, among the {@link JobPriority priorities} that have queued tasks, each priority gets
+ * a share of the pool proportional to its weight, {@code HIGH} 16, {@code NORMAL} 4 and
+ * {@code LOW} 1, so lower priorities are delayed but never starve.
+ * Then, among the jobs of that priority, each job gets a share proportional to its
+ * own weight, independent of how many tasks it has queued.
+ * Tasks submitted outside of any job share a single lane
+ * with priority {@link JobPriority#NORMAL} and weight 1.
+ */
+public final class JobScheduler {
+
+    private static final ThreadLocal<JobLane> CURRENT_JOB = new ThreadLocal<>();
+    private static final Map<JobId, JobLane> RUNNING_JOBS = new ConcurrentHashMap<>();
+
+    static final JobLane UNSCOPED = new JobLane(new JobId("unscoped"), JobPriority.NORMAL, 1);
+
+    private JobScheduler() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Enters the given job on the current thread until the returned scope is closed.
+     * Entering a job that is already running on another thread joins it,
+     * the priority and weight of the first entry remain in effect.
+     */
+    public static Scope enter(JobId jobId, JobPriority priority, int weight) {
+        var lane = RUNNING_JOBS.compute(
+            jobId,
+            (id, running) -> running == null ? new JobLane(id, priority, weight) : running.retain()
+        );
+        return new Scope(lane, bind(lane));
+    }
+
+    /**
+     * The accumulated time that the tasks of a running job spent waiting in the queue of {@link Pools#DEFAULT}.
+     * Returns {@link Duration#ZERO} for jobs that are not running.
+     */
+    public static Duration queueWaitTime(JobId jobId) {
+        var lane = RUNNING_JOBS.get(jobId);
+        return lane == null ? Duration.ZERO : Duration.ofNanos(lane.queueWaitNanos());
+    }
+
+    static JobLane current() {
+        var lane = CURRENT_JOB.get();
+        return lane == null ? UNSCOPED : lane;
+    }
+
+    static @Nullable JobLane bind(@Nullable JobLane lane) {
+        var previous = CURRENT_JOB.get();
+        if (lane == null) {
+            CURRENT_JOB.remove();
+        } else {
+            CURRENT_JOB.set(lane);
+        }
+        return previous;
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final JobLane lane;
+        private final @Nullable JobLane previous;
+
+        private Scope(JobLane lane, @Nullable JobLane previous) {
+            this.lane = lane;
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            bind(previous);
+            RUNNING_JOBS.computeIfPresent(lane.jobId(), (id, running) -> running.release() ? null : running);
+        }
+    }
+}
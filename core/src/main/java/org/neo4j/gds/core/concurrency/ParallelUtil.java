@@ -22,7 +22,10 @@ package org.neo4j.gds.core.concurrency;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.core.utils.BiLongConsumer;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.utils.ExceptionUtil;
 
 import java.util.ArrayList;
@@ -49,6 +52,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.LongConsumer;
+import java.util.function.LongToIntFunction;
 import java.util.function.Supplier;
 import java.util.stream.BaseStream;
 import java.util.stream.LongStream;
@@ -123,6 +127,83 @@ public final class ParallelUtil {
         );
     }
 
+    /**
+     * Runs tasks for all nodes in parallel, balancing the work by the degree of the nodes.
+     * The partitions have a cumulative degree of about {@link #DEFAULT_BATCH_SIZE}.
+     *
+     * @see #parallelForEachPartition(long, LongToIntFunction, int, long, ExecutorService, Function)
+     */
+    public static void parallelForEachPartition(
+        long nodeCount,
+        LongToIntFunction degrees,
+        int concurrency,
+        @Nullable ExecutorService executor,
+        Function<? super DegreePartition, ? extends Runnable> taskCreator
+    ) {
+        parallelForEachPartition(nodeCount, degrees, concurrency, DEFAULT_BATCH_SIZE, executor, taskCreator);
+    }
+
+    /**
+     * Runs tasks for all nodes in parallel, balancing the work by the degree of the nodes.
+     * <p>
+     * The nodes are processed in {@link DegreePartition}s with a cumulative degree, plus one per node,
+     * of about {@code minBatchSize}, a task is created and run for each of them.
+     * Because many partitions are created, the task creator should be cheap, e.g. by reusing
+     * expensive state per thread. Tasks are always created on the thread that runs them.
+     * <p>
+     * On a {@link ForkJoinPool}, node ranges are split adaptively: idle workers steal the upper half
+     * of ranges that are still being processed by other workers, which keeps all workers busy on graphs
+     * with a skewed degree distribution. On any other executor, the partitions are cut lazily and
+     * submitted one by one as soon as one of the at most {@code concurrency} running tasks finished.
+     * The static {@link PartitionUtils#degreePartitionWithBatchSize} partitioning is used instead,
+     * if {@link GdsFeatureToggles#USE_WORK_STEALING_SCHEDULER} is disabled.
+     */
+    public static void parallelForEachPartition(
+        long nodeCount,
+        LongToIntFunction degrees,
+        int concurrency,
+        long minBatchSize,
+        @Nullable ExecutorService executor,
+        Function<? super DegreePartition, ? extends Runnable> taskCreator
+    ) {
+        if (concurrency == 1 || !canRunInParallel(executor)) {
+            for (long start = 0L; start < nodeCount; ) {
+                start = DegreeBalancedPartitionTask.runNextPartition(
+                    start,
+                    nodeCount,
+                    degrees,
+                    minBatchSize,
+                    taskCreator
+                );
+            }
+            return;
+        }
+
+        if (GdsFeatureToggles.USE_WORK_STEALING_SCHEDULER.isDisabled()) {
+            long totalDegree = LongStream.range(0, nodeCount).map(degrees::applyAsInt).sum();
+            long batchSize = Math.max(minBatchSize, BitUtil.ceilDiv(totalDegree, concurrency));
+            var tasks = PartitionUtils.degreePartitionWithBatchSize(
+                LongStream.range(0, nodeCount).iterator(),
+                degrees::applyAsInt,
+                batchSize,
+                partition -> (Runnable) taskCreator.apply(partition)
+            );
+            RunWithConcurrency.builder().concurrency(concurrency).tasks(tasks).executor(executor).run();
+            return;
+        }
+
+        if (executor instanceof ForkJoinPool) {
+            var rootTask = new DegreeBalancedPartitionTask(null, 0L, nodeCount, degrees, minBatchSize, taskCreator);
+            ((ForkJoinPool) executor).invoke(rootTask);
+        } else {
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(DegreeBalancedPartitionTask.lazyPartitionTasks(nodeCount, degrees, minBatchSize, taskCreator))
+                .executor(executor)
+                .run();
+        }
+    }
+
     /**
      * @return the number of threads required to compute elementCount with the given batchSize
      */
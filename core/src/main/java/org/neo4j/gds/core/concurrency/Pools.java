@@ -19,10 +19,14 @@
  */
 package org.neo4j.gds.core.concurrency;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.concurrency.PoolSizesService;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.internal.helpers.NamedThreadFactory;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -49,15 +53,42 @@ public final class Pools {
 
     static ExecutorService createDefaultPool() {
         var poolSizes = PoolSizesService.poolSizes();
-        return new ThreadPoolExecutor(
+        var pool = new ThreadPoolExecutor(
             poolSizes.corePoolSize(),
             poolSizes.maxPoolSize(),
             30L,
             TimeUnit.SECONDS,
-            new ArrayBlockingQueue<>(poolSizes.corePoolSize() * 50),
+            new FairJobQueue(poolSizes.corePoolSize() * 50),
             DEFAULT_THREAD_FACTORY,
             new CallerBlocksPolicy()
         );
+        // tasks only pass through the fair queue once all core threads are running
+        pool.prestartAllCoreThreads();
+        return pool;
+    }
+
+    /**
+     * Returns the executor for I/O-bound work, such as writing results back to the database or exporting a graph to files.
+     * <p>
+     * On Java 21 and later, every task runs on its own virtual thread, so that threads which are blocked
+     * on transaction commits or disk writes do not occupy the threads of {@link #DEFAULT} that are sized for CPU-bound work.
+     * The number of concurrent tasks is still bounded by the write concurrency of the caller.
+     * On older runtimes, or if {@link GdsFeatureToggles#USE_VIRTUAL_THREADS_FOR_IO} is disabled,
+     * this returns {@link #DEFAULT}.
+     */
+    public static ExecutorService io() {
+        return virtualThreadExecutor().orElse(DEFAULT);
+    }
+
+    /**
+     * Returns an executor that starts a new virtual thread for every task,
+     * if the runtime supports virtual threads and {@link GdsFeatureToggles#USE_VIRTUAL_THREADS_FOR_IO} is enabled.
+     */
+    public static Optional<ExecutorService> virtualThreadExecutor() {
+        if (VirtualThreads.EXECUTOR != null && GdsFeatureToggles.USE_VIRTUAL_THREADS_FOR_IO.isEnabled()) {
+            return Optional.of(VirtualThreads.EXECUTOR);
+        }
+        return Optional.empty();
     }
 
     public static ExecutorService createSingleThreadPool(String threadPrefix) {
@@ -101,6 +132,26 @@ public final class Pools {
         }
     }
 
+    // Initialized on first use, so that runtimes without virtual threads never attempt to load them.
+    private static final class VirtualThreads {
+        static final @Nullable ExecutorService EXECUTOR = createVirtualThreadExecutor();
+
+        private static @Nullable ExecutorService createVirtualThreadExecutor() {
+            if (Runtime.version().feature() < 21) {
+                return null;
+            }
+            try {
+                // Executors.newVirtualThreadPerTaskExecutor() is only available on Java 21 and later
+                var factory = MethodHandles
+                    .publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+                return (ExecutorService) factory.invoke();
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+    }
+
     private static final ForkJoinPool.ForkJoinWorkerThreadFactory FJ_WORKER_THREAD_FACTORY = pool -> {
         var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
         worker.setName(Pools.THREAD_NAME_PREFIX + "-forkjoin-" + worker.getPoolIndex());
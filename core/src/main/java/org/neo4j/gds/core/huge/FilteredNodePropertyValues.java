@@ -57,6 +57,11 @@ public abstract class FilteredNodePropertyValues implements NodePropertyValues {
         return properties.floatArrayValue(translateId(nodeId));
     }
 
+    @Override
+    public float[] floatArrayValue(long nodeId, float[] reuse) {
+        return properties.floatArrayValue(translateId(nodeId), reuse);
+    }
+
     @Override
     public double[] doubleArrayValue(long nodeId) {
         return properties.doubleArrayValue(translateId(nodeId));
@@ -198,6 +203,17 @@ public abstract class FilteredNodePropertyValues implements NodePropertyValues {
             return properties.floatArrayValue(translatedId);
         }
 
+        @Override
+        public float[] floatArrayValue(long nodeId, float[] reuse) {
+            long translatedId = translateId(nodeId);
+
+            if (translatedId < 0) {
+                return DefaultValue.DEFAULT.floatArrayValue();
+            }
+
+            return properties.floatArrayValue(translatedId, reuse);
+        }
+
         @Override
         public double[] doubleArrayValue(long nodeId) {
             long translatedId = translateId(nodeId);
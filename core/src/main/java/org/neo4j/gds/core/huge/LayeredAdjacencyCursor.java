@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+
+import java.util.Arrays;
+
+/**
+ * Merges the sorted cursors of all layers of a {@link LayeredAdjacencyList}.
+ * <p>
+ * Each layer keeps its next target in a head slot, so skipping and advancing is delegated
+ * to the layer cursors and benefits from their block skipping.
+ * Targets that occur in more than one layer are returned from the lowest layer first,
+ * which allows {@link LayeredPropertyCursor} to follow the exact same order.
+ */
+public final class LayeredAdjacencyCursor implements AdjacencyCursor {
+
+    private final AdjacencyCursor[] cursors;
+    private final long[] heads;
+
+    LayeredAdjacencyCursor(AdjacencyCursor[] cursors) {
+        this.cursors = cursors;
+        this.heads = new long[cursors.length];
+        reset();
+    }
+
+    private LayeredAdjacencyCursor(AdjacencyCursor[] cursors, long[] heads) {
+        this.cursors = cursors;
+        this.heads = heads;
+    }
+
+    static LayeredAdjacencyCursor raw(AdjacencyCursor[] cursors) {
+        var cursor = new LayeredAdjacencyCursor(cursors, new long[cursors.length]);
+        Arrays.fill(cursor.heads, NOT_FOUND);
+        return cursor;
+    }
+
+    AdjacencyCursor[] cursors() {
+        return cursors;
+    }
+
+    void reset() {
+        for (int layer = 0; layer < cursors.length; layer++) {
+            heads[layer] = pull(layer);
+        }
+    }
+
+    /**
+     * Consumes the next target and returns the layer it has been read from.
+     */
+    int nextLayer() {
+        int layer = peekLayer();
+        heads[layer] = pull(layer);
+        return layer;
+    }
+
+    private int peekLayer() {
+        int minLayer = -1;
+        long minTarget = Long.MAX_VALUE;
+        for (int layer = 0; layer < heads.length; layer++) {
+            long head = heads[layer];
+            if (head != NOT_FOUND && head < minTarget) {
+                minTarget = head;
+                minLayer = layer;
+            }
+        }
+        return minLayer;
+    }
+
+    private long pull(int layer) {
+        var cursor = cursors[layer];
+        return cursor.hasNextVLong() ? cursor.nextVLong() : NOT_FOUND;
+    }
+
+    @Override
+    public int size() {
+        int sum = 0;
+        for (var cursor : cursors) {
+            sum += cursor.size();
+        }
+        return sum;
+    }
+
+    @Override
+    public boolean hasNextVLong() {
+        for (long head : heads) {
+            if (head != NOT_FOUND) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long nextVLong() {
+        int layer = peekLayer();
+        long target = heads[layer];
+        heads[layer] = pull(layer);
+        return target;
+    }
+
+    @Override
+    public long peekVLong() {
+        int layer = peekLayer();
+        return layer == -1 ? NOT_FOUND : heads[layer];
+    }
+
+    @Override
+    public int remaining() {
+        int sum = 0;
+        for (int layer = 0; layer < cursors.length; layer++) {
+            if (heads[layer] != NOT_FOUND) {
+                sum += 1 + cursors[layer].remaining();
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public long skipUntil(long target) {
+        for (int layer = 0; layer < cursors.length; layer++) {
+            long head = heads[layer];
+            if (head != NOT_FOUND && head <= target) {
+                var cursor = cursors[layer];
+                heads[layer] = cursor.hasNextVLong() ? cursor.skipUntil(target) : NOT_FOUND;
+            }
+        }
+        return hasNextVLong() ? nextVLong() : NOT_FOUND;
+    }
+
+    @Override
+    public long advance(long target) {
+        for (int layer = 0; layer < cursors.length; layer++) {
+            long head = heads[layer];
+            if (head != NOT_FOUND && head < target) {
+                var cursor = cursors[layer];
+                heads[layer] = cursor.hasNextVLong() ? cursor.advance(target) : NOT_FOUND;
+            }
+        }
+        return hasNextVLong() ? nextVLong() : NOT_FOUND;
+    }
+
+    @Override
+    public long advanceBy(int n) {
+        assert n >= 0;
+
+        while (hasNextVLong()) {
+            long target = nextVLong();
+            if (n-- == 0) {
+                return target;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    @Override
+    public @NotNull AdjacencyCursor shallowCopy(@Nullable AdjacencyCursor destination) {
+        var dest = destination instanceof LayeredAdjacencyCursor && ((LayeredAdjacencyCursor) destination).cursors.length == cursors.length
+            ? (LayeredAdjacencyCursor) destination
+            : new LayeredAdjacencyCursor(new AdjacencyCursor[cursors.length], new long[cursors.length]);
+
+        for (int layer = 0; layer < cursors.length; layer++) {
+            dest.cursors[layer] = cursors[layer].shallowCopy(dest.cursors[layer]);
+        }
+        System.arraycopy(heads, 0, dest.heads, 0, heads.length);
+        return dest;
+    }
+
+    @Override
+    public void init(long index, int degree) {
+        throw new UnsupportedOperationException(
+            "LayeredAdjacencyCursor does not support init, use LayeredAdjacencyList.adjacencyCursor instead.");
+    }
+}
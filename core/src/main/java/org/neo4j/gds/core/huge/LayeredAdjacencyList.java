@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An adjacency list that consists of an immutable base layer and a stack of delta layers
+ * which have been appended after the base has been built.
+ * The layers are merged lazily by a {@link LayeredAdjacencyCursor}, which keeps the targets
+ * of each node sorted, and can be folded into a single new base layer by compaction.
+ */
+public final class LayeredAdjacencyList implements AdjacencyList {
+
+    private final AdjacencyList[] layers;
+    private final boolean baseIsMultiGraph;
+    private final long baseElementCount;
+
+    /**
+     * Adds {@code delta} on top of the given {@code base}.
+     * If {@code base} is already layered, the delta is added as its topmost layer
+     * and {@code baseIsMultiGraph} and {@code baseElementCount} are taken from the layered base.
+     */
+    public static LayeredAdjacencyList of(
+        AdjacencyList base,
+        AdjacencyList delta,
+        boolean baseIsMultiGraph,
+        long baseElementCount
+    ) {
+        if (base instanceof LayeredAdjacencyList) {
+            var layered = (LayeredAdjacencyList) base;
+            var layers = Arrays.copyOf(layered.layers, layered.layers.length + 1);
+            layers[layered.layers.length] = delta;
+            return new LayeredAdjacencyList(layers, layered.baseIsMultiGraph, layered.baseElementCount);
+        }
+        return new LayeredAdjacencyList(new AdjacencyList[]{base, delta}, baseIsMultiGraph, baseElementCount);
+    }
+
+    private LayeredAdjacencyList(AdjacencyList[] layers, boolean baseIsMultiGraph, long baseElementCount) {
+        this.layers = layers;
+        this.baseIsMultiGraph = baseIsMultiGraph;
+        this.baseElementCount = baseElementCount;
+    }
+
+    public int layerCount() {
+        return layers.length;
+    }
+
+    public List<AdjacencyList> layers() {
+        return List.of(layers);
+    }
+
+    /**
+     * Whether the base layer allowed parallel relationships before any delta has been added.
+     * Deltas are not aggregated against the base until they are compacted.
+     */
+    public boolean baseIsMultiGraph() {
+        return baseIsMultiGraph;
+    }
+
+    /**
+     * The number of relationships in the base layer.
+     * All other relationships of the topology are stored in delta layers.
+     */
+    public long baseElementCount() {
+        return baseElementCount;
+    }
+
+    /**
+     * Replaces the lowest {@code layerCount} layers with the given {@code compacted} adjacency list.
+     * Layers that have been added after those are kept on top of the compacted layer.
+     */
+    public AdjacencyList rebase(int layerCount, AdjacencyList compacted, long compactedElementCount) {
+        if (layerCount == layers.length) {
+            return compacted;
+        }
+        var remaining = new AdjacencyList[layers.length - layerCount + 1];
+        remaining[0] = compacted;
+        System.arraycopy(layers, layerCount, remaining, 1, layers.length - layerCount);
+        return new LayeredAdjacencyList(remaining, baseIsMultiGraph, compactedElementCount);
+    }
+
+    @Override
+    public int degree(long node) {
+        long degree = 0;
+        for (var layer : layers) {
+            degree += layer.degree(node);
+        }
+        return Math.toIntExact(degree);
+    }
+
+    @Override
+    public LayeredAdjacencyCursor adjacencyCursor(long node, double fallbackValue) {
+        var cursors = new AdjacencyCursor[layers.length];
+        for (int layer = 0; layer < layers.length; layer++) {
+            cursors[layer] = layers[layer].adjacencyCursor(node, fallbackValue);
+        }
+        return new LayeredAdjacencyCursor(cursors);
+    }
+
+    @Override
+    public LayeredAdjacencyCursor adjacencyCursor(@Nullable AdjacencyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof LayeredAdjacencyCursor) {
+            var layeredReuse = (LayeredAdjacencyCursor) reuse;
+            var cursors = layeredReuse.cursors();
+            if (cursors.length == layers.length) {
+                for (int layer = 0; layer < layers.length; layer++) {
+                    cursors[layer] = layers[layer].adjacencyCursor(cursors[layer], node, fallbackValue);
+                }
+                layeredReuse.reset();
+                return layeredReuse;
+            }
+        }
+        return adjacencyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public LayeredAdjacencyCursor rawAdjacencyCursor() {
+        var cursors = new AdjacencyCursor[layers.length];
+        for (int layer = 0; layer < layers.length; layer++) {
+            cursors[layer] = layers[layer].rawAdjacencyCursor();
+        }
+        return LayeredAdjacencyCursor.raw(cursors);
+    }
+}
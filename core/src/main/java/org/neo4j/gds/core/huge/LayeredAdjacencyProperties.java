@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.PropertyCursor;
+
+import java.util.Arrays;
+
+/**
+ * The relationship properties that belong to a {@link LayeredAdjacencyList}.
+ * Every property layer is paired with the topology layer it has been built with,
+ * so that the merged property values follow the order of the merged targets.
+ */
+public final class LayeredAdjacencyProperties implements AdjacencyProperties {
+
+    private final AdjacencyList[] topologyLayers;
+    private final AdjacencyProperties[] propertyLayers;
+
+    /**
+     * Adds {@code delta} on top of the given {@code base}.
+     * If {@code base} is already layered, the delta is added as its topmost layer.
+     */
+    public static LayeredAdjacencyProperties of(
+        AdjacencyList baseTopology,
+        AdjacencyProperties base,
+        AdjacencyList deltaTopology,
+        AdjacencyProperties delta
+    ) {
+        if (base instanceof LayeredAdjacencyProperties) {
+            var layered = (LayeredAdjacencyProperties) base;
+            int layerCount = layered.propertyLayers.length;
+            var topologyLayers = Arrays.copyOf(layered.topologyLayers, layerCount + 1);
+            var propertyLayers = Arrays.copyOf(layered.propertyLayers, layerCount + 1);
+            topologyLayers[layerCount] = deltaTopology;
+            propertyLayers[layerCount] = delta;
+            return new LayeredAdjacencyProperties(topologyLayers, propertyLayers);
+        }
+        return new LayeredAdjacencyProperties(
+            new AdjacencyList[]{baseTopology, deltaTopology},
+            new AdjacencyProperties[]{base, delta}
+        );
+    }
+
+    private LayeredAdjacencyProperties(AdjacencyList[] topologyLayers, AdjacencyProperties[] propertyLayers) {
+        this.topologyLayers = topologyLayers;
+        this.propertyLayers = propertyLayers;
+    }
+
+    public int layerCount() {
+        return propertyLayers.length;
+    }
+
+    /**
+     * Replaces the lowest {@code layerCount} layers with the given {@code compacted} properties.
+     * Layers that have been added after those are kept on top of the compacted layer.
+     */
+    public AdjacencyProperties rebase(int layerCount, AdjacencyList compactedTopology, AdjacencyProperties compacted) {
+        if (layerCount == propertyLayers.length) {
+            return compacted;
+        }
+        int remainingLayers = propertyLayers.length - layerCount + 1;
+        var topologyRemaining = new AdjacencyList[remainingLayers];
+        var propertyRemaining = new AdjacencyProperties[remainingLayers];
+        topologyRemaining[0] = compactedTopology;
+        propertyRemaining[0] = compacted;
+        System.arraycopy(topologyLayers, layerCount, topologyRemaining, 1, remainingLayers - 1);
+        System.arraycopy(propertyLayers, layerCount, propertyRemaining, 1, remainingLayers - 1);
+        return new LayeredAdjacencyProperties(topologyRemaining, propertyRemaining);
+    }
+
+    @Override
+    public LayeredPropertyCursor propertyCursor(long node, double fallbackValue) {
+        var adjacencyCursors = new AdjacencyCursor[topologyLayers.length];
+        var propertyCursors = new PropertyCursor[propertyLayers.length];
+        for (int layer = 0; layer < propertyLayers.length; layer++) {
+            adjacencyCursors[layer] = topologyLayers[layer].adjacencyCursor(node, fallbackValue);
+            propertyCursors[layer] = propertyLayers[layer].propertyCursor(node, fallbackValue);
+        }
+        return new LayeredPropertyCursor(new LayeredAdjacencyCursor(adjacencyCursors), propertyCursors);
+    }
+
+    @Override
+    public PropertyCursor propertyCursor(PropertyCursor reuse, long node, double fallbackValue) {
+        if (reuse instanceof LayeredPropertyCursor) {
+            var layeredReuse = (LayeredPropertyCursor) reuse;
+            var adjacencyCursors = layeredReuse.adjacencyCursor().cursors();
+            var propertyCursors = layeredReuse.propertyCursors();
+            if (propertyCursors.length == propertyLayers.length) {
+                for (int layer = 0; layer < propertyLayers.length; layer++) {
+                    adjacencyCursors[layer] = topologyLayers[layer].adjacencyCursor(
+                        adjacencyCursors[layer],
+                        node,
+                        fallbackValue
+                    );
+                    propertyCursors[layer] = propertyLayers[layer].propertyCursor(
+                        propertyCursors[layer],
+                        node,
+                        fallbackValue
+                    );
+                }
+                layeredReuse.adjacencyCursor().reset();
+                return layeredReuse;
+            }
+        }
+        return propertyCursor(node, fallbackValue);
+    }
+
+    @Override
+    public PropertyCursor rawPropertyCursor() {
+        var adjacencyCursors = new AdjacencyCursor[topologyLayers.length];
+        var propertyCursors = new PropertyCursor[propertyLayers.length];
+        for (int layer = 0; layer < propertyLayers.length; layer++) {
+            adjacencyCursors[layer] = topologyLayers[layer].rawAdjacencyCursor();
+            propertyCursors[layer] = propertyLayers[layer].rawPropertyCursor();
+        }
+        return new LayeredPropertyCursor(LayeredAdjacencyCursor.raw(adjacencyCursors), propertyCursors);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.neo4j.gds.api.PropertyCursor;
+
+/**
+ * Merges the property cursors of all layers of a {@link LayeredAdjacencyProperties}.
+ * The targets of each layer are decoded alongside the properties to pick the layer
+ * that provides the next value, the same way {@link LayeredAdjacencyCursor} picks the next target.
+ */
+public final class LayeredPropertyCursor implements PropertyCursor {
+
+    private final LayeredAdjacencyCursor adjacencyCursor;
+    private final PropertyCursor[] propertyCursors;
+
+    LayeredPropertyCursor(LayeredAdjacencyCursor adjacencyCursor, PropertyCursor[] propertyCursors) {
+        this.adjacencyCursor = adjacencyCursor;
+        this.propertyCursors = propertyCursors;
+    }
+
+    LayeredAdjacencyCursor adjacencyCursor() {
+        return adjacencyCursor;
+    }
+
+    PropertyCursor[] propertyCursors() {
+        return propertyCursors;
+    }
+
+    @Override
+    public void init(long index, int degree) {
+        throw new UnsupportedOperationException(
+            "LayeredPropertyCursor does not support init, use LayeredAdjacencyProperties.propertyCursor instead.");
+    }
+
+    @Override
+    public boolean hasNextLong() {
+        return adjacencyCursor.hasNextVLong();
+    }
+
+    @Override
+    public long nextLong() {
+        return propertyCursors[adjacencyCursor.nextLayer()].nextLong();
+    }
+
+    @Override
+    public void close() {
+        for (var propertyCursor : propertyCursors) {
+            propertyCursor.close();
+        }
+    }
+}
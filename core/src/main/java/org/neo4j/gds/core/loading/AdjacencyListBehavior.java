@@ -23,6 +23,12 @@ import org.neo4j.gds.PropertyMappings;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.eliasfano.EliasFanoAdjacencyList;
+import org.neo4j.gds.core.compression.eliasfano.EliasFanoCompressor;
+import org.neo4j.gds.core.compression.hybrid.HybridAdjacencyList;
+import org.neo4j.gds.core.compression.hybrid.HybridCompressor;
+import org.neo4j.gds.core.compression.offheap.OffHeapAdjacencyList;
+import org.neo4j.gds.core.compression.offheap.OffHeapAdjacencyListBuilderFactory;
 import org.neo4j.gds.core.compression.packed.PackedCompressor;
 import org.neo4j.gds.core.compression.uncompressed.RawCompressor;
 import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
@@ -34,6 +40,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.function.BiFunction;
 import java.util.function.LongSupplier;
@@ -42,7 +49,7 @@ import static org.neo4j.gds.RelationshipType.ALL_RELATIONSHIPS;
 
 /**
  * Manages different configurations of adjacency list building,
- * i.e., compressed or uncompressed.
+ * i.e., compressed, packed, hybrid, Elias-Fano, off-heap or uncompressed.
  */
 public interface AdjacencyListBehavior {
 
@@ -58,7 +65,42 @@ public interface AdjacencyListBehavior {
             ? packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
             : GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
                 ? uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
-                : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+                : GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()
+                    ? offHeap(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                    : GdsFeatureToggles.USE_HYBRID_ADJACENCY_LIST.isEnabled()
+                        ? hybrid(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                        : GdsFeatureToggles.USE_ELIAS_FANO_ADJACENCY_LIST.isEnabled()
+                            ? eliasFano(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation)
+                            : compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+    }
+
+    static AdjacencyCompressorFactory forEncoding(
+        AdjacencyListEncoding encoding,
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations
+    ) {
+        if (encoding == AdjacencyListEncoding.DEFAULT) {
+            return asConfigured(nodeCountSupplier, propertyMappings, aggregations);
+        }
+
+        var resolvedAggregations = Arrays.stream(aggregations).map(Aggregation::resolve).toArray(Aggregation[]::new);
+        var noAggregation = Arrays.stream(aggregations).map(Aggregation::resolve).allMatch(Aggregation::equivalentToNone);
+
+        switch (encoding) {
+            case COMPRESSED:
+                return compressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case PACKED:
+                return packed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case HYBRID:
+                return hybrid(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case ELIAS_FANO:
+                return eliasFano(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            case UNCOMPRESSED:
+                return uncompressed(nodeCountSupplier, propertyMappings, resolvedAggregations, noAggregation);
+            default:
+                throw new IllegalArgumentException("Unexpected adjacency list encoding: " + encoding);
+        }
     }
 
     static AdjacencyCompressorFactory compressed(
@@ -76,6 +118,26 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory offHeap(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        var spillDirectory = GdsFeatureToggles.OFF_HEAP_ADJACENCY_LIST_DIRECTORY.get();
+        var builderFactory = spillDirectory == null
+            ? OffHeapAdjacencyListBuilderFactory.nativeMemory()
+            : OffHeapAdjacencyListBuilderFactory.memoryMapped(Path.of(spillDirectory));
+
+        return DeltaVarLongCompressor.factory(
+            nodeCountSupplier,
+            builderFactory,
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
     static AdjacencyCompressorFactory uncompressed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
@@ -91,6 +153,34 @@ public interface AdjacencyListBehavior {
         );
     }
 
+    static AdjacencyCompressorFactory hybrid(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return HybridCompressor.factory(
+            nodeCountSupplier,
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
+    static AdjacencyCompressorFactory eliasFano(
+        LongSupplier nodeCountSupplier,
+        PropertyMappings propertyMappings,
+        Aggregation[] aggregations,
+        boolean noAggregation
+    ) {
+        return EliasFanoCompressor.factory(
+            nodeCountSupplier,
+            propertyMappings,
+            aggregations,
+            noAggregation
+        );
+    }
+
     static AdjacencyCompressorFactory packed(
         LongSupplier nodeCountSupplier,
         PropertyMappings propertyMappings,
@@ -108,19 +198,57 @@ public interface AdjacencyListBehavior {
     static MemoryEstimation adjacencyListEstimation(long avgDegree, long nodeCount) {
         return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ? UncompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
-            : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
+            : GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()
+                ? OffHeapAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
+                : GdsFeatureToggles.USE_HYBRID_ADJACENCY_LIST.isEnabled()
+                    ? HybridAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
+                    : GdsFeatureToggles.USE_ELIAS_FANO_ADJACENCY_LIST.isEnabled()
+                        ? EliasFanoAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount)
+                        : CompressedAdjacencyList.adjacencyListEstimation(avgDegree, nodeCount);
     }
 
     static MemoryEstimation adjacencyListEstimation(RelationshipType relationshipType, boolean undirected) {
         return GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ? UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
-            : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+            : GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()
+                ? OffHeapAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
+                : GdsFeatureToggles.USE_HYBRID_ADJACENCY_LIST.isEnabled()
+                    ? HybridAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
+                    : GdsFeatureToggles.USE_ELIAS_FANO_ADJACENCY_LIST.isEnabled()
+                        ? EliasFanoAdjacencyList.adjacencyListEstimation(relationshipType, undirected)
+                        : CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+    }
+
+    static MemoryEstimation adjacencyListEstimation(
+        AdjacencyListEncoding encoding,
+        RelationshipType relationshipType,
+        boolean undirected
+    ) {
+        switch (encoding) {
+            case DEFAULT:
+                return adjacencyListEstimation(relationshipType, undirected);
+            case HYBRID:
+                return HybridAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+            case ELIAS_FANO:
+                return EliasFanoAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+            case UNCOMPRESSED:
+                return UncompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+            default:
+                // packed lists are estimated like the compressed ones
+                return CompressedAdjacencyList.adjacencyListEstimation(relationshipType, undirected);
+        }
     }
 
     static MemoryEstimation adjacencyListsFromStarEstimation(boolean undirected) {
         BiFunction<RelationshipType, Boolean, MemoryEstimation> estimationMethod = GdsFeatureToggles.USE_UNCOMPRESSED_ADJACENCY_LIST.isEnabled()
             ? UncompressedAdjacencyList::adjacencyListEstimation
-            : CompressedAdjacencyList::adjacencyListEstimation;
+            : GdsFeatureToggles.USE_OFF_HEAP_ADJACENCY_LIST.isEnabled()
+                ? OffHeapAdjacencyList::adjacencyListEstimation
+                : GdsFeatureToggles.USE_HYBRID_ADJACENCY_LIST.isEnabled()
+                    ? HybridAdjacencyList::adjacencyListEstimation
+                    : GdsFeatureToggles.USE_ELIAS_FANO_ADJACENCY_LIST.isEnabled()
+                        ? EliasFanoAdjacencyList::adjacencyListEstimation
+                        : CompressedAdjacencyList::adjacencyListEstimation;
 
         return MemoryEstimations.setup("Adjacency Lists", dimensions -> {
             var builder = MemoryEstimations.builder();
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.utils.StringFormatting;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The representation of the adjacency lists of a projected graph,
+ * see {@link AdjacencyListBehavior}.
+ */
+public enum AdjacencyListEncoding {
+    /**
+     * Use the representation that is selected by the feature toggles, delta var long compression by default.
+     */
+    DEFAULT,
+    /**
+     * Delta encoded targets, stored as variable length longs.
+     */
+    COMPRESSED,
+    /**
+     * Delta encoded targets, bit-packed in blocks.
+     */
+    PACKED,
+    /**
+     * The smallest of var long, packed or bitmap, chosen per node.
+     */
+    HYBRID,
+    /**
+     * Elias-Fano encoded targets, which allows cursors to skip to a target in sub-linear time.
+     */
+    ELIAS_FANO,
+    /**
+     * Plain targets, without any compression.
+     */
+    UNCOMPRESSED;
+
+    public static AdjacencyListEncoding parse(Object input) {
+        if (input instanceof AdjacencyListEncoding) {
+            return (AdjacencyListEncoding) input;
+        }
+        if (input instanceof String) {
+            // accept `ELIAS_FANO` as well as `eliasFano`
+            var inputString = StringFormatting.toUpperCaseWithLocale((String) input).replace("_", "");
+            return Arrays
+                .stream(values())
+                .filter(encoding -> encoding.name().replace("_", "").equals(inputString))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                    "Adjacency list encoding `%s` is not supported. Must be one of: %s.",
+                    input,
+                    StringJoining.join(Arrays.stream(values()).map(AdjacencyListEncoding::name))
+                )));
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected AdjacencyListEncoding or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(AdjacencyListEncoding adjacencyListEncoding) {
+        return adjacencyListEncoding.name();
+    }
+}
@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.core.loading;
 
-import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.FilteredIdMap;
 import org.neo4j.gds.api.IdMap;
@@ -127,15 +126,14 @@ public class ArrayIdMap extends LabeledIdMap {
             return Optional.empty();
         }
 
-        BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount());
+        NodeIdBitmap unionBitmap = labelInformation.unionBitmap(nodeLabels);
 
-        long nodeId = -1L;
-        long cursor = 0L;
-        long newNodeCount = unionBitSet.cardinality();
+        long newNodeCount = unionBitmap.cardinality();
         HugeLongArray newGraphIds = HugeLongArray.newArray(newNodeCount);
-
-        while ((nodeId = unionBitSet.nextSetBit(nodeId + 1)) != -1) {
-            newGraphIds.set(cursor, nodeId);
+        var nodeIds = unionBitmap.iterator();
+        long cursor = 0L;
+        while (nodeIds.hasNext()) {
+            newGraphIds.set(cursor, nodeIds.nextLong());
             cursor++;
         }
 
@@ -41,6 +41,7 @@ import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.graph.GraphProperty;
 import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
 import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
 import org.neo4j.gds.api.properties.nodes.NodeProperty;
 import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -49,12 +50,15 @@ import org.neo4j.gds.api.schema.MutableGraphSchema;
 import org.neo4j.gds.api.schema.MutableNodeSchema;
 import org.neo4j.gds.api.schema.MutableRelationshipSchema;
 import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.compression.offheap.OffHeapAdjacencyList;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.huge.CSRCompositeRelationshipIterator;
 import org.neo4j.gds.core.huge.HugeGraphBuilder;
 import org.neo4j.gds.core.huge.NodeFilteredGraph;
 import org.neo4j.gds.core.huge.UnionGraph;
 import org.neo4j.gds.core.utils.TimeUtil;
 import org.neo4j.gds.utils.StringJoining;
+import org.neo4j.logging.Log;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
@@ -65,6 +69,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -77,6 +85,12 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 @Value.Style(typeBuilder = "GraphStoreBuilder")
 public final class CSRGraphStore implements GraphStore {
 
+    /**
+     * Background compactions run on their own thread, so that they neither wait for nor block
+     * callers that compact explicitly and join on the shared single thread pool.
+     */
+    private static final ExecutorService BACKGROUND_COMPACTION_POOL = Pools.createSingleThreadPool("gds-compaction");
+
     private final int concurrency;
 
     private final DatabaseId databaseId;
@@ -95,6 +109,10 @@ public final class CSRGraphStore implements GraphStore {
 
     private ZonedDateTime modificationTime;
 
+    private final FilteredIdMapCache filteredIdMapCache;
+
+    private final Set<RelationshipType> compactingRelationshipTypes = ConcurrentHashMap.newKeySet();
+
     @Builder.Factory
     public static CSRGraphStore of(
         DatabaseId databaseId,
@@ -142,6 +160,7 @@ public final class CSRGraphStore implements GraphStore {
 
         this.concurrency = concurrency;
         this.modificationTime = TimeUtil.now();
+        this.filteredIdMapCache = new FilteredIdMapCache(FilteredIdMapCache.GLOBAL_BUDGET);
     }
 
     @Override
@@ -315,6 +334,37 @@ public final class CSRGraphStore implements GraphStore {
         });
     }
 
+    @Override
+    public boolean replaceNodePropertyValues(
+        String propertyKey,
+        NodePropertyValues expectedValues,
+        NodePropertyValues propertyValues
+    ) {
+        var replaced = new AtomicBoolean(false);
+        updateGraphStore(graphStore -> {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            if (nodeProperty == null || nodeProperty.values() != expectedValues) {
+                return;
+            }
+            if (nodeProperty.valueType() != propertyValues.valueType()) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot replace node property %s of type %s with values of type %s",
+                    propertyKey,
+                    nodeProperty.valueType(),
+                    propertyValues.valueType()
+                ));
+            }
+
+            graphStore.nodeProperties = NodePropertyStore
+                .builder()
+                .from(graphStore.nodeProperties)
+                .putProperty(propertyKey, ImmutableNodeProperty.of(propertyValues, nodeProperty.propertySchema()))
+                .build();
+            replaced.set(true);
+        });
+        return replaced.get();
+    }
+
     @Override
     public NodeProperty nodeProperty(String propertyKey) {
         return this.nodeProperties.get(propertyKey);
@@ -394,6 +444,16 @@ public final class CSRGraphStore implements GraphStore {
             .orElseThrow(() -> new IllegalArgumentException("No relationship properties found for relationship type `" + relationshipType + "` and property key `" + propertyKey + "`."));
     }
 
+    /**
+     * Returns the relationships of the given type as they are stored,
+     * including their properties and inverse index, if present.
+     */
+    public SingleTypeRelationships relationships(RelationshipType relationshipType) {
+        return Optional
+            .ofNullable(relationships.get(relationshipType))
+            .orElseThrow(() -> new IllegalArgumentException("No relationships found for relationship type `" + relationshipType + "`."));
+    }
+
     @Override
     public void addRelationshipType(SingleTypeRelationships relationships) {
         updateGraphStore(graphStore -> {
@@ -421,6 +481,65 @@ public final class CSRGraphStore implements GraphStore {
         relationships.put(relationshipType, newRelationships);
     }
 
+    @Override
+    public void appendRelationships(SingleTypeRelationships relationships, Log log) {
+        var relationshipType = relationships.relationshipSchemaEntry().identifier();
+        updateGraphStore(graphStore -> {
+            var existing = graphStore.relationships.get(relationshipType);
+            if (existing == null) {
+                schema.relationshipSchema().set(relationships.relationshipSchemaEntry());
+                graphStore.relationships.put(relationshipType, relationships);
+            } else {
+                graphStore.relationships.put(relationshipType, RelationshipDeltas.append(existing, relationships));
+            }
+        });
+        compactInBackgroundIfNeeded(relationshipType, log);
+    }
+
+    private void compactInBackgroundIfNeeded(RelationshipType relationshipType, Log log) {
+        if (!RelationshipDeltas.needsCompaction(relationships(relationshipType))) {
+            return;
+        }
+        // at most one compaction per type, appends during the compaction are kept as layers by the rebase
+        if (compactingRelationshipTypes.add(relationshipType)) {
+            compactRelationships(relationshipType, concurrency, BACKGROUND_COMPACTION_POOL)
+                .whenComplete((replaced, error) -> {
+                    compactingRelationshipTypes.remove(relationshipType);
+                    if (error != null) {
+                        log.warn(
+                            formatWithLocale("Background compaction of relationship type `%s` failed", relationshipType.name),
+                            error
+                        );
+                    }
+                });
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compactRelationships(
+        RelationshipType relationshipType,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var snapshot = relationships(relationshipType);
+        if (!RelationshipDeltas.hasDeltas(snapshot)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return CompletableFuture
+            .supplyAsync(() -> RelationshipDeltas.compact(snapshot, nodes, concurrency), executorService)
+            .thenApply(compacted -> {
+                var replaced = new AtomicBoolean(false);
+                updateGraphStore(graphStore -> Optional
+                    .ofNullable(graphStore.relationships.get(relationshipType))
+                    .flatMap(current -> RelationshipDeltas.rebase(current, snapshot, compacted))
+                    .ifPresent(rebased -> {
+                        graphStore.relationships.put(relationshipType, rebased);
+                        replaced.set(true);
+                    }));
+                return replaced.get();
+            });
+    }
+
     @Override
     public DeletionResult deleteRelationships(RelationshipType relationshipType) {
         return DeletionResult.of(builder -> updateGraphStore(graphStore -> {
@@ -541,8 +660,46 @@ public final class CSRGraphStore implements GraphStore {
         return nodes.nodeCount();
     }
 
+    @Override
+    public long offHeapSizeInBytes() {
+        return offHeapAdjacencyLists().mapToLong(OffHeapAdjacencyList::bytesOffHeap).sum();
+    }
+
+    @Override
+    public void release() {
+        offHeapAdjacencyLists().forEach(OffHeapAdjacencyList::release);
+        // return the share of the filtered id map cache budget without waiting for garbage collection
+        filteredIdMapCache.invalidate();
+    }
+
+    private Stream<OffHeapAdjacencyList> offHeapAdjacencyLists() {
+        return relationships
+            .values()
+            .stream()
+            .flatMap(relationships -> Stream.concat(
+                Stream.of(relationships.topology()),
+                relationships.inverseTopology().stream()
+            ))
+            .map(Topology::adjacencyList)
+            .filter(OffHeapAdjacencyList.class::isInstance)
+            .map(OffHeapAdjacencyList.class::cast);
+    }
+
+    /**
+     * Returns the cache of label filtered id maps that backs {@link #getGraph}.
+     * Exposed for metrics on how often projections can reuse a filtered id map,
+     * which are reported by {@code gds.internal.graph.sizeOf}.
+     */
+    public FilteredIdMapCache filteredIdMapCache() {
+        return filteredIdMapCache;
+    }
+
     private synchronized void updateGraphStore(Consumer<CSRGraphStore> updateFunction) {
-        updateFunction.accept(this);
+        try {
+            updateFunction.accept(this);
+        } finally {
+            filteredIdMapCache.invalidate();
+        }
         this.modificationTime = TimeUtil.now();
     }
 
@@ -608,7 +765,9 @@ public final class CSRGraphStore implements GraphStore {
 
         return loadAllNodes || schema()
             .nodeSchema()
-            .containsOnlyAllNodesLabel() ? Optional.empty() : nodes.withFilteredLabels(filteredLabels, concurrency);
+            .containsOnlyAllNodesLabel()
+            ? Optional.empty()
+            : filteredIdMapCache.get(nodes, filteredLabels, () -> nodes.withFilteredLabels(filteredLabels, concurrency));
     }
 
     private CSRGraph createGraphFromRelationshipType(
@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.api.compress.AdjacencyCompressorFactory;
+import org.neo4j.gds.api.compress.LongArrayBuffer;
+import org.neo4j.gds.core.compression.common.VarLongEncoding;
+import org.neo4j.gds.core.compression.common.ZigZagLongDecoding;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import static org.neo4j.gds.core.compression.common.VarLongEncoding.zigZag;
+import static org.neo4j.gds.utils.GdsFeatureToggles.PAGES_PER_THREAD;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Collects relationships in thread-local, columnar chunks and builds the
+ * adjacency lists of one or more {@link SingleTypeRelationshipImporter}s from them.
+ *
+ * Adding relationships does not require any synchronization, every thread fills
+ * its own chunk and only hands it over once it is full.
+ *
+ * The adjacency lists are built with a parallel MSD radix sort.
+ * The first pass partitions the relationships of all chunks by the high bits
+ * of their source id into buckets. The second pass counting-sorts every bucket by
+ * the remaining bits, which yields the adjacency lists of all nodes in the bucket,
+ * and hands them to the compressor. Buckets are independent of each other,
+ * so both passes run in parallel without any locking.
+ *
+ * The buckets hold a copy of the buffered relationships. Chunks are released as soon as
+ * they have been distributed into the buckets of the last importer, and buckets are released
+ * as soon as they have been compressed, so both copies only coexist during the first pass.
+ */
+public final class ColumnarRelationshipsBuffer {
+
+    // upper bound for the id range of a bucket, which sizes the histogram of the second pass
+    private static final int MAX_BUCKET_SHIFT = 20;
+
+    private final int propertyCount;
+    private final int chunkSize;
+    private final Queue<Chunk> chunks;
+
+    public ColumnarRelationshipsBuffer(int propertyCount, int chunkSize) {
+        this.propertyCount = propertyCount;
+        this.chunkSize = chunkSize;
+        this.chunks = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Creates a buffer that must only be used by a single thread.
+     * Relationships become visible to {@link #build} once the local buffer is closed.
+     */
+    public LocalBuffer newLocalBuffer() {
+        return new LocalBuffer();
+    }
+
+    /**
+     * Builds the adjacency lists of the given importers from all buffered relationships.
+     * The orientation of each importer determines whether relationships are grouped by
+     * their source, their target, or both. The buffered relationships are released afterwards.
+     *
+     * @param mapper             A mapper to transform node ids before sorting them. Implementations must be thread-safe.
+     * @param drainCountConsumer A consumer which is called once a bucket has been written to the adjacency list.
+     *                           Implementations must be thread-safe.
+     */
+    public void build(
+        Collection<SingleTypeRelationshipImporter> importers,
+        Optional<AdjacencyCompressor.ValueMapper> mapper,
+        Optional<LongConsumer> drainCountConsumer,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var chunks = this.chunks.toArray(Chunk[]::new);
+        this.chunks.clear();
+
+        long maxNodeId = prepare(chunks, mapper, concurrency, executorService);
+
+        var remainingImporters = importers.size();
+        for (var importer : importers) {
+            var adjacencyCompressorFactory = importer.adjacencyCompressorFactory();
+            adjacencyCompressorFactory.init();
+            boolean isLastImporter = --remainingImporters == 0;
+
+            if (maxNodeId < 0) {
+                continue;
+            }
+
+            var orientation = importer.importMetaData().projection().orientation();
+            var partition = partition(chunks, orientation, maxNodeId, isLastImporter, concurrency, executorService);
+
+            compress(
+                partition,
+                adjacencyCompressorFactory,
+                drainCountConsumer.orElse(n -> {}),
+                concurrency,
+                executorService
+            );
+        }
+    }
+
+    /**
+     * Maps all node ids and returns the largest mapped id, or -1 if there are no relationships.
+     */
+    private static long prepare(
+        Chunk[] chunks,
+        Optional<AdjacencyCompressor.ValueMapper> mapper,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var maxNodeIds = new long[chunks.length];
+        var tasks = new ArrayList<Runnable>(chunks.length);
+        for (int i = 0; i < chunks.length; i++) {
+            int chunkIndex = i;
+            tasks.add(() -> maxNodeIds[chunkIndex] = chunks[chunkIndex].mapNodeIds(mapper));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        long maxNodeId = -1;
+        for (long chunkMax : maxNodeIds) {
+            maxNodeId = Math.max(maxNodeId, chunkMax);
+        }
+        return maxNodeId;
+    }
+
+    /**
+     * First pass of the radix sort: distributes the relationships into
+     * buckets of consecutive node ids, keyed by source and / or target.
+     *
+     * @param releaseChunks whether to release each chunk once it has been distributed
+     */
+    private Partition partition(
+        Chunk[] chunks,
+        Orientation orientation,
+        long maxNodeId,
+        boolean releaseChunks,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        boolean bySource = orientation != Orientation.REVERSE;
+        boolean byTarget = orientation != Orientation.NATURAL;
+
+        int idBits = Long.SIZE - Long.numberOfLeadingZeros(maxNodeId);
+        int bucketBits = Math.min(
+            idBits,
+            Integer.numberOfTrailingZeros(BitUtil.nextHighestPowerOfTwo(Math.max(1, concurrency * PAGES_PER_THREAD.get())))
+        );
+        int shift = Math.min(MAX_BUCKET_SHIFT, idBits - bucketBits);
+        int bucketCount = (int) (maxNodeId >>> shift) + 1;
+
+        int workers = Math.max(1, Math.min(concurrency, chunks.length));
+        var histograms = new int[workers][bucketCount];
+
+        var histogramTasks = new ArrayList<Runnable>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            var histogram = histograms[worker];
+            int fromChunk = firstChunk(worker, workers, chunks.length);
+            int toChunk = firstChunk(worker + 1, workers, chunks.length);
+            histogramTasks.add(() -> {
+                for (int c = fromChunk; c < toChunk; c++) {
+                    var chunk = chunks[c];
+                    for (int i = 0; i < chunk.length; i++) {
+                        if (bySource) {
+                            histogram[(int) (chunk.sources[i] >>> shift)]++;
+                        }
+                        if (byTarget) {
+                            histogram[(int) (chunk.targets[i] >>> shift)]++;
+                        }
+                    }
+                }
+            });
+        }
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(histogramTasks).executor(executorService).run();
+
+        // turn the counts into the write positions of each worker within the buckets
+        var buckets = new Bucket[bucketCount];
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            long bucketSize = 0;
+            for (int worker = 0; worker < workers; worker++) {
+                int count = histograms[worker][bucket];
+                histograms[worker][bucket] = (int) bucketSize;
+                bucketSize += count;
+            }
+            if (bucketSize > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException(formatWithLocale(
+                    "The nodes %d to %d have %d relationships, which exceeds the maximum bucket size.",
+                    (long) bucket << shift,
+                    ((long) (bucket + 1) << shift) - 1,
+                    bucketSize
+                ));
+            }
+            if (bucketSize > 0) {
+                buckets[bucket] = new Bucket((long) bucket << shift, (int) bucketSize, propertyCount);
+            }
+        }
+
+        var scatterTasks = new ArrayList<Runnable>(workers);
+        for (int worker = 0; worker < workers; worker++) {
+            var positions = histograms[worker];
+            int fromChunk = firstChunk(worker, workers, chunks.length);
+            int toChunk = firstChunk(worker + 1, workers, chunks.length);
+            scatterTasks.add(() -> {
+                for (int c = fromChunk; c < toChunk; c++) {
+                    var chunk = chunks[c];
+                    for (int i = 0; i < chunk.length; i++) {
+                        if (bySource) {
+                            buckets[(int) (chunk.sources[i] >>> shift)].add(positions, shift, chunk, i, chunk.sources[i], chunk.targets[i]);
+                        }
+                        if (byTarget) {
+                            buckets[(int) (chunk.targets[i] >>> shift)].add(positions, shift, chunk, i, chunk.targets[i], chunk.sources[i]);
+                        }
+                    }
+                    if (releaseChunks) {
+                        chunks[c] = null;
+                    }
+                }
+            });
+        }
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(scatterTasks).executor(executorService).run();
+
+        return new Partition(buckets, shift);
+    }
+
+    /**
+     * Second pass of the radix sort: sorts every bucket by the remaining bits of the node id and compresses
+     * the resulting adjacency lists. Workers take the next unprocessed bucket, so that skewed buckets are balanced.
+     */
+    private void compress(
+        Partition partition,
+        AdjacencyCompressorFactory adjacencyCompressorFactory,
+        LongConsumer drainCountConsumer,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var relationshipCounter = adjacencyCompressorFactory.relationshipCounter();
+        var nextBucket = new AtomicInteger();
+
+        var tasks = new ArrayList<Runnable>(concurrency);
+        for (int worker = 0; worker < concurrency; worker++) {
+            tasks.add(new BucketCompressor(
+                partition,
+                nextBucket,
+                adjacencyCompressorFactory,
+                relationshipCounter,
+                drainCountConsumer,
+                propertyCount
+            ));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+    }
+
+    private static int firstChunk(int worker, int workers, int chunkCount) {
+        return (int) ((long) worker * chunkCount / workers);
+    }
+
+    public final class LocalBuffer implements AutoCloseable {
+
+        private Chunk chunk;
+
+        private LocalBuffer() {
+            this.chunk = new Chunk(chunkSize, propertyCount);
+        }
+
+        public void add(long source, long target) {
+            var chunk = this.chunk;
+            int index = chunk.length++;
+            chunk.sources[index] = source;
+            chunk.targets[index] = target;
+            if (chunk.length == chunkSize) {
+                flush();
+            }
+        }
+
+        public void add(long source, long target, double relationshipPropertyValue) {
+            var chunk = this.chunk;
+            int index = chunk.length++;
+            chunk.sources[index] = source;
+            chunk.targets[index] = target;
+            chunk.properties[0][index] = Double.doubleToLongBits(relationshipPropertyValue);
+            if (chunk.length == chunkSize) {
+                flush();
+            }
+        }
+
+        public void add(long source, long target, double[] relationshipPropertyValues) {
+            var chunk = this.chunk;
+            int index = chunk.length++;
+            chunk.sources[index] = source;
+            chunk.targets[index] = target;
+            for (int propertyKeyId = 0; propertyKeyId < propertyCount; propertyKeyId++) {
+                chunk.properties[propertyKeyId][index] = Double.doubleToLongBits(relationshipPropertyValues[propertyKeyId]);
+            }
+            if (chunk.length == chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            chunks.add(this.chunk);
+            this.chunk = new Chunk(chunkSize, propertyCount);
+        }
+
+        @Override
+        public void close() {
+            if (this.chunk.length > 0) {
+                chunks.add(this.chunk);
+                this.chunk = new Chunk(0, propertyCount);
+            }
+        }
+    }
+
+    private static final class Chunk {
+        final long[] sources;
+        final long[] targets;
+        final long[][] properties;
+        int length;
+
+        Chunk(int capacity, int propertyCount) {
+            this.sources = new long[capacity];
+            this.targets = new long[capacity];
+            this.properties = new long[propertyCount][capacity];
+        }
+
+        long mapNodeIds(Optional<AdjacencyCompressor.ValueMapper> maybeMapper) {
+            long maxNodeId = -1;
+            if (maybeMapper.isPresent()) {
+                var mapper = maybeMapper.get();
+                for (int i = 0; i < length; i++) {
+                    sources[i] = mapper.map(sources[i]);
+                    targets[i] = mapper.map(targets[i]);
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                maxNodeId = Math.max(maxNodeId, Math.max(sources[i], targets[i]));
+            }
+            return maxNodeId;
+        }
+    }
+
+    private static final class Partition {
+        final Bucket[] buckets;
+        final int shift;
+
+        Partition(Bucket[] buckets, int shift) {
+            this.buckets = buckets;
+            this.shift = shift;
+        }
+    }
+
+    private static final class Bucket {
+        final long firstNodeId;
+        final int size;
+        int[] localIds;
+        long[] values;
+        long[][] properties;
+
+        Bucket(long firstNodeId, int size, int propertyCount) {
+            this.firstNodeId = firstNodeId;
+            this.size = size;
+            this.localIds = new int[size];
+            this.values = new long[size];
+            this.properties = new long[propertyCount][size];
+        }
+
+        void add(int[] positions, int shift, Chunk chunk, int index, long key, long value) {
+            int position = positions[(int) (key >>> shift)]++;
+            localIds[position] = (int) (key - firstNodeId);
+            values[position] = value;
+            for (int propertyKeyId = 0; propertyKeyId < properties.length; propertyKeyId++) {
+                properties[propertyKeyId][position] = chunk.properties[propertyKeyId][index];
+            }
+        }
+
+        void release() {
+            this.localIds = null;
+            this.values = null;
+            this.properties = null;
+        }
+    }
+
+    private static final class BucketCompressor implements Runnable {
+
+        private final Partition partition;
+        private final AtomicInteger nextBucket;
+        private final AdjacencyCompressorFactory adjacencyCompressorFactory;
+        private final LongAdder relationshipCounter;
+        private final LongConsumer drainCountConsumer;
+
+        private final int[] offsets;
+        private final LongArrayBuffer buffer;
+        private long[] sortedValues;
+        private final long[][] sortedProperties;
+        private final long[][] propertiesBuffer;
+        private long[] deltas;
+        private byte[] compressedTargets;
+
+        BucketCompressor(
+            Partition partition,
+            AtomicInteger nextBucket,
+            AdjacencyCompressorFactory adjacencyCompressorFactory,
+            LongAdder relationshipCounter,
+            LongConsumer drainCountConsumer,
+            int propertyCount
+        ) {
+            this.partition = partition;
+            this.nextBucket = nextBucket;
+            this.adjacencyCompressorFactory = adjacencyCompressorFactory;
+            this.relationshipCounter = relationshipCounter;
+            this.drainCountConsumer = drainCountConsumer;
+            this.offsets = new int[(1 << partition.shift) + 1];
+            this.buffer = new LongArrayBuffer();
+            this.sortedValues = new long[0];
+            this.sortedProperties = new long[propertyCount][0];
+            this.propertiesBuffer = new long[propertyCount][0];
+            this.deltas = new long[0];
+            this.compressedTargets = new byte[0];
+        }
+
+        @Override
+        public void run() {
+            try (var compressor = adjacencyCompressorFactory.createCompressor()) {
+                int bucketIndex;
+                while ((bucketIndex = nextBucket.getAndIncrement()) < partition.buckets.length) {
+                    var bucket = partition.buckets[bucketIndex];
+                    if (bucket != null) {
+                        partition.buckets[bucketIndex] = null;
+                        long importedRelationships = compressBucket(bucket, compressor);
+                        relationshipCounter.add(importedRelationships);
+                        drainCountConsumer.accept(importedRelationships);
+                    }
+                }
+            }
+        }
+
+        private long compressBucket(Bucket bucket, AdjacencyCompressor compressor) {
+            int size = bucket.size;
+            var offsets = this.offsets;
+            var localIds = bucket.localIds;
+            int maxLocalId = 0;
+
+            // counting sort by the local node id
+            for (int i = 0; i < size; i++) {
+                offsets[localIds[i] + 1]++;
+                maxLocalId = Math.max(maxLocalId, localIds[i]);
+            }
+            for (int localId = 0; localId <= maxLocalId; localId++) {
+                offsets[localId + 1] += offsets[localId];
+            }
+
+            if (sortedValues.length < size) {
+                sortedValues = new long[size];
+                for (int propertyKeyId = 0; propertyKeyId < sortedProperties.length; propertyKeyId++) {
+                    sortedProperties[propertyKeyId] = new long[size];
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                int position = offsets[localIds[i]]++;
+                sortedValues[position] = bucket.values[i];
+                for (int propertyKeyId = 0; propertyKeyId < sortedProperties.length; propertyKeyId++) {
+                    sortedProperties[propertyKeyId][position] = bucket.properties[propertyKeyId][i];
+                }
+            }
+            bucket.release();
+
+            // offsets[localId] now points to the end of the adjacency list of localId
+            long importedRelationships = 0;
+            int start = 0;
+            for (int localId = 0; localId <= maxLocalId; localId++) {
+                int end = offsets[localId];
+                int degree = end - start;
+                if (degree > 0) {
+                    int compressedByteSize = encode(start, degree);
+                    importedRelationships += compressor.compress(
+                        bucket.firstNodeId + localId,
+                        compressedTargets,
+                        properties(start, degree),
+                        degree,
+                        compressedByteSize,
+                        buffer,
+                        ZigZagLongDecoding.Identity.INSTANCE
+                    );
+                }
+                start = end;
+            }
+
+            Arrays.fill(offsets, 0, maxLocalId + 2, 0);
+            return importedRelationships;
+        }
+
+        /**
+         * Encodes the targets in the format of {@link ChunkedAdjacencyLists}, which is what the compressors consume.
+         */
+        private int encode(int start, int degree) {
+            if (deltas.length < degree) {
+                deltas = new long[degree];
+            }
+            long lastValue = 0L;
+            for (int i = 0; i < degree; i++) {
+                long value = sortedValues[start + i];
+                deltas[i] = zigZag(value - lastValue);
+                lastValue = value;
+            }
+            int requiredBytes = VarLongEncoding.encodedVLongsSize(deltas, degree);
+            if (compressedTargets.length < requiredBytes) {
+                compressedTargets = new byte[requiredBytes];
+            }
+            return VarLongEncoding.encodeVLongs(deltas, degree, compressedTargets, 0);
+        }
+
+        private @Nullable long[][] properties(int start, int degree) {
+            if (propertiesBuffer.length == 0) {
+                return null;
+            }
+            for (int propertyKeyId = 0; propertyKeyId < propertiesBuffer.length; propertyKeyId++) {
+                if (propertiesBuffer[propertyKeyId].length < degree) {
+                    propertiesBuffer[propertyKeyId] = new long[degree];
+                }
+                System.arraycopy(sortedProperties[propertyKeyId], start, propertiesBuffer[propertyKeyId], 0, degree);
+            }
+            return propertiesBuffer;
+        }
+    }
+}
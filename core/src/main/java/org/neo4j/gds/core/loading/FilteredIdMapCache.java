@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps label filtered id maps of a graph store around, so that repeated
+ * projections with the same node label filter do not have to rebuild them.
+ * <p>
+ * The caches of all graph stores share one memory {@link Budget}, which is
+ * {@link GdsFeatureToggles#FILTERED_ID_MAP_CACHE_BUDGET} for graph stores in the catalog.
+ * A cache only evicts its own entries, in least recently used order, to make room for a new one.
+ * If the remaining budget is held by other graph stores, the new id map is not cached.
+ * The share of a graph store is returned to the budget once the graph store is mutated
+ * or dropped from the catalog, or otherwise once it has been garbage collected.
+ * <p>
+ * Because node ids can also be added to a label directly via
+ * {@link IdMap#addNodeIdToLabel(long, NodeLabel)}, an entry is only reused
+ * if the node counts of its labels did not change since it was created.
+ */
+public final class FilteredIdMapCache {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    public static final Budget GLOBAL_BUDGET = new Budget(GdsFeatureToggles.FILTERED_ID_MAP_CACHE_BUDGET);
+
+    private final Budget budget;
+    private final Reservation reservation;
+    private final LinkedHashMap<Set<NodeLabel>, Entry> entries;
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public FilteredIdMapCache(Budget budget) {
+        this.budget = budget;
+        this.reservation = new Reservation(budget);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        CLEANER.register(this, reservation);
+    }
+
+    /**
+     * Returns the cached id map for the given labels or computes and caches a new one.
+     * The computation runs outside the lock, so lookups for other label filters are not blocked.
+     */
+    public Optional<FilteredIdMap> get(
+        IdMap rootIdMap,
+        Collection<NodeLabel> nodeLabels,
+        Supplier<Optional<FilteredIdMap>> filteredIdMapSupplier
+    ) {
+        // let the id map report unknown labels
+        if (!rootIdMap.availableNodeLabels().containsAll(nodeLabels)) {
+            return filteredIdMapSupplier.get();
+        }
+
+        var key = Set.copyOf(nodeLabels);
+        var labels = List.copyOf(key);
+        var labelCounts = labelCounts(rootIdMap, labels);
+
+        long generationBefore;
+        synchronized (this) {
+            var entry = entries.get(key);
+            if (entry != null && Arrays.equals(entry.labelCounts, labelCounts(rootIdMap, entry.labels))) {
+                hits++;
+                return Optional.of(entry.idMap);
+            }
+            misses++;
+            generationBefore = generation;
+        }
+
+        var filteredIdMap = filteredIdMapSupplier.get();
+        filteredIdMap.ifPresent(idMap -> put(
+            key,
+            new Entry(idMap, labels, labelCounts, estimateSizeInBytes(rootIdMap, idMap)),
+            generationBefore
+        ));
+        return filteredIdMap;
+    }
+
+    public synchronized void invalidate() {
+        entries.clear();
+        reservation.run();
+        generation++;
+    }
+
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    public synchronized long evictionCount() {
+        return evictions;
+    }
+
+    public synchronized double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0D : (double) hits / requests;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long sizeInBytes() {
+        return reservation.sizeInBytes();
+    }
+
+    /**
+     * A filtered id map stores a dense forward mapping with a long per filtered node
+     * and a sparse backward mapping, which is indexed by the node ids of the root id map
+     * and can therefore span up to a long per root node.
+     */
+    static long estimateSizeInBytes(IdMap rootIdMap, IdMap filteredIdMap) {
+        return HugeLongArray.memoryEstimation(filteredIdMap.nodeCount())
+               + HugeLongArray.memoryEstimation(rootIdMap.nodeCount());
+    }
+
+    private synchronized void put(Set<NodeLabel> key, Entry entry, long generationBefore) {
+        // the graph store has been mutated while the id map was built
+        if (generation != generationBefore) {
+            return;
+        }
+        if (entry.sizeInBytes > budget.limitInBytes()) {
+            return;
+        }
+
+        var previous = entries.remove(key);
+        if (previous != null) {
+            reservation.release(previous.sizeInBytes);
+        }
+
+        var iterator = entries.values().iterator();
+        while (!reservation.tryReserve(entry.sizeInBytes)) {
+            // the rest of the budget is held by other graph stores
+            if (!iterator.hasNext()) {
+                return;
+            }
+            var eldest = iterator.next();
+            iterator.remove();
+            reservation.release(eldest.sizeInBytes);
+            evictions++;
+        }
+        entries.put(key, entry);
+    }
+
+    private static long[] labelCounts(IdMap rootIdMap, List<NodeLabel> labels) {
+        var counts = new long[labels.size()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = rootIdMap.nodeCount(labels.get(i));
+        }
+        return counts;
+    }
+
+    private static final class Entry {
+        private final FilteredIdMap idMap;
+        private final List<NodeLabel> labels;
+        private final long[] labelCounts;
+        private final long sizeInBytes;
+
+        Entry(FilteredIdMap idMap, List<NodeLabel> labels, long[] labelCounts, long sizeInBytes) {
+            this.idMap = idMap;
+            this.labels = labels;
+            this.labelCounts = labelCounts;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+
+    /**
+     * Memory budget shared by several caches.
+     */
+    public static final class Budget {
+        private final AtomicLong limitInBytes;
+        private final AtomicLong usedInBytes;
+
+        public Budget(AtomicLong limitInBytes) {
+            this.limitInBytes = limitInBytes;
+            this.usedInBytes = new AtomicLong();
+        }
+
+        public long limitInBytes() {
+            return limitInBytes.get();
+        }
+
+        public long usedInBytes() {
+            return usedInBytes.get();
+        }
+
+        boolean tryReserve(long bytes) {
+            long used;
+            do {
+                used = usedInBytes.get();
+                if (used + bytes > limitInBytes.get()) {
+                    return false;
+                }
+            } while (!usedInBytes.compareAndSet(used, used + bytes));
+            return true;
+        }
+
+        void release(long bytes) {
+            usedInBytes.addAndGet(-bytes);
+        }
+    }
+
+    /**
+     * The share of the budget held by one cache.
+     * Separated from the cache to register with the {@link Cleaner}.
+     */
+    private static final class Reservation implements Runnable {
+        private final Budget budget;
+        private long sizeInBytes;
+
+        Reservation(Budget budget) {
+            this.budget = budget;
+        }
+
+        synchronized boolean tryReserve(long bytes) {
+            if (budget.tryReserve(bytes)) {
+                sizeInBytes += bytes;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void release(long bytes) {
+            sizeInBytes -= bytes;
+            budget.release(bytes);
+        }
+
+        synchronized long sizeInBytes() {
+            return sizeInBytes;
+        }
+
+        @Override
+        public synchronized void run() {
+            release(sizeInBytes);
+        }
+    }
+}
@@ -210,7 +210,49 @@ public final class GraphStoreCatalog {
         );
     }
 
+    public static <INDEX> Optional<INDEX> getIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexName,
+        Class<INDEX> indexType
+    ) {
+        return getUserCatalog(username)
+            .getIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexName)
+            .map(index -> {
+                if (!indexType.isInstance(index)) {
+                    throw new IllegalArgumentException(formatWithLocale(
+                        "Index `%s` on graph `%s` is of type `%s`, expected `%s`",
+                        indexName,
+                        graphName,
+                        index.getClass().getSimpleName(),
+                        indexType.getSimpleName()
+                    ));
+                }
+                return indexType.cast(index);
+            });
+    }
+
+    public static void setIndex(
+        String username,
+        DatabaseId databaseId,
+        String graphName,
+        String indexName,
+        Object index
+    ) {
+        getUserCatalog(username).setIndex(
+            UserCatalog.UserCatalogKey.of(databaseId, graphName),
+            indexName,
+            index
+        );
+    }
+
+    public static boolean removeIndex(String username, DatabaseId databaseId, String graphName, String indexName) {
+        return getUserCatalog(username).removeIndex(UserCatalog.UserCatalogKey.of(databaseId, graphName), indexName);
+    }
+
     public static void removeAllLoadedGraphs() {
+        userCatalogs.values().forEach(UserCatalog::releaseAll);
         userCatalogs.clear();
     }
 
@@ -271,6 +313,8 @@ public final class GraphStoreCatalog {
 
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, Map<String, Object>> indicesByName = new ConcurrentHashMap<>();
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -288,7 +332,10 @@ public final class GraphStoreCatalog {
                     config.graphName()
                 ));
             }
-            graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            var replaced = graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            if (replaced != null && replaced.graphStore() != graphStore) {
+                replaced.graphStore().release();
+            }
         }
 
         private void setDegreeDistribution(UserCatalogKey userCatalogKey, Map<String, Object> degreeDistribution) {
@@ -309,6 +356,36 @@ public final class GraphStoreCatalog {
             degreeDistributionByName.remove(userCatalogKey);
         }
 
+        private void setIndex(UserCatalogKey userCatalogKey, String indexName, Object index) {
+            if (userCatalogKey == null || indexName == null || index == null) {
+                throw new IllegalArgumentException("Name, index name and index must be not null");
+            }
+            if (!graphsByName.containsKey(userCatalogKey)) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot set index `%s` because graph %s does not exist",
+                    indexName,
+                    userCatalogKey.graphName()
+                ));
+            }
+            indicesByName
+                .computeIfAbsent(userCatalogKey, ignore -> new ConcurrentHashMap<>())
+                .put(indexName, index);
+        }
+
+        private Optional<Object> getIndex(UserCatalogKey userCatalogKey, String indexName) {
+            if (!graphsByName.containsKey(userCatalogKey)) {
+                return Optional.empty();
+            }
+            return Optional
+                .ofNullable(indicesByName.get(userCatalogKey))
+                .map(indices -> indices.get(indexName));
+        }
+
+        private boolean removeIndex(UserCatalogKey userCatalogKey, String indexName) {
+            var indices = indicesByName.get(userCatalogKey);
+            return indices != null && indices.remove(indexName) != null;
+        }
+
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
@@ -351,14 +428,27 @@ public final class GraphStoreCatalog {
                 .map(graphStoreWithConfig -> {
                     removedGraphConsumer.accept(graphStoreWithConfig);
                     removeDegreeDistribution(userCatalogKey);
+                    indicesByName.remove(userCatalogKey);
                     graphsByName.remove(userCatalogKey);
+                    graphStoreWithConfig.graphStore().release();
                     return Boolean.TRUE;
                 })
                 .orElse(Boolean.FALSE);
         }
 
         private void remove(String databaseName) {
-            graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            graphsByName.entrySet().removeIf(entry -> {
+                if (entry.getKey().databaseName().equals(databaseName)) {
+                    entry.getValue().graphStore().release();
+                    return true;
+                }
+                return false;
+            });
+            indicesByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+        }
+
+        private void releaseAll() {
+            graphsByName.values().forEach(graphStoreWithConfig -> graphStoreWithConfig.graphStore().release());
         }
 
         private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
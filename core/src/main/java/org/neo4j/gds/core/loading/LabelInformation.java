@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.core.loading;
 
-import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.IdMap;
 
@@ -37,7 +36,7 @@ public interface LabelInformation {
 
     LabelInformation filter(Collection<NodeLabel> nodeLabels);
 
-    BitSet unionBitSet(Collection<NodeLabel> nodeLabels, long nodeCount);
+    NodeIdBitmap unionBitmap(Collection<NodeLabel> nodeLabels);
 
     long nodeCountForLabel(NodeLabel nodeLabel);
 
@@ -62,7 +61,7 @@ public interface LabelInformation {
     LabelInformation toMultiLabel(NodeLabel nodeLabelToMutate);
 
     interface LabelInformationConsumer {
-        boolean accept(NodeLabel nodeLabel, BitSet bitSet);
+        boolean accept(NodeLabel nodeLabel, NodeIdBitmap bitmap);
     }
 
     interface Builder {
@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.core.loading;
 
-import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.ElementIdentifier;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.BatchNodeIterable;
@@ -39,9 +38,9 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public final class MultiLabelInformation implements LabelInformation {
 
-    private final Map<NodeLabel, BitSet> labelInformation;
+    private final Map<NodeLabel, NodeIdBitmap> labelInformation;
 
-    private MultiLabelInformation(Map<NodeLabel, BitSet> labelInformation) {
+    private MultiLabelInformation(Map<NodeLabel, NodeIdBitmap> labelInformation) {
         this.labelInformation = labelInformation;
     }
 
@@ -52,7 +51,7 @@ public final class MultiLabelInformation implements LabelInformation {
 
     @Override
     public void forEach(LabelInformationConsumer consumer) {
-        for (Map.Entry<NodeLabel, BitSet> entry : labelInformation.entrySet()) {
+        for (Map.Entry<NodeLabel, NodeIdBitmap> entry : labelInformation.entrySet()) {
             if (!consumer.accept(entry.getKey(), entry.getValue())) {
                 return;
             }
@@ -67,12 +66,10 @@ public final class MultiLabelInformation implements LabelInformation {
     }
 
     @Override
-    public BitSet unionBitSet(Collection<NodeLabel> nodeLabels, long nodeCount) {
+    public NodeIdBitmap unionBitmap(Collection<NodeLabel> nodeLabels) {
         assert labelInformation.keySet().containsAll(nodeLabels);
 
-        BitSet unionBitSet = new BitSet(nodeCount);
-        nodeLabels.forEach(label -> unionBitSet.union(labelInformation.get(label)));
-        return unionBitSet;
+        return NodeIdBitmap.union(nodeLabels.stream().map(labelInformation::get).collect(Collectors.toList()));
     }
 
     @Override
@@ -85,12 +82,12 @@ public final class MultiLabelInformation implements LabelInformation {
 
     @Override
     public void addLabel(NodeLabel nodeLabel) {
-        labelInformation.computeIfAbsent(nodeLabel, (ignored) -> new BitSet());
+        labelInformation.computeIfAbsent(nodeLabel, (ignored) -> NodeIdBitmap.empty());
     }
 
     @Override
     public void addNodeIdToLabel(long nodeId, NodeLabel nodeLabel) {
-        labelInformation.get(nodeLabel).set(nodeId);
+        labelInformation.get(nodeLabel).add(nodeId);
     }
 
     @Override
@@ -109,8 +106,8 @@ public final class MultiLabelInformation implements LabelInformation {
         if (nodeLabel.equals(NodeLabel.ALL_NODES)) {
             return true;
         }
-        var bitSet = labelInformation.get(nodeLabel);
-        return bitSet != null && bitSet.get(nodeId);
+        var bitmap = labelInformation.get(nodeLabel);
+        return bitmap != null && bitmap.contains(nodeId);
     }
 
     @Override
@@ -121,8 +118,8 @@ public final class MultiLabelInformation implements LabelInformation {
     @Override
     public List<NodeLabel> nodeLabelsForNodeId(long nodeId) {
         List<NodeLabel> labels = new ArrayList<>();
-        forEach((nodeLabel, bitSet) -> {
-            if (bitSet.get(nodeId)) {
+        forEach((nodeLabel, bitmap) -> {
+            if (bitmap.contains(nodeId)) {
                 labels.add(nodeLabel);
             }
             return true;
@@ -132,8 +129,8 @@ public final class MultiLabelInformation implements LabelInformation {
 
     @Override
     public void forEachNodeLabel(long nodeId, IdMap.NodeLabelConsumer consumer) {
-        forEach((nodeLabel, bitSet) -> {
-            if (bitSet.get(nodeId)) {
+        forEach((nodeLabel, bitmap) -> {
+            if (bitmap.contains(nodeId)) {
                 return consumer.accept(nodeLabel);
             }
             return true;
@@ -160,7 +157,7 @@ public final class MultiLabelInformation implements LabelInformation {
         if (labels.contains(NodeLabel.ALL_NODES)) {
             return new BatchNodeIterable.IdIterator(nodeCount);
         }
-        return new BatchNodeIterable.BitSetIdIterator(unionBitSet(labels, nodeCount));
+        return unionBitmap(labels).iterator();
     }
 
     public static final class Builder implements LabelInformation.Builder {
@@ -204,17 +201,18 @@ public final class MultiLabelInformation implements LabelInformation {
                 ).set(nodeId);
         }
 
-        private Map<NodeLabel, BitSet> buildInner(long nodeCount, LongUnaryOperator mappedIdFn) {
+        private Map<NodeLabel, NodeIdBitmap> buildInner(long nodeCount, LongUnaryOperator mappedIdFn) {
             return this.labelInformation
                 .entrySet()
                 .stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, e -> {
                     var importBitSet = e.getValue();
-                    var internBitSet = new BitSet(nodeCount);
+                    var internBitmap = NodeIdBitmap.empty();
 
-                    importBitSet.forEachSetBit(neoId -> internBitSet.set(mappedIdFn.applyAsLong(neoId)));
+                    importBitSet.forEachSetBit(neoId -> internBitmap.add(mappedIdFn.applyAsLong(neoId)));
+                    internBitmap.optimize();
 
-                    return internBitSet;
+                    return internBitmap;
                 }));
         }
 
@@ -230,9 +228,7 @@ public final class MultiLabelInformation implements LabelInformation {
 
             // set the whole range for '*' projections
             for (NodeLabel starLabel : starNodeLabelMappings) {
-                var bitSet = new BitSet(nodeCount);
-                bitSet.set(0, nodeCount);
-                labelInformation.put(starLabel, bitSet);
+                labelInformation.put(starLabel, NodeIdBitmap.range(0, nodeCount));
             }
 
             return new MultiLabelInformation(labelInformation);
@@ -46,6 +46,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
 import org.neo4j.internal.id.IdGeneratorFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.neo4j.gds.core.GraphDimensionsValidation.validate;
@@ -81,18 +82,79 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
 
     @Override
     public MemoryEstimation estimateMemoryUsageDuringLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), true);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            true,
+            storeConfig.adjacencyListEncoding(),
+            storeConfig.nodeOrdering()
+        );
     }
 
     @Override
     public MemoryEstimation estimateMemoryUsageAfterLoading() {
-        return getMemoryEstimation(storeConfig.nodeProjections(), storeConfig.relationshipProjections(), false);
+        return getMemoryEstimation(
+            storeConfig.nodeProjections(),
+            storeConfig.relationshipProjections(),
+            false,
+            storeConfig.adjacencyListEncoding()
+        );
     }
 
     public static MemoryEstimation getMemoryEstimation(
         NodeProjections nodeProjections,
         RelationshipProjections relationshipProjections,
         boolean isLoading
+    ) {
+        return getMemoryEstimation(nodeProjections, relationshipProjections, isLoading, AdjacencyListEncoding.DEFAULT);
+    }
+
+    /**
+     * Unless the nodes keep their natural order, the loaded graph is copied in the new order
+     * before it is released, so the peak during loading is at least twice the size of the graph.
+     */
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean isLoading,
+        AdjacencyListEncoding adjacencyListEncoding,
+        NodeOrdering nodeOrdering
+    ) {
+        var estimation = getMemoryEstimation(nodeProjections, relationshipProjections, isLoading, adjacencyListEncoding);
+        if (!isLoading || nodeOrdering == NodeOrdering.NATURAL) {
+            return estimation;
+        }
+
+        var graphEstimation = getMemoryEstimation(
+            nodeProjections,
+            relationshipProjections,
+            false,
+            adjacencyListEncoding
+        );
+        // relationship types are reordered one after the other, each into a fresh adjacency buffer
+        var relationshipBuffers = new ArrayList<MemoryEstimation>();
+        relationshipProjections.projections().forEach((relationshipType, relationshipProjection) ->
+            relationshipBuffers.add(relationshipEstimationDuringLoading(
+                relationshipType,
+                relationshipProjection,
+                relationshipProjection.orientation() == Orientation.UNDIRECTED
+            ))
+        );
+        var reorderingEstimation = MemoryEstimations.builder("node reordering")
+            .add("loaded graph", graphEstimation)
+            .add("reordered graph", graphEstimation)
+            .add("node order", NodeReordering.memoryEstimation(nodeOrdering))
+            .max("adjacency buffers", relationshipBuffers)
+            .build();
+
+        return MemoryEstimations.maxEstimation("graph projection", List.of(estimation, reorderingEstimation));
+    }
+
+    public static MemoryEstimation getMemoryEstimation(
+        NodeProjections nodeProjections,
+        RelationshipProjections relationshipProjections,
+        boolean isLoading,
+        AdjacencyListEncoding adjacencyListEncoding
     ) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder("graph projection");
 
@@ -109,11 +171,21 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             if (isLoading) {
                 builder.max(List.of(
                     relationshipEstimationDuringLoading(relationshipType, relationshipProjection, undirected),
-                    relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected)
+                    relationshipEstimationAfterLoading(
+                        relationshipType,
+                        relationshipProjection,
+                        undirected,
+                        adjacencyListEncoding
+                    )
                 ));
             } else {
                 builder.add(MemoryEstimations.builder(HugeGraph.class).build());
-                builder.add(relationshipEstimationAfterLoading(relationshipType, relationshipProjection, undirected));
+                builder.add(relationshipEstimationAfterLoading(
+                    relationshipType,
+                    relationshipProjection,
+                    undirected,
+                    adjacencyListEncoding
+                ));
             }
         });
 
@@ -196,7 +268,8 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
     private static MemoryEstimation relationshipEstimationAfterLoading(
         RelationshipType relationshipType,
         RelationshipProjection relationshipProjection,
-        boolean undirected
+        boolean undirected,
+        AdjacencyListEncoding adjacencyListEncoding
     ) {
         var afterLoadingEstimation = MemoryEstimations.builder("size after loading");
 
@@ -205,6 +278,7 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             relationshipProjection,
             undirected,
             false,
+            adjacencyListEncoding,
             afterLoadingEstimation
         );
         if (relationshipProjection.indexInverse()) {
@@ -213,6 +287,7 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
                 relationshipProjection,
                 undirected,
                 true,
+                adjacencyListEncoding,
                 afterLoadingEstimation
             );
         }
@@ -225,6 +300,7 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         RelationshipProjection relationshipProjection,
         boolean undirected,
         boolean printIndexSuffix,
+        AdjacencyListEncoding adjacencyListEncoding,
         MemoryEstimations.Builder afterLoadingEstimation
     ) {
         var indexSuffix = printIndexSuffix ? " (inverse index)" : "";
@@ -232,7 +308,7 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         // adjacency list
         afterLoadingEstimation.add(
             formatWithLocale("adjacency list for '%s'%s", relationshipType, indexSuffix),
-            AdjacencyListBehavior.adjacencyListEstimation(relationshipType, undirected)
+            AdjacencyListBehavior.adjacencyListEstimation(adjacencyListEncoding, relationshipType, undirected)
         );
         // all properties per projection
         relationshipProjection.properties().mappings().forEach(resolvedPropertyMapping -> {
@@ -278,11 +354,13 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
                 Tasks.leaf("Property Index Scan", properties.indexedProperties().size() * dimensions.nodeCount())
             );
 
-        var task = Tasks.task(
-            "Loading",
-            Tasks.task("Nodes", nodeTasks),
-            Tasks.task("Relationships", Tasks.leaf("Store Scan", relationshipCount))
-        );
+        var loadingTasks = new ArrayList<Task>();
+        loadingTasks.add(Tasks.task("Nodes", nodeTasks));
+        loadingTasks.add(Tasks.task("Relationships", Tasks.leaf("Store Scan", relationshipCount)));
+        if (graphProjectConfig.nodeOrdering() != NodeOrdering.NATURAL) {
+            loadingTasks.add(NodeReordering.progressTask(dimensions.nodeCount()));
+        }
+        var task = Tasks.task("Loading", loadingTasks);
 
         if (graphProjectConfig.logProgress()) {
             return new TaskProgressTracker(
@@ -314,6 +392,11 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
             progressTracker.beginSubTask();
             Nodes nodes = loadNodes(concurrency);
             RelationshipImportResult relationships = loadRelationships(nodes.idMap(), concurrency);
+            if (graphProjectConfig.nodeOrdering() != NodeOrdering.NATURAL) {
+                var reordered = reorderNodes(nodes, relationships, concurrency);
+                nodes = reordered.nodes();
+                relationships = reordered.relationships();
+            }
             CSRGraphStore graphStore = createGraphStore(nodes, relationships);
 
             logLoadingSummary(graphStore);
@@ -341,6 +424,25 @@ public final class NativeFactory extends CSRGraphStoreFactory<GraphProjectFromSt
         }
     }
 
+    private NodeReordering.ReorderedGraph reorderNodes(
+        Nodes nodes,
+        RelationshipImportResult relationships,
+        int concurrency
+    ) {
+        try {
+            progressTracker.beginSubTask();
+            return NodeReordering.reorder(
+                nodes,
+                relationships,
+                graphProjectConfig.nodeOrdering(),
+                concurrency,
+                progressTracker
+            );
+        } finally {
+            progressTracker.endSubTask();
+        }
+    }
+
     private RelationshipImportResult loadRelationships(IdMap idMap, int concurrency) {
         var scanningRelationshipsImporter = new ScanningRelationshipsImporterBuilder()
             .idMap(idMap)
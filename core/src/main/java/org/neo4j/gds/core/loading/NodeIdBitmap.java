@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * A compressed set of node ids, stored as one {@link RoaringBitmap} per 2^32 node ids.
+ * <p>
+ * Unlike an uncompressed bit set, the size depends on the number and the distribution
+ * of the contained ids instead of the node count: runs of consecutive ids and sparse
+ * sets take very little memory. Union and intersection work on the compressed form.
+ * <p>
+ * Concurrent reads are safe, as long as the bitmap is not modified at the same time.
+ */
+public final class NodeIdBitmap {
+
+    private static final int SHARD_SHIFT = Integer.SIZE;
+
+    private RoaringBitmap[] shards;
+
+    public static NodeIdBitmap empty() {
+        return new NodeIdBitmap(new RoaringBitmap[0]);
+    }
+
+    /**
+     * Creates a bitmap containing the node ids in {@code [startNodeId, endNodeId)}.
+     */
+    public static NodeIdBitmap range(long startNodeId, long endNodeId) {
+        var bitmap = empty();
+        if (startNodeId < endNodeId) {
+            bitmap.ensureShard(shardIndex(endNodeId - 1));
+            for (int shard = shardIndex(startNodeId); shard < bitmap.shards.length; shard++) {
+                long shardStart = (long) shard << SHARD_SHIFT;
+                long start = Math.max(startNodeId, shardStart) - shardStart;
+                long end = Math.min(endNodeId - shardStart, 1L << SHARD_SHIFT);
+                bitmap.shards[shard].add(start, end);
+            }
+        }
+        return bitmap;
+    }
+
+    public static NodeIdBitmap union(Collection<NodeIdBitmap> bitmaps) {
+        int shardCount = bitmaps.stream().mapToInt(bitmap -> bitmap.shards.length).max().orElse(0);
+        var shards = new RoaringBitmap[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            int shardIndex = shard;
+            shards[shard] = FastAggregation.or(bitmaps
+                .stream()
+                .filter(bitmap -> shardIndex < bitmap.shards.length)
+                .map(bitmap -> bitmap.shards[shardIndex])
+                .iterator());
+        }
+        return new NodeIdBitmap(shards);
+    }
+
+    public static NodeIdBitmap intersection(Collection<NodeIdBitmap> bitmaps) {
+        if (bitmaps.isEmpty()) {
+            return empty();
+        }
+        int shardCount = bitmaps.stream().mapToInt(bitmap -> bitmap.shards.length).min().orElse(0);
+        var shards = new RoaringBitmap[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            int shardIndex = shard;
+            shards[shard] = FastAggregation.and(bitmaps
+                .stream()
+                .map(bitmap -> bitmap.shards[shardIndex])
+                .collect(Collectors.toList())
+                .iterator());
+        }
+        return new NodeIdBitmap(shards);
+    }
+
+    private NodeIdBitmap(RoaringBitmap[] shards) {
+        this.shards = shards;
+    }
+
+    /**
+     * Adds the given node id. This method is not thread-safe.
+     */
+    public void add(long nodeId) {
+        int shard = shardIndex(nodeId);
+        ensureShard(shard);
+        shards[shard].add((int) nodeId);
+    }
+
+    public boolean contains(long nodeId) {
+        int shard = shardIndex(nodeId);
+        return nodeId >= 0 && shard < shards.length && shards[shard].contains((int) nodeId);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (RoaringBitmap shard : shards) {
+            cardinality += shard.getLongCardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        for (RoaringBitmap shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calls the consumer for every contained node id in ascending order.
+     */
+    public void forEach(LongConsumer consumer) {
+        for (int shard = 0; shard < shards.length; shard++) {
+            long base = (long) shard << SHARD_SHIFT;
+            shards[shard].forEach((int value) -> consumer.accept(base + Integer.toUnsignedLong(value)));
+        }
+    }
+
+    /**
+     * Returns an iterator over the contained node ids in ascending order.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new NodeIdIterator(shards);
+    }
+
+    /**
+     * Converts runs of node ids into their compressed form and releases unused memory.
+     * Should be called after the bitmap has been populated.
+     */
+    public void optimize() {
+        for (RoaringBitmap shard : shards) {
+            shard.runOptimize();
+            shard.trim();
+        }
+    }
+
+    public long sizeInBytes() {
+        long sizeInBytes = 0;
+        for (RoaringBitmap shard : shards) {
+            sizeInBytes += shard.getLongSizeInBytes();
+        }
+        return sizeInBytes;
+    }
+
+    private void ensureShard(int shard) {
+        if (shard >= shards.length) {
+            int previousLength = shards.length;
+            shards = Arrays.copyOf(shards, shard + 1);
+            for (int i = previousLength; i < shards.length; i++) {
+                shards[i] = new RoaringBitmap();
+            }
+        }
+    }
+
+    private static int shardIndex(long nodeId) {
+        return (int) (nodeId >>> SHARD_SHIFT);
+    }
+
+    private static final class NodeIdIterator implements PrimitiveIterator.OfLong {
+        private final RoaringBitmap[] shards;
+        private int shard;
+        private PeekableIntIterator shardIterator;
+
+        NodeIdIterator(RoaringBitmap[] shards) {
+            this.shards = shards;
+            this.shard = -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (shardIterator == null || !shardIterator.hasNext()) {
+                if (shard + 1 >= shards.length) {
+                    return false;
+                }
+                shardIterator = shards[++shard].getIntIterator();
+            }
+            return true;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return ((long) shard << SHARD_SHIFT) + Integer.toUnsignedLong(shardIterator.next());
+        }
+    }
+}
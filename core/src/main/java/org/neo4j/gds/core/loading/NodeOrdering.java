@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.utils.StringFormatting;
+import org.neo4j.gds.utils.StringJoining;
+
+import java.util.Arrays;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The order in which internal node ids are assigned during projection.
+ * Any order other than {@link #NATURAL} renumbers the nodes after loading,
+ * see {@link NodeReordering}.
+ */
+public enum NodeOrdering {
+    /**
+     * Keep the order in which the nodes are read from the store.
+     */
+    NATURAL,
+    /**
+     * Sort nodes by descending degree, so that hub nodes share the same pages.
+     */
+    DEGREE,
+    /**
+     * Number nodes in breadth-first order, starting from the node with the highest degree.
+     */
+    BFS,
+    /**
+     * Group nodes by a fast, greedy community aggregation and number
+     * them in depth-first order of the resulting dendrogram.
+     */
+    RABBIT;
+
+    public static NodeOrdering parse(Object input) {
+        if (input instanceof NodeOrdering) {
+            return (NodeOrdering) input;
+        }
+        if (input instanceof String) {
+            var inputString = StringFormatting.toUpperCaseWithLocale((String) input);
+            try {
+                return NodeOrdering.valueOf(inputString);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Node ordering `%s` is not supported. Must be one of: %s.",
+                    input,
+                    StringJoining.join(Arrays.stream(values()).map(NodeOrdering::name))
+                ));
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Expected NodeOrdering or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(NodeOrdering nodeOrdering) {
+        return nodeOrdering.name();
+    }
+}
@@ -0,0 +1,605 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeByteArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.values.storable.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Rewrites the node properties of a graph store into dense, type-specialized arrays.
+ * <p>
+ * Node properties that have been added by mutate procedures are backed by a variety of structures,
+ * e.g. sparse arrays from loading, filtered views or closures over algorithm results, which keep
+ * those results alive.
+ * Compaction copies the values into a single {@link HugeLongArray}, {@link HugeDoubleArray}
+ * or {@link HugeObjectArray} per property, with long values being narrowed to int or byte arrays
+ * if all of them fit.
+ * Nodes without a value, e.g. those removed by a {@code minCommunitySize} filter, are recorded in a bit set,
+ * so that the compacted values keep reporting them as missing.
+ * Properties that have already been compacted are left untouched.
+ */
+public final class NodePropertyCompaction {
+
+    private NodePropertyCompaction() {}
+
+    @ValueClass
+    public interface CompactionResult {
+        List<String> compactedProperties();
+
+        /**
+         * The estimated size of the compacted properties before compaction, assuming dense arrays of their value type.
+         * Structures captured by the replaced values, e.g. algorithm results, are not included.
+         */
+        long bytesBefore();
+
+        /**
+         * The size of the compacted properties after compaction.
+         */
+        long bytesAfter();
+
+        /**
+         * The difference of {@link #bytesBefore()} and {@link #bytesAfter()}, or 0 if compaction did not shrink the properties.
+         * This is a lower bound, as structures captured by the replaced values are not accounted for.
+         */
+        long reclaimedBytes();
+    }
+
+    /**
+     * Estimates the memory allocated by compacting the node properties of the given graph store.
+     * The replaced values remain reachable until all properties have been copied.
+     */
+    public static MemoryEstimation memoryEstimation(GraphStore graphStore) {
+        var builder = MemoryEstimations.builder(NodePropertyCompaction.class.getSimpleName());
+        for (String propertyKey : List.copyOf(graphStore.nodePropertyKeys())) {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            if (nodeProperty == null || nodeProperty.values() instanceof Compacted) {
+                continue;
+            }
+            var values = nodeProperty.values();
+            builder.rangePerNode(propertyKey, nodeCount -> estimate(values, nodeCount));
+        }
+        return builder.build();
+    }
+
+    private static MemoryRange estimate(NodePropertyValues values, long nodeCount) {
+        var missingNodes = MemoryRange.of(0, HugeAtomicBitSet.memoryEstimation(nodeCount));
+        switch (values.valueType()) {
+            case LONG:
+                return MemoryRange
+                    .of(HugeByteArray.memoryEstimation(nodeCount), HugeLongArray.memoryEstimation(nodeCount))
+                    .add(missingNodes);
+            case DOUBLE:
+                return MemoryRange.of(HugeDoubleArray.memoryEstimation(nodeCount)).add(missingNodes);
+            case DOUBLE_ARRAY:
+            case FLOAT_ARRAY:
+            case LONG_ARRAY:
+                // the arrays are shared with the replaced values, unless those create a new array on every read
+                long arraySize = sizeOfArray(values.valueType(), values.dimension().orElse(0));
+                return MemoryRange
+                    .of(
+                        HugeObjectArray.memoryEstimation(nodeCount, 0),
+                        HugeObjectArray.memoryEstimation(nodeCount, arraySize)
+                    )
+                    .add(missingNodes);
+            default:
+                return MemoryRange.empty();
+        }
+    }
+
+    public static CompactionResult compact(GraphStore graphStore, int concurrency, ExecutorService executorService) {
+        long nodeCount = graphStore.nodeCount();
+
+        var compactedProperties = new ArrayList<String>();
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+        for (String propertyKey : List.copyOf(graphStore.nodePropertyKeys())) {
+            var nodeProperty = graphStore.nodeProperty(propertyKey);
+            if (nodeProperty == null || nodeProperty.values() instanceof Compacted) {
+                continue;
+            }
+            var values = nodeProperty.values();
+            var compacted = compact(values, nodeCount, concurrency, executorService);
+            // a property that has been mutated in the meantime must not be overwritten with the old values
+            if (!graphStore.replaceNodePropertyValues(propertyKey, values, compacted)) {
+                continue;
+            }
+            compactedProperties.add(propertyKey);
+            var compactedValues = (Compacted) compacted;
+            bytesBefore += denseSizeInBytes(values.valueType(), nodeCount) + compactedValues.arraysSizeInBytes;
+            bytesAfter += compactedValues.sizeInBytes();
+        }
+
+        return ImmutableCompactionResult.of(
+            compactedProperties,
+            bytesBefore,
+            bytesAfter,
+            Math.max(0, bytesBefore - bytesAfter)
+        );
+    }
+
+    static NodePropertyValues compact(
+        NodePropertyValues values,
+        long nodeCount,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var missingNodes = missingNodes(values, nodeCount, concurrency, executorService);
+        switch (values.valueType()) {
+            case LONG:
+                return compactLongs(values, missingNodes, nodeCount, concurrency, executorService);
+            case DOUBLE:
+                var doubles = HugeDoubleArray.newArray(nodeCount);
+                ParallelUtil.readParallel(concurrency, nodeCount, executorService, (start, end) -> {
+                    for (long nodeId = start; nodeId < end; nodeId++) {
+                        doubles.set(nodeId, values.doubleValue(nodeId));
+                    }
+                });
+                return new CompactedDoubleValues(doubles, missingNodes);
+            case DOUBLE_ARRAY:
+                var doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount);
+                long doubleArraysSize = copyArrays(
+                    doubleArrays,
+                    values::doubleArrayValue,
+                    array -> MemoryUsage.sizeOfDoubleArray(array.length),
+                    concurrency,
+                    executorService
+                );
+                return new CompactedDoubleArrayValues(doubleArrays, doubleArraysSize, missingNodes);
+            case FLOAT_ARRAY:
+                var floatArrays = HugeObjectArray.newArray(float[].class, nodeCount);
+                long floatArraysSize = copyArrays(
+                    floatArrays,
+                    values::floatArrayValue,
+                    array -> MemoryUsage.sizeOfFloatArray(array.length),
+                    concurrency,
+                    executorService
+                );
+                return new CompactedFloatArrayValues(floatArrays, floatArraysSize, missingNodes);
+            case LONG_ARRAY:
+                var longArrays = HugeObjectArray.newArray(long[].class, nodeCount);
+                long longArraysSize = copyArrays(
+                    longArrays,
+                    values::longArrayValue,
+                    array -> MemoryUsage.sizeOfLongArray(array.length),
+                    concurrency,
+                    executorService
+                );
+                return new CompactedLongArrayValues(longArrays, longArraysSize, missingNodes);
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Compacting node properties of type `%s` is not supported.",
+                    values.valueType()
+                ));
+        }
+    }
+
+    /**
+     * Collects the nodes without a value, or returns {@code null} if every node has one.
+     * Wrappers like the {@code minCommunitySize} filter keep returning the wrapped primitive value
+     * and only signal a missing value through {@link NodePropertyValues#hasValue(long)} or {@link NodePropertyValues#value(long)}.
+     */
+    private static @Nullable HugeAtomicBitSet missingNodes(
+        NodePropertyValues values,
+        long nodeCount,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var missingNodes = HugeAtomicBitSet.create(nodeCount);
+        ParallelUtil.readParallel(concurrency, nodeCount, executorService, (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                if (!values.hasValue(nodeId) || values.value(nodeId) == null) {
+                    missingNodes.set(nodeId);
+                }
+            }
+        });
+        return missingNodes.isEmpty() ? null : missingNodes;
+    }
+
+    private static NodePropertyValues compactLongs(
+        NodePropertyValues values,
+        @Nullable HugeAtomicBitSet missingNodes,
+        long nodeCount,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var min = new AtomicLong(Long.MAX_VALUE);
+        var max = new AtomicLong(Long.MIN_VALUE);
+        ParallelUtil.readParallel(concurrency, nodeCount, executorService, (start, end) -> {
+            long localMin = Long.MAX_VALUE;
+            long localMax = Long.MIN_VALUE;
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                long value = values.longValue(nodeId);
+                localMin = Math.min(localMin, value);
+                localMax = Math.max(localMax, value);
+            }
+            min.accumulateAndGet(localMin, Math::min);
+            max.accumulateAndGet(localMax, Math::max);
+        });
+
+        var maxValue = nodeCount == 0 ? OptionalLong.empty() : OptionalLong.of(max.get());
+        if (min.get() >= Byte.MIN_VALUE && max.get() <= Byte.MAX_VALUE) {
+            var bytes = HugeByteArray.newArray(nodeCount);
+            ParallelUtil.readParallel(concurrency, nodeCount, executorService, (start, end) -> {
+                for (long nodeId = start; nodeId < end; nodeId++) {
+                    bytes.set(nodeId, (byte) values.longValue(nodeId));
+                }
+            });
+            return new CompactedByteValues(bytes, maxValue, missingNodes);
+        }
+        if (min.get() >= Integer.MIN_VALUE && max.get() <= Integer.MAX_VALUE) {
+            var ints = HugeIntArray.newArray(nodeCount);
+            ParallelUtil.readParallel(concurrency, nodeCount, executorService, (start, end) -> {
+                for (long nodeId = start; nodeId < end; nodeId++) {
+                    ints.set(nodeId, (int) values.longValue(nodeId));
+                }
+            });
+            return new CompactedIntValues(ints, maxValue, missingNodes);
+        }
+        var longs = HugeLongArray.newArray(nodeCount);
+        ParallelUtil.readParallel(concurrency, nodeCount, executorService, (start, end) -> {
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                longs.set(nodeId, values.longValue(nodeId));
+            }
+        });
+        return new CompactedLongValues(longs, maxValue, missingNodes);
+    }
+
+    @FunctionalInterface
+    private interface ObjectReader<T> {
+        T read(long nodeId);
+    }
+
+    /**
+     * Copies the arrays read from {@code reader} and returns their accumulated size.
+     */
+    private static <T> long copyArrays(
+        HugeObjectArray<T> arrays,
+        ObjectReader<T> reader,
+        ToLongFunction<T> sizeOfArray,
+        int concurrency,
+        ExecutorService executorService
+    ) {
+        var arraysSize = new AtomicLong();
+        ParallelUtil.readParallel(concurrency, arrays.size(), executorService, (start, end) -> {
+            long localSize = 0;
+            for (long nodeId = start; nodeId < end; nodeId++) {
+                var array = reader.read(nodeId);
+                if (array != null) {
+                    arrays.set(nodeId, array);
+                    localSize += sizeOfArray.applyAsLong(array);
+                }
+            }
+            arraysSize.addAndGet(localSize);
+        });
+        return arraysSize.get();
+    }
+
+    private static long denseSizeInBytes(ValueType valueType, long nodeCount) {
+        switch (valueType) {
+            case LONG:
+                return HugeLongArray.memoryEstimation(nodeCount);
+            case DOUBLE:
+                return HugeDoubleArray.memoryEstimation(nodeCount);
+            default:
+                return HugeObjectArray.memoryEstimation(nodeCount, 0);
+        }
+    }
+
+    private static long sizeOfArray(ValueType valueType, int length) {
+        switch (valueType) {
+            case DOUBLE_ARRAY:
+                return MemoryUsage.sizeOfDoubleArray(length);
+            case FLOAT_ARRAY:
+                return MemoryUsage.sizeOfFloatArray(length);
+            default:
+                return MemoryUsage.sizeOfLongArray(length);
+        }
+    }
+
+    /**
+     * Base class of property values that are the result of a compaction.
+     */
+    private abstract static class Compacted {
+        private final @Nullable HugeAtomicBitSet missingNodes;
+        // the arrays of array properties, which are shared with the replaced values
+        final long arraysSizeInBytes;
+
+        Compacted(@Nullable HugeAtomicBitSet missingNodes, long arraysSizeInBytes) {
+            this.missingNodes = missingNodes;
+            this.arraysSizeInBytes = arraysSizeInBytes;
+        }
+
+        public boolean hasValue(long nodeId) {
+            return missingNodes == null || !missingNodes.get(nodeId);
+        }
+
+        long sizeInBytes() {
+            long missingNodesSize = missingNodes == null ? 0 : HugeAtomicBitSet.memoryEstimation(missingNodes.size());
+            return valuesSizeInBytes() + arraysSizeInBytes + missingNodesSize;
+        }
+
+        abstract long valuesSizeInBytes();
+    }
+
+    private static final class CompactedLongValues extends Compacted implements LongNodePropertyValues {
+        private final HugeLongArray values;
+        private final OptionalLong maxValue;
+
+        CompactedLongValues(HugeLongArray values, OptionalLong maxValue, @Nullable HugeAtomicBitSet missingNodes) {
+            super(missingNodes, 0);
+            this.values = values;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public @Nullable Value value(long nodeId) {
+            return hasValue(nodeId) ? LongNodePropertyValues.super.value(nodeId) : null;
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long nodeCount() {
+            return values.size();
+        }
+
+        @Override
+        long valuesSizeInBytes() {
+            return HugeLongArray.memoryEstimation(values.size());
+        }
+    }
+
+    private static final class CompactedIntValues extends Compacted implements LongNodePropertyValues {
+        private final HugeIntArray values;
+        private final OptionalLong maxValue;
+
+        CompactedIntValues(HugeIntArray values, OptionalLong maxValue, @Nullable HugeAtomicBitSet missingNodes) {
+            super(missingNodes, 0);
+            this.values = values;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public @Nullable Value value(long nodeId) {
+            return hasValue(nodeId) ? LongNodePropertyValues.super.value(nodeId) : null;
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long nodeCount() {
+            return values.size();
+        }
+
+        @Override
+        long valuesSizeInBytes() {
+            return HugeIntArray.memoryEstimation(values.size());
+        }
+    }
+
+    private static final class CompactedByteValues extends Compacted implements LongNodePropertyValues {
+        private final HugeByteArray values;
+        private final OptionalLong maxValue;
+
+        CompactedByteValues(HugeByteArray values, OptionalLong maxValue, @Nullable HugeAtomicBitSet missingNodes) {
+            super(missingNodes, 0);
+            this.values = values;
+            this.maxValue = maxValue;
+        }
+
+        @Override
+        public long longValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public @Nullable Value value(long nodeId) {
+            return hasValue(nodeId) ? LongNodePropertyValues.super.value(nodeId) : null;
+        }
+
+        @Override
+        public OptionalLong getMaxLongPropertyValue() {
+            return maxValue;
+        }
+
+        @Override
+        public long nodeCount() {
+            return values.size();
+        }
+
+        @Override
+        long valuesSizeInBytes() {
+            return HugeByteArray.memoryEstimation(values.size());
+        }
+    }
+
+    private static final class CompactedDoubleValues extends Compacted implements DoubleNodePropertyValues {
+        private final HugeDoubleArray values;
+
+        CompactedDoubleValues(HugeDoubleArray values, @Nullable HugeAtomicBitSet missingNodes) {
+            super(missingNodes, 0);
+            this.values = values;
+        }
+
+        @Override
+        public double doubleValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public @Nullable Value value(long nodeId) {
+            return hasValue(nodeId) ? DoubleNodePropertyValues.super.value(nodeId) : null;
+        }
+
+        @Override
+        public long nodeCount() {
+            return values.size();
+        }
+
+        @Override
+        long valuesSizeInBytes() {
+            return HugeDoubleArray.memoryEstimation(values.size());
+        }
+    }
+
+    private static final class CompactedDoubleArrayValues extends Compacted implements DoubleArrayNodePropertyValues {
+        private final HugeObjectArray<double[]> values;
+
+        CompactedDoubleArrayValues(
+            HugeObjectArray<double[]> values,
+            long arraysSizeInBytes,
+            @Nullable HugeAtomicBitSet missingNodes
+        ) {
+            super(missingNodes, arraysSizeInBytes);
+            this.values = values;
+        }
+
+        @Override
+        public double[] doubleArrayValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public @Nullable Value value(long nodeId) {
+            return hasValue(nodeId) ? DoubleArrayNodePropertyValues.super.value(nodeId) : null;
+        }
+
+        @Override
+        public long nodeCount() {
+            return values.size();
+        }
+
+        @Override
+        long valuesSizeInBytes() {
+            return HugeObjectArray.memoryEstimation(values.size(), 0);
+        }
+    }
+
+    private static final class CompactedFloatArrayValues extends Compacted implements FloatArrayNodePropertyValues {
+        private final HugeObjectArray<float[]> values;
+
+        CompactedFloatArrayValues(
+            HugeObjectArray<float[]> values,
+            long arraysSizeInBytes,
+            @Nullable HugeAtomicBitSet missingNodes
+        ) {
+            super(missingNodes, arraysSizeInBytes);
+            this.values = values;
+        }
+
+        @Override
+        public float[] floatArrayValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public @Nullable Value value(long nodeId) {
+            return hasValue(nodeId) ? FloatArrayNodePropertyValues.super.value(nodeId) : null;
+        }
+
+        @Override
+        public long nodeCount() {
+            return values.size();
+        }
+
+        @Override
+        long valuesSizeInBytes() {
+            return HugeObjectArray.memoryEstimation(values.size(), 0);
+        }
+    }
+
+    private static final class CompactedLongArrayValues extends Compacted implements LongArrayNodePropertyValues {
+        private final HugeObjectArray<long[]> values;
+
+        CompactedLongArrayValues(
+            HugeObjectArray<long[]> values,
+            long arraysSizeInBytes,
+            @Nullable HugeAtomicBitSet missingNodes
+        ) {
+            super(missingNodes, arraysSizeInBytes);
+            this.values = values;
+        }
+
+        @Override
+        public long[] longArrayValue(long nodeId) {
+            return values.get(nodeId);
+        }
+
+        @Override
+        public @Nullable Value value(long nodeId) {
+            return hasValue(nodeId) ? LongArrayNodePropertyValues.super.value(nodeId) : null;
+        }
+
+        @Override
+        public long nodeCount() {
+            return values.size();
+        }
+
+        @Override
+        long valuesSizeInBytes() {
+            return HugeObjectArray.memoryEstimation(values.size(), 0);
+        }
+    }
+}
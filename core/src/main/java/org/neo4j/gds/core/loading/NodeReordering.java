@@ -0,0 +1,526 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArrayStack;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.paged.HugeSerialIndirectMergeSort;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Renumbers the internal node ids of a loaded graph by a {@link NodeOrdering},
+ * so that nodes which are traversed together are also stored close to each other.
+ * <p>
+ * The new order is computed from the forward adjacency lists of all relationship types.
+ * Afterwards the id map is rebuilt in the new order, node properties are copied into their new positions
+ * and all adjacency lists are compressed again using the new ids, which also shrinks the delta-encoded gaps.
+ */
+public final class NodeReordering {
+
+    private static final int ID_BATCH_SIZE = 10_000;
+
+    private NodeReordering() {}
+
+    public static Task progressTask(long nodeCount) {
+        return Tasks.leaf("Reorder nodes", nodeCount);
+    }
+
+    /**
+     * Estimates the id mappings and the scratch space used to compute the given order.
+     * The reordered copy of the graph, which exists next to the original one, is not included.
+     */
+    public static MemoryEstimation memoryEstimation(NodeOrdering nodeOrdering) {
+        var builder = MemoryEstimations.builder(NodeReordering.class.getSimpleName())
+            .perNode("new to old ids", HugeLongArray::memoryEstimation)
+            .perNode("old to new ids", HugeLongArray::memoryEstimation);
+        switch (nodeOrdering) {
+            case NATURAL:
+                break;
+            case DEGREE:
+                builder.perNode("sort buffer", HugeLongArray::memoryEstimation);
+                break;
+            case BFS:
+                builder
+                    .perNode("roots", HugeLongArray::memoryEstimation)
+                    .perNode("sort buffer", HugeLongArray::memoryEstimation)
+                    .perNode("visited", HugeLongArray::memoryEstimation);
+                break;
+            case RABBIT:
+                builder
+                    .perNode("communities", HugeLongArray::memoryEstimation)
+                    .perNode("volumes", HugeLongArray::memoryEstimation)
+                    .perNode("first children", HugeLongArray::memoryEstimation)
+                    .perNode("next siblings", HugeLongArray::memoryEstimation)
+                    .perNode("visit order", HugeLongArray::memoryEstimation)
+                    .perNode("sort buffer", HugeLongArray::memoryEstimation)
+                    .add("stack", HugeLongArrayStack.memoryEstimation());
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unsupported node ordering `%s`.", nodeOrdering));
+        }
+        return builder.build();
+    }
+
+    @ValueClass
+    public interface ReorderedGraph {
+        Nodes nodes();
+
+        RelationshipImportResult relationships();
+    }
+
+    public static ReorderedGraph reorder(
+        Nodes nodes,
+        RelationshipImportResult relationships,
+        NodeOrdering nodeOrdering,
+        int concurrency,
+        ProgressTracker progressTracker
+    ) {
+        var idMap = nodes.idMap();
+        var adjacencyLists = new ArrayList<AdjacencyList>();
+        relationships.importResults().values().forEach(r -> adjacencyLists.add(r.topology().adjacencyList()));
+
+        var newToOld = order(nodeOrdering, idMap.nodeCount(), adjacencyLists);
+        var oldToNew = HugeLongArray.newArray(idMap.nodeCount());
+        ParallelUtil.parallelForEachNode(
+            idMap.nodeCount(),
+            concurrency,
+            newId -> oldToNew.set(newToOld.get(newId), newId)
+        );
+
+        var reorderedIdMap = reorderIdMap(idMap, newToOld, concurrency);
+        var reorderedNodes = ImmutableNodes.of(
+            nodes.schema(),
+            reorderedIdMap,
+            reorderNodeProperties(nodes.properties(), newToOld, concurrency)
+        );
+
+        var reorderedRelationships = new HashMap<RelationshipType, SingleTypeRelationships>();
+        relationships.importResults().forEach((relationshipType, singleTypeRelationships) ->
+            reorderedRelationships.put(relationshipType, reorderRelationships(
+                relationshipType,
+                singleTypeRelationships,
+                reorderedIdMap,
+                newToOld,
+                oldToNew,
+                concurrency
+            ))
+        );
+        progressTracker.logProgress(idMap.nodeCount());
+
+        return ImmutableReorderedGraph.of(
+            reorderedNodes,
+            RelationshipImportResult.builder().importResults(reorderedRelationships).build()
+        );
+    }
+
+    /**
+     * Computes the new order of the nodes, i.e. the old id for each new id.
+     */
+    static HugeLongArray order(NodeOrdering nodeOrdering, long nodeCount, List<AdjacencyList> adjacencyLists) {
+        switch (nodeOrdering) {
+            case NATURAL:
+                var natural = HugeLongArray.newArray(nodeCount);
+                natural.setAll(nodeId -> nodeId);
+                return natural;
+            case DEGREE:
+                return degreeOrder(nodeCount, adjacencyLists);
+            case BFS:
+                return bfsOrder(nodeCount, adjacencyLists);
+            case RABBIT:
+                return rabbitOrder(nodeCount, adjacencyLists);
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unsupported node ordering `%s`.", nodeOrdering));
+        }
+    }
+
+    private static HugeLongArray degreeOrder(long nodeCount, List<AdjacencyList> adjacencyLists) {
+        var order = HugeLongArray.newArray(nodeCount);
+        order.setAll(nodeId -> nodeId);
+        // the merge sort is stable, nodes with equal degree keep their relative order
+        HugeSerialIndirectMergeSort.sort(order, nodeId -> -degree(nodeId, adjacencyLists));
+        return order;
+    }
+
+    /**
+     * Breadth-first numbering (Cuthill-McKee without the reversal), roots are picked by descending degree.
+     */
+    private static HugeLongArray bfsOrder(long nodeCount, List<AdjacencyList> adjacencyLists) {
+        var roots = degreeOrder(nodeCount, adjacencyLists);
+        var order = HugeLongArray.newArray(nodeCount);
+        var visited = HugeLongArray.newArray(nodeCount);
+        var cursors = new AdjacencyCursor[adjacencyLists.size()];
+
+        long head = 0;
+        long tail = 0;
+        for (long i = 0; i < nodeCount; i++) {
+            long root = roots.get(i);
+            if (visited.get(root) != 0) {
+                continue;
+            }
+            visited.set(root, 1);
+            order.set(tail++, root);
+
+            while (head < tail) {
+                long node = order.get(head++);
+                for (int j = 0; j < adjacencyLists.size(); j++) {
+                    var adjacencyList = adjacencyLists.get(j);
+                    if (adjacencyList.degree(node) == 0) {
+                        continue;
+                    }
+                    var cursor = cursors[j] = adjacencyList.adjacencyCursor(cursors[j], node);
+                    while (cursor.hasNextVLong()) {
+                        long target = cursor.nextVLong();
+                        if (visited.get(target) == 0) {
+                            visited.set(target, 1);
+                            order.set(tail++, target);
+                        }
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * A sequential variant of Rabbit Order (Arai et al., 2016).
+     * Nodes are visited by ascending degree and merged into the neighbouring community with the highest
+     * positive modularity gain. The final order is a depth-first traversal of the resulting merge dendrogram,
+     * which places each community into a consecutive id range.
+     * Unlike the original, only the edges of the merged node itself are considered when computing the gain.
+     */
+    private static HugeLongArray rabbitOrder(long nodeCount, List<AdjacencyList> adjacencyLists) {
+        var community = HugeLongArray.newArray(nodeCount);
+        community.setAll(nodeId -> nodeId);
+        var volume = HugeLongArray.newArray(nodeCount);
+        volume.setAll(nodeId -> degree(nodeId, adjacencyLists));
+        var firstChild = HugeLongArray.newArray(nodeCount);
+        firstChild.fill(-1);
+        var nextSibling = HugeLongArray.newArray(nodeCount);
+        nextSibling.fill(-1);
+
+        double totalVolume = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            totalVolume += volume.get(nodeId);
+        }
+
+        var visitOrder = HugeLongArray.newArray(nodeCount);
+        visitOrder.setAll(nodeId -> nodeId);
+        HugeSerialIndirectMergeSort.sort(visitOrder, nodeId -> degree(nodeId, adjacencyLists));
+
+        var cursors = new AdjacencyCursor[adjacencyLists.size()];
+        var edgesToCommunity = new LongLongHashMap();
+        for (long i = 0; i < nodeCount; i++) {
+            long node = visitOrder.get(i);
+            edgesToCommunity.clear();
+            for (int j = 0; j < adjacencyLists.size(); j++) {
+                var adjacencyList = adjacencyLists.get(j);
+                if (adjacencyList.degree(node) == 0) {
+                    continue;
+                }
+                var cursor = cursors[j] = adjacencyList.adjacencyCursor(cursors[j], node);
+                while (cursor.hasNextVLong()) {
+                    long target = find(community, cursor.nextVLong());
+                    if (target != node) {
+                        edgesToCommunity.addTo(target, 1);
+                    }
+                }
+            }
+
+            long bestCommunity = -1;
+            double bestGain = 0;
+            double nodeVolume = volume.get(node);
+            for (var entry : edgesToCommunity) {
+                double gain = entry.value / totalVolume - nodeVolume * volume.get(entry.key) / (totalVolume * totalVolume);
+                if (gain > bestGain) {
+                    bestGain = gain;
+                    bestCommunity = entry.key;
+                }
+            }
+
+            if (bestCommunity != -1) {
+                community.set(node, bestCommunity);
+                volume.addTo(bestCommunity, volume.get(node));
+                nextSibling.set(node, firstChild.get(bestCommunity));
+                firstChild.set(bestCommunity, node);
+            }
+        }
+
+        var order = HugeLongArray.newArray(nodeCount);
+        var stack = HugeLongArrayStack.newStack(nodeCount);
+        long next = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            if (community.get(nodeId) != nodeId) {
+                continue;
+            }
+            stack.push(nodeId);
+            while (!stack.isEmpty()) {
+                long node = stack.pop();
+                order.set(next++, node);
+                for (long child = firstChild.get(node); child != -1; child = nextSibling.get(child)) {
+                    stack.push(child);
+                }
+            }
+        }
+        return order;
+    }
+
+    private static long find(HugeLongArray community, long nodeId) {
+        long parent = community.get(nodeId);
+        while (parent != nodeId) {
+            long grandParent = community.get(parent);
+            community.set(nodeId, grandParent);
+            nodeId = parent;
+            parent = grandParent;
+        }
+        return nodeId;
+    }
+
+    private static long degree(long nodeId, List<AdjacencyList> adjacencyLists) {
+        long degree = 0;
+        for (AdjacencyList adjacencyList : adjacencyLists) {
+            degree += adjacencyList.degree(nodeId);
+        }
+        return degree;
+    }
+
+    private static IdMap reorderIdMap(IdMap idMap, HugeLongArray newToOld, int concurrency) {
+        long nodeCount = idMap.nodeCount();
+
+        var idMapBuilder = ArrayIdMapBuilder.of(nodeCount);
+        var batch = new long[ID_BATCH_SIZE];
+        for (long start = 0; start < nodeCount; start += ID_BATCH_SIZE) {
+            int batchLength = (int) Math.min(ID_BATCH_SIZE, nodeCount - start);
+            for (int i = 0; i < batchLength; i++) {
+                batch[i] = idMap.toOriginalNodeId(newToOld.get(start + i));
+            }
+            idMapBuilder.allocate(batchLength).insert(batch);
+        }
+
+        var nodeLabels = idMap.availableNodeLabels();
+        LabelInformation.Builder labelInformationBuilder;
+        if (nodeLabels.equals(Set.of(NodeLabel.ALL_NODES))) {
+            labelInformationBuilder = LabelInformationBuilders.allNodes();
+        } else {
+            labelInformationBuilder = LabelInformationBuilders.multiLabelWithCapacity(nodeCount);
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                for (NodeLabel nodeLabel : idMap.nodeLabels(nodeId)) {
+                    labelInformationBuilder.addNodeIdToLabel(nodeLabel, idMap.toOriginalNodeId(nodeId));
+                }
+            }
+        }
+
+        return idMapBuilder.build(labelInformationBuilder, idMap.highestOriginalId(), concurrency);
+    }
+
+    private static NodePropertyStore reorderNodeProperties(
+        NodePropertyStore properties,
+        HugeLongArray newToOld,
+        int concurrency
+    ) {
+        var propertyStoreBuilder = NodePropertyStore.builder();
+        properties.properties().forEach((propertyKey, nodeProperty) -> propertyStoreBuilder.putProperty(
+            propertyKey,
+            ImmutableNodeProperty.of(
+                reorder(nodeProperty.values(), newToOld, concurrency),
+                nodeProperty.propertySchema()
+            )
+        ));
+        return propertyStoreBuilder.build();
+    }
+
+    private static NodePropertyValues reorder(NodePropertyValues values, HugeLongArray newToOld, int concurrency) {
+        long nodeCount = newToOld.size();
+        // every new id is written exactly once, so the pages of the target arrays can be filled concurrently
+        switch (values.valueType()) {
+            case LONG:
+                var longValues = HugeLongArray.newArray(nodeCount);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    longValues.set(newId, values.longValue(newToOld.get(newId)))
+                );
+                return longValues.asNodeProperties();
+            case DOUBLE:
+                var doubleValues = HugeDoubleArray.newArray(nodeCount);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    doubleValues.set(newId, values.doubleValue(newToOld.get(newId)))
+                );
+                return doubleValues.asNodeProperties();
+            case LONG_ARRAY:
+                var longArrays = HugeObjectArray.newArray(long[].class, nodeCount);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    longArrays.set(newId, values.longArrayValue(newToOld.get(newId)))
+                );
+                return longArrays.asNodeProperties();
+            case DOUBLE_ARRAY:
+                var doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    doubleArrays.set(newId, values.doubleArrayValue(newToOld.get(newId)))
+                );
+                return doubleArrays.asNodeProperties();
+            case FLOAT_ARRAY:
+                var floatArrays = HugeObjectArray.newArray(float[].class, nodeCount);
+                ParallelUtil.parallelForEachNode(nodeCount, concurrency, newId ->
+                    floatArrays.set(newId, values.floatArrayValue(newToOld.get(newId)))
+                );
+                return floatArrays.asNodeProperties();
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Reordering node properties of type `%s` is not supported.",
+                    values.valueType()
+                ));
+        }
+    }
+
+    private static SingleTypeRelationships reorderRelationships(
+        RelationshipType relationshipType,
+        SingleTypeRelationships relationships,
+        IdMap reorderedIdMap,
+        HugeLongArray newToOld,
+        HugeLongArray oldToNew,
+        int concurrency
+    ) {
+        var topology = relationships.topology();
+        var propertyStore = relationships.properties().orElseGet(() -> RelationshipPropertyStore.builder().build());
+        var propertyKeys = new ArrayList<>(propertyStore.keySet());
+
+        var relationshipsBuilderBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(reorderedIdMap)
+            .relationshipType(relationshipType)
+            // undirected adjacency lists already contain both directions
+            .orientation(Orientation.NATURAL)
+            .aggregation(Aggregation.NONE)
+            .indexInverse(relationships.inverseTopology().isPresent())
+            .concurrency(concurrency);
+        for (String propertyKey : propertyKeys) {
+            relationshipsBuilderBuilder.addPropertyConfig(GraphFactory.PropertyConfig.builder()
+                .propertyKey(propertyKey)
+                .aggregation(Aggregation.NONE)
+                .defaultValue(DefaultValue.of(propertyStore.get(propertyKey).values().defaultPropertyValue()))
+                .build());
+        }
+        var relationshipsBuilder = relationshipsBuilderBuilder.build();
+
+        var adjacencyList = topology.adjacencyList();
+        var propertyLists = propertyKeys
+            .stream()
+            .map(propertyKey -> propertyStore.get(propertyKey).values().propertiesList())
+            .toArray(AdjacencyProperties[]::new);
+
+        ParallelUtil.readParallel(concurrency, newToOld.size(), Pools.DEFAULT, (start, end) -> {
+            AdjacencyCursor cursor = null;
+            var propertyCursors = new PropertyCursor[propertyLists.length];
+            var propertyValues = new double[propertyLists.length];
+            for (long newSource = start; newSource < end; newSource++) {
+                long oldSource = newToOld.get(newSource);
+                if (adjacencyList.degree(oldSource) == 0) {
+                    continue;
+                }
+                cursor = adjacencyList.adjacencyCursor(cursor, oldSource);
+                for (int i = 0; i < propertyLists.length; i++) {
+                    propertyCursors[i] = propertyCursors[i] == null
+                        ? propertyLists[i].propertyCursor(oldSource)
+                        : propertyLists[i].propertyCursor(propertyCursors[i], oldSource);
+                }
+                while (cursor.hasNextVLong()) {
+                    long newTarget = oldToNew.get(cursor.nextVLong());
+                    if (propertyLists.length == 0) {
+                        relationshipsBuilder.addFromInternal(newSource, newTarget);
+                    } else if (propertyLists.length == 1) {
+                        relationshipsBuilder.addFromInternal(
+                            newSource,
+                            newTarget,
+                            Double.longBitsToDouble(propertyCursors[0].nextLong())
+                        );
+                    } else {
+                        for (int i = 0; i < propertyLists.length; i++) {
+                            propertyValues[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                        }
+                        relationshipsBuilder.addFromInternal(newSource, newTarget, propertyValues);
+                    }
+                }
+            }
+        });
+
+        var reordered = relationshipsBuilder.build();
+
+        var builder = SingleTypeRelationships.builder()
+            .relationshipSchemaEntry(relationships.relationshipSchemaEntry())
+            .topology(withMultiGraphFlag(reordered.topology(), topology));
+        reordered.properties().ifPresent(properties -> builder.properties(withSchema(properties, propertyStore)));
+        relationships.inverseTopology().ifPresent(inverseTopology -> {
+            builder.inverseTopology(withMultiGraphFlag(reordered.inverseTopology().orElseThrow(), inverseTopology));
+            reordered.inverseProperties().ifPresent(properties -> builder.inverseProperties(withSchema(
+                properties,
+                relationships.inverseProperties().orElseThrow()
+            )));
+        });
+        return builder.build();
+    }
+
+    private static Topology withMultiGraphFlag(Topology topology, Topology original) {
+        return ImmutableTopology.builder().from(topology).isMultiGraph(original.isMultiGraph()).build();
+    }
+
+    /**
+     * Keeps the property schemas, e.g. the aggregation, of the original properties.
+     */
+    private static RelationshipPropertyStore withSchema(RelationshipPropertyStore properties, RelationshipPropertyStore original) {
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        properties.relationshipProperties().forEach((propertyKey, property) -> propertyStoreBuilder.putRelationshipProperty(
+            propertyKey,
+            ImmutableRelationshipProperty.of(property.values(), original.get(propertyKey).propertySchema())
+        ));
+        return propertyStoreBuilder.build();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.LabeledIdMap;
+import org.neo4j.gds.collections.HugeSparseCollections;
+import org.neo4j.gds.collections.HugeSparseLongArray;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.RankSelectBitSet;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * An id map for dense original id spaces that stores a single bit per possible original id.
+ * <p>
+ * Mapped ids are assigned in ascending order of original ids, i.e. the mapped id of an
+ * original id is the rank of its bit and the original id of a mapped id is the position
+ * of the corresponding set bit. Compared to {@link ArrayIdMap}, which needs at least 16 bytes
+ * per node, this is cheaper as long as more than about one percent of the id space is used.
+ */
+public class RankSelectIdMap extends LabeledIdMap {
+
+    private static final MemoryEstimation ESTIMATION = MemoryEstimations
+        .builder(RankSelectIdMap.class)
+        .perGraphDimension(
+            "Neo4j identifiers with rank and select support",
+            (dimensions, concurrency) -> MemoryRange.of(RankSelectBitSet.memoryEstimation(
+                dimensions.highestPossibleNodeCount(),
+                dimensions.nodeCount()
+            ))
+        )
+        .perGraphDimension(
+            "Node Label BitSets",
+            (dimensions, concurrency) ->
+                MemoryRange.of(dimensions.estimationNodeLabelCount() * MemoryUsage.sizeOfBitset(dimensions.nodeCount()))
+        )
+        .build();
+
+    private final RankSelectBitSet originalIds;
+    private final long highestOriginalId;
+
+    public static MemoryEstimation memoryEstimation() {
+        return ESTIMATION;
+    }
+
+    /**
+     * Returns true if a rank/select id map over the original ids {@code [0, highestOriginalId]}
+     * is smaller than an {@link ArrayIdMap} for the given number of nodes.
+     */
+    public static boolean isPreferred(long nodeCount, long highestOriginalId) {
+        long idSpace = highestOriginalId + 1;
+        long rankSelectSize = RankSelectBitSet.memoryEstimation(idSpace, nodeCount);
+        long arraySize = HugeLongArray.memoryEstimation(nodeCount) +
+                         HugeSparseCollections.estimateLong(idSpace, nodeCount).min;
+        return rankSelectSize < arraySize;
+    }
+
+    public RankSelectIdMap(
+        RankSelectBitSet originalIds,
+        LabelInformation labelInformation,
+        long highestOriginalId
+    ) {
+        super(labelInformation, originalIds.cardinality());
+        this.originalIds = originalIds;
+        this.highestOriginalId = highestOriginalId;
+    }
+
+    @Override
+    public long toMappedNodeId(long originalNodeId) {
+        return contains(originalNodeId) ? originalIds.rank(originalNodeId) : NOT_FOUND;
+    }
+
+    @Override
+    public long toOriginalNodeId(long mappedNodeId) {
+        return originalIds.select(mappedNodeId);
+    }
+
+    @Override
+    public long toRootNodeId(long mappedNodeId) {
+        return mappedNodeId;
+    }
+
+    @Override
+    public IdMap rootIdMap() {
+        return this;
+    }
+
+    @Override
+    public boolean contains(long originalNodeId) {
+        return originalNodeId >= 0 && originalNodeId < originalIds.size() && originalIds.get(originalNodeId);
+    }
+
+    @Override
+    public OptionalLong rootNodeCount() {
+        return OptionalLong.of(nodeCount());
+    }
+
+    @Override
+    public long highestOriginalId() {
+        return highestOriginalId;
+    }
+
+    @Override
+    public Optional<FilteredIdMap> withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        labelInformation.validateNodeLabelFilter(nodeLabels);
+
+        if (labelInformation.isEmpty()) {
+            return Optional.empty();
+        }
+
+        NodeIdBitmap unionBitmap = labelInformation.unionBitmap(nodeLabels);
+        long newNodeCount = unionBitmap.cardinality();
+        LabelInformation newLabelInformation = labelInformation.filter(nodeLabels);
+
+        // The original ids of the filtered id map are the mapped ids of this id map,
+        // which are dense by construction, unless the filter selects only very few nodes.
+        LabeledIdMap rootToFilteredIdMap;
+        if (isPreferred(newNodeCount, nodeCount() - 1)) {
+            rootToFilteredIdMap = new RankSelectIdMap(
+                RankSelectBitSet.of(unionBitmap.iterator(), nodeCount()),
+                newLabelInformation,
+                highestOriginalId
+            );
+        } else {
+            HugeLongArray newGraphIds = HugeLongArray.newArray(newNodeCount);
+            var nodeIds = unionBitmap.iterator();
+            long cursor = 0L;
+            while (nodeIds.hasNext()) {
+                newGraphIds.set(cursor, nodeIds.nextLong());
+                cursor++;
+            }
+
+            HugeSparseLongArray newNodeToGraphIds = ArrayIdMapBuilderOps.buildSparseIdMap(
+                newNodeCount,
+                nodeCount(),
+                concurrency,
+                newGraphIds
+            );
+
+            rootToFilteredIdMap = new ArrayIdMap(
+                newGraphIds,
+                newNodeToGraphIds,
+                newLabelInformation,
+                newNodeCount,
+                highestOriginalId
+            );
+        }
+
+        return Optional.of(new FilteredLabeledIdMap(this, rootToFilteredIdMap));
+    }
+}
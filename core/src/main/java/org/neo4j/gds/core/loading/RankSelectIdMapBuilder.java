@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.construction.NodesBuilder;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.RankSelectBitSet;
+import org.neo4j.gds.utils.CloseableThreadLocal;
+
+/**
+ * Collects original ids in a bit set over the original id space.
+ * Duplicate original ids are inserted only once.
+ * <p>
+ * Builds a {@link RankSelectIdMap}, unless the imported ids turn out to be too sparse,
+ * e.g. after filtering by label, in which case an {@link ArrayIdMap} is built instead.
+ */
+public final class RankSelectIdMapBuilder implements IdMapBuilder {
+
+    private final HugeAtomicBitSet originalIds;
+    private final CloseableThreadLocal<BulkAdder> adders;
+
+    /**
+     * @param capacity the size of the original id space, i.e. the highest original id plus one
+     */
+    public static RankSelectIdMapBuilder of(long capacity) {
+        return new RankSelectIdMapBuilder(HugeAtomicBitSet.create(capacity));
+    }
+
+    private RankSelectIdMapBuilder(HugeAtomicBitSet originalIds) {
+        this.originalIds = originalIds;
+        this.adders = CloseableThreadLocal.withInitial(() -> new BulkAdder(originalIds));
+    }
+
+    @Override
+    public BulkAdder allocate(int batchLength) {
+        BulkAdder adder = adders.get();
+        adder.reset(batchLength);
+        return adder;
+    }
+
+    @Override
+    public IdMap build(
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        int concurrency
+    ) {
+        adders.close();
+
+        var bitSet = RankSelectBitSet.of(originalIds);
+        long nodeCount = bitSet.cardinality();
+        if (highestNodeId == NodesBuilder.UNKNOWN_MAX_ID && nodeCount > 0) {
+            highestNodeId = bitSet.select(nodeCount - 1);
+        }
+
+        if (RankSelectIdMap.isPreferred(nodeCount, highestNodeId)) {
+            var labelInformation = labelInformationBuilder.build(nodeCount, bitSet::rank);
+            return new RankSelectIdMap(bitSet, labelInformation, highestNodeId);
+        }
+
+        var internalToOriginalIds = HugeLongArray.newArray(nodeCount);
+        internalToOriginalIds.setAll(bitSet::select);
+        return ArrayIdMapBuilderOps.build(
+            internalToOriginalIds,
+            nodeCount,
+            labelInformationBuilder,
+            highestNodeId,
+            concurrency
+        );
+    }
+
+    public static final class BulkAdder implements IdMapAllocator {
+        private final HugeAtomicBitSet originalIds;
+        private int allocationSize;
+
+        private BulkAdder(HugeAtomicBitSet originalIds) {
+            this.originalIds = originalIds;
+        }
+
+        private void reset(int allocationSize) {
+            this.allocationSize = allocationSize;
+        }
+
+        @Override
+        public int allocatedSize() {
+            return this.allocationSize;
+        }
+
+        @Override
+        public void insert(long[] nodeIds) {
+            for (int i = 0; i < allocationSize; i++) {
+                originalIds.set(nodeIds[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,446 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Properties;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipProperty;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.LayeredAdjacencyList;
+import org.neo4j.gds.core.huge.LayeredAdjacencyProperties;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.gds.utils.StringFormatting.toLowerCaseWithLocale;
+
+/**
+ * Appends relationships to an already built relationship type without rebuilding it.
+ * <p>
+ * Every appended batch becomes a delta layer on top of the existing adjacency lists,
+ * see {@link LayeredAdjacencyList}. Reading a layered type merges all layers lazily.
+ * {@link #compact(SingleTypeRelationships, IdMap, int)} folds all layers into freshly compressed
+ * adjacency lists and {@link #rebase} swaps them in, keeping layers that have been appended in the meantime.
+ * Graph stores trigger a compaction on their own once {@link #needsCompaction(SingleTypeRelationships)} holds.
+ */
+public final class RelationshipDeltas {
+
+    /**
+     * Every layer adds a cursor to each traversal, so long layer stacks are compacted regardless of their size.
+     */
+    static final int MAX_DELTA_LAYERS = 8;
+
+    /**
+     * Deltas below this size are cheap to traverse and are not worth a recompression of the base layer.
+     */
+    static final long MIN_COMPACTION_DELTA_SIZE = 10_000;
+
+    /**
+     * Deltas of at least this fraction of the base layer are compacted.
+     */
+    static final double MAX_DELTA_RATIO = 0.25;
+
+    private RelationshipDeltas() {}
+
+    /**
+     * Creates a builder for a delta of the given relationships, using the same orientation,
+     * properties, aggregations and inverse indexing.
+     * The delta must only refer to nodes of the given {@code nodes}.
+     */
+    public static RelationshipsBuilder deltaBuilder(IdMap nodes, SingleTypeRelationships relationships, int concurrency) {
+        var schemaEntry = relationships.relationshipSchemaEntry();
+        var builder = GraphFactory.initRelationshipsBuilder()
+            .nodes(nodes)
+            .relationshipType(schemaEntry.identifier())
+            .orientation(schemaEntry.direction() == Direction.UNDIRECTED ? Orientation.UNDIRECTED : Orientation.NATURAL)
+            .aggregation(topologyAggregation(relationships.topology()))
+            .indexInverse(relationships.inverseTopology().isPresent())
+            .concurrency(concurrency);
+        propertyKeys(relationships).forEach(propertyKey -> {
+            var propertySchema = schemaEntry.properties().get(propertyKey);
+            builder.addPropertyConfig(GraphFactory.PropertyConfig.builder()
+                .propertyKey(propertyKey)
+                .aggregation(propertySchema.aggregation())
+                .defaultValue(propertySchema.defaultValue())
+                .propertyState(propertySchema.state())
+                .build());
+        });
+        return builder.build();
+    }
+
+    public static boolean hasDeltas(SingleTypeRelationships relationships) {
+        return relationships.topology().adjacencyList() instanceof LayeredAdjacencyList;
+    }
+
+    /**
+     * Whether the delta layers of the given relationships have grown large enough to be compacted.
+     * That is the case if there are more than {@link #MAX_DELTA_LAYERS} layers, or if the delta layers hold
+     * at least {@link #MIN_COMPACTION_DELTA_SIZE} relationships and more than {@link #MAX_DELTA_RATIO}
+     * of the relationships in the base layer.
+     */
+    public static boolean needsCompaction(SingleTypeRelationships relationships) {
+        if (!hasDeltas(relationships)) {
+            return false;
+        }
+        var topology = relationships.topology();
+        var layered = (LayeredAdjacencyList) topology.adjacencyList();
+        if (layered.layerCount() - 1 > MAX_DELTA_LAYERS) {
+            return true;
+        }
+        long baseElementCount = layered.baseElementCount();
+        long deltaElementCount = topology.elementCount() - baseElementCount;
+        return deltaElementCount >= MIN_COMPACTION_DELTA_SIZE
+               && deltaElementCount > MAX_DELTA_RATIO * baseElementCount;
+    }
+
+    /**
+     * Adds the {@code delta} as a new layer on top of {@code base}.
+     * Relationships of the delta are not aggregated with existing ones until the layers are compacted,
+     * which is why the layered topology is always reported as a multi graph.
+     */
+    public static SingleTypeRelationships append(SingleTypeRelationships base, SingleTypeRelationships delta) {
+        validateDelta(base, delta);
+
+        if (delta.topology().elementCount() == 0) {
+            return base;
+        }
+
+        var builder = SingleTypeRelationships.builder()
+            .from(base)
+            .topology(appendTopology(base.topology(), delta.topology()));
+        base.properties().ifPresent(properties -> builder.properties(appendProperties(
+            base.topology(),
+            properties,
+            delta.topology(),
+            delta.properties().orElseThrow()
+        )));
+        base.inverseTopology().ifPresent(inverseTopology -> {
+            var deltaInverseTopology = delta.inverseTopology().orElseThrow();
+            builder.inverseTopology(appendTopology(inverseTopology, deltaInverseTopology));
+            base.inverseProperties().ifPresent(properties -> builder.inverseProperties(appendProperties(
+                inverseTopology,
+                properties,
+                deltaInverseTopology,
+                delta.inverseProperties().orElseThrow()
+            )));
+        });
+        return builder.build();
+    }
+
+    /**
+     * Merges all layers of the given relationships into newly compressed adjacency lists.
+     * The compacted topology is aggregated the same way as the base layer.
+     */
+    public static SingleTypeRelationships compact(SingleTypeRelationships relationships, IdMap nodes, int concurrency) {
+        var topology = relationships.topology();
+        var schemaEntry = relationships.relationshipSchemaEntry();
+        var propertyStore = relationships.properties().orElseGet(() -> RelationshipPropertyStore.builder().build());
+        var propertyKeys = propertyKeys(relationships);
+
+        var relationshipsBuilderBuilder = GraphFactory.initRelationshipsBuilder()
+            .nodes(nodes)
+            .relationshipType(schemaEntry.identifier())
+            // undirected adjacency lists already contain both directions
+            .orientation(Orientation.NATURAL)
+            .aggregation(topologyAggregation(topology))
+            .indexInverse(relationships.inverseTopology().isPresent())
+            .concurrency(concurrency);
+        for (String propertyKey : propertyKeys) {
+            var propertySchema = propertyStore.get(propertyKey).propertySchema();
+            relationshipsBuilderBuilder.addPropertyConfig(GraphFactory.PropertyConfig.builder()
+                .propertyKey(propertyKey)
+                .aggregation(propertySchema.aggregation())
+                .defaultValue(propertySchema.defaultValue())
+                .propertyState(propertySchema.state())
+                .build());
+        }
+        var relationshipsBuilder = relationshipsBuilderBuilder.build();
+
+        var adjacencyList = topology.adjacencyList();
+        var propertyLists = propertyKeys
+            .stream()
+            .map(propertyKey -> propertyStore.get(propertyKey).values().propertiesList())
+            .toArray(AdjacencyProperties[]::new);
+
+        ParallelUtil.readParallel(concurrency, nodes.nodeCount(), Pools.DEFAULT, (start, end) -> {
+            AdjacencyCursor cursor = null;
+            var propertyCursors = new PropertyCursor[propertyLists.length];
+            var propertyValues = new double[propertyLists.length];
+            for (long source = start; source < end; source++) {
+                if (adjacencyList.degree(source) == 0) {
+                    continue;
+                }
+                cursor = adjacencyList.adjacencyCursor(cursor, source);
+                for (int i = 0; i < propertyLists.length; i++) {
+                    propertyCursors[i] = propertyCursors[i] == null
+                        ? propertyLists[i].propertyCursor(source)
+                        : propertyLists[i].propertyCursor(propertyCursors[i], source);
+                }
+                while (cursor.hasNextVLong()) {
+                    long target = cursor.nextVLong();
+                    if (propertyLists.length == 0) {
+                        relationshipsBuilder.addFromInternal(source, target);
+                    } else if (propertyLists.length == 1) {
+                        relationshipsBuilder.addFromInternal(
+                            source,
+                            target,
+                            Double.longBitsToDouble(propertyCursors[0].nextLong())
+                        );
+                    } else {
+                        for (int i = 0; i < propertyLists.length; i++) {
+                            propertyValues[i] = Double.longBitsToDouble(propertyCursors[i].nextLong());
+                        }
+                        relationshipsBuilder.addFromInternal(source, target, propertyValues);
+                    }
+                }
+            }
+        });
+
+        var compacted = relationshipsBuilder.build();
+
+        var builder = SingleTypeRelationships.builder()
+            .relationshipSchemaEntry(schemaEntry)
+            .topology(compacted.topology());
+        compacted.properties().ifPresent(properties -> builder.properties(withSchema(properties, propertyStore)));
+        relationships.inverseTopology().ifPresent(inverseTopology -> {
+            builder.inverseTopology(compacted.inverseTopology().orElseThrow());
+            compacted.inverseProperties().ifPresent(properties -> builder.inverseProperties(withSchema(
+                properties,
+                relationships.inverseProperties().orElseThrow()
+            )));
+        });
+        return builder.build();
+    }
+
+    /**
+     * Replaces the layers of {@code current} that have been compacted from {@code snapshot} with {@code compacted}.
+     * Layers that have been appended to {@code current} after the snapshot has been taken remain on top.
+     *
+     * @return the rebased relationships or an empty optional if {@code current} does not build upon {@code snapshot},
+     *     e.g. because the relationship type has been replaced in the meantime.
+     */
+    public static Optional<SingleTypeRelationships> rebase(
+        SingleTypeRelationships current,
+        SingleTypeRelationships snapshot,
+        SingleTypeRelationships compacted
+    ) {
+        if (!(current.topology().adjacencyList() instanceof LayeredAdjacencyList) || !hasDeltas(snapshot)) {
+            return Optional.empty();
+        }
+        var currentLayers = ((LayeredAdjacencyList) current.topology().adjacencyList()).layers();
+        var snapshotLayers = ((LayeredAdjacencyList) snapshot.topology().adjacencyList()).layers();
+        if (currentLayers.size() < snapshotLayers.size()) {
+            return Optional.empty();
+        }
+        for (int layer = 0; layer < snapshotLayers.size(); layer++) {
+            if (currentLayers.get(layer) != snapshotLayers.get(layer)) {
+                return Optional.empty();
+            }
+        }
+
+        int layerCount = snapshotLayers.size();
+        var builder = SingleTypeRelationships.builder()
+            .from(current)
+            .topology(rebaseTopology(current.topology(), snapshot.topology(), compacted.topology(), layerCount));
+        current.properties().ifPresent(properties -> builder.properties(rebaseProperties(
+            properties,
+            snapshot.properties().orElseThrow(),
+            compacted.topology(),
+            compacted.properties().orElseThrow(),
+            layerCount
+        )));
+        current.inverseTopology().ifPresent(inverseTopology -> {
+            var compactedInverseTopology = compacted.inverseTopology().orElseThrow();
+            builder.inverseTopology(rebaseTopology(
+                inverseTopology,
+                snapshot.inverseTopology().orElseThrow(),
+                compactedInverseTopology,
+                layerCount
+            ));
+            current.inverseProperties().ifPresent(properties -> builder.inverseProperties(rebaseProperties(
+                properties,
+                snapshot.inverseProperties().orElseThrow(),
+                compactedInverseTopology,
+                compacted.inverseProperties().orElseThrow(),
+                layerCount
+            )));
+        });
+        return Optional.of(builder.build());
+    }
+
+    private static void validateDelta(SingleTypeRelationships base, SingleTypeRelationships delta) {
+        var baseEntry = base.relationshipSchemaEntry();
+        var deltaEntry = delta.relationshipSchemaEntry();
+        if (!baseEntry.identifier().equals(deltaEntry.identifier())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot append relationships of type `%s` to relationships of type `%s`.",
+                deltaEntry.identifier().name,
+                baseEntry.identifier().name
+            ));
+        }
+        if (baseEntry.direction() != deltaEntry.direction()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot append %s relationships to %s relationships of type `%s`.",
+                toLowerCaseWithLocale(deltaEntry.direction().name()),
+                toLowerCaseWithLocale(baseEntry.direction().name()),
+                baseEntry.identifier().name
+            ));
+        }
+        if (!baseEntry.properties().keySet().equals(deltaEntry.properties().keySet())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected relationship properties %s for relationship type `%s`, but got %s.",
+                baseEntry.properties().keySet(),
+                baseEntry.identifier().name,
+                deltaEntry.properties().keySet()
+            ));
+        }
+        if (base.inverseTopology().isPresent() && delta.inverseTopology().isEmpty()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Relationship type `%s` is inverse indexed, the appended relationships must be inverse indexed as well.",
+                baseEntry.identifier().name
+            ));
+        }
+    }
+
+    private static Topology appendTopology(Topology base, Topology delta) {
+        return ImmutableTopology.builder()
+            .adjacencyList(LayeredAdjacencyList.of(
+                base.adjacencyList(),
+                delta.adjacencyList(),
+                baseIsMultiGraph(base),
+                base.elementCount()
+            ))
+            .elementCount(base.elementCount() + delta.elementCount())
+            .isMultiGraph(true)
+            .build();
+    }
+
+    private static RelationshipPropertyStore appendProperties(
+        Topology baseTopology,
+        RelationshipPropertyStore base,
+        Topology deltaTopology,
+        RelationshipPropertyStore delta
+    ) {
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        base.relationshipProperties().forEach((propertyKey, property) -> {
+            var deltaValues = delta.get(propertyKey).values();
+            var values = ImmutableProperties.builder()
+                .propertiesList(LayeredAdjacencyProperties.of(
+                    baseTopology.adjacencyList(),
+                    property.values().propertiesList(),
+                    deltaTopology.adjacencyList(),
+                    deltaValues.propertiesList()
+                ))
+                .elementCount(property.values().elementCount() + deltaValues.elementCount())
+                .defaultPropertyValue(property.values().defaultPropertyValue())
+                .build();
+            propertyStoreBuilder.putRelationshipProperty(propertyKey, withValues(property, values));
+        });
+        return propertyStoreBuilder.build();
+    }
+
+    private static Topology rebaseTopology(Topology current, Topology snapshot, Topology compacted, int layerCount) {
+        var adjacencyList = ((LayeredAdjacencyList) current.adjacencyList()).rebase(
+            layerCount,
+            compacted.adjacencyList(),
+            compacted.elementCount()
+        );
+        return ImmutableTopology.builder()
+            .adjacencyList(adjacencyList)
+            .elementCount(compacted.elementCount() + current.elementCount() - snapshot.elementCount())
+            .isMultiGraph(adjacencyList instanceof LayeredAdjacencyList || compacted.isMultiGraph())
+            .build();
+    }
+
+    private static RelationshipPropertyStore rebaseProperties(
+        RelationshipPropertyStore current,
+        RelationshipPropertyStore snapshot,
+        Topology compactedTopology,
+        RelationshipPropertyStore compacted,
+        int layerCount
+    ) {
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        current.relationshipProperties().forEach((propertyKey, property) -> {
+            var compactedValues = compacted.get(propertyKey).values();
+            var layeredProperties = (LayeredAdjacencyProperties) property.values().propertiesList();
+            long appendedCount = property.values().elementCount() - snapshot.get(propertyKey).values().elementCount();
+            var values = ImmutableProperties.builder()
+                .propertiesList(layeredProperties.rebase(
+                    layerCount,
+                    compactedTopology.adjacencyList(),
+                    compactedValues.propertiesList()
+                ))
+                .elementCount(compactedValues.elementCount() + appendedCount)
+                .defaultPropertyValue(property.values().defaultPropertyValue())
+                .build();
+            propertyStoreBuilder.putRelationshipProperty(propertyKey, withValues(property, values));
+        });
+        return propertyStoreBuilder.build();
+    }
+
+    private static RelationshipProperty withValues(RelationshipProperty property, Properties values) {
+        return ImmutableRelationshipProperty.of(values, property.propertySchema());
+    }
+
+    /**
+     * Keeps the property schemas, e.g. the aggregation, of the original properties.
+     */
+    private static RelationshipPropertyStore withSchema(RelationshipPropertyStore properties, RelationshipPropertyStore original) {
+        var propertyStoreBuilder = RelationshipPropertyStore.builder();
+        properties.relationshipProperties().forEach((propertyKey, property) -> propertyStoreBuilder.putRelationshipProperty(
+            propertyKey,
+            ImmutableRelationshipProperty.of(property.values(), original.get(propertyKey).propertySchema())
+        ));
+        return propertyStoreBuilder.build();
+    }
+
+    private static List<String> propertyKeys(SingleTypeRelationships relationships) {
+        return relationships
+            .properties()
+            .map(properties -> new ArrayList<>(properties.keySet()))
+            .orElseGet(ArrayList::new);
+    }
+
+    private static boolean baseIsMultiGraph(Topology topology) {
+        return topology.adjacencyList() instanceof LayeredAdjacencyList
+            ? ((LayeredAdjacencyList) topology.adjacencyList()).baseIsMultiGraph()
+            : topology.isMultiGraph();
+    }
+
+    private static Aggregation topologyAggregation(Topology topology) {
+        return baseIsMultiGraph(topology) ? Aggregation.NONE : Aggregation.SINGLE;
+    }
+}
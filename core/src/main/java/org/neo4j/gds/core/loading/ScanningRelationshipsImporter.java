@@ -109,6 +109,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
                         .nodeCountSupplier(dimensions::nodeCount)
                         .importSizing(sizing)
                         .validateRelationships(graphProjectConfig.validateRelationships())
+                        .adjacencyListEncoding(graphProjectConfig.adjacencyListEncoding())
                         .build();
 
                     var contexts = new ArrayList<SingleTypeRelationshipImportContext>();
@@ -161,6 +162,7 @@ public final class ScanningRelationshipsImporter extends ScanningRecordsImporter
             .nodeCountSupplier(dimensions::nodeCount)
             .importSizing(sizing)
             .validateRelationships(graphProjectConfig.validateRelationships())
+            .adjacencyListEncoding(graphProjectConfig.adjacencyListEncoding())
             .build();
 
         return ImmutableSingleTypeRelationshipImportContext.builder()
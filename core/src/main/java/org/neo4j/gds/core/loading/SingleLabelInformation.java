@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.core.loading;
 
-import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.ElementIdentifier;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.api.BatchNodeIterable;
@@ -54,7 +53,7 @@ final class SingleLabelInformation implements LabelInformation {
 
     @Override
     public void forEach(LabelInformationConsumer consumer) {
-        throw new UnsupportedOperationException("There are not BitSets in empty label information");
+        throw new UnsupportedOperationException("There are no bitmaps in empty label information");
     }
 
     @Override
@@ -63,7 +62,7 @@ final class SingleLabelInformation implements LabelInformation {
     }
 
     @Override
-    public BitSet unionBitSet(Collection<NodeLabel> nodeLabels, long nodeCount) {
+    public NodeIdBitmap unionBitmap(Collection<NodeLabel> nodeLabels) {
        throw new UnsupportedOperationException("Union with empty label information is not supported");
     }
 
@@ -54,9 +54,11 @@ public final class SingleTypeRelationshipImporter {
         ImportMetaData importMetaData,
         LongSupplier nodeCountSupplier,
         boolean validateRelationships,
-        ImportSizing importSizing
+        ImportSizing importSizing,
+        Optional<AdjacencyListEncoding> adjacencyListEncoding
     ) {
-        var adjacencyCompressorFactory = AdjacencyListBehavior.asConfigured(
+        var adjacencyCompressorFactory = AdjacencyListBehavior.forEncoding(
+            adjacencyListEncoding.orElse(AdjacencyListEncoding.DEFAULT),
             nodeCountSupplier,
             importMetaData.projection().properties(),
             importMetaData.aggregations()
@@ -144,6 +146,14 @@ public final class SingleTypeRelationshipImporter {
         );
     }
 
+    ImportMetaData importMetaData() {
+        return importMetaData;
+    }
+
+    AdjacencyCompressorFactory adjacencyCompressorFactory() {
+        return adjacencyCompressorFactory;
+    }
+
     public AdjacencyListsWithProperties build() {
         return adjacencyCompressorFactory.build();
     }
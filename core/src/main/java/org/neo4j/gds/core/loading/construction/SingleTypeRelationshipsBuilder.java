@@ -36,8 +36,10 @@ import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
 import org.neo4j.gds.api.schema.RelationshipPropertySchema;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.AdjacencyBuffer;
+import org.neo4j.gds.core.loading.ColumnarRelationshipsBuffer;
 import org.neo4j.gds.core.loading.SingleTypeRelationshipImporter;
 import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Collection;
 import java.util.List;
@@ -57,8 +59,8 @@ abstract class SingleTypeRelationshipsBuilder {
     final boolean loadRelationshipProperty;
     final Direction direction;
 
-    private final ExecutorService executorService;
-    private final int concurrency;
+    final ExecutorService executorService;
+    final int concurrency;
 
     @Builder.Factory
     static SingleTypeRelationshipsBuilder singleTypeRelationshipsBuilder(
@@ -74,7 +76,7 @@ abstract class SingleTypeRelationshipsBuilder {
         ExecutorService executorService,
         int concurrency
     ) {
-        return inverseImporter.isPresent() ?
+        var builder = inverseImporter.isPresent() ?
             new Indexed(
                 idMap,
                 importer,
@@ -100,6 +102,15 @@ abstract class SingleTypeRelationshipsBuilder {
                 executorService,
                 concurrency
             );
+
+        if (GdsFeatureToggles.USE_RADIX_SORT_RELATIONSHIP_IMPORT.isEnabled()) {
+            var importers = inverseImporter.isPresent()
+                ? List.of(importer, inverseImporter.get())
+                : List.of(importer);
+            return new RadixSorted(builder, importers);
+        }
+
+        return builder;
     }
 
     SingleTypeRelationshipsBuilder(
@@ -126,7 +137,7 @@ abstract class SingleTypeRelationshipsBuilder {
 
     abstract ThreadLocalRelationshipsBuilder threadLocalRelationshipsBuilder();
 
-    abstract Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks(
+    abstract void buildAdjacencyLists(
         Optional<AdjacencyCompressor.ValueMapper> mapper,
         Optional<LongConsumer> drainCountConsumer
     );
@@ -141,15 +152,16 @@ abstract class SingleTypeRelationshipsBuilder {
         Optional<AdjacencyCompressor.ValueMapper> mapper,
         Optional<LongConsumer> drainCountConsumer
     ) {
-        var adjacencyListBuilderTasks = adjacencyListBuilderTasks(mapper, drainCountConsumer);
+        buildAdjacencyLists(mapper, drainCountConsumer);
+        return singleTypeRelationshipImportResult();
+    }
 
+    void runAdjacencyListBuilderTasks(Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks) {
         RunWithConcurrency.builder()
             .concurrency(concurrency)
             .tasks(adjacencyListBuilderTasks)
             .executor(executorService)
             .run();
-
-        return singleTypeRelationshipImportResult();
     }
 
     MutableRelationshipSchemaEntry relationshipSchemaEntry(Optional<RelationshipPropertyStore> properties) {
@@ -245,11 +257,11 @@ abstract class SingleTypeRelationshipsBuilder {
         }
 
         @Override
-        Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks(
+        void buildAdjacencyLists(
             Optional<AdjacencyCompressor.ValueMapper> mapper,
             Optional<LongConsumer> drainCountConsumer
         ) {
-            return importer.adjacencyListBuilderTasks(mapper, drainCountConsumer);
+            runAdjacencyListBuilderTasks(importer.adjacencyListBuilderTasks(mapper, drainCountConsumer));
         }
 
         @Override
@@ -321,14 +333,14 @@ abstract class SingleTypeRelationshipsBuilder {
         }
 
         @Override
-        Collection<AdjacencyBuffer.AdjacencyListBuilderTask> adjacencyListBuilderTasks(
+        void buildAdjacencyLists(
             Optional<AdjacencyCompressor.ValueMapper> mapper,
             Optional<LongConsumer> drainCountConsumer
         ) {
             var forwardTasks = forwardImporter.adjacencyListBuilderTasks(mapper, drainCountConsumer);
             var reverseTasks = inverseImporter.adjacencyListBuilderTasks(mapper, drainCountConsumer);
 
-            return Stream.concat(forwardTasks.stream(), reverseTasks.stream()).collect(Collectors.toList());
+            runAdjacencyListBuilderTasks(Stream.concat(forwardTasks.stream(), reverseTasks.stream()).collect(Collectors.toList()));
         }
 
         @Override
@@ -368,4 +380,51 @@ abstract class SingleTypeRelationshipsBuilder {
             return singleRelationshipTypeImportResultBuilder.build();
         }
     }
+
+    /**
+     * Buffers relationships in thread-local columnar chunks instead of the
+     * per-page adjacency buffers of the importers and builds the adjacency
+     * lists with a parallel radix sort, see {@link ColumnarRelationshipsBuffer}.
+     */
+    static class RadixSorted extends SingleTypeRelationshipsBuilder {
+
+        private final SingleTypeRelationshipsBuilder delegate;
+        private final List<SingleTypeRelationshipImporter> importers;
+        private final ColumnarRelationshipsBuffer buffer;
+
+        RadixSorted(SingleTypeRelationshipsBuilder delegate, List<SingleTypeRelationshipImporter> importers) {
+            super(
+                delegate.idMap,
+                delegate.bufferSize,
+                delegate.relationshipType,
+                delegate.propertyConfigs,
+                delegate.isMultiGraph,
+                delegate.loadRelationshipProperty,
+                delegate.direction,
+                delegate.executorService,
+                delegate.concurrency
+            );
+            this.delegate = delegate;
+            this.importers = importers;
+            this.buffer = new ColumnarRelationshipsBuffer(propertyConfigs.size(), bufferSize);
+        }
+
+        @Override
+        ThreadLocalRelationshipsBuilder threadLocalRelationshipsBuilder() {
+            return new ThreadLocalRelationshipsBuilder.Columnar(buffer.newLocalBuffer());
+        }
+
+        @Override
+        void buildAdjacencyLists(
+            Optional<AdjacencyCompressor.ValueMapper> mapper,
+            Optional<LongConsumer> drainCountConsumer
+        ) {
+            buffer.build(importers, mapper, drainCountConsumer, concurrency, executorService);
+        }
+
+        @Override
+        SingleTypeRelationships singleTypeRelationshipImportResult() {
+            return delegate.singleTypeRelationshipImportResult();
+        }
+    }
 }
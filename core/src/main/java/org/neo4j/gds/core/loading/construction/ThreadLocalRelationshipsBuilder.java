@@ -21,6 +21,7 @@ package org.neo4j.gds.core.loading.construction;
 
 import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.loading.ColumnarRelationshipsBuffer;
 import org.neo4j.gds.core.loading.PropertyReader;
 import org.neo4j.gds.core.loading.SingleTypeRelationshipImporter;
 import org.neo4j.gds.core.loading.ThreadLocalSingleTypeRelationshipImporter;
@@ -146,4 +147,33 @@ abstract class ThreadLocalRelationshipsBuilder implements AutoCloseable {
             this.reverseBuilder.close();
         }
     }
+
+    static class Columnar extends ThreadLocalRelationshipsBuilder {
+
+        private final ColumnarRelationshipsBuffer.LocalBuffer buffer;
+
+        Columnar(ColumnarRelationshipsBuffer.LocalBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        void addRelationship(long source, long target) {
+            this.buffer.add(source, target);
+        }
+
+        @Override
+        void addRelationship(long source, long target, double relationshipPropertyValue) {
+            this.buffer.add(source, target, relationshipPropertyValue);
+        }
+
+        @Override
+        void addRelationship(long source, long target, double[] relationshipPropertyValues) {
+            this.buffer.add(source, target, relationshipPropertyValues);
+        }
+
+        @Override
+        public void close() {
+            this.buffer.close();
+        }
+    }
 }
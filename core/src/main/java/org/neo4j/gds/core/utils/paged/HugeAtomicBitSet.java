@@ -233,6 +233,15 @@ public final class HugeAtomicBitSet {
         return Long.bitCount(bits.get(bits.size() - 1)) >= (long) remainder;
     }
 
+    /**
+     * Returns the word at the given index, bit {@code i} of the word being bit {@code 64 * wordIndex + i} of the bit set.
+     * <p>
+     * Note: this method is not thread-safe.
+     */
+    long word(long wordIndex) {
+        return bits.get(wordIndex);
+    }
+
     /**
      * Returns the number of bits in the bitset.
      */
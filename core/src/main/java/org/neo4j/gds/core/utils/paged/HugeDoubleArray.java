@@ -20,6 +20,7 @@
 package org.neo4j.gds.core.utils.paged;
 
 import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.core.concurrency.AffinityExecutor;
 import org.neo4j.gds.mem.HugeArrays;
 
 import java.util.Arrays;
@@ -205,6 +206,16 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
         return PagedHugeDoubleArray.of(size);
     }
 
+    /**
+     * Creates a new paged array of the given size, whose pages are allocated by the workers of the given executor.
+     * Each page is allocated by the worker that owns the partition containing the first index of the page,
+     * see {@link AffinityExecutor#forEachPage(int, int, java.util.function.IntConsumer)}.
+     * The array is always paged, even if it would fit into a single page, so that its memory can be spread across NUMA nodes.
+     */
+    public static HugeDoubleArray newArray(long size, AffinityExecutor executor) {
+        return PagedHugeDoubleArray.of(size, executor);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -374,6 +385,22 @@ public abstract class HugeDoubleArray extends HugeArray<double[], Double, HugeDo
             return new PagedHugeDoubleArray(size, pages, memoryUsed);
         }
 
+        private static HugeDoubleArray of(long size, AffinityExecutor executor) {
+            int numPages = numberOfPages(size);
+            double[][] pages = new double[numPages][];
+            final int lastPageSize = exclusiveIndexOfPage(size);
+
+            executor.forEachPage(numPages, PAGE_SHIFT, page -> pages[page] = page == numPages - 1
+                ? new double[lastPageSize]
+                : new double[PAGE_SIZE]);
+
+            long memoryUsed = sizeOfObjectArray(numPages)
+                              + (numPages - 1) * sizeOfDoubleArray(PAGE_SIZE)
+                              + sizeOfDoubleArray(lastPageSize);
+
+            return new PagedHugeDoubleArray(size, pages, memoryUsed);
+        }
+
         private final long size;
         private double[][] pages;
         private final long memoryUsed;
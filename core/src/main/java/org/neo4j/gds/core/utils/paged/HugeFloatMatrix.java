@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.mem.HugeArrays;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * A long-indexable matrix of floats with a fixed number of columns, e.g. one embedding per node.
+ * <p>
+ * Rows are stored back to back in pages of plain {@code float[]}, and a row never spans two pages.
+ * Compared to a {@code HugeObjectArray<float[]>} there is no object per row,
+ * which removes the per row header and reference and the pointer chasing on access.
+ * <p>
+ * Rows are accessed via the row operations below, which read or write the page in place.
+ * Concurrent access to different rows is safe, concurrent writes to the same row are not.
+ */
+public final class HugeFloatMatrix {
+
+    private final float[][] pages;
+    private final long rows;
+    private final int cols;
+    private final int rowsPerPageShift;
+    private final int rowsPerPageMask;
+
+    public static HugeFloatMatrix newMatrix(long rows, int cols) {
+        return new HugeFloatMatrix(rows, cols);
+    }
+
+    public static long memoryEstimation(long rows, int cols) {
+        int rowsPerPage = rowsPerPage(cols);
+        long numPages = numberOfPages(rows, rowsPerPage);
+        long lastPageRows = rows - (numPages - 1) * rowsPerPage;
+
+        long fullPages = Math.max(0, numPages - 1) * sizeOfFloatArray((long) rowsPerPage * cols);
+        long lastPage = numPages == 0 ? 0 : sizeOfFloatArray(lastPageRows * cols);
+
+        return sizeOfInstance(HugeFloatMatrix.class) + sizeOfObjectArray(numPages) + fullPages + lastPage;
+    }
+
+    private HugeFloatMatrix(long rows, int cols) {
+        if (cols <= 0) {
+            throw new IllegalArgumentException("The number of columns must be positive, but was " + cols);
+        }
+        int rowsPerPage = rowsPerPage(cols);
+        int numPages = Math.toIntExact(numberOfPages(rows, rowsPerPage));
+
+        this.rows = rows;
+        this.cols = cols;
+        this.rowsPerPageShift = Integer.numberOfTrailingZeros(rowsPerPage);
+        this.rowsPerPageMask = rowsPerPage - 1;
+        this.pages = new float[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long pageRows = Math.min(rowsPerPage, rows - ((long) page << rowsPerPageShift));
+            this.pages[page] = new float[Math.toIntExact(pageRows * cols)];
+        }
+    }
+
+    /**
+     * The largest power of two number of rows that fits into a page, but at least one row.
+     */
+    private static int rowsPerPage(int cols) {
+        return Math.max(1, Integer.highestOneBit(HugeArrays.PAGE_SIZE / cols));
+    }
+
+    private static long numberOfPages(long rows, int rowsPerPage) {
+        return (rows + rowsPerPage - 1) / rowsPerPage;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public float get(long row, int col) {
+        assert col < cols;
+        return pages[pageIndex(row)][offset(row) + col];
+    }
+
+    public void set(long row, int col, float value) {
+        assert col < cols;
+        pages[pageIndex(row)][offset(row) + col] = value;
+    }
+
+    /**
+     * Returns a copy of the given row.
+     */
+    public float[] row(long row) {
+        var values = new float[cols];
+        copyRow(row, values);
+        return values;
+    }
+
+    public void copyRow(long row, float[] target) {
+        System.arraycopy(pages[pageIndex(row)], offset(row), target, 0, cols);
+    }
+
+    public void setRow(long row, float[] values) {
+        System.arraycopy(values, 0, pages[pageIndex(row)], offset(row), cols);
+    }
+
+    public void fillRow(long row, float value) {
+        int offset = offset(row);
+        Arrays.fill(pages[pageIndex(row)], offset, offset + cols, value);
+    }
+
+    /**
+     * {@code row += weight * values}
+     */
+    public void addToRow(long row, float[] values, float weight) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        for (int i = 0; i < cols; i++) {
+            page[offset + i] += weight * values[i];
+        }
+    }
+
+    /**
+     * {@code target += row}
+     */
+    public void addRowTo(long row, float[] target) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        for (int i = 0; i < cols; i++) {
+            target[i] += page[offset + i];
+        }
+    }
+
+    /**
+     * {@code target += weight * row}, computed as a fused multiply-add in double precision.
+     */
+    public void addWeightedRowTo(long row, double weight, float[] target) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        for (int i = 0; i < cols; i++) {
+            target[i] = (float) Math.fma(page[offset + i], weight, target[i]);
+        }
+    }
+
+    public float l2Norm(long row) {
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        float sum = 0.0f;
+        for (int i = 0; i < cols; i++) {
+            float value = page[offset + i];
+            sum += value * value;
+        }
+        return (float) Math.sqrt(sum);
+    }
+
+    /**
+     * The inner product of the given row and a row of another matrix with the same number of columns.
+     */
+    public float innerProduct(long row, HugeFloatMatrix other, long otherRow) {
+        assert other.cols == cols;
+        var page = pages[pageIndex(row)];
+        int offset = offset(row);
+        var otherPage = other.pages[other.pageIndex(otherRow)];
+        int otherOffset = other.offset(otherRow);
+        float result = 0;
+        for (int i = 0; i < cols; i++) {
+            result += page[offset + i] * otherPage[otherOffset + i];
+        }
+        return result;
+    }
+
+    public long sizeOf() {
+        return memoryEstimation(rows, cols);
+    }
+
+    /**
+     * Exposes the rows as node properties without copying the matrix, e.g. to stream, write or mutate embeddings.
+     * {@code floatArrayValue(nodeId)} returns a copy of the row, because callers may keep or compare the returned arrays.
+     * Consumers that read rows repeatedly should pass a buffer to {@code floatArrayValue(nodeId, reuse)},
+     * which copies the row into that buffer without allocating.
+     */
+    public NodePropertyValues asNodeProperties() {
+        return new FloatArrayNodePropertyValues() {
+            @Override
+            public float[] floatArrayValue(long nodeId) {
+                return row(nodeId);
+            }
+
+            @Override
+            public float[] floatArrayValue(long nodeId, float[] reuse) {
+                if (reuse.length != cols) {
+                    return row(nodeId);
+                }
+                copyRow(nodeId, reuse);
+                return reuse;
+            }
+
+            @Override
+            public double[] doubleArrayValue(long nodeId) {
+                var page = pages[pageIndex(nodeId)];
+                int offset = offset(nodeId);
+                var values = new double[cols];
+                for (int i = 0; i < cols; i++) {
+                    values[i] = page[offset + i];
+                }
+                return values;
+            }
+
+            @Override
+            public Optional<Integer> dimension() {
+                return Optional.of(cols);
+            }
+
+            @Override
+            public long nodeCount() {
+                return rows;
+            }
+        };
+    }
+
+    private int pageIndex(long row) {
+        assert row < rows;
+        return (int) (row >>> rowsPerPageShift);
+    }
+
+    private int offset(long row) {
+        return (int) (row & rowsPerPageMask) * cols;
+    }
+}
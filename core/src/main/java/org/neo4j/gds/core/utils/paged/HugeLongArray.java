@@ -22,6 +22,7 @@ package org.neo4j.gds.core.utils.paged;
 import org.neo4j.gds.collections.ArrayUtil;
 import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
 import org.neo4j.gds.collections.PageUtil;
+import org.neo4j.gds.core.concurrency.AffinityExecutor;
 import org.neo4j.gds.mem.HugeArrays;
 import org.neo4j.gds.mem.MemoryUsage;
 
@@ -223,6 +224,16 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
         return PagedHugeLongArray.of(size);
     }
 
+    /**
+     * Creates a new paged array of the given size, whose pages are allocated by the workers of the given executor.
+     * Each page is allocated by the worker that owns the partition containing the first index of the page,
+     * see {@link AffinityExecutor#forEachPage(int, int, java.util.function.IntConsumer)}.
+     * The array is always paged, even if it would fit into a single page, so that its memory can be spread across NUMA nodes.
+     */
+    public static HugeLongArray newArray(long size, AffinityExecutor executor) {
+        return PagedHugeLongArray.of(size, executor);
+    }
+
     public static long memoryEstimation(long size) {
         assert size >= 0;
 
@@ -410,6 +421,20 @@ public abstract class HugeLongArray extends HugeArray<long[], Long, HugeLongArra
             return new PagedHugeLongArray(size, pages, memoryUsed);
         }
 
+        private static HugeLongArray of(long size, AffinityExecutor executor) {
+            int numPages = HugeArrays.numberOfPages(size);
+            long[][] pages = new long[numPages][];
+            int lastPageSize = HugeArrays.exclusiveIndexOfPage(size);
+
+            executor.forEachPage(numPages, HugeArrays.PAGE_SHIFT, page -> pages[page] = page == numPages - 1
+                ? new long[lastPageSize]
+                : new long[HugeArrays.PAGE_SIZE]);
+
+            var memoryUsed = memoryUsed(pages, size);
+
+            return new PagedHugeLongArray(size, pages, memoryUsed);
+        }
+
         static long memoryUsed(long[][] pages, long size) {
             var numPages = pages.length;
             long memoryUsed = MemoryUsage.sizeOfObjectArray(numPages);
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.HugeArrays;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+
+/**
+ * Float or double array node properties quantized to their signs, one bit per dimension.
+ * <p>
+ * A bit is set if the value is positive. The Hamming distance of two quantized vectors,
+ * i.e. the number of dimensions in which the signs differ, is a cheap proxy for their angle.
+ * <p>
+ * Vectors are stored back to back in pages of plain {@code long[]}, and a vector never spans two pages.
+ */
+public final class BinaryQuantizedVectors {
+
+    private final long[][] pages;
+    private final long nodeCount;
+    private final int dimension;
+    private final int wordsPerVector;
+    private final int vectorsPerPageShift;
+    private final int vectorsPerPageMask;
+
+    public static BinaryQuantizedVectors quantize(NodePropertyValues values, long nodeCount, int concurrency) {
+        int dimension = QuantizedVectorValues.dimension(values, nodeCount);
+        var vectors = new BinaryQuantizedVectors(nodeCount, dimension);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> vectors.set(nodeId, QuantizedVectorValues.read(values, nodeId, dimension))
+        );
+        return vectors;
+    }
+
+    public static long memoryEstimation(long nodeCount, int dimension) {
+        int wordsPerVector = wordsPerVector(dimension);
+        int vectorsPerPage = vectorsPerPage(wordsPerVector);
+        long numPages = numberOfPages(nodeCount, vectorsPerPage);
+        long lastPageVectors = nodeCount - (numPages - 1) * vectorsPerPage;
+
+        long fullPages = Math.max(0, numPages - 1) * sizeOfLongArray((long) vectorsPerPage * wordsPerVector);
+        long lastPage = numPages == 0 ? 0 : sizeOfLongArray(lastPageVectors * wordsPerVector);
+
+        return sizeOfInstance(BinaryQuantizedVectors.class) + sizeOfObjectArray(numPages) + fullPages + lastPage;
+    }
+
+    private BinaryQuantizedVectors(long nodeCount, int dimension) {
+        int wordsPerVector = wordsPerVector(dimension);
+        int vectorsPerPage = vectorsPerPage(wordsPerVector);
+        int numPages = Math.toIntExact(numberOfPages(nodeCount, vectorsPerPage));
+
+        this.nodeCount = nodeCount;
+        this.dimension = dimension;
+        this.wordsPerVector = wordsPerVector;
+        this.vectorsPerPageShift = Integer.numberOfTrailingZeros(vectorsPerPage);
+        this.vectorsPerPageMask = vectorsPerPage - 1;
+        this.pages = new long[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long pageVectors = Math.min(vectorsPerPage, nodeCount - ((long) page << vectorsPerPageShift));
+            this.pages[page] = new long[Math.toIntExact(pageVectors * wordsPerVector)];
+        }
+    }
+
+    private static int wordsPerVector(int dimension) {
+        return BitUtil.ceilDiv(dimension, Long.SIZE);
+    }
+
+    /**
+     * The largest power of two number of vectors that fits into a page, but at least one vector.
+     */
+    private static int vectorsPerPage(int wordsPerVector) {
+        return Math.max(1, Integer.highestOneBit(HugeArrays.PAGE_SIZE / Math.max(1, wordsPerVector)));
+    }
+
+    private static long numberOfPages(long nodeCount, int vectorsPerPage) {
+        return (nodeCount + vectorsPerPage - 1) / vectorsPerPage;
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public boolean get(long nodeId, int index) {
+        assert index < dimension;
+        var word = pages[pageIndex(nodeId)][offset(nodeId) + (index >>> 6)];
+        return (word & (1L << index)) != 0;
+    }
+
+    private void set(long nodeId, double[] vector) {
+        var page = pages[pageIndex(nodeId)];
+        int offset = offset(nodeId);
+        for (int i = 0; i < dimension; i++) {
+            if (vector[i] > 0) {
+                page[offset + (i >>> 6)] |= 1L << i;
+            }
+        }
+    }
+
+    /**
+     * The number of dimensions in which the signs of the vectors differ.
+     */
+    public int hammingDistance(long firstNodeId, long secondNodeId) {
+        var left = pages[pageIndex(firstNodeId)];
+        int leftOffset = offset(firstNodeId);
+        var right = pages[pageIndex(secondNodeId)];
+        int rightOffset = offset(secondNodeId);
+
+        int distance = 0;
+        for (int i = 0; i < wordsPerVector; i++) {
+            distance += Long.bitCount(left[leftOffset + i] ^ right[rightOffset + i]);
+        }
+        return distance;
+    }
+
+    public long sizeOf() {
+        return memoryEstimation(nodeCount, dimension);
+    }
+
+    private int pageIndex(long nodeId) {
+        return (int) (nodeId >>> vectorsPerPageShift);
+    }
+
+    private int offset(long nodeId) {
+        return (int) (nodeId & vectorsPerPageMask) * wordsPerVector;
+    }
+}
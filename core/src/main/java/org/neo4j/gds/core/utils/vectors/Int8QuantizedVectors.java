@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.mem.HugeArrays;
+
+import java.util.stream.LongStream;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfByteArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfInstance;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfObjectArray;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Float or double array node properties quantized to one signed byte per dimension.
+ * <p>
+ * We use symmetric scalar quantization with a single scale for all vectors of a property:
+ * every value is divided by the largest absolute value of the property, multiplied by 127 and rounded.
+ * Because all vectors share the scale, cosine similarity and Pearson correlation of the quantized vectors
+ * approximate the ones of the original vectors without dequantizing, and distances only need to be scaled once.
+ * <p>
+ * Vectors are stored back to back in pages of plain {@code byte[]}, and a vector never spans two pages.
+ * The similarities are accumulated in {@code int}, which limits the supported dimension to {@link #MAX_DIMENSION}.
+ */
+public final class Int8QuantizedVectors {
+
+    private static final int MAX_VALUE = Byte.MAX_VALUE;
+
+    /**
+     * The largest dimension for which a squared distance of two vectors cannot overflow an {@code int}.
+     */
+    public static final int MAX_DIMENSION = Integer.MAX_VALUE / (4 * MAX_VALUE * MAX_VALUE);
+
+    private final byte[][] pages;
+    private final long nodeCount;
+    private final int dimension;
+    private final double scale;
+    private final int vectorsPerPageShift;
+    private final int vectorsPerPageMask;
+
+    public static Int8QuantizedVectors quantize(NodePropertyValues values, long nodeCount, int concurrency) {
+        int dimension = QuantizedVectorValues.dimension(values, nodeCount);
+        if (dimension > MAX_DIMENSION) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Vectors with more than %d dimensions cannot be quantized to int8, but got %d dimensions.",
+                MAX_DIMENSION,
+                dimension
+            ));
+        }
+        double absMax = ParallelUtil.parallelStream(
+            LongStream.range(0, nodeCount),
+            concurrency,
+            nodes -> nodes.mapToDouble(nodeId -> absMax(QuantizedVectorValues.read(values, nodeId, dimension))).max()
+        ).orElse(0D);
+
+        var vectors = new Int8QuantizedVectors(nodeCount, dimension, absMax == 0D ? 1D : absMax / MAX_VALUE);
+        ParallelUtil.parallelForEachNode(
+            nodeCount,
+            concurrency,
+            nodeId -> vectors.set(nodeId, QuantizedVectorValues.read(values, nodeId, dimension))
+        );
+        return vectors;
+    }
+
+    public static long memoryEstimation(long nodeCount, int dimension) {
+        int vectorsPerPage = vectorsPerPage(dimension);
+        long numPages = numberOfPages(nodeCount, vectorsPerPage);
+        long lastPageVectors = nodeCount - (numPages - 1) * vectorsPerPage;
+
+        long fullPages = Math.max(0, numPages - 1) * sizeOfByteArray((long) vectorsPerPage * dimension);
+        long lastPage = numPages == 0 ? 0 : sizeOfByteArray(lastPageVectors * dimension);
+
+        return sizeOfInstance(Int8QuantizedVectors.class) + sizeOfObjectArray(numPages) + fullPages + lastPage;
+    }
+
+    private Int8QuantizedVectors(long nodeCount, int dimension, double scale) {
+        int vectorsPerPage = vectorsPerPage(dimension);
+        int numPages = Math.toIntExact(numberOfPages(nodeCount, vectorsPerPage));
+
+        this.nodeCount = nodeCount;
+        this.dimension = dimension;
+        this.scale = scale;
+        this.vectorsPerPageShift = Integer.numberOfTrailingZeros(vectorsPerPage);
+        this.vectorsPerPageMask = vectorsPerPage - 1;
+        this.pages = new byte[numPages][];
+        for (int page = 0; page < numPages; page++) {
+            long pageVectors = Math.min(vectorsPerPage, nodeCount - ((long) page << vectorsPerPageShift));
+            this.pages[page] = new byte[Math.toIntExact(pageVectors * dimension)];
+        }
+    }
+
+    /**
+     * The largest power of two number of vectors that fits into a page, but at least one vector.
+     */
+    private static int vectorsPerPage(int dimension) {
+        return Math.max(1, Integer.highestOneBit(HugeArrays.PAGE_SIZE / Math.max(1, dimension)));
+    }
+
+    private static long numberOfPages(long nodeCount, int vectorsPerPage) {
+        return (nodeCount + vectorsPerPage - 1) / vectorsPerPage;
+    }
+
+    private static double absMax(double[] vector) {
+        double absMax = 0D;
+        for (double value : vector) {
+            absMax = Math.max(absMax, Math.abs(value));
+        }
+        return absMax;
+    }
+
+    public long nodeCount() {
+        return nodeCount;
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    /**
+     * The value of one quantization step in the unit of the original values.
+     */
+    public double scale() {
+        return scale;
+    }
+
+    public byte get(long nodeId, int index) {
+        assert index < dimension;
+        return pages[pageIndex(nodeId)][offset(nodeId) + index];
+    }
+
+    private void set(long nodeId, double[] vector) {
+        var page = pages[pageIndex(nodeId)];
+        int offset = offset(nodeId);
+        for (int i = 0; i < dimension; i++) {
+            // the absolute maximum is quantized to exactly 127, so the value always fits into a byte
+            page[offset + i] = (byte) Math.round(vector[i] / scale);
+        }
+    }
+
+    /**
+     * The cosine similarity of the quantized vectors, {@code NaN} if one of them is all zeros.
+     */
+    public double cosine(long firstNodeId, long secondNodeId) {
+        var left = pages[pageIndex(firstNodeId)];
+        int leftOffset = offset(firstNodeId);
+        var right = pages[pageIndex(secondNodeId)];
+        int rightOffset = offset(secondNodeId);
+
+        int dotProduct = 0;
+        int leftLength = 0;
+        int rightLength = 0;
+        for (int i = 0; i < dimension; i++) {
+            int leftValue = left[leftOffset + i];
+            int rightValue = right[rightOffset + i];
+            dotProduct += leftValue * rightValue;
+            leftLength += leftValue * leftValue;
+            rightLength += rightValue * rightValue;
+        }
+        return dotProduct / Math.sqrt((double) leftLength * rightLength);
+    }
+
+    /**
+     * The squared Euclidean distance of the quantized vectors in the unit of the original values.
+     */
+    public double sumSquareDelta(long firstNodeId, long secondNodeId) {
+        var left = pages[pageIndex(firstNodeId)];
+        int leftOffset = offset(firstNodeId);
+        var right = pages[pageIndex(secondNodeId)];
+        int rightOffset = offset(secondNodeId);
+
+        int result = 0;
+        for (int i = 0; i < dimension; i++) {
+            int delta = left[leftOffset + i] - right[rightOffset + i];
+            result += delta * delta;
+        }
+        return result * scale * scale;
+    }
+
+    /**
+     * Pearson's correlation coefficient of the quantized vectors, {@code NaN} if one of them is constant.
+     */
+    public double pearson(long firstNodeId, long secondNodeId) {
+        var left = pages[pageIndex(firstNodeId)];
+        int leftOffset = offset(firstNodeId);
+        var right = pages[pageIndex(secondNodeId)];
+        int rightOffset = offset(secondNodeId);
+
+        int leftSum = 0;
+        int rightSum = 0;
+        int leftSquares = 0;
+        int rightSquares = 0;
+        int products = 0;
+        for (int i = 0; i < dimension; i++) {
+            int leftValue = left[leftOffset + i];
+            int rightValue = right[rightOffset + i];
+            leftSum += leftValue;
+            rightSum += rightValue;
+            leftSquares += leftValue * leftValue;
+            rightSquares += rightValue * rightValue;
+            products += leftValue * rightValue;
+        }
+
+        // the sums are exact, so we can use the single pass formula without losing precision
+        double n = dimension;
+        double covariance = n * products - (double) leftSum * rightSum;
+        double leftVariance = n * leftSquares - (double) leftSum * leftSum;
+        double rightVariance = n * rightSquares - (double) rightSum * rightSum;
+        return covariance / Math.sqrt(leftVariance * rightVariance);
+    }
+
+    public long sizeOf() {
+        return memoryEstimation(nodeCount, dimension);
+    }
+
+    private int pageIndex(long nodeId) {
+        return (int) (nodeId >>> vectorsPerPageShift);
+    }
+
+    private int offset(long nodeId) {
+        return (int) (nodeId & vectorsPerPageMask) * dimension;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Reads the float or double array properties that are quantized.
+ */
+final class QuantizedVectorValues {
+
+    private QuantizedVectorValues() {}
+
+    /**
+     * The length of the vector of the first node, all other vectors must have the same length.
+     */
+    static int dimension(NodePropertyValues values, long nodeCount) {
+        if (nodeCount == 0) {
+            return 0;
+        }
+        return read(values, 0).length;
+    }
+
+    static double[] read(NodePropertyValues values, long nodeId, int dimension) {
+        var vector = read(values, nodeId);
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "All vectors must have the same length to be quantized, expected %d but node %d has length %d.",
+                dimension,
+                nodeId,
+                vector.length
+            ));
+        }
+        return vector;
+    }
+
+    private static double[] read(NodePropertyValues values, long nodeId) {
+        if (values.valueType() == ValueType.FLOAT_ARRAY || values.valueType() == ValueType.DOUBLE_ARRAY) {
+            // float array properties convert to doubles without loss
+            return values.doubleArrayValue(nodeId);
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Only float and double array properties can be quantized, but got %s.",
+            values.valueType()
+        ));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+/**
+ * Plain loops, these compute the exact same values as the metrics did before the kernels were introduced.
+ */
+final class ScalarSimilarityKernel implements SimilarityKernel {
+
+    static final SimilarityKernel INSTANCE = new ScalarSimilarityKernel();
+
+    private ScalarSimilarityKernel() {
+    }
+
+    @Override
+    public float dotProduct(float[] left, float[] right, int length) {
+        float result = 0F;
+        for (int i = 0; i < length; i++) {
+            result += left[i] * right[i];
+        }
+        return result;
+    }
+
+    @Override
+    public double dotProduct(double[] left, double[] right, int length) {
+        double result = 0D;
+        for (int i = 0; i < length; i++) {
+            result += left[i] * right[i];
+        }
+        return result;
+    }
+
+    @Override
+    public float cosine(float[] left, float[] right, int length) {
+        float dotProduct = 0F;
+        float leftLength = 0F;
+        float rightLength = 0F;
+        for (int i = 0; i < length; i++) {
+            float leftValue = left[i];
+            float rightValue = right[i];
+            dotProduct += leftValue * rightValue;
+            leftLength += leftValue * leftValue;
+            rightLength += rightValue * rightValue;
+        }
+        return (float) (dotProduct / Math.sqrt(leftLength * rightLength));
+    }
+
+    @Override
+    public double cosine(double[] left, double[] right, int length) {
+        double dotProduct = 0D;
+        double leftLength = 0D;
+        double rightLength = 0D;
+        for (int i = 0; i < length; i++) {
+            double leftValue = left[i];
+            double rightValue = right[i];
+            dotProduct += leftValue * rightValue;
+            leftLength += leftValue * leftValue;
+            rightLength += rightValue * rightValue;
+        }
+        return dotProduct / Math.sqrt(leftLength * rightLength);
+    }
+
+    @Override
+    public double sumSquareDelta(float[] left, float[] right, int length) {
+        double result = 0D;
+        for (int i = 0; i < length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double sumSquareDelta(double[] left, double[] right, int length) {
+        double result = 0D;
+        for (int i = 0; i < length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double pearson(float[] left, float[] right, int length) {
+        double leftSum = 0D;
+        double rightSum = 0D;
+        for (int i = 0; i < length; i++) {
+            leftSum += left[i];
+            rightSum += right[i];
+        }
+        double leftMean = leftSum / length;
+        double rightMean = rightSum / length;
+
+        double productOfDeltas = 0D;
+        double leftDeltaSquared = 0D;
+        double rightDeltaSquared = 0D;
+        for (int i = 0; i < length; i++) {
+            double leftDelta = left[i] - leftMean;
+            double rightDelta = right[i] - rightMean;
+            productOfDeltas += leftDelta * rightDelta;
+            leftDeltaSquared += leftDelta * leftDelta;
+            rightDeltaSquared += rightDelta * rightDelta;
+        }
+        return productOfDeltas / Math.sqrt(leftDeltaSquared * rightDeltaSquared);
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int length) {
+        double leftSum = 0D;
+        double rightSum = 0D;
+        for (int i = 0; i < length; i++) {
+            leftSum += left[i];
+            rightSum += right[i];
+        }
+        double leftMean = leftSum / length;
+        double rightMean = rightSum / length;
+
+        double productOfDeltas = 0D;
+        double leftDeltaSquared = 0D;
+        double rightDeltaSquared = 0D;
+        for (int i = 0; i < length; i++) {
+            double leftDelta = left[i] - leftMean;
+            double rightDelta = right[i] - rightMean;
+            productOfDeltas += leftDelta * rightDelta;
+            leftDeltaSquared += leftDelta * leftDelta;
+            rightDeltaSquared += rightDelta * rightDelta;
+        }
+        return productOfDeltas / Math.sqrt(leftDeltaSquared * rightDeltaSquared);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+/**
+ * The innermost loops of the similarity metrics over float and double arrays.
+ * All methods only consider the first {@code length} elements of both arrays.
+ *
+ * @see SimilarityKernels
+ */
+public interface SimilarityKernel {
+
+    float dotProduct(float[] left, float[] right, int length);
+
+    double dotProduct(double[] left, double[] right, int length);
+
+    /**
+     * The cosine of the angle between both vectors, NaN if one of them is the zero vector.
+     */
+    float cosine(float[] left, float[] right, int length);
+
+    double cosine(double[] left, double[] right, int length);
+
+    /**
+     * The squared Euclidean distance of both vectors.
+     */
+    double sumSquareDelta(float[] left, float[] right, int length);
+
+    double sumSquareDelta(double[] left, double[] right, int length);
+
+    /**
+     * Pearson's correlation coefficient of both vectors, NaN if one of them is constant.
+     */
+    double pearson(float[] left, float[] right, int length);
+
+    double pearson(double[] left, double[] right, int length);
+}
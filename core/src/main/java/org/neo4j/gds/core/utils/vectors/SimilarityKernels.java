@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Selects the {@link SimilarityKernel} for the similarity metrics.
+ * <p>
+ * The vectorized kernel is compiled for Java 17 and uses the incubating
+ * Vector API. It is only used if {@link GdsFeatureToggles#USE_VECTORIZED_SIMILARITY_KERNELS}
+ * is enabled and the JVM has been started with {@code --add-modules=jdk.incubator.vector}.
+ * In all other cases, we fall back to the scalar kernel.
+ * The vectorized kernel sums in a different order, so results may differ in the last bits.
+ */
+public final class SimilarityKernels {
+
+    private static final String VECTORIZED_KERNEL = "org.neo4j.gds.core.utils.vectors.VectorizedSimilarityKernel";
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final @Nullable SimilarityKernel VECTORIZED = loadVectorizedKernel();
+
+    private SimilarityKernels() {}
+
+    public static SimilarityKernel create() {
+        if (GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_KERNELS.isEnabled() && VECTORIZED != null) {
+            return VECTORIZED;
+        }
+        return ScalarSimilarityKernel.INSTANCE;
+    }
+
+    public static boolean isVectorizedKernelAvailable() {
+        return VECTORIZED != null;
+    }
+
+    static SimilarityKernel scalar() {
+        return ScalarSimilarityKernel.INSTANCE;
+    }
+
+    static @Nullable SimilarityKernel vectorized() {
+        return VECTORIZED;
+    }
+
+    private static @Nullable SimilarityKernel loadVectorizedKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            // Only present in the Java 17 part of the multi-release jar.
+            // Creating an instance also verifies that the Vector API is usable on this JVM.
+            var kernelClass = Class.forName(VECTORIZED_KERNEL, true, SimilarityKernels.class.getClassLoader());
+            var constructor = MethodHandles
+                .lookup()
+                .findConstructor(kernelClass, MethodType.methodType(void.class));
+            return (SimilarityKernel) constructor.invoke();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+}
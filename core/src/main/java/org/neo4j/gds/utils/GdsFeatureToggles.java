@@ -24,6 +24,8 @@ import org.jetbrains.annotations.TestOnly;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 public enum GdsFeatureToggles {
 
@@ -33,9 +35,26 @@ public enum GdsFeatureToggles {
     USE_PARTITIONED_SCAN(false),
     USE_BIT_ID_MAP(true),
     USE_SHARDED_ID_MAP(false),
+    USE_RANK_SELECT_ID_MAP(false),
     USE_UNCOMPRESSED_ADJACENCY_LIST(false),
     USE_PACKED_ADJACENCY_LIST(false),
+    USE_OFF_HEAP_ADJACENCY_LIST(false),
+    USE_HYBRID_ADJACENCY_LIST(false),
+    USE_ELIAS_FANO_ADJACENCY_LIST(false),
     USE_REORDERED_ADJACENCY_LIST(false),
+    USE_VECTORIZED_PACKED_DECODING(false),
+    USE_VECTORIZED_SIMILARITY_KERNELS(false),
+    USE_RADIX_SORT_RELATIONSHIP_IMPORT(false),
+    USE_WORK_STEALING_SCHEDULER(true),
+    USE_VIRTUAL_THREADS_FOR_IO(true),
+    /**
+     * Runs Pregel partitions on dedicated threads, see {@link org.neo4j.gds.core.concurrency.AffinityExecutor}.
+     * Only applies to {@code RANGE} and {@code DEGREE} partitioning, the fork-join computer
+     * used for {@code AUTO} partitioning, which is the page rank default, steals work between
+     * threads and therefore cannot keep a partition on the same thread.
+     * The dedicated threads are started in addition to the pool threads.
+     */
+    USE_PARTITION_AFFINITY(false),
     ENABLE_ARROW_DATABASE_IMPORT(true),
     THROW_WHEN_USING_PROGRESS_TRACKER_WITHOUT_TASKS(false);
 
@@ -101,6 +120,21 @@ public enum GdsFeatureToggles {
     );
     public static final AtomicInteger PAGES_PER_THREAD = new AtomicInteger(PAGES_PER_THREAD_FLAG);
 
+    // How many bytes of label filtered id maps all graph stores together keep around for reuse.
+    // Setting this to 0 disables the cache.
+    public static final long FILTERED_ID_MAP_CACHE_BUDGET_DEFAULT_SETTING = 256L * 1024 * 1024;
+    private static final long FILTERED_ID_MAP_CACHE_BUDGET_FLAG = Long.getLong(
+        name(GdsFeatureToggles.class, "filteredIdMapCacheBudget"),
+        FILTERED_ID_MAP_CACHE_BUDGET_DEFAULT_SETTING
+    );
+    public static final AtomicLong FILTERED_ID_MAP_CACHE_BUDGET = new AtomicLong(FILTERED_ID_MAP_CACHE_BUDGET_FLAG);
+
+    // Directory for the spill files of off-heap adjacency lists.
+    // If not set, off-heap adjacency lists are allocated in native memory instead.
+    public static final AtomicReference<String> OFF_HEAP_ADJACENCY_LIST_DIRECTORY = new AtomicReference<>(
+        System.getProperty(name(GdsFeatureToggles.class, "offHeapAdjacencyListDirectory"))
+    );
+
     private static String name(Class<?> location, String name) {
         return location.getCanonicalName() + "." + name;
     }
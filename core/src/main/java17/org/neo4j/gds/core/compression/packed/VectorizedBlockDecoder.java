@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.util.Arrays;
+
+/**
+ * Unpacks and prefix-sums blocks using the incubating Vector API.
+ * <p>
+ * The packed words of a block are copied into an on-heap buffer, because the Vector API
+ * on Java 17 cannot load from native memory. Value {@code i} of a block with {@code b} bits
+ * starts at bit {@code i * b} of that buffer. For every vector of values, the words holding
+ * their low and high bits are moved into place with a precomputed lane shuffle and combined
+ * with lane-wise shifts. Shuffles are used instead of gathers, which are slower on Java 17.
+ * <p>
+ * Deltas are prefix-summed within the register in {@code log2(lanes)} shift-and-add steps.
+ * The last lane is broadcast and carried over to the next vector without leaving the register.
+ * <p>
+ * This class is only loaded by {@link BlockDecoders} if the
+ * {@code jdk.incubator.vector} module is present in the boot layer.
+ */
+final class VectorizedBlockDecoder implements BlockDecoder {
+
+    private static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    private static final long LONG_ARRAY_BASE_OFFSET = UnsafeUtil.arrayBaseOffset(long[].class);
+
+    // SHIFTS[bits][i] is the bit offset of value i within its first word,
+    // HIGH_SHIFTS[bits][i] is 63 minus that offset.
+    private static final long[][] SHIFTS = new long[Long.SIZE + 1][BLOCK_SIZE];
+    private static final long[][] HIGH_SHIFTS = new long[Long.SIZE + 1][BLOCK_SIZE];
+    // WORD_SHUFFLES[bits][i / LANES] moves the word that holds the lowest bit of each value
+    // of the vector starting at value i into its lane, relative to the word of value i.
+    private static final VectorShuffle<Long>[][] WORD_SHUFFLES = wordShuffles();
+
+    // Lane i receives lane i - n, KEEP_n clears lanes i < n.
+    // These must be constants, otherwise the shuffles are not intrinsified.
+    // A long vector has at most 8 lanes, so three steps cover every species.
+    private static final VectorShuffle<Long> SHIFT_1 = laneShift(1);
+    private static final VectorShuffle<Long> SHIFT_2 = laneShift(2);
+    private static final VectorShuffle<Long> SHIFT_4 = laneShift(4);
+    private static final LongVector KEEP_1 = keep(1);
+    private static final LongVector KEEP_2 = keep(2);
+    private static final LongVector KEEP_4 = keep(4);
+    private static final VectorShuffle<Long> LAST_LANE = VectorShuffle.fromOp(SPECIES, lane -> LANES - 1);
+
+    static {
+        for (int bits = 0; bits <= Long.SIZE; bits++) {
+            for (int i = 0; i < BLOCK_SIZE; i++) {
+                long shift = ((long) i * bits) & (Long.SIZE - 1);
+                SHIFTS[bits][i] = shift;
+                HIGH_SHIFTS[bits][i] = Long.SIZE - 1 - shift;
+            }
+        }
+    }
+
+    // The packed words of the current block. The vector loading the high words
+    // of the last values reads up to LANES words past the block.
+    private final long[] words;
+
+    VectorizedBlockDecoder() {
+        this.words = new long[BLOCK_SIZE + LANES];
+    }
+
+    @Override
+    public long decode(int bits, long[] block, long packedPtr) {
+        if (bits == 0) {
+            Arrays.fill(block, 0, BLOCK_SIZE, 0L);
+            return packedPtr;
+        }
+        long end = copyWords(bits, packedPtr);
+        for (int i = 0; i < BLOCK_SIZE; i += LANES) {
+            unpack(bits, i).intoArray(block, i);
+        }
+        return end;
+    }
+
+    @Override
+    public long decodeDelta(int bits, long[] block, long base, long packedPtr) {
+        if (bits == 0) {
+            Arrays.fill(block, 0, BLOCK_SIZE, base);
+            return packedPtr;
+        }
+        long end = copyWords(bits, packedPtr);
+        var carry = LongVector.broadcast(SPECIES, base);
+        for (int i = 0; i < BLOCK_SIZE; i += LANES) {
+            var values = unpack(bits, i);
+            values = values.add(values.rearrange(SHIFT_1).and(KEEP_1));
+            if (LANES > 2) {
+                values = values.add(values.rearrange(SHIFT_2).and(KEEP_2));
+            }
+            if (LANES > 4) {
+                values = values.add(values.rearrange(SHIFT_4).and(KEEP_4));
+            }
+            values = values.add(carry);
+            values.intoArray(block, i);
+            carry = values.rearrange(LAST_LANE);
+        }
+        return end;
+    }
+
+    private long copyWords(int bits, long packedPtr) {
+        long bytes = (long) bits * Long.BYTES;
+        UnsafeUtil.copyMemory(null, packedPtr, this.words, LONG_ARRAY_BASE_OFFSET, bytes);
+        return packedPtr + bytes;
+    }
+
+    /**
+     * Unpacks the {@code LANES} values starting at value {@code i} from the copied words.
+     */
+    private LongVector unpack(int bits, int i) {
+        int word = (i * bits) >>> 6;
+        var shuffle = WORD_SHUFFLES[bits][i / LANES];
+        var low = LongVector.fromArray(SPECIES, this.words, word).rearrange(shuffle);
+        var high = LongVector.fromArray(SPECIES, this.words, word + 1).rearrange(shuffle);
+        long mask = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+        // shifting the high word in two steps yields 0 for values that start at a word boundary
+        return low
+            .lanewise(VectorOperators.LSHR, LongVector.fromArray(SPECIES, SHIFTS[bits], i))
+            .or(high
+                .lanewise(VectorOperators.LSHL, 1)
+                .lanewise(VectorOperators.LSHL, LongVector.fromArray(SPECIES, HIGH_SHIFTS[bits], i)))
+            .and(mask);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static VectorShuffle<Long>[][] wordShuffles() {
+        var shuffles = (VectorShuffle<Long>[][]) new VectorShuffle[Long.SIZE + 1][BLOCK_SIZE / LANES];
+        var lanes = new int[LANES];
+        for (int bits = 0; bits <= Long.SIZE; bits++) {
+            for (int i = 0; i < BLOCK_SIZE; i += LANES) {
+                int firstWord = (i * bits) >>> 6;
+                for (int lane = 0; lane < LANES; lane++) {
+                    lanes[lane] = (((i + lane) * bits) >>> 6) - firstWord;
+                }
+                shuffles[bits][i / LANES] = VectorShuffle.fromArray(SPECIES, lanes, 0);
+            }
+        }
+        return shuffles;
+    }
+
+    private static LongVector keep(int n) {
+        return LongVector.zero(SPECIES).blend(-1L, laneShiftMask(n));
+    }
+
+    private static VectorShuffle<Long> laneShift(int n) {
+        return VectorShuffle.fromOp(SPECIES, lane -> Math.max(0, lane - n));
+    }
+
+    private static VectorMask<Long> laneShiftMask(int n) {
+        var lanes = new boolean[LANES];
+        for (int lane = n; lane < LANES; lane++) {
+            lanes[lane] = true;
+        }
+        return VectorMask.fromArray(SPECIES, lanes, 0);
+    }
+}
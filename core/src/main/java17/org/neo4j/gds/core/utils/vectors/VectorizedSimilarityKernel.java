@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Computes the similarity kernels with the incubating Vector API.
+ * <p>
+ * Every kernel keeps its sums in lane-wise accumulators, which are only reduced
+ * after the loop, and handles the tail that does not fill a vector with scalar code.
+ * Float kernels sum in float lanes, Pearson and the squared distance thus lose
+ * some precision compared to the scalar kernel, which widens to double.
+ * <p>
+ * This class is only loaded by {@link SimilarityKernels} if the
+ * {@code jdk.incubator.vector} module is present in the boot layer.
+ */
+final class VectorizedSimilarityKernel implements SimilarityKernel {
+
+    private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    VectorizedSimilarityKernel() {
+    }
+
+    @Override
+    public float dotProduct(float[] left, float[] right, int length) {
+        int bound = FLOATS.loopBound(length);
+        var sum = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (; i < bound; i += FLOATS.length()) {
+            var leftVector = FloatVector.fromArray(FLOATS, left, i);
+            var rightVector = FloatVector.fromArray(FLOATS, right, i);
+            sum = leftVector.fma(rightVector, sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += left[i] * right[i];
+        }
+        return result;
+    }
+
+    @Override
+    public double dotProduct(double[] left, double[] right, int length) {
+        int bound = DOUBLES.loopBound(length);
+        var sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            var leftVector = DoubleVector.fromArray(DOUBLES, left, i);
+            var rightVector = DoubleVector.fromArray(DOUBLES, right, i);
+            sum = leftVector.fma(rightVector, sum);
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += left[i] * right[i];
+        }
+        return result;
+    }
+
+    @Override
+    public float cosine(float[] left, float[] right, int length) {
+        int bound = FLOATS.loopBound(length);
+        var dotProducts = FloatVector.zero(FLOATS);
+        var leftLengths = FloatVector.zero(FLOATS);
+        var rightLengths = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (; i < bound; i += FLOATS.length()) {
+            var leftVector = FloatVector.fromArray(FLOATS, left, i);
+            var rightVector = FloatVector.fromArray(FLOATS, right, i);
+            dotProducts = leftVector.fma(rightVector, dotProducts);
+            leftLengths = leftVector.fma(leftVector, leftLengths);
+            rightLengths = rightVector.fma(rightVector, rightLengths);
+        }
+        float dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        float leftLength = leftLengths.reduceLanes(VectorOperators.ADD);
+        float rightLength = rightLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            float leftValue = left[i];
+            float rightValue = right[i];
+            dotProduct += leftValue * rightValue;
+            leftLength += leftValue * leftValue;
+            rightLength += rightValue * rightValue;
+        }
+        return (float) (dotProduct / Math.sqrt(leftLength * rightLength));
+    }
+
+    @Override
+    public double cosine(double[] left, double[] right, int length) {
+        int bound = DOUBLES.loopBound(length);
+        var dotProducts = DoubleVector.zero(DOUBLES);
+        var leftLengths = DoubleVector.zero(DOUBLES);
+        var rightLengths = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            var leftVector = DoubleVector.fromArray(DOUBLES, left, i);
+            var rightVector = DoubleVector.fromArray(DOUBLES, right, i);
+            dotProducts = leftVector.fma(rightVector, dotProducts);
+            leftLengths = leftVector.fma(leftVector, leftLengths);
+            rightLengths = rightVector.fma(rightVector, rightLengths);
+        }
+        double dotProduct = dotProducts.reduceLanes(VectorOperators.ADD);
+        double leftLength = leftLengths.reduceLanes(VectorOperators.ADD);
+        double rightLength = rightLengths.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double leftValue = left[i];
+            double rightValue = right[i];
+            dotProduct += leftValue * rightValue;
+            leftLength += leftValue * leftValue;
+            rightLength += rightValue * rightValue;
+        }
+        return dotProduct / Math.sqrt(leftLength * rightLength);
+    }
+
+    @Override
+    public double sumSquareDelta(float[] left, float[] right, int length) {
+        int bound = FLOATS.loopBound(length);
+        var sum = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (; i < bound; i += FLOATS.length()) {
+            var delta = FloatVector.fromArray(FLOATS, left, i).sub(FloatVector.fromArray(FLOATS, right, i));
+            sum = delta.fma(delta, sum);
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double sumSquareDelta(double[] left, double[] right, int length) {
+        int bound = DOUBLES.loopBound(length);
+        var sum = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            var delta = DoubleVector.fromArray(DOUBLES, left, i).sub(DoubleVector.fromArray(DOUBLES, right, i));
+            sum = delta.fma(delta, sum);
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double delta = left[i] - right[i];
+            result += delta * delta;
+        }
+        return result;
+    }
+
+    @Override
+    public double pearson(float[] left, float[] right, int length) {
+        int bound = FLOATS.loopBound(length);
+        var leftSums = FloatVector.zero(FLOATS);
+        var rightSums = FloatVector.zero(FLOATS);
+        int i = 0;
+        for (; i < bound; i += FLOATS.length()) {
+            leftSums = leftSums.add(FloatVector.fromArray(FLOATS, left, i));
+            rightSums = rightSums.add(FloatVector.fromArray(FLOATS, right, i));
+        }
+        double leftSum = leftSums.reduceLanes(VectorOperators.ADD);
+        double rightSum = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            leftSum += left[i];
+            rightSum += right[i];
+        }
+        float leftMean = (float) (leftSum / length);
+        float rightMean = (float) (rightSum / length);
+
+        var productsOfDeltas = FloatVector.zero(FLOATS);
+        var leftDeltasSquared = FloatVector.zero(FLOATS);
+        var rightDeltasSquared = FloatVector.zero(FLOATS);
+        i = 0;
+        for (; i < bound; i += FLOATS.length()) {
+            var leftDelta = FloatVector.fromArray(FLOATS, left, i).sub(leftMean);
+            var rightDelta = FloatVector.fromArray(FLOATS, right, i).sub(rightMean);
+            productsOfDeltas = leftDelta.fma(rightDelta, productsOfDeltas);
+            leftDeltasSquared = leftDelta.fma(leftDelta, leftDeltasSquared);
+            rightDeltasSquared = rightDelta.fma(rightDelta, rightDeltasSquared);
+        }
+        double productOfDeltas = productsOfDeltas.reduceLanes(VectorOperators.ADD);
+        double leftDeltaSquared = leftDeltasSquared.reduceLanes(VectorOperators.ADD);
+        double rightDeltaSquared = rightDeltasSquared.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double leftDelta = left[i] - leftMean;
+            double rightDelta = right[i] - rightMean;
+            productOfDeltas += leftDelta * rightDelta;
+            leftDeltaSquared += leftDelta * leftDelta;
+            rightDeltaSquared += rightDelta * rightDelta;
+        }
+        return productOfDeltas / Math.sqrt(leftDeltaSquared * rightDeltaSquared);
+    }
+
+    @Override
+    public double pearson(double[] left, double[] right, int length) {
+        int bound = DOUBLES.loopBound(length);
+        var leftSums = DoubleVector.zero(DOUBLES);
+        var rightSums = DoubleVector.zero(DOUBLES);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            leftSums = leftSums.add(DoubleVector.fromArray(DOUBLES, left, i));
+            rightSums = rightSums.add(DoubleVector.fromArray(DOUBLES, right, i));
+        }
+        double leftSum = leftSums.reduceLanes(VectorOperators.ADD);
+        double rightSum = rightSums.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            leftSum += left[i];
+            rightSum += right[i];
+        }
+        double leftMean = leftSum / length;
+        double rightMean = rightSum / length;
+
+        var productsOfDeltas = DoubleVector.zero(DOUBLES);
+        var leftDeltasSquared = DoubleVector.zero(DOUBLES);
+        var rightDeltasSquared = DoubleVector.zero(DOUBLES);
+        i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            var leftDelta = DoubleVector.fromArray(DOUBLES, left, i).sub(leftMean);
+            var rightDelta = DoubleVector.fromArray(DOUBLES, right, i).sub(rightMean);
+            productsOfDeltas = leftDelta.fma(rightDelta, productsOfDeltas);
+            leftDeltasSquared = leftDelta.fma(leftDelta, leftDeltasSquared);
+            rightDeltasSquared = rightDelta.fma(rightDelta, rightDeltasSquared);
+        }
+        double productOfDeltas = productsOfDeltas.reduceLanes(VectorOperators.ADD);
+        double leftDeltaSquared = leftDeltasSquared.reduceLanes(VectorOperators.ADD);
+        double rightDeltaSquared = rightDeltasSquared.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            double leftDelta = left[i] - leftMean;
+            double rightDelta = right[i] - rightMean;
+            productOfDeltas += leftDelta * rightDelta;
+            leftDeltaSquared += leftDelta * leftDelta;
+            rightDeltaSquared += rightDelta * rightDelta;
+        }
+        return productOfDeltas / Math.sqrt(leftDeltaSquared * rightDeltaSquared);
+    }
+}
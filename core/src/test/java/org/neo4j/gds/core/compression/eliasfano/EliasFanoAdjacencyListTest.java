@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.eliasfano;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.SeededRandom.newRandom;
+import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
+
+class EliasFanoAdjacencyListTest {
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+            Arguments.of("single", new long[]{0}),
+            Arguments.of("irregular gaps", new long[]{3, 4, 1_000, 1_000_000, 1_000_000_000L}),
+            // no lower bits at all
+            Arguments.of("dense", LongStream.range(0, 10_000).filter(i -> i % 7 != 0).toArray()),
+            Arguments.of("duplicates", LongStream.range(0, 3_000).map(i -> 1337 + 13 * (i / 3)).toArray()),
+            // enough zeros in the upper bits to use the samples
+            Arguments.of("sparse", LongStream.range(0, 5_000).map(i -> i * i * 31 + i).toArray())
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void shouldRoundtrip(String ignoredName, long[] targets) {
+        var adjacencyList = write(new long[][]{targets});
+
+        assertThat(adjacencyList.degree(0)).isEqualTo(targets.length);
+        assertThat(decode(adjacencyList.adjacencyCursor(0))).containsExactly(targets);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void shouldSkipAndAdvanceLikeTheReference(String ignoredName, long[] targets) {
+        var adjacencyList = write(new long[][]{targets});
+        var random = newRandom().random();
+
+        for (int run = 0; run < 50; run++) {
+            var cursor = adjacencyList.adjacencyCursor(0);
+            int position = 0;
+            while (position < targets.length) {
+                assertThat(cursor.remaining()).isEqualTo(targets.length - position);
+                int operation = random.nextInt(4);
+                long last = targets[targets.length - 1];
+                if (operation == 0) {
+                    assertThat(cursor.peekVLong()).isEqualTo(targets[position]);
+                    assertThat(cursor.nextVLong()).isEqualTo(targets[position++]);
+                } else if (operation == 1) {
+                    long nodeId = Math.abs(random.nextLong() % (last + 10));
+                    int expected = position;
+                    while (expected < targets.length && targets[expected] < nodeId) {
+                        expected++;
+                    }
+                    assertThat(cursor.advance(nodeId)).isEqualTo(expected < targets.length ? targets[expected] : NOT_FOUND);
+                    position = Math.min(targets.length, expected + 1);
+                } else if (operation == 2) {
+                    long nodeId = Math.abs(random.nextLong() % (last + 10));
+                    int expected = position;
+                    while (expected < targets.length && targets[expected] <= nodeId) {
+                        expected++;
+                    }
+                    assertThat(cursor.skipUntil(nodeId)).isEqualTo(expected < targets.length ? targets[expected] : NOT_FOUND);
+                    position = Math.min(targets.length, expected + 1);
+                } else {
+                    int n = random.nextInt(Math.max(1, targets.length / 4));
+                    int expected = position + n;
+                    assertThat(cursor.advanceBy(n)).isEqualTo(expected < targets.length ? targets[expected] : NOT_FOUND);
+                    position = Math.min(targets.length, expected + 1);
+                }
+            }
+            assertThat(cursor.hasNextVLong()).isFalse();
+            assertThat(cursor.remaining()).isZero();
+        }
+    }
+
+    @Test
+    void shouldUseSamplesForSparseLists() {
+        long[] targets = LongStream.range(0, 5_000).map(i -> i * i * 31 + i).toArray();
+        int lowerBits = EliasFanoEncoding.lowerBits(targets, targets.length);
+        long upperBitLength = EliasFanoEncoding.upperBitLength(targets, targets.length, lowerBits);
+
+        assertThat(EliasFanoEncoding.sampleCount(upperBitLength, targets.length)).isPositive();
+
+        var cursor = write(new long[][]{targets}).adjacencyCursor(0);
+        assertThat(cursor.advance(targets[4_000])).isEqualTo(targets[4_000]);
+        assertThat(cursor.remaining()).isEqualTo(999);
+        assertThat(cursor.skipUntil(targets[4_500])).isEqualTo(targets[4_501]);
+        assertThat(cursor.remaining()).isEqualTo(498);
+    }
+
+    @Test
+    void shouldCopyCursorState() {
+        long[] targets = LongStream.range(0, 1000).map(i -> 2 * i).toArray();
+        var adjacencyList = write(new long[][]{targets});
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.advance(500)).isEqualTo(500);
+
+        var copy = cursor.shallowCopy(null);
+        assertThat(decode(copy)).containsExactly(Arrays.copyOfRange(targets, 251, targets.length));
+        assertThat(decode(cursor)).containsExactly(Arrays.copyOfRange(targets, 251, targets.length));
+    }
+
+    @Test
+    void shouldRoundtripManyAdjacencyLists() {
+        var random = newRandom().random();
+        int nodeCount = 1000;
+        long[][] targets = new long[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            int degree = 1 + random.nextInt(500);
+            long universe = node % 2 == 0 ? 2L * degree : 1L << 40;
+            targets[node] = random.longs(degree, 0, universe).sorted().toArray();
+        }
+
+        var adjacencyList = write(targets);
+
+        var cursor = adjacencyList.rawAdjacencyCursor();
+        for (int node = 0; node < nodeCount; node++) {
+            cursor = adjacencyList.adjacencyCursor(cursor, node, Double.NaN);
+            assertThat(decode(cursor)).as("targets of node %d", node).containsExactly(targets[node]);
+        }
+    }
+
+    @Test
+    void shouldEstimateLessThanCompressedInTheBestCase() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(1_000_000).relCountUpperBound(100_000_000).build();
+
+        var eliasFano = EliasFanoAdjacencyList.adjacencyListEstimation(100, 1_000_000).estimate(dimensions, 1).memoryUsage();
+        var compressed = CompressedAdjacencyList.adjacencyListEstimation(100, 1_000_000).estimate(dimensions, 1).memoryUsage();
+
+        assertThat(eliasFano.min).isLessThan(compressed.min);
+    }
+
+    private static long[] decode(AdjacencyCursor cursor) {
+        long[] actual = new long[cursor.remaining()];
+        int i = 0;
+        while (cursor.hasNextVLong()) {
+            actual[i++] = cursor.nextVLong();
+        }
+        return actual;
+    }
+
+    private static EliasFanoAdjacencyList write(long[][] targets) {
+        int nodeCount = targets.length;
+        var builder = EliasFanoAdjacencyListBuilderFactory.of().newAdjacencyListBuilder();
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var offsets = HugeLongArray.newArray(nodeCount);
+
+        try (var allocator = builder.newAllocator()) {
+            for (int node = 0; node < nodeCount; node++) {
+                int degree = targets[node].length;
+                long[] encoded = new long[EliasFanoEncoding.encodedWords(targets[node], degree)];
+                int length = EliasFanoEncoding.encode(targets[node], degree, encoded);
+                assertThat(length).isEqualTo(encoded.length);
+
+                degrees.set(node, degree);
+                offsets.set(node, allocator.write(encoded, length, 0L));
+            }
+        }
+
+        return builder.build(degrees, offsets);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.hybrid;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.compression.varlong.CompressedAdjacencyList;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.SeededRandom.newRandom;
+import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
+import static org.neo4j.gds.core.compression.hybrid.HybridEncoding.BITMAP;
+import static org.neo4j.gds.core.compression.hybrid.HybridEncoding.PACKED;
+import static org.neo4j.gds.core.compression.hybrid.HybridEncoding.VAR_LONG;
+
+class HybridAdjacencyListTest {
+
+    static Stream<Arguments> lists() {
+        return Stream.of(
+            // irregular gaps
+            Arguments.of("var long", new long[]{3, 4, 1_000, 1_000_000, 1_000_000_000L}, VAR_LONG),
+            // gaps of 200 need two bytes as var long, but only 8 bits when packed
+            Arguments.of("packed", LongStream.range(0, 500).map(i -> 42 + 200 * i).toArray(), PACKED),
+            // parallel relationships with regular gaps
+            Arguments.of("packed with duplicates", LongStream.range(0, 300).map(i -> 1337 + 130 * (i / 2)).toArray(), PACKED),
+            // every second node
+            Arguments.of("bitmap", LongStream.range(0, 500).map(i -> 7 + 2 * i).toArray(), BITMAP),
+            // a hub that is connected to almost all nodes
+            Arguments.of("dense bitmap", LongStream.range(0, 100_000).filter(i -> i % 17 != 0).toArray(), BITMAP)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void shouldChooseEncoding(String ignoredName, long[] targets, byte expectedEncoding) {
+        var adjacencyList = write(new long[][]{targets});
+
+        assertThat(adjacencyList.encoding(0)).isEqualTo(expectedEncoding);
+        assertThat(adjacencyList.degree(0)).isEqualTo(targets.length);
+        assertThat(decode(adjacencyList.adjacencyCursor(0))).containsExactly(targets);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void shouldBeSmallerThanVarLong(String ignoredName, long[] targets, byte expectedEncoding) {
+        var deltas = targets.clone();
+        int degree = AdjacencyCompression.deltaEncodeSortedValues(deltas, 0, deltas.length, Aggregation.NONE);
+
+        long hybridSize = HybridEncoding.encodedSize(expectedEncoding, deltas, degree);
+        long varLongSize = HybridEncoding.encodedSize(VAR_LONG, deltas, degree);
+
+        if (expectedEncoding == VAR_LONG) {
+            assertThat(hybridSize).isEqualTo(varLongSize);
+        } else {
+            assertThat(hybridSize).isLessThan(varLongSize);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("lists")
+    void shouldSkipAndAdvanceLikeTheReference(String ignoredName, long[] targets, byte ignoredEncoding) {
+        var adjacencyList = write(new long[][]{targets});
+        var random = newRandom().random();
+
+        for (int run = 0; run < 50; run++) {
+            var cursor = adjacencyList.adjacencyCursor(0);
+            int position = 0;
+            while (position < targets.length) {
+                assertThat(cursor.remaining()).isEqualTo(targets.length - position);
+                int operation = random.nextInt(4);
+                long last = targets[targets.length - 1];
+                if (operation == 0) {
+                    assertThat(cursor.peekVLong()).isEqualTo(targets[position]);
+                    assertThat(cursor.nextVLong()).isEqualTo(targets[position++]);
+                } else if (operation == 1) {
+                    long target = random.nextLong() % (last + 10);
+                    long nodeId = Math.abs(target);
+                    int expected = position;
+                    while (expected < targets.length && targets[expected] < nodeId) {
+                        expected++;
+                    }
+                    assertThat(cursor.advance(nodeId)).isEqualTo(expected < targets.length ? targets[expected] : NOT_FOUND);
+                    position = Math.min(targets.length, expected + 1);
+                } else if (operation == 2) {
+                    long nodeId = Math.abs(random.nextLong() % (last + 10));
+                    int expected = position;
+                    while (expected < targets.length && targets[expected] <= nodeId) {
+                        expected++;
+                    }
+                    assertThat(cursor.skipUntil(nodeId)).isEqualTo(expected < targets.length ? targets[expected] : NOT_FOUND);
+                    position = Math.min(targets.length, expected + 1);
+                } else {
+                    int n = random.nextInt(Math.max(1, targets.length / 4));
+                    int expected = position + n;
+                    assertThat(cursor.advanceBy(n)).isEqualTo(expected < targets.length ? targets[expected] : NOT_FOUND);
+                    position = Math.min(targets.length, expected + 1);
+                }
+            }
+            assertThat(cursor.hasNextVLong()).isFalse();
+            assertThat(cursor.remaining()).isZero();
+        }
+    }
+
+    @Test
+    void shouldCopyCursorState() {
+        long[] targets = LongStream.range(0, 1000).map(i -> 2 * i).toArray();
+        var adjacencyList = write(new long[][]{targets});
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.advance(500)).isEqualTo(500);
+
+        var copy = cursor.shallowCopy(null);
+        assertThat(decode(copy)).containsExactly(Arrays.copyOfRange(targets, 251, targets.length));
+        assertThat(decode(cursor)).containsExactly(Arrays.copyOfRange(targets, 251, targets.length));
+    }
+
+    @Test
+    void shouldRoundtripMixedAdjacencyLists() {
+        var random = newRandom().random();
+        int nodeCount = 1000;
+        long[][] targets = new long[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            if (node % 3 == 0) {
+                // dense
+                int degree = 1 + random.nextInt(300);
+                targets[node] = random.longs(degree, 0, 2L * degree).sorted().distinct().toArray();
+            } else if (node % 3 == 1) {
+                // regular gaps
+                int degree = 1 + random.nextInt(300);
+                targets[node] = random.longs(degree, 0, 1L << 16).sorted().toArray();
+            } else {
+                // short
+                int degree = 1 + random.nextInt(2);
+                targets[node] = random.longs(degree, 0, 1L << 40).sorted().toArray();
+            }
+        }
+
+        var adjacencyList = write(targets);
+
+        var encodings = new int[3];
+        var cursor = adjacencyList.rawAdjacencyCursor();
+        for (int node = 0; node < nodeCount; node++) {
+            encodings[adjacencyList.encoding(node)]++;
+            cursor = adjacencyList.adjacencyCursor(cursor, node, Double.NaN);
+            assertThat(decode(cursor)).as("targets of node %d", node).containsExactly(targets[node]);
+        }
+        assertThat(encodings).doesNotContain(0);
+    }
+
+    @Test
+    void shouldEstimateLessThanCompressedInTheBestCase() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder().nodeCount(1_000_000).relCountUpperBound(100_000_000).build();
+
+        var hybrid = HybridAdjacencyList.adjacencyListEstimation(100, 1_000_000).estimate(dimensions, 1).memoryUsage();
+        var compressed = CompressedAdjacencyList.adjacencyListEstimation(100, 1_000_000).estimate(dimensions, 1).memoryUsage();
+
+        assertThat(hybrid.min).isLessThan(compressed.min);
+        assertThat(hybrid.max).isGreaterThanOrEqualTo(compressed.max);
+    }
+
+    private static long[] decode(AdjacencyCursor cursor) {
+        long[] actual = new long[cursor.remaining()];
+        int i = 0;
+        while (cursor.hasNextVLong()) {
+            actual[i++] = cursor.nextVLong();
+        }
+        return actual;
+    }
+
+    private static HybridAdjacencyList write(long[][] targets) {
+        int nodeCount = targets.length;
+        var builder = HybridAdjacencyListBuilderFactory.of().newAdjacencyListBuilder();
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var offsets = HugeLongArray.newArray(nodeCount);
+
+        try (var allocator = builder.newAllocator()) {
+            for (int node = 0; node < nodeCount; node++) {
+                long[] deltas = targets[node].clone();
+                int degree = AdjacencyCompression.deltaEncodeSortedValues(deltas, 0, deltas.length, Aggregation.NONE);
+                byte encoding = HybridEncoding.encodingFor(deltas, degree);
+                byte[] encoded = new byte[(int) HybridEncoding.encodedSize(encoding, deltas, degree)];
+                int length = HybridEncoding.encode(encoding, deltas, degree, encoded);
+                assertThat(length).isEqualTo(encoded.length);
+
+                degrees.set(node, degree);
+                offsets.set(node, allocator.write(encoded, length, 0L));
+            }
+        }
+
+        return builder.build(degrees, offsets);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.SeededRandom.newRandom;
+import static org.neo4j.gds.api.AdjacencyCursor.NOT_FOUND;
+import static org.neo4j.gds.core.compression.common.BumpAllocator.PAGE_SIZE;
+
+class OffHeapAdjacencyListTest {
+
+    @TempDir
+    static Path tempDir;
+
+    static Stream<Arguments> memories() {
+        return Stream.of(
+            Arguments.of("native", (Function<Path, OffHeapMemory>) ignored -> OffHeapMemory.nativeMemory()),
+            Arguments.of("memory mapped", (Function<Path, OffHeapMemory>) OffHeapMemory::memoryMapped)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("memories")
+    void shouldRoundtripAdjacencyLists(String ignoredName, Function<Path, OffHeapMemory> memoryFactory) {
+        var random = newRandom().random();
+        int nodeCount = 1000;
+        // node 42 gets a list that exceeds a single page
+        long[][] targets = new long[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            int degree = node == 42 ? PAGE_SIZE : 1 + random.nextInt(200);
+            targets[node] = random.longs(degree, 0, 1L << 40).sorted().distinct().toArray();
+        }
+
+        var memory = memoryFactory.apply(tempDir);
+        var adjacencyList = write(memory, targets);
+
+        assertThat(memory.bytesAllocated()).isGreaterThan(PAGE_SIZE);
+        assertThat(adjacencyList.bytesOffHeap()).isEqualTo(memory.bytesAllocated());
+
+        var cursor = adjacencyList.rawAdjacencyCursor();
+        for (int node = 0; node < nodeCount; node++) {
+            long[] expected = targets[node];
+            assertThat(adjacencyList.degree(node)).isEqualTo(expected.length);
+
+            cursor = adjacencyList.adjacencyCursor(cursor, node, Double.NaN);
+            long[] actual = new long[expected.length];
+            int i = 0;
+            while (cursor.hasNextVLong()) {
+                actual[i++] = cursor.nextVLong();
+            }
+            assertThat(actual).as("targets of node %d", node).containsExactly(expected);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("memories")
+    void shouldSkipAndAdvance(String ignoredName, Function<Path, OffHeapMemory> memoryFactory) {
+        long[] targets = new long[500];
+        Arrays.setAll(targets, i -> 3L * i);
+
+        var adjacencyList = write(memoryFactory.apply(tempDir), new long[][]{targets});
+
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.advance(300)).isEqualTo(300);
+        assertThat(cursor.skipUntil(300)).isEqualTo(303);
+        assertThat(cursor.peekVLong()).isEqualTo(306);
+        assertThat(cursor.advanceBy(10)).isEqualTo(336);
+        assertThat(cursor.skipUntil(1_000_000)).isEqualTo(NOT_FOUND);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("memories")
+    void shouldRejectCursorsAfterRelease(String ignoredName, Function<Path, OffHeapMemory> memoryFactory) {
+        var memory = memoryFactory.apply(tempDir);
+        var adjacencyList = write(memory, new long[][]{{1, 2, 3}});
+
+        adjacencyList.release();
+        adjacencyList.release();
+
+        assertThat(memory.isReleased()).isTrue();
+        assertThat(adjacencyList.bytesOffHeap()).isZero();
+        assertThatThrownBy(() -> adjacencyList.adjacencyCursor(0))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("has been released");
+        assertThatThrownBy(() -> memory.allocate(8)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static OffHeapAdjacencyList write(OffHeapMemory memory, long[][] targets) {
+        int nodeCount = targets.length;
+        var builder = new OffHeapAdjacencyListBuilder(memory);
+        var degrees = HugeIntArray.newArray(nodeCount);
+        var offsets = HugeLongArray.newArray(nodeCount);
+
+        try (var allocator = builder.newAllocator()) {
+            for (int node = 0; node < nodeCount; node++) {
+                long[] values = targets[node].clone();
+                byte[] compressed = AdjacencyCompression.deltaEncodeAndCompress(
+                    values,
+                    0,
+                    values.length,
+                    Aggregation.NONE
+                );
+                degrees.set(node, values.length);
+                offsets.set(node, allocator.write(compressed, compressed.length, 0L));
+            }
+        }
+
+        return builder.build(degrees, offsets);
+    }
+}
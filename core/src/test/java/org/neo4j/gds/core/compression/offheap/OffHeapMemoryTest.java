@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.offheap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffHeapMemoryTest {
+
+    private static final int REGION_SIZE = 4096;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldMapBlocksThatCrossRegionBoundaries() throws IOException {
+        // The second, fourth and last block do not fit into the rest of the current region.
+        int[] blockSizes = {3000, 3000, 1000, 5000, 100, 4096, 2500, 2500};
+        var file = writeBlocks(blockSizes);
+
+        var memory = OffHeapMemory.mappedFile(file, REGION_SIZE);
+
+        long fileOffset = 0;
+        for (int blockSize : blockSizes) {
+            long address = memory.allocate(blockSize);
+            for (int i = 0; i < blockSize; i++) {
+                assertThat(UnsafeUtil.getByte(address + i))
+                    .as("byte %d of the block at file offset %d", i, fileOffset)
+                    .isEqualTo(expectedByte(fileOffset + i));
+            }
+            fileOffset += blockSize;
+        }
+        assertThat(memory.bytesAllocated()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void shouldFailToMapMoreThanTheFile() throws IOException {
+        var file = writeBlocks(new int[]{3000, 3000});
+
+        var memory = OffHeapMemory.mappedFile(file, REGION_SIZE);
+        memory.allocate(3000);
+        memory.allocate(2000);
+
+        assertThatThrownBy(() -> memory.allocate(1001))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("only 1000 bytes are left in the file");
+    }
+
+    private Path writeBlocks(int[] blockSizes) throws IOException {
+        int fileSize = 0;
+        for (int blockSize : blockSizes) {
+            fileSize += blockSize;
+        }
+        var bytes = new byte[fileSize];
+        for (int i = 0; i < fileSize; i++) {
+            bytes[i] = expectedByte(i);
+        }
+        return Files.write(tempDir.resolve("blocks.pages"), bytes);
+    }
+
+    private static byte expectedByte(long fileOffset) {
+        // 251 is prime, so shifted blocks do not line up by accident
+        return (byte) (fileOffset % 251);
+    }
+}
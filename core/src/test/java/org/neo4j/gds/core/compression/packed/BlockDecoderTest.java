@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.compression.packed;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.internal.unsafe.UnsafeUtil;
+import org.neo4j.memory.EmptyMemoryTracker;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.neo4j.gds.SeededRandom.newRandom;
+
+class BlockDecoderTest {
+
+    private static final int BLOCK_SIZE = AdjacencyPacking.BLOCK_SIZE;
+
+    static Stream<Arguments> decodersAndBits() {
+        return TestSupport.crossArguments(
+            () -> Stream.of(
+                Arguments.of("scalar", (Supplier<BlockDecoder>) () -> ScalarBlockDecoder.INSTANCE),
+                Arguments.of("vectorized", (Supplier<BlockDecoder>) BlockDecoders::vectorized)
+            ),
+            () -> IntStream.rangeClosed(0, Long.SIZE).mapToObj(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}: {2} bits")
+    @MethodSource("decodersAndBits")
+    void decode(String name, Supplier<BlockDecoder> decoderSupplier, int bits) {
+        var decoder = decoderSupplier.get();
+        assumeTrue(decoder != null, "the vectorized decoder is not available on this JVM");
+
+        var random = newRandom();
+        var values = randomBlock(random.random(), bits);
+
+        withPackedBlock(bits, values, ptr -> {
+            var block = new long[BLOCK_SIZE];
+            var end = decoder.decode(bits, block, ptr);
+
+            assertThat(end).isEqualTo(ptr + (long) bits * Long.BYTES);
+            assertThat(block)
+                .as("block did not roundtrip, seed = %d", random.seed())
+                .containsExactly(values);
+        });
+    }
+
+    @ParameterizedTest(name = "{0}: {2} bits")
+    @MethodSource("decodersAndBits")
+    void decodeDelta(String name, Supplier<BlockDecoder> decoderSupplier, int bits) {
+        var decoder = decoderSupplier.get();
+        assumeTrue(decoder != null, "the vectorized decoder is not available on this JVM");
+
+        var random = newRandom();
+        var values = randomBlock(random.random(), bits);
+        var base = random.random().nextInt(1 << 20);
+
+        var expected = new long[BLOCK_SIZE];
+        long value = base;
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            expected[i] = value += values[i];
+        }
+
+        withPackedBlock(bits, values, ptr -> {
+            var block = new long[BLOCK_SIZE];
+            var end = decoder.decodeDelta(bits, block, base, ptr);
+
+            assertThat(end).isEqualTo(ptr + (long) bits * Long.BYTES);
+            assertThat(block)
+                .as("block did not roundtrip, seed = %d", random.seed())
+                .containsExactly(expected);
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("org.neo4j.gds.core.compression.packed.CompressedTest#cursorFeaturesAndLengths")
+    void decompressViaVectorizedCursor(AdjacencyPackerTest.Features features, long length) {
+        assumeTrue(BlockDecoders.isVectorizedDecodingAvailable(), "the vectorized decoder is not available on this JVM");
+
+        var random = newRandom();
+        var data = random.random().longs(length, 0, 1L << 50).toArray();
+        var compressed = AdjacencyPacker.compress(data.clone(), 0, data.length, features.flags());
+        Arrays.sort(data);
+
+        GdsFeatureToggles.USE_VECTORIZED_PACKED_DECODING.enableAndRun(() -> {
+            var cursor = new DecompressingCursor(HugeObjectArray.of(compressed), features.flags());
+            cursor.init(0, -1);
+
+            var decompressed = new long[compressed.length()];
+            var idx = 0;
+            while (cursor.hasNextVLong()) {
+                decompressed[idx++] = cursor.nextVLong();
+            }
+
+            assertThat(decompressed)
+                .as("compressed data did not roundtrip, seed = %d", random.seed())
+                .containsExactly(data);
+        });
+
+        compressed.free();
+    }
+
+    private static long[] randomBlock(Random random, int bits) {
+        long mask = bits == Long.SIZE ? -1L : (1L << bits) - 1;
+        var values = new long[BLOCK_SIZE];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            values[i] = random.nextLong() & mask;
+        }
+        return values;
+    }
+
+    private static void withPackedBlock(int bits, long[] values, LongConsumer code) {
+        long bytes = Math.max(Long.BYTES, (long) bits * Long.BYTES);
+        long ptr = UnsafeUtil.allocateMemory(bytes, EmptyMemoryTracker.INSTANCE);
+        try {
+            var end = AdjacencyPacking.pack(bits, values.clone(), 0, ptr);
+            assertThat(end).isEqualTo(ptr + (long) bits * Long.BYTES);
+            code.accept(ptr);
+        } finally {
+            UnsafeUtil.free(ptr, bytes, EmptyMemoryTracker.INSTANCE);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.Partition;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AffinityExecutorTest {
+
+    private static final List<Partition> PARTITIONS = List.of(
+        Partition.of(0, 100),
+        Partition.of(100, 50),
+        Partition.of(150, 250)
+    );
+
+    @Test
+    void shouldRunEachPartitionOnTheSameThread() {
+        try (var executor = AffinityExecutor.create(PARTITIONS)) {
+            Map<Integer, Thread> firstRun = new ConcurrentHashMap<>();
+            Map<Integer, Thread> secondRun = new ConcurrentHashMap<>();
+
+            executor.run(tasks(firstRun));
+            executor.run(tasks(secondRun));
+
+            assertThat(firstRun).hasSize(3).isEqualTo(secondRun);
+            assertThat(firstRun.values()).doesNotHaveDuplicates();
+            assertThat(firstRun.values()).noneMatch(thread -> thread == Thread.currentThread());
+        }
+    }
+
+    @Test
+    void shouldRunActionForEveryPartition() {
+        try (var executor = AffinityExecutor.create(PARTITIONS)) {
+            var visitedNodes = new AtomicLong();
+            executor.forEachPartition(partition -> visitedNodes.addAndGet(partition.nodeCount()));
+
+            assertThat(visitedNodes.get()).isEqualTo(400);
+        }
+    }
+
+    @Test
+    void shouldAssignPagesToTheOwningPartition() {
+        try (var executor = AffinityExecutor.create(PARTITIONS)) {
+            int pageShift = 5;
+            int pageCount = 15;
+            var pageOwners = new ConcurrentHashMap<Integer, Thread>();
+            executor.forEachPage(pageCount, pageShift, page -> pageOwners.put(page, Thread.currentThread()));
+
+            assertThat(pageOwners).hasSize(pageCount);
+            IntStream.range(0, pageCount).forEach(page -> assertThat(executor.ownerOf((long) page << pageShift))
+                .isEqualTo(page < 4 ? 0 : page < 5 ? 1 : 2));
+
+            var threadsPerOwner = IntStream.range(0, pageCount)
+                .boxed()
+                .collect(Collectors.groupingBy(
+                    page -> executor.ownerOf((long) page << pageShift),
+                    Collectors.mapping(pageOwners::get, Collectors.toSet())
+                ));
+            assertThat(threadsPerOwner.values()).allSatisfy(threads -> assertThat(threads).hasSize(1));
+        }
+    }
+
+    @Test
+    void shouldPropagateExceptions() {
+        try (var executor = AffinityExecutor.create(PARTITIONS)) {
+            assertThatThrownBy(() -> executor.forEachPartition(partition -> {
+                if (partition.startNode() == 100) {
+                    throw new IllegalStateException("boom");
+                }
+            })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+            // workers survive failed tasks
+            var visitedNodes = new AtomicLong();
+            executor.forEachPartition(partition -> visitedNodes.addAndGet(partition.nodeCount()));
+            assertThat(visitedNodes.get()).isEqualTo(400);
+        }
+    }
+
+    @Test
+    void shouldRequireOneTaskPerPartition() {
+        try (var executor = AffinityExecutor.create(PARTITIONS)) {
+            assertThatThrownBy(() -> executor.run(List.of(() -> {})))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected one task per partition, got 1 tasks for 3 partitions.");
+        }
+    }
+
+    @Test
+    void shouldAllocateArraysOnWorkers() {
+        long size = 10_000_000L;
+        var partitions = List.of(Partition.of(0, size / 2), Partition.of(size / 2, size - size / 2));
+        try (var executor = AffinityExecutor.create(partitions)) {
+            var longs = HugeLongArray.newArray(size, executor);
+            var doubles = HugeDoubleArray.newArray(size, executor);
+
+            assertThat(longs.size()).isEqualTo(size);
+            assertThat(doubles.size()).isEqualTo(size);
+
+            for (long index : new long[]{0, size / 2, size - 1}) {
+                assertThat(longs.get(index)).isEqualTo(0L);
+                assertThat(doubles.get(index)).isEqualTo(0D);
+                longs.set(index, index);
+                doubles.set(index, index / 2D);
+                assertThat(longs.get(index)).isEqualTo(index);
+                assertThat(doubles.get(index)).isEqualTo(index / 2D);
+            }
+        }
+    }
+
+    private static List<Runnable> tasks(Map<Integer, Thread> threads) {
+        return IntStream.range(0, PARTITIONS.size())
+            .<Runnable>mapToObj(partition -> () -> threads.put(partition, Thread.currentThread()))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.progress.JobId;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FairJobQueueTest {
+
+    @Test
+    void shouldKeepSubmissionOrderWithoutJobs() {
+        var queue = new FairJobQueue(10);
+        var executed = new ArrayList<String>();
+        queue.offer(() -> executed.add("a"));
+        queue.offer(() -> executed.add("b"));
+        queue.offer(() -> executed.add("c"));
+
+        runAll(queue);
+
+        assertThat(executed).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void shouldServeHigherPriorityFirst() {
+        var queue = new FairJobQueue(10);
+        var executed = new ArrayList<String>();
+
+        try (var ignored = JobScheduler.enter(new JobId(), JobPriority.LOW, 4)) {
+            queue.offer(() -> executed.add("low"));
+        }
+        try (var ignored = JobScheduler.enter(new JobId(), JobPriority.NORMAL, 4)) {
+            queue.offer(() -> executed.add("normal"));
+        }
+        try (var ignored = JobScheduler.enter(new JobId(), JobPriority.HIGH, 1)) {
+            queue.offer(() -> executed.add("high"));
+        }
+
+        runAll(queue);
+
+        assertThat(executed).containsExactly("high", "normal", "low");
+    }
+
+    @Test
+    void shouldNotStarveLowerPriorities() {
+        var queue = new FairJobQueue(100);
+        var executed = new ArrayList<JobPriority>();
+
+        try (var ignored = JobScheduler.enter(new JobId(), JobPriority.HIGH, 1)) {
+            for (int i = 0; i < 40; i++) {
+                queue.offer(() -> executed.add(JobPriority.HIGH));
+            }
+        }
+        try (var ignored = JobScheduler.enter(new JobId(), JobPriority.LOW, 1)) {
+            for (int i = 0; i < 5; i++) {
+                queue.offer(() -> executed.add(JobPriority.LOW));
+            }
+        }
+
+        int rounds = JobPriority.HIGH.weight() / JobPriority.LOW.weight() + 2;
+        for (int i = 0; i < rounds; i++) {
+            queue.poll().run();
+        }
+
+        assertThat(executed.stream().filter(JobPriority.LOW::equals).count()).isEqualTo(1);
+        assertThat(executed.stream().filter(JobPriority.HIGH::equals).count()).isEqualTo(rounds - 1);
+    }
+
+    @Test
+    void shouldShareByWeight() {
+        var queue = new FairJobQueue(100);
+        var executed = new ArrayList<String>();
+
+        try (var ignored = JobScheduler.enter(new JobId(), JobPriority.NORMAL, 1)) {
+            for (int i = 0; i < 20; i++) {
+                queue.offer(() -> executed.add("light"));
+            }
+        }
+        try (var ignored = JobScheduler.enter(new JobId(), JobPriority.NORMAL, 3)) {
+            for (int i = 0; i < 20; i++) {
+                queue.offer(() -> executed.add("heavy"));
+            }
+        }
+
+        for (int i = 0; i < 12; i++) {
+            queue.poll().run();
+        }
+
+        assertThat(executed.stream().filter("heavy"::equals).count()).isEqualTo(9);
+        assertThat(executed.stream().filter("light"::equals).count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRunTasksInTheContextOfTheirJob() {
+        var queue = new FairJobQueue(10);
+        var jobId = new JobId();
+        var nestedJob = new AtomicReference<JobId>();
+
+        try (var ignored = JobScheduler.enter(jobId, JobPriority.HIGH, 1)) {
+            queue.offer(() -> nestedJob.set(JobScheduler.current().jobId()));
+            queue.poll().run();
+
+            assertThat(nestedJob.get()).isEqualTo(jobId);
+        }
+        assertThat(JobScheduler.current()).isSameAs(JobScheduler.UNSCOPED);
+    }
+
+    @Test
+    void shouldRecordQueueWaitTime() throws InterruptedException {
+        var queue = new FairJobQueue(10);
+        var jobId = new JobId();
+
+        try (var ignored = JobScheduler.enter(jobId, JobPriority.NORMAL, 1)) {
+            queue.offer(() -> {});
+            Thread.sleep(20);
+            queue.poll().run();
+
+            assertThat(JobScheduler.queueWaitTime(jobId)).isGreaterThanOrEqualTo(Duration.ofMillis(20));
+        }
+
+        assertThat(JobScheduler.queueWaitTime(jobId)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void shouldExposeOfferedTasks() {
+        var queue = new FairJobQueue(10);
+        Runnable first = () -> {};
+        Runnable second = () -> {};
+        queue.offer(first);
+        queue.offer(second);
+
+        assertThat(queue).containsExactly(first, second);
+        assertThat(queue.remove(first)).isTrue();
+        assertThat(queue).containsExactly(second);
+
+        var drained = new ArrayList<Runnable>();
+        assertThat(queue.drainTo(drained)).isEqualTo(1);
+        assertThat(drained).containsExactly(second);
+        assertThat(queue).isEmpty();
+    }
+
+    @Test
+    void shouldRejectWhenFull() {
+        var queue = new FairJobQueue(1);
+
+        assertThat(queue.offer(() -> {})).isTrue();
+        assertThat(queue.offer(() -> {})).isFalse();
+        assertThat(queue.remainingCapacity()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldPreferHighPriorityJobsInThreadPool() throws InterruptedException {
+        var pool = new ThreadPoolExecutor(
+            1,
+            1,
+            30L,
+            TimeUnit.SECONDS,
+            new FairJobQueue(100),
+            Executors.defaultThreadFactory()
+        );
+        pool.prestartAllCoreThreads();
+        try {
+            var blockerStarted = new CountDownLatch(1);
+            var blocker = new CountDownLatch(1);
+            pool.execute(() -> {
+                blockerStarted.countDown();
+                try {
+                    blocker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            // otherwise the blocker might still be queued next to the big job
+            blockerStarted.await();
+
+            var executed = new ArrayList<String>();
+            try (var ignored = JobScheduler.enter(new JobId(), JobPriority.NORMAL, 4)) {
+                for (int i = 0; i < 10; i++) {
+                    pool.execute(() -> executed.add("big job"));
+                }
+            }
+            try (var ignored = JobScheduler.enter(new JobId(), JobPriority.HIGH, 1)) {
+                pool.execute(() -> executed.add("path query"));
+            }
+
+            blocker.countDown();
+            pool.shutdown();
+            assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(executed).hasSize(11).first().isEqualTo("path query");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void runAll(FairJobQueue queue) {
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            task.run();
+        }
+    }
+}
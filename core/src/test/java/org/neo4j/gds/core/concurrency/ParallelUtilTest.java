@@ -26,6 +26,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.function.ThrowingConsumer;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.AbstractCollection;
 import java.util.Arrays;
@@ -34,6 +35,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -43,10 +45,13 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
+import java.util.function.LongToIntFunction;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -206,6 +211,144 @@ final class ParallelUtilTest {
                 "batchSize too small to satisfy desired concurrency" + params);
     }
 
+    @ValueSource(ints = {1, 4})
+    @ParameterizedTest
+    void parallelForEachPartitionShouldVisitEachNodeOnce(int concurrency) {
+        int nodeCount = 100_000;
+        // a few hubs and many nodes with a single relationship
+        LongToIntFunction degrees = node -> node % 10_000 == 0 ? 100_000 : 1;
+        var visits = new AtomicIntegerArray(nodeCount);
+        var totalDegree = new LongAdder();
+
+        ParallelUtil.parallelForEachPartition(
+            nodeCount,
+            degrees,
+            concurrency,
+            Pools.DEFAULT,
+            partition -> () -> {
+                partition.consume(node -> visits.incrementAndGet((int) node));
+                totalDegree.add(partition.totalDegree());
+            }
+        );
+
+        for (int node = 0; node < nodeCount; node++) {
+            assertEquals(1, visits.get(node), "node " + node);
+        }
+        assertEquals(LongStream.range(0, nodeCount).map(degrees::applyAsInt).sum(), totalDegree.sum());
+    }
+
+    @Test
+    void parallelForEachPartitionShouldBalanceByDegree() {
+        int nodeCount = 100_000;
+        var partitionDegrees = new ConcurrentLinkedQueue<Long>();
+
+        ParallelUtil.parallelForEachPartition(
+            nodeCount,
+            node -> node < 100 ? 1_000 : 1,
+            4,
+            Pools.DEFAULT,
+            partition -> () -> partitionDegrees.add(partition.totalDegree() + partition.nodeCount())
+        );
+
+        // hubs are cut into small partitions, all others are about the default batch size
+        assertThat(partitionDegrees).allMatch(work -> work < 2L * ParallelUtil.DEFAULT_BATCH_SIZE);
+    }
+
+    @Test
+    void parallelForEachPartitionShouldRunOnGivenForkJoinPool() {
+        var pool = Pools.createForkJoinPool(2);
+        try {
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+            ParallelUtil.parallelForEachPartition(
+                100_000,
+                node -> 1,
+                2,
+                pool,
+                partition -> () -> threads.add(Thread.currentThread())
+            );
+
+            assertThat(threads).allMatch(thread -> thread instanceof ForkJoinWorkerThread &&
+                                                   ((ForkJoinWorkerThread) thread).getPool() == pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelForEachPartitionShouldHonorMinBatchSize() {
+        var partitionWork = new ConcurrentLinkedQueue<Long>();
+
+        ParallelUtil.parallelForEachPartition(
+            100_000,
+            node -> 1,
+            4,
+            50_000,
+            Pools.DEFAULT,
+            partition -> () -> partitionWork.add(partition.totalDegree() + partition.nodeCount())
+        );
+
+        assertThat(partitionWork).hasSize(4).containsOnly(50_000L);
+    }
+
+    @Test
+    void parallelForEachPartitionShouldRunAtMostConcurrencyTasksOnGivenExecutor() {
+        int concurrency = 2;
+        withPool(4, pool -> {
+            var threads = ConcurrentHashMap.<Thread>newKeySet();
+            var running = new AtomicInteger();
+            var maxRunning = new LongAccumulator(Math::max, 0);
+
+            ParallelUtil.parallelForEachPartition(
+                100_000,
+                node -> 1,
+                concurrency,
+                pool,
+                partition -> () -> {
+                    maxRunning.accumulate(running.incrementAndGet());
+                    threads.add(Thread.currentThread());
+                    LockSupport.parkNanos(100_000);
+                    running.decrementAndGet();
+                }
+            );
+
+            assertThat(maxRunning.get()).isLessThanOrEqualTo(concurrency);
+            assertThat(threads).noneMatch(thread -> thread instanceof ForkJoinWorkerThread);
+        });
+    }
+
+    @Test
+    void parallelForEachPartitionShouldFallBackToStaticPartitions() {
+        int nodeCount = 100_000;
+        var visits = new AtomicIntegerArray(nodeCount);
+
+        GdsFeatureToggles.USE_WORK_STEALING_SCHEDULER.disableAndRun(() -> ParallelUtil.parallelForEachPartition(
+            nodeCount,
+            node -> 1,
+            4,
+            Pools.DEFAULT,
+            partition -> () -> partition.consume(node -> visits.incrementAndGet((int) node))
+        ));
+
+        for (int node = 0; node < nodeCount; node++) {
+            assertEquals(1, visits.get(node), "node " + node);
+        }
+    }
+
+    @Test
+    void parallelForEachPartitionShouldPropagateExceptions() {
+        assertThatThrownBy(() -> ParallelUtil.parallelForEachPartition(
+            100_000,
+            node -> 1,
+            4,
+            Pools.DEFAULT,
+            partition -> () -> {
+                if (partition.startNode() > 50_000) {
+                    throw new IllegalStateException("failed partition");
+                }
+            }
+        )).hasMessageContaining("failed partition");
+    }
+
     @Test
     void shouldRunAtMostConcurrencyTasks() {
         int tasks = 6;
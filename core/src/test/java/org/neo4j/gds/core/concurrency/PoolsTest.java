@@ -20,10 +20,15 @@
 package org.neo4j.gds.core.concurrency;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.concurrent.ThreadPoolExecutor;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class PoolsTest {
 
@@ -35,4 +40,27 @@ class PoolsTest {
         assertEquals(4, defaultPool.getMaximumPoolSize());
     }
 
+    @Test
+    void ioShouldFallBackToDefaultPoolWhenVirtualThreadsAreDisabled() {
+        GdsFeatureToggles.USE_VIRTUAL_THREADS_FOR_IO.disableAndRun(
+            () -> assertThat(Pools.io()).isSameAs(Pools.DEFAULT)
+        );
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void ioShouldUseDefaultPoolBeforeJava21() {
+        assertThat(Pools.virtualThreadExecutor()).isEmpty();
+        assertThat(Pools.io()).isSameAs(Pools.DEFAULT);
+    }
+
+    @Test
+    void ioShouldRunTasksOnVirtualThreads() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads require Java 21");
+
+        var thread = Pools.io().submit(Thread::currentThread).get();
+
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+    }
+
 }
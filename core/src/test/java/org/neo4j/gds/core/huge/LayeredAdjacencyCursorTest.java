@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.huge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LayeredAdjacencyCursorTest {
+
+    private static final String GDL =
+        "  (a), (b), (c), (d), (e)" +
+        ", (a)-[:T1 {w: 1.0}]->(b)" +
+        ", (a)-[:T1 {w: 2.0}]->(d)" +
+        ", (a)-[:T2 {w: 3.0}]->(c)" +
+        ", (a)-[:T2 {w: 4.0}]->(d)" +
+        ", (a)-[:T2 {w: 5.0}]->(e)" +
+        ", (b)-[:T2 {w: 6.0}]->(a)";
+
+    private CSRGraphStore graphStore;
+    private LayeredAdjacencyList adjacencyList;
+
+    @BeforeEach
+    void setup() {
+        graphStore = GdlFactory.of(GDL).build();
+        adjacencyList = LayeredAdjacencyList.of(
+            graphStore.relationships(RelationshipType.of("T1")).topology().adjacencyList(),
+            graphStore.relationships(RelationshipType.of("T2")).topology().adjacencyList(),
+            false,
+            graphStore.relationships(RelationshipType.of("T1")).topology().elementCount()
+        );
+    }
+
+    @Test
+    void shouldMergeLayersInOrder() {
+        assertThat(adjacencyList.degree(0)).isEqualTo(5);
+        assertThat(targets(adjacencyList.adjacencyCursor(0))).containsExactly(1L, 2L, 3L, 3L, 4L);
+        assertThat(targets(adjacencyList.adjacencyCursor(1))).containsExactly(0L);
+        assertThat(targets(adjacencyList.adjacencyCursor(2))).isEmpty();
+    }
+
+    @Test
+    void shouldTrackSizeAndRemaining() {
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.size()).isEqualTo(5);
+        assertThat(cursor.remaining()).isEqualTo(5);
+        assertThat(cursor.peekVLong()).isEqualTo(1L);
+        cursor.nextVLong();
+        assertThat(cursor.remaining()).isEqualTo(4);
+        assertThat(cursor.peekVLong()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldSkipUntilLargerValue() {
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.skipUntil(2)).isEqualTo(3L);
+        assertThat(cursor.nextVLong()).isEqualTo(3L);
+        assertThat(cursor.skipUntil(3)).isEqualTo(4L);
+        assertThat(cursor.hasNextVLong()).isFalse();
+        assertThat(cursor.skipUntil(4)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+    }
+
+    @Test
+    void shouldAdvanceUntilEqualValue() {
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.advance(3)).isEqualTo(3L);
+        assertThat(cursor.nextVLong()).isEqualTo(3L);
+        assertThat(cursor.advance(5)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+        assertThat(cursor.hasNextVLong()).isFalse();
+    }
+
+    @Test
+    void shouldAdvanceBy() {
+        var cursor = adjacencyList.adjacencyCursor(0);
+        assertThat(cursor.advanceBy(2)).isEqualTo(3L);
+        assertThat(cursor.remaining()).isEqualTo(2);
+        assertThat(cursor.advanceBy(2)).isEqualTo(AdjacencyCursor.NOT_FOUND);
+    }
+
+    @Test
+    void shouldReuseCursor() {
+        var cursor = adjacencyList.rawAdjacencyCursor();
+        assertThat(cursor.hasNextVLong()).isFalse();
+
+        var reused = adjacencyList.adjacencyCursor(cursor, 0);
+        assertThat(reused).isSameAs(cursor);
+        assertThat(targets(reused)).containsExactly(1L, 2L, 3L, 3L, 4L);
+
+        reused = adjacencyList.adjacencyCursor(reused, 1);
+        assertThat(reused).isSameAs(cursor);
+        assertThat(targets(reused)).containsExactly(0L);
+    }
+
+    @Test
+    void shouldCreateIndependentShallowCopy() {
+        var cursor = adjacencyList.adjacencyCursor(0);
+        cursor.nextVLong();
+        var copy = cursor.shallowCopy(null);
+        assertThat(targets(cursor)).containsExactly(2L, 3L, 3L, 4L);
+        assertThat(targets(copy)).containsExactly(2L, 3L, 3L, 4L);
+    }
+
+    @Test
+    void shouldAddLayersOnTop() {
+        var threeLayers = LayeredAdjacencyList.of(
+            adjacencyList,
+            graphStore.relationships(RelationshipType.of("T1")).topology().adjacencyList(),
+            true,
+            0
+        );
+        assertThat(threeLayers.layerCount()).isEqualTo(3);
+        assertThat(threeLayers.baseIsMultiGraph()).isFalse();
+        assertThat(threeLayers.baseElementCount()).isEqualTo(adjacencyList.baseElementCount());
+        assertThat(targets(threeLayers.adjacencyCursor(0))).containsExactly(1L, 1L, 2L, 3L, 3L, 3L, 4L);
+
+        var rebased = threeLayers.rebase(2, AdjacencyList.EMPTY, 0);
+        assertThat(rebased).isInstanceOf(LayeredAdjacencyList.class);
+        assertThat(targets(rebased.adjacencyCursor(0))).containsExactly(1L, 3L);
+        assertThat(threeLayers.rebase(3, AdjacencyList.EMPTY, 0)).isSameAs(AdjacencyList.EMPTY);
+    }
+
+    @Test
+    void shouldMergePropertiesInTargetOrder() {
+        var t1 = graphStore.relationships(RelationshipType.of("T1"));
+        var t2 = graphStore.relationships(RelationshipType.of("T2"));
+        var properties = LayeredAdjacencyProperties.of(
+            t1.topology().adjacencyList(),
+            t1.properties().orElseThrow().get("w").values().propertiesList(),
+            t2.topology().adjacencyList(),
+            t2.properties().orElseThrow().get("w").values().propertiesList()
+        );
+
+        // ties are resolved in favour of the lower layer, just like in the adjacency cursor
+        assertThat(values(properties.propertyCursor(0))).containsExactly(1.0, 3.0, 2.0, 4.0, 5.0);
+
+        var reused = properties.propertyCursor(properties.rawPropertyCursor(), 1, Double.NaN);
+        assertThat(values(reused)).containsExactly(6.0);
+    }
+
+    private static List<Long> targets(AdjacencyCursor cursor) {
+        var targets = new ArrayList<Long>();
+        while (cursor.hasNextVLong()) {
+            targets.add(cursor.nextVLong());
+        }
+        return targets;
+    }
+
+    private static List<Double> values(PropertyCursor cursor) {
+        var values = new ArrayList<Double>();
+        while (cursor.hasNextLong()) {
+            values.add(Double.longBitsToDouble(cursor.nextLong()));
+        }
+        return values;
+    }
+}
@@ -241,6 +241,39 @@ class CSRGraphStoreTest {
             .containsExactlyInAnyOrder(NodeLabel.of("B"), NodeLabel.of("C"));
     }
 
+    @Test
+    void shouldReuseFilteredIdMapsUntilMutation() {
+        var graphStore = GdlFactory.of("(:A)-[:T]->(:A), (:B)-[:T]->(:A)").build();
+        var labels = Set.of(NodeLabel.of("A"));
+        var types = List.of(RelationshipType.of("T"));
+
+        var first = graphStore.getGraph(labels, types, Optional.empty());
+        var second = graphStore.getGraph(labels, types, Optional.empty());
+
+        assertThat(second).isNotSameAs(first);
+        assertGraphEquals(first, second);
+        assertThat(graphStore.filteredIdMapCache().hitCount()).isEqualTo(1);
+        assertThat(graphStore.filteredIdMapCache().missCount()).isEqualTo(1);
+
+        graphStore.addNodeLabel(NodeLabel.of("C"));
+        assertThat(graphStore.filteredIdMapCache().size()).isZero();
+
+        graphStore.getGraph(labels, types, Optional.empty());
+        assertThat(graphStore.filteredIdMapCache().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDropFilteredIdMapsOnRelease() {
+        var graphStore = GdlFactory.of("(:A)-[:T]->(:A), (:B)-[:T]->(:A)").build();
+        graphStore.getGraph(Set.of(NodeLabel.of("A")), List.of(RelationshipType.of("T")), Optional.empty());
+        assertThat(graphStore.filteredIdMapCache().sizeInBytes()).isPositive();
+
+        graphStore.release();
+
+        assertThat(graphStore.filteredIdMapCache().size()).isZero();
+        assertThat(graphStore.filteredIdMapCache().sizeInBytes()).isZero();
+    }
+
     @Test
     void shouldAddNewGraphProperties() {
         var factory = GdlFactory.of("(:A), (:A), (:B), (:C)");
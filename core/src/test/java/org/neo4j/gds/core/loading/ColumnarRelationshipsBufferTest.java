@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.compress.AdjacencyCompressor;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.huge.DirectIdMap;
+import org.neo4j.gds.core.huge.HugeGraph;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.ImmutablePropertyConfig;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.SeededRandom.newRandom;
+
+class ColumnarRelationshipsBufferTest {
+
+    private static final int NODE_COUNT = 10_000;
+    private static final int RELATIONSHIP_COUNT = 100_000;
+
+    static Stream<Arguments> projections() {
+        return Stream.of(
+            Arguments.of(Orientation.NATURAL, false, false, Aggregation.NONE),
+            Arguments.of(Orientation.NATURAL, true, false, Aggregation.NONE),
+            Arguments.of(Orientation.NATURAL, true, true, Aggregation.NONE),
+            Arguments.of(Orientation.NATURAL, false, true, Aggregation.MAX),
+            Arguments.of(Orientation.REVERSE, false, true, Aggregation.NONE),
+            Arguments.of(Orientation.UNDIRECTED, false, false, Aggregation.SINGLE),
+            Arguments.of(Orientation.UNDIRECTED, false, true, Aggregation.SUM)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}, indexInverse: {1}, property: {2}, aggregation: {3}")
+    @MethodSource("projections")
+    void shouldBuildTheSameGraphAsTheAdjacencyBuffer(
+        Orientation orientation,
+        boolean indexInverse,
+        boolean withProperty,
+        Aggregation aggregation
+    ) {
+        var relationships = randomRelationships();
+        // a mapper that is not monotonic, like the one of cypher aggregations
+        AdjacencyCompressor.ValueMapper mapper = nodeId -> NODE_COUNT - 1 - nodeId;
+
+        var graphs = new HugeGraph[2];
+        GdsFeatureToggles.USE_RADIX_SORT_RELATIONSHIP_IMPORT.disableAndRun(() ->
+            graphs[0] = build(relationships, orientation, indexInverse, withProperty, aggregation, mapper)
+        );
+        GdsFeatureToggles.USE_RADIX_SORT_RELATIONSHIP_IMPORT.enableAndRun(() ->
+            graphs[1] = build(relationships, orientation, indexInverse, withProperty, aggregation, mapper)
+        );
+        var expected = graphs[0];
+        var actual = graphs[1];
+
+        assertThat(actual.relationshipCount()).isEqualTo(expected.relationshipCount());
+        for (long node = 0; node < NODE_COUNT; node++) {
+            assertThat(adjacency(actual, node, false))
+                .as("relationships of node %d", node)
+                .containsExactlyElementsOf(adjacency(expected, node, false));
+            if (indexInverse) {
+                assertThat(adjacency(actual, node, true))
+                    .as("inverse relationships of node %d", node)
+                    .containsExactlyElementsOf(adjacency(expected, node, true));
+            }
+        }
+    }
+
+    @Test
+    void shouldBuildEmptyGraph() {
+        GdsFeatureToggles.USE_RADIX_SORT_RELATIONSHIP_IMPORT.enableAndRun(() -> {
+            var relationshipsBuilder = GraphFactory.initRelationshipsBuilder()
+                .nodes(new DirectIdMap(NODE_COUNT))
+                .relationshipType(RelationshipType.of("REL"))
+                .concurrency(4)
+                .build();
+
+            var graph = GraphFactory.create(new DirectIdMap(NODE_COUNT), relationshipsBuilder.build());
+
+            assertThat(graph.relationshipCount()).isZero();
+            assertThat(graph.degree(42)).isZero();
+        });
+    }
+
+    private static long[][] randomRelationships() {
+        var random = newRandom().random();
+        var relationships = new long[RELATIONSHIP_COUNT][];
+        for (int i = 0; i < RELATIONSHIP_COUNT; i++) {
+            // skewed sources, so that some nodes have a high degree
+            long source = (long) (NODE_COUNT * Math.pow(random.nextDouble(), 3));
+            long target = random.nextInt(NODE_COUNT);
+            relationships[i] = new long[]{source, target, random.nextInt(100)};
+        }
+        return relationships;
+    }
+
+    private static HugeGraph build(
+        long[][] relationships,
+        Orientation orientation,
+        boolean indexInverse,
+        boolean withProperty,
+        Aggregation aggregation,
+        AdjacencyCompressor.ValueMapper mapper
+    ) {
+        var idMap = new DirectIdMap(NODE_COUNT);
+        var builder = GraphFactory.initRelationshipsBuilder()
+            .nodes(idMap)
+            .relationshipType(RelationshipType.of("REL"))
+            .orientation(orientation)
+            .indexInverse(indexInverse)
+            .aggregation(aggregation)
+            .concurrency(4);
+        if (withProperty) {
+            builder.addPropertyConfig(ImmutablePropertyConfig.builder().propertyKey("weight").aggregation(aggregation).build());
+        }
+        var relationshipsBuilder = builder.build();
+
+        IntStream.range(0, 4).parallel().forEach(thread -> {
+            for (int i = thread; i < relationships.length; i += 4) {
+                var relationship = relationships[i];
+                if (withProperty) {
+                    relationshipsBuilder.addFromInternal(relationship[0], relationship[1], relationship[2]);
+                } else {
+                    relationshipsBuilder.addFromInternal(relationship[0], relationship[1]);
+                }
+            }
+        });
+
+        return GraphFactory.create(idMap, relationshipsBuilder.build(Optional.of(mapper), Optional.empty()));
+    }
+
+    private static List<String> adjacency(HugeGraph graph, long node, boolean inverse) {
+        var adjacency = new ArrayList<String>();
+        if (inverse) {
+            graph.forEachInverseRelationship(node, Double.NaN, (source, target, property) -> {
+                adjacency.add(target + ":" + property);
+                return true;
+            });
+        } else {
+            graph.forEachRelationship(node, Double.NaN, (source, target, property) -> {
+                adjacency.add(target + ":" + property);
+                return true;
+            });
+        }
+        adjacency.sort(null);
+        return adjacency;
+    }
+}
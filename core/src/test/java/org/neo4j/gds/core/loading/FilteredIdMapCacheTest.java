@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FilteredIdMapCacheTest {
+
+    private static final NodeLabel A = NodeLabel.of("A");
+    private static final NodeLabel B = NodeLabel.of("B");
+    private static final NodeLabel C = NodeLabel.of("C");
+
+    private final IdMap idMap = GdlFactory.of("(:A), (:A), (:B), (:B:C), (:C)").build().nodes();
+
+    @Test
+    void shouldReuseFilteredIdMapForSameLabels() {
+        var cache = cache(Long.MAX_VALUE);
+        var builds = new AtomicInteger();
+
+        var first = cache.get(idMap, List.of(A, B), filter(builds, A, B));
+        var second = cache.get(idMap, List.of(B, A), filter(builds, B, A));
+
+        assertThat(first).isPresent();
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(builds).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.hitRate()).isEqualTo(0.5);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.sizeInBytes()).isEqualTo(FilteredIdMapCache.estimateSizeInBytes(idMap, first.get()));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntry() {
+        var budget = 2 * FilteredIdMapCache.estimateSizeInBytes(idMap, idMap.withFilteredLabels(List.of(A), 1).get());
+        var cache = cache(budget);
+        var builds = new AtomicInteger();
+
+        cache.get(idMap, List.of(A), filter(builds, A));
+        cache.get(idMap, List.of(B), filter(builds, B));
+        // touch A, so that B is the least recently used entry
+        cache.get(idMap, List.of(A), filter(builds, A));
+        cache.get(idMap, List.of(C), filter(builds, C));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+        assertThat(builds).hasValue(3);
+
+        cache.get(idMap, List.of(A), filter(builds, A));
+        assertThat(builds).hasValue(3);
+        cache.get(idMap, List.of(B), filter(builds, B));
+        assertThat(builds).hasValue(4);
+    }
+
+    @Test
+    void shouldNotCacheWithZeroBudget() {
+        var cache = cache(0);
+        var builds = new AtomicInteger();
+
+        cache.get(idMap, List.of(A), filter(builds, A));
+        cache.get(idMap, List.of(A), filter(builds, A));
+
+        assertThat(builds).hasValue(2);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hitRate()).isZero();
+    }
+
+    @Test
+    void shouldShareBudgetBetweenCaches() {
+        var entrySize = FilteredIdMapCache.estimateSizeInBytes(idMap, idMap.withFilteredLabels(List.of(A), 1).get());
+        var budget = new FilteredIdMapCache.Budget(new AtomicLong(entrySize));
+        var first = new FilteredIdMapCache(budget);
+        var second = new FilteredIdMapCache(budget);
+        var builds = new AtomicInteger();
+
+        first.get(idMap, List.of(A), filter(builds, A));
+        second.get(idMap, List.of(B), filter(builds, B));
+
+        assertThat(budget.usedInBytes()).isEqualTo(entrySize);
+        assertThat(first.size()).isEqualTo(1);
+        // a cache must not evict entries of another cache
+        assertThat(second.size()).isZero();
+        assertThat(second.evictionCount()).isZero();
+
+        first.invalidate();
+        assertThat(budget.usedInBytes()).isZero();
+
+        second.get(idMap, List.of(B), filter(builds, B));
+        assertThat(second.size()).isEqualTo(1);
+        assertThat(budget.usedInBytes()).isEqualTo(entrySize);
+    }
+
+    @Test
+    void shouldDropEntriesOnInvalidate() {
+        var cache = cache(Long.MAX_VALUE);
+        var builds = new AtomicInteger();
+
+        cache.get(idMap, List.of(A), filter(builds, A));
+        cache.invalidate();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.sizeInBytes()).isZero();
+
+        cache.get(idMap, List.of(A), filter(builds, A));
+        assertThat(builds).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheIdMapsBuiltDuringInvalidation() {
+        var cache = cache(Long.MAX_VALUE);
+
+        cache.get(idMap, List.of(A), () -> {
+            var filtered = idMap.withFilteredLabels(List.of(A), 1);
+            cache.invalidate();
+            return filtered;
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldRebuildWhenNodesAreAddedToLabel() {
+        var nodes = GdlFactory.of("(:A), (:A), (:B), (:B:C), (:C)").build().nodes();
+        var cache = cache(Long.MAX_VALUE);
+
+        var before = cache.get(nodes, List.of(A), () -> nodes.withFilteredLabels(List.of(A), 1));
+        nodes.addNodeIdToLabel(4, A);
+        var after = cache.get(nodes, List.of(A), () -> nodes.withFilteredLabels(List.of(A), 1));
+
+        assertThat(before.get().nodeCount()).isEqualTo(2);
+        assertThat(after.get().nodeCount()).isEqualTo(3);
+        assertThat(cache.hitCount()).isZero();
+    }
+
+    @Test
+    void shouldLetIdMapReportUnknownLabels() {
+        var cache = cache(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> cache.get(
+            idMap,
+            List.of(NodeLabel.of("X")),
+            () -> idMap.withFilteredLabels(List.of(NodeLabel.of("X")), 1)
+        )).isInstanceOf(IllegalArgumentException.class);
+        assertThat(cache.missCount()).isZero();
+    }
+
+    private static FilteredIdMapCache cache(long budgetInBytes) {
+        return new FilteredIdMapCache(new FilteredIdMapCache.Budget(new AtomicLong(budgetInBytes)));
+    }
+
+    private Supplier<Optional<FilteredIdMap>> filter(AtomicInteger builds, NodeLabel... labels) {
+        return () -> {
+            builds.incrementAndGet();
+            return idMap.withFilteredLabels(List.of(labels), 1);
+        };
+    }
+}
@@ -436,4 +436,46 @@ class GraphStoreCatalogTest {
             ))
             .withMessage("Graph with name `myGraph` does not exist on database `mydatabase`. It might exist on another database.");
     }
+
+    @Test
+    void shouldStoreIndicesAlongsideTheGraph() {
+        var index = new Object();
+
+        assertThatThrownBy(() -> GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cannot set index `index` because graph graph does not exist");
+
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", index);
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", Object.class))
+            .containsSame(index);
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "other", Object.class))
+            .isEmpty();
+        assertThatThrownBy(() -> GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", String.class))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Index `index` on graph `graph` is of type `Object`, expected `String`");
+
+        GraphStoreCatalog.remove(
+            CatalogRequest.of(USER_NAME, DATABASE_ID),
+            GRAPH_NAME,
+            graphStoreWithConfig -> {},
+            true
+        );
+        GraphStoreCatalog.set(CONFIG, graphStore);
+
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", Object.class))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldRemoveIndex() {
+        GraphStoreCatalog.set(CONFIG, graphStore);
+        GraphStoreCatalog.setIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", new Object());
+
+        assertTrue(GraphStoreCatalog.removeIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index"));
+        assertFalse(GraphStoreCatalog.removeIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index"));
+        assertThat(GraphStoreCatalog.getIndex(USER_NAME, DATABASE_ID, GRAPH_NAME, "index", Object.class))
+            .isEmpty();
+    }
 }
@@ -233,7 +233,7 @@ class MultiLabelInformationTest {
     }
 
     @Test
-    void shouldHaveCorrectUnionBitSet() {
+    void shouldHaveCorrectUnionBitmap() {
         var builder = MultiLabelInformation.Builder.of(1, List.of(NodeLabel.of("A"), NodeLabel.of("B")), List.of());
         builder.addNodeIdToLabel(NodeLabel.of("A"), 1L);
         builder.addNodeIdToLabel(NodeLabel.of("B"), 2L);
@@ -242,12 +242,13 @@ class MultiLabelInformationTest {
 
         var labelInformation = builder.build(3, LongUnaryOperator.identity());
 
-        var unionBitSet = labelInformation.unionBitSet(List.of(NodeLabel.of("C"), NodeLabel.of("A")), 4);
+        var unionBitmap = labelInformation.unionBitmap(List.of(NodeLabel.of("C"), NodeLabel.of("A")));
 
-        assertThat(unionBitSet.get(1)).isTrue();
-        assertThat(unionBitSet.get(2)).isFalse();
-        assertThat(unionBitSet.get(3)).isFalse();
-        assertThat(unionBitSet.get(4)).isTrue();
+        assertThat(unionBitmap.contains(1)).isTrue();
+        assertThat(unionBitmap.contains(2)).isFalse();
+        assertThat(unionBitmap.contains(3)).isFalse();
+        assertThat(unionBitmap.contains(4)).isTrue();
+        assertThat(unionBitmap.cardinality()).isEqualTo(2);
     }
 
     @Test
@@ -304,14 +305,12 @@ class MultiLabelInformationTest {
 
         var nodeIterator = labelInformation.nodeIterator(List.of(NodeLabel.of("A"), NodeLabel.of("C")), 4);
 
-        assertThat(nodeIterator)
-            .isNotNull()
-            .isInstanceOf(BatchNodeIterable.BitSetIdIterator.class);
+        assertThat(nodeIterator).isNotNull();
 
-        var idCounter = new LongAdder();
-        nodeIterator.forEachRemaining((LongConsumer) __ -> idCounter.increment());
+        var nodeIds = LongStream.builder();
+        nodeIterator.forEachRemaining((LongConsumer) nodeIds::add);
 
-        assertThat(idCounter.longValue()).isEqualTo(3L);
+        assertThat(nodeIds.build().toArray()).containsExactly(1L, 3L, 4L);
     }
 
     @Test
@@ -34,6 +34,7 @@ import org.neo4j.gds.core.utils.mem.MemoryTree;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NativeFactoryTest {
 
@@ -138,4 +139,53 @@ class NativeFactoryTest {
         assertEquals(12_056_534_400L, estimate.memoryUsage().min);
         assertEquals(13_667_147_136L, estimate.memoryUsage().max);
     }
+
+    @Test
+    void memoryEstimationForReorderedProjection() {
+        GraphDimensions dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(100_000_000L)
+            .putRelationshipCount(RelationshipType.of("TYPE1"), 250_000_000L)
+            .build();
+
+        NodeProjections nodeProjections = NodeProjections.all();
+        RelationshipProjections relationshipProjections = ImmutableRelationshipProjections
+            .builder()
+            .putProjection(RelationshipType.of("TYPE1"), RelationshipProjection.of("TYPE1", Orientation.NATURAL))
+            .build();
+
+        var afterLoading = NativeFactory
+            .getMemoryEstimation(nodeProjections, relationshipProjections, false)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var natural = NativeFactory
+            .getMemoryEstimation(
+                nodeProjections,
+                relationshipProjections,
+                true,
+                AdjacencyListEncoding.DEFAULT,
+                NodeOrdering.NATURAL
+            )
+            .estimate(dimensions, 1)
+            .memoryUsage();
+        var reordered = NativeFactory
+            .getMemoryEstimation(
+                nodeProjections,
+                relationshipProjections,
+                true,
+                AdjacencyListEncoding.DEFAULT,
+                NodeOrdering.RABBIT
+            )
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        var loading = NativeFactory
+            .getMemoryEstimation(nodeProjections, relationshipProjections, true)
+            .estimate(dimensions, 1)
+            .memoryUsage();
+
+        assertEquals(loading, natural);
+        assertTrue(reordered.min > 2 * afterLoading.min);
+        assertTrue(reordered.max > 2 * afterLoading.max);
+        assertTrue(reordered.min > natural.min);
+    }
 }
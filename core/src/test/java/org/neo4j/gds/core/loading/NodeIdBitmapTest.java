@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NodeIdBitmapTest {
+
+    private static final long SHARD_SIZE = 1L << 32;
+
+    @Test
+    void shouldAddAndContainNodeIds() {
+        var bitmap = NodeIdBitmap.empty();
+        assertThat(bitmap.isEmpty()).isTrue();
+
+        bitmap.add(42);
+        bitmap.add(0xFFFF_FFFFL);
+        bitmap.add(SHARD_SIZE + 7);
+
+        assertThat(bitmap.isEmpty()).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+        assertThat(bitmap.contains(42)).isTrue();
+        assertThat(bitmap.contains(0xFFFF_FFFFL)).isTrue();
+        assertThat(bitmap.contains(SHARD_SIZE + 7)).isTrue();
+        assertThat(bitmap.contains(7)).isFalse();
+        assertThat(bitmap.contains(-1)).isFalse();
+        assertThat(bitmap.contains(3 * SHARD_SIZE)).isFalse();
+    }
+
+    @Test
+    void shouldIterateInAscendingOrder() {
+        var bitmap = NodeIdBitmap.empty();
+        bitmap.add(SHARD_SIZE + 1);
+        bitmap.add(0x8000_0000L);
+        bitmap.add(3);
+
+        var iterated = LongStream.builder();
+        bitmap.iterator().forEachRemaining((long nodeId) -> iterated.add(nodeId));
+        var consumed = LongStream.builder();
+        bitmap.forEach(consumed::add);
+
+        assertThat(iterated.build().toArray()).containsExactly(3, 0x8000_0000L, SHARD_SIZE + 1);
+        assertThat(consumed.build().toArray()).containsExactly(3, 0x8000_0000L, SHARD_SIZE + 1);
+    }
+
+    @Test
+    void shouldCreateRanges() {
+        var bitmap = NodeIdBitmap.range(10, 1_000_010);
+
+        assertThat(bitmap.cardinality()).isEqualTo(1_000_000);
+        assertThat(bitmap.contains(9)).isFalse();
+        assertThat(bitmap.contains(10)).isTrue();
+        assertThat(bitmap.contains(1_000_009)).isTrue();
+        assertThat(bitmap.contains(1_000_010)).isFalse();
+
+        bitmap.optimize();
+        // a single run instead of one bit per node
+        assertThat(bitmap.sizeInBytes()).isLessThan(1_000);
+
+        var crossingShards = NodeIdBitmap.range(SHARD_SIZE - 2, SHARD_SIZE + 2);
+        assertThat(crossingShards.cardinality()).isEqualTo(4);
+        assertThat(crossingShards.contains(SHARD_SIZE - 1)).isTrue();
+        assertThat(crossingShards.contains(SHARD_SIZE)).isTrue();
+
+        assertThat(NodeIdBitmap.range(5, 5).isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldComputeUnionAndIntersection() {
+        var evens = NodeIdBitmap.empty();
+        var multiplesOfThree = NodeIdBitmap.empty();
+        for (long nodeId = 0; nodeId < 100; nodeId++) {
+            if (nodeId % 2 == 0) {
+                evens.add(nodeId);
+            }
+            if (nodeId % 3 == 0) {
+                multiplesOfThree.add(nodeId);
+            }
+        }
+        multiplesOfThree.add(SHARD_SIZE);
+
+        var union = NodeIdBitmap.union(List.of(evens, multiplesOfThree));
+        var intersection = NodeIdBitmap.intersection(List.of(evens, multiplesOfThree));
+
+        assertThat(union.cardinality()).isEqualTo(50 + 34 - 17 + 1);
+        assertThat(union.contains(SHARD_SIZE)).isTrue();
+        assertThat(intersection.cardinality()).isEqualTo(17);
+        assertThat(intersection.contains(6)).isTrue();
+        assertThat(intersection.contains(4)).isFalse();
+        assertThat(intersection.contains(SHARD_SIZE)).isFalse();
+
+        // the inputs are not modified
+        assertThat(evens.cardinality()).isEqualTo(50);
+        assertThat(multiplesOfThree.cardinality()).isEqualTo(35);
+    }
+
+    @Test
+    void shouldBeMuchSmallerThanBitSetForSparseLabels() {
+        var bitmap = NodeIdBitmap.empty();
+        for (long nodeId = 0; nodeId < 100_000_000L; nodeId += 100_000) {
+            bitmap.add(nodeId);
+        }
+        bitmap.optimize();
+
+        assertThat(bitmap.cardinality()).isEqualTo(1_000);
+        // an uncompressed bit set would need 12.5 MB
+        assertThat(bitmap.sizeInBytes()).isLessThan(100_000);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.properties.nodes.DoubleNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.values.storable.Value;
+import org.neo4j.values.storable.Values;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NodePropertyCompactionTest {
+
+    private static final String GDL =
+        "  (a:A {small: 1, large: 10000000000L, int: 100000, double: 1.5, longs: [1L, 2L], doubles: [1.0, 2.0]})" +
+        ", (b:A {small: -3, large: -1, int: -100000, double: 2.5, longs: [3L], doubles: [3.0]})" +
+        ", (c:B {small: 42, large: 7, int: 0, double: 3.5, longs: [4L, 5L, 6L], doubles: [4.0]})";
+
+    @Test
+    void shouldCompactAllNodeProperties() {
+        var graphStore = GdlFactory.of(GDL).build();
+        long nodeCount = graphStore.nodeCount();
+
+        var expected = new HashMap<String, Object[]>();
+        for (String propertyKey : graphStore.nodePropertyKeys()) {
+            var values = graphStore.nodeProperty(propertyKey).values();
+            var objects = new Object[(int) nodeCount];
+            for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+                objects[nodeId] = values.getObject(nodeId);
+            }
+            expected.put(propertyKey, objects);
+        }
+        var schemaBefore = graphStore.schema().nodeSchema().toMap();
+        var stateBefore = graphStore.nodeProperty("small").propertyState();
+
+        var result = NodePropertyCompaction.compact(graphStore, 4, Pools.DEFAULT);
+
+        assertThat(result.compactedProperties())
+            .containsExactlyInAnyOrder("small", "large", "int", "double", "longs", "doubles");
+        assertThat(graphStore.schema().nodeSchema().toMap()).isEqualTo(schemaBefore);
+        assertThat(graphStore.nodeProperty("small").propertyState()).isEqualTo(stateBefore);
+
+        expected.forEach((propertyKey, objects) -> {
+            var values = graphStore.nodeProperty(propertyKey).values();
+            for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+                assertThat(values.getObject(nodeId)).as(propertyKey).isEqualTo(objects[nodeId]);
+            }
+        });
+        assertThat(graphStore.nodeProperty("large").values().getMaxLongPropertyValue()).hasValue(10000000000L);
+        assertThat(graphStore.nodeProperty("small").values().getMaxLongPropertyValue()).hasValue(42L);
+    }
+
+    @Test
+    void shouldSkipCompactedProperties() {
+        var graphStore = GdlFactory.of(GDL).build();
+
+        NodePropertyCompaction.compact(graphStore, 1, Pools.DEFAULT);
+        var result = NodePropertyCompaction.compact(graphStore, 1, Pools.DEFAULT);
+
+        assertThat(result.compactedProperties()).isEmpty();
+    }
+
+    @Test
+    void shouldReportSizesOfTheReplacedAndTheCompactedArrays() {
+        var graphStore = GdlFactory.of(GDL).build();
+        NodePropertyCompaction.compact(graphStore, 1, Pools.DEFAULT);
+        var algorithmResult = new long[1_000_000];
+        algorithmResult[2] = 1337;
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "mutated", new LongNodePropertyValues() {
+            @Override
+            public long longValue(long nodeId) {
+                return algorithmResult[(int) nodeId];
+            }
+
+            @Override
+            public long nodeCount() {
+                return 3;
+            }
+        });
+
+        var result = NodePropertyCompaction.compact(graphStore, 1, Pools.DEFAULT);
+
+        assertThat(result.compactedProperties()).containsExactly("mutated");
+        assertThat(graphStore.nodeProperty("mutated").values().longValue(2)).isEqualTo(1337L);
+        assertThat(result.bytesBefore()).isEqualTo(HugeLongArray.memoryEstimation(3));
+        assertThat(result.bytesAfter()).isEqualTo(HugeIntArray.memoryEstimation(3));
+        assertThat(result.reclaimedBytes()).isEqualTo(result.bytesBefore() - result.bytesAfter());
+    }
+
+    @Test
+    void shouldKeepNodesWithoutValueMissing() {
+        var graphStore = GdlFactory.of(GDL).build();
+        // like the minCommunitySize filter, which keeps returning the community of filtered nodes
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "filtered", new LongNodePropertyValues() {
+            @Override
+            public long longValue(long nodeId) {
+                return nodeId;
+            }
+
+            @Override
+            public @Nullable Value value(long nodeId) {
+                return hasValue(nodeId) ? LongNodePropertyValues.super.value(nodeId) : null;
+            }
+
+            @Override
+            public boolean hasValue(long nodeId) {
+                return nodeId != 1;
+            }
+
+            @Override
+            public long nodeCount() {
+                return 3;
+            }
+        });
+
+        NodePropertyCompaction.compact(graphStore, 1, Pools.DEFAULT);
+
+        var values = graphStore.nodeProperty("filtered").values();
+        assertThat(values.hasValue(0)).isTrue();
+        assertThat(values.value(0)).isEqualTo(Values.longValue(0));
+        assertThat(values.hasValue(1)).isFalse();
+        assertThat(values.value(1)).isNull();
+        assertThat(values.hasValue(2)).isTrue();
+        assertThat(values.value(2)).isEqualTo(Values.longValue(2));
+        assertThat(graphStore.nodeProperty("small").values().hasValue(1)).isTrue();
+    }
+
+    @Test
+    void shouldNotReplaceValuesThatChangedInTheMeantime() {
+        var graphStore = GdlFactory.of(GDL).build();
+        var original = graphStore.nodeProperty("small").values();
+        var compacted = NodePropertyCompaction.compact(original, graphStore.nodeCount(), 1, Pools.DEFAULT);
+        var mutated = NodePropertyCompaction.compact(original, graphStore.nodeCount(), 1, Pools.DEFAULT);
+
+        assertThat(graphStore.replaceNodePropertyValues("small", original, mutated)).isTrue();
+        assertThat(graphStore.replaceNodePropertyValues("small", original, compacted)).isFalse();
+        assertThat(graphStore.nodeProperty("small").values()).isSameAs(mutated);
+        assertThat(graphStore.replaceNodePropertyValues("missing", original, compacted)).isFalse();
+    }
+
+    @Test
+    void shouldEstimateUncompactedProperties() {
+        var graphStore = GdlFactory.of(GDL).build();
+        NodePropertyCompaction.compact(graphStore, 1, Pools.DEFAULT);
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "mutated", new DoubleNodePropertyValues() {
+            @Override
+            public double doubleValue(long nodeId) {
+                return nodeId;
+            }
+
+            @Override
+            public long nodeCount() {
+                return 3;
+            }
+        });
+
+        var memoryTree = NodePropertyCompaction
+            .memoryEstimation(graphStore)
+            .estimate(GraphDimensions.of(graphStore.nodeCount()), 1);
+
+        assertThat(memoryTree.memoryUsage()).isEqualTo(MemoryRange.of(
+            HugeDoubleArray.memoryEstimation(3),
+            HugeDoubleArray.memoryEstimation(3) + HugeAtomicBitSet.memoryEstimation(3)
+        ));
+    }
+
+    @Test
+    void shouldNotReplaceValuesWithDifferentType() {
+        var graphStore = GdlFactory.of(GDL).build();
+        var values = graphStore.nodeProperty("small").values();
+
+        assertThatThrownBy(() -> graphStore.replaceNodePropertyValues(
+            "small",
+            values,
+            new DoubleNodePropertyValues() {
+                @Override
+                public double doubleValue(long nodeId) {
+                    return 0;
+                }
+
+                @Override
+                public long nodeCount() {
+                    return 3;
+                }
+            }
+        )).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Cannot replace node property small of type LONG with values of type DOUBLE");
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+class NodeReorderingTest {
+
+    private static final String GRAPH =
+        "  (a:A { p: 1, q: [1.0, 2.0] })" +
+        ", (b:B { p: 2, q: [3.0] })" +
+        ", (c:A:B { p: 3 })" +
+        ", (d:A { p: 4 })" +
+        ", (e:B { p: 5 })" +
+        ", (f:A { p: 6 })" +
+        ", (a)-[:T1 { w: 1.0 }]->(b)" +
+        ", (a)-[:T1 { w: 2.0 }]->(c)" +
+        ", (a)-[:T1 { w: 3.0 }]->(d)" +
+        ", (a)-[:T1 { w: 4.0 }]->(d)" +
+        ", (b)-[:T1 { w: 5.0 }]->(c)" +
+        ", (e)-[:T1 { w: 6.0 }]->(f)" +
+        ", (f)-[:T2]->(a)" +
+        ", (d)-[:T2]->(d)";
+
+    @ParameterizedTest
+    @EnumSource(NodeOrdering.class)
+    void shouldPreserveGraphUnderReordering(NodeOrdering nodeOrdering) {
+        for (var orientation : Orientation.values()) {
+            var graphStore = graphStore(orientation);
+            var reorderedGraphStore = reorder(graphStore, nodeOrdering);
+
+            assertThat(reorderedGraphStore.nodeCount()).isEqualTo(graphStore.nodeCount());
+            assertThat(reorderedGraphStore.relationshipCount()).isEqualTo(graphStore.relationshipCount());
+            assertGraphEquals(graphStore.getUnion(), reorderedGraphStore.getUnion());
+            for (var relationshipType : graphStore.relationshipTypes()) {
+                var propertyKey = relationshipType.name.equals("T1") ? Optional.of("w") : Optional.<String>empty();
+                assertGraphEquals(
+                    graphStore.getGraph(relationshipType, propertyKey),
+                    reorderedGraphStore.getGraph(relationshipType, propertyKey)
+                );
+                assertThat(reorderedGraphStore.relationships(relationshipType).inverseTopology().isPresent())
+                    .isEqualTo(graphStore.relationships(relationshipType).inverseTopology().isPresent());
+            }
+
+            var graph = graphStore.getUnion();
+            var reorderedGraph = reorderedGraphStore.getUnion();
+            graph.forEachNode(nodeId -> {
+                long reorderedId = reorderedGraph.toMappedNodeId(graph.toOriginalNodeId(nodeId));
+                assertThat(reorderedGraph.nodeLabels(reorderedId)).isEqualTo(graph.nodeLabels(nodeId));
+                assertThat(reorderedGraph.degree(reorderedId)).isEqualTo(graph.degree(nodeId));
+                return true;
+            });
+        }
+    }
+
+    @Test
+    void shouldOrderByDescendingDegree() {
+        var graphStore = graphStore(Orientation.NATURAL);
+        var reordered = reorder(graphStore, NodeOrdering.DEGREE).getUnion();
+
+        var degrees = LongStream
+            .range(0, reordered.nodeCount())
+            .map(reordered::degree)
+            .boxed()
+            .collect(Collectors.toList());
+
+        assertThat(degrees).isSortedAccordingTo((left, right) -> Long.compare(right, left));
+    }
+
+    @Test
+    void shouldNumberNeighboursConsecutivelyWithBfs() {
+        var graphStore = graphStore(Orientation.NATURAL);
+        var reordered = reorder(graphStore, NodeOrdering.BFS).getUnion();
+
+        // `a` has the highest degree and becomes the first root, followed by its neighbours
+        assertThat(reordered.toOriginalNodeId(0)).isEqualTo(graphStore.nodes().toOriginalNodeId(0));
+        var neighbours = new HashMap<Long, Long>();
+        reordered.forEachRelationship(0, (source, target) -> {
+            neighbours.put(target, target);
+            return true;
+        });
+        assertThat(neighbours.keySet()).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @ParameterizedTest
+    @EnumSource(NodeOrdering.class)
+    void shouldComputePermutation(NodeOrdering nodeOrdering) {
+        var graphStore = graphStore(Orientation.UNDIRECTED);
+        var adjacencyLists = graphStore
+            .relationshipTypes()
+            .stream()
+            .map(type -> graphStore.relationships(type).topology().adjacencyList())
+            .collect(Collectors.<AdjacencyList>toList());
+
+        var order = NodeReordering.order(nodeOrdering, graphStore.nodeCount(), adjacencyLists);
+
+        assertThat(order.toArray()).containsExactlyInAnyOrder(0L, 1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void shouldParseNodeOrdering() {
+        assertThat(NodeOrdering.parse("rabbit")).isEqualTo(NodeOrdering.RABBIT);
+        assertThat(NodeOrdering.parse("Degree")).isEqualTo(NodeOrdering.DEGREE);
+        assertThat(NodeOrdering.parse(NodeOrdering.BFS)).isEqualTo(NodeOrdering.BFS);
+        assertThat(NodeOrdering.toString(NodeOrdering.NATURAL)).isEqualTo("NATURAL");
+        assertThatThrownBy(() -> NodeOrdering.parse("random"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Node ordering `random` is not supported.");
+    }
+
+    private static CSRGraphStore graphStore(Orientation orientation) {
+        return GdlFactory.builder()
+            .graphProjectConfig(ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph(GRAPH)
+                .graphName("test")
+                .orientation(orientation)
+                .indexInverse(orientation == Orientation.NATURAL)
+                .build())
+            .build()
+            .build();
+    }
+
+    private static CSRGraphStore reorder(CSRGraphStore graphStore, NodeOrdering nodeOrdering) {
+        var nodePropertyStore = NodePropertyStore.builder();
+        graphStore.nodePropertyKeys().forEach(key -> nodePropertyStore.putProperty(key, graphStore.nodeProperty(key)));
+        var nodes = ImmutableNodes.of(
+            MutableNodeSchema.from(graphStore.schema().nodeSchema()),
+            graphStore.nodes(),
+            nodePropertyStore.build()
+        );
+
+        var importResults = new HashMap<RelationshipType, SingleTypeRelationships>();
+        graphStore.relationshipTypes().forEach(type -> importResults.put(type, graphStore.relationships(type)));
+
+        var reordered = NodeReordering.reorder(
+            nodes,
+            RelationshipImportResult.builder().importResults(importResults).build(),
+            nodeOrdering,
+            4,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        return new GraphStoreBuilder()
+            .databaseId(graphStore.databaseId())
+            .capabilities(graphStore.capabilities())
+            .schema(MutableGraphSchema.from(graphStore.schema()))
+            .nodes(reordered.nodes())
+            .relationshipImportResult(reordered.relationships())
+            .concurrency(4)
+            .build();
+    }
+}
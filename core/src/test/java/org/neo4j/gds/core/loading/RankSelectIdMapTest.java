@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.OpenGdsIdMapBehavior;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankSelectIdMapTest {
+
+    private static final NodeLabel EVEN = NodeLabel.of("Even");
+    private static final NodeLabel ODD = NodeLabel.of("Odd");
+
+    @Test
+    void shouldAssignMappedIdsInOriginalIdOrder() {
+        var idMap = build(new long[]{42, 7, 13, 0, 99}, 100, LabelInformationBuilders.allNodes());
+
+        assertThat(idMap).isInstanceOf(RankSelectIdMap.class);
+        assertThat(idMap.nodeCount()).isEqualTo(5);
+        assertThat(idMap.highestOriginalId()).isEqualTo(99);
+        assertThat(List.of(0L, 1L, 2L, 3L, 4L))
+            .map(idMap::toOriginalNodeId)
+            .containsExactly(0L, 7L, 13L, 42L, 99L);
+        assertThat(idMap.toMappedNodeId(42)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotFindIdsOutsideOfTheIdSpace() {
+        var idMap = build(new long[]{1, 2, 3}, 10, LabelInformationBuilders.allNodes());
+
+        assertThat(idMap.contains(-1)).isFalse();
+        assertThat(idMap.contains(5)).isFalse();
+        assertThat(idMap.contains(10)).isFalse();
+        assertThat(idMap.contains(1337)).isFalse();
+        assertThat(idMap.toMappedNodeId(-1)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.toMappedNodeId(5)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(idMap.toMappedNodeId(1337)).isEqualTo(IdMap.NOT_FOUND);
+    }
+
+    @Test
+    void shouldDeduplicateOriginalIds() {
+        var idMap = build(new long[]{1, 2, 2, 3, 1}, 10, LabelInformationBuilders.allNodes());
+
+        assertThat(idMap.nodeCount()).isEqualTo(3);
+        assertThat(idMap.toMappedNodeId(3)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFallBackToArrayIdMapForSparseIds() {
+        var idMap = build(new long[]{0, 10_000_000}, 10_000_001, LabelInformationBuilders.allNodes());
+
+        assertThat(idMap).isInstanceOf(ArrayIdMap.class);
+        assertThat(idMap.nodeCount()).isEqualTo(2);
+        assertThat(idMap.toOriginalNodeId(1)).isEqualTo(10_000_000);
+        assertThat(idMap.toMappedNodeId(10_000_000)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFilterByLabel() {
+        long nodeCount = 1000;
+        var originalIds = new long[(int) nodeCount];
+        var labelInformationBuilder = LabelInformationBuilders.multiLabelWithCapacity(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            originalIds[i] = i;
+            labelInformationBuilder.addNodeIdToLabel(i % 2 == 0 ? EVEN : ODD, i);
+        }
+        var idMap = build(originalIds, nodeCount, labelInformationBuilder);
+
+        var filteredIdMap = idMap.withFilteredLabels(List.of(ODD), 1).orElseThrow();
+
+        assertThat(filteredIdMap.nodeCount()).isEqualTo(nodeCount / 2);
+        assertThat(filteredIdMap.rootNodeCount()).hasValue(nodeCount);
+        assertThat(filteredIdMap.toOriginalNodeId(0)).isEqualTo(1);
+        assertThat(filteredIdMap.toOriginalNodeId(10)).isEqualTo(21);
+        assertThat(filteredIdMap.toMappedNodeId(21)).isEqualTo(10);
+        assertThat(filteredIdMap.toMappedNodeId(20)).isEqualTo(IdMap.NOT_FOUND);
+        assertThat(filteredIdMap.contains(20)).isFalse();
+        assertThat(filteredIdMap.containsRootNodeId(21)).isTrue();
+        assertThat(filteredIdMap.nodeLabels(10)).containsExactly(ODD);
+    }
+
+    @Test
+    void shouldPreferRankSelectForDenseIds() {
+        assertThat(RankSelectIdMap.isPreferred(100, 99)).isTrue();
+        assertThat(RankSelectIdMap.isPreferred(1_000_000, 10_000_000)).isTrue();
+        assertThat(RankSelectIdMap.isPreferred(1, 10_000_000)).isFalse();
+        assertThat(RankSelectIdMap.isPreferred(1_000, 100_000_000_000L)).isFalse();
+    }
+
+    @Test
+    void shouldComputeMemoryEstimation() {
+        GraphDimensions dimensions = ImmutableGraphDimensions
+            .builder()
+            .nodeCount(1_000_000L)
+            .highestPossibleNodeCount(1_000_000L)
+            .build();
+
+        var memoryUsage = RankSelectIdMap.memoryEstimation().estimate(dimensions, 1).memoryUsage();
+        var arrayIdMapMemoryUsage = ArrayIdMap.memoryEstimation().estimate(dimensions, 1).memoryUsage();
+
+        assertThat(memoryUsage).isEqualTo(MemoryRange.of(141_824L));
+        assertThat(memoryUsage.max).isLessThan(arrayIdMapMemoryUsage.min / 100);
+    }
+
+    @Test
+    void shouldBeChosenByIdMapBehaviorWhenEnabled() {
+        var behavior = new OpenGdsIdMapBehavior();
+        var dimensions = ImmutableGraphDimensions.builder().nodeCount(100L).highestPossibleNodeCount(100L).build();
+
+        assertThat(behavior.create(1, Optional.of(99L), Optional.of(100L))).isInstanceOf(ArrayIdMapBuilder.class);
+
+        GdsFeatureToggles.USE_RANK_SELECT_ID_MAP.enableAndRun(() -> {
+            assertThat(behavior.create(1, Optional.of(99L), Optional.of(100L)))
+                .isInstanceOf(RankSelectIdMapBuilder.class);
+            assertThat(behavior.create(1, Optional.of(100_000_000L), Optional.of(100L)))
+                .isInstanceOf(ArrayIdMapBuilder.class);
+            assertThat(behavior.create(1, Optional.empty(), Optional.of(100L)))
+                .isInstanceOf(ArrayIdMapBuilder.class);
+            assertThat(behavior.memoryEstimation().estimate(dimensions, 1).memoryUsage())
+                .isEqualTo(RankSelectIdMap.memoryEstimation().estimate(dimensions, 1).memoryUsage());
+        });
+    }
+
+    private static IdMap build(long[] originalIds, long capacity, LabelInformation.Builder labelInformationBuilder) {
+        var builder = RankSelectIdMapBuilder.of(capacity);
+        builder.allocate(originalIds.length).insert(originalIds);
+        return builder.build(labelInformationBuilder, -1, 1);
+    }
+}
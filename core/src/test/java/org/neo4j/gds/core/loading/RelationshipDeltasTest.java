@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.huge.LayeredAdjacencyList;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.gdl.ImmutableGraphProjectFromGdlConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.fromGdl;
+
+class RelationshipDeltasTest {
+
+    private static final RelationshipType REL = RelationshipType.of("REL");
+
+    @Test
+    void shouldAppendRelationshipsAsDeltaLayers() {
+        var gdlFactory = GdlFactory.of("(a), (b), (c), (d), (a)-[:REL {w: 1.0}]->(b), (b)-[:REL {w: 2.0}]->(c)");
+        var graphStore = gdlFactory.build();
+
+        appendDelta(graphStore, gdlFactory, "a", "c", 3.0);
+        appendDelta(graphStore, gdlFactory, "a", "d", 4.0);
+
+        var relationships = graphStore.relationships(REL);
+        assertThat(relationships.topology().adjacencyList()).isInstanceOf(LayeredAdjacencyList.class);
+        assertThat(((LayeredAdjacencyList) relationships.topology().adjacencyList()).layerCount()).isEqualTo(3);
+        assertThat(relationships.topology().elementCount()).isEqualTo(4);
+        assertThat(graphStore.relationshipCount()).isEqualTo(4);
+
+        assertGraphEquals(
+            fromGdl("(a), (b), (c), (d), (a)-[:REL {w: 1.0}]->(b), (a)-[:REL {w: 3.0}]->(c), (a)-[:REL {w: 4.0}]->(d), (b)-[:REL {w: 2.0}]->(c)"),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+    }
+
+    @Test
+    void shouldAppendUndirectedAndInverseIndexedRelationships() {
+        var gdlFactory = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a), (b), (c), (a)-[:REL {w: 1.0}]->(b)")
+                .graphName("test")
+                .orientation(Orientation.UNDIRECTED)
+                .build()
+        ).build();
+        var graphStore = gdlFactory.build();
+
+        appendDelta(graphStore, gdlFactory, "b", "c", 2.0);
+
+        assertThat(graphStore.relationshipCount()).isEqualTo(4);
+        assertGraphEquals(
+            fromGdl("(a), (b), (c), (a)-[:REL {w: 1.0}]->(b), (b)-[:REL {w: 2.0}]->(c)", Orientation.UNDIRECTED),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+
+        var indexedFactory = GdlFactory.builder().graphProjectConfig(
+            ImmutableGraphProjectFromGdlConfig.builder()
+                .gdlGraph("(a), (b), (c), (a)-[:REL]->(b)")
+                .graphName("test")
+                .indexInverse(true)
+                .build()
+        ).build();
+        var indexedStore = indexedFactory.build();
+
+        var builder = RelationshipDeltas.deltaBuilder(indexedStore.nodes(), indexedStore.relationships(REL), 1);
+        builder.add(indexedFactory.nodeId("c"), indexedFactory.nodeId("b"));
+        indexedStore.appendRelationships(builder.build(), Neo4jProxy.testLog());
+
+        var graph = indexedStore.getGraph(REL);
+        assertThat(graph.degreeInverse(indexedFactory.nodeId("b"))).isEqualTo(2);
+        assertThat(graph.degreeInverse(indexedFactory.nodeId("c"))).isEqualTo(0);
+    }
+
+    @Test
+    void shouldCompactDeltaLayers() {
+        var gdlFactory = GdlFactory.of("(a), (b), (c), (d), (a)-[:REL {w: 1.0}]->(b), (b)-[:REL {w: 2.0}]->(c)");
+        var graphStore = gdlFactory.build();
+
+        appendDelta(graphStore, gdlFactory, "a", "c", 3.0);
+        appendDelta(graphStore, gdlFactory, "c", "d", 4.0);
+
+        assertThat(graphStore.compactRelationships(REL, 1, Pools.DEFAULT).join()).isTrue();
+
+        var relationships = graphStore.relationships(REL);
+        assertThat(relationships.topology().adjacencyList()).isNotInstanceOf(LayeredAdjacencyList.class);
+        assertThat(relationships.topology().elementCount()).isEqualTo(4);
+        assertGraphEquals(
+            fromGdl("(a), (b), (c), (d), (a)-[:REL {w: 1.0}]->(b), (a)-[:REL {w: 3.0}]->(c), (b)-[:REL {w: 2.0}]->(c), (c)-[:REL {w: 4.0}]->(d)"),
+            graphStore.getGraph(REL, Optional.of("w"))
+        );
+
+        assertThat(graphStore.compactRelationships(REL, 1, Pools.DEFAULT).join()).isFalse();
+    }
+
+    @Test
+    void shouldKeepLayersAppendedDuringCompaction() {
+        var gdlFactory = GdlFactory.of("(a), (b), (c), (d), (a)-[:REL {w: 1.0}]->(b)");
+        var graphStore = gdlFactory.build();
+
+        appendDelta(graphStore, gdlFactory, "b", "c", 2.0);
+        var snapshot = graphStore.relationships(REL);
+        var compacted = RelationshipDeltas.compact(snapshot, graphStore.nodes(), 1);
+
+        appendDelta(graphStore, gdlFactory, "a", "d", 3.0);
+
+        var rebased = RelationshipDeltas.rebase(graphStore.relationships(REL), snapshot, compacted).orElseThrow();
+        assertThat(rebased.topology().adjacencyList()).isInstanceOf(LayeredAdjacencyList.class);
+        assertThat(((LayeredAdjacencyList) rebased.topology().adjacencyList()).layerCount()).isEqualTo(2);
+        assertThat(rebased.topology().elementCount()).isEqualTo(3);
+        assertThat(rebased.properties().orElseThrow().get("w").values().elementCount()).isEqualTo(3);
+
+        assertThat(RelationshipDeltas.rebase(compacted, snapshot, compacted)).isEmpty();
+    }
+
+    @Test
+    void shouldRequireCompactionForTooManyLayers() {
+        var gdlFactory = GdlFactory.of("(a), (b), (c), (a)-[:REL {w: 1.0}]->(b)");
+        var graphStore = gdlFactory.build();
+
+        var relationships = graphStore.relationships(REL);
+        assertThat(RelationshipDeltas.needsCompaction(relationships)).isFalse();
+        for (int i = 0; i < RelationshipDeltas.MAX_DELTA_LAYERS; i++) {
+            var builder = RelationshipDeltas.deltaBuilder(graphStore.nodes(), relationships, 1);
+            builder.add(gdlFactory.nodeId("b"), gdlFactory.nodeId("c"), i);
+            relationships = RelationshipDeltas.append(relationships, builder.build());
+        }
+        assertThat(((LayeredAdjacencyList) relationships.topology().adjacencyList()).baseElementCount()).isEqualTo(1);
+        assertThat(RelationshipDeltas.needsCompaction(relationships)).isFalse();
+
+        var builder = RelationshipDeltas.deltaBuilder(graphStore.nodes(), relationships, 1);
+        builder.add(gdlFactory.nodeId("a"), gdlFactory.nodeId("c"), 42);
+        assertThat(RelationshipDeltas.needsCompaction(RelationshipDeltas.append(relationships, builder.build()))).isTrue();
+    }
+
+    @Test
+    void shouldCompactAutomaticallyAfterTooManyLayers() throws InterruptedException {
+        var gdlFactory = GdlFactory.of("(a), (b), (c), (a)-[:REL {w: 1.0}]->(b)");
+        var graphStore = gdlFactory.build();
+
+        for (int i = 0; i <= RelationshipDeltas.MAX_DELTA_LAYERS; i++) {
+            appendDelta(graphStore, gdlFactory, "b", "c", i);
+        }
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (RelationshipDeltas.hasDeltas(graphStore.relationships(REL)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        var relationships = graphStore.relationships(REL);
+        assertThat(relationships.topology().adjacencyList()).isNotInstanceOf(LayeredAdjacencyList.class);
+        assertThat(relationships.topology().elementCount()).isEqualTo(RelationshipDeltas.MAX_DELTA_LAYERS + 2);
+    }
+
+    @Test
+    void shouldRejectIncompatibleDeltas() {
+        var gdlFactory = GdlFactory.of("(a), (b), (a)-[:REL {w: 1.0}]->(b)");
+        var graphStore = gdlFactory.build();
+
+        var builder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graphStore.nodes())
+            .relationshipType(REL)
+            .build();
+        builder.add(gdlFactory.nodeId("b"), gdlFactory.nodeId("a"));
+        var delta = builder.build();
+
+        assertThatThrownBy(() -> graphStore.appendRelationships(delta, Neo4jProxy.testLog()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Expected relationship properties [w]");
+    }
+
+    @Test
+    void shouldAddNewRelationshipType() {
+        var gdlFactory = GdlFactory.of("(a), (b), (a)-[:REL]->(b)");
+        var graphStore = gdlFactory.build();
+
+        var builder = GraphFactory.initRelationshipsBuilder()
+            .nodes(graphStore.nodes())
+            .relationshipType(RelationshipType.of("NEW"))
+            .build();
+        builder.add(gdlFactory.nodeId("b"), gdlFactory.nodeId("a"));
+        graphStore.appendRelationships(builder.build(), Neo4jProxy.testLog());
+
+        assertThat(graphStore.relationshipTypes()).contains(RelationshipType.of("NEW"));
+        assertThat(graphStore.relationshipCount(RelationshipType.of("NEW"))).isEqualTo(1);
+    }
+
+    private static void appendDelta(CSRGraphStore graphStore, GdlFactory gdlFactory, String source, String target, double weight) {
+        var builder = RelationshipDeltas.deltaBuilder(graphStore.nodes(), graphStore.relationships(REL), 1);
+        builder.add(gdlFactory.nodeId(source), gdlFactory.nodeId(target), weight);
+        graphStore.appendRelationships(builder.build(), Neo4jProxy.testLog());
+    }
+}
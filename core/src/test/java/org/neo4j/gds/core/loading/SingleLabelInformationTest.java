@@ -168,16 +168,16 @@ class SingleLabelInformationTest {
             .build(1, LongUnaryOperator.identity());
 
         assertThatExceptionOfType(UnsupportedOperationException.class)
-            .isThrownBy(() -> labelInformation.forEach((nodeLabel, bitSet) -> false));
+            .isThrownBy(() -> labelInformation.forEach((nodeLabel, bitmap) -> false));
     }
 
     @Test
-    void shouldNotAllowUnionBitSet() {
+    void shouldNotAllowUnionBitmap() {
         var labelInformation = new SingleLabelInformation.Builder(LABEL_A)
             .build(1, LongUnaryOperator.identity());
 
         assertThatExceptionOfType(UnsupportedOperationException.class)
-            .isThrownBy(() -> labelInformation.unionBitSet(List.of(), 1337));
+            .isThrownBy(() -> labelInformation.unionBitmap(List.of()));
     }
 
     @Test
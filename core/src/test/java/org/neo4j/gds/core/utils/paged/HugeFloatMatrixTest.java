@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.mem.HugeArrays;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HugeFloatMatrixTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 128, HugeArrays.PAGE_SIZE + 1})
+    void shouldKeepRowsApart(int cols) {
+        long rows = 2L * HugeArrays.PAGE_SIZE / cols + 3;
+        var matrix = HugeFloatMatrix.newMatrix(rows, cols);
+
+        for (long row = 0; row < rows; row++) {
+            matrix.set(row, 0, row);
+            matrix.set(row, cols - 1, -row);
+        }
+
+        for (long row = 0; row < rows; row++) {
+            assertThat(matrix.get(row, 0)).isEqualTo((float) row);
+            assertThat(matrix.get(row, cols - 1)).isEqualTo((float) -row);
+        }
+        assertThat(matrix.rows()).isEqualTo(rows);
+        assertThat(matrix.cols()).isEqualTo(cols);
+    }
+
+    @Test
+    void shouldCopyRows() {
+        var matrix = HugeFloatMatrix.newMatrix(3, 2);
+        matrix.setRow(1, new float[]{1, 2});
+
+        var row = matrix.row(1);
+        row[0] = 42;
+
+        assertThat(matrix.row(0)).containsExactly(0, 0);
+        assertThat(matrix.row(1)).containsExactly(1, 2);
+        assertThat(matrix.row(2)).containsExactly(0, 0);
+
+        matrix.fillRow(1, 7);
+        var target = new float[2];
+        matrix.copyRow(1, target);
+        assertThat(target).containsExactly(7, 7);
+    }
+
+    @Test
+    void shouldComputeRowOperations() {
+        var matrix = HugeFloatMatrix.newMatrix(2, 3);
+        matrix.setRow(0, new float[]{1, 2, 2});
+        matrix.setRow(1, new float[]{1, 0, -1});
+
+        matrix.addToRow(1, new float[]{1, 1, 1}, 2);
+        assertThat(matrix.row(1)).containsExactly(3, 2, 1);
+
+        var target = new float[]{1, 1, 1};
+        matrix.addRowTo(0, target);
+        assertThat(target).containsExactly(2, 3, 3);
+
+        matrix.addWeightedRowTo(0, 0.5, target);
+        assertThat(target).containsExactly(2.5f, 4, 4);
+
+        assertThat(matrix.l2Norm(0)).isEqualTo(3);
+        assertThat(matrix.innerProduct(0, matrix, 1)).isEqualTo(9);
+    }
+
+    @Test
+    void shouldExposeRowsAsNodeProperties() {
+        var matrix = HugeFloatMatrix.newMatrix(2, 2);
+        matrix.setRow(1, new float[]{0.5f, 1.5f});
+
+        var properties = matrix.asNodeProperties();
+
+        assertThat(properties.valueType()).isEqualTo(ValueType.FLOAT_ARRAY);
+        assertThat(properties.nodeCount()).isEqualTo(2);
+        assertThat(properties.dimension()).hasValue(2);
+        assertThat(properties.floatArrayValue(1)).containsExactly(0.5f, 1.5f);
+        assertThat(properties.doubleArrayValue(1)).containsExactly(new double[]{0.5, 1.5}, within(1e-9));
+    }
+
+    @Test
+    void shouldCopyRowsIntoReusedBuffers() {
+        var matrix = HugeFloatMatrix.newMatrix(2, 2);
+        matrix.setRow(0, new float[]{0.5f, 1.5f});
+        matrix.setRow(1, new float[]{2.5f, 3.5f});
+
+        var properties = matrix.asNodeProperties();
+        var buffer = new float[2];
+
+        assertThat(properties.floatArrayValue(0, buffer)).isSameAs(buffer).containsExactly(0.5f, 1.5f);
+        assertThat(properties.floatArrayValue(1, buffer)).isSameAs(buffer).containsExactly(2.5f, 3.5f);
+        assertThat(properties.floatArrayValue(1, new float[0])).containsExactly(2.5f, 3.5f);
+        assertThat(properties.floatArrayValue(0)).isNotSameAs(properties.floatArrayValue(0));
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        int cols = 128;
+        long rowsPerPage = HugeArrays.PAGE_SIZE / cols;
+
+        assertThat(HugeFloatMatrix.memoryEstimation(0, cols))
+            .isEqualTo(MemoryUsage.sizeOfInstance(HugeFloatMatrix.class) + MemoryUsage.sizeOfObjectArray(0));
+        assertThat(HugeFloatMatrix.memoryEstimation(rowsPerPage + 1, cols)).isEqualTo(
+            MemoryUsage.sizeOfInstance(HugeFloatMatrix.class) +
+            MemoryUsage.sizeOfObjectArray(2) +
+            MemoryUsage.sizeOfFloatArray(HugeArrays.PAGE_SIZE) +
+            MemoryUsage.sizeOfFloatArray(cols)
+        );
+        assertThat(HugeFloatMatrix.newMatrix(100, cols).sizeOf())
+            .isEqualTo(HugeFloatMatrix.memoryEstimation(100, cols));
+    }
+
+    @Test
+    void shouldRejectEmptyRows() {
+        assertThatThrownBy(() -> HugeFloatMatrix.newMatrix(1, 0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("columns must be positive");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankSelectBitSetTest {
+
+    @ParameterizedTest
+    @CsvSource({"1,0.5", "63,0.5", "64,1.0", "1337,0.1", "100000,0.9", "100000,0.01", "1000000,0.5"})
+    void shouldMatchNaiveRankAndSelect(long size, double density) {
+        var random = new SplittableRandom(size);
+        var atomicBitSet = HugeAtomicBitSet.create(size);
+        for (long i = 0; i < size; i++) {
+            if (random.nextDouble() < density) {
+                atomicBitSet.set(i);
+            }
+        }
+
+        var bitSet = RankSelectBitSet.of(atomicBitSet);
+
+        assertThat(bitSet.size()).isEqualTo(size);
+        assertThat(bitSet.cardinality()).isEqualTo(atomicBitSet.cardinality());
+
+        long rank = 0;
+        for (long i = 0; i < size; i++) {
+            assertThat(bitSet.rank(i)).as("rank of %d", i).isEqualTo(rank);
+            assertThat(bitSet.get(i)).isEqualTo(atomicBitSet.get(i));
+            if (atomicBitSet.get(i)) {
+                assertThat(bitSet.select(rank)).as("select of %d", rank).isEqualTo(i);
+                rank++;
+            }
+        }
+        assertThat(bitSet.rank(size)).isEqualTo(rank);
+    }
+
+    @Test
+    void shouldHandleFullWords() {
+        var atomicBitSet = HugeAtomicBitSet.create(4096);
+        atomicBitSet.set(0, 4096);
+
+        var bitSet = RankSelectBitSet.of(atomicBitSet);
+
+        assertThat(bitSet.cardinality()).isEqualTo(4096);
+        for (long i = 0; i < 4096; i++) {
+            assertThat(bitSet.rank(i)).isEqualTo(i);
+            assertThat(bitSet.select(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void shouldHandleEmptyBitSet() {
+        var bitSet = RankSelectBitSet.of(HugeAtomicBitSet.create(1000));
+
+        assertThat(bitSet.cardinality()).isZero();
+        assertThat(bitSet.rank(0)).isZero();
+        assertThat(bitSet.rank(1000)).isZero();
+    }
+
+    @Test
+    void shouldCreateFromIndices() {
+        var bitSet = RankSelectBitSet.of(LongStream.of(150, 3, 64).iterator(), 200);
+
+        assertThat(bitSet.size()).isEqualTo(200);
+        assertThat(bitSet.cardinality()).isEqualTo(3);
+        assertThat(bitSet.select(0)).isEqualTo(3);
+        assertThat(bitSet.select(1)).isEqualTo(64);
+        assertThat(bitSet.select(2)).isEqualTo(150);
+        assertThat(bitSet.rank(150)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEstimateMemory() {
+        // 16 words, 3 block ranks and a single select sample, each in a single page HugeLongArray
+        assertThat(RankSelectBitSet.memoryEstimation(1024, 10)).isEqualTo(
+            40L + (24 + 16 + 16 * 8) + (24 + 16 + 3 * 8) + (24 + 16 + 8)
+        );
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
+import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryQuantizedVectorsTest {
+
+    @Test
+    void quantizeSigns() {
+        var vectors = new float[][]{
+            {-2F, 0F, 1F},
+            {0.5F, 1F, -1F},
+        };
+        var quantized = BinaryQuantizedVectors.quantize(
+            new FloatArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+            vectors.length,
+            1
+        );
+
+        assertThat(quantized.nodeCount()).isEqualTo(2);
+        assertThat(quantized.dimension()).isEqualTo(3);
+        assertThat(quantized.get(0, 0)).isFalse();
+        assertThat(quantized.get(0, 1)).isFalse();
+        assertThat(quantized.get(0, 2)).isTrue();
+        assertThat(quantized.get(1, 0)).isTrue();
+        assertThat(quantized.get(1, 1)).isTrue();
+        assertThat(quantized.get(1, 2)).isFalse();
+        assertThat(quantized.hammingDistance(0, 1)).isEqualTo(3);
+        assertThat(quantized.hammingDistance(1, 1)).isEqualTo(0);
+    }
+
+    @Test
+    void hammingDistanceAcrossWords() {
+        var random = new SplittableRandom(42);
+        int nodeCount = 100;
+        // not a multiple of 64 so the last word is only partially used
+        int dimension = 200;
+        var vectors = new double[nodeCount][];
+        for (int i = 0; i < nodeCount; i++) {
+            vectors[i] = random.doubles(dimension, -1, 1).toArray();
+        }
+        var quantized = BinaryQuantizedVectors.quantize(
+            new DoubleArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+            nodeCount,
+            4
+        );
+
+        for (int i = 0; i < nodeCount; i++) {
+            for (int j = 0; j < nodeCount; j += 7) {
+                int expected = 0;
+                for (int d = 0; d < dimension; d++) {
+                    if ((vectors[i][d] > 0) != (vectors[j][d] > 0)) {
+                        expected++;
+                    }
+                }
+                assertThat(quantized.hammingDistance(i, j)).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void rejectVectorsOfDifferentLengths() {
+        var values = new FloatArrayTestPropertyValues(nodeId -> new float[nodeId == 0 ? 3 : 4]);
+
+        assertThatThrownBy(() -> BinaryQuantizedVectors.quantize(values, 2, 1))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("All vectors must have the same length to be quantized, expected 3 but node 1 has length 4.");
+    }
+
+    @Test
+    void memoryEstimation() {
+        long nodeCount = 1_000_000;
+        int dimension = 256;
+
+        var estimation = BinaryQuantizedVectors.memoryEstimation(nodeCount, dimension);
+
+        assertThat(estimation)
+            .isGreaterThanOrEqualTo(nodeCount * dimension / Byte.SIZE)
+            .isLessThan(nodeCount * dimension / Byte.SIZE + 1_000_000);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.nodeproperties.DoubleArrayTestPropertyValues;
+import org.neo4j.gds.nodeproperties.FloatArrayTestPropertyValues;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfFloatArray;
+
+class Int8QuantizedVectorsTest {
+
+    @Test
+    void quantizeSymmetricallyByAbsoluteMaximum() {
+        var vectors = new float[][]{
+            {-2F, 0F, 1F},
+            {0.5F, 1.01F, -1F},
+        };
+        var quantized = Int8QuantizedVectors.quantize(
+            new FloatArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+            vectors.length,
+            1
+        );
+
+        assertThat(quantized.nodeCount()).isEqualTo(2);
+        assertThat(quantized.dimension()).isEqualTo(3);
+        assertThat(quantized.scale()).isCloseTo(2.0 / 127, within(1e-12));
+
+        assertThat(quantized.get(0, 0)).isEqualTo((byte) -127);
+        assertThat(quantized.get(0, 1)).isEqualTo((byte) 0);
+        assertThat(quantized.get(0, 2)).isEqualTo((byte) 64);
+        assertThat(quantized.get(1, 0)).isEqualTo((byte) 32);
+        assertThat(quantized.get(1, 1)).isEqualTo((byte) 64);
+        assertThat(quantized.get(1, 2)).isEqualTo((byte) -63);
+    }
+
+    @Test
+    void approximateSimilarities() {
+        var random = new SplittableRandom(42);
+        int nodeCount = 100;
+        int dimension = 128;
+        var vectors = new double[nodeCount][];
+        for (int i = 0; i < nodeCount; i++) {
+            vectors[i] = random.doubles(dimension, -1, 1).toArray();
+        }
+        var quantized = Int8QuantizedVectors.quantize(
+            new DoubleArrayTestPropertyValues(nodeId -> vectors[(int) nodeId]),
+            nodeCount,
+            4
+        );
+
+        for (int i = 1; i < nodeCount; i++) {
+            assertThat(quantized.cosine(0, i)).isCloseTo(cosine(vectors[0], vectors[i]), within(0.01));
+            assertThat(quantized.pearson(0, i)).isCloseTo(pearson(vectors[0], vectors[i]), within(0.01));
+            var sumSquareDelta = sumSquareDelta(vectors[0], vectors[i]);
+            assertThat(quantized.sumSquareDelta(0, i)).isCloseTo(sumSquareDelta, within(0.01 * sumSquareDelta));
+        }
+        assertThat(quantized.cosine(42, 42)).isCloseTo(1.0, within(1e-12));
+        assertThat(quantized.sumSquareDelta(42, 42)).isZero();
+    }
+
+    @Test
+    void zeroVectors() {
+        var quantized = Int8QuantizedVectors.quantize(
+            new FloatArrayTestPropertyValues(nodeId -> new float[4]),
+            2,
+            1
+        );
+
+        assertThat(quantized.scale()).isEqualTo(1.0);
+        assertThat(quantized.cosine(0, 1)).isNaN();
+        assertThat(quantized.pearson(0, 1)).isNaN();
+        assertThat(quantized.sumSquareDelta(0, 1)).isZero();
+    }
+
+    @Test
+    void rejectVectorsOfDifferentLengths() {
+        var values = new FloatArrayTestPropertyValues(nodeId -> new float[nodeId == 0 ? 3 : 4]);
+
+        assertThatThrownBy(() -> Int8QuantizedVectors.quantize(values, 2, 1))
+            .hasRootCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("All vectors must have the same length to be quantized, expected 3 but node 1 has length 4.");
+    }
+
+    @Test
+    void rejectTooManyDimensions() {
+        var values = new FloatArrayTestPropertyValues(nodeId -> new float[Int8QuantizedVectors.MAX_DIMENSION + 1]);
+
+        assertThatThrownBy(() -> Int8QuantizedVectors.quantize(values, 1, 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("cannot be quantized to int8");
+    }
+
+    @Test
+    void memoryEstimation() {
+        long nodeCount = 1_000_000;
+        int dimension = 256;
+
+        var estimation = Int8QuantizedVectors.memoryEstimation(nodeCount, dimension);
+
+        assertThat(estimation)
+            .isGreaterThanOrEqualTo(nodeCount * dimension)
+            .isLessThan(nodeCount * sizeOfFloatArray(dimension) / 4);
+    }
+
+    private static double cosine(double[] left, double[] right) {
+        double dot = 0, leftSquares = 0, rightSquares = 0;
+        for (int i = 0; i < left.length; i++) {
+            dot += left[i] * right[i];
+            leftSquares += left[i] * left[i];
+            rightSquares += right[i] * right[i];
+        }
+        return dot / Math.sqrt(leftSquares * rightSquares);
+    }
+
+    private static double pearson(double[] left, double[] right) {
+        double leftMean = 0, rightMean = 0;
+        for (int i = 0; i < left.length; i++) {
+            leftMean += left[i] / left.length;
+            rightMean += right[i] / right.length;
+        }
+        var leftCentered = new double[left.length];
+        var rightCentered = new double[right.length];
+        for (int i = 0; i < left.length; i++) {
+            leftCentered[i] = left[i] - leftMean;
+            rightCentered[i] = right[i] - rightMean;
+        }
+        return cosine(leftCentered, rightCentered);
+    }
+
+    private static double sumSquareDelta(double[] left, double[] right) {
+        double result = 0;
+        for (int i = 0; i < left.length; i++) {
+            result += (left[i] - right[i]) * (left[i] - right[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.vectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.TestSupport;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SimilarityKernelTest {
+
+    static Stream<Arguments> kernelsAndLengths() {
+        return TestSupport.crossArguments(
+            () -> Stream.of(
+                Arguments.of("scalar", (Supplier<SimilarityKernel>) SimilarityKernels::scalar),
+                Arguments.of("vectorized", (Supplier<SimilarityKernel>) SimilarityKernels::vectorized)
+            ),
+            // covers empty vectors, pure tails and lengths that are no multiple of any lane count
+            () -> IntStream.of(0, 1, 3, 7, 8, 15, 16, 17, 31, 64, 100, 128, 256, 1000).mapToObj(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}: {2}")
+    @MethodSource("kernelsAndLengths")
+    void floatKernels(String name, Supplier<SimilarityKernel> kernelSupplier, int length) {
+        var kernel = kernelSupplier.get();
+        assumeTrue(kernel != null, "the vectorized kernel is not available on this JVM");
+
+        var random = new SplittableRandom(length);
+        var left = randomFloats(random, length);
+        var right = randomFloats(random, length);
+
+        double dot = 0, leftSquares = 0, rightSquares = 0, sumSquareDelta = 0;
+        for (int i = 0; i < length; i++) {
+            dot += left[i] * right[i];
+            leftSquares += left[i] * left[i];
+            rightSquares += right[i] * right[i];
+            sumSquareDelta += (left[i] - right[i]) * (left[i] - right[i]);
+        }
+
+        assertThat(kernel.dotProduct(left, right, length)).isCloseTo((float) dot, within(1e-3F));
+        assertThat(kernel.sumSquareDelta(left, right, length)).isCloseTo(sumSquareDelta, within(1e-3));
+        if (length > 0) {
+            assertThat(kernel.cosine(left, right, length))
+                .isCloseTo((float) (dot / Math.sqrt(leftSquares * rightSquares)), within(1e-5F));
+        }
+        if (length > 1) {
+            assertThat(kernel.pearson(left, right, length)).isCloseTo(pearson(left, right), within(1e-5));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}: {2}")
+    @MethodSource("kernelsAndLengths")
+    void doubleKernels(String name, Supplier<SimilarityKernel> kernelSupplier, int length) {
+        var kernel = kernelSupplier.get();
+        assumeTrue(kernel != null, "the vectorized kernel is not available on this JVM");
+
+        var random = new SplittableRandom(length);
+        var left = randomDoubles(random, length);
+        var right = randomDoubles(random, length);
+
+        double dot = 0, leftSquares = 0, rightSquares = 0, sumSquareDelta = 0;
+        for (int i = 0; i < length; i++) {
+            dot += left[i] * right[i];
+            leftSquares += left[i] * left[i];
+            rightSquares += right[i] * right[i];
+            sumSquareDelta += (left[i] - right[i]) * (left[i] - right[i]);
+        }
+
+        assertThat(kernel.dotProduct(left, right, length)).isCloseTo(dot, within(1e-9));
+        assertThat(kernel.sumSquareDelta(left, right, length)).isCloseTo(sumSquareDelta, within(1e-9));
+        if (length > 0) {
+            assertThat(kernel.cosine(left, right, length))
+                .isCloseTo(dot / Math.sqrt(leftSquares * rightSquares), within(1e-9));
+        }
+        if (length > 1) {
+            assertThat(kernel.pearson(left, right, length)).isCloseTo(pearson(left, right), within(1e-9));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kernels")
+    void cosineOfZeroVectorIsNaN(String name, Supplier<SimilarityKernel> kernelSupplier) {
+        var kernel = kernelSupplier.get();
+        assumeTrue(kernel != null, "the vectorized kernel is not available on this JVM");
+
+        assertThat(kernel.cosine(new float[20], new float[20], 20)).isNaN();
+        assertThat(kernel.cosine(new double[20], new double[20], 20)).isNaN();
+    }
+
+    @Test
+    void createFallsBackToScalarKernel() {
+        assertThat(SimilarityKernels.create()).isSameAs(SimilarityKernels.scalar());
+        GdsFeatureToggles.USE_VECTORIZED_SIMILARITY_KERNELS.enableAndRun(() -> {
+            var expected = SimilarityKernels.isVectorizedKernelAvailable()
+                ? SimilarityKernels.vectorized()
+                : SimilarityKernels.scalar();
+            assertThat(SimilarityKernels.create()).isSameAs(expected);
+        });
+    }
+
+    static Stream<Arguments> kernels() {
+        return Stream.of(
+            Arguments.of("scalar", (Supplier<SimilarityKernel>) SimilarityKernels::scalar),
+            Arguments.of("vectorized", (Supplier<SimilarityKernel>) SimilarityKernels::vectorized)
+        );
+    }
+
+    private static double pearson(float[] left, float[] right) {
+        var leftDoubles = new double[left.length];
+        var rightDoubles = new double[right.length];
+        for (int i = 0; i < left.length; i++) {
+            leftDoubles[i] = left[i];
+            rightDoubles[i] = right[i];
+        }
+        return pearson(leftDoubles, rightDoubles);
+    }
+
+    private static double pearson(double[] left, double[] right) {
+        double leftMean = 0, rightMean = 0;
+        for (int i = 0; i < left.length; i++) {
+            leftMean += left[i];
+            rightMean += right[i];
+        }
+        leftMean /= left.length;
+        rightMean /= right.length;
+
+        double covariance = 0, leftVariance = 0, rightVariance = 0;
+        for (int i = 0; i < left.length; i++) {
+            var leftDelta = left[i] - leftMean;
+            var rightDelta = right[i] - rightMean;
+            covariance += leftDelta * rightDelta;
+            leftVariance += leftDelta * leftDelta;
+            rightVariance += rightDelta * rightDelta;
+        }
+        return covariance / Math.sqrt(leftVariance * rightVariance);
+    }
+
+    private static float[] randomFloats(SplittableRandom random, int length) {
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = (float) random.nextDouble(-1, 1);
+        }
+        return values;
+    }
+
+    private static double[] randomDoubles(SplittableRandom random, int length) {
+        var values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextDouble(-1, 1);
+        }
+        return values;
+    }
+}
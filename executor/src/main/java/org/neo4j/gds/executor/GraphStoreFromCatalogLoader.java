@@ -24,6 +24,7 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.DatabaseId;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.BaseConfig;
 import org.neo4j.gds.config.ElementTypeValidator;
@@ -99,9 +100,21 @@ public final class GraphStoreFromCatalogLoader implements GraphStoreLoader {
             .relationshipCounts(filteredGraphRelationshipCounts(typeFilter.stream(), filteredGraph))
             .relCountUpperBound(relCount)
             .relationshipPropertyTokens(relationshipTypeTokens)
+            .nodePropertyDimensions(floatingPointArrayDimensions(graphStore))
             .build();
     }
 
+    private static Map<String, Integer> floatingPointArrayDimensions(GraphStore graphStore) {
+        var dimensions = new HashMap<String, Integer>();
+        for (String propertyKey : graphStore.nodePropertyKeys()) {
+            var values = graphStore.nodeProperty(propertyKey).values();
+            if (values.valueType() == ValueType.FLOAT_ARRAY || values.valueType() == ValueType.DOUBLE_ARRAY) {
+                values.dimension().ifPresent(dimension -> dimensions.put(propertyKey, dimension));
+            }
+        }
+        return dimensions;
+    }
+
     public static GraphStoreWithConfig graphStoreFromCatalog(
         String graphName,
         BaseConfig config,
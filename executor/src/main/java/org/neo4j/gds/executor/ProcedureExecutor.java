@@ -26,6 +26,7 @@ import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.concurrency.JobScheduler;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
 
@@ -73,50 +74,53 @@ public class ProcedureExecutor<
 
         executionContext.algorithmMetaDataSetter().set(config);
 
-        var graphCreation = executorSpec.graphCreationFactory(executionContext).create(config, graphName);
+        // tasks submitted to the shared pool are scheduled fairly across concurrently running jobs
+        try (var ignored = JobScheduler.enter(config.jobId(), config.jobPriority(), config.concurrency())) {
+            var graphCreation = executorSpec.graphCreationFactory(executionContext).create(config, graphName);
 
-        var memoryEstimationInBytes = graphCreation.validateMemoryEstimation(algoSpec.algorithmFactory());
+            var memoryEstimationInBytes = graphCreation.validateMemoryEstimation(algoSpec.algorithmFactory());
 
-        GraphStore graphStore;
-        Graph graph;
+            GraphStore graphStore;
+            Graph graph;
 
-        try (ProgressTimer timer = ProgressTimer.start(builder::preProcessingMillis)) {
-            var graphProjectConfig = graphCreation.graphProjectConfig();
-            var validator = executorSpec.validator(algoSpec.validationConfig(executionContext));
-            validator.validateConfigsBeforeLoad(graphProjectConfig, config);
-            graphStore = graphCreation.graphStore();
-            validator.validateConfigWithGraphStore(graphStore, graphProjectConfig, config);
-            graph = graphCreation.createGraph(graphStore);
-        }
+            try (ProgressTimer timer = ProgressTimer.start(builder::preProcessingMillis)) {
+                var graphProjectConfig = graphCreation.graphProjectConfig();
+                var validator = executorSpec.validator(algoSpec.validationConfig(executionContext));
+                validator.validateConfigsBeforeLoad(graphProjectConfig, config);
+                graphStore = graphCreation.graphStore();
+                validator.validateConfigWithGraphStore(graphStore, graphProjectConfig, config);
+                graph = graphCreation.createGraph(graphStore);
+            }
 
-        if (graph.isEmpty()) {
-            var emptyComputationResult = builder
-                .isGraphEmpty(true)
-                .graph(graph)
-                .graphStore(graphStore)
-                .config(config)
-                .computeMillis(0)
-                .result(null)
-                .algorithm(null)
-                .build();
-            return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
-        }
+            if (graph.isEmpty()) {
+                var emptyComputationResult = builder
+                    .isGraphEmpty(true)
+                    .graph(graph)
+                    .graphStore(graphStore)
+                    .config(config)
+                    .computeMillis(0)
+                    .result(null)
+                    .algorithm(null)
+                    .build();
+                return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
+            }
 
-        ALGO algo = newAlgorithm(graph, graphStore, config);
+            ALGO algo = newAlgorithm(graph, graphStore, config);
 
-        algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
+            algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
 
-        ALGO_RESULT result = executeAlgorithm(builder, algo);
+            ALGO_RESULT result = executeAlgorithm(builder, algo);
 
-        var computationResult = builder
-            .graph(graph)
-            .graphStore(graphStore)
-            .algorithm(algo)
-            .result(result)
-            .config(config)
-            .build();
+            var computationResult = builder
+                .graph(graph)
+                .graphStore(graphStore)
+                .algorithm(algo)
+                .result(result)
+                .config(config)
+                .build();
 
-        return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+            return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+        }
     }
 
     private ALGO_RESULT executeAlgorithm(
@@ -146,6 +146,15 @@ public interface GraphDimensions {
         return Collections.emptyMap();
     }
 
+    /**
+     * The lengths of the float and double array node properties, by property key.
+     * Only known when estimating on a graph from the catalog, empty otherwise.
+     */
+    @Value.Default
+    default Map<String, Integer> nodePropertyDimensions() {
+        return Collections.emptyMap();
+    }
+
     @Value.Default
     default int estimationNodeLabelCount() {
         var nodeLabels = new HashSet<NodeLabel>();
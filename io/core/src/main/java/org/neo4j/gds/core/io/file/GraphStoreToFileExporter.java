@@ -22,6 +22,7 @@ package org.neo4j.gds.core.io.file;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.CompatInput;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.io.GraphStoreExporter;
 import org.neo4j.gds.core.io.GraphStoreInput;
@@ -38,8 +39,6 @@ import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.internal.batchimport.input.Collector;
 import org.neo4j.logging.Log;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -50,12 +49,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
     private final VisitorProducer<RelationshipVisitor> relationshipVisitorSupplier;
     private final VisitorProducer<GraphPropertyVisitor> graphPropertyVisitorSupplier;
 
-    private final Supplier<SingleRowVisitor<String>> userInfoVisitorSupplier;
-    private final Supplier<SingleRowVisitor<GraphInfo>> graphInfoVisitorSupplier;
-    private final Supplier<NodeSchemaVisitor> nodeSchemaVisitorSupplier;
-    private final Supplier<RelationshipSchemaVisitor> relationshipSchemaVisitorSupplier;
-    private final Supplier<ElementSchemaVisitor> graphPropertySchemaVisitorSupplier;
-    private final Supplier<SimpleWriter<Capabilities>> graphCapabilitiesWriterSupplier;
+    private final GraphStoreMetaDataExporter metaDataExporter;
 
     private final TaskRegistryFactory taskRegistryFactory;
     private final Log log;
@@ -82,12 +76,14 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         this.nodeVisitorSupplier = nodeVisitorSupplier;
         this.relationshipVisitorSupplier = relationshipVisitorSupplier;
         this.graphPropertyVisitorSupplier = graphPropertyVisitorSupplier;
-        this.userInfoVisitorSupplier = userInfoVisitorSupplier;
-        this.graphInfoVisitorSupplier = graphInfoVisitorSupplier;
-        this.nodeSchemaVisitorSupplier = nodeSchemaVisitorSupplier;
-        this.relationshipSchemaVisitorSupplier = relationshipSchemaVisitorSupplier;
-        this.graphPropertySchemaVisitorSupplier = graphPropertySchemaVisitorSupplier;
-        this.graphCapabilitiesWriterSupplier = graphCapabilitiesWriterSupplier;
+        this.metaDataExporter = new GraphStoreMetaDataExporter(
+            userInfoVisitorSupplier,
+            graphInfoVisitorSupplier,
+            nodeSchemaVisitorSupplier,
+            relationshipSchemaVisitorSupplier,
+            graphPropertySchemaVisitorSupplier,
+            graphCapabilitiesWriterSupplier
+        );
         this.taskRegistryFactory = taskRegistryFactory;
         this.log = log;
         this.rootTaskName = rootTaskName;
@@ -96,12 +92,11 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
     @Override
     protected void export(GraphStoreInput graphStoreInput) {
         if (config.includeMetaData()) {
-            exportUserName();
-            exportGraphInfo(graphStoreInput);
-            exportNodeSchema(graphStoreInput);
-            exportRelationshipSchema(graphStoreInput);
-            exportGraphPropertySchema(graphStoreInput);
-            exportGraphCapabilities(graphStoreInput);
+            metaDataExporter.export(
+                graphStoreInput.metaDataStore(),
+                graphStoreInput.capabilities(),
+                config.username()
+            );
         }
         var progressTracker = createProgressTracker(graphStoreInput);
         progressTracker.beginSubTask();
@@ -150,6 +145,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         RunWithConcurrency.builder()
             .concurrency(config.writeConcurrency())
             .tasks(tasks)
+            .executor(Pools.io())
             .run();
         progressTracker.endSubTask();
     }
@@ -174,6 +170,7 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         RunWithConcurrency.builder()
             .concurrency(config.writeConcurrency())
             .tasks(tasks)
+            .executor(Pools.io())
             .mayInterruptIfRunning(false)
             .run();
         progressTracker.endSubTask();
@@ -200,88 +197,9 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
             RunWithConcurrency.builder()
                 .concurrency(config.writeConcurrency())
                 .tasks(tasks)
+                .executor(Pools.io())
                 .run();
             progressTracker.endSubTask();
         }
     }
-
-    private void exportUserName() {
-        try (var userInfoVisitor = userInfoVisitorSupplier.get()) {
-            userInfoVisitor.export(config.username());
-        }
-    }
-
-    private void exportGraphInfo(GraphStoreInput graphStoreInput) {
-        GraphInfo graphInfo = graphStoreInput.metaDataStore().graphInfo();
-        try (var graphInfoVisitor = graphInfoVisitorSupplier.get()) {
-            graphInfoVisitor.export(graphInfo);
-        }
-    }
-
-    private void exportNodeSchema(GraphStoreInput graphStoreInput) {
-        var nodeSchema = graphStoreInput.metaDataStore().nodeSchema();
-        try (var nodeSchemaVisitor = nodeSchemaVisitorSupplier.get()) {
-            nodeSchema.entries().forEach(nodeEntry -> {
-                if (nodeEntry.properties().isEmpty()) {
-                    nodeSchemaVisitor.nodeLabel(nodeEntry.identifier());
-                    nodeSchemaVisitor.endOfEntity();
-                } else {
-                    nodeEntry.properties().forEach((propertyKey, propertySchema) -> {
-                        nodeSchemaVisitor.nodeLabel(nodeEntry.identifier());
-                        nodeSchemaVisitor.key(propertyKey);
-                        nodeSchemaVisitor.defaultValue(propertySchema.defaultValue());
-                        nodeSchemaVisitor.valueType(propertySchema.valueType());
-                        nodeSchemaVisitor.state(propertySchema.state());
-                        nodeSchemaVisitor.endOfEntity();
-                    });
-                }
-            });
-        }
-    }
-
-    private void exportRelationshipSchema(GraphStoreInput graphStoreInput) {
-        var relationshipSchema = graphStoreInput.metaDataStore().relationshipSchema();
-        try (var relationshipSchemaVisitor = relationshipSchemaVisitorSupplier.get()) {
-            relationshipSchema.entries().forEach(relationshipEntry -> {
-                if (relationshipEntry.properties().isEmpty()) {
-                    relationshipSchemaVisitor.relationshipType(relationshipEntry.identifier());
-                    relationshipSchemaVisitor.direction(relationshipEntry.direction());
-                    relationshipSchemaVisitor.endOfEntity();
-                } else {
-                    relationshipEntry.properties().forEach((propertyKey, propertySchema) -> {
-                        relationshipSchemaVisitor.relationshipType(relationshipEntry.identifier());
-                        relationshipSchemaVisitor.direction(relationshipEntry.direction());
-                        relationshipSchemaVisitor.key(propertyKey);
-                        relationshipSchemaVisitor.defaultValue(propertySchema.defaultValue());
-                        relationshipSchemaVisitor.valueType(propertySchema.valueType());
-                        relationshipSchemaVisitor.aggregation(propertySchema.aggregation());
-                        relationshipSchemaVisitor.state(propertySchema.state());
-                        relationshipSchemaVisitor.endOfEntity();
-                    });
-                }
-            });
-        }
-    }
-
-    private void exportGraphPropertySchema(GraphStoreInput graphStoreInput) {
-        var graphPropertySchema = graphStoreInput.metaDataStore().graphPropertySchema();
-        try (var graphPropertySchemaVisitor = graphPropertySchemaVisitorSupplier.get()) {
-            graphPropertySchema.forEach((key, propertySchema) -> {
-                graphPropertySchemaVisitor.key(key);
-                graphPropertySchemaVisitor.defaultValue(propertySchema.defaultValue());
-                graphPropertySchemaVisitor.valueType(propertySchema.valueType());
-                graphPropertySchemaVisitor.state(propertySchema.state());
-                graphPropertySchemaVisitor.endOfEntity();
-            });
-        }
-    }
-
-    private void exportGraphCapabilities(GraphStoreInput graphStoreInput) {
-        var capabilitiesMapper = graphCapabilitiesWriterSupplier.get();
-        try {
-            capabilitiesMapper.write(graphStoreInput.capabilities());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.GraphStoreExportSettings;
+import org.neo4j.graphdb.config.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.neo4j.gds.core.io.GraphStoreExporter.DIRECTORY_IS_WRITABLE;
+import static org.neo4j.gds.core.io.file.FileToGraphStoreImporter.DIRECTORY_IS_READABLE;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+public final class GraphSnapshotUtil {
+
+    public static final String SNAPSHOT_DIR = "snapshot";
+
+    /**
+     * Resolves and creates the directory for a new snapshot below the configured export location.
+     */
+    public static Path newSnapshotPath(Configuration neo4jConfig, String snapshotName) {
+        var rootPath = snapshotRoot(neo4jConfig);
+        try {
+            Files.createDirectories(rootPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create snapshot directory.", e);
+        }
+        DIRECTORY_IS_WRITABLE.validate(rootPath);
+
+        var snapshotPath = resolve(rootPath, snapshotName);
+        if (Files.exists(snapshotPath)) {
+            throw new IllegalArgumentException(formatWithLocale("The specified snapshot '%s' already exists.", snapshotName));
+        }
+
+        try {
+            Files.createDirectories(snapshotPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not create snapshot directory.", e);
+        }
+        return snapshotPath;
+    }
+
+    /**
+     * Resolves the directory of an existing snapshot below the configured export location.
+     */
+    public static Path snapshotPath(Configuration neo4jConfig, String snapshotName) {
+        var snapshotPath = resolve(snapshotRoot(neo4jConfig), snapshotName);
+        if (!Files.exists(snapshotPath)) {
+            throw new IllegalArgumentException(formatWithLocale("The specified snapshot '%s' does not exist.", snapshotName));
+        }
+        DIRECTORY_IS_READABLE.validate(snapshotPath);
+        return snapshotPath;
+    }
+
+    private static Path snapshotRoot(Configuration neo4jConfig) {
+        @Nullable Path exportLocation = neo4jConfig.get(GraphStoreExportSettings.export_location_setting);
+        if (exportLocation == null) {
+            throw new RuntimeException(formatWithLocale(
+                "The configuration option '%s' must be set.",
+                GraphStoreExportSettings.export_location_setting.name()
+            ));
+        }
+        return exportLocation.resolve(SNAPSHOT_DIR);
+    }
+
+    private static Path resolve(Path rootPath, String snapshotName) {
+        var snapshotPath = rootPath.resolve(snapshotName).normalize();
+        var parent = snapshotPath.getParent();
+        if (parent == null || !parent.equals(rootPath.normalize())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Illegal parameter value for parameter snapshotName '%s'. It attempts to access a forbidden directory.",
+                snapshotName
+            ));
+        }
+        return snapshotPath;
+    }
+
+    private GraphSnapshotUtil() {}
+}
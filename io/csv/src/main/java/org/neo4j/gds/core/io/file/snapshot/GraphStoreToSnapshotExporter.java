@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.AdjacencyCursor;
+import org.neo4j.gds.api.AdjacencyList;
+import org.neo4j.gds.api.AdjacencyProperties;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.PropertyCursor;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.compression.common.AdjacencyCompression;
+import org.neo4j.gds.core.io.GraphStoreExporter;
+import org.neo4j.gds.core.io.ImmutableExportedProperties;
+import org.neo4j.gds.core.io.MetaDataStore;
+import org.neo4j.gds.core.io.file.GraphStoreMetaDataExporter;
+import org.neo4j.gds.core.io.file.csv.CsvGraphCapabilitiesWriter;
+import org.neo4j.gds.core.io.file.csv.CsvGraphInfoVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvGraphPropertySchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvNodeSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvRelationshipSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.UserInfoVisitor;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.logging.Log;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes a {@link CSRGraphStore} into a snapshot directory that can be loaded
+ * back by the {@link SnapshotToGraphStoreImporter} without parsing or re-compressing the topology.
+ * <p>
+ * The meta data, i.e. user, graph info, schemas and capabilities, is written in the same format as for CSV exports.
+ * The id map, labels, node properties and graph properties are written into a single binary file.
+ * Each adjacency list and each relationship property list is written into a file of its own,
+ * split into pages with the same layout as in memory, so that the importer can memory-map the adjacency lists.
+ */
+public final class GraphStoreToSnapshotExporter {
+
+    static final String SNAPSHOT_FILE = "graph.snapshot";
+    static final long MAGIC = 0x3150414E_53534447L; // "GDSSNAP1"
+    static final int VERSION = 1;
+
+    static final int NULL_ARRAY = -1;
+
+    private final CSRGraphStore graphStore;
+    private final Path directory;
+    private final String username;
+    private final GraphStoreMetaDataExporter metaDataExporter;
+    private final ProgressTracker progressTracker;
+
+    private long[] targetBuffer;
+    private long[] propertyBuffer;
+
+    public static GraphStoreToSnapshotExporter create(
+        GraphStore graphStore,
+        Path directory,
+        String username,
+        TaskRegistryFactory taskRegistryFactory,
+        Log log
+    ) {
+        if (!(graphStore instanceof CSRGraphStore)) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Snapshots are only supported for graph stores of type `%s`.",
+                CSRGraphStore.class.getSimpleName()
+            ));
+        }
+
+        var relationshipCount = graphStore.relationshipCount();
+        var task = Tasks.task(
+            "Snapshot",
+            Tasks.leaf("Write nodes", graphStore.nodeCount()),
+            Tasks.leaf("Write relationships", relationshipCount)
+        );
+        var progressTracker = new TaskProgressTracker(task, log, 1, taskRegistryFactory);
+
+        return new GraphStoreToSnapshotExporter((CSRGraphStore) graphStore, directory, username, progressTracker);
+    }
+
+    private GraphStoreToSnapshotExporter(
+        CSRGraphStore graphStore,
+        Path directory,
+        String username,
+        ProgressTracker progressTracker
+    ) {
+        this.graphStore = graphStore;
+        this.directory = directory;
+        this.username = username;
+        this.progressTracker = progressTracker;
+        this.metaDataExporter = new GraphStoreMetaDataExporter(
+            () -> new UserInfoVisitor(directory),
+            () -> new CsvGraphInfoVisitor(directory),
+            () -> new CsvNodeSchemaVisitor(directory),
+            () -> new CsvRelationshipSchemaVisitor(directory),
+            () -> new CsvGraphPropertySchemaVisitor(directory),
+            () -> new CsvGraphCapabilitiesWriter(directory)
+        );
+        this.targetBuffer = new long[0];
+        this.propertyBuffer = new long[0];
+    }
+
+    public GraphStoreExporter.ExportedProperties run() {
+        progressTracker.beginSubTask();
+        try {
+            metaDataExporter.export(MetaDataStore.of(graphStore), graphStore.capabilities(), username);
+
+            long relationshipPropertyCount;
+            try (var output = SnapshotOutput.create(directory.resolve(SNAPSHOT_FILE))) {
+                output.writeLong(MAGIC);
+                output.writeInt(VERSION);
+
+                progressTracker.beginSubTask();
+                writeIdMap(output);
+                writeNodeProperties(output);
+                progressTracker.endSubTask();
+
+                writeGraphProperties(output);
+
+                progressTracker.beginSubTask();
+                relationshipPropertyCount = writeRelationships(output);
+                progressTracker.endSubTask();
+            }
+
+            long nodePropertyCount = graphStore.nodePropertyKeys().size() * graphStore.nodeCount();
+            return ImmutableExportedProperties.of(nodePropertyCount, relationshipPropertyCount);
+        } finally {
+            progressTracker.endSubTask();
+        }
+    }
+
+    private void writeIdMap(SnapshotOutput output) {
+        IdMap idMap = graphStore.nodes();
+        long nodeCount = idMap.nodeCount();
+
+        output.writeLong(nodeCount);
+        output.writeLong(idMap.highestOriginalId());
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            output.writeLong(idMap.toOriginalNodeId(nodeId));
+        }
+
+        // a graph without any labels only knows about `ALL_NODES` and is written without label information
+        var labels = new ArrayList<>(idMap.availableNodeLabels());
+        if (labels.equals(List.of(NodeLabel.ALL_NODES))) {
+            labels.clear();
+        }
+        output.writeInt(labels.size());
+        for (NodeLabel label : labels) {
+            output.writeString(label.name());
+            long word = 0;
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                if (idMap.hasLabel(nodeId, label)) {
+                    word |= 1L << nodeId;
+                }
+                if ((nodeId & 63) == 63) {
+                    output.writeLong(word);
+                    word = 0;
+                }
+            }
+            if ((nodeCount & 63) != 0) {
+                output.writeLong(word);
+            }
+        }
+    }
+
+    private void writeNodeProperties(SnapshotOutput output) {
+        long nodeCount = graphStore.nodeCount();
+        var propertyKeys = graphStore.nodePropertyKeys();
+
+        output.writeInt(propertyKeys.size());
+        for (String propertyKey : propertyKeys) {
+            NodePropertyValues values = graphStore.nodeProperty(propertyKey).values();
+            var valueType = values.valueType();
+
+            output.writeString(propertyKey);
+            output.writeString(valueType.name());
+            for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                switch (valueType) {
+                    case LONG:
+                        output.writeLong(values.longValue(nodeId));
+                        break;
+                    case DOUBLE:
+                        output.writeDouble(values.doubleValue(nodeId));
+                        break;
+                    case LONG_ARRAY:
+                        writeLongArray(output, values.longArrayValue(nodeId));
+                        break;
+                    case DOUBLE_ARRAY:
+                        writeDoubleArray(output, values.doubleArrayValue(nodeId));
+                        break;
+                    case FLOAT_ARRAY:
+                        writeFloatArray(output, values.floatArrayValue(nodeId));
+                        break;
+                    default:
+                        throw new UnsupportedOperationException(formatWithLocale(
+                            "Node property `%s` of type `%s` is not supported by snapshots.",
+                            propertyKey,
+                            valueType
+                        ));
+                }
+            }
+        }
+        progressTracker.logProgress(nodeCount);
+    }
+
+    private void writeGraphProperties(SnapshotOutput output) {
+        var propertyKeys = graphStore.graphPropertyKeys();
+
+        output.writeInt(propertyKeys.size());
+        for (String propertyKey : propertyKeys) {
+            GraphPropertyValues values = graphStore.graphProperty(propertyKey).values();
+            var valueType = values.valueType();
+
+            output.writeString(propertyKey);
+            output.writeString(valueType.name());
+            output.writeLong(values.valueCount());
+            switch (valueType) {
+                case LONG:
+                    values.longValues().forEach(output::writeLong);
+                    break;
+                case DOUBLE:
+                    values.doubleValues().forEach(output::writeDouble);
+                    break;
+                case LONG_ARRAY:
+                    values.longArrayValues().forEach(array -> writeLongArray(output, array));
+                    break;
+                case DOUBLE_ARRAY:
+                    values.doubleArrayValues().forEach(array -> writeDoubleArray(output, array));
+                    break;
+                case FLOAT_ARRAY:
+                    values.floatArrayValues().forEach(array -> writeFloatArray(output, array));
+                    break;
+                default:
+                    throw new UnsupportedOperationException(formatWithLocale(
+                        "Graph property `%s` of type `%s` is not supported by snapshots.",
+                        propertyKey,
+                        valueType
+                    ));
+            }
+        }
+    }
+
+    private long writeRelationships(SnapshotOutput output) {
+        var relationshipTypes = new ArrayList<>(graphStore.relationshipTypes());
+        long relationshipPropertyCount = 0;
+
+        output.writeInt(relationshipTypes.size());
+        for (int typeIndex = 0; typeIndex < relationshipTypes.size(); typeIndex++) {
+            RelationshipType relationshipType = relationshipTypes.get(typeIndex);
+            var relationships = graphStore.relationships(relationshipType);
+
+            output.writeString(relationshipType.name());
+            relationshipPropertyCount += writeTopology(
+                output,
+                "relationships_" + typeIndex,
+                relationships.topology(),
+                relationships.properties()
+            );
+            progressTracker.logProgress(relationships.topology().elementCount());
+
+            output.writeBoolean(relationships.inverseTopology().isPresent());
+            if (relationships.inverseTopology().isPresent()) {
+                writeTopology(
+                    output,
+                    "relationships_" + typeIndex + "_inverse",
+                    relationships.inverseTopology().get(),
+                    relationships.inverseProperties()
+                );
+            }
+        }
+        return relationshipPropertyCount;
+    }
+
+    private long writeTopology(
+        SnapshotOutput output,
+        String fileName,
+        Topology topology,
+        Optional<RelationshipPropertyStore> properties
+    ) {
+        long nodeCount = graphStore.nodeCount();
+        AdjacencyList adjacencyList = topology.adjacencyList();
+
+        var pagesFile = fileName + ".pages";
+        var offsets = new long[Math.toIntExact(nodeCount)];
+        long[] pageSizes;
+        try (var pages = new PagedListWriter(directory.resolve(pagesFile))) {
+            AdjacencyCursor cursor = null;
+            for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int degree = adjacencyList.degree(nodeId);
+                if (degree == 0) {
+                    continue;
+                }
+                cursor = adjacencyList.adjacencyCursor(cursor, nodeId);
+                var targets = targetBuffer(degree);
+                for (int i = 0; i < degree; i++) {
+                    targets[i] = cursor.nextVLong();
+                }
+                var compressed = AdjacencyCompression.deltaEncodeAndCompress(targets, 0, degree, Aggregation.NONE);
+                offsets[nodeId] = pages.write(compressed, compressed.length);
+            }
+            pageSizes = pages.pageSizes();
+        }
+
+        output.writeString(pagesFile);
+        output.writeLong(topology.elementCount());
+        output.writeBoolean(topology.isMultiGraph());
+        writePageSizes(output, pageSizes);
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            output.writeInt(adjacencyList.degree(nodeId));
+        }
+        output.writeLongs(offsets, 0, offsets.length);
+
+        var propertyStore = properties.orElseGet(() -> RelationshipPropertyStore.builder().build());
+        var propertyKeys = new ArrayList<>(propertyStore.keySet());
+        output.writeInt(propertyKeys.size());
+        for (int propertyIndex = 0; propertyIndex < propertyKeys.size(); propertyIndex++) {
+            var propertyKey = propertyKeys.get(propertyIndex);
+            var values = propertyStore.get(propertyKey).values();
+
+            output.writeString(propertyKey);
+            output.writeDouble(values.defaultPropertyValue());
+            output.writeLong(values.elementCount());
+            writeProperties(output, fileName + "_" + propertyIndex + ".pages", adjacencyList, values.propertiesList());
+        }
+        return propertyKeys.size() * topology.elementCount();
+    }
+
+    private void writeProperties(
+        SnapshotOutput output,
+        String pagesFile,
+        AdjacencyList adjacencyList,
+        AdjacencyProperties properties
+    ) {
+        long nodeCount = graphStore.nodeCount();
+        var offsets = new long[Math.toIntExact(nodeCount)];
+        long[] pageSizes;
+        try (var pages = new PagedListWriter(directory.resolve(pagesFile))) {
+            PropertyCursor cursor = null;
+            for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+                int degree = adjacencyList.degree(nodeId);
+                if (degree == 0) {
+                    continue;
+                }
+                cursor = cursor == null
+                    ? properties.propertyCursor(nodeId)
+                    : properties.propertyCursor(cursor, nodeId);
+                var values = propertyBuffer(degree);
+                for (int i = 0; i < degree; i++) {
+                    values[i] = cursor.nextLong();
+                }
+                offsets[nodeId] = pages.write(values, degree);
+            }
+            pageSizes = pages.pageSizes();
+        }
+
+        output.writeString(pagesFile);
+        writePageSizes(output, pageSizes);
+        output.writeLongs(offsets, 0, offsets.length);
+    }
+
+    private long[] targetBuffer(int length) {
+        if (targetBuffer.length < length) {
+            targetBuffer = new long[length];
+        }
+        return targetBuffer;
+    }
+
+    private long[] propertyBuffer(int length) {
+        if (propertyBuffer.length < length) {
+            propertyBuffer = new long[length];
+        }
+        return propertyBuffer;
+    }
+
+    private static void writePageSizes(SnapshotOutput output, long[] pageSizes) {
+        output.writeInt(pageSizes.length);
+        output.writeLongs(pageSizes, 0, pageSizes.length);
+    }
+
+    private static void writeLongArray(SnapshotOutput output, long[] values) {
+        if (values == null) {
+            output.writeInt(NULL_ARRAY);
+            return;
+        }
+        output.writeInt(values.length);
+        output.writeLongs(values, 0, values.length);
+    }
+
+    private static void writeDoubleArray(SnapshotOutput output, double[] values) {
+        if (values == null) {
+            output.writeInt(NULL_ARRAY);
+            return;
+        }
+        output.writeInt(values.length);
+        for (double value : values) {
+            output.writeDouble(value);
+        }
+    }
+
+    private static void writeFloatArray(SnapshotOutput output, float[] values) {
+        if (values == null) {
+            output.writeInt(NULL_ARRAY);
+            return;
+        }
+        output.writeInt(values.length);
+        for (float value : values) {
+            output.writeFloat(value);
+        }
+    }
+}
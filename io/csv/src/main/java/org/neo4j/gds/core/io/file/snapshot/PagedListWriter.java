@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import com.carrotsearch.hppc.LongArrayList;
+import org.neo4j.gds.core.compression.common.BumpAllocator;
+
+import java.nio.file.Path;
+
+/**
+ * Writes adjacency or property lists into consecutive pages of a single file,
+ * using the same page layout as the {@link BumpAllocator}. A list never spans two pages;
+ * lists that are larger than a page are written into a page of their own.
+ * Only the used part of a page is written, the sizes of all pages are reported by {@link #pageSizes()}.
+ */
+final class PagedListWriter implements AutoCloseable {
+
+    private final SnapshotOutput output;
+    private final LongArrayList pageSizes;
+    private long currentPageSize;
+
+    PagedListWriter(Path file) {
+        this.output = SnapshotOutput.create(file);
+        this.pageSizes = new LongArrayList();
+        this.currentPageSize = 0;
+    }
+
+    /**
+     * Writes the given bytes and returns their offset.
+     */
+    long write(byte[] values, int length) {
+        long offset = allocate(length);
+        output.writeBytes(values, 0, length);
+        return offset;
+    }
+
+    /**
+     * Writes the given longs and returns their offset, counted in longs.
+     */
+    long write(long[] values, int length) {
+        long offset = allocate(length);
+        output.writeLongs(values, 0, length);
+        return offset;
+    }
+
+    long[] pageSizes() {
+        finishPage();
+        return pageSizes.toArray();
+    }
+
+    private long allocate(int length) {
+        if (length > BumpAllocator.PAGE_SIZE) {
+            finishPage();
+            long offset = offset(pageSizes.size(), 0);
+            pageSizes.add(length);
+            return offset;
+        }
+        if (currentPageSize + length > BumpAllocator.PAGE_SIZE) {
+            finishPage();
+        }
+        long offset = offset(pageSizes.size(), currentPageSize);
+        currentPageSize += length;
+        return offset;
+    }
+
+    private void finishPage() {
+        if (currentPageSize > 0) {
+            pageSizes.add(currentPageSize);
+            currentPageSize = 0;
+        }
+    }
+
+    private static long offset(int pageIndex, long indexInPage) {
+        return ((long) pageIndex << BumpAllocator.PAGE_SHIFT) | indexInPage;
+    }
+
+    @Override
+    public void close() {
+        output.close();
+    }
+}
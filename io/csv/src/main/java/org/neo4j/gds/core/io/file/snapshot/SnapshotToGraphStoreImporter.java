@@ -0,0 +1,547 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.ImmutableProperties;
+import org.neo4j.gds.api.ImmutableRelationshipProperty;
+import org.neo4j.gds.api.ImmutableTopology;
+import org.neo4j.gds.api.Properties;
+import org.neo4j.gds.api.RelationshipPropertyStore;
+import org.neo4j.gds.api.Topology;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.DoubleGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.FloatArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.GraphPropertyStore;
+import org.neo4j.gds.api.properties.graph.GraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.ImmutableGraphProperty;
+import org.neo4j.gds.api.properties.graph.LongArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.api.properties.nodes.ImmutableNodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.MutableGraphSchema;
+import org.neo4j.gds.api.schema.MutableNodeSchema;
+import org.neo4j.gds.api.schema.MutableRelationshipSchemaEntry;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.compression.offheap.OffHeapAdjacencyList;
+import org.neo4j.gds.core.compression.offheap.OffHeapMemory;
+import org.neo4j.gds.core.compression.uncompressed.UncompressedAdjacencyList;
+import org.neo4j.gds.core.io.file.FileToGraphStoreImporter;
+import org.neo4j.gds.core.io.file.ImmutableUserGraphStore;
+import org.neo4j.gds.core.io.file.csv.CsvFileInput;
+import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.ImmutableNodes;
+import org.neo4j.gds.core.loading.LabelInformation;
+import org.neo4j.gds.core.loading.LabelInformationBuilders;
+import org.neo4j.gds.core.loading.RelationshipImportResult;
+import org.neo4j.gds.core.loading.SingleTypeRelationships;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.logging.Log;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.core.io.file.snapshot.GraphStoreToSnapshotExporter.MAGIC;
+import static org.neo4j.gds.core.io.file.snapshot.GraphStoreToSnapshotExporter.NULL_ARRAY;
+import static org.neo4j.gds.core.io.file.snapshot.GraphStoreToSnapshotExporter.SNAPSHOT_FILE;
+import static org.neo4j.gds.core.io.file.snapshot.GraphStoreToSnapshotExporter.VERSION;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Loads a graph store from a snapshot directory written by the {@link GraphStoreToSnapshotExporter}.
+ * <p>
+ * The adjacency lists are memory-mapped from their page files and used as they are,
+ * all other parts of the graph store are read into memory without any further processing.
+ * <p>
+ * The id map and the property columns are deliberately not mapped:
+ * <ul>
+ *     <li>The id map needs the sparse reverse mapping from original to internal ids, which is not part
+ *     of the snapshot and has to be built on the heap anyway; the forward mapping is a single
+ *     {@code long} per node and small compared to the adjacency lists.</li>
+ *     <li>Node properties are written inline into the snapshot stream and are exposed as
+ *     {@link org.neo4j.gds.core.utils.paged.HugeLongArray} and friends, which mutating procedures
+ *     (e.g. property compaction) replace in place.</li>
+ *     <li>Relationship properties are backed by an {@link UncompressedAdjacencyList}, which reads
+ *     from {@code long[]} pages.</li>
+ * </ul>
+ * The mapped page files are unmapped when the restored graph store is dropped from the catalog,
+ * see {@link org.neo4j.gds.api.GraphStore#release()}.
+ */
+public final class SnapshotToGraphStoreImporter {
+
+    private static final int ID_BATCH_SIZE = 10_000;
+
+    private final Path directory;
+    private final int concurrency;
+    private final ProgressTracker progressTracker;
+
+    public static SnapshotToGraphStoreImporter create(
+        Path directory,
+        int concurrency,
+        TaskRegistryFactory taskRegistryFactory,
+        Log log
+    ) {
+        var task = Tasks.task(
+            "Restore",
+            Tasks.leaf("Read nodes"),
+            Tasks.leaf("Map relationships")
+        );
+        var progressTracker = new TaskProgressTracker(task, log, concurrency, taskRegistryFactory);
+        return new SnapshotToGraphStoreImporter(directory, concurrency, progressTracker);
+    }
+
+    private SnapshotToGraphStoreImporter(Path directory, int concurrency, ProgressTracker progressTracker) {
+        this.directory = directory;
+        this.concurrency = concurrency;
+        this.progressTracker = progressTracker;
+    }
+
+    public FileToGraphStoreImporter.UserGraphStore run() {
+        var fileInput = new CsvFileInput(directory);
+        var nodeSchema = fileInput.nodeSchema();
+        var relationshipSchema = fileInput.relationshipSchema();
+        var graphPropertySchema = fileInput.graphPropertySchema();
+
+        progressTracker.beginSubTask();
+        try (var input = SnapshotInput.open(directory.resolve(SNAPSHOT_FILE))) {
+            readHeader(input);
+
+            progressTracker.beginSubTask();
+            var idMap = readIdMap(input);
+            var nodeProperties = readNodeProperties(input, nodeSchema, idMap.nodeCount());
+            progressTracker.endSubTask();
+
+            var graphProperties = readGraphProperties(input, graphPropertySchema);
+
+            progressTracker.beginSubTask();
+            var relationships = new HashMap<RelationshipType, SingleTypeRelationships>();
+            int relationshipTypeCount = input.readInt();
+            for (int i = 0; i < relationshipTypeCount; i++) {
+                var relationshipType = RelationshipType.of(input.readString());
+                var schemaEntry = relationshipSchema.get(relationshipType);
+                relationships.put(relationshipType, readRelationships(input, schemaEntry, idMap.nodeCount()));
+            }
+            progressTracker.endSubTask();
+
+            var graphStore = new GraphStoreBuilder()
+                .databaseId(fileInput.graphInfo().databaseId())
+                .capabilities(fileInput.capabilities())
+                .schema(MutableGraphSchema.of(nodeSchema, relationshipSchema, graphPropertySchema))
+                .nodes(ImmutableNodes.of(nodeSchema, idMap, nodeProperties))
+                .relationshipImportResult(RelationshipImportResult.builder().importResults(relationships).build())
+                .graphProperties(graphProperties)
+                .concurrency(concurrency)
+                .build();
+
+            return ImmutableUserGraphStore.of(fileInput.userName(), graphStore);
+        } finally {
+            progressTracker.endSubTask();
+        }
+    }
+
+    private static void readHeader(SnapshotInput input) {
+        if (input.readLong() != MAGIC) {
+            throw new IllegalArgumentException("The given directory does not contain a graph snapshot.");
+        }
+        int version = input.readInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Unsupported snapshot version %d, expected version %d.",
+                version,
+                VERSION
+            ));
+        }
+    }
+
+    private IdMap readIdMap(SnapshotInput input) {
+        long nodeCount = input.readLong();
+        long highestOriginalId = input.readLong();
+
+        var idMapBuilder = ArrayIdMapBuilder.of(nodeCount);
+        var batch = new long[ID_BATCH_SIZE];
+        for (long start = 0; start < nodeCount; start += ID_BATCH_SIZE) {
+            int batchLength = (int) Math.min(ID_BATCH_SIZE, nodeCount - start);
+            input.readLongs(batch, 0, batchLength);
+            idMapBuilder.allocate(batchLength).insert(batch);
+        }
+        var originalIds = idMapBuilder.array();
+
+        LabelInformation.Builder labelInformationBuilder;
+        int labelCount = input.readInt();
+        if (labelCount == 0) {
+            labelInformationBuilder = LabelInformationBuilders.allNodes();
+        } else {
+            labelInformationBuilder = LabelInformationBuilders.multiLabelWithCapacity(nodeCount);
+            for (int i = 0; i < labelCount; i++) {
+                var label = NodeLabel.of(input.readString());
+                long word = 0;
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    if ((nodeId & 63) == 0) {
+                        word = input.readLong();
+                    }
+                    if ((word & (1L << nodeId)) != 0) {
+                        labelInformationBuilder.addNodeIdToLabel(label, originalIds.get(nodeId));
+                    }
+                }
+            }
+        }
+
+        var idMap = idMapBuilder.build(labelInformationBuilder, highestOriginalId, concurrency);
+        progressTracker.logProgress(nodeCount);
+        return idMap;
+    }
+
+    private static NodePropertyStore readNodeProperties(
+        SnapshotInput input,
+        MutableNodeSchema nodeSchema,
+        long nodeCount
+    ) {
+        var propertySchemas = new HashMap<String, PropertySchema>();
+        nodeSchema.entries().forEach(entry -> propertySchemas.putAll(entry.properties()));
+
+        var propertyStoreBuilder = NodePropertyStore.builder();
+        int propertyCount = input.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            var propertyKey = input.readString();
+            var valueType = ValueType.valueOf(input.readString());
+            var values = readNodePropertyValues(input, valueType, nodeCount);
+            propertyStoreBuilder.putProperty(
+                propertyKey,
+                ImmutableNodeProperty.of(values, propertySchemas.get(propertyKey))
+            );
+        }
+        return propertyStoreBuilder.build();
+    }
+
+    private static NodePropertyValues readNodePropertyValues(SnapshotInput input, ValueType valueType, long nodeCount) {
+        switch (valueType) {
+            case LONG:
+                var longValues = HugeLongArray.newArray(nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    longValues.set(nodeId, input.readLong());
+                }
+                return longValues.asNodeProperties();
+            case DOUBLE:
+                var doubleValues = HugeDoubleArray.newArray(nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    doubleValues.set(nodeId, input.readDouble());
+                }
+                return doubleValues.asNodeProperties();
+            case LONG_ARRAY:
+                var longArrays = HugeObjectArray.newArray(long[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    longArrays.set(nodeId, readLongArray(input));
+                }
+                return longArrays.asNodeProperties();
+            case DOUBLE_ARRAY:
+                var doubleArrays = HugeObjectArray.newArray(double[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    doubleArrays.set(nodeId, readDoubleArray(input));
+                }
+                return doubleArrays.asNodeProperties();
+            case FLOAT_ARRAY:
+                var floatArrays = HugeObjectArray.newArray(float[].class, nodeCount);
+                for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+                    floatArrays.set(nodeId, readFloatArray(input));
+                }
+                return floatArrays.asNodeProperties();
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unsupported node property type `%s`.", valueType));
+        }
+    }
+
+    private static GraphPropertyStore readGraphProperties(SnapshotInput input, Map<String, PropertySchema> graphPropertySchema) {
+        var propertyStoreBuilder = GraphPropertyStore.builder();
+        int propertyCount = input.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            var propertyKey = input.readString();
+            var valueType = ValueType.valueOf(input.readString());
+            var valueCount = Math.toIntExact(input.readLong());
+            var values = readGraphPropertyValues(input, valueType, valueCount);
+            propertyStoreBuilder.putProperty(
+                propertyKey,
+                ImmutableGraphProperty.of(values, graphPropertySchema.get(propertyKey))
+            );
+        }
+        return propertyStoreBuilder.build();
+    }
+
+    private static GraphPropertyValues readGraphPropertyValues(SnapshotInput input, ValueType valueType, int valueCount) {
+        switch (valueType) {
+            case LONG:
+                var longValues = new long[valueCount];
+                input.readLongs(longValues, 0, valueCount);
+                return new LongGraphPropertyValues() {
+                    @Override
+                    public LongStream longValues() {
+                        return LongStream.of(longValues);
+                    }
+
+                    @Override
+                    public long valueCount() {
+                        return longValues.length;
+                    }
+                };
+            case DOUBLE:
+                var doubleValues = new double[valueCount];
+                for (int i = 0; i < valueCount; i++) {
+                    doubleValues[i] = input.readDouble();
+                }
+                return new DoubleGraphPropertyValues() {
+                    @Override
+                    public DoubleStream doubleValues() {
+                        return DoubleStream.of(doubleValues);
+                    }
+
+                    @Override
+                    public long valueCount() {
+                        return doubleValues.length;
+                    }
+                };
+            case LONG_ARRAY:
+                var longArrays = new ArrayList<long[]>(valueCount);
+                for (int i = 0; i < valueCount; i++) {
+                    longArrays.add(readLongArray(input));
+                }
+                return new LongArrayGraphPropertyValues() {
+                    @Override
+                    public Stream<long[]> longArrayValues() {
+                        return longArrays.stream();
+                    }
+
+                    @Override
+                    public long valueCount() {
+                        return longArrays.size();
+                    }
+                };
+            case DOUBLE_ARRAY:
+                var doubleArrays = new ArrayList<double[]>(valueCount);
+                for (int i = 0; i < valueCount; i++) {
+                    doubleArrays.add(readDoubleArray(input));
+                }
+                return new DoubleArrayGraphPropertyValues() {
+                    @Override
+                    public Stream<double[]> doubleArrayValues() {
+                        return doubleArrays.stream();
+                    }
+
+                    @Override
+                    public long valueCount() {
+                        return doubleArrays.size();
+                    }
+                };
+            case FLOAT_ARRAY:
+                var floatArrays = new ArrayList<float[]>(valueCount);
+                for (int i = 0; i < valueCount; i++) {
+                    floatArrays.add(readFloatArray(input));
+                }
+                return new FloatArrayGraphPropertyValues() {
+                    @Override
+                    public Stream<float[]> floatArrayValues() {
+                        return floatArrays.stream();
+                    }
+
+                    @Override
+                    public long valueCount() {
+                        return floatArrays.size();
+                    }
+                };
+            default:
+                throw new IllegalArgumentException(formatWithLocale("Unsupported graph property type `%s`.", valueType));
+        }
+    }
+
+    private SingleTypeRelationships readRelationships(
+        SnapshotInput input,
+        MutableRelationshipSchemaEntry schemaEntry,
+        long nodeCount
+    ) {
+        var builder = SingleTypeRelationships.builder().relationshipSchemaEntry(schemaEntry);
+
+        var topology = readTopology(input, nodeCount);
+        builder.topology(topology.topology());
+        topology.properties(schemaEntry).ifPresent(builder::properties);
+        progressTracker.logProgress(topology.topology().elementCount());
+
+        if (input.readBoolean()) {
+            var inverseTopology = readTopology(input, nodeCount);
+            builder.inverseTopology(inverseTopology.topology());
+            inverseTopology.properties(schemaEntry).ifPresent(builder::inverseProperties);
+        }
+
+        return builder.build();
+    }
+
+    private TopologyWithProperties readTopology(SnapshotInput input, long nodeCount) {
+        var pagesFile = directory.resolve(input.readString());
+        long elementCount = input.readLong();
+        boolean isMultiGraph = input.readBoolean();
+        var pageSizes = readPageSizes(input);
+
+        var degrees = HugeIntArray.newArray(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            degrees.set(nodeId, input.readInt());
+        }
+        var offsets = readOffsets(input, nodeCount);
+
+        var adjacencyList = OffHeapAdjacencyList.fromPages(
+            OffHeapMemory.mappedFile(pagesFile),
+            pageSizes,
+            degrees,
+            offsets
+        );
+        var topology = ImmutableTopology.of(adjacencyList, elementCount, isMultiGraph);
+
+        var properties = new ArrayList<PropertyList>();
+        int propertyCount = input.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            var propertyKey = input.readString();
+            double defaultValue = input.readDouble();
+            long propertyElementCount = input.readLong();
+            var propertiesList = readProperties(input, degrees, nodeCount);
+            properties.add(new PropertyList(
+                propertyKey,
+                ImmutableProperties.of(propertiesList, propertyElementCount, defaultValue)
+            ));
+        }
+
+        return new TopologyWithProperties(topology, properties);
+    }
+
+    private UncompressedAdjacencyList readProperties(SnapshotInput input, HugeIntArray degrees, long nodeCount) {
+        var pagesFile = directory.resolve(input.readString());
+        var pageSizes = readPageSizes(input);
+        var offsets = readOffsets(input, nodeCount);
+
+        var pages = new long[pageSizes.length][];
+        try (var pagesInput = SnapshotInput.open(pagesFile)) {
+            for (int i = 0; i < pageSizes.length; i++) {
+                pages[i] = new long[Math.toIntExact(pageSizes[i])];
+                pagesInput.readLongs(pages[i], 0, pages[i].length);
+            }
+        }
+        return new UncompressedAdjacencyList(pages, degrees, offsets);
+    }
+
+    private static long[] readPageSizes(SnapshotInput input) {
+        var pageSizes = new long[input.readInt()];
+        input.readLongs(pageSizes, 0, pageSizes.length);
+        return pageSizes;
+    }
+
+    private static HugeLongArray readOffsets(SnapshotInput input, long nodeCount) {
+        var offsets = HugeLongArray.newArray(nodeCount);
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, input.readLong());
+        }
+        return offsets;
+    }
+
+    private static long[] readLongArray(SnapshotInput input) {
+        int length = input.readInt();
+        if (length == NULL_ARRAY) {
+            return null;
+        }
+        var values = new long[length];
+        input.readLongs(values, 0, length);
+        return values;
+    }
+
+    private static double[] readDoubleArray(SnapshotInput input) {
+        int length = input.readInt();
+        if (length == NULL_ARRAY) {
+            return null;
+        }
+        var values = new double[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = input.readDouble();
+        }
+        return values;
+    }
+
+    private static float[] readFloatArray(SnapshotInput input) {
+        int length = input.readInt();
+        if (length == NULL_ARRAY) {
+            return null;
+        }
+        var values = new float[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = input.readFloat();
+        }
+        return values;
+    }
+
+    private static final class PropertyList {
+        private final String propertyKey;
+        private final Properties properties;
+
+        PropertyList(String propertyKey, Properties properties) {
+            this.propertyKey = propertyKey;
+            this.properties = properties;
+        }
+    }
+
+    private static final class TopologyWithProperties {
+        private final Topology topology;
+        private final List<PropertyList> properties;
+
+        TopologyWithProperties(Topology topology, List<PropertyList> properties) {
+            this.topology = topology;
+            this.properties = properties;
+        }
+
+        Topology topology() {
+            return topology;
+        }
+
+        Optional<RelationshipPropertyStore> properties(MutableRelationshipSchemaEntry schemaEntry) {
+            if (properties.isEmpty()) {
+                return Optional.empty();
+            }
+            var propertyStoreBuilder = RelationshipPropertyStore.builder();
+            for (PropertyList property : properties) {
+                propertyStoreBuilder.putRelationshipProperty(
+                    property.propertyKey,
+                    ImmutableRelationshipProperty.of(property.properties, schemaEntry.properties().get(property.propertyKey))
+                );
+            }
+            return Optional.of(propertyStoreBuilder.build());
+        }
+    }
+}
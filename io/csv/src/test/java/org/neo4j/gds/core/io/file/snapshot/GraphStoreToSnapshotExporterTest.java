@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.api.schema.Direction;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.loading.CSRGraphStoreUtil;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class GraphStoreToSnapshotExporterTest {
+
+    @GdlGraph(indexInverse = true)
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42.0, prop3: [0.3D, 0.2D], prop4: [1L, 2L] })" +
+        ", (b:A:B { prop1: 1, prop2: 43.0, prop3: [0.1D], prop4: [3L] })" +
+        ", (c:A:C { prop1: 2, prop2: 44.0, prop3: [-0.04D], prop4: [4L, 5L, 6L] })" +
+        ", (d:B { prop1: 3, prop2: 45.0, prop3: [1.0D], prop4: [7L] })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5 }]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    Graph graph;
+
+    @Inject
+    IdFunction idFunction;
+
+    @TempDir
+    Path snapshotLocation;
+
+    @Test
+    void shouldRestoreGraph() {
+        var restoredGraphStore = snapshotAndRestore(graphStore);
+
+        assertThat(restoredGraphStore.nodeLabels()).isEqualTo(graphStore.nodeLabels());
+        assertThat(restoredGraphStore.nodePropertyKeys()).isEqualTo(graphStore.nodePropertyKeys());
+        assertThat(restoredGraphStore.relationshipTypes()).isEqualTo(graphStore.relationshipTypes());
+        assertThat(restoredGraphStore.schema()).isEqualTo(graphStore.schema());
+        assertThat(restoredGraphStore.databaseId()).isEqualTo(graphStore.databaseId());
+
+        assertGraphEquals(graph, restoredGraphStore.getUnion());
+        for (var relationshipType : graphStore.relationshipTypes()) {
+            for (var propertyKey : graphStore.relationshipPropertyKeys(relationshipType)) {
+                assertGraphEquals(
+                    graphStore.getGraph(relationshipType, Optional.of(propertyKey)),
+                    restoredGraphStore.getGraph(relationshipType, Optional.of(propertyKey))
+                );
+            }
+        }
+    }
+
+    @Test
+    void shouldRestoreLabels() {
+        var restoredGraphStore = snapshotAndRestore(graphStore);
+
+        var restoredGraph = restoredGraphStore.getGraph(NodeLabel.of("C"));
+        assertThat(restoredGraph.nodeCount()).isEqualTo(1);
+        assertThat(restoredGraph.toOriginalNodeId(0)).isEqualTo(idFunction.of("c"));
+
+        assertGraphEquals(graphStore.getGraph(NodeLabel.of("B")), restoredGraphStore.getGraph(NodeLabel.of("B")));
+    }
+
+    @Test
+    void shouldRestoreInverseIndex() {
+        var restoredGraphStore = snapshotAndRestore(graphStore);
+
+        assertThat(restoredGraphStore.inverseIndexedRelationshipTypes())
+            .containsExactlyInAnyOrderElementsOf(graphStore.inverseIndexedRelationshipTypes());
+
+        var expected = graphStore.getGraph(RelationshipType.of("REL1"), Optional.of("prop2"));
+        var restored = restoredGraphStore.getGraph(RelationshipType.of("REL1"), Optional.of("prop2"));
+        for (long nodeId = 0; nodeId < expected.nodeCount(); nodeId++) {
+            assertThat(restored.degreeInverse(nodeId)).isEqualTo(expected.degreeInverse(nodeId));
+
+            var expectedTargets = new StringBuilder();
+            expected.forEachInverseRelationship(nodeId, Double.NaN, (s, t, w) -> {
+                expectedTargets.append(t).append(':').append(w).append(' ');
+                return true;
+            });
+            var restoredTargets = new StringBuilder();
+            restored.forEachInverseRelationship(nodeId, Double.NaN, (s, t, w) -> {
+                restoredTargets.append(t).append(':').append(w).append(' ');
+                return true;
+            });
+            assertThat(restoredTargets.toString()).isEqualTo(expectedTargets.toString());
+        }
+    }
+
+    @Test
+    void shouldRestoreGraphProperties() {
+        graphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 10_000);
+            }
+
+            @Override
+            public long valueCount() {
+                return 10_000;
+            }
+        });
+
+        var restoredGraphStore = snapshotAndRestore(graphStore);
+
+        assertThat(restoredGraphStore.graphPropertyKeys()).containsExactly("longProp");
+        assertThat(restoredGraphStore.graphProperty("longProp").values().longValues().toArray())
+            .containsExactly(LongStream.range(0, 10_000).toArray());
+    }
+
+    @Test
+    void shouldRestoreGraphWithNoLabels() {
+        var graphStore = GdlFactory.of("()-[]->()").build();
+
+        var restoredGraphStore = snapshotAndRestore(graphStore);
+
+        assertThat(restoredGraphStore.nodeLabels()).containsExactly(NodeLabel.ALL_NODES);
+        assertGraphEquals(graphStore.getUnion(), restoredGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldRestoreGraphSpanningMultiplePages() {
+        var generatedGraph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(50)
+            .relationshipDistribution(RelationshipDistribution.RANDOM)
+            .relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 1))
+            .direction(Direction.DIRECTED)
+            .seed(42L)
+            .build()
+            .generate();
+        var graphStore = CSRGraphStoreUtil.createFromGraph(
+            DatabaseId.random(),
+            generatedGraph,
+            Optional.of("weight"),
+            4
+        );
+
+        var restoredGraphStore = snapshotAndRestore(graphStore);
+
+        assertGraphEquals(graphStore.getUnion(), restoredGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldUnmapAdjacencyListsOnRelease() {
+        var restoredGraphStore = snapshotAndRestore(graphStore);
+        assertThat(restoredGraphStore.offHeapSizeInBytes()).isPositive();
+
+        restoredGraphStore.release();
+
+        assertThat(restoredGraphStore.offHeapSizeInBytes()).isZero();
+        var restoredGraph = restoredGraphStore.getUnion();
+        assertThatThrownBy(() -> restoredGraph.forEachRelationship(0, (s, t) -> true))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("released");
+    }
+
+    @Test
+    void shouldFailOnMissingSnapshot() {
+        var importer = SnapshotToGraphStoreImporter.create(
+            snapshotLocation,
+            1,
+            EmptyTaskRegistryFactory.INSTANCE,
+            Neo4jProxy.testLog()
+        );
+
+        assertThatThrownBy(importer::run).isInstanceOf(RuntimeException.class);
+    }
+
+    private GraphStore snapshotAndRestore(GraphStore graphStore) {
+        GraphStoreToSnapshotExporter.create(
+            graphStore,
+            snapshotLocation,
+            "",
+            EmptyTaskRegistryFactory.INSTANCE,
+            Neo4jProxy.testLog()
+        ).run();
+
+        return SnapshotToGraphStoreImporter.create(
+            snapshotLocation,
+            4,
+            EmptyTaskRegistryFactory.INSTANCE,
+            Neo4jProxy.testLog()
+        ).run().graphStore();
+    }
+}
@@ -112,6 +112,10 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.hits.write",
         "gds.alpha.hits.write.estimate",
 
+        "gds.alpha.hnsw.build",
+        "gds.alpha.hnsw.insert",
+        "gds.alpha.hnsw.query",
+
         "gds.alpha.nodeSimilarity.filtered.mutate",
         "gds.alpha.nodeSimilarity.filtered.mutate.estimate",
         "gds.alpha.nodeSimilarity.filtered.stats",
@@ -360,6 +364,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.beta.graph.relationships.toUndirected",
         "gds.beta.graph.relationships.toUndirected.estimate",
 
+        "gds.graph.compact",
         "gds.graph.deleteRelationships",
         "gds.graph.relationships.drop",
         "gds.graph.drop",
@@ -369,6 +374,8 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.graph.project.cypher",
         "gds.graph.project.cypher.estimate",
         "gds.graph.project.estimate",
+        "gds.graph.restore",
+        "gds.graph.snapshot",
         "gds.graph.streamNodeProperties",
         "gds.graph.nodeProperties.stream",
         "gds.graph.streamNodeProperty",
@@ -537,7 +544,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 383;
+        int expectedCount = 389;
         assertEquals(
             expectedCount,
             returnedRows,
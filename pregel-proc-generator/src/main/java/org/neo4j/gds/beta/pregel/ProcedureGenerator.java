@@ -271,7 +271,7 @@ abstract class ProcedureGenerator extends PregelGenerator {
                 .addParameter(pregelSpec.configTypeName(), "configuration")
                 .addStatement("var computation = new $T()", computationClassName(pregelSpec, ""))
                 .addStatement(
-                    "return $T.memoryEstimation(computation.schema(configuration), computation.reducer().isEmpty(), configuration.isAsynchronous())",
+                    "return $T.memoryEstimation(computation.schema(configuration), computation.reducer(), configuration.isAsynchronous())",
                     Pregel.class
                 )
                 .build()
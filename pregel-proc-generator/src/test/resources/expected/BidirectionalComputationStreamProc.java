@@ -107,7 +107,7 @@ public final class BidirectionalComputationStreamProc extends PregelStreamProc<B
             @Override
             public MemoryEstimation memoryEstimation(PregelProcedureConfig configuration) {
                 var computation = new BidirectionalComputation();
-                return Pregel.memoryEstimation(computation.schema(configuration), computation.reducer().isEmpty(), configuration.isAsynchronous());
+                return Pregel.memoryEstimation(computation.schema(configuration), computation.reducer(), configuration.isAsynchronous());
             }
         };
     }
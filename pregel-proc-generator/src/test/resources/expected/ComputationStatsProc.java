@@ -111,7 +111,7 @@ public final class ComputationStatsProc extends PregelStatsProc<ComputationAlgor
                 var computation = new Computation();
                 return Pregel.memoryEstimation(
                     computation.schema(configuration),
-                    computation.reducer().isEmpty(),
+                    computation.reducer(),
                     configuration.isAsynchronous()
                 );
             }
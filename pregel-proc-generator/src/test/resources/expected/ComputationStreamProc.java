@@ -106,7 +106,7 @@ public final class ComputationStreamProc extends PregelStreamProc<ComputationAlg
                 var computation = new Computation();
                 return Pregel.memoryEstimation(
                     computation.schema(configuration),
-                    computation.reducer().isEmpty(),
+                    computation.reducer(),
                     configuration.isAsynchronous()
                 );
             }
@@ -67,6 +67,27 @@ public interface BasePregelComputation<C extends PregelConfig> {
         return Optional.empty();
     }
 
+    /**
+     * The message schema describes the layout of the messages sent
+     * between nodes. By default, messages are single double values.
+     * Computations that need to send node ids, (node id, weight) pairs
+     * or small vectors can declare a different message schema and use
+     * the corresponding methods on the compute context and messages.
+     * A reducer for such messages is declared as part of the schema.
+     * <br>
+     * Example:
+     * <pre>
+     * public MessageSchema messageSchema(PregelConfig config) {
+     *      return MessageSchema.ofLong(new LongReducer.Min());
+     * }
+     * </pre>
+     *
+     * @see MessageSchema
+     */
+    default MessageSchema messageSchema(C config) {
+        return MessageSchema.ofDouble();
+    }
+
     /**
      * If the input graph is weighted, i.e. relationships have a
      * property, this method can be overridden to apply that weight
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.mem.BitUtil;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * A sender-side buffer that reduces messages per target node before they
+ * are published to the shared message array of a {@link ReducingMessenger}.
+ * <p>
+ * Each compute step owns one buffer. The buffer is a direct-mapped table
+ * keyed by the target node id. Targets that receive many messages from the
+ * same compute step, e.g. hub nodes in skewed graphs, stay in the table and are
+ * published once per batch instead of once per message. Targets that
+ * only receive few messages are aged out on collision and their messages
+ * are published directly, which is the same as not buffering them at all.
+ * <p>
+ * The buffer is not thread-safe, it must only be accessed by the thread
+ * that currently runs its owning compute step.
+ */
+final class CombiningBuffer {
+
+    static final int DEFAULT_CAPACITY = 1 << 10;
+
+    // a slot is kept as long as it has been hit more often than it collided
+    private static final int MAX_HITS = 255;
+    private static final long EMPTY = -1L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final Reducer reducer;
+    private final int mask;
+
+    private long[] targets;
+    private double[] values;
+    private int[] hits;
+    private int occupiedSlots;
+
+    CombiningBuffer(Reducer reducer, int capacity) {
+        assert Integer.bitCount(capacity) == 1 : "capacity must be a power of two";
+
+        this.reducer = reducer;
+        this.mask = capacity - 1;
+        this.targets = new long[capacity];
+        this.values = new double[capacity];
+        this.hits = new int[capacity];
+        Arrays.fill(targets, EMPTY);
+    }
+
+    /**
+     * A graph never has more targets than nodes, so small graphs get a smaller table.
+     */
+    static int capacity(long nodeCount) {
+        return BitUtil.nextHighestPowerOfTwo((int) Math.max(1, Math.min(nodeCount, DEFAULT_CAPACITY)));
+    }
+
+    static long sizeInBytes(int capacity) {
+        return MemoryUsage.sizeOfInstance(CombiningBuffer.class)
+               + MemoryUsage.sizeOfLongArray(capacity)
+               + MemoryUsage.sizeOfDoubleArray(capacity)
+               + MemoryUsage.sizeOfIntArray(capacity);
+    }
+
+    void add(long target, double message, HugeAtomicDoubleArray sendArray) {
+        long hash = target * GOLDEN_RATIO;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        long occupant = targets[slot];
+
+        if (occupant == target) {
+            values[slot] = reducer.reduce(values[slot], message);
+            if (hits[slot] < MAX_HITS) {
+                hits[slot]++;
+            }
+        } else if (occupant == EMPTY) {
+            occupy(slot, target, message);
+            occupiedSlots++;
+        } else if (--hits[slot] > 0) {
+            // the occupant is still hot, bypass the buffer for the new target
+            sendArray.update(target, current -> reducer.reduce(current, message));
+        } else {
+            publish(occupant, values[slot], sendArray);
+            occupy(slot, target, message);
+        }
+    }
+
+    /**
+     * Publishes all buffered values to the given array and empties the buffer.
+     */
+    void flush(HugeAtomicDoubleArray sendArray) {
+        if (occupiedSlots == 0) {
+            return;
+        }
+        for (int slot = 0; slot < targets.length; slot++) {
+            long target = targets[slot];
+            if (target != EMPTY) {
+                publish(target, values[slot], sendArray);
+                targets[slot] = EMPTY;
+            }
+        }
+        occupiedSlots = 0;
+    }
+
+    int occupiedSlots() {
+        return occupiedSlots;
+    }
+
+    void release() {
+        this.targets = null;
+        this.values = null;
+        this.hits = null;
+    }
+
+    private void occupy(int slot, long target, double message) {
+        targets[slot] = target;
+        values[slot] = reducer.reduce(reducer.identity(), message);
+        hits[slot] = 1;
+    }
+
+    private void publish(long target, double partial, HugeAtomicDoubleArray sendArray) {
+        sendArray.update(target, current -> reducer.combine(current, partial));
+    }
+}
@@ -25,6 +25,8 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.function.LongConsumer;
+
 public interface ComputeStep<
     CONFIG extends PregelConfig,
     ITERATOR extends Messages.MessageIterator,
@@ -50,17 +52,20 @@ public interface ComputeStep<
 
     ProgressTracker progressTracker();
 
+    Frontier frontier();
+
     default void computeBatch() {
         var messenger = messenger();
         var messageIterator = messenger.messageIterator();
-        var messages = new Messages(messageIterator);
+        var messages = new Messages(messageIterator, messenger.messageSchema());
 
         var nodeBatch = nodeBatch();
         var initContext = initContext();
         var computeContext = computeContext();
         var voteBits = voteBits();
+        var frontier = frontier();
 
-        nodeBatch.consume(nodeId -> {
+        LongConsumer computeNode = nodeId -> {
             if (computeContext.isInitialSuperstep()) {
                 initContext.setNodeId(nodeId);
                 initFunction().init(initContext);
@@ -72,8 +77,22 @@ public interface ComputeStep<
                 voteBits.clear(nodeId);
                 computeContext.setNodeId(nodeId);
                 computeFunction().compute(computeContext, messages);
+
+                // Nodes that keep being active or did not consume
+                // all their messages need to be visited again.
+                if (!voteBits.get(nodeId) || messageIterator.hasNext()) {
+                    frontier.activate(nodeId);
+                }
             }
-        });
+        };
+
+        if (frontier.isSparse()) {
+            // the batch refers to positions within the active nodes
+            nodeBatch.consume(index -> computeNode.accept(frontier.activeNode(index)));
+        } else {
+            nodeBatch.consume(computeNode);
+        }
+        messenger.flush();
         progressTracker().logProgress(nodeBatch.nodeCount());
     }
 
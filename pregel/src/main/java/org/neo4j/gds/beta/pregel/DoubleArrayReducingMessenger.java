@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A messenger implementation that is backed by two double arrays used to
+ * send and receive messages of type {@link MessageSchema.Type#DOUBLE_ARRAY}.
+ * The arrays store {@code width} consecutive values per node. The messenger
+ * can only be applied in combination with a {@link Reducer} which atomically
+ * reduces each position of all incoming messages into a single message.
+ */
+public class DoubleArrayReducingMessenger implements Messenger<DoubleArrayReducingMessenger.SingleArrayMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final MessageSchema messageSchema;
+    private final Reducer reducer;
+    private final int width;
+
+    private HugeAtomicDoubleArray sendArray;
+    private HugeAtomicDoubleArray receiveArray;
+
+    DoubleArrayReducingMessenger(Graph graph, PregelConfig config, MessageSchema messageSchema) {
+        this.graph = graph;
+        this.config = config;
+        this.messageSchema = messageSchema;
+        this.reducer = messageSchema.reducer().orElseThrow();
+        this.width = messageSchema.width();
+
+        assert !Double.isNaN(reducer.identity()): "identity element must not be NaN";
+
+        this.receiveArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * width);
+        this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount() * width);
+    }
+
+    static MemoryEstimation memoryEstimation(int width) {
+        return MemoryEstimations.builder(DoubleArrayReducingMessenger.class)
+            .perNode("send array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * width))
+            .perNode("receive array", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * width))
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        double identity = reducer.identity();
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            config.concurrency(),
+            TerminationFlag.RUNNING_TRUE,
+            nodeId -> {
+                long offset = nodeId * width;
+                for (int i = 0; i < width; i++) {
+                    sendArray.set(offset + i, identity);
+                }
+            }
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Use `sendTo(long, double[])` to send messages of type DOUBLE_ARRAY.");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        if (message.length != width) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of length %d, but got %d.",
+                width,
+                message.length
+            ));
+        }
+        long offset = targetNodeId * width;
+        for (int i = 0; i < width; i++) {
+            double value = message[i];
+            sendArray.update(offset + i, current -> reducer.reduce(current, value));
+        }
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    @Override
+    public SingleArrayMessageIterator messageIterator() {
+        return new SingleArrayMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        SingleArrayMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        long offset = nodeId * width;
+        double identity = reducer.identity();
+        boolean hasMessage = false;
+        for (int i = 0; i < width; i++) {
+            if (receiveArray.get(offset + i) != identity) {
+                hasMessage = true;
+                break;
+            }
+        }
+        messageIterator.init(receiveArray, offset, hasMessage ? width : 0);
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    /**
+     * Iterates the slots of a single reduced message.
+     */
+    static class SingleArrayMessageIterator implements Messages.MessageIterator {
+
+        private HugeAtomicDoubleArray values;
+        private long position;
+        private long end;
+        private boolean isEmpty;
+
+        void init(HugeAtomicDoubleArray values, long offset, int length) {
+            this.values = values;
+            this.position = offset;
+            this.end = offset + length;
+            this.isEmpty = length == 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return isEmpty;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < end;
+        }
+
+        @Override
+        public double nextDouble() {
+            return values.get(position++);
+        }
+    }
+}
@@ -48,6 +48,7 @@ public final class ForkJoinComputeStep<
     private final COMPUTE_CONTEXT computeContext;
     private final NodeValue nodeValue;
     private final HugeAtomicBitSet voteBits;
+    private final Frontier frontier;
     private final Messenger<ITERATOR> messenger;
     private Partition nodeBatch;
     private final MutableInt iteration;
@@ -64,6 +65,7 @@ public final class ForkJoinComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         @Nullable CountedCompleter<Void> parent,
         AtomicBoolean sentMessage,
         ProgressTracker progressTracker
@@ -75,6 +77,7 @@ public final class ForkJoinComputeStep<
         this.computeContextSupplier = computeContextSupplier;
         this.iteration = iteration;
         this.voteBits = voteBits;
+        this.frontier = frontier;
         this.nodeBatch = nodeBatch;
         this.nodeValue = nodeValue;
         this.messenger = messenger;
@@ -108,6 +111,7 @@ public final class ForkJoinComputeStep<
                 nodeValue,
                 messenger,
                 voteBits,
+                frontier,
                 this,
                 hasSentMessage,
                 progressTracker
@@ -170,4 +174,9 @@ public final class ForkJoinComputeStep<
     public ProgressTracker progressTracker() {
         return progressTracker;
     }
+
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
 }
@@ -26,11 +26,14 @@ import org.neo4j.gds.beta.pregel.context.ComputeContext;
 import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
 import org.neo4j.gds.beta.pregel.context.InitContext;
 import org.neo4j.gds.beta.pregel.context.InitContext.BidirectionalInitContext;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
@@ -40,7 +43,10 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
     private final ForkJoinPool forkJoinPool;
 
     private AtomicBoolean sentMessage;
+    private int iteration;
     private ForkJoinComputeStep<CONFIG, ?, ?, ?> rootTask;
+    // compute steps for dense supersteps, reused across partitions
+    private final Queue<PartitionedComputeStep<CONFIG, ?, ?, ?>> idleComputeSteps;
 
     ForkJoinComputer(
         Graph graph,
@@ -54,6 +60,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
     ) {
         super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
         this.forkJoinPool = forkJoinPool;
+        this.idleComputeSteps = new ConcurrentLinkedQueue<>();
     }
 
     @Override
@@ -63,18 +70,51 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
 
     @Override
     public void initIteration(int iteration) {
+        frontier.advance(iteration);
+
         this.sentMessage = new AtomicBoolean(false);
-        MutableInt mutableIteration = new MutableInt(iteration);
-        Partition partition = Partition.of(0, graph.nodeCount());
+        this.iteration = iteration;
+
+        if (frontier.isSparse()) {
+            MutableInt mutableIteration = new MutableInt(iteration);
+            // In a sparse superstep, the partition refers to the active nodes of the frontier.
+            Partition partition = Partition.of(0, frontier.activeNodeCount());
 
-        this.rootTask = computation instanceof PregelComputation
-            ? createComputeStep(mutableIteration, sentMessage, partition)
-            : createBidirectionalComputeSteps(mutableIteration, sentMessage, partition);
+            this.rootTask = computation instanceof PregelComputation
+                ? createComputeStep(mutableIteration, sentMessage, partition)
+                : createBidirectionalComputeSteps(mutableIteration, sentMessage, partition);
+        }
     }
 
     @Override
     public void runIteration() {
-        forkJoinPool.invoke(rootTask);
+        if (frontier.isSparse()) {
+            forkJoinPool.invoke(rootTask);
+        } else {
+            // Dense supersteps are balanced by the degree of the nodes,
+            // as the work per node usually depends on its relationships.
+            ParallelUtil.parallelForEachPartition(
+                graph.nodeCount(),
+                graph::degree,
+                config.concurrency(),
+                forkJoinPool,
+                partition -> () -> computeDensePartition(partition)
+            );
+        }
+        logSkippedNodes();
+    }
+
+    private void computeDensePartition(Partition partition) {
+        var computeStep = idleComputeSteps.poll();
+        if (computeStep == null) {
+            computeStep = createPartitionedComputeStep(graph.concurrentCopy(), voteBits, partition);
+        }
+        computeStep.init(iteration, partition);
+        computeStep.run();
+        if (computeStep.hasSentMessage()) {
+            sentMessage.set(true);
+        }
+        idleComputeSteps.offer(computeStep);
     }
 
     @Override
@@ -84,6 +124,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
 
     @Override
     void release() {
+        idleComputeSteps.clear();
         forkJoinPool.shutdown();
         computation.close();
     }
@@ -123,6 +164,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             hasSentMessages,
             progressTracker
@@ -164,6 +206,7 @@ public class ForkJoinComputer<CONFIG extends PregelConfig> extends PregelCompute
             nodeValues,
             messenger,
             voteBits,
+            frontier,
             null,
             hasSentMessages,
             progressTracker
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+/**
+ * Tracks the nodes that need to be visited in the next superstep.
+ *
+ * A node enters the frontier if it receives a message or if it did
+ * not vote to halt during its computation. As long as the frontier is
+ * large, a superstep iterates all nodes of the graph (dense mode). Once
+ * the frontier drops below {@link #SPARSE_THRESHOLD} of the node count,
+ * the active node ids are collected into an array and only those are
+ * partitioned across the compute steps (sparse mode). This makes late
+ * supersteps, where most nodes already voted to halt, cost proportional
+ * to the number of active nodes instead of the number of all nodes.
+ */
+public final class Frontier {
+
+    public static final double SPARSE_THRESHOLD = 0.05;
+
+    private final long nodeCount;
+
+    private HugeAtomicBitSet current;
+    private HugeAtomicBitSet next;
+
+    private HugeLongArray activeNodes;
+    private long activeNodeCount;
+    private boolean isSparse;
+
+    static Frontier of(long nodeCount) {
+        return new Frontier(nodeCount);
+    }
+
+    private Frontier(long nodeCount) {
+        this.nodeCount = nodeCount;
+        this.current = HugeAtomicBitSet.create(nodeCount);
+        this.next = HugeAtomicBitSet.create(nodeCount);
+        this.activeNodeCount = nodeCount;
+        this.isSparse = false;
+    }
+
+    static long memoryEstimation(long nodeCount) {
+        // two bit sets and the active nodes array, which
+        // is bounded by the sparse threshold
+        return 2 * HugeAtomicBitSet.memoryEstimation(nodeCount) +
+               HugeLongArray.memoryEstimation((long) Math.ceil(nodeCount * SPARSE_THRESHOLD));
+    }
+
+    /**
+     * Promotes the nodes collected during the previous superstep to the
+     * active nodes of the upcoming superstep and decides whether the
+     * superstep is computed in sparse or dense mode.
+     *
+     * Note: this method is not thread-safe.
+     */
+    void advance(int iteration) {
+        var tmp = current;
+        this.current = next;
+        this.next = tmp;
+        this.next.clear();
+        this.activeNodes = null;
+
+        // All nodes need to be initialized during the first superstep.
+        if (iteration == 0) {
+            this.activeNodeCount = nodeCount;
+            this.isSparse = false;
+            return;
+        }
+
+        this.activeNodeCount = current.cardinality();
+        this.isSparse = activeNodeCount < nodeCount * SPARSE_THRESHOLD;
+
+        if (isSparse) {
+            var activeNodes = HugeLongArray.newArray(activeNodeCount);
+            var index = new long[]{0};
+            current.forEachSetBit(nodeId -> activeNodes.set(index[0]++, nodeId));
+            this.activeNodes = activeNodes;
+        }
+    }
+
+    /**
+     * Adds the given node to the frontier of the next superstep.
+     */
+    void activate(long nodeId) {
+        // avoid CAS operations on nodes that are already active
+        if (!next.get(nodeId)) {
+            next.set(nodeId);
+        }
+    }
+
+    boolean isSparse() {
+        return isSparse;
+    }
+
+    /**
+     * Number of nodes visited in the current superstep.
+     */
+    long activeNodeCount() {
+        return activeNodeCount;
+    }
+
+    /**
+     * Maps a position within the active nodes to a node id.
+     * Only valid if the current superstep is sparse.
+     */
+    long activeNode(long index) {
+        return activeNodes.get(index);
+    }
+
+    <ITERATOR extends Messages.MessageIterator> Messenger<ITERATOR> track(Messenger<ITERATOR> messenger) {
+        return new TrackingMessenger<>(messenger, this);
+    }
+
+    /**
+     * Adds all message receivers to the frontier of the next superstep.
+     */
+    private static final class TrackingMessenger<ITERATOR extends Messages.MessageIterator> implements Messenger<ITERATOR> {
+
+        private final Messenger<ITERATOR> delegate;
+        private final Frontier frontier;
+
+        TrackingMessenger(Messenger<ITERATOR> delegate, Frontier frontier) {
+            this.delegate = delegate;
+            this.frontier = frontier;
+        }
+
+        @Override
+        public void initIteration(int iteration) {
+            delegate.initIteration(iteration);
+        }
+
+        @Override
+        public void sendTo(long targetNodeId, double message) {
+            frontier.activate(targetNodeId);
+            delegate.sendTo(targetNodeId, message);
+        }
+
+        @Override
+        public void sendLongTo(long targetNodeId, long message) {
+            frontier.activate(targetNodeId);
+            delegate.sendLongTo(targetNodeId, message);
+        }
+
+        @Override
+        public void sendTo(long targetNodeId, long longValue, double doubleValue) {
+            frontier.activate(targetNodeId);
+            delegate.sendTo(targetNodeId, longValue, doubleValue);
+        }
+
+        @Override
+        public void sendTo(long targetNodeId, double[] message) {
+            frontier.activate(targetNodeId);
+            delegate.sendTo(targetNodeId, message);
+        }
+
+        @Override
+        public Messenger<ITERATOR> forComputeStep() {
+            var computeStepMessenger = delegate.forComputeStep();
+            return computeStepMessenger == delegate ? this : new TrackingMessenger<>(computeStepMessenger, frontier);
+        }
+
+        @Override
+        public void flush() {
+            delegate.flush();
+        }
+
+        @Override
+        public MessageSchema messageSchema() {
+            return delegate.messageSchema();
+        }
+
+        @Override
+        public ITERATOR messageIterator() {
+            return delegate.messageIterator();
+        }
+
+        @Override
+        public void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration) {
+            delegate.initMessageIterator(messageIterator, nodeId, isFirstIteration);
+        }
+
+        @Override
+        public void release() {
+            delegate.release();
+        }
+    }
+}
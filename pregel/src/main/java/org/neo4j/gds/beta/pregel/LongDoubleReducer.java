@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+/**
+ * A reducer for messages of type {@link MessageSchema.Type#LONG_DOUBLE}.
+ * Both parts of the reduced message are computed from the same current
+ * value and message, which allows selecting one of two messages (e.g.
+ * the node id with the smallest distance) as well as aggregating them
+ * component-wise (e.g. a count and a sum).
+ *
+ * @see Reducer
+ */
+public interface LongDoubleReducer {
+
+    /**
+     * The identity element of the long part is used as the initial value.
+     */
+    long identityLong();
+
+    /**
+     * The identity element of the double part is used as the initial value.
+     */
+    double identityDouble();
+
+    /**
+     * Computes the new long part based on the current value and the message.
+     */
+    long reduceLong(long currentLong, double currentDouble, long messageLong, double messageDouble);
+
+    /**
+     * Computes the new double part based on the current value and the message.
+     */
+    double reduceDouble(long currentLong, double currentDouble, long messageLong, double messageDouble);
+
+    /**
+     * Keeps the message with the smallest double part.
+     * Ties are broken by the smaller long part.
+     */
+    class MinByDouble implements LongDoubleReducer {
+
+        @Override
+        public long identityLong() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public double identityDouble() {
+            return Double.MAX_VALUE;
+        }
+
+        @Override
+        public long reduceLong(long currentLong, double currentDouble, long messageLong, double messageDouble) {
+            return prefersMessage(currentLong, currentDouble, messageLong, messageDouble) ? messageLong : currentLong;
+        }
+
+        @Override
+        public double reduceDouble(long currentLong, double currentDouble, long messageLong, double messageDouble) {
+            return prefersMessage(currentLong, currentDouble, messageLong, messageDouble) ? messageDouble : currentDouble;
+        }
+
+        private static boolean prefersMessage(long currentLong, double currentDouble, long messageLong, double messageDouble) {
+            return messageDouble < currentDouble || (messageDouble == currentDouble && messageLong < currentLong);
+        }
+    }
+
+    /**
+     * Keeps the message with the largest double part.
+     * Ties are broken by the smaller long part.
+     */
+    class MaxByDouble implements LongDoubleReducer {
+
+        @Override
+        public long identityLong() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public double identityDouble() {
+            return -Double.MAX_VALUE;
+        }
+
+        @Override
+        public long reduceLong(long currentLong, double currentDouble, long messageLong, double messageDouble) {
+            return prefersMessage(currentLong, currentDouble, messageLong, messageDouble) ? messageLong : currentLong;
+        }
+
+        @Override
+        public double reduceDouble(long currentLong, double currentDouble, long messageLong, double messageDouble) {
+            return prefersMessage(currentLong, currentDouble, messageLong, messageDouble) ? messageDouble : currentDouble;
+        }
+
+        private static boolean prefersMessage(long currentLong, double currentDouble, long messageLong, double messageDouble) {
+            return messageDouble > currentDouble || (messageDouble == currentDouble && messageLong < currentLong);
+        }
+    }
+
+    /**
+     * Sums up both parts independently, e.g. to compute a
+     * mean from messages of the form {@code (1, value)}.
+     */
+    class Sum implements LongDoubleReducer {
+
+        @Override
+        public long identityLong() {
+            return 0;
+        }
+
+        @Override
+        public double identityDouble() {
+            return 0;
+        }
+
+        @Override
+        public long reduceLong(long currentLong, double currentDouble, long messageLong, double messageDouble) {
+            return currentLong + messageLong;
+        }
+
+        @Override
+        public double reduceDouble(long currentLong, double currentDouble, long messageLong, double messageDouble) {
+            return currentDouble + messageDouble;
+        }
+    }
+}
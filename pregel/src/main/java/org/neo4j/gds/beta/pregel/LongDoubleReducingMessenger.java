@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+/**
+ * A messenger implementation that is backed by a long and a double array
+ * for sending and receiving messages of type {@link MessageSchema.Type#LONG_DOUBLE}.
+ * The messenger can only be applied in combination with a {@link LongDoubleReducer}
+ * which reduces all incoming messages into a single one.
+ * <p>
+ * Both parts of a message need to be updated together, which cannot be done
+ * with a single atomic operation. Updates are therefore guarded by a fixed
+ * number of locks, each responsible for a stripe of the target nodes.
+ */
+public class LongDoubleReducingMessenger implements Messenger<LongDoubleReducingMessenger.SingleLongDoubleMessageIterator> {
+
+    private static final int LOCK_COUNT = 1 << 12;
+    private static final int LOCK_MASK = LOCK_COUNT - 1;
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final MessageSchema messageSchema;
+    private final LongDoubleReducer reducer;
+    private final Object[] locks;
+
+    private HugeLongArray sendLongs;
+    private HugeDoubleArray sendDoubles;
+    private HugeLongArray receiveLongs;
+    private HugeDoubleArray receiveDoubles;
+
+    LongDoubleReducingMessenger(Graph graph, PregelConfig config, MessageSchema messageSchema) {
+        this.graph = graph;
+        this.config = config;
+        this.messageSchema = messageSchema;
+        this.reducer = messageSchema.longDoubleReducer().orElseThrow();
+
+        this.locks = new Object[LOCK_COUNT];
+        for (int i = 0; i < LOCK_COUNT; i++) {
+            locks[i] = new Object();
+        }
+
+        this.sendLongs = HugeLongArray.newArray(graph.nodeCount());
+        this.sendDoubles = HugeDoubleArray.newArray(graph.nodeCount());
+        this.receiveLongs = HugeLongArray.newArray(graph.nodeCount());
+        this.receiveDoubles = HugeDoubleArray.newArray(graph.nodeCount());
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(LongDoubleReducingMessenger.class)
+            .fixed("locks", MemoryUsage.sizeOfObjectArray(LOCK_COUNT) + LOCK_COUNT * MemoryUsage.sizeOfInstance(Object.class))
+            .perNode("send longs", HugeLongArray::memoryEstimation)
+            .perNode("send doubles", HugeDoubleArray::memoryEstimation)
+            .perNode("receive longs", HugeLongArray::memoryEstimation)
+            .perNode("receive doubles", HugeDoubleArray::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmpLongs = receiveLongs;
+        this.receiveLongs = sendLongs;
+        this.sendLongs = tmpLongs;
+        var tmpDoubles = receiveDoubles;
+        this.receiveDoubles = sendDoubles;
+        this.sendDoubles = tmpDoubles;
+
+        long identityLong = reducer.identityLong();
+        double identityDouble = reducer.identityDouble();
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            config.concurrency(),
+            TerminationFlag.RUNNING_TRUE,
+            nodeId -> {
+                sendLongs.set(nodeId, identityLong);
+                sendDoubles.set(nodeId, identityDouble);
+            }
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Use `sendTo(long, long, double)` to send messages of type LONG_DOUBLE.");
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long longValue, double doubleValue) {
+        synchronized (locks[(int) (targetNodeId & LOCK_MASK)]) {
+            long currentLong = sendLongs.get(targetNodeId);
+            double currentDouble = sendDoubles.get(targetNodeId);
+            sendLongs.set(targetNodeId, reducer.reduceLong(currentLong, currentDouble, longValue, doubleValue));
+            sendDoubles.set(targetNodeId, reducer.reduceDouble(currentLong, currentDouble, longValue, doubleValue));
+        }
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    @Override
+    public SingleLongDoubleMessageIterator messageIterator() {
+        return new SingleLongDoubleMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        SingleLongDoubleMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        long longValue = receiveLongs.get(nodeId);
+        double doubleValue = receiveDoubles.get(nodeId);
+        messageIterator.init(
+            longValue,
+            doubleValue,
+            longValue != reducer.identityLong() || doubleValue != reducer.identityDouble()
+        );
+    }
+
+    @Override
+    public void release() {
+        sendLongs.release();
+        sendDoubles.release();
+        receiveLongs.release();
+        receiveDoubles.release();
+    }
+
+    /**
+     * Iterates the two slots of a single message,
+     * the long part followed by the double part.
+     */
+    static class SingleLongDoubleMessageIterator implements Messages.MessageIterator {
+
+        private long longValue;
+        private double doubleValue;
+        private boolean isEmpty;
+        private int remainingSlots;
+
+        void init(long longValue, double doubleValue, boolean hasMessage) {
+            this.longValue = longValue;
+            this.doubleValue = doubleValue;
+            this.isEmpty = !hasMessage;
+            this.remainingSlots = hasMessage ? 2 : 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return isEmpty;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remainingSlots > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            return remainingSlots-- == 2 ? longValue : Double.doubleToRawLongBits(doubleValue);
+        }
+
+        @Override
+        public double nextDouble() {
+            return remainingSlots-- == 2 ? Double.longBitsToDouble(longValue) : doubleValue;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+
+/**
+ * A messenger implementation that is backed by two long arrays used
+ * to send and receive messages of type {@link MessageSchema.Type#LONG}.
+ * The messenger can only be applied in combination with a {@link LongReducer}
+ * which atomically reduces all incoming messages into a single one.
+ */
+public class LongReducingMessenger implements Messenger<LongReducingMessenger.SingleLongMessageIterator> {
+
+    private final Graph graph;
+    private final PregelConfig config;
+    private final MessageSchema messageSchema;
+    private final LongReducer reducer;
+
+    private HugeAtomicLongArray sendArray;
+    private HugeAtomicLongArray receiveArray;
+
+    LongReducingMessenger(Graph graph, PregelConfig config, MessageSchema messageSchema) {
+        this.graph = graph;
+        this.config = config;
+        this.messageSchema = messageSchema;
+        this.reducer = messageSchema.longReducer().orElseThrow();
+
+        this.receiveArray = HugeAtomicLongArray.newArray(graph.nodeCount());
+        this.sendArray = HugeAtomicLongArray.newArray(graph.nodeCount());
+    }
+
+    static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.builder(LongReducingMessenger.class)
+            .perNode("send array", HugeAtomicLongArray::memoryEstimation)
+            .perNode("receive array", HugeAtomicLongArray::memoryEstimation)
+            .build();
+    }
+
+    @Override
+    public void initIteration(int iteration) {
+        // Swap arrays
+        var tmp = receiveArray;
+        this.receiveArray = sendArray;
+        this.sendArray = tmp;
+
+        long identity = reducer.identity();
+        ParallelUtil.parallelForEachNode(
+            graph.nodeCount(),
+            config.concurrency(),
+            TerminationFlag.RUNNING_TRUE,
+            nodeId -> sendArray.set(nodeId, identity)
+        );
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double message) {
+        throw new UnsupportedOperationException("Use `sendLongTo` to send messages of type LONG.");
+    }
+
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        sendArray.update(
+            targetNodeId,
+            current -> reducer.reduce(current, message)
+        );
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
+    @Override
+    public SingleLongMessageIterator messageIterator() {
+        return new SingleLongMessageIterator();
+    }
+
+    @Override
+    public void initMessageIterator(
+        SingleLongMessageIterator messageIterator,
+        long nodeId,
+        boolean isInitialIteration
+    ) {
+        var message = receiveArray.get(nodeId);
+        messageIterator.init(message, message != reducer.identity());
+    }
+
+    @Override
+    public void release() {
+        sendArray.release();
+        receiveArray.release();
+    }
+
+    static class SingleLongMessageIterator implements Messages.MessageIterator {
+
+        boolean hasNext;
+        long message;
+
+        void init(long value, boolean hasNext) {
+            this.message = value;
+            this.hasNext = hasNext;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !hasNext;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public long nextLong() {
+            hasNext = false;
+            return message;
+        }
+
+        @Override
+        public double nextDouble() {
+            return Double.longBitsToDouble(nextLong());
+        }
+    }
+}
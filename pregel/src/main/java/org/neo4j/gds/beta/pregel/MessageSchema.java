@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * The message schema describes the layout of a single message that
+ * is sent between nodes. Besides plain double messages, a message can
+ * be a single long, a pair of a long and a double or a fixed-width
+ * double array. Messages are stored in primitive queues or, if a
+ * reducer is declared, in primitive arrays and are never boxed.
+ * <br>
+ * Example:
+ * <pre>
+ * public MessageSchema messageSchema(PregelConfig config) {
+ *      // (node id, distance) pairs, only the closest one is kept
+ *      return MessageSchema.ofLongDouble(new LongDoubleReducer.MinByDouble());
+ * }
+ * </pre>
+ *
+ * @see Messages
+ */
+public final class MessageSchema {
+
+    public enum Type {
+        DOUBLE,
+        LONG,
+        LONG_DOUBLE,
+        DOUBLE_ARRAY
+    }
+
+    private static final MessageSchema DOUBLE = new MessageSchema(Type.DOUBLE, 1, null, null, null);
+
+    private final Type type;
+    private final int width;
+    private final @Nullable Reducer reducer;
+    private final @Nullable LongReducer longReducer;
+    private final @Nullable LongDoubleReducer longDoubleReducer;
+
+    private MessageSchema(
+        Type type,
+        int width,
+        @Nullable Reducer reducer,
+        @Nullable LongReducer longReducer,
+        @Nullable LongDoubleReducer longDoubleReducer
+    ) {
+        this.type = type;
+        this.width = width;
+        this.reducer = reducer;
+        this.longReducer = longReducer;
+        this.longDoubleReducer = longDoubleReducer;
+    }
+
+    /**
+     * Messages are single double values. This is the default message schema,
+     * a reducer for double messages is declared via {@link BasePregelComputation#reducer()}.
+     */
+    public static MessageSchema ofDouble() {
+        return DOUBLE;
+    }
+
+    /**
+     * Messages are single long values.
+     */
+    public static MessageSchema ofLong() {
+        return new MessageSchema(Type.LONG, 1, null, null, null);
+    }
+
+    /**
+     * Messages are single long values that are combined by the given reducer.
+     */
+    public static MessageSchema ofLong(LongReducer reducer) {
+        return new MessageSchema(Type.LONG, 1, null, reducer, null);
+    }
+
+    /**
+     * Messages are pairs of a long and a double value, e.g. a node id and a weight.
+     */
+    public static MessageSchema ofLongDouble() {
+        return new MessageSchema(Type.LONG_DOUBLE, 2, null, null, null);
+    }
+
+    /**
+     * Messages are pairs of a long and a double value that are combined by the given reducer.
+     */
+    public static MessageSchema ofLongDouble(LongDoubleReducer reducer) {
+        return new MessageSchema(Type.LONG_DOUBLE, 2, null, null, reducer);
+    }
+
+    /**
+     * Messages are double arrays of the given width.
+     */
+    public static MessageSchema ofDoubleArray(int width) {
+        return new MessageSchema(Type.DOUBLE_ARRAY, validateWidth(width), null, null, null);
+    }
+
+    /**
+     * Messages are double arrays of the given width that are combined
+     * by applying the given reducer on each array position.
+     */
+    public static MessageSchema ofDoubleArray(int width, Reducer reducer) {
+        return new MessageSchema(Type.DOUBLE_ARRAY, validateWidth(width), reducer, null, null);
+    }
+
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * The number of primitive slots occupied by a single message.
+     */
+    public int width() {
+        return width;
+    }
+
+    public boolean isReducing() {
+        return reducer != null || longReducer != null || longDoubleReducer != null;
+    }
+
+    Optional<Reducer> reducer() {
+        return Optional.ofNullable(reducer);
+    }
+
+    Optional<LongReducer> longReducer() {
+        return Optional.ofNullable(longReducer);
+    }
+
+    Optional<LongDoubleReducer> longDoubleReducer() {
+        return Optional.ofNullable(longDoubleReducer);
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.DOUBLE_ARRAY
+            ? formatWithLocale("MessageSchema{type=%s, width=%d}", type, width)
+            : formatWithLocale("MessageSchema{type=%s}", type);
+    }
+
+    private static int validateWidth(int width) {
+        if (width < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The width of double array messages must be positive, got %d.",
+                width
+            ));
+        }
+        return width;
+    }
+}
@@ -24,6 +24,20 @@ import org.jetbrains.annotations.NotNull;
 import java.util.Iterator;
 import java.util.PrimitiveIterator;
 
+/**
+ * The messages a node received in the previous superstep.
+ * <br>
+ * Double messages can be iterated directly. Messages of other
+ * {@link MessageSchema message schemas} are read by advancing
+ * with {@link #next()} and accessing the parts of the current
+ * message without boxing:
+ * <pre>
+ * while (messages.next()) {
+ *     long nodeId = messages.longValue();
+ *     double distance = messages.doubleValue();
+ * }
+ * </pre>
+ */
 public final class Messages implements Iterable<Double> {
 
     @NotNull
@@ -34,12 +48,32 @@ public final class Messages implements Iterable<Double> {
 
     public interface MessageIterator extends PrimitiveIterator.OfDouble {
         boolean isEmpty();
+
+        /**
+         * Returns the next slot interpreted as a long value.
+         */
+        default long nextLong() {
+            return Double.doubleToRawLongBits(nextDouble());
+        }
     }
 
     private final MessageIterator iterator;
+    private final MessageSchema.Type type;
+    private final double[] doubleArrayValue;
+
+    private long longValue;
+    private double doubleValue;
 
     Messages(MessageIterator iterator) {
+        this(iterator, MessageSchema.ofDouble());
+    }
+
+    Messages(MessageIterator iterator, MessageSchema schema) {
         this.iterator = iterator;
+        this.type = schema.type();
+        this.doubleArrayValue = schema.type() == MessageSchema.Type.DOUBLE_ARRAY
+            ? new double[schema.width()]
+            : null;
     }
 
     @NotNull
@@ -50,4 +84,59 @@ public final class Messages implements Iterable<Double> {
     public boolean isEmpty() {
         return iterator.isEmpty();
     }
+
+    /**
+     * Advances to the next message.
+     *
+     * @return false, iff there are no more messages
+     */
+    public boolean next() {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        switch (type) {
+            case DOUBLE:
+                doubleValue = iterator.nextDouble();
+                break;
+            case LONG:
+                longValue = iterator.nextLong();
+                break;
+            case LONG_DOUBLE:
+                longValue = iterator.nextLong();
+                doubleValue = iterator.nextDouble();
+                break;
+            case DOUBLE_ARRAY:
+                for (int i = 0; i < doubleArrayValue.length; i++) {
+                    doubleArrayValue[i] = iterator.nextDouble();
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unexpected message type: " + type);
+        }
+        return true;
+    }
+
+    /**
+     * The current message of type {@link MessageSchema.Type#LONG}
+     * or the long part of a {@link MessageSchema.Type#LONG_DOUBLE} message.
+     */
+    public long longValue() {
+        return longValue;
+    }
+
+    /**
+     * The current message of type {@link MessageSchema.Type#DOUBLE}
+     * or the double part of a {@link MessageSchema.Type#LONG_DOUBLE} message.
+     */
+    public double doubleValue() {
+        return doubleValue;
+    }
+
+    /**
+     * The current message of type {@link MessageSchema.Type#DOUBLE_ARRAY}.
+     * The array is reused and must not be retained across calls to {@link #next()}.
+     */
+    public double[] doubleArrayValue() {
+        return doubleArrayValue;
+    }
 }
@@ -19,15 +19,64 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public interface Messenger<ITERATOR extends Messages.MessageIterator> {
 
     void initIteration(int iteration);
 
     void sendTo(long targetNodeId, double message);
 
+    /**
+     * Sends a message of type {@link MessageSchema.Type#LONG}.
+     */
+    default void sendLongTo(long targetNodeId, long message) {
+        throw unsupportedMessageType(MessageSchema.Type.LONG);
+    }
+
+    /**
+     * Sends a message of type {@link MessageSchema.Type#LONG_DOUBLE}.
+     */
+    default void sendTo(long targetNodeId, long longValue, double doubleValue) {
+        throw unsupportedMessageType(MessageSchema.Type.LONG_DOUBLE);
+    }
+
+    /**
+     * Sends a message of type {@link MessageSchema.Type#DOUBLE_ARRAY}.
+     */
+    default void sendTo(long targetNodeId, double[] message) {
+        throw unsupportedMessageType(MessageSchema.Type.DOUBLE_ARRAY);
+    }
+
+    default MessageSchema messageSchema() {
+        return MessageSchema.ofDouble();
+    }
+
+    /**
+     * Returns the messenger that a single compute step sends its messages with.
+     * The returned messenger may buffer messages until {@link #flush()} is called,
+     * which compute steps do after every batch, and must only be used by one thread at a time.
+     */
+    default Messenger<ITERATOR> forComputeStep() {
+        return this;
+    }
+
+    /**
+     * Publishes all buffered messages, see {@link #forComputeStep()}.
+     */
+    default void flush() {}
+
     ITERATOR messageIterator();
 
     void initMessageIterator(ITERATOR messageIterator, long nodeId, boolean isFirstIteration);
 
     void release();
+
+    private UnsupportedOperationException unsupportedMessageType(MessageSchema.Type type) {
+        return new UnsupportedOperationException(formatWithLocale(
+            "%s does not support messages of type %s.",
+            getClass().getSimpleName(),
+            type
+        ));
+    }
 }
@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.pregel;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.core.concurrency.AffinityExecutor;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -33,6 +34,7 @@ import org.neo4j.gds.utils.StringFormatting;
 import org.neo4j.gds.utils.StringJoining;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
@@ -55,11 +57,26 @@ public abstract class NodeValue {
     }
 
     static NodeValue of(PregelSchema schema, long nodeCount, int concurrency) {
+        return of(schema, nodeCount, concurrency, Optional.empty());
+    }
+
+    /**
+     * If an affinity executor is given, primitive node values are allocated and
+     * initialized by the threads that own the respective partitions.
+     */
+    static NodeValue of(
+        PregelSchema schema,
+        long nodeCount,
+        int concurrency,
+        Optional<AffinityExecutor> affinityExecutor
+    ) {
         var properties = schema.elements()
             .stream()
             .collect(Collectors.toMap(
                 Element::propertyKey,
-                element -> initArray(element, nodeCount, concurrency)
+                element -> affinityExecutor
+                    .map(executor -> initArray(element, nodeCount, executor))
+                    .orElseGet(() -> initArray(element, nodeCount, concurrency))
             ));
 
         if (properties.size() == 1) {
@@ -183,6 +200,27 @@ public abstract class NodeValue {
         }
     }
 
+    private static Object initArray(Element element, long nodeCount, AffinityExecutor executor) {
+        switch (element.propertyType()) {
+            case DOUBLE:
+                var doubleNodeValues = HugeDoubleArray.newArray(nodeCount, executor);
+                executor.forEachPartition(partition -> partition.consume(nodeId -> doubleNodeValues.set(
+                    nodeId,
+                    DefaultValue.DOUBLE_DEFAULT_FALLBACK
+                )));
+                return doubleNodeValues;
+            case LONG:
+                var longNodeValues = HugeLongArray.newArray(nodeCount, executor);
+                executor.forEachPartition(partition -> partition.consume(nodeId -> longNodeValues.set(
+                    nodeId,
+                    DefaultValue.LONG_DEFAULT_FALLBACK
+                )));
+                return longNodeValues;
+            default:
+                return initArray(element, nodeCount, executor.workerCount());
+        }
+    }
+
     private static Object initArray(Element element, long nodeCount, int concurrency) {
         switch (element.propertyType()) {
             case DOUBLE:
@@ -39,14 +39,17 @@ public final class PartitionedComputeStep<
     private final INIT_CONTEXT initContext;
     private final COMPUTE_CONTEXT computeContext;
     private final ProgressTracker progressTracker;
-    private final Partition nodeBatch;
+    private final Partition densePartition;
     private final HugeAtomicBitSet voteBits;
+    private final Frontier frontier;
     private final Messenger<ITERATOR> messenger;
 
     private final MutableInt iteration;
     private final MutableBoolean hasSentMessage;
     private final NodeValue nodeValue;
 
+    private Partition nodeBatch;
+
     PartitionedComputeStep(
         InitFunction<CONFIG, INIT_CONTEXT> initFunction,
         ComputeFunction<CONFIG, COMPUTE_CONTEXT> computeFunction,
@@ -56,6 +59,7 @@ public final class PartitionedComputeStep<
         NodeValue nodeValue,
         Messenger<ITERATOR> messenger,
         HugeAtomicBitSet voteBits,
+        Frontier frontier,
         MutableInt iteration,
         MutableBoolean hasSentMessage,
         ProgressTracker progressTracker
@@ -66,6 +70,8 @@ public final class PartitionedComputeStep<
         this.computeContext = computeContext;
         this.nodeValue = nodeValue;
         this.voteBits = voteBits;
+        this.frontier = frontier;
+        this.densePartition = nodeBatch;
         this.nodeBatch = nodeBatch;
         this.messenger = messenger;
         this.progressTracker = progressTracker;
@@ -124,8 +130,23 @@ public final class PartitionedComputeStep<
         return progressTracker;
     }
 
+    @Override
+    public Frontier frontier() {
+        return frontier;
+    }
+
     void init(int iteration) {
+        init(iteration, densePartition);
+    }
+
+    /**
+     * @param nodeBatch either a node range (dense superstep) or
+     *                  a range of positions within the active nodes
+     *                  of the frontier (sparse superstep)
+     */
+    void init(int iteration, Partition nodeBatch) {
         this.iteration.setValue(iteration);
+        this.nodeBatch = nodeBatch;
         hasSentMessage.setValue(false);
     }
 
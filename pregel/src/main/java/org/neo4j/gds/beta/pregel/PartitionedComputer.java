@@ -19,30 +19,28 @@
  */
 package org.neo4j.gds.beta.pregel;
 
-import org.apache.commons.lang3.mutable.MutableBoolean;
-import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.beta.pregel.context.ComputeContext;
-import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
-import org.neo4j.gds.beta.pregel.context.InitContext;
-import org.neo4j.gds.beta.pregel.context.InitContext.BidirectionalInitContext;
+import org.neo4j.gds.core.concurrency.AffinityExecutor;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.mem.BitUtil;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComputer<CONFIG> {
     private final ExecutorService executorService;
     private final int concurrency;
+    private final Optional<AffinityExecutor> affinityExecutor;
 
     private List<PartitionedComputeStep<CONFIG, ?, ?, ?>> computeSteps;
 
@@ -55,11 +53,13 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         HugeAtomicBitSet voteBits,
         int concurrency,
         ExecutorService executorService,
+        Optional<AffinityExecutor> affinityExecutor,
         ProgressTracker progressTracker
     ) {
         super(graph, computation, config, nodeValues, messenger, voteBits, progressTracker);
         this.executorService = executorService;
         this.concurrency = concurrency;
+        this.affinityExecutor = affinityExecutor;
     }
 
     @Override
@@ -69,18 +69,38 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
 
     @Override
     public void initIteration(int iteration) {
-        for (var computeStep : computeSteps) {
-            computeStep.init(iteration);
+        frontier.advance(iteration);
+
+        if (frontier.isSparse()) {
+            // Only the active nodes are distributed across the compute steps.
+            long activeNodeCount = frontier.activeNodeCount();
+            long batchSize = BitUtil.ceilDiv(activeNodeCount, computeSteps.size());
+            for (int i = 0; i < computeSteps.size(); i++) {
+                long start = Math.min(i * batchSize, activeNodeCount);
+                long end = Math.min(start + batchSize, activeNodeCount);
+                computeSteps.get(i).init(iteration, Partition.of(start, end - start));
+            }
+        } else {
+            for (var computeStep : computeSteps) {
+                computeStep.init(iteration);
+            }
         }
     }
 
     @Override
     public void runIteration() {
-        RunWithConcurrency.builder()
-            .concurrency(concurrency)
-            .tasks(computeSteps)
-            .executor(executorService)
-            .run();
+        if (affinityExecutor.isPresent()) {
+            // every compute step runs on the thread that owns its partition, in all iterations
+            affinityExecutor.get().run(computeSteps);
+        } else {
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(computeSteps)
+                .executor(executorService)
+                .run();
+        }
+
+        logSkippedNodes();
     }
 
     @Override
@@ -98,28 +118,35 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
         // Unlike in the sibling ForkJoinComputer, we will not shut down the
         // executor service (thread pool), since we use the shared global thread pool.
         computation.close();
+        affinityExecutor.ifPresent(AffinityExecutor::close);
     }
 
     @NotNull
     private List<PartitionedComputeStep<CONFIG, ?, ?, ?>> createComputeSteps(HugeAtomicBitSet voteBits) {
-        Function<Partition, PartitionedComputeStep<CONFIG, ?, ?, ?>> partitionFunction =
-            computation instanceof PregelComputation
-                ? (partition) -> createComputeStep(graph.concurrentCopy(), voteBits, partition)
-                : (partition) -> createBidirectionalComputeSteps(graph.concurrentCopy(), voteBits, partition);
+        var partitions = affinityExecutor
+            .map(AffinityExecutor::partitions)
+            .orElseGet(() -> partitions(graph, config, concurrency));
+
+        return partitions
+            .stream()
+            .map(partition -> createPartitionedComputeStep(graph.concurrentCopy(), voteBits, partition))
+            .collect(Collectors.toList());
+    }
 
+    static List<Partition> partitions(Graph graph, PregelConfig config, int concurrency) {
         switch (config.partitioning()) {
             case RANGE:
                 return PartitionUtils.rangePartition(
                     concurrency,
                     graph.nodeCount(),
-                    partitionFunction,
+                    Function.identity(),
                     Optional.empty()
                 );
             case DEGREE:
                 return PartitionUtils.degreePartition(
                     graph,
                     concurrency,
-                    partitionFunction::apply,
+                    Partition.class::cast,
                     Optional.empty()
                 );
             default:
@@ -129,90 +156,4 @@ public class PartitionedComputer<CONFIG extends PregelConfig> extends PregelComp
                 ));
         }
     }
-
-    @NotNull
-    private PartitionedComputeStep<CONFIG, ?, InitContext<CONFIG>, ComputeContext<CONFIG>> createComputeStep(
-        Graph graph,
-        HugeAtomicBitSet voteBits,
-        Partition partition
-    ) {
-        MutableInt iteration = new MutableInt(0);
-        var hasSentMessages = new MutableBoolean(false);
-
-        var initContext = new InitContext<>(
-            graph,
-            config,
-            nodeValues,
-            progressTracker
-        );
-
-        var computeContext = new ComputeContext<>(
-            graph,
-            config,
-            computation,
-            nodeValues,
-            messenger,
-            voteBits,
-            iteration,
-            Optional.of(hasSentMessages),
-            progressTracker
-        );
-
-        return new PartitionedComputeStep<>(
-            ((PregelComputation<CONFIG>) computation)::init,
-            ((PregelComputation<CONFIG>) computation)::compute,
-            initContext,
-            computeContext,
-            partition,
-            nodeValues,
-            messenger,
-            voteBits,
-            iteration,
-            hasSentMessages,
-            progressTracker
-        );
-    }
-
-    @NotNull
-    private PartitionedComputeStep<CONFIG, ?, BidirectionalInitContext<CONFIG>, BidirectionalComputeContext<CONFIG>> createBidirectionalComputeSteps(
-        Graph graph,
-        HugeAtomicBitSet voteBits,
-        Partition partition
-    ) {
-        MutableInt iteration = new MutableInt(0);
-        var hasSentMessages = new MutableBoolean(false);
-
-        var initContext = new BidirectionalInitContext<>(
-            graph,
-            config,
-            nodeValues,
-            progressTracker
-        );
-
-        var computeContext = new BidirectionalComputeContext<>(
-            graph,
-            config,
-            computation,
-            nodeValues,
-            messenger,
-            voteBits,
-            iteration,
-            Optional.of(hasSentMessages),
-            progressTracker
-        );
-
-        return new PartitionedComputeStep<>(
-            ((BidirectionalPregelComputation<CONFIG>) computation)::init,
-            ((BidirectionalPregelComputation<CONFIG>) computation)::compute,
-            initContext,
-            computeContext,
-            partition,
-            nodeValues,
-            messenger,
-            voteBits,
-            iteration,
-            hasSentMessages,
-            progressTracker
-        );
-    }
 }
@@ -22,6 +22,7 @@ package org.neo4j.gds.beta.pregel;
 import org.immutables.value.Value;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
+import org.neo4j.gds.core.concurrency.AffinityExecutor;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
@@ -30,10 +31,12 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.gds.utils.StringJoining;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 @Value.Style(builderVisibility = Value.Style.BuilderVisibility.PUBLIC, depluralize = true, deepImmutablesDetection = true)
@@ -78,22 +81,106 @@ public final class Pregel<CONFIG extends PregelConfig> {
             ));
         }
 
+        var messageSchema = computation.messageSchema(config);
+        if (messageSchema.type() != MessageSchema.Type.DOUBLE) {
+            if (computation.reducer().isPresent()) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.US,
+                    "The Pregel algorithm %s sends messages of type %s, a reducer for those messages needs to be declared on the message schema.",
+                    computation.getClass().getSimpleName(),
+                    messageSchema.type()
+                ));
+            }
+            if (config.isAsynchronous() && !messageSchema.isReducing()) {
+                throw new IllegalArgumentException(String.format(
+                    Locale.US,
+                    "The Pregel algorithm %s sends messages of type %s, which are not supported for asynchronous computations.",
+                    computation.getClass().getSimpleName(),
+                    messageSchema.type()
+                ));
+            }
+        }
+
+        var affinityExecutor = createAffinityExecutor(graph, config);
+
         return new Pregel<>(
             graph,
             config,
             computation,
-            NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency()),
+            NodeValue.of(computation.schema(config), graph.nodeCount(), config.concurrency(), affinityExecutor),
             executor,
+            affinityExecutor,
             progressTracker
         );
     }
 
+    /**
+     * With {@link GdsFeatureToggles#USE_PARTITION_AFFINITY}, the partitioned computer processes
+     * each partition on the same dedicated thread in every superstep, and that thread also
+     * allocates the node values of the partition.
+     * The fork-join computer, used for {@link Partitioning#AUTO}, balances the work by stealing
+     * tasks between threads, so it runs without dedicated threads.
+     */
+    private static Optional<AffinityExecutor> createAffinityExecutor(Graph graph, PregelConfig config) {
+        if (!GdsFeatureToggles.USE_PARTITION_AFFINITY.isEnabled() || config.useForkJoin() || config.concurrency() == 1) {
+            return Optional.empty();
+        }
+        return Optional.of(AffinityExecutor.create(PartitionedComputer.partitions(graph, config, config.concurrency())));
+    }
+
     public static MemoryEstimation memoryEstimation(PregelSchema pregelSchema, boolean isQueueBased, boolean isAsync) {
+        return memoryEstimation(pregelSchema, MessageSchema.ofDouble(), isQueueBased, isAsync);
+    }
+
+    /**
+     * Estimates a computation that sends double messages, reduced by the given reducer if present.
+     */
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        Optional<Reducer> reducer,
+        boolean isAsync
+    ) {
+        return memoryEstimation(
+            pregelSchema,
+            MessageSchema.ofDouble(),
+            reducer.isEmpty(),
+            isAsync,
+            reducer.map(Reducer::supportsCombining).orElse(false)
+        );
+    }
+
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        MessageSchema messageSchema,
+        boolean isQueueBased,
+        boolean isAsync
+    ) {
+        return memoryEstimation(pregelSchema, messageSchema, isQueueBased, isAsync, false);
+    }
+
+    /**
+     * @param isQueueBased      true, iff no reducer is declared for the messages,
+     *                          neither via {@link BasePregelComputation#reducer()}
+     *                          nor via the message schema
+     * @param supportsCombining true, iff the reducer of double messages {@link Reducer#supportsCombining() supports combining}
+     */
+    public static MemoryEstimation memoryEstimation(
+        PregelSchema pregelSchema,
+        MessageSchema messageSchema,
+        boolean isQueueBased,
+        boolean isAsync,
+        boolean supportsCombining
+    ) {
         var estimationBuilder = MemoryEstimations.builder(Pregel.class)
             .perNode("vote bits", HugeAtomicBitSet::memoryEstimation)
+            .perNode("frontier", Frontier::memoryEstimation)
             .perThread("compute steps", MemoryEstimations.builder(PartitionedComputeStep.class).build())
             .add("node value", NodeValue.memoryEstimation(pregelSchema));
 
+        if (GdsFeatureToggles.USE_PARTITION_AFFINITY.isEnabled()) {
+            estimationBuilder.add("affinity executor", AffinityExecutor.memoryEstimation());
+        }
+
         if (isQueueBased) {
             if (isAsync) {
                 estimationBuilder.add("message queues", AsyncQueueMessenger.memoryEstimation());
@@ -101,7 +188,19 @@ public final class Pregel<CONFIG extends PregelConfig> {
                 estimationBuilder.add("message queues", SyncQueueMessenger.memoryEstimation());
             }
         } else {
-            estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation());
+            switch (messageSchema.type()) {
+                case LONG:
+                    estimationBuilder.add("message arrays", LongReducingMessenger.memoryEstimation());
+                    break;
+                case LONG_DOUBLE:
+                    estimationBuilder.add("message arrays", LongDoubleReducingMessenger.memoryEstimation());
+                    break;
+                case DOUBLE_ARRAY:
+                    estimationBuilder.add("message arrays", DoubleArrayReducingMessenger.memoryEstimation(messageSchema.width()));
+                    break;
+                default:
+                    estimationBuilder.add("message arrays", ReducingMessenger.memoryEstimation(supportsCombining));
+            }
         }
 
         return estimationBuilder.build();
@@ -133,6 +232,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
         final BasePregelComputation<CONFIG> computation,
         final NodeValue initialNodeValue,
         final ExecutorService executor,
+        final Optional<AffinityExecutor> affinityExecutor,
         final ProgressTracker progressTracker
     ) {
         this.graph = graph;
@@ -143,13 +243,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
         this.progressTracker = progressTracker;
         this.terminationFlag = TerminationFlag.RUNNING_TRUE;
 
-        var reducer = computation.reducer();
-
-        this.messenger = reducer.isPresent()
-            ? new ReducingMessenger(graph, config, reducer.get())
-            : config.isAsynchronous()
-                ? new AsyncQueueMessenger(graph.nodeCount())
-                : new SyncQueueMessenger(graph.nodeCount());
+        this.messenger = createMessenger(graph, config, computation.reducer(), computation.messageSchema(config));
 
         this.computer = PregelComputer.<CONFIG>builder()
             .graph(graph)
@@ -161,6 +255,7 @@ public final class Pregel<CONFIG extends PregelConfig> {
             .executorService(config.useForkJoin()
                 ? Pools.createForkJoinPool(config.concurrency())
                 : executor)
+            .affinityExecutor(affinityExecutor)
             .progressTracker(progressTracker)
             .build();
     }
@@ -214,6 +309,34 @@ public final class Pregel<CONFIG extends PregelConfig> {
         messenger.release();
     }
 
+    private static Messenger<?> createMessenger(
+        Graph graph,
+        PregelConfig config,
+        Optional<Reducer> reducer,
+        MessageSchema messageSchema
+    ) {
+        switch (messageSchema.type()) {
+            case LONG:
+                return messageSchema.isReducing()
+                    ? new LongReducingMessenger(graph, config, messageSchema)
+                    : new SyncQueueMessenger(graph.nodeCount(), messageSchema);
+            case LONG_DOUBLE:
+                return messageSchema.isReducing()
+                    ? new LongDoubleReducingMessenger(graph, config, messageSchema)
+                    : new SyncQueueMessenger(graph.nodeCount(), messageSchema);
+            case DOUBLE_ARRAY:
+                return messageSchema.isReducing()
+                    ? new DoubleArrayReducingMessenger(graph, config, messageSchema)
+                    : new SyncQueueMessenger(graph.nodeCount(), messageSchema);
+            default:
+                return reducer.isPresent()
+                    ? new ReducingMessenger(graph, config, reducer.get())
+                    : config.isAsynchronous()
+                        ? new AsyncQueueMessenger(graph.nodeCount())
+                        : new SyncQueueMessenger(graph.nodeCount());
+        }
+    }
+
     private boolean runMasterComputeStep(int iteration) {
         var context = new MasterComputeContext<>(config, graph, iteration, nodeValues, executor, progressTracker);
         var didConverge = computation.masterCompute(context);
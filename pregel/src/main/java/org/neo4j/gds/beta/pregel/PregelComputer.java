@@ -19,11 +19,21 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.apache.commons.lang3.mutable.MutableBoolean;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.immutables.builder.Builder;
+import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.pregel.context.ComputeContext;
+import org.neo4j.gds.beta.pregel.context.ComputeContext.BidirectionalComputeContext;
+import org.neo4j.gds.beta.pregel.context.InitContext;
+import org.neo4j.gds.beta.pregel.context.InitContext.BidirectionalInitContext;
+import org.neo4j.gds.core.concurrency.AffinityExecutor;
 import org.neo4j.gds.core.utils.paged.HugeAtomicBitSet;
+import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 
@@ -36,6 +46,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
     final NodeValue nodeValues;
     final Messenger<?> messenger;
     final HugeAtomicBitSet voteBits;
+    final Frontier frontier;
     final ProgressTracker progressTracker;
 
     PregelComputer(
@@ -51,7 +62,8 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         this.computation = computation;
         this.config = config;
         this.nodeValues = nodeValues;
-        this.messenger = messenger;
+        this.frontier = Frontier.of(graph.nodeCount());
+        this.messenger = frontier.track(messenger);
         this.voteBits = voteBits;
         this.progressTracker = progressTracker;
     }
@@ -66,6 +78,113 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
 
     abstract void release();
 
+    void logSkippedNodes() {
+        // sparse supersteps only report progress for the active nodes
+        if (frontier.isSparse()) {
+            progressTracker.logProgress(graph.nodeCount() - frontier.activeNodeCount());
+        }
+    }
+
+    PartitionedComputeStep<CONFIG, ?, ?, ?> createPartitionedComputeStep(
+        Graph graph,
+        HugeAtomicBitSet voteBits,
+        Partition partition
+    ) {
+        return computation instanceof PregelComputation
+            ? createUnidirectionalComputeStep(graph, voteBits, partition)
+            : createBidirectionalComputeStep(graph, voteBits, partition);
+    }
+
+    @NotNull
+    private PartitionedComputeStep<CONFIG, ?, InitContext<CONFIG>, ComputeContext<CONFIG>> createUnidirectionalComputeStep(
+        Graph graph,
+        HugeAtomicBitSet voteBits,
+        Partition partition
+    ) {
+        MutableInt iteration = new MutableInt(0);
+        var hasSentMessages = new MutableBoolean(false);
+        var computeStepMessenger = messenger.forComputeStep();
+
+        var initContext = new InitContext<>(
+            graph,
+            config,
+            nodeValues,
+            progressTracker
+        );
+
+        var computeContext = new ComputeContext<>(
+            graph,
+            config,
+            computation,
+            nodeValues,
+            computeStepMessenger,
+            voteBits,
+            iteration,
+            Optional.of(hasSentMessages),
+            progressTracker
+        );
+
+        return new PartitionedComputeStep<>(
+            ((PregelComputation<CONFIG>) computation)::init,
+            ((PregelComputation<CONFIG>) computation)::compute,
+            initContext,
+            computeContext,
+            partition,
+            nodeValues,
+            computeStepMessenger,
+            voteBits,
+            frontier,
+            iteration,
+            hasSentMessages,
+            progressTracker
+        );
+    }
+
+    @NotNull
+    private PartitionedComputeStep<CONFIG, ?, BidirectionalInitContext<CONFIG>, BidirectionalComputeContext<CONFIG>> createBidirectionalComputeStep(
+        Graph graph,
+        HugeAtomicBitSet voteBits,
+        Partition partition
+    ) {
+        MutableInt iteration = new MutableInt(0);
+        var hasSentMessages = new MutableBoolean(false);
+        var computeStepMessenger = messenger.forComputeStep();
+
+        var initContext = new BidirectionalInitContext<>(
+            graph,
+            config,
+            nodeValues,
+            progressTracker
+        );
+
+        var computeContext = new BidirectionalComputeContext<>(
+            graph,
+            config,
+            computation,
+            nodeValues,
+            computeStepMessenger,
+            voteBits,
+            iteration,
+            Optional.of(hasSentMessages),
+            progressTracker
+        );
+
+        return new PartitionedComputeStep<>(
+            ((BidirectionalPregelComputation<CONFIG>) computation)::init,
+            ((BidirectionalPregelComputation<CONFIG>) computation)::compute,
+            initContext,
+            computeContext,
+            partition,
+            nodeValues,
+            computeStepMessenger,
+            voteBits,
+            frontier,
+            iteration,
+            hasSentMessages,
+            progressTracker
+        );
+    }
+
     static <CONFIG extends PregelConfig> ComputerBuilder<CONFIG> builder() {
         return new ComputerBuilder<>();
     }
@@ -79,6 +198,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
         Messenger<?> messenger,
         HugeAtomicBitSet voteBits,
         ExecutorService executorService,
+        Optional<AffinityExecutor> affinityExecutor,
         ProgressTracker progressTracker
     ) {
         if (config.useForkJoin()) {
@@ -110,6 +230,7 @@ abstract class PregelComputer<CONFIG extends PregelConfig> {
             voteBits,
             config.concurrency(),
             executorService,
+            affinityExecutor,
             progressTracker
         );
     }
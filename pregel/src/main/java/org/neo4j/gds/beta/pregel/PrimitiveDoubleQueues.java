@@ -144,6 +144,69 @@ public abstract class PrimitiveDoubleQueues {
         dropSharedReference(nodeId);
     }
 
+    /**
+     * Pushes a message that occupies two consecutive slots of the queue.
+     */
+    public void push(long nodeId, double first, double second) {
+        long idx = reserve(nodeId, 2);
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        ARRAY_HANDLE.setVolatile(queue, (int) idx, first);
+        ARRAY_HANDLE.setVolatile(queue, (int) idx + 1, second);
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Pushes a message that occupies {@code message.length} consecutive slots of the queue.
+     */
+    public void push(long nodeId, double[] message) {
+        long idx = reserve(nodeId, message.length);
+
+        getSharedReference(nodeId);
+        var queue = queues.get(nodeId);
+        for (int i = 0; i < message.length; i++) {
+            ARRAY_HANDLE.setVolatile(queue, (int) idx + i, message[i]);
+        }
+        dropSharedReference(nodeId);
+    }
+
+    /**
+     * Reserves {@code width} consecutive slots in the queue of the given node and
+     * returns the index of the first slot. Unlike {@link #push(long, double)}, a
+     * thread that waits for another thread to grow the queue does not claim the
+     * next slots directly, but retries, since the grown queue is only guaranteed
+     * to fit the message of the growing thread.
+     */
+    private long reserve(long nodeId, int width) {
+        while (true) {
+            long idx = tails.get(nodeId);
+            if (idx < 0) {
+                // Another thread currently grows the queue.
+                Thread.onSpinWait();
+                continue;
+            }
+
+            long nextIdx = idx + width;
+
+            if (hasSpaceLeft(nodeId, (int) nextIdx)) {
+                if (tails.compareAndSet(nodeId, idx, nextIdx)) {
+                    // See push(long, double) for the purpose of the fence.
+                    VarHandle.fullFence();
+                    return idx;
+                }
+            } else if (tails.compareAndSet(nodeId, idx, -nextIdx)) {
+                getExclusiveReference(nodeId);
+                grow(nodeId, (int) nextIdx);
+                dropExclusiveReference(nodeId);
+
+                tails.compareAndExchange(nodeId, -nextIdx, nextIdx);
+                VarHandle.fullFence();
+                return idx;
+            }
+        }
+    }
+
     private void getSharedReference(long nodeId) {
         while (true) {
             // If another thread is currently growing the queue, the
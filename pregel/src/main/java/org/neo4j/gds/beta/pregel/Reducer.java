@@ -19,6 +19,8 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public interface Reducer {
 
     /**
@@ -31,6 +33,27 @@ public interface Reducer {
      */
     double reduce(double current, double message);
 
+    /**
+     * Whether two partially reduced values can be merged using {@link #combine(double, double)}.
+     * If so, messages are reduced on the sending side before they are published to their target node.
+     * This requires the reducer to be associative and commutative, which is why reducers need to opt in.
+     */
+    default boolean supportsCombining() {
+        return false;
+    }
+
+    /**
+     * Combines two partially reduced values, e.g. the value of a sender-side
+     * combining buffer with the value that has already been published for
+     * the target node. Only called if {@link #supportsCombining()} is {@code true}.
+     */
+    default double combine(double current, double partial) {
+        throw new UnsupportedOperationException(formatWithLocale(
+            "%s does not support combining partially reduced values.",
+            getClass().getSimpleName()
+        ));
+    }
+
     class Sum implements Reducer {
 
         @Override
@@ -43,6 +66,15 @@ public interface Reducer {
             return current + message;
         }
 
+        @Override
+        public boolean supportsCombining() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return reduce(current, partial);
+        }
     }
 
     class Min implements Reducer {
@@ -56,6 +88,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.min(current, message);
         }
+
+        @Override
+        public boolean supportsCombining() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return reduce(current, partial);
+        }
     }
 
     class Max implements Reducer {
@@ -69,6 +111,16 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return Math.max(current, message);
         }
+
+        @Override
+        public boolean supportsCombining() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return reduce(current, partial);
+        }
     }
 
     class Count implements Reducer {
@@ -82,5 +134,15 @@ public interface Reducer {
         public double reduce(double current, double message) {
             return current + 1;
         }
+
+        @Override
+        public boolean supportsCombining() {
+            return true;
+        }
+
+        @Override
+        public double combine(double current, double partial) {
+            return current + partial;
+        }
     }
 }
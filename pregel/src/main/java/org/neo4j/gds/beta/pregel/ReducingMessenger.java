@@ -24,6 +24,7 @@ import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 
 /**
@@ -31,6 +32,11 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
  * to send and receive messages. The messenger can only be applied in
  * combination with a {@link Reducer}
  * which atomically reduces all incoming messages into a single one.
+ * <p>
+ * If the reducer {@link Reducer#supportsCombining() supports combining},
+ * every compute step reduces its messages in its own {@link CombiningBuffer} first
+ * to avoid contended updates on nodes that receive many messages.
+ * The buffer is published after each batch of the compute step.
  */
 public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMessageIterator> {
 
@@ -52,11 +58,19 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         this.sendArray = HugeAtomicDoubleArray.newArray(graph.nodeCount());
     }
 
-    static MemoryEstimation memoryEstimation() {
-        return MemoryEstimations.builder(ReducingMessenger.class)
+    static MemoryEstimation memoryEstimation(boolean supportsCombining) {
+        var builder = MemoryEstimations.builder(ReducingMessenger.class)
             .perNode("send array", HugeAtomicDoubleArray::memoryEstimation)
-            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation)
-            .build();
+            .perNode("receive array", HugeAtomicDoubleArray::memoryEstimation);
+        if (supportsCombining) {
+            builder.perGraphDimension(
+                "combining buffers",
+                (dimensions, concurrency) -> MemoryRange.of(
+                    concurrency * CombiningBuffer.sizeInBytes(CombiningBuffer.capacity(dimensions.nodeCount()))
+                )
+            );
+        }
+        return builder.build();
     }
 
     @Override
@@ -83,6 +97,13 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         );
     }
 
+    @Override
+    public Messenger<SingleMessageIterator> forComputeStep() {
+        return reducer.supportsCombining()
+            ? new CombiningMessenger(new CombiningBuffer(reducer, CombiningBuffer.capacity(graph.nodeCount())))
+            : this;
+    }
+
     @Override
     public ReducingMessenger.SingleMessageIterator messageIterator() {
         return new SingleMessageIterator();
@@ -104,6 +125,48 @@ public class ReducingMessenger implements Messenger<ReducingMessenger.SingleMess
         receiveArray.release();
     }
 
+    /**
+     * Sends the messages of a single compute step through its own combining buffer.
+     */
+    private final class CombiningMessenger implements Messenger<SingleMessageIterator> {
+
+        private final CombiningBuffer buffer;
+
+        CombiningMessenger(CombiningBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void initIteration(int iteration) {
+            ReducingMessenger.this.initIteration(iteration);
+        }
+
+        @Override
+        public void sendTo(long targetNodeId, double message) {
+            buffer.add(targetNodeId, message, sendArray);
+        }
+
+        @Override
+        public void flush() {
+            buffer.flush(sendArray);
+        }
+
+        @Override
+        public SingleMessageIterator messageIterator() {
+            return ReducingMessenger.this.messageIterator();
+        }
+
+        @Override
+        public void initMessageIterator(SingleMessageIterator messageIterator, long nodeId, boolean isInitialIteration) {
+            ReducingMessenger.this.initMessageIterator(messageIterator, nodeId, isInitialIteration);
+        }
+
+        @Override
+        public void release() {
+            buffer.release();
+        }
+    }
+
     static class SingleMessageIterator implements Messages.MessageIterator {
 
         boolean hasNext;
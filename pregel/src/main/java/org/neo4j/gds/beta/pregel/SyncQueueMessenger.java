@@ -21,12 +21,26 @@ package org.neo4j.gds.beta.pregel;
 
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A messenger implementation that stores all messages sent to a node
+ * in a queue. Messages that span multiple slots, e.g. long and double
+ * pairs, are stored in consecutive slots of the queue. Long values are
+ * stored using their raw bit representation.
+ */
 public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.Iterator> {
 
     private final PrimitiveSyncDoubleQueues queues;
+    private final MessageSchema messageSchema;
 
     SyncQueueMessenger(long nodeCount) {
+        this(nodeCount, MessageSchema.ofDouble());
+    }
+
+    SyncQueueMessenger(long nodeCount, MessageSchema messageSchema) {
         this.queues = PrimitiveSyncDoubleQueues.of(nodeCount);
+        this.messageSchema = messageSchema;
     }
 
     static MemoryEstimation memoryEstimation() {
@@ -40,9 +54,40 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
 
     @Override
     public void sendTo(long targetNodeId, double message) {
+        validateType(MessageSchema.Type.DOUBLE);
         queues.push(targetNodeId, message);
     }
 
+    @Override
+    public void sendLongTo(long targetNodeId, long message) {
+        validateType(MessageSchema.Type.LONG);
+        queues.push(targetNodeId, Double.longBitsToDouble(message));
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, long longValue, double doubleValue) {
+        validateType(MessageSchema.Type.LONG_DOUBLE);
+        queues.push(targetNodeId, Double.longBitsToDouble(longValue), doubleValue);
+    }
+
+    @Override
+    public void sendTo(long targetNodeId, double[] message) {
+        validateType(MessageSchema.Type.DOUBLE_ARRAY);
+        if (message.length != messageSchema.width()) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Expected a message of length %d, but got %d.",
+                messageSchema.width(),
+                message.length
+            ));
+        }
+        queues.push(targetNodeId, message);
+    }
+
+    @Override
+    public MessageSchema messageSchema() {
+        return messageSchema;
+    }
+
     @Override
     public PrimitiveSyncDoubleQueues.Iterator messageIterator() {
         return new PrimitiveSyncDoubleQueues.Iterator();
@@ -57,4 +102,14 @@ public class SyncQueueMessenger implements Messenger<PrimitiveSyncDoubleQueues.I
     public void release() {
         queues.release();
     }
+
+    private void validateType(MessageSchema.Type type) {
+        if (messageSchema.type() != type) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot send a message of type %s, the message schema expects messages of type %s.",
+                type,
+                messageSchema.type()
+            ));
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.beta.pregel.BasePregelComputation;
+import org.neo4j.gds.beta.pregel.MessageSchema;
 import org.neo4j.gds.beta.pregel.Messenger;
 import org.neo4j.gds.beta.pregel.NodeValue;
 import org.neo4j.gds.beta.pregel.PregelConfig;
@@ -43,6 +44,9 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
     private final Messenger<?> messenger;
     private final MutableInt iteration;
     private final MutableBoolean hasSendMessage;
+    final boolean isWeighted;
+
+    private double[] weightedMessage;
 
     protected BasePregelComputation<CONFIG> computation;
 
@@ -57,9 +61,10 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
                           ProgressTracker progressTracker) {
         super(graph, config, nodeValue, progressTracker);
         this.computation = computation;
-        this.sendMessagesFunction = config.hasRelationshipWeightProperty()
+        this.isWeighted = config.hasRelationshipWeightProperty();
+        this.sendMessagesFunction = isWeighted
             ? this::sendToNeighborsWeighted
-            : this::sendToNeighbors;
+            : this::sendToNeighborsUnweighted;
         this.messenger = messenger;
         this.voteBits = voteBits;
         this.iteration = iteration;
@@ -157,7 +162,94 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
         this.hasSendMessage.setValue(true);
     }
 
-    private void sendToNeighbors(long sourceNodeId, double message) {
+    /**
+     * Sends the given long message to all neighbors of the node.
+     * Requires a message schema of type {@link MessageSchema.Type#LONG}.
+     */
+    public void sendLongToNeighbors(long message) {
+        graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+            sendLongTo(targetNodeId, message);
+            return true;
+        });
+    }
+
+    /**
+     * Sends the given long message to the target node.
+     * Requires a message schema of type {@link MessageSchema.Type#LONG}.
+     */
+    public void sendLongTo(long targetNodeId, long message) {
+        messenger.sendLongTo(targetNodeId, message);
+        this.hasSendMessage.setValue(true);
+    }
+
+    /**
+     * Sends the given pair to all neighbors of the node. If the graph is weighted,
+     * the relationship weight is applied on the double part of the message.
+     * Requires a message schema of type {@link MessageSchema.Type#LONG_DOUBLE}.
+     */
+    public void sendToNeighbors(long longValue, double doubleValue) {
+        if (isWeighted) {
+            graph.forEachRelationship(nodeId, 1.0, (ignored, targetNodeId, weight) -> {
+                sendTo(targetNodeId, longValue, computation.applyRelationshipWeight(doubleValue, weight));
+                return true;
+            });
+        } else {
+            graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+                sendTo(targetNodeId, longValue, doubleValue);
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Sends the given pair to the target node.
+     * Requires a message schema of type {@link MessageSchema.Type#LONG_DOUBLE}.
+     */
+    public void sendTo(long targetNodeId, long longValue, double doubleValue) {
+        messenger.sendTo(targetNodeId, longValue, doubleValue);
+        this.hasSendMessage.setValue(true);
+    }
+
+    /**
+     * Sends the given array to all neighbors of the node. If the graph is weighted,
+     * the relationship weight is applied on each value of the message.
+     * Requires a message schema of type {@link MessageSchema.Type#DOUBLE_ARRAY}.
+     */
+    public void sendToNeighbors(double[] message) {
+        if (isWeighted) {
+            graph.forEachRelationship(nodeId, 1.0, (ignored, targetNodeId, weight) -> {
+                sendTo(targetNodeId, weighted(message, weight));
+                return true;
+            });
+        } else {
+            graph.forEachRelationship(nodeId, (ignored, targetNodeId) -> {
+                sendTo(targetNodeId, message);
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Sends the given array to the target node. The array is copied
+     * and can be reused by the caller.
+     * Requires a message schema of type {@link MessageSchema.Type#DOUBLE_ARRAY}.
+     */
+    public void sendTo(long targetNodeId, double[] message) {
+        messenger.sendTo(targetNodeId, message);
+        this.hasSendMessage.setValue(true);
+    }
+
+    double[] weighted(double[] message, double weight) {
+        if (weightedMessage == null || weightedMessage.length != message.length) {
+            weightedMessage = new double[message.length];
+        }
+        for (int i = 0; i < message.length; i++) {
+            weightedMessage[i] = computation.applyRelationshipWeight(message[i], weight);
+        }
+        return weightedMessage;
+    }
+
+    private void sendToNeighborsUnweighted(long sourceNodeId, double message) {
         graph.forEachRelationship(sourceNodeId, (ignored, targetNodeId) -> {
             sendTo(targetNodeId, message);
             return true;
@@ -209,7 +301,7 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
 
             this.sendMessagesIncomingFunction = config.hasRelationshipWeightProperty()
                 ? this::sendToIncomingNeighborsWeighted
-                : this::sendToIncomingNeighbors;
+                : this::sendToIncomingNeighborsUnweighted;
         }
 
         /**
@@ -219,7 +311,56 @@ public class ComputeContext<CONFIG extends PregelConfig> extends NodeCentricCont
             sendMessagesIncomingFunction.sendToIncomingNeighbors(nodeId, message);
         }
 
-        private void sendToIncomingNeighbors(long sourceNodeId, double message) {
+        /**
+         * Sends the given long message to all incoming neighbors of the node.
+         * Requires a message schema of type {@link MessageSchema.Type#LONG}.
+         */
+        public void sendLongToIncomingNeighbors(long message) {
+            graph.forEachInverseRelationship(nodeId, (ignored, targetNodeId) -> {
+                sendLongTo(targetNodeId, message);
+                return true;
+            });
+        }
+
+        /**
+         * Sends the given pair to all incoming neighbors of the node. If the graph is
+         * weighted, the relationship weight is applied on the double part of the message.
+         * Requires a message schema of type {@link MessageSchema.Type#LONG_DOUBLE}.
+         */
+        public void sendToIncomingNeighbors(long longValue, double doubleValue) {
+            if (isWeighted) {
+                graph.forEachInverseRelationship(nodeId, 1.0, (ignored, targetNodeId, weight) -> {
+                    sendTo(targetNodeId, longValue, computation.applyRelationshipWeight(doubleValue, weight));
+                    return true;
+                });
+            } else {
+                graph.forEachInverseRelationship(nodeId, (ignored, targetNodeId) -> {
+                    sendTo(targetNodeId, longValue, doubleValue);
+                    return true;
+                });
+            }
+        }
+
+        /**
+         * Sends the given array to all incoming neighbors of the node. If the graph is
+         * weighted, the relationship weight is applied on each value of the message.
+         * Requires a message schema of type {@link MessageSchema.Type#DOUBLE_ARRAY}.
+         */
+        public void sendToIncomingNeighbors(double[] message) {
+            if (isWeighted) {
+                graph.forEachInverseRelationship(nodeId, 1.0, (ignored, targetNodeId, weight) -> {
+                    sendTo(targetNodeId, weighted(message, weight));
+                    return true;
+                });
+            } else {
+                graph.forEachInverseRelationship(nodeId, (ignored, targetNodeId) -> {
+                    sendTo(targetNodeId, message);
+                    return true;
+                });
+            }
+        }
+
+        private void sendToIncomingNeighborsUnweighted(long sourceNodeId, double message) {
             graph.forEachInverseRelationship(sourceNodeId, (ignored, targetNodeId) -> {
                 sendTo(targetNodeId, message);
                 return true;
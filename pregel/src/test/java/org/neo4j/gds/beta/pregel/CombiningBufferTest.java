@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+
+import java.util.concurrent.Phaser;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CombiningBufferTest {
+
+    @Test
+    void combineMessagesForTheSameTarget() {
+        var reducer = new Reducer.Sum();
+        var sendArray = sendArray(4, reducer);
+        var buffer = new CombiningBuffer(reducer, 16);
+
+        for (int i = 0; i < 10; i++) {
+            buffer.add(1, 1.0, sendArray);
+        }
+
+        assertThat(buffer.occupiedSlots()).isEqualTo(1);
+        assertThat(sendArray.get(1)).isEqualTo(0.0);
+
+        buffer.flush(sendArray);
+
+        assertThat(buffer.occupiedSlots()).isEqualTo(0);
+        assertThat(sendArray.get(1)).isEqualTo(10.0);
+    }
+
+    @Test
+    void bypassBufferOnCollisionWithHotTarget() {
+        var reducer = new Reducer.Sum();
+        var sendArray = sendArray(1_000, reducer);
+        // a single slot forces every other target to collide
+        var buffer = new CombiningBuffer(reducer, 1);
+
+        for (int i = 0; i < 10; i++) {
+            buffer.add(0, 1.0, sendArray);
+        }
+        buffer.add(42, 1.0, sendArray);
+
+        // the cold target is published directly, the hot one is still buffered
+        assertThat(sendArray.get(42)).isEqualTo(1.0);
+        assertThat(sendArray.get(0)).isEqualTo(0.0);
+
+        buffer.flush(sendArray);
+
+        assertThat(sendArray.get(0)).isEqualTo(10.0);
+    }
+
+    @Test
+    void evictColdTargetOnCollision() {
+        var reducer = new Reducer.Sum();
+        var sendArray = sendArray(1_000, reducer);
+        var buffer = new CombiningBuffer(reducer, 1);
+
+        buffer.add(0, 1.0, sendArray);
+        buffer.add(42, 2.0, sendArray);
+        buffer.add(42, 2.0, sendArray);
+
+        assertThat(sendArray.get(0)).isEqualTo(1.0);
+        assertThat(sendArray.get(42)).isEqualTo(0.0);
+
+        buffer.flush(sendArray);
+
+        assertThat(sendArray.get(42)).isEqualTo(4.0);
+    }
+
+    @Test
+    void combineCounts() {
+        var reducer = new Reducer.Count();
+        var sendArray = sendArray(4, reducer);
+        var buffer = new CombiningBuffer(reducer, 16);
+
+        sendArray.set(2, 3);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(2, 42.0, sendArray);
+        }
+        buffer.flush(sendArray);
+
+        assertThat(sendArray.get(2)).isEqualTo(8.0);
+    }
+
+    @RepeatedTest(10)
+    void parallelBuffersForHubNode() {
+        var reducer = new Reducer.Sum();
+        var nodeCount = 10_000;
+        var sendArray = sendArray(nodeCount, reducer);
+        var concurrency = 4;
+        var buffers = IntStream.range(0, concurrency)
+            .mapToObj(i -> new CombiningBuffer(reducer, 64))
+            .toArray(CombiningBuffer[]::new);
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj(taskOffset -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (int source = 0; source < nodeCount; source++) {
+                // every node sends to the hub and to its successor
+                buffers[taskOffset].add(0, 1.0, sendArray);
+                buffers[taskOffset].add((source + 1) % nodeCount, 1.0, sendArray);
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        for (CombiningBuffer buffer : buffers) {
+            buffer.flush(sendArray);
+        }
+
+        assertThat(sendArray.get(0)).isEqualTo(concurrency * (nodeCount + 1.0));
+        for (int nodeId = 1; nodeId < nodeCount; nodeId++) {
+            assertThat(sendArray.get(nodeId)).isEqualTo(concurrency);
+        }
+    }
+
+    private static HugeAtomicDoubleArray sendArray(long nodeCount, Reducer reducer) {
+        var array = HugeAtomicDoubleArray.newArray(nodeCount);
+        array.setAll(reducer.identity());
+        return array;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.beta.pregel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrontierTest {
+
+    @Test
+    void shouldVisitAllNodesInTheInitialSuperstep() {
+        var frontier = Frontier.of(100);
+        frontier.advance(0);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(frontier.activeNodeCount()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldSwitchToSparseModeForSmallFrontiers() {
+        var frontier = Frontier.of(100);
+        frontier.advance(0);
+
+        frontier.activate(42);
+        frontier.activate(7);
+        frontier.activate(42);
+        frontier.advance(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.activeNodeCount()).isEqualTo(2);
+        assertThat(frontier.activeNode(0)).isEqualTo(7);
+        assertThat(frontier.activeNode(1)).isEqualTo(42);
+    }
+
+    @Test
+    void shouldSwitchBackToDenseModeForLargeFrontiers() {
+        var frontier = Frontier.of(100);
+        frontier.advance(0);
+        frontier.activate(1);
+        frontier.advance(1);
+        assertThat(frontier.isSparse()).isTrue();
+
+        for (long nodeId = 0; nodeId < 50; nodeId++) {
+            frontier.activate(nodeId);
+        }
+        frontier.advance(2);
+
+        assertThat(frontier.isSparse()).isFalse();
+        assertThat(frontier.activeNodeCount()).isEqualTo(50);
+
+        // nothing has been activated during the dense superstep
+        frontier.advance(3);
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.activeNodeCount()).isEqualTo(0);
+    }
+
+    @Test
+    void shouldActivateMessageReceivers() {
+        var frontier = Frontier.of(100);
+        var messenger = frontier.track(new SyncQueueMessenger(100));
+        frontier.advance(0);
+        messenger.initIteration(0);
+
+        messenger.sendTo(13, 1.0);
+        messenger.sendTo(37, 1.0);
+        frontier.advance(1);
+        messenger.initIteration(1);
+
+        assertThat(frontier.isSparse()).isTrue();
+        assertThat(frontier.activeNodeCount()).isEqualTo(2);
+        assertThat(frontier.activeNode(0)).isEqualTo(13);
+        assertThat(frontier.activeNode(1)).isEqualTo(37);
+
+        var iterator = messenger.messageIterator();
+        messenger.initMessageIterator(iterator, 13, false);
+        assertThat(iterator.nextDouble()).isEqualTo(1.0);
+    }
+}
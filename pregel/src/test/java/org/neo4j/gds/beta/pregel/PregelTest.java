@@ -28,6 +28,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.GdlBuilder;
+import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.TestTaskStore;
@@ -44,6 +45,7 @@ import org.neo4j.gds.beta.pregel.context.MasterComputeContext;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.ImmutableGraphDimensions;
+import org.neo4j.gds.core.concurrency.AffinityExecutor;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
@@ -56,6 +58,7 @@ import org.neo4j.gds.extension.GdlExtension;
 import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.extension.TestGraph;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Arrays;
 import java.util.Optional;
@@ -171,28 +174,38 @@ class PregelTest {
             .extracting(AtomicLong::get)
             .allMatch(progress -> progress == 0 || progress == graph.nodeCount());
 
-        assertThat(log.getMessages(TestLog.INFO))
+        var messages = log.getMessages(TestLog.INFO);
+        assertThat(messages)
             // avoid asserting on the thread id
             .extracting(removingThreadId())
             .contains(
                 "TestPregelComputation :: Compute iteration 1 of 2 :: Start",
-                "TestPregelComputation :: Compute iteration 1 of 2 25%",
-                "TestPregelComputation :: Compute iteration 1 of 2 50%",
-                "TestPregelComputation :: Compute iteration 1 of 2 75%",
                 "TestPregelComputation :: Compute iteration 1 of 2 100%",
                 "TestPregelComputation :: Compute iteration 1 of 2 :: Finished",
                 "TestPregelComputation :: Master compute iteration 1 of 2 :: Start",
                 "TestPregelComputation :: Master compute iteration 1 of 2 :: Finished",
 
                 "TestPregelComputation :: Compute iteration 2 of 2 :: Start",
-                "TestPregelComputation :: Compute iteration 2 of 2 25%",
-                "TestPregelComputation :: Compute iteration 2 of 2 50%",
-                "TestPregelComputation :: Compute iteration 2 of 2 75%",
                 "TestPregelComputation :: Compute iteration 2 of 2 100%",
                 "TestPregelComputation :: Compute iteration 2 of 2 :: Finished",
                 "TestPregelComputation :: Master compute iteration 2 of 2 :: Start",
                 "TestPregelComputation :: Master compute iteration 2 of 2 :: Finished"
             );
+
+        // Range partitions are of equal size, while the fork-join computer
+        // balances partitions by degree, so percentages are not aligned.
+        if (partitioning == Partitioning.RANGE) {
+            assertThat(messages)
+                .extracting(removingThreadId())
+                .contains(
+                    "TestPregelComputation :: Compute iteration 1 of 2 25%",
+                    "TestPregelComputation :: Compute iteration 1 of 2 50%",
+                    "TestPregelComputation :: Compute iteration 1 of 2 75%",
+                    "TestPregelComputation :: Compute iteration 2 of 2 25%",
+                    "TestPregelComputation :: Compute iteration 2 of 2 50%",
+                    "TestPregelComputation :: Compute iteration 2 of 2 75%"
+                );
+        }
     }
 
     @Test
@@ -274,6 +287,31 @@ class PregelTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(value = Partitioning.class, names = {"RANGE", "DEGREE"})
+    void computesSameResultWithPartitionAffinity(Partitioning partitioning) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(10_000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .concurrency(4)
+            .build();
+
+        var expected = run(graph, config, new TestPregelComputation());
+
+        GdsFeatureToggles.USE_PARTITION_AFFINITY.enableAndRun(() -> {
+            var actual = run(graph, config, new TestPregelComputation());
+            assertArrayEquals(expected.toArray(), actual.toArray());
+        });
+    }
+
     @NotNull
     private HugeDoubleArray run(Graph graph, PregelConfig config, PregelComputation<PregelConfig> computation) {
         var pregelJob = Pregel.create(
@@ -393,8 +431,8 @@ class PregelTest {
     static Stream<Arguments> estimations() {
         return Stream.of(
             // queue based sync
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7441704L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7442208L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7448408L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, false, 7448984L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -403,7 +441,7 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9441776L
+                9448480L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -413,12 +451,12 @@ class PregelTest {
                     .build(),
                 true,
                 false,
-                9442280L
+                9449056L
             ),
 
             // queue based async
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3841664L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3842168L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3848368L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), true, true, 3848944L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -427,7 +465,7 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5841736L
+                5848440L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -437,12 +475,12 @@ class PregelTest {
                     .build(),
                 true,
                 true,
-                5842240L
+                5849016L
             ),
 
             // array based
-            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 241584L),
-            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 242088L),
+            Arguments.of(1, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 248288L),
+            Arguments.of(10, new PregelSchema.Builder().add("key", ValueType.LONG).build(), false, false, 248864L),
             Arguments.of(1, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
                     .add("key2", ValueType.DOUBLE)
@@ -451,7 +489,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2241656L
+                2248360L
             ),
             Arguments.of(10, new PregelSchema.Builder()
                     .add("key1", ValueType.LONG)
@@ -461,7 +499,7 @@ class PregelTest {
                     .build(),
                 false,
                 false,
-                2242160L
+                2248936L
             )
         );
     }
@@ -547,6 +585,68 @@ class PregelTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(longs = {8, 10_000})
+    void memoryEstimationOfCombiningBuffers(long nodeCount) {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(nodeCount)
+            .relCountUpperBound(10 * nodeCount)
+            .build();
+        var pregelSchema = new PregelSchema.Builder().add("key", ValueType.DOUBLE).build();
+        var withoutReducer = Pregel
+            .memoryEstimation(pregelSchema, false, false)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        var sumOfSquares = new Reducer() {
+            @Override
+            public double identity() {
+                return 0;
+            }
+
+            @Override
+            public double reduce(double current, double message) {
+                return current + message * message;
+            }
+        };
+
+        var notCombining = Pregel
+            .memoryEstimation(pregelSchema, Optional.of(sumOfSquares), false)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+        var combining = Pregel
+            .memoryEstimation(pregelSchema, Optional.of(new Reducer.Sum()), false)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        int capacity = (int) Math.min(nodeCount, CombiningBuffer.DEFAULT_CAPACITY);
+        assertThat(notCombining).isEqualTo(withoutReducer);
+        assertThat(combining).isEqualTo(withoutReducer.add(MemoryRange.of(4 * CombiningBuffer.sizeInBytes(capacity))));
+    }
+
+    @Test
+    void memoryEstimationWithPartitionAffinity() {
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(10_000)
+            .relCountUpperBound(100_000)
+            .build();
+        var pregelSchema = new PregelSchema.Builder().add("key", ValueType.DOUBLE).build();
+        var withoutAffinity = Pregel
+            .memoryEstimation(pregelSchema, false, false)
+            .estimate(dimensions, 4)
+            .memoryUsage();
+
+        GdsFeatureToggles.USE_PARTITION_AFFINITY.enableAndRun(() -> {
+            var withAffinity = Pregel
+                .memoryEstimation(pregelSchema, false, false)
+                .estimate(dimensions, 4)
+                .memoryUsage();
+            var affinityExecutor = AffinityExecutor.memoryEstimation().estimate(dimensions, 4).memoryUsage();
+
+            assertThat(withAffinity).isEqualTo(withoutAffinity.add(affinityExecutor));
+        });
+    }
+
     static Stream<Arguments> partitioningConfigAndResult() {
         return crossArguments(PregelTest::partitionings, PregelTest::configAndResult);
     }
@@ -634,6 +734,202 @@ class PregelTest {
         pregelJob.run();
     }
 
+    @ParameterizedTest
+    @MethodSource("partitioningAndAsynchronous")
+    void computesOnlyActiveNodesInSparseSupersteps(Partitioning partitioning, boolean isAsynchronous) {
+        int nodeCount = 100;
+        var gdl = new StringBuilder("CREATE (n0)");
+        for (int i = 1; i < nodeCount; i++) {
+            gdl.append(formatWithLocale(", (n%d), (n%d)-[:REL]->(n%d)", i, i - 1, i));
+        }
+        var chain = TestSupport.fromGdl(gdl.toString());
+
+        var config = ImmutablePregelConfig
+            .builder()
+            .maxIterations(2 * nodeCount)
+            .concurrency(4)
+            .partitioning(partitioning)
+            .isAsynchronous(isAsynchronous)
+            .build();
+
+        var computeCalls = new AtomicLong();
+        var result = Pregel.create(
+            chain,
+            config,
+            new TestTokenPassing(chain.toMappedNodeId("n0"), computeCalls),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(result.didConverge()).isTrue();
+        // every node is computed in the initial superstep and
+        // afterwards only when it receives the token
+        assertThat(computeCalls.get()).isEqualTo(2L * nodeCount - 1);
+
+        var values = result.nodeValues().doubleProperties(KEY);
+        for (int i = 0; i < nodeCount; i++) {
+            assertThat(values.get(chain.toMappedNodeId("n" + i))).isEqualTo(i);
+        }
+    }
+
+    static Stream<Arguments> partitioningAndReducing() {
+        return crossArguments(PregelTest::partitionings, TestSupport::trueFalseArguments);
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndReducing")
+    void sendsLongMessages(Partitioning partitioning, boolean isReducing) {
+        var components = TestSupport.fromGdl(
+            "(a)-[:REL]->(b)-[:REL]->(c), (d)-[:REL]->(e)",
+            Orientation.UNDIRECTED
+        );
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .build();
+
+        var result = Pregel.create(
+            components,
+            config,
+            new TestMinIdPropagation(isReducing),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        assertThat(result.didConverge()).isTrue();
+
+        var values = result.nodeValues().longProperties(TestMinIdPropagation.KEY);
+        var abc = components.toMappedNodeId("a");
+        var de = components.toMappedNodeId("d");
+        assertThat(values.get(components.toMappedNodeId("a"))).isEqualTo(abc);
+        assertThat(values.get(components.toMappedNodeId("b"))).isEqualTo(abc);
+        assertThat(values.get(components.toMappedNodeId("c"))).isEqualTo(abc);
+        assertThat(values.get(components.toMappedNodeId("d"))).isEqualTo(de);
+        assertThat(values.get(components.toMappedNodeId("e"))).isEqualTo(de);
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndReducing")
+    void sendsLongDoubleMessages(Partitioning partitioning, boolean isReducing) {
+        var weighted = TestSupport.fromGdl(
+            "  (a)-[:REL {w: 1.0}]->(b)" +
+            ", (a)-[:REL {w: 4.0}]->(c)" +
+            ", (b)-[:REL {w: 1.0}]->(c)" +
+            ", (c)-[:REL {w: 1.0}]->(d)"
+        );
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(10)
+            .partitioning(partitioning)
+            .relationshipWeightProperty("w")
+            .build();
+
+        var result = Pregel.create(
+            weighted,
+            config,
+            new TestShortestPaths(weighted.toMappedNodeId("a"), isReducing),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        var distances = result.nodeValues().doubleProperties(TestShortestPaths.DISTANCE);
+        var predecessors = result.nodeValues().longProperties(TestShortestPaths.PREDECESSOR);
+
+        assertThat(distances.get(weighted.toMappedNodeId("a"))).isEqualTo(0.0);
+        assertThat(distances.get(weighted.toMappedNodeId("b"))).isEqualTo(1.0);
+        assertThat(distances.get(weighted.toMappedNodeId("c"))).isEqualTo(2.0);
+        assertThat(distances.get(weighted.toMappedNodeId("d"))).isEqualTo(3.0);
+
+        assertThat(predecessors.get(weighted.toMappedNodeId("b"))).isEqualTo(weighted.toMappedNodeId("a"));
+        assertThat(predecessors.get(weighted.toMappedNodeId("c"))).isEqualTo(weighted.toMappedNodeId("b"));
+        assertThat(predecessors.get(weighted.toMappedNodeId("d"))).isEqualTo(weighted.toMappedNodeId("c"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("partitioningAndReducing")
+    void sendsDoubleArrayMessages(Partitioning partitioning, boolean isReducing) {
+        var star = TestSupport.fromGdl("(a)-[:REL]->(c), (b)-[:REL]->(c), (d)");
+
+        var config = ImmutablePregelConfig.builder()
+            .maxIterations(2)
+            .partitioning(partitioning)
+            .build();
+
+        var result = Pregel.create(
+            star,
+            config,
+            new TestNeighborhoodAggregation(isReducing),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).run();
+
+        var values = result.nodeValues().doubleArrayProperties(TestNeighborhoodAggregation.KEY);
+        var a = star.toMappedNodeId("a");
+        var b = star.toMappedNodeId("b");
+
+        assertThat(values.get(star.toMappedNodeId("c"))).containsExactly(2.0, a + b);
+        assertThat(values.get(star.toMappedNodeId("d"))).isNull();
+    }
+
+    @Test
+    void failsForTypedMessagesWithDoubleReducer() {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new TestMinIdPropagation(false) {
+                @Override
+                public Optional<Reducer> reducer() {
+                    return Optional.of(new Reducer.Min());
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("sends messages of type LONG")
+            .hasMessageContaining("needs to be declared on the message schema");
+    }
+
+    @Test
+    void failsForAsynchronousTypedMessages() {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).isAsynchronous(true).build();
+
+        assertThatThrownBy(() -> Pregel.create(
+            graph,
+            config,
+            new TestMinIdPropagation(false),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not supported for asynchronous computations");
+    }
+
+    @Test
+    void failsWhenSendingMessagesOfTheWrongType() {
+        var config = ImmutablePregelConfig.builder().maxIterations(2).build();
+
+        var pregelJob = Pregel.create(
+            graph,
+            config,
+            new TestMinIdPropagation(false) {
+                @Override
+                public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+                    context.sendToNeighbors(42.0);
+                }
+            },
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        assertThatThrownBy(pregelJob::run)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cannot send a message of type DOUBLE, the message schema expects messages of type LONG.");
+    }
+
     static Stream<Arguments> partitionings() {
         return Arrays.stream(Partitioning.values()).map(Arguments::of);
     }
@@ -794,6 +1090,180 @@ class PregelTest {
         }
     }
 
+    static class TestTokenPassing implements PregelComputation<PregelConfig> {
+
+        private final long startNode;
+        private final AtomicLong computeCalls;
+
+        TestTokenPassing(long startNode, AtomicLong computeCalls) {
+            this.startNode = startNode;
+            this.computeCalls = computeCalls;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE).build();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            computeCalls.incrementAndGet();
+            if (context.isInitialSuperstep()) {
+                if (context.nodeId() == startNode) {
+                    context.setNodeValue(KEY, 0.0);
+                    context.sendToNeighbors(1.0);
+                }
+            } else {
+                for (Double message : messages) {
+                    context.setNodeValue(KEY, message);
+                    context.sendToNeighbors(message + 1.0);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class TestMinIdPropagation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "component";
+
+        private final boolean isReducing;
+
+        TestMinIdPropagation(boolean isReducing) {
+            this.isReducing = isReducing;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.LONG).build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return isReducing ? MessageSchema.ofLong(new LongReducer.Min()) : MessageSchema.ofLong();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(KEY, context.nodeId());
+                context.sendLongToNeighbors(context.nodeId());
+            } else {
+                long current = context.longNodeValue(KEY);
+                long min = current;
+                while (messages.next()) {
+                    min = Math.min(min, messages.longValue());
+                }
+                if (min < current) {
+                    context.setNodeValue(KEY, min);
+                    context.sendLongToNeighbors(min);
+                }
+            }
+            context.voteToHalt();
+        }
+    }
+
+    static class TestShortestPaths implements PregelComputation<PregelConfig> {
+
+        static final String DISTANCE = "distance";
+        static final String PREDECESSOR = "predecessor";
+
+        private final long sourceNode;
+        private final boolean isReducing;
+
+        TestShortestPaths(long sourceNode, boolean isReducing) {
+            this.sourceNode = sourceNode;
+            this.isReducing = isReducing;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder()
+                .add(DISTANCE, ValueType.DOUBLE)
+                .add(PREDECESSOR, ValueType.LONG)
+                .build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return isReducing
+                ? MessageSchema.ofLongDouble(new LongDoubleReducer.MinByDouble())
+                : MessageSchema.ofLongDouble();
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.setNodeValue(PREDECESSOR, -1L);
+                if (context.nodeId() == sourceNode) {
+                    context.setNodeValue(DISTANCE, 0.0);
+                    context.sendToNeighbors(context.nodeId(), 0.0);
+                } else {
+                    context.setNodeValue(DISTANCE, Double.MAX_VALUE);
+                }
+            } else {
+                double distance = context.doubleNodeValue(DISTANCE);
+                long predecessor = -1;
+                while (messages.next()) {
+                    if (messages.doubleValue() < distance) {
+                        distance = messages.doubleValue();
+                        predecessor = messages.longValue();
+                    }
+                }
+                if (predecessor != -1) {
+                    context.setNodeValue(DISTANCE, distance);
+                    context.setNodeValue(PREDECESSOR, predecessor);
+                    context.sendToNeighbors(context.nodeId(), distance);
+                }
+            }
+            context.voteToHalt();
+        }
+
+        @Override
+        public double applyRelationshipWeight(double nodeValue, double relationshipWeight) {
+            return nodeValue + relationshipWeight;
+        }
+    }
+
+    static class TestNeighborhoodAggregation implements PregelComputation<PregelConfig> {
+
+        static final String KEY = "aggregate";
+
+        private final boolean isReducing;
+
+        TestNeighborhoodAggregation(boolean isReducing) {
+            this.isReducing = isReducing;
+        }
+
+        @Override
+        public PregelSchema schema(PregelConfig config) {
+            return new PregelSchema.Builder().add(KEY, ValueType.DOUBLE_ARRAY).build();
+        }
+
+        @Override
+        public MessageSchema messageSchema(PregelConfig config) {
+            return isReducing
+                ? MessageSchema.ofDoubleArray(2, new Reducer.Sum())
+                : MessageSchema.ofDoubleArray(2);
+        }
+
+        @Override
+        public void compute(ComputeContext<PregelConfig> context, Messages messages) {
+            if (context.isInitialSuperstep()) {
+                context.sendToNeighbors(new double[]{1.0, context.nodeId()});
+            } else if (!messages.isEmpty()) {
+                var aggregate = new double[2];
+                while (messages.next()) {
+                    var message = messages.doubleArrayValue();
+                    aggregate[0] += message[0];
+                    aggregate[1] += message[1];
+                }
+                context.setNodeValue(KEY, aggregate);
+            }
+            context.voteToHalt();
+        }
+    }
+
     static class TestEmptyMessageInInitialSuperstep implements PregelComputation<PregelConfig> {
         @Override
         public PregelSchema schema(PregelConfig config) {
@@ -20,10 +20,14 @@
 package org.neo4j.gds.beta.pregel;
 
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.Phaser;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -54,6 +58,49 @@ class PrimitiveSyncDoubleQueuesTest extends PrimitiveDoubleQueuesTest {
         }
     }
 
+    @Test
+    void growQueueArrayForMultiSlotMessages() {
+        var queue = getQueue(1, 42);
+        var message = new double[100];
+        Arrays.setAll(message, i -> i);
+
+        queue.push(0, message);
+
+        assertThat(queue.queue(0).length).isEqualTo(100);
+        assertThat(Arrays.copyOf(queue.queue(0), 100)).containsExactly(message);
+    }
+
+    @RepeatedTest(100)
+    void parallelPushPairs() {
+        var queues = getQueue(1, 42);
+        var concurrency = 4;
+        var phaser = new Phaser(concurrency + 1);
+
+        IntStream.range(0, concurrency).mapToObj((taskOffset) -> (Runnable) () -> {
+            phaser.arriveAndAwaitAdvance();
+            for (int i = 0; i < 100; i++) {
+                var value = i + taskOffset * 100;
+                queues.push(0, value, -value);
+            }
+            phaser.arriveAndAwaitAdvance();
+        }).forEach(task -> new Thread(task).start());
+
+        phaser.arriveAndAwaitAdvance();
+        phaser.arriveAndAwaitAdvance();
+
+        assertThat(queues.tail(0)).isEqualTo(2 * concurrency * 100);
+
+        var values = new ArrayList<Long>();
+        for (int i = 0; i < queues.tail(0); i += 2) {
+            // both slots of a message are adjacent
+            assertThat(queues.queue(0)[i + 1]).isEqualTo(-queues.queue(0)[i]);
+            values.add(Math.round(queues.queue(0)[i]));
+        }
+
+        assertThat(values)
+            .containsExactlyInAnyOrder(LongStream.range(0, concurrency * 100).boxed().toArray(Long[]::new));
+    }
+
     @Nested
     class IteratorTest {
 
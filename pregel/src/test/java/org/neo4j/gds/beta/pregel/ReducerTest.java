@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.beta.pregel;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -26,6 +27,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ReducerTest {
 
@@ -44,4 +47,37 @@ class ReducerTest {
         assertEquals(expected, reducer.reduce(arg0, arg1));
     }
 
+    static Stream<Arguments> combineArguments() {
+        return Stream.of(
+            Arguments.of(new Reducer.Sum(), 2, 2, 4),
+            Arguments.of(new Reducer.Min(), 42, 23, 23),
+            Arguments.of(new Reducer.Max(), 42, 23, 42),
+            Arguments.of(new Reducer.Count(), 42, 23, 65)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("combineArguments")
+    void combine(Reducer reducer, double arg0, double arg1, double expected) {
+        assertEquals(expected, reducer.combine(arg0, arg1));
+    }
+
+    @Test
+    void customReducersDoNotCombineByDefault() {
+        var sumOfSquares = new Reducer() {
+            @Override
+            public double identity() {
+                return 0;
+            }
+
+            @Override
+            public double reduce(double current, double message) {
+                return current + message * message;
+            }
+        };
+
+        assertFalse(sumOfSquares.supportsCombining());
+        assertThrows(UnsupportedOperationException.class, () -> sumOfSquares.combine(1, 2));
+    }
+
 }
@@ -77,7 +77,7 @@ public abstract class Node2VecProcTest<CONFIG extends Node2VecBaseConfig> extend
 
     public void assertResultEquals(Node2VecModel.Result result1, Node2VecModel.Result result2) {
         // TODO: This just tests that the dimensions are the same for node 0, it's not a very good equality test
-        assertEquals(result1.embeddings().get(0).data().length, result2.embeddings().get(0).data().length);
+        assertEquals(result1.embeddings().cols(), result2.embeddings().cols());
     }
 
 }
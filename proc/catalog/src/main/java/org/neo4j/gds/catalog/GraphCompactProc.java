@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.NodePropertyCompaction;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
+import org.neo4j.gds.executor.ProcPreconditions;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphCompactProc extends CatalogProc {
+
+    @Procedure(name = "gds.graph.compact", mode = READ)
+    @Description("Rewrites the node properties of a named graph into dense arrays and folds appended relationships into the existing ones.")
+    public Stream<Result> compact(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+        validateGraphName(graphName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = GraphCompactConfig.of(username(), cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var result = runWithExceptionLogging(
+            "Graph compaction failed", () -> {
+                var graphStore = graphStoreFromCatalog(graphName, config).graphStore();
+                memoryUsageValidator().tryValidateMemoryUsage(
+                    config,
+                    compactConfig -> memoryTreeWithDimensions(compactConfig, graphStore)
+                );
+
+                try (var progressTimer = ProgressTimer.start()) {
+                    var nodePropertyResult = NodePropertyCompaction.compact(
+                        graphStore,
+                        config.concurrency(),
+                        Pools.DEFAULT
+                    );
+
+                    // relationship compaction parallelizes on the default pool itself, so it runs in the background pool
+                    var compactedRelationshipTypes = new ArrayList<String>();
+                    for (RelationshipType relationshipType : List.copyOf(graphStore.relationshipTypes())) {
+                        var compacted = graphStore
+                            .compactRelationships(relationshipType, config.concurrency(), Pools.DEFAULT_SINGLE_THREAD_POOL)
+                            .join();
+                        if (compacted) {
+                            compactedRelationshipTypes.add(relationshipType.name);
+                        }
+                    }
+                    progressTimer.stop();
+
+                    return new Result(
+                        graphName,
+                        nodePropertyResult.compactedProperties(),
+                        compactedRelationshipTypes,
+                        nodePropertyResult.bytesBefore(),
+                        nodePropertyResult.bytesAfter(),
+                        nodePropertyResult.reclaimedBytes(),
+                        progressTimer.getDuration()
+                    );
+                }
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    private static MemoryTreeWithDimensions memoryTreeWithDimensions(GraphCompactConfig config, GraphStore graphStore) {
+        var dimensions = GraphDimensions.of(graphStore.nodeCount());
+        var memoryTree = NodePropertyCompaction
+            .memoryEstimation(graphStore)
+            .estimate(dimensions, config.concurrency());
+        return new MemoryTreeWithDimensions(memoryTree, dimensions);
+    }
+
+    @SuppressWarnings("unused")
+    public static class Result {
+        public final String graphName;
+        public final List<String> compactedNodeProperties;
+        public final List<String> compactedRelationshipTypes;
+        public final long nodePropertyBytesBefore;
+        public final long nodePropertyBytesAfter;
+        public final long reclaimedBytes;
+        public final long compactMillis;
+
+        public Result(
+            String graphName,
+            List<String> compactedNodeProperties,
+            List<String> compactedRelationshipTypes,
+            long nodePropertyBytesBefore,
+            long nodePropertyBytesAfter,
+            long reclaimedBytes,
+            long compactMillis
+        ) {
+            this.graphName = graphName;
+            this.compactedNodeProperties = compactedNodeProperties;
+            this.compactedRelationshipTypes = compactedRelationshipTypes;
+            this.nodePropertyBytesBefore = nodePropertyBytesBefore;
+            this.nodePropertyBytesAfter = nodePropertyBytesAfter;
+            this.reclaimedBytes = reclaimedBytes;
+            this.compactMillis = compactMillis;
+        }
+    }
+}
@@ -85,7 +85,11 @@ public class GraphInfo {
         GraphProjectConfig graphProjectConfig,
         GraphStore graphStore
     ) {
-        var sizeInBytes = MemoryUsage.sizeOf(graphStore);
+        // the heap walk does not follow native addresses, e.g. of off-heap adjacency lists
+        var heapSizeInBytes = MemoryUsage.sizeOf(graphStore);
+        var sizeInBytes = heapSizeInBytes >= 0
+            ? heapSizeInBytes + graphStore.offHeapSizeInBytes()
+            : heapSizeInBytes;
 
         var memoryUsage = sizeInBytes >= 0
             ? MemoryUsage.humanReadable(sizeInBytes)
@@ -22,6 +22,7 @@ package org.neo4j.gds.catalog;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.loading.CSRGraphStore;
 import org.neo4j.gds.core.loading.GraphStoreWithConfig;
 import org.neo4j.gds.executor.ProcPreconditions;
 import org.neo4j.gds.mem.MemoryUsage;
@@ -30,6 +31,7 @@ import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 import org.openjdk.jol.info.GraphWalker;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
@@ -109,6 +111,7 @@ public class GraphMemoryUsageProc extends CatalogProc {
             var adjacencyOffsets = new MutableLong();
             var adjacencyLists = new MutableLong();
             var relationshipsTotal = new MutableLong();
+            var filteredIdMapCacheTotal = new MutableLong();
 
             var graphWalker = new GraphWalker(gpr -> {
                 var size = gpr.size();
@@ -123,6 +126,8 @@ public class GraphMemoryUsageProc extends CatalogProc {
                     nodesTotal.add(size);
                 } else if ("relationships".equals(firstField)) {
                     relationshipsTotal.add(size);
+                } else if ("filteredIdMapCache".equals(firstField)) {
+                    filteredIdMapCacheTotal.add(size);
                 }
 
                 if (path.startsWith(".nodes.sparseLongArray")) {
@@ -149,6 +154,18 @@ public class GraphMemoryUsageProc extends CatalogProc {
 
             graphWalker.walk(graphStore);
 
+            var filteredIdMapCache = new HashMap<String, Object>();
+            filteredIdMapCache.put("total", filteredIdMapCacheTotal.longValue());
+            if (graphStore instanceof CSRGraphStore) {
+                // how often projections could reuse a label filtered id map
+                var cache = ((CSRGraphStore) graphStore).filteredIdMapCache();
+                filteredIdMapCache.put("entries", (long) cache.size());
+                filteredIdMapCache.put("hits", cache.hitCount());
+                filteredIdMapCache.put("misses", cache.missCount());
+                filteredIdMapCache.put("evictions", cache.evictionCount());
+                filteredIdMapCache.put("hitRate", cache.hitRate());
+            }
+
             var mappingTotal = mappingSparseLongArray.longValue() + mappingForward.longValue() + mappingBackward.longValue();
             var adjacencyTotal = adjacencyDegrees.longValue() + adjacencyOffsets.longValue() + adjacencyLists.longValue();
             return Map.of(
@@ -166,7 +183,8 @@ public class GraphMemoryUsageProc extends CatalogProc {
                     "targetIds", adjacencyLists.longValue(),
                     "adjacencyLists", adjacencyTotal,
                     "total", relationshipsTotal.longValue()
-                )
+                ),
+                "filteredIdMapCache", filteredIdMapCache
             );
         }
     }
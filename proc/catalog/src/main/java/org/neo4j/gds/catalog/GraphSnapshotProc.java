@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.io.file.snapshot.GraphSnapshotUtil;
+import org.neo4j.gds.core.io.file.snapshot.GraphStoreToSnapshotExporter;
+import org.neo4j.gds.core.io.file.snapshot.SnapshotToGraphStoreImporter;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class GraphSnapshotProc extends CatalogProc {
+
+    @Procedure(name = "gds.graph.snapshot", mode = READ)
+    @Description("Writes a named graph into a binary snapshot that can be restored with `gds.graph.restore`.")
+    public Stream<SnapshotResult> snapshot(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var snapshotConfig = GraphSnapshotConfig.of(username(), cypherConfig);
+        validateConfig(cypherConfig, snapshotConfig);
+
+        var result = runWithExceptionLogging(
+            "Graph snapshot failed", () -> {
+                var graphStore = graphStoreFromCatalog(graphName, snapshotConfig).graphStore();
+                var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(databaseService, Config.class);
+                var snapshotPath = GraphSnapshotUtil.newSnapshotPath(neo4jConfig, snapshotConfig.snapshotName());
+
+                try (var progressTimer = ProgressTimer.start()) {
+                    var exportedProperties = GraphStoreToSnapshotExporter.create(
+                        graphStore,
+                        snapshotPath,
+                        snapshotConfig.username(),
+                        executionContext().taskRegistryFactory(),
+                        executionContext().log()
+                    ).run();
+                    progressTimer.stop();
+
+                    return new SnapshotResult(
+                        graphName,
+                        snapshotConfig.snapshotName(),
+                        graphStore.nodeCount(),
+                        graphStore.relationshipCount(),
+                        graphStore.relationshipTypes().size(),
+                        exportedProperties.nodePropertyCount(),
+                        exportedProperties.relationshipPropertyCount(),
+                        progressTimer.getDuration()
+                    );
+                }
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    @Procedure(name = "gds.graph.restore", mode = READ)
+    @Description("Restores a named graph from a binary snapshot written by `gds.graph.snapshot`.")
+    public Stream<RestoreResult> restore(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        validateGraphName(username(), graphName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var restoreConfig = GraphRestoreConfig.of(cypherConfig);
+        validateConfig(cypherConfig, restoreConfig);
+
+        var result = runWithExceptionLogging(
+            "Graph restore failed", () -> {
+                var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(databaseService, Config.class);
+                var snapshotPath = GraphSnapshotUtil.snapshotPath(neo4jConfig, restoreConfig.snapshotName());
+
+                try (var progressTimer = ProgressTimer.start()) {
+                    var graphStore = SnapshotToGraphStoreImporter.create(
+                        snapshotPath,
+                        restoreConfig.concurrency(),
+                        executionContext().taskRegistryFactory(),
+                        executionContext().log()
+                    ).run().graphStore();
+
+                    GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName(username(), graphName), graphStore);
+                    progressTimer.stop();
+
+                    return new RestoreResult(
+                        graphName,
+                        restoreConfig.snapshotName(),
+                        graphStore.nodeCount(),
+                        graphStore.relationshipCount(),
+                        progressTimer.getDuration()
+                    );
+                }
+            }
+        );
+
+        return Stream.of(result);
+    }
+
+    @SuppressWarnings("unused")
+    public static class SnapshotResult extends GraphStoreExportProc.GraphStoreExportResult {
+        public final String snapshotName;
+
+        public SnapshotResult(
+            String graphName,
+            String snapshotName,
+            long nodeCount,
+            long relationshipCount,
+            long relationshipTypeCount,
+            long nodePropertyCount,
+            long relationshipPropertyCount,
+            long writeMillis
+        ) {
+            super(
+                graphName,
+                nodeCount,
+                relationshipCount,
+                relationshipTypeCount,
+                nodePropertyCount,
+                relationshipPropertyCount,
+                writeMillis
+            );
+            this.snapshotName = snapshotName;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class RestoreResult {
+        public final String graphName;
+        public final String snapshotName;
+        public final long nodeCount;
+        public final long relationshipCount;
+        public final long restoreMillis;
+
+        public RestoreResult(
+            String graphName,
+            String snapshotName,
+            long nodeCount,
+            long relationshipCount,
+            long restoreMillis
+        ) {
+            this.graphName = graphName;
+            this.snapshotName = snapshotName;
+            this.nodeCount = nodeCount;
+            this.relationshipCount = relationshipCount;
+            this.restoreMillis = restoreMillis;
+        }
+    }
+}
@@ -74,7 +74,7 @@ public class GraphWriteNodeLabelProc extends CatalogProc {
             var nodeLabelExporter = nodeLabelExporterBuilder
                 .withIdMap(filteredNodes.idMap())
                 .withTerminationFlag(TerminationFlag.wrap(executionContext().terminationMonitor()))
-                .parallel(Pools.DEFAULT, procedureConfig.concurrency())
+                .parallel(Pools.io(), procedureConfig.concurrency())
                 .build();
 
             runWithExceptionLogging(
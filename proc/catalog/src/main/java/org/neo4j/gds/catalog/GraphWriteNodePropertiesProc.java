@@ -169,7 +169,7 @@ public class GraphWriteNodePropertiesProc extends CatalogProc {
                 var exporter = nodePropertyExporterBuilder
                     .withIdMap(subGraph)
                     .withTerminationFlag(TerminationFlag.wrap(executionContext().terminationMonitor()))
-                    .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .parallel(Pools.io(), config.writeConcurrency())
                     .withProgressTracker(progressTracker)
                     .build();
 
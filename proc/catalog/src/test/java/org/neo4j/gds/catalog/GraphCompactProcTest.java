@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.CommunityProcCompanion;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.properties.nodes.LongNodePropertyValues;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.CSRGraphStore;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.RelationshipDeltas;
+import org.neo4j.gds.wcc.WccStreamConfig;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GraphCompactProcTest extends BaseProcTest {
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A { prop1: 0, prop2: 42 })" +
+        ", (b:A { prop1: 1, prop2: 43 })" +
+        ", (c:B { prop1: 2, prop2: 44 })" +
+        ", (d:B { prop1: 3, prop2: 45 })" +
+        ", (a)-[:REL { weight: 1.0 }]->(b)" +
+        ", (b)-[:REL { weight: 2.0 }]->(c)";
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class, GraphCompactProc.class);
+        runQuery(DB_CYPHER);
+        runQuery(GdsCypher
+            .call("test-graph")
+            .graphProject()
+            .withNodeLabel("A")
+            .withNodeLabel("B")
+            .withNodeProperty("prop1")
+            .withNodeProperty("prop2")
+            .withRelationshipType("REL")
+            .withRelationshipProperty("weight")
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldCompactNodeProperties() {
+        runQueryWithRowConsumer("CALL gds.graph.compact('test-graph')", row -> {
+            assertEquals("test-graph", row.getString("graphName"));
+            assertThat(row.get("compactedNodeProperties")).asList().containsExactlyInAnyOrder("prop1", "prop2");
+            assertThat(row.get("compactedRelationshipTypes")).asList().isEmpty();
+            assertThat(row.getNumber("compactMillis").longValue()).isGreaterThanOrEqualTo(0L);
+        });
+
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "test-graph").graphStore();
+        assertThat(graphStore.nodeProperty("prop2").values().longValue(graphStore.nodes().toMappedNodeId(idFunction.of("c")))).isEqualTo(44L);
+
+        runQueryWithRowConsumer("CALL gds.graph.compact('test-graph')", row ->
+            assertThat(row.get("compactedNodeProperties")).asList().isEmpty()
+        );
+    }
+
+    @Test
+    void shouldKeepNodesFilteredByMinCommunitySizeWithoutValue() {
+        var graphStore = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "test-graph").graphStore();
+        long isolatedNode = graphStore.nodes().toMappedNodeId(idFunction.of("d"));
+        var components = new LongNodePropertyValues() {
+            @Override
+            public long longValue(long nodeId) {
+                return nodeId == isolatedNode ? 1 : 0;
+            }
+
+            @Override
+            public long nodeCount() {
+                return graphStore.nodeCount();
+            }
+        };
+        var config = WccStreamConfig.of(CypherMapWrapper.create(Map.of("minComponentSize", 2L)));
+        graphStore.addNodeProperty(
+            graphStore.nodeLabels(),
+            "componentId",
+            CommunityProcCompanion.considerSizeFilter(config, components)
+        );
+
+        runQueryWithRowConsumer("CALL gds.graph.compact('test-graph')", row ->
+            assertThat(row.get("compactedNodeProperties")).asList().contains("componentId")
+        );
+
+        var values = graphStore.nodeProperty("componentId").values();
+        assertThat(values.hasValue(isolatedNode)).isFalse();
+        assertThat(values.value(isolatedNode)).isNull();
+        long nodeInComponent = graphStore.nodes().toMappedNodeId(idFunction.of("a"));
+        assertThat(values.hasValue(nodeInComponent)).isTrue();
+        assertThat(values.longValue(nodeInComponent)).isEqualTo(0L);
+    }
+
+    @Test
+    void shouldCompactAppendedRelationships() {
+        var graphStore = (CSRGraphStore) GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "test-graph").graphStore();
+        var relationshipType = RelationshipType.of("REL");
+        var builder = RelationshipDeltas.deltaBuilder(graphStore.nodes(), graphStore.relationships(relationshipType), 1);
+        builder.add(idFunction.of("a"), idFunction.of("c"), 3.0);
+        graphStore.appendRelationships(builder.build(), Neo4jProxy.testLog());
+
+        runQueryWithRowConsumer("CALL gds.graph.compact('test-graph')", row ->
+            assertEquals(List.of("REL"), row.get("compactedRelationshipTypes"))
+        );
+
+        assertThat(RelationshipDeltas.hasDeltas(graphStore.relationships(relationshipType))).isFalse();
+        assertThat(graphStore.relationshipCount()).isEqualTo(3L);
+    }
+}
@@ -126,6 +126,8 @@ class GraphListProcTest extends BaseProcTest {
                         )
                         .containsEntry("relationshipProperties", emptyMap())
                         .containsEntry("nodeProperties", emptyMap())
+                        .containsEntry("nodeOrdering", "NATURAL")
+                        .containsEntry("adjacencyListEncoding", "DEFAULT")
                         .hasEntrySatisfying("creationTime", creationTimeAssertConsumer())
                         .hasEntrySatisfying(
                             "validateRelationships",
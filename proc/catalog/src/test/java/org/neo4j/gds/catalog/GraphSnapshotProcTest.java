@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.catalog;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.GdsCypher;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.core.GraphStoreExportSettings;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.graphdb.QueryExecutionException;
+import org.neo4j.io.fs.DefaultFileSystemAbstraction;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.core.io.file.snapshot.GraphSnapshotUtil.SNAPSHOT_DIR;
+
+class GraphSnapshotProcTest extends BaseProcTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A { prop1: 0, prop2: 42 })" +
+        ", (b:A { prop1: 1, prop2: 43 })" +
+        ", (c:B { prop1: 2, prop2: 44 })" +
+        ", (d:B { prop1: 3, prop2: 45 })" +
+        ", (a)-[:REL1 { weight: 42 }]->(a)" +
+        ", (a)-[:REL1 { weight: 43 }]->(b)" +
+        ", (b)-[:REL1 { weight: 44 }]->(a)" +
+        ", (b)-[:REL1 { weight: 45 }]->(c)" +
+        ", (c)-[:REL1 { weight: 46 }]->(d)" +
+        ", (d)-[:REL1 { weight: 47 }]->(a)";
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        builder.setFileSystem(new DefaultFileSystemAbstraction());
+        builder.setConfig(GraphStoreExportSettings.export_location_setting, tempDir);
+    }
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(GraphProjectProc.class, GraphSnapshotProc.class);
+        runQuery(DB_CYPHER);
+        runQuery(GdsCypher
+            .call("test-graph")
+            .graphProject()
+            .withNodeLabel("A")
+            .withNodeLabel("B")
+            .withNodeProperty("prop1")
+            .withNodeProperty("prop2")
+            .withRelationshipType("REL1")
+            .withRelationshipProperty("weight")
+            .yields());
+    }
+
+    @AfterEach
+    void teardown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void snapshotAndRestoreGraph() {
+        runQueryWithRowConsumer("CALL gds.graph.snapshot('test-graph', {snapshotName: 'test-snapshot'})", row -> {
+            assertEquals("test-graph", row.getString("graphName"));
+            assertEquals("test-snapshot", row.getString("snapshotName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(6, row.getNumber("relationshipCount").longValue());
+            assertEquals(1, row.getNumber("relationshipTypeCount").longValue());
+            assertEquals(8, row.getNumber("nodePropertyCount").longValue());
+            assertEquals(6, row.getNumber("relationshipPropertyCount").longValue());
+        });
+
+        assertThat(tempDir.resolve(SNAPSHOT_DIR).resolve("test-snapshot")).isDirectory();
+
+        runQueryWithRowConsumer("CALL gds.graph.restore('restored-graph', {snapshotName: 'test-snapshot'})", row -> {
+            assertEquals("restored-graph", row.getString("graphName"));
+            assertEquals("test-snapshot", row.getString("snapshotName"));
+            assertEquals(4, row.getNumber("nodeCount").longValue());
+            assertEquals(6, row.getNumber("relationshipCount").longValue());
+        });
+
+        var original = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "test-graph").graphStore();
+        var restored = GraphStoreCatalog.get(getUsername(), DatabaseId.of(db), "restored-graph").graphStore();
+        assertGraphEquals(original.getUnion(), restored.getUnion());
+    }
+
+    @Test
+    void shouldFailIfSnapshotAlreadyExists() {
+        runQuery("CALL gds.graph.snapshot('test-graph', {snapshotName: 'test-snapshot'})");
+
+        assertThatThrownBy(() -> runQuery("CALL gds.graph.snapshot('test-graph', {snapshotName: 'test-snapshot'})"))
+            .isInstanceOf(QueryExecutionException.class)
+            .hasMessageContaining("The specified snapshot 'test-snapshot' already exists.");
+    }
+
+    @Test
+    void shouldFailIfSnapshotDoesNotExist() {
+        assertThatThrownBy(() -> runQuery("CALL gds.graph.restore('restored-graph', {snapshotName: 'missing'})"))
+            .isInstanceOf(QueryExecutionException.class)
+            .hasMessageContaining("The specified snapshot 'missing' does not exist.");
+    }
+
+    @Test
+    void shouldFailOnForbiddenSnapshotName() {
+        assertThatThrownBy(() -> runQuery("CALL gds.graph.snapshot('test-graph', {snapshotName: '../../escape'})"))
+            .isInstanceOf(QueryExecutionException.class)
+            .hasMessageContaining("It attempts to access a forbidden directory.");
+    }
+
+    @Test
+    void shouldFailIfGraphAlreadyExists() {
+        runQuery("CALL gds.graph.snapshot('test-graph', {snapshotName: 'test-snapshot'})");
+
+        assertThatThrownBy(() -> runQuery("CALL gds.graph.restore('test-graph', {snapshotName: 'test-snapshot'})"))
+            .isInstanceOf(QueryExecutionException.class)
+            .hasMessageContaining("A graph with name 'test-graph' already exists.");
+    }
+}
@@ -127,7 +127,7 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
             .withIdMap(graph)
             .withTerminationFlag(computationResult.algorithm().terminationFlag)
             .withProgressTracker(progressTracker)
-            .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency())
+            .parallel(Pools.io(), computationResult.config().writeConcurrency())
             .build();
     }
 }
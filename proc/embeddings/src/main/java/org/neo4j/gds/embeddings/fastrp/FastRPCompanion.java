@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.embeddings.fastrp;
 
-import org.neo4j.gds.api.properties.nodes.FloatArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.executor.ComputationResult;
 
@@ -30,19 +29,6 @@ final class FastRPCompanion {
     private FastRPCompanion() {}
 
     static <CONFIG extends FastRPBaseConfig> NodePropertyValues getNodeProperties(ComputationResult<FastRP, FastRP.FastRPResult, CONFIG> computationResult) {
-        var nodeCount = computationResult.graph().nodeCount();
-        var embeddings = computationResult.result().embeddings();
-
-        return new FloatArrayNodePropertyValues() {
-            @Override
-            public float[] floatArrayValue(long nodeId) {
-                return embeddings.get(nodeId);
-            }
-
-            @Override
-            public long nodeCount() {
-                return nodeCount;
-            }
-        };
+        return computationResult.result().embeddings().asNodeProperties();
     }
 }
@@ -84,8 +84,8 @@ public abstract class FastRPProcTest<CONFIG extends FastRPBaseConfig> extends Ba
         FastRP.FastRPResult result1, FastRP.FastRPResult result2
     ) {
         // TODO: This just tests that the dimensions are the same for node 0, it's not a very good equality test
-        assertThat(result1.embeddings().get(0))
-            .hasSameSizeAs(result2.embeddings().get(0));
+        assertThat(result1.embeddings().row(0))
+            .hasSameSizeAs(result2.embeddings().row(0));
     }
 
     private static Stream<Arguments> weights() {
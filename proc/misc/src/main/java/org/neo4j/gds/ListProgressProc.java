@@ -20,6 +20,7 @@
 package org.neo4j.gds;
 
 import org.apache.commons.lang3.time.DurationFormatUtils;
+import org.neo4j.gds.core.concurrency.JobScheduler;
 import org.neo4j.gds.core.utils.ClockService;
 import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.TaskStore;
@@ -111,6 +112,7 @@ public class ListProgressProc extends BaseProc {
         public String status;
         public LocalTimeValue timeStarted;
         public String elapsedTime;
+        public String queueWaitTime;
 
         static ProgressResult fromTaskStoreEntry(String username, Map.Entry<JobId, Task> taskStoreEntry) {
             var jobId = taskStoreEntry.getKey();
@@ -138,6 +140,7 @@ public class ListProgressProc extends BaseProc {
             this.status = task.status().name();
             this.timeStarted = localTimeValue(task);
             this.elapsedTime = prettyElapsedTime(task);
+            this.queueWaitTime = prettyDuration(JobScheduler.queueWaitTime(jobId).toMillis());
         }
 
         private LocalTimeValue localTimeValue(Task task) {
@@ -159,7 +162,11 @@ public class ListProgressProc extends BaseProc {
                 ? finishTime
                 : ClockService.clock().millis();
             var elapsedTime = finishTimeOrNow - task.startTime();
-            return DurationFormatUtils.formatDurationWords(elapsedTime, true, true);
+            return prettyDuration(elapsedTime);
+        }
+
+        private static String prettyDuration(long millis) {
+            return DurationFormatUtils.formatDurationWords(millis, true, true);
         }
     }
 
@@ -73,8 +73,8 @@ public class ListProgressProcTest extends BaseProgressTest {
         runQuery("CALL gds.test.pl('foo')");
         assertCypherResult(
             "CALL gds.beta.listProgress() " +
-            "YIELD username, taskName, progress, progressBar, status, timeStarted, elapsedTime " +
-            "RETURN username, taskName, progress, progressBar, status, timeStarted, elapsedTime ",
+            "YIELD username, taskName, progress, progressBar, status, timeStarted, elapsedTime, queueWaitTime " +
+            "RETURN username, taskName, progress, progressBar, status, timeStarted, elapsedTime, queueWaitTime ",
             List.of(
                 Map.of(
                     "taskName","foo",
@@ -83,7 +83,8 @@ public class ListProgressProcTest extends BaseProgressTest {
                     "progressBar", "[###~~~~~~~]",
                     "status", "RUNNING",
                     "timeStarted", LocalTime.ofInstant(fakeClock.instant(), ZoneId.systemDefault()),
-                    "elapsedTime", "0 seconds"
+                    "elapsedTime", "0 seconds",
+                    "queueWaitTime", "0 seconds"
                 )
             )
         );
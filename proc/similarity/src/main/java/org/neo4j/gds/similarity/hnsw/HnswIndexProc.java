@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.config.NodeIdsParser;
+import org.neo4j.gds.core.CypherMapAccess;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.GraphDimensions;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.core.loading.ImmutableCatalogRequest;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.gds.core.utils.mem.MemoryTreeWithDimensions;
+import org.neo4j.gds.core.utils.progress.JobId;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.executor.ProcPreconditions;
+import org.neo4j.gds.similarity.SimilarityResult;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class HnswIndexProc extends BaseProc {
+
+    private static final String BUILD_DESCRIPTION =
+        "Builds an approximate nearest neighbour index (HNSW) over a node property and stores it with the graph.";
+    private static final String INSERT_DESCRIPTION =
+        "Inserts nodes into an approximate nearest neighbour index.";
+    private static final String QUERY_DESCRIPTION =
+        "Streams the approximate top-k most similar nodes of a node from an approximate nearest neighbour index.";
+
+    @Procedure(name = "gds.alpha.hnsw.build", mode = READ)
+    @Description(BUILD_DESCRIPTION)
+    public Stream<BuildResult> build(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "indexName") String indexName,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+        CypherMapAccess.failOnBlank("graphName", graphName);
+        CypherMapAccess.failOnBlank("indexName", indexName);
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = HnswBuildConfig.of(indexName, cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var graphStoreWithConfig = graphStoreFromCatalog(graphName, config);
+        var graphStore = graphStoreWithConfig.graphStore();
+        config.validate(graphStore);
+
+        var propertyValues = graphStore.nodeProperty(config.nodeProperty()).values();
+        var similarityMetric = HnswIndex.resolveMetric(
+            config.nodeProperty(),
+            propertyValues.valueType(),
+            config.similarityMetric()
+        );
+        memoryUsageValidator().tryValidateMemoryUsage(
+            config,
+            buildConfig -> memoryTreeWithDimensions(buildConfig, graphStore.nodeCount(), similarityMetric)
+        );
+
+        var nodesToIndex = graphStore.getGraph(config.nodeLabelIdentifiers(graphStore));
+        var index = HnswIndex.create(
+            graphStore.nodes(),
+            config.nodeProperty(),
+            propertyValues,
+            similarityMetric,
+            config.maxConnections(),
+            config.efConstruction(),
+            config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong())
+        );
+
+        var progressTracker = new TaskProgressTracker(
+            Hnsw.progressTask(nodesToIndex),
+            executionContext().log(),
+            config.concurrency(),
+            new JobId(),
+            executionContext().taskRegistryFactory(),
+            executionContext().userLogRegistryFactory()
+        );
+
+        var timer = ProgressTimer.start();
+        runWithExceptionLogging(
+            "HNSW index build failed",
+            () -> new Hnsw(nodesToIndex, index, config.concurrency(), progressTracker).compute()
+        );
+        timer.stop();
+
+        GraphStoreCatalog.setIndex(
+            graphStoreWithConfig.config().username(),
+            executionContext().databaseId(),
+            graphName,
+            indexName,
+            index
+        );
+
+        return Stream.of(new BuildResult(
+            graphName,
+            indexName,
+            index.nodeProperty(),
+            index.similarityMetric().name(),
+            index.size(),
+            index.maxLevel(),
+            timer.getDuration(),
+            config.toMap()
+        ));
+    }
+
+    @Procedure(name = "gds.alpha.hnsw.insert", mode = READ)
+    @Description(INSERT_DESCRIPTION)
+    public Stream<InsertResult> insert(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "indexName") String indexName,
+        @Name(value = "nodes") Object nodes
+    ) {
+        ProcPreconditions.check();
+
+        var graphStoreWithConfig = graphStoreFromCatalog(graphName);
+        var index = index(graphStoreWithConfig, graphName, indexName);
+        var idMap = graphStoreWithConfig.graphStore().nodes();
+
+        long nodesInserted = 0;
+        for (long originalNodeId : NodeIdsParser.parseNodeIds(nodes)) {
+            if (index.insert(mappedNodeId(idMap, originalNodeId))) {
+                nodesInserted++;
+            }
+        }
+
+        return Stream.of(new InsertResult(graphName, indexName, nodesInserted, index.size()));
+    }
+
+    @Procedure(name = "gds.alpha.hnsw.query", mode = READ)
+    @Description(QUERY_DESCRIPTION)
+    public Stream<SimilarityResult> query(
+        @Name(value = "graphName") String graphName,
+        @Name(value = "indexName") String indexName,
+        @Name(value = "node") Object node,
+        @Name(value = "configuration", defaultValue = "{}") Map<String, Object> configuration
+    ) {
+        ProcPreconditions.check();
+
+        var cypherConfig = CypherMapWrapper.create(configuration);
+        var config = HnswQueryConfig.of(cypherConfig);
+        validateConfig(cypherConfig, config);
+
+        var graphStoreWithConfig = graphStoreFromCatalog(graphName, config);
+        var index = index(graphStoreWithConfig, graphName, indexName);
+        var idMap = graphStoreWithConfig.graphStore().nodes();
+
+        long queryNodeId = mappedNodeId(idMap, NodeIdsParser.parseNodeId(node));
+
+        return index
+            .search(queryNodeId, config.topK(), config.ef())
+            .stream()
+            .map(result -> new SimilarityResult(
+                idMap.toOriginalNodeId(result.node1),
+                idMap.toOriginalNodeId(result.node2),
+                result.similarity
+            ));
+    }
+
+    private GraphStoreWithConfig graphStoreFromCatalog(String graphName) {
+        var catalogRequest = ImmutableCatalogRequest.of(
+            executionContext().databaseId().databaseName(),
+            username(),
+            Optional.empty(),
+            isGdsAdmin()
+        );
+        return GraphStoreCatalog.get(catalogRequest, graphName);
+    }
+
+    private HnswIndex index(GraphStoreWithConfig graphStoreWithConfig, String graphName, String indexName) {
+        var username = graphStoreWithConfig.config().username();
+        var index = GraphStoreCatalog
+            .getIndex(username, executionContext().databaseId(), graphName, indexName, HnswIndex.class)
+            .orElseThrow(() -> new NoSuchElementException(formatWithLocale(
+                "Index with name `%s` does not exist on graph `%s`.",
+                indexName,
+                graphName
+            )));
+
+        // the index would keep answering from the old values and keep them alive
+        var graphStore = graphStoreWithConfig.graphStore();
+        var nodeProperty = index.nodeProperty();
+        if (!graphStore.hasNodeProperty(nodeProperty) || !index.isBuiltOn(graphStore.nodeProperty(nodeProperty).values())) {
+            GraphStoreCatalog.removeIndex(username, executionContext().databaseId(), graphName, indexName);
+            throw new IllegalStateException(formatWithLocale(
+                "Index with name `%s` on graph `%s` has been removed, because its node property `%s` has been dropped or replaced. Please build the index again.",
+                indexName,
+                graphName,
+                nodeProperty
+            ));
+        }
+        return index;
+    }
+
+    private static MemoryTreeWithDimensions memoryTreeWithDimensions(
+        HnswBuildConfig config,
+        long nodeCount,
+        SimilarityMetric similarityMetric
+    ) {
+        var dimensions = GraphDimensions.of(nodeCount);
+        var memoryTree = HnswIndex
+            .memoryEstimation(config.maxConnections(), config.efConstruction(), similarityMetric)
+            .estimate(dimensions, config.concurrency());
+        return new MemoryTreeWithDimensions(memoryTree, dimensions);
+    }
+
+    private static long mappedNodeId(IdMap idMap, long originalNodeId) {
+        long nodeId = idMap.safeToMappedNodeId(originalNodeId);
+        if (nodeId == IdMap.NOT_FOUND) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Node with id %d does not exist in the graph.",
+                originalNodeId
+            ));
+        }
+        return nodeId;
+    }
+
+    @SuppressWarnings("unused")
+    public static class BuildResult {
+        public final String graphName;
+        public final String indexName;
+        public final String nodeProperty;
+        public final String similarityMetric;
+        public final long nodeCount;
+        public final long maxLevel;
+        public final long buildMillis;
+        public final Map<String, Object> configuration;
+
+        BuildResult(
+            String graphName,
+            String indexName,
+            String nodeProperty,
+            String similarityMetric,
+            long nodeCount,
+            long maxLevel,
+            long buildMillis,
+            Map<String, Object> configuration
+        ) {
+            this.graphName = graphName;
+            this.indexName = indexName;
+            this.nodeProperty = nodeProperty;
+            this.similarityMetric = similarityMetric;
+            this.nodeCount = nodeCount;
+            this.maxLevel = maxLevel;
+            this.buildMillis = buildMillis;
+            this.configuration = configuration;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class InsertResult {
+        public final String graphName;
+        public final String indexName;
+        public final long nodesInserted;
+        public final long nodeCount;
+
+        InsertResult(String graphName, String indexName, long nodesInserted, long nodeCount) {
+            this.graphName = graphName;
+            this.indexName = indexName;
+            this.nodesInserted = nodesInserted;
+            this.nodeCount = nodeCount;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.hnsw;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.BaseProcTest;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.catalog.GraphDropNodePropertiesProc;
+import org.neo4j.gds.catalog.GraphDropProc;
+import org.neo4j.gds.catalog.GraphProjectProc;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jGraph;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HnswIndexProcTest extends BaseProcTest {
+
+    @Neo4jGraph
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A { vector: [1.0, 0.0] })" +
+        ", (b:A { vector: [0.9, 0.1] })" +
+        ", (c:A { vector: [0.0, 1.0] })" +
+        ", (d:A { vector: [0.1, 0.9] })" +
+        ", (e:B { vector: [1.0, 0.05] })";
+
+    @Inject
+    private IdFunction idFunction;
+
+    @BeforeEach
+    void setup() throws Exception {
+        registerProcedures(
+            GraphProjectProc.class,
+            GraphDropProc.class,
+            GraphDropNodePropertiesProc.class,
+            HnswIndexProc.class
+        );
+        runQuery("CALL gds.graph.project('graph', ['A', 'B'], '*', { nodeProperties: 'vector' })");
+    }
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldBuildAndQueryIndex() {
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.build('graph', 'index', { nodeProperty: 'vector', nodeLabels: ['A'], randomSeed: 42 }) " +
+            "YIELD graphName, indexName, nodeProperty, similarityMetric, nodeCount " +
+            "RETURN graphName, indexName, nodeProperty, similarityMetric, nodeCount",
+            List.of(Map.of(
+                "graphName", "graph",
+                "indexName", "index",
+                "nodeProperty", "vector",
+                "similarityMetric", "COSINE",
+                "nodeCount", 4L
+            ))
+        );
+
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.query('graph', 'index', $node, { topK: 2 }) YIELD node1, node2 RETURN node1, node2",
+            Map.of("node", idFunction.of("a")),
+            List.of(
+                Map.of("node1", idFunction.of("a"), "node2", idFunction.of("b")),
+                Map.of("node1", idFunction.of("a"), "node2", idFunction.of("d"))
+            )
+        );
+
+        assertThat(GraphStoreCatalog.getIndex(getUsername(), DatabaseId.of(db), "graph", "index", HnswIndex.class))
+            .isPresent();
+    }
+
+    @Test
+    void shouldInsertNodes() {
+        runQuery("CALL gds.alpha.hnsw.build('graph', 'index', { nodeProperty: 'vector', nodeLabels: ['A'] })");
+
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.insert('graph', 'index', [$node, $node]) YIELD nodesInserted, nodeCount",
+            Map.of("node", idFunction.of("e")),
+            List.of(Map.of("nodesInserted", 1L, "nodeCount", 5L))
+        );
+
+        assertCypherResult(
+            "CALL gds.alpha.hnsw.query('graph', 'index', $node, { topK: 1 }) YIELD node2 RETURN node2",
+            Map.of("node", idFunction.of("a")),
+            List.of(Map.of("node2", idFunction.of("e")))
+        );
+    }
+
+    @Test
+    void shouldDropIndexWithTheGraph() {
+        runQuery("CALL gds.alpha.hnsw.build('graph', 'index', { nodeProperty: 'vector' })");
+        runQuery("CALL gds.graph.drop('graph')");
+        runQuery("CALL gds.graph.project('graph', ['A', 'B'], '*', { nodeProperties: 'vector' })");
+
+        assertError(
+            "CALL gds.alpha.hnsw.query('graph', 'index', 0)",
+            "Index with name `index` does not exist on graph `graph`."
+        );
+    }
+
+    @Test
+    void shouldRemoveIndexWhenItsPropertyIsDropped() {
+        runQuery("CALL gds.alpha.hnsw.build('graph', 'index', { nodeProperty: 'vector' })");
+        runQuery("CALL gds.graph.nodeProperties.drop('graph', 'vector')");
+
+        assertError(
+            "CALL gds.alpha.hnsw.query('graph', 'index', 0)",
+            "Index with name `index` on graph `graph` has been removed, because its node property `vector` has been dropped or replaced."
+        );
+        assertThat(GraphStoreCatalog.getIndex(getUsername(), DatabaseId.of(db), "graph", "index", HnswIndex.class))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldFailOnMissingProperty() {
+        assertError(
+            "CALL gds.alpha.hnsw.build('graph', 'index', { nodeProperty: 'missing' })",
+            "Node property `missing` not found"
+        );
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.similarity.knn;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -28,7 +29,14 @@ import org.neo4j.gds.core.ImmutableGraphDimensions;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.mem.MemoryTree;
-
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.vectors.BinaryQuantizedVectors;
+import org.neo4j.gds.core.utils.vectors.Int8QuantizedVectors;
+import org.neo4j.gds.similarity.knn.metrics.Quantization;
+import org.neo4j.gds.similarity.knn.metrics.SimilarityMetric;
+
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -110,7 +118,7 @@ class KnnFactoryTest {
         KnnSampler.SamplerType initialSampler,
         MemoryRange actual
     ) {
-        long knnAlgo = /* KNN */ 64;
+        long knnAlgo = /* KNN */ 72;
 
         long topKNeighborList = /* NL */ 32 + sizeOfLongArray(boundedK * 2L);
         long topKNeighborsList = /* HOA */ sizeOfHugeArrayInstance + sizeOfHugeArray + nodeCount * topKNeighborList;
@@ -123,13 +131,91 @@ class KnnFactoryTest {
 
         long neighbourConsumers = 8;
 
+        // the default metric of the property is cosine if it turns out to be an array
+        long cosineNormCache = HugeDoubleArray.memoryEstimation(nodeCount);
+
         long expectedMin = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMin + randomList.min + sampledList + neighbourConsumers;
-        long expectedMax = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList.max + sampledList + neighbourConsumers;
+        long expectedMax = knnAlgo + topKNeighborsList + 4 * tempNeighborsListMax + randomList.max + sampledList + neighbourConsumers + cosineNormCache;
 
         assertEquals(expectedMin, actual.min);
         assertEquals(expectedMax, actual.max);
     }
 
+    @Test
+    void memoryEstimationShouldIncludeCosineNormCaches() {
+        var nodeProperties = List.of(
+            new KnnNodePropertySpec("embedding", SimilarityMetric.COSINE),
+            new KnnNodePropertySpec("vector"),
+            new KnnNodePropertySpec("age", SimilarityMetric.DOUBLE_PROPERTY_METRIC)
+        );
+
+        var normCache = HugeDoubleArray.memoryEstimation(1_000);
+        assertEquals(
+            MemoryRange.of(normCache, 2 * normCache),
+            KnnFactory.cosineNormCacheMemoryEstimation(nodeProperties, 1_000)
+        );
+    }
+
+    @Test
+    void memoryEstimationShouldIncludeQuantizedProperties() {
+        var nodeProperties = List.of(
+            new KnnNodePropertySpec("embedding", SimilarityMetric.COSINE),
+            new KnnNodePropertySpec("vector"),
+            new KnnNodePropertySpec("age", SimilarityMetric.DOUBLE_PROPERTY_METRIC)
+        );
+        var propertyDimensions = Map.of("embedding", 256, "vector", 64);
+
+        assertEquals(
+            MemoryRange.of(
+                Int8QuantizedVectors.memoryEstimation(1_000, 256) + Int8QuantizedVectors.memoryEstimation(1_000, 64)
+            ),
+            KnnFactory.quantizedPropertiesMemoryEstimation(nodeProperties, Quantization.INT8, propertyDimensions, 1_000)
+        );
+        assertEquals(
+            MemoryRange.of(
+                BinaryQuantizedVectors.memoryEstimation(1_000, 256) + BinaryQuantizedVectors.memoryEstimation(1_000, 64)
+            ),
+            KnnFactory.quantizedPropertiesMemoryEstimation(nodeProperties, Quantization.BINARY, propertyDimensions, 1_000)
+        );
+        assertEquals(
+            MemoryRange.empty(),
+            KnnFactory.quantizedPropertiesMemoryEstimation(nodeProperties, Quantization.NONE, propertyDimensions, 1_000)
+        );
+    }
+
+    @Test
+    void memoryEstimationShouldKeepRerankCandidatesWhenQuantized() {
+        var config = ImmutableKnnBaseConfig.builder()
+            .nodeProperties(KnnNodePropertySpecParser.parse("knn"))
+            .quantization(Quantization.INT8)
+            .rerankK(30)
+            .build();
+        var dimensions = ImmutableGraphDimensions.builder()
+            .nodeCount(1_000)
+            .putNodePropertyDimension("knn", 128)
+            .build();
+
+        var estimate = new KnnFactory<>().memoryEstimation(config).estimate(dimensions, 1);
+
+        var neighborLists = estimate
+            .components()
+            .stream()
+            .filter(component -> component.description().equals("top-k-neighbors-list"))
+            .findFirst()
+            .orElseThrow()
+            .memoryUsage();
+        var quantizedProperties = estimate
+            .components()
+            .stream()
+            .filter(component -> component.description().equals("quantized-properties"))
+            .findFirst()
+            .orElseThrow()
+            .memoryUsage();
+        long neighborList = /* NL */ 32 + sizeOfLongArray(30 * 2L);
+        assertEquals(/* HOA */ 24 + sizeOfObjectArray(1_000) + 1_000 * neighborList, neighborLists.max);
+        assertEquals(MemoryRange.of(Int8QuantizedVectors.memoryEstimation(1_000, 128)), quantizedProperties);
+    }
+
     private KnnBaseConfig knnConfig(KnnSampler.SamplerType initialSampler) {
         return ImmutableKnnBaseConfig.builder()
             .nodeProperties(KnnNodePropertySpecParser.parse("knn"))